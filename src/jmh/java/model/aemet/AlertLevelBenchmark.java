@@ -0,0 +1,69 @@
+package model.aemet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark dels mètodes check de AlertLevel. Cada invocació comprova una hora completa (totes les
+ * alertes) amb valors que recorren tots els nivells, perquè el resultat no depengui d'un sol llindar.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertLevelBenchmark {
+
+    /** Nombre de valors diferents, potència de 2 per recórrer-los amb una màscara. */
+    private static final int VALUES = 1024;
+
+    private final AlertLevel alertLevel = new AlertLevel();
+    private final int[] temperature = new int[VALUES];
+    private final int[] wind = new int[VALUES];
+    private final float[] amount = new float[VALUES];
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            temperature[i] = random.nextInt(70) - 20;
+            wind[i] = random.nextInt(150);
+            amount[i] = random.nextFloat() * 100f;
+        }
+    }
+
+    @Benchmark
+    public int checkAll() {
+        int i = index++ & (VALUES - 1);
+        return alertLevel.checkHighTemperatureLevel(temperature[i])
+                + alertLevel.checkLowTemperatureLevel(temperature[i])
+                + alertLevel.checkAverageWind(wind[i])
+                + alertLevel.checkMaxWind(wind[i])
+                + alertLevel.checkRain(amount[i])
+                + alertLevel.checkSnow(amount[i]);
+    }
+
+    @Benchmark
+    public int checkHighTemperature() {
+        return alertLevel.checkHighTemperatureLevel(temperature[index++ & (VALUES - 1)]);
+    }
+
+    @Benchmark
+    public int checkRain() {
+        return alertLevel.checkRain(amount[index++ & (VALUES - 1)]);
+    }
+}
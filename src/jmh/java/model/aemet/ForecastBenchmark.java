@@ -0,0 +1,71 @@
+package model.aemet;
+
+import model.json.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del processament d'una predicció horària de diversos dies gravada de l'Aemet
+ * (exempleResposta.json): la lectura a AemetResponse, la construcció de ForecastModel i
+ * el càlcul de les alertes de totes les hores.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForecastBenchmark {
+
+    private String json;
+    private AemetResponse response;
+    private ForecastModel forecast;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = ForecastBenchmark.class.getResourceAsStream("exempleResposta.json")) {
+            if (in == null) {
+                throw new IOException("No s'ha trobat exempleResposta.json");
+            }
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<AemetResponse> responses = JsonUtil.AEMET_RESPONSE_LIST_READER.readValue(json);
+        response = responses.get(0);
+        forecast = new ForecastModel(response);
+    }
+
+    @Benchmark
+    public List<AemetResponse> parseResponse() throws IOException {
+        return JsonUtil.AEMET_RESPONSE_LIST_READER.readValue(json);
+    }
+
+    @Benchmark
+    public ForecastModel buildModel() {
+        return new ForecastModel(response);
+    }
+
+    @Benchmark
+    public ForecastModel fromJson() throws IOException {
+        return ForecastModel.fromJson(json);
+    }
+
+    @Benchmark
+    public int[] evaluateAlerts() {
+        return AlertEvaluator.evaluate(forecast);
+    }
+}
@@ -0,0 +1,71 @@
+package model.crud;
+
+import model.encryption.CipherUtil;
+import model.json.JsonUtil;
+import model.model.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la lectura de la llista d'esdeveniments tal com arriba del servidor. Compara la
+ * lectura de tota la llista de cop amb la lectura en streaming de CrudEvent, amb i sense xifrat.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EventListBenchmark {
+
+    /** Nombre d'esdeveniments de la llista. */
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private byte[] json;
+    private byte[] encrypted;
+
+    @Setup
+    public void setup() throws Exception {
+        List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new Event(String.valueOf(i), "Esdeveniment " + i, "Descripció de l'esdeveniment " + i,
+                    "organitzador" + (i % 50), "Carrer Major, " + (i % 200), "43" + String.format("%03d", i % 1000),
+                    "Tarragona", 100 + i % 5000, "10:00", "22:00", "2024-11-" + String.format("%02d", 1 + i % 28)));
+        }
+        json = JsonUtil.MAPPER.writeValueAsBytes(events);
+        encrypted = CipherUtil.encryptToBytes(json);
+    }
+
+    @Benchmark
+    public List<Event> readList() throws Exception {
+        return JsonUtil.EVENT_LIST_READER.readValue(json);
+    }
+
+    @Benchmark
+    public void readArray(Blackhole blackhole) throws Exception {
+        JsonUtil.<Event>readArray(new ByteArrayInputStream(json), JsonUtil.EVENT_READER, blackhole::consume);
+    }
+
+    @Benchmark
+    public void readEncryptedArray(Blackhole blackhole) throws Exception {
+        JsonUtil.<Event>readArray(CipherUtil.decryptingStream(new ByteArrayInputStream(encrypted)),
+                JsonUtil.EVENT_READER, blackhole::consume);
+    }
+}
@@ -0,0 +1,83 @@
+package model.encryption;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del xifrat i desxifrat de CipherUtil amb missatges de diferents mides: la versió amb
+ * String que fan servir les peticions petites, la de bytes i el flux que llegeix les llistes.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CipherUtilBenchmark {
+
+    /** Mida del text en pla, en caràcters. */
+    @Param({"64", "4096", "262144"})
+    private int size;
+
+    private String plain;
+    private byte[] plainBytes;
+    private String encrypted;
+    private byte[] encryptedBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        plain = builder.toString();
+        plainBytes = plain.getBytes(StandardCharsets.UTF_8);
+        encrypted = CipherUtil.encrypt(plain);
+        encryptedBytes = encrypted.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return CipherUtil.encrypt(plain);
+    }
+
+    @Benchmark
+    public byte[] encryptToBytes() throws Exception {
+        return CipherUtil.encryptToBytes(plainBytes);
+    }
+
+    @Benchmark
+    public String decrypt() throws Exception {
+        return CipherUtil.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public byte[] decryptBytes() throws Exception {
+        return CipherUtil.decrypt(encryptedBytes);
+    }
+
+    @Benchmark
+    public byte[] decryptingStream() throws IOException {
+        try (InputStream in = CipherUtil.decryptingStream(new ByteArrayInputStream(encryptedBytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package utilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la cerca de municipis: la cerca exacta per nom de TownRegistry, amb el nom tal com
+ * està desat i escrit de manera diferent, i els suggeriments de TownAutocomplete mentre s'escriu.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TownRegistryBenchmark {
+
+    private static final int SAMPLES = 256;
+
+    private final String[] names = new String[SAMPLES];
+    private final String[] variants = new String[SAMPLES];
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<String> all = TownRegistry.getNames();
+        int step = Math.max(1, all.size() / SAMPLES);
+        for (int i = 0; i < SAMPLES; i++) {
+            names[i] = all.get((i * step) % all.size());
+            variants[i] = "  " + names[i].toUpperCase(Locale.ROOT) + " ";
+        }
+        TownAutocomplete.getInstance();
+    }
+
+    @Benchmark
+    public String getCode() {
+        return TownRegistry.getCode(names[index++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public String getCodeVariant() {
+        return TownRegistry.getCode(variants[index++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public String getCodeMissing() {
+        return TownRegistry.getCode("Municipi inexistent");
+    }
+
+    @Benchmark
+    public List<String> suggestPrefix() {
+        return TownAutocomplete.getInstance().suggest("sant", 10);
+    }
+
+    @Benchmark
+    public List<String> suggestWord() {
+        return TownAutocomplete.getInstance().suggest("bisbal pen", 10);
+    }
+}
@@ -0,0 +1,20 @@
+package controllers;
+
+/**
+ * Controlador d'un panell que té recursos propis (peticions en curs, tasques en segon pla...)
+ * que s'han d'alliberar quan el panell deixa de mostrar-se.
+ *
+ * PanelHost crida dispose() sobre el controlador del panell anterior cada vegada que el substitueix,
+ * i les finestres principals el criden sobre el seu controlador quan s'amaguen.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public interface Disposable {
+
+    /**
+     * Allibera els recursos del panell: cancel·la les peticions pendents i descarta els resultats que
+     * encara hagin d'arribar. S'executa al fil de la interfície i es pot cridar més d'una vegada.
+     */
+    void dispose();
+}
@@ -0,0 +1,76 @@
+package controllers;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.layout.AnchorPane;
+import model.metrics.PanelLoadEvent;
+import java.io.IOException;
+
+/**
+ * Contenidor on es carreguen els panells d'una vista. Recorda el controlador del panell que es mostra
+ * i, abans de substituir-lo per un de nou, l'allibera si implementa Disposable. Així les peticions
+ * que havia començat el panell anterior es cancel·len i els seus resultats ja no modifiquen nodes
+ * que no es mostren.
+ *
+ * Un controlador que carregui subpanells en el seu propi PanelHost l'ha d'alliberar al seu dispose(),
+ * de manera que substituir un panell allibera també tots els que conté.
+ *
+ * Cada càrrega genera un PanelLoadEvent de JDK Flight Recorder.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class PanelHost implements Disposable {
+
+    private final AnchorPane container;
+    private Object controller;
+
+    /**
+     * @param container El contenidor on es mostren els panells.
+     */
+    public PanelHost(AnchorPane container) {
+        this.container = container;
+    }
+
+    /**
+     * Carrega una vista, allibera el panell anterior i mostra la nova vista ocupant tot el contenidor.
+     *
+     * @param path El camí de la vista a carregar.
+     * @param <T> Tipus del controlador de la vista.
+     * @return El controlador de la vista carregada.
+     * @throws IOException Si es produeix un error al carregar el fitxer FXML.
+     */
+    public <T> T load(String path) throws IOException {
+        PanelLoadEvent event = new PanelLoadEvent();
+        event.begin();
+        FXMLLoader fxmlLoader = new FXMLLoader(PanelHost.class.getResource(path));
+        Node content = fxmlLoader.load();
+
+        dispose();
+        controller = fxmlLoader.getController();
+
+        container.getChildren().clear();
+        container.getChildren().add(content);
+
+        AnchorPane.setTopAnchor(content, 0.0);
+        AnchorPane.setBottomAnchor(content, 0.0);
+        AnchorPane.setLeftAnchor(content, 0.0);
+        AnchorPane.setRightAnchor(content, 0.0);
+
+        if (event.shouldCommit()) {
+            event.commit(path, controller == null ? null : controller.getClass().getName());
+        }
+        return fxmlLoader.getController();
+    }
+
+    /**
+     * Allibera el controlador del panell que es mostra, si n'hi ha.
+     */
+    @Override
+    public void dispose() {
+        if (controller instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+        controller = null;
+    }
+}
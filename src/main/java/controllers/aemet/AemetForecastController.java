@@ -1,20 +1,31 @@
 package controllers.aemet;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import controllers.Disposable;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
-import model.aemet.AemetRequest;
-import model.aemet.AemetResponse;
-import model.aemet.AlertLevel;
-import utilities.Town;
-import java.lang.reflect.Field;
+import model.aemet.AemetException;
+import model.aemet.AemetGateway;
+import model.aemet.AlertEvaluator;
+import model.aemet.AlertEvaluator.Alert;
+import model.aemet.ForecastModel;
+import model.httpClient.IoScope;
+import utilities.TownAutocomplete;
+import utilities.TownRegistry;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Classe controladora per gestionar les peticions de previsió meteorològica a l'Aemet.
@@ -24,13 +35,16 @@ import java.util.List;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class AemetForecastController {
+public class AemetForecastController implements Disposable {
 
     /** Missatge d'error per a respostes incorrectes de l'Aemet. */
     private static final String AEMET_ERROR = "Error en la resposta de la Aemet";
     private static final String TOWN_ERROR = "El municipi introduït no existeix";
     private static final String DATE_ERROR = "La previsió per aquesta data no està disponible";
 
+    /** Nombre màxim de municipis que es suggereixen mentre s'escriu. */
+    private static final int MAX_SUGGESTIONS = 10;
+
     /** Contenidor principal de l'escena. */
     @FXML
     private AnchorPane anch_forecast;
@@ -59,30 +73,59 @@ public class AemetForecastController {
     @FXML
     private TextField txt_previsio_hora;
 
-    /** Variables per emmagatzemar dades de la previsió */
-    private int windAverage = 0;
-    private int windMax = 0;
-    private int rainProbability = 0;
-    private float rainAmount;
-    private int stormProbability = 0;
-    private float snowAmount = 0;
-    private int snowProbability = 0;
-    private int temperature = 0;
-    private int thermalSens = 0;
-    private int relativeHumidity = 0;
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
+    /** Llista de municipis suggerits mentre s'escriu. */
+    private final ContextMenu townSuggestions = new ContextMenu();
+
+    /**
+     * Mètode que s'executa en crear el controlador. Afegeix al camp del municipi els suggeriments
+     * d'autocompletat mentre l'usuari escriu.
+     */
+    @FXML
+    protected void initialize() {
+        txt_previsio_municipi.textProperty().addListener((observable, oldText, text) -> showTownSuggestions(text));
+        txt_previsio_municipi.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) {
+                townSuggestions.hide();
+            }
+        });
+    }
+
+    /**
+     * Mostra sota el camp del municipi els municipis que coincideixen amb el text escrit. Triar-ne
+     * un el copia al camp. Es fa amb un ContextMenu en lloc de l'autocompletat de ControlsFX, que en
+     * una aplicació modular necessita obrir paquets interns de JavaFX.
+     *
+     * @param text El text del camp.
+     */
+    private void showTownSuggestions(String text) {
+        List<String> towns = TownAutocomplete.getInstance().suggest(text, MAX_SUGGESTIONS);
+        if (towns.isEmpty() || !txt_previsio_municipi.isFocused()
+                || towns.size() == 1 && towns.get(0).equals(text)) {
+            townSuggestions.hide();
+            return;
+        }
 
-    /** Variables per emmagatzemar nivells d'alerta */
-    private int rainAlert = 0;
-    private int snowAlert = 0;
-    private int windAverageAlert = 0;
-    private int windMaxAlert = 0;
-    private int temperatureHighAlert = 0;
-    private int temperatureLowAlert = 0;
-    private String alertCondition = "";
+        List<MenuItem> items = new ArrayList<>(towns.size());
+        for (String town : towns) {
+            MenuItem item = new MenuItem(town);
+            item.setOnAction(e -> {
+                txt_previsio_municipi.setText(town);
+                txt_previsio_municipi.positionCaret(town.length());
+            });
+            items.add(item);
+        }
+        townSuggestions.getItems().setAll(items);
+        if (!townSuggestions.isShowing()) {
+            townSuggestions.show(txt_previsio_municipi, Side.BOTTOM, 0, 0);
+        }
+    }
 
     /**
      * Gestiona l'esdeveniment del clic al botó de sol·licitud de previsió meteorològica.
-     * Aquest mètode valida les dades d'entrada, fa una petició a l'Aemet,
+     * Aquest mètode valida les dades d'entrada, fa la petició a l'Aemet en segon pla,
      * processa la resposta i actualitza la interfície gràfica amb els resultats.
      *
      * @param event Esdeveniment associat al clic del botó.
@@ -90,281 +133,145 @@ public class AemetForecastController {
      */
     @FXML
     void onWeatherRequestButtonClick(ActionEvent event) throws Exception {
-        boolean dataTrobada = false;
         txt_weather_forecast.setText("");
         lbl_weather_response.setText("");
 
-        AlertLevel alertLevel = new AlertLevel();
-
-        String codiMunicipi = obtenerValorConstante(Town.class, txt_previsio_municipi.getText());
-        if(codiMunicipi.equals("No trobat")){
+        String codiMunicipi = TownRegistry.getCode(txt_previsio_municipi.getText());
+        if(codiMunicipi == null){
             lbl_weather_response.setText(TOWN_ERROR);
             return;
         }
 
-        String dataBuscada = txt_previsio_data.getText() + "T00:00:00";
-        String horaBuscada = txt_previsio_hora.getText();
-        String periodeBuscat = "";
-
-        switch (horaBuscada){
-            case "00":
-                periodeBuscat = "1901";
-                break;
-            case "01":
-            case "02":
-            case "03":
-            case "04":
-            case "05":
-            case "06":
-                periodeBuscat = "0107";
-                break;
-            case "07":
-            case "08":
-            case "09":
-            case "10":
-            case "11":
-            case "12":
-                periodeBuscat = "0713";
-                break;
-            case "13":
-            case "14":
-            case "15":
-            case "16":
-            case "17":
-            case "18":
-                periodeBuscat = "1319";
-                break;
-            case "19":
-            case "20":
-            case "21":
-            case "22":
-            case "23":
-                periodeBuscat = "1901";
-                break;
-        }
-
-        if(txt_previsio_municipi.getText().isEmpty()){
-            lbl_weather_response.setText("Has d'introduïr el codi del municipi correctament");
-            return;
-        }
-
         if(txt_previsio_data.getText().isEmpty()){
             lbl_weather_response.setText("Has d'introduïr la data correctament");
             return;
         }
 
-        if(txt_previsio_hora.getText().isEmpty()){
+        int horaBuscada = parseHour(txt_previsio_hora.getText());
+        if(horaBuscada < 0){
             lbl_weather_response.setText("Has d'introduïr l'hora correctament");
             return;
         }
 
-        lbl_weather_response.setText("");
-
+        LocalDate dataBuscada;
         try {
-            AemetRequest request = new AemetRequest();
-            String response = request.aemetForecastRequest(codiMunicipi);
-
-            if(response.equals("Error: El código de municipio no es válido o no hay datos disponibles.")){
-                lbl_weather_response.setText(TOWN_ERROR);
-                return;
-            }
-
-            //Comprova si la resposta és correcte.
-            if (!AEMET_ERROR.equals(response)) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                List<AemetResponse> aemetResponses = objectMapper.readValue(response,
-                        new TypeReference<List<AemetResponse>>() {});
-
-                //Extrau les dades de la data, la hora i la franja horària introduïda a les variables de l'inici.
-                AemetResponse aemetResponse = aemetResponses.get(0);
-
-                for (AemetResponse.Prediccion.Dia dia : aemetResponse.getPrediccion().getDia()) {
-                    if (dia.getFecha().equals(dataBuscada)) {
-                        dataTrobada= true;
-                        System.out.println("Dades per la data: " + dataBuscada);
-                        System.out.println("---------------------------------------------------");
-
-                        //Buscar probabilitat de vent
-                        if (dia.getVientoAndRachaMax() != null) {
-                            for (AemetResponse.Prediccion.Dia.Viento vent : dia.getVientoAndRachaMax()) {
-                                if (horaBuscada.equals(vent.getPeriodo())) {
-                                    if (vent.getVelocidad() != null && !vent.getVelocidad().isEmpty()) {
-                                        windAverage = Integer.parseInt(vent.getVelocidad().get(0));
-                                        windAverageAlert = alertLevel.checkAverageWind(windAverage);
-                                        System.out.println("Velocitat mitja de vent: " + windAverage);
-                                        System.out.println("Nivell d'alerta per vent: " + windAverageAlert);
-                                        System.out.println("---------------------------------------------------");
-                                    }
-
-                                    if (vent.getValue() != null) {
-                                        windMax = Integer.parseInt(vent.getValue());
-                                        windMaxAlert = alertLevel.checkMaxWind(windMax);
-                                        System.out.println("Ratxa màxima de vent: " + windMax);
-                                        System.out.println("Nivell d'alerta por ratxa màxima: " + windMaxAlert);
-                                        System.out.println("---------------------------------------------------");
-                                    }
-                                }
-                            }
-                        }
-
-                        //Buscar probabilitat de pluja.
-                        if (dia.getProbPrecipitacion() != null) {
-                            for (AemetResponse.Prediccion.Dia.Probabilidad probabilitat : dia.getProbPrecipitacion()) {
-                                if (periodeBuscat.equals(probabilitat.getPeriodo())) {
-                                    rainProbability = Integer.parseInt(probabilitat.getValue());
-                                    System.out.println("Probabilitat de pluja: " + rainProbability);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
-
-                        //Buscar precipitació
-                        if (dia.getPrecipitacion() != null) {
-                            for (AemetResponse.Prediccion.Dia.Precipitacion precipitacio : dia.getPrecipitacion()) {
-                                if(horaBuscada.equals(precipitacio.getPeriodo())){
-                                    System.out.println("Precipitació: " + precipitacio.getValue());
-                                    if(precipitacio.getValue().equals("Ip")){
-                                        rainAmount = 0;
-                                        rainAlert = alertLevel.checkRain(rainAmount);
-                                    }else{
-                                        rainAmount = Float.parseFloat(precipitacio.getValue());
-                                        rainAlert = alertLevel.checkRain(rainAmount);
-                                    }
-                                    System.out.println("Nivell d'alerta per pluja: " + rainAlert);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
-
-                        //Buscar probabilitat de tempesta
-                        if (dia.getProbTormenta() != null) {
-                            for (AemetResponse.Prediccion.Dia.ProbTormenta tempesta : dia.getProbTormenta()) {
-                                if (periodeBuscat.equals(tempesta.getPeriodo())){
-                                    stormProbability = tempesta.getValue();
-                                    System.out.println("Probabilitat de tempesta: " + stormProbability);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
-
-                        //Buscar neu
-                        if (dia.getNieve() != null) {
-                            for (AemetResponse.Prediccion.Dia.Nieve neu : dia.getNieve()) {
-                                if (horaBuscada.equals(neu.getPeriodo())){
-                                    snowAmount = Float.parseFloat(neu.getValue());
-                                    snowAlert = alertLevel.checkSnow(snowAmount);
-                                    System.out.println("Neu: " + snowAmount);
-                                    System.out.println("Nivell d'alerta per neu: " + snowAlert);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
-
-                        //Buscar probabilitat de neu
-                        if (dia.getProbNieve() != null) {
-                            for (AemetResponse.Prediccion.Dia.probNieve probNeu : dia.getProbNieve()) {
-                                if (periodeBuscat.equals(probNeu.getPeriodo())){
-                                    snowProbability = Integer.parseInt(probNeu.getValue());
-                                    System.out.println("Probabilitat de nevada: " + snowProbability);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
-
-                        //Buscar temperatura
-                        if (dia.getTemperatura() != null) {
-                            for (AemetResponse.Prediccion.Dia.Temperatura temperatura : dia.getTemperatura()) {
-                                if (horaBuscada.equals(temperatura.getPeriodo())){
-                                    temperature = Integer.parseInt(temperatura.getValue());
-                                    temperatureHighAlert = alertLevel.checkHighTemperatureLevel(temperature);
-                                    temperatureLowAlert = alertLevel.checkLowTemperatureLevel(temperature);
-                                    System.out.println("Temperatura: " + temperature);
-                                    System.out.println("Nivell d'alerta per alta temperatura: " + temperatureHighAlert);
-                                    System.out.println("Nivell d'alerta per baixa temperatura: " + temperatureLowAlert);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
+            dataBuscada = LocalDate.parse(txt_previsio_data.getText());
+        } catch (DateTimeParseException e) {
+            lbl_weather_response.setText(DATE_ERROR);
+            return;
+        }
 
-                        //Buscar sensació tèrmica
-                        if (dia.getSensTermica() != null) {
-                            for (AemetResponse.Prediccion.Dia.sensTermica sensTermica : dia.getSensTermica()) {
-                                if (horaBuscada.equals(sensTermica.getPeriodo())){
-                                    thermalSens = Integer.parseInt(sensTermica.getValue());
-                                    System.out.println("Sensació tèrmica: " + thermalSens);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
+        btn_weather_request.setDisable(true);
+        io.track(AemetGateway.getInstance().forecastAsync(codiMunicipi))
+                .whenCompleteAsync((response, error) -> {
+                    btn_weather_request.setDisable(false);
+                    if (error != null) {
+                        showError(error);
+                        return;
+                    }
+                    try {
+                        ForecastModel forecast = ForecastModel.fromJson(response);
+                        int dia = forecast.dayIndex(dataBuscada);
+                        if (dia < 0) {
+                            lbl_weather_response.setText(DATE_ERROR);
+                            return;
                         }
+                        showForecast(forecast, dia, horaBuscada);
+                    } catch (IOException e) {
+                        lbl_weather_response.setText(AEMET_ERROR);
+                    }
+                }, fx);
+    }
 
-                        //Buscar humitat relativa
-                        if (dia.getHumedadRelativa() != null) {
-                            for (AemetResponse.Prediccion.Dia.humedadRelativa humitatRelativa : dia.getHumedadRelativa()) {
-                                if (horaBuscada.equals(humitatRelativa.getPeriodo())){
-                                    relativeHumidity = Integer.parseInt(humitatRelativa.getValue());
-                                    System.out.println("Humitat relativa: " + relativeHumidity);
-                                    System.out.println("---------------------------------------------------");
-                                }
-                            }
-                        }
+    /**
+     * Cancel·la la petició de previsió pendent.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+    }
 
-                        txt_weather_forecast.setText("Dades per la data: " + dataBuscada.substring(0,10) +
-                                " " + horaBuscada +  "h\n" +
-                                "---------------------------------------------------\n" +
-                                "Velocitat mitja de vent: " + windAverage + "\n" +
-                                "Ratxa màxima de vent: " + windMax + "\n" +
-                                "Probabilitat de pluja: " + rainProbability + "\n" +
-                                "Probabilitat de tempesta: " + stormProbability + "\n" +
-                                "Neu: " + snowAmount + "\n" +
-                                "Probabilitat de nevada: " + snowProbability + "\n" +
-                                "Temperatura: " + temperature + "\n" +
-                                "Sensació tèrmica: " + thermalSens + "\n" +
-                                "Humitat relativa: " + relativeHumidity + "\n" +
-                                "---------------------------------------------------\n" +
-                                "Nivell d'alerta per alta temperatura: " + temperatureHighAlert + "\n" +
-                                "Nivell d'alerta per baixa temperatura: " + temperatureLowAlert + "\n" +
-                                "Nivell d'alerta per pluja: " + rainAlert + "\n" +
-                                "Nivell d'alerta per neu: " + snowAlert + "\n" +
-                                "Nivell d'alerta por ratxa màxima: " + windMaxAlert + "\n" +
-                                "Nivell d'alerta per vent: " + windAverageAlert + "\n");
-                    }
-                }
-                if (!dataTrobada) {
-                    lbl_weather_response.setText(DATE_ERROR);
-                }
-            } else {
-                System.out.println(response);
-            }
-        } catch (Exception e) {
-            System.out.println("Error: " + e.getMessage());
-            e.printStackTrace();
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error de la petició a l'Aemet.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        Throwable cause = IoScope.unwrap(error);
+        if (cause instanceof AemetException aemetException) {
+            lbl_weather_response.setText(aemetException.isNotFound() ? TOWN_ERROR
+                    : AemetGateway.CIRCUIT_OPEN.equals(cause.getMessage()) ? cause.getMessage() : AEMET_ERROR);
+        } else {
+            lbl_weather_response.setText(AEMET_ERROR);
         }
     }
 
     /**
-     * Obté el valor d'una constant estàtica d'una classe a partir del seu nom.
-     * Aquest mètode utilitza reflexió per accedir a un camp estàtic d'una classe. Si el camp amb el nom especificat
-     * no existeix o no és accessible, es retorna un missatge indicant que no s'ha trobat.
+     * Mostra les dades i els nivells d'alerta d'una hora de la predicció. Els valors que la
+     * predicció no inclou es mostren com a 0 i no generen alerta.
      *
-     * @param townClass La classe que conté les constants estàtiques.
-     * @param municipi  El nom de la constant que es vol obtenir (ha de coincidir amb el nom exacte del camp).
-     * @return El valor de la constant si existeix i és de tipus String; en cas contrari, retorna "No trobat".
-     * @author ChatGPT - Cómo puedo recuperar el valor de una constante de la clase Town que ha introducido un usuario
-     * de la siguiente forma:
-     * String codiMunicipi = txt_previsio_municipi.getText();
+     * @param forecast La predicció del municipi.
+     * @param dia L'índex del dia a la predicció.
+     * @param hora L'hora, de 0 a 23.
      */
-    private static String obtenerValorConstante(Class<?> townClass, String municipi) {
+    private void showForecast(ForecastModel forecast, int dia, int hora) {
+        int windAverage = valueOrZero(forecast.getWindAverage(dia, hora));
+        int windMax = valueOrZero(forecast.getWindMax(dia, hora));
+        int rainProbability = valueOrZero(forecast.getRainProbability(dia, hora));
+        int stormProbability = valueOrZero(forecast.getStormProbability(dia, hora));
+        int snowProbability = valueOrZero(forecast.getSnowProbability(dia, hora));
+        int temperature = valueOrZero(forecast.getTemperature(dia, hora));
+        int thermalSens = valueOrZero(forecast.getThermalSensation(dia, hora));
+        int relativeHumidity = valueOrZero(forecast.getRelativeHumidity(dia, hora));
+        float snowAmount = forecast.getSnow(dia, hora);
+
+        int alerts = AlertEvaluator.evaluate(forecast)[dia * ForecastModel.HOURS + hora];
+        int windAverageAlert = AlertEvaluator.level(alerts, Alert.AVERAGE_WIND);
+        int windMaxAlert = AlertEvaluator.level(alerts, Alert.MAX_WIND);
+        int rainAlert = AlertEvaluator.level(alerts, Alert.RAIN);
+        int snowAlert = AlertEvaluator.level(alerts, Alert.SNOW);
+        int temperatureHighAlert = AlertEvaluator.level(alerts, Alert.HIGH_TEMPERATURE);
+        int temperatureLowAlert = AlertEvaluator.level(alerts, Alert.LOW_TEMPERATURE);
+
+        txt_weather_forecast.setText("Dades per la data: " + forecast.getDate(dia) +
+                " " + String.format("%02d", hora) +  "h\n" +
+                "---------------------------------------------------\n" +
+                "Velocitat mitja de vent: " + windAverage + "\n" +
+                "Ratxa màxima de vent: " + windMax + "\n" +
+                "Probabilitat de pluja: " + rainProbability + "\n" +
+                "Probabilitat de tempesta: " + stormProbability + "\n" +
+                "Neu: " + (Float.isNaN(snowAmount) ? 0f : snowAmount) + "\n" +
+                "Probabilitat de nevada: " + snowProbability + "\n" +
+                "Temperatura: " + temperature + "\n" +
+                "Sensació tèrmica: " + thermalSens + "\n" +
+                "Humitat relativa: " + relativeHumidity + "\n" +
+                "---------------------------------------------------\n" +
+                "Nivell d'alerta per alta temperatura: " + temperatureHighAlert + "\n" +
+                "Nivell d'alerta per baixa temperatura: " + temperatureLowAlert + "\n" +
+                "Nivell d'alerta per pluja: " + rainAlert + "\n" +
+                "Nivell d'alerta per neu: " + snowAlert + "\n" +
+                "Nivell d'alerta por ratxa màxima: " + windMaxAlert + "\n" +
+                "Nivell d'alerta per vent: " + windAverageAlert + "\n");
+    }
+
+    /**
+     * @param text L'hora escrita per l'usuari ("7" o "07").
+     * @return L'hora de 0 a 23, o -1 si no és vàlida.
+     */
+    private static int parseHour(String text) {
         try {
-            Field[] fields = townClass.getDeclaredFields();
-            for (Field field : fields) {
-                // Comprova si el nom del camp coincideix ignorant majúscules i minúscules
-                if (field.getName().equalsIgnoreCase(municipi) && field.getType().equals(String.class)) {
-                    return (String) field.get(null); // Retorna el valor del camp estàtic
-                }
-            }
-        } catch (IllegalAccessException e) {
-            System.err.println("Error: " + e.getMessage());
+            int hour = Integer.parseInt(text.trim());
+            return hour >= 0 && hour < ForecastModel.HOURS ? hour : -1;
+        } catch (NumberFormatException e) {
+            return -1;
         }
-        return "No trobat";
     }
-}
\ No newline at end of file
+
+    /**
+     * @param value Un valor enter de la predicció.
+     * @return El valor, o 0 si la predicció no l'inclou.
+     */
+    private static int valueOrZero(int value) {
+        return value == ForecastModel.MISSING ? 0 : value;
+    }
+}
@@ -0,0 +1,146 @@
+package controllers.diagnostics;
+
+import controllers.Disposable;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.AnchorPane;
+import javafx.util.Duration;
+import model.metrics.EndpointMetrics;
+import model.metrics.EndpointMetrics.Phase;
+import model.metrics.Histogram;
+import model.metrics.Metrics;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Controlador de la vista de diagnòstic. Mostra, per a cada punt d'accés, el nombre de peticions i
+ * d'errors, els percentils del temps de xarxa, el temps de desxifrat i de lectura del JSON i la mida
+ * mitjana de les respostes. La taula s'actualitza cada segon mentre el panell és obert.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class DiagnosticsController implements Disposable {
+
+    /** Interval d'actualització de la taula. */
+    private static final Duration REFRESH = Duration.seconds(1);
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /** Contenidor de la vista. */
+    @FXML
+    private AnchorPane anch_diagnostics;
+
+    /** Taula amb les mesures de cada punt d'accés. */
+    @FXML
+    private TableView<EndpointMetrics.Snapshot> table_diagnostics;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_endpoint;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_requests;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_errors;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_p50;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_p95;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_p99;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_max;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_decrypt;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_parse;
+
+    @FXML
+    private TableColumn<EndpointMetrics.Snapshot, String> col_size;
+
+    /** Etiqueta amb l'hora de l'última actualització. */
+    @FXML
+    private Label lbl_diagnostics_updated;
+
+    private Timeline refresh;
+
+    /**
+     * Mètode que s'executa en crear el controlador. Configura les columnes i comença a actualitzar la taula.
+     */
+    @FXML
+    protected void initialize() {
+        column(col_endpoint, EndpointMetrics.Snapshot::name);
+        column(col_requests, snapshot -> String.valueOf(snapshot.requests()));
+        column(col_errors, snapshot -> String.valueOf(snapshot.errors()));
+        column(col_p50, snapshot -> millis(snapshot.latency(Phase.NETWORK).percentile(50)));
+        column(col_p95, snapshot -> millis(snapshot.latency(Phase.NETWORK).percentile(95)));
+        column(col_p99, snapshot -> millis(snapshot.latency(Phase.NETWORK).percentile(99)));
+        column(col_max, snapshot -> millis(snapshot.latency(Phase.NETWORK).max()));
+        column(col_decrypt, snapshot -> percentile95(snapshot.latency(Phase.DECRYPT)));
+        column(col_parse, snapshot -> percentile95(snapshot.latency(Phase.PARSE)));
+        column(col_size, snapshot -> snapshot.sizes().count() == 0 ? "-"
+                : String.format(Locale.ROOT, "%.1f", snapshot.sizes().mean() / 1024));
+
+        refreshTable();
+        refresh = new Timeline(new KeyFrame(REFRESH, event -> refreshTable()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        refresh.play();
+    }
+
+    /**
+     * Gestiona l'esdeveniment del botó per reiniciar les mesures.
+     *
+     * @param event L'esdeveniment del botó.
+     */
+    @FXML
+    void onResetButtonClick(ActionEvent event) {
+        Metrics.getInstance().reset();
+        refreshTable();
+    }
+
+    /**
+     * Atura l'actualització de la taula.
+     */
+    @Override
+    public void dispose() {
+        refresh.stop();
+    }
+
+    /**
+     * Torna a llegir les mesures i actualitza la taula.
+     */
+    private void refreshTable() {
+        table_diagnostics.getItems().setAll(Metrics.getInstance().snapshot());
+        lbl_diagnostics_updated.setText("Actualitzat a les " + LocalTime.now().format(TIME));
+    }
+
+    private static void column(TableColumn<EndpointMetrics.Snapshot, String> column,
+                               Function<EndpointMetrics.Snapshot, String> value) {
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+    }
+
+    /** Percentil 95 d'una fase, o "-" si la fase no s'ha mesurat mai. */
+    private static String percentile95(Histogram.Snapshot latency) {
+        return latency.count() == 0 ? "-" : millis(latency.percentile(95));
+    }
+
+    /** Converteix microsegons a mil·lisegons amb un decimal. */
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.1f", micros / 1000.0);
+    }
+}
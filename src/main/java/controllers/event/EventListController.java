@@ -1,9 +1,10 @@
 package controllers.event;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -11,17 +12,19 @@ import javafx.scene.layout.AnchorPane;
 import model.tokenSingleton.TokenSingleton;
 import model.model.Event;
 import model.crud.CrudEvent;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
 import java.io.IOException;
-import java.net.http.HttpClient;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la interfície d'usuari de la llista d'esdeveniments.
  * Gestiona les accions dels botons "Eliminar" i "Visualitzar" i proporciona
  * mètodes per obtenir i establir el panell de la llista d'esdeveniments.
  */
-public class EventListController {
+public class EventListController implements Disposable {
 
     /** Missatge d'error quan no s'ha seleccionat un esdeveniment. */
     private static final String RESPONSE_NULL = "Has de seleccionar un esdeveniment.";
@@ -44,21 +47,26 @@ public class EventListController {
 
     private static final String PATH = PathsViews.EVENT_MANAGEMENT_VIEW;
 
-    private HttpClient httpClient;
     private String jwtToken;
     private List<Event> list;
     private CrudEvent crudEvent;
 
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
-    protected void initialize() throws Exception {
+    protected void initialize() {
+        panels = new PanelHost(anch_event_list);
         jwtToken = TokenSingleton.getInstance().getJwtToken();
         lbl_response_list_event.setText("");
         crudEvent = new CrudEvent();
-        list = requestEvents();
-        loadList(list);
+        refreshList();
     }
 
     /**
@@ -67,22 +75,27 @@ public class EventListController {
      * @param event l'esdeveniment de clic associat al botó.
      */
     @FXML
-    protected void onDeleteButtonClick(ActionEvent event) throws Exception {
+    protected void onDeleteButtonClick(ActionEvent event) {
         lbl_response_list_event.setText("");
 
         Event selectedEvent = list_events.getSelectionModel().getSelectedItem();
 
         if (selectedEvent != null) {
             String id = selectedEvent.getId();
-            String status = crudEvent.deleteEvent(id);
-
-            if (status.equals(DELETE_OK)) {
-                list_events.getItems().clear();
-                list = requestEvents();
-                loadList(list);
-            } else {
-                lbl_response_list_event.setText(status);
-            }
+            btn_event_list_delete.setDisable(true);
+
+            io.track(crudEvent.deleteEventAsync(id))
+                    .whenCompleteAsync((status, error) -> {
+                        btn_event_list_delete.setDisable(false);
+                        if (error != null) {
+                            showError(error);
+                        } else if (status.equals(DELETE_OK)) {
+                            list.remove(selectedEvent);
+                            list_events.getItems().remove(selectedEvent);
+                        } else {
+                            lbl_response_list_event.setText(status);
+                        }
+                    }, fx);
         } else {
             lbl_response_list_event.setText(RESPONSE_NULL);
         }
@@ -109,6 +122,43 @@ public class EventListController {
         return crudEvent.getAllEvents();
     }
 
+    /**
+     * Demana la llista d'esdeveniments sense bloquejar la interfície i la carrega al ListView
+     * quan arriba la resposta. Mentrestant es mostra la còpia del magatzem local. Si la petició
+     * falla, es manté aquesta còpia i es mostra l'error a l'etiqueta de resposta.
+     */
+    private void refreshList() {
+        CompletableFuture<List<Event>> request = io.track(crudEvent.getAllEventsAsync());
+        if (!request.isDone()) {
+            io.supply(crudEvent::getStoredEvents)
+                    .thenAcceptAsync(stored -> {
+                        if (list == null && (!request.isDone() || request.isCompletedExceptionally())) {
+                            list = stored;
+                            loadList(list);
+                        }
+                    }, fx);
+        }
+        request
+                .whenCompleteAsync((events, error) -> {
+                    if (error != null) {
+                        showError(error);
+                    } else {
+                        list = events;
+                        list_events.getItems().clear();
+                        loadList(list);
+                    }
+                }, fx);
+    }
+
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response_list_event.setText(IoScope.unwrap(error).getMessage());
+    }
+
     /**
      * Mètode encarregat de carregar el ListView amb els esdeveniments retornats per la base de dades.
      *
@@ -119,26 +169,24 @@ public class EventListController {
     }
 
     /**
-     * Carrega un nou panell.
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     public void loadPanel(String path) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-        Node content = fxmlLoader.load();
-
         Event selectedEvent = list_events.getSelectionModel().getSelectedItem();
 
-        EventManagementController controller = fxmlLoader.getController();
+        EventManagementController controller = panels.load(path);
         controller.setEvent(selectedEvent);
-
-        anch_event_list.getChildren().clear();
-        anch_event_list.getChildren().add(content);
-
-        AnchorPane.setTopAnchor(content, 0.0);
-        AnchorPane.setBottomAnchor(content, 0.0);
-        AnchorPane.setLeftAnchor(content, 0.0);
-        AnchorPane.setRightAnchor(content, 0.0);
     }
 
     public CrudEvent getCrudEvent() {
@@ -1,11 +1,16 @@
 package controllers.event;
 
+import controllers.Disposable;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import model.model.Event;
 import model.crud.CrudEvent;
+import model.httpClient.IoExecutor;
+import model.httpClient.IoScope;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la gestió dels esdeveniments de la vista de gestió per als administradors.
@@ -14,7 +19,7 @@ import model.crud.CrudEvent;
  *
  * @version 1.0
  */
-public class EventManagementController {
+public class EventManagementController implements Disposable {
 
     /**
      * Missatge d'error estàndard en cas de fallada durant la petició.
@@ -97,6 +102,9 @@ public class EventManagementController {
     private Event event;
     private CrudEvent crudEvent;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
@@ -116,9 +124,8 @@ public class EventManagementController {
         lbl_event_response.setText("");
 
         if (this.event != null) {
-            String response = crudEvent.deleteEvent(this.event.getId());
-            lbl_event_response.setText(response);
-            cleanEvent();
+            String id = this.event.getId();
+            send(() -> crudEvent.deleteEvent(id), this::cleanEvent);
         } else {
             lbl_event_response.setText(ERROR);
         }
@@ -133,8 +140,8 @@ public class EventManagementController {
     void onSaveButtonClick(ActionEvent event) throws Exception {
         lbl_event_response.setText("");
         saveEvent();
-        String response = crudEvent.createEvent(this.event);
-        lbl_event_response.setText(response);
+        Event toSave = this.event;
+        send(() -> crudEvent.createEvent(toSave));
     }
 
     /**
@@ -147,13 +154,41 @@ public class EventManagementController {
         lbl_event_response.setText("");
         saveEvent();
         if (this.event != null) {
-            String response = crudEvent.updateEvent(this.event);
-            lbl_event_response.setText(response);
+            Event toSave = this.event;
+            send(() -> crudEvent.updateEvent(toSave));
         } else {
             lbl_event_response.setText(ERROR);
         }
     }
 
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície i en mostra la resposta.
+     *
+     * @param request La petició.
+     */
+    private void send(IoExecutor.IoCall<String> request) {
+        send(request, () -> {});
+    }
+
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície, en mostra la resposta i després
+     * executa una acció sobre la vista.
+     *
+     * @param request La petició.
+     * @param then Acció que s'executa al fil de la interfície després de mostrar la resposta.
+     */
+    private void send(IoExecutor.IoCall<String> request, Runnable then) {
+        io.supply(request)
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        lbl_event_response.setText(IoScope.unwrap(error).getMessage());
+                    } else {
+                        lbl_event_response.setText(response);
+                        then.run();
+                    }
+                }, fx);
+    }
+
     /**
      * Estableix l'esdeveniment actual i inicialitza els camps de la interfície d'usuari
      * amb les dades de l'esdeveniment proporcionat.
@@ -186,7 +221,7 @@ public class EventManagementController {
         txt_event_management_capacity.setText(String.valueOf(event.getAforament()));
         txt_event_management_initialtime.setText(event.getHoraInici());
         txt_event_management_endtime.setText(event.getHoraFi());
-        txt_event_management_date.setText(event.getDataEsde(txt_event_management_date.getText()));
+        txt_event_management_date.setText(event.getDataEsde());
     }
 
     /**
@@ -225,4 +260,12 @@ public class EventManagementController {
         event.setHoraFi(txt_event_management_endtime.getText());
         event.setDataEsde(txt_event_management_date.getText());
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancel·la les peticions pendents del panell.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+    }
+}
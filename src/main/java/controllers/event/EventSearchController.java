@@ -1,23 +1,26 @@
 package controllers.event;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import model.model.Event;
 import model.crud.CrudEvent;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la funcionalitat de cerca d'esdeveniments.
  * Gestiona la selecció del criteri de cerca (ID, nom o ubicació)
  * i executa la cerca segons l'atribut i valor introduïts.
  */
-public class EventSearchController {
+public class EventSearchController implements Disposable {
 
     /** Cadena de text que representa el valor de cerca introduït per l'usuari. */
     private String search;
@@ -44,11 +47,18 @@ public class EventSearchController {
     private CrudEvent crudEvent;
     private Event event;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
     protected void initialize() throws Exception {
+        panels = new PanelHost(anch_event_search);
         crudEvent = new CrudEvent();
     }
 
@@ -91,36 +101,49 @@ public class EventSearchController {
         if (attribute.isEmpty() || search.isEmpty()) {
             lbl_response_event_empty.setText("Has d'introduïr l'atribut i el valor a buscar");
         } else {
-            this.event = crudEvent.getEventById(search);
-            if (this.event != null) {
-                loadPanel(PathsViews.EVENT_MANAGEMENT_VIEW);
-            } else {
-                lbl_response_event_empty.setText("Esdeveniment no trobat");
-            }
+            String id = search;
+            io.supply(() -> crudEvent.getEventById(id))
+                    .whenCompleteAsync((found, error) -> {
+                        if (error != null) {
+                            showError(error);
+                        } else if (found != null) {
+                            this.event = found;
+                            loadPanel(PathsViews.EVENT_MANAGEMENT_VIEW);
+                        } else {
+                            lbl_response_event_empty.setText("Esdeveniment no trobat");
+                        }
+                    }, fx);
         }
     }
 
     /**
-     * Carrega un nou panell.
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response_event_empty.setText(IoScope.unwrap(error).getMessage());
+    }
+
+    /**
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-            Node content = fxmlLoader.load();
-
-            EventManagementController controller = fxmlLoader.getController();
+            EventManagementController controller = panels.load(path);
             controller.setEvent(this.event);
 
-            anch_event_search.getChildren().clear();
-            anch_event_search.getChildren().add(content);
-
-            AnchorPane.setTopAnchor(content, 0.0);
-            AnchorPane.setBottomAnchor(content, 0.0);
-            AnchorPane.setLeftAnchor(content, 0.0);
-            AnchorPane.setRightAnchor(content, 0.0);
-
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -1,6 +1,7 @@
 package controllers.event;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import controllers.Disposable;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
@@ -9,10 +10,13 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import model.crud.CrudEvent;
+import model.httpClient.IoScope;
+import model.json.JsonUtil;
+import model.statusEvent.StatusAggregator;
+import model.statusEvent.StatusAggregator.Metric;
 import model.statusEvent.StatusEvent;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per gestionar l'estat dels esdeveniments i les alertes meteorològiques associades.
@@ -20,7 +24,7 @@ import java.util.Map;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class EventStatusController {
+public class EventStatusController implements Disposable {
 
     /** Missatge d'error per quan l'identificador de l'esdeveniment no està proporcionat. */
     private static final String NULL_RESPONSE = "Has d'introduir l'identificador de l'esdeveniment.";
@@ -56,6 +60,9 @@ public class EventStatusController {
     /** Instància per gestionar operacions CRUD d'esdeveniments. */
     private CrudEvent crudEvent;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /** Etiquetes per mostrar alertes meteorològiques específiques. */
     @FXML
     private Label lbl_event_status_alerta_alta_temperatura;
@@ -124,29 +131,6 @@ public class EventStatusController {
     @FXML
     private Label hbox_event_status_mesures;
 
-    /** Dades de la previsió meteorològica. */
-    int windAverage = 0;
-    int windMax = 0;
-    int rainProbability = 0;
-    double rainAmount = 0;
-    int stormProbability = 0;
-    double snowAmount = 0;
-    int snowProbability = 0;
-    int temperature = 0;
-    int relativeHumidity = 0;
-
-    /** Nivells d'alerta meteorològica. */
-    int rainAlert = 0;
-    int snowAlert = 0;
-    int windAverageAlert = 0;
-    int windMaxAlert = 0;
-    int temperatureHighAlert = 0;
-    int temperatureLowAlert = 0;
-
-    /** Condicions d'alerta màxima i mesures de prevenció associades. */
-    List<String> mesuresDePrevencio = new ArrayList<>();;
-    int alertaMaxima = 0;
-
     /**
      * Mètode que s'executa en inicialitzar el controlador.
      * Configura l'estat inicial dels elements de la interfície.
@@ -173,167 +157,70 @@ public class EventStatusController {
         txt_event_status_mesures.setVisible(false);
         hbox_event_status_mesures.setVisible(false);
 
-        try {
-            String response = crudEvent.getStatusById(txt_event_status_id.getText());
-
-            if (response == null) {
-                lbl_status_response.setText(NULL_RESPONSE);
-                return;
-            }else if (response.equals("Esdeveniment no trobat")){
-                lbl_status_response.setText(NO_EVENT);
-                return;
-            }else if(!response.trim().startsWith("{") && !response.trim().startsWith("[")) {
-                lbl_status_response.setText(ERROR_DATE);
-                return;
-            }
-
-            resetVariables();
-            hbox_event_status_data.setVisible(true);
-            hbox_event_status_search.setVisible(true);
-            hbox_event_status_estat.setVisible(true);
-            txt_event_status_mesures.setVisible(true);
-
-            ObjectMapper mapper = new ObjectMapper();
-            StatusEvent statusEvent = mapper.readValue(response, StatusEvent.class);
-
-            Map<String, Object> hourlyData = statusEvent.getHourlyData();
-
-            if (hourlyData == null || hourlyData.isEmpty()) {
-                lbl_status_response.setText(NO_DATA);
-                return;
-            }
-
-            for (Map.Entry<String, Object> entry : hourlyData.entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
-
-                // Converteix el valor a un Map<String, Object>
-                Map<String, Object> valueMap = mapper.convertValue(value, Map.class);
-
-                // Iterar sobre cada dada dins del mapa del valor
-                for (Map.Entry<String, Object> innerEntry : valueMap.entrySet()) {
-                    switch (innerEntry.getKey()){
-                        case "VelocitatMitjaVent":
-                            if ((int)innerEntry.getValue() > windAverage){
-                                windAverage = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaVentMitja":
-                            if ((int)innerEntry.getValue() > windAverageAlert){
-                                windAverageAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "RatxaMaximaVent":
-                            if ((int)innerEntry.getValue() > windMax){
-                                windMax = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaRatxaMaxima":
-                            if ((int)innerEntry.getValue() > windMaxAlert){
-                                windMaxAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "ProbabilitatPluja":
-                            if ((int)innerEntry.getValue() > rainProbability){
-                                rainProbability = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "Precipitacio":
-                            if ((double)innerEntry.getValue() > rainAmount){
-                                rainAmount = (double)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaPluja":
-                            if ((int)innerEntry.getValue() > rainAlert){
-                                rainAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "ProbabilitatTempesta":
-                            if ((int)innerEntry.getValue() > stormProbability){
-                                stormProbability = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "Neu":
-                            if ((double)innerEntry.getValue() > snowAmount){
-                                snowAmount = (double)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaNeu":
-                            if ((int)innerEntry.getValue() > snowAlert){
-                                snowAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "ProbabilitatNevada":
-                            if ((int)innerEntry.getValue() > snowProbability){
-                                snowProbability = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "Temperatura":
-                            if ((int)innerEntry.getValue() > temperature){
-                                temperature = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaAltaTemperatura":
-                            if ((int)innerEntry.getValue() > temperatureHighAlert){
-                                temperatureHighAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "AlertaBaixaTemperatura":
-                            if ((int)innerEntry.getValue() > temperatureLowAlert){
-                                temperatureLowAlert = (int)innerEntry.getValue();
-                            }
-                            if ((int)innerEntry.getValue() > alertaMaxima){
-                                alertaMaxima = (int)innerEntry.getValue();
-                            }
-                            break;
-                        case "HumitatRelativa":
-                            if ((int)innerEntry.getValue() > relativeHumidity){
-                                relativeHumidity = (int)innerEntry.getValue();
-                            }
-                            break;
+        String id = txt_event_status_id.getText();
+        io.supply(() -> crudEvent.getStatusById(id))
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        showError(error);
+                    } else {
+                        showStatus(response);
                     }
+                }, fx);
+    }
 
-                    Object innerValue = innerEntry.getValue();
+    /**
+     * Mostra l'estat rebut del servidor o el missatge que correspongui si no n'hi ha.
+     *
+     * @param response La resposta desxifrada del servidor.
+     */
+    private void showStatus(String response) {
+        if (response == null) {
+            lbl_status_response.setText(NULL_RESPONSE);
+            return;
+        }else if (response.equals("Esdeveniment no trobat")){
+            lbl_status_response.setText(NO_EVENT);
+            return;
+        }else if(!response.trim().startsWith("{") && !response.trim().startsWith("[")) {
+            lbl_status_response.setText(ERROR_DATE);
+            return;
+        }
 
-                    // Si hi ha un mapa
-                    if (innerValue instanceof Map) {
-                        Map<String, Object> subMap = (Map<String, Object>) innerValue;
-                        for (Map.Entry<String, Object> subEntry : subMap.entrySet()) {
-                            if (!mesuresDePrevencio.contains(subEntry.getValue().toString())) {
-                                mesuresDePrevencio.add(subEntry.getValue().toString());
-                            }
-                        }
-                    }
-                }
-            }
-            setStatusEvent();
-            System.out.println("--------------------------------------------------------------------------");
-            printVariable();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        StatusEvent statusEvent;
+        try {
+            statusEvent = JsonUtil.read(JsonUtil.STATUS_EVENT_READER, response);
+        } catch (IOException e) {
+            showError(e);
+            return;
+        }
+        if (statusEvent.getHourCount() == 0) {
+            lbl_status_response.setText(NO_DATA);
+            return;
         }
+
+        hbox_event_status_data.setVisible(true);
+        hbox_event_status_search.setVisible(true);
+        hbox_event_status_estat.setVisible(true);
+        txt_event_status_mesures.setVisible(true);
+        setStatusEvent(StatusAggregator.of(statusEvent).summary());
+    }
+
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_status_response.setText(IoScope.unwrap(error).getMessage());
     }
 
     /**
      * Actualitza l'estat dels elements gràfics de la interfície d'usuari amb la informació
      * relacionada amb l'alerta màxima, les condicions meteorològiques i les mesures de prevenció.
+     *
+     * @param summary El resum de totes les hores de l'esdeveniment.
      */
-    private void setStatusEvent(){
+    private void setStatusEvent(StatusAggregator.Summary summary){
+        int alertaMaxima = alert(summary, Metric.ALERT_MAX);
         switch (alertaMaxima) {
             case 1:
                 lbl_event_status_estat.setText(ALERT_LEVEL_1);
@@ -352,66 +239,37 @@ public class EventStatusController {
                 break;
         }
         lbl_event_status_alerta_maxima.setText(String.valueOf(alertaMaxima));
-        lbl_event_status_alerta_alta_temperatura.setText(String.valueOf(temperatureHighAlert));
-        lbl_event_status_alerta_baixa_temperatura.setText(String.valueOf(temperatureLowAlert));
-        lbl_event_status_alerta_vent.setText(String.valueOf(windAverageAlert));
-        lbl_event_status_alerta_ratxa.setText(String.valueOf(windMaxAlert));
-        lbl_event_status_alerta_neu.setText(String.valueOf(snowAlert));
-        lbl_event_status_alerta_pluja.setText(String.valueOf(rainAlert));
-        lbl_event_status_probabilitat_pluja.setText(String.valueOf(rainProbability));
-        lbl_event_status_quantitat_pluja.setText(String.valueOf(rainAmount));
-        lbl_event_status_probabilitat_neu.setText(String.valueOf(snowProbability));
-        lbl_event_status_quantitat_neu.setText(String.valueOf(snowAmount));
-        lbl_event_status_quantitat_vent.setText(String.valueOf(windAverage));
-        lbl_event_status_quantitat_ratxa.setText(String.valueOf(windMax));
-        lbl_event_status_temperatura_alta.setText(String.valueOf(temperature));
-        lbl_event_status_temperatura_baixa.setText(String.valueOf(temperature));
-        txt_event_status_mesures.setText(String.join("\n", mesuresDePrevencio));
+        lbl_event_status_alerta_alta_temperatura.setText(String.valueOf(alert(summary, Metric.ALERT_HIGH_TEMPERATURE)));
+        lbl_event_status_alerta_baixa_temperatura.setText(String.valueOf(alert(summary, Metric.ALERT_LOW_TEMPERATURE)));
+        lbl_event_status_alerta_vent.setText(String.valueOf(alert(summary, Metric.ALERT_WIND_AVERAGE)));
+        lbl_event_status_alerta_ratxa.setText(String.valueOf(alert(summary, Metric.ALERT_WIND_MAX)));
+        lbl_event_status_alerta_neu.setText(String.valueOf(alert(summary, Metric.ALERT_SNOW)));
+        lbl_event_status_alerta_pluja.setText(String.valueOf(alert(summary, Metric.ALERT_RAIN)));
+        lbl_event_status_probabilitat_pluja.setText(String.valueOf(summary.maxInt(Metric.RAIN_PROBABILITY)));
+        lbl_event_status_quantitat_pluja.setText(String.valueOf(summary.max(Metric.RAIN)));
+        lbl_event_status_probabilitat_neu.setText(String.valueOf(summary.maxInt(Metric.SNOW_PROBABILITY)));
+        lbl_event_status_quantitat_neu.setText(String.valueOf(summary.max(Metric.SNOW)));
+        lbl_event_status_quantitat_vent.setText(String.valueOf(summary.maxInt(Metric.WIND_AVERAGE)));
+        lbl_event_status_quantitat_ratxa.setText(String.valueOf(summary.maxInt(Metric.WIND_MAX)));
+        lbl_event_status_temperatura_alta.setText(String.valueOf(summary.maxInt(Metric.TEMPERATURE)));
+        lbl_event_status_temperatura_baixa.setText(String.valueOf((int) summary.min(Metric.TEMPERATURE)));
+        txt_event_status_mesures.setText(String.join("\n", summary.measures()));
     }
 
     /**
-     * Inicialitza les variables de les dades meteorològiques i dels nivells d'alerta per fer una nova
-     * petició a la base de dades.
+     * @param summary El resum de l'esdeveniment.
+     * @param metric Un nivell d'alerta.
+     * @return El nivell més alt, o 0 si el servidor no l'aplica (-1) a cap hora.
      */
-    private void resetVariables(){windAverage = 0;
-        windMax = 0;
-        rainProbability = 0;
-        rainAmount = 0;
-        stormProbability = 0;
-        snowAmount = 0;
-        snowProbability = 0;
-        temperature = 0;
-        relativeHumidity = 0;rainAlert = 0;
-        snowAlert = 0;
-        windAverageAlert = 0;
-        windMaxAlert = 0;
-        temperatureHighAlert = 0;
-        temperatureLowAlert = 0;
-        mesuresDePrevencio.clear();
-        alertaMaxima = 0;
+    private static int alert(StatusAggregator.Summary summary, Metric metric) {
+        return Math.max(0, summary.maxInt(metric));
     }
 
     /**
-     * Imprimeix les dades per pantalla per un millor control de les dades retornades per la
-     * base de dades.
+     * Cancel·la les peticions pendents del panell.
      */
-    private void printVariable(){
-        System.out.println("VelocitatMitjaVent: " + windAverage);
-        System.out.println("RatxaMaximaVent: " + windMax);
-        System.out.println("ProbabilitatPluja: " + rainProbability);
-        System.out.println("Precipitacio: " + rainAmount);
-        System.out.println("ProbabilitatTempesta: " + stormProbability);
-        System.out.println("Neu: " + snowAmount);
-        System.out.println("ProbabilitatNevada: " + snowProbability);
-        System.out.println("Temperatura: " + temperature);
-        System.out.println("HumitatRelativa: " + relativeHumidity);
-        System.out.println("AlertaPluja: " + rainAlert);
-        System.out.println("AlertaNeu: " + snowAlert);
-        System.out.println("AlertaVentMitja: " + windAverageAlert);
-        System.out.println("AlertaRatxaMaxima: " + windMaxAlert);
-        System.out.println("AlertaAltaTemperatura: " + temperatureHighAlert);
-        System.out.println("AlertaBaixaTemperatura: " + temperatureLowAlert);
-        System.out.println("Mesure de prevencio: " + mesuresDePrevencio);
-        System.out.println("Alerta màxima: " + alertaMaxima);
+    @Override
+    public void dispose() {
+        io.close();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package controllers.login;
 
+import controllers.Disposable;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -81,7 +82,8 @@ public class LoginController {
     }
 
     /**
-     * Carrega i envia el token JWT a la nova finestra.
+     * Carrega i envia el token JWT a la nova finestra. Si el controlador és Disposable, s'allibera
+     * quan la finestra s'amaga, tant si es tanca des del botó de sortir com des de la barra de títol.
      *
      * @param path El camí de la vista a carregar.
      */
@@ -94,6 +96,9 @@ public class LoginController {
             Stage stage = new Stage();
             stage.setTitle("Meteo Events");
             stage.setScene(scene);
+            if (fxmlLoader.getController() instanceof Disposable disposable) {
+                stage.setOnHidden(hidden -> disposable.dispose());
+            }
             stage.show();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -1,5 +1,8 @@
 package controllers.measure;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListView;
@@ -8,12 +11,12 @@ import javafx.scene.control.Label;
 import model.model.Measure;
 import model.tokenSingleton.TokenSingleton;
 import model.crud.CrudMeasure;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import java.io.IOException;
-import java.net.http.HttpClient;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la visualització de la llista de mesures.
@@ -23,7 +26,7 @@ import java.util.List;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class MeasureListController {
+public class MeasureListController implements Disposable {
 
     /** Panell de tipus AnchorPane que conté la llista de mesures. */
     @FXML
@@ -41,21 +44,26 @@ public class MeasureListController {
     private static final String RESPONSE_NULL = "Has de seleccionar una mesura.";
     private static final String PATH = PathsViews.MEASURE_MANAGEMENT_VIEW;
 
-    private HttpClient httpClient;
     private String jwtToken;
     private List<Measure> list;
     private CrudMeasure crudMeasure;
 
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
-    protected void initialize() throws Exception {
+    protected void initialize() {
+        panels = new PanelHost(anch_measure_list);
         jwtToken = TokenSingleton.getInstance().getJwtToken();
         lbl_response_list_measure.setText("");
         crudMeasure = new CrudMeasure();
-        list = requestMeasures();
-        loadList(list);
+        refreshList();
     }
 
     /**
@@ -65,22 +73,24 @@ public class MeasureListController {
      * @param event l'esdeveniment de clic associat al botó de "Guardar".
      */
     @FXML
-    void onDeleteButtonClick(ActionEvent event) throws Exception {
+    void onDeleteButtonClick(ActionEvent event) {
         lbl_response_list_measure.setText("");
 
         Measure selectedMeasure = list_measures.getSelectionModel().getSelectedItem();
 
         if (selectedMeasure != null) {
             String id = selectedMeasure.getId();
-            String status = crudMeasure.deleteMeasure(id);
-
-            if (status.equals("Mesura esborrada correctament")) {
-                list_measures.getItems().clear();
-                list = requestMeasures();
-                loadList(list);
-            } else {
-                lbl_response_list_measure.setText(status);
-            }
+            io.track(crudMeasure.deleteMeasureAsync(id))
+                    .whenCompleteAsync((status, error) -> {
+                        if (error != null) {
+                            showError(error);
+                        } else if (status.equals("Mesura esborrada correctament")) {
+                            list.remove(selectedMeasure);
+                            list_measures.getItems().remove(selectedMeasure);
+                        } else {
+                            lbl_response_list_measure.setText(status);
+                        }
+                    }, fx);
         } else {
             lbl_response_list_measure.setText(RESPONSE_NULL);
         }
@@ -107,37 +117,72 @@ public class MeasureListController {
         return crudMeasure.getAllMeasures();
     }
 
+    /**
+     * Demana la llista de mesures sense bloquejar la interfície i la carrega al ListView
+     * quan arriba la resposta. Mentrestant es mostra la còpia del magatzem local. Si la petició
+     * falla, es manté aquesta còpia i es mostra l'error a l'etiqueta de resposta.
+     */
+    private void refreshList() {
+        CompletableFuture<List<Measure>> request = io.track(crudMeasure.getAllMeasuresAsync());
+        if (!request.isDone()) {
+            io.supply(crudMeasure::getStoredMeasures)
+                    .thenAcceptAsync(stored -> {
+                        if (list == null && (!request.isDone() || request.isCompletedExceptionally())) {
+                            list = stored;
+                            loadList(list);
+                        }
+                    }, fx);
+        }
+        request
+                .whenCompleteAsync((items, error) -> {
+                    if (error != null) {
+                        showError(error);
+                    } else {
+                        list = items;
+                        list_measures.getItems().clear();
+                        loadList(list);
+                    }
+                }, fx);
+    }
+
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response_list_measure.setText(IoScope.unwrap(error).getMessage());
+    }
+
     /**
      * Mètode encarregat de carregat el ListView amb les mesures retornades per
      * la base de dades.
      *
      * @param list llista d'objectes Measure retornada per la base de dades.
      */
-    private void loadList(List<Measure> list) throws Exception {
+    private void loadList(List<Measure> list) {
         list_measures.getItems().addAll(list);
     }
 
     /**
-     * Carrega un nou panell.
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-        Node content = fxmlLoader.load();
-
         Measure selectedMeasure = list_measures.getSelectionModel().getSelectedItem();
 
-        MeasureManagementController controller = fxmlLoader.getController();
+        MeasureManagementController controller = panels.load(path);
         controller.setMeasure(selectedMeasure);
-
-        anch_measure_list.getChildren().clear();
-        anch_measure_list.getChildren().add(content);
-
-        AnchorPane.setTopAnchor(content, 0.0);
-        AnchorPane.setBottomAnchor(content, 0.0);
-        AnchorPane.setLeftAnchor(content, 0.0);
-        AnchorPane.setRightAnchor(content, 0.0);
     }
 
     /**
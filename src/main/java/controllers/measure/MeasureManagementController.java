@@ -1,5 +1,7 @@
 package controllers.measure;
 
+import controllers.Disposable;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -7,6 +9,9 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import model.model.Measure;
 import model.crud.CrudMeasure;
+import model.httpClient.IoExecutor;
+import model.httpClient.IoScope;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la gestió dels esdeveniments de la vista de gestió de les mesures.
@@ -16,7 +21,7 @@ import model.crud.CrudMeasure;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class MeasureManagementController {
+public class MeasureManagementController implements Disposable {
 
     /**
      * Constant amb el missatge d'error quan es produeix un problema durant la petició.
@@ -59,6 +64,9 @@ public class MeasureManagementController {
     private Measure measure;
     private CrudMeasure crudMeasure;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
@@ -78,9 +86,8 @@ public class MeasureManagementController {
         lbl_measure_response.setText("");
 
         if (measure != null) {
-            String response = crudMeasure.deleteMeasure(measure.getId());
-            lbl_measure_response.setText(response);
-            cleanMeasure();
+            String id = measure.getId();
+            send(() -> crudMeasure.deleteMeasure(id), this::cleanMeasure);
         } else {
             lbl_measure_response.setText(ERROR);
         }
@@ -95,8 +102,8 @@ public class MeasureManagementController {
     void onSaveButtonClick(ActionEvent event) throws Exception {
         lbl_measure_response.setText("");
         saveMeasure();
-        String response = crudMeasure.createMeasure(measure);
-        lbl_measure_response.setText(response);
+        Measure toSave = measure;
+        send(() -> crudMeasure.createMeasure(toSave));
     }
 
     /**
@@ -109,13 +116,41 @@ public class MeasureManagementController {
         lbl_measure_response.setText("");
         saveMeasure();
         if (measure != null) {
-            String response = crudMeasure.updateMeasure(measure);
-            lbl_measure_response.setText(response);
+            Measure toSave = measure;
+            send(() -> crudMeasure.updateMeasure(toSave));
         } else {
             lbl_measure_response.setText(ERROR);
         }
     }
 
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície i en mostra la resposta.
+     *
+     * @param request La petició.
+     */
+    private void send(IoExecutor.IoCall<String> request) {
+        send(request, () -> {});
+    }
+
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície, en mostra la resposta i després
+     * executa una acció sobre la vista.
+     *
+     * @param request La petició.
+     * @param then Acció que s'executa al fil de la interfície després de mostrar la resposta.
+     */
+    private void send(IoExecutor.IoCall<String> request, Runnable then) {
+        io.supply(request)
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        lbl_measure_response.setText(IoScope.unwrap(error).getMessage());
+                    } else {
+                        lbl_measure_response.setText(response);
+                        then.run();
+                    }
+                }, fx);
+    }
+
     /**
      * Estableix la mesura actual i inicialitza els camps de la interfície d'usuari
      * amb les dades de la mesura proporcionada.
@@ -163,4 +198,12 @@ public class MeasureManagementController {
         measure.setValorUm(txt_measure_management_valor_uml.getText());
         measure.setNivell_mesura(txt_measure_management_nivell.getText());
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancel·la les peticions pendents del panell.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+    }
+}
@@ -1,9 +1,10 @@
 package controllers.measure;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.control.TitledPane;
@@ -11,8 +12,10 @@ import javafx.scene.layout.AnchorPane;
 import model.model.Measure;
 import model.tokenSingleton.TokenSingleton;
 import model.crud.CrudMeasure;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la funcionalitat de cerca de mesures.
@@ -22,7 +25,7 @@ import java.io.IOException;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class MeasureSearchController {
+public class MeasureSearchController implements Disposable {
 
     /** Cadena de text que representa el valor de cerca introduït per l'usuari. */
     private String search;
@@ -54,11 +57,18 @@ public class MeasureSearchController {
     private CrudMeasure crudMeasure;
     private Measure measure;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
     protected void initialize() throws Exception {
+        panels = new PanelHost(anch_measure_search);
         jwtToken = TokenSingleton.getInstance().getJwtToken();
         crudMeasure = new CrudMeasure();
     }
@@ -102,20 +112,44 @@ public class MeasureSearchController {
         if (attribute.isEmpty() || search.isEmpty()) {
             lbl_response.setText("Has d'introduïr l'atribut i el valor a buscar");
         } else {
-            if (attribute.equals("ID")) {
-                measure = crudMeasure.getMeasureById(search);
-            } else if (attribute.equals("Nom")) {
-                measure = crudMeasure.getMeasureById(search);
-            }
-
-            if (measure != null) {
-                loadPanel(PathsViews.MEASURE_MANAGEMENT_VIEW);
-            } else {
+            if (!attribute.equals("ID") && !attribute.equals("Nom")) {
                 lbl_response.setText("Mesura no trobada");
+                return;
             }
+
+            String id = search;
+            io.supply(() -> crudMeasure.getMeasureById(id))
+                    .whenCompleteAsync((found, error) -> {
+                        if (error != null) {
+                            showError(error);
+                        } else if (found != null) {
+                            measure = found;
+                            loadPanel(PathsViews.MEASURE_MANAGEMENT_VIEW);
+                        } else {
+                            lbl_response.setText("Mesura no trobada");
+                        }
+                    }, fx);
         }
     }
 
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response.setText(IoScope.unwrap(error).getMessage());
+    }
+
+    /**
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
     /**
      * Carrega un nou panell per gestionar la mesura trobada.
      *
@@ -123,20 +157,9 @@ public class MeasureSearchController {
      */
     private void loadPanel(String path) {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-            Node content = fxmlLoader.load();
-
-            MeasureManagementController controller = fxmlLoader.getController();
+            MeasureManagementController controller = panels.load(path);
             controller.setMeasure(measure);
 
-            anch_measure_search.getChildren().clear();
-            anch_measure_search.getChildren().add(content);
-
-            AnchorPane.setTopAnchor(content, 0.0);
-            AnchorPane.setBottomAnchor(content, 0.0);
-            AnchorPane.setLeftAnchor(content, 0.0);
-            AnchorPane.setRightAnchor(content, 0.0);
-
         } catch (IOException e) {
             e.printStackTrace();
         }
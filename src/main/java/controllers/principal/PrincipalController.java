@@ -1,17 +1,19 @@
 package controllers.principal;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import model.statusEvent.EventStatusMonitor;
+import org.controlsfx.control.Notifications;
 import model.tokenSingleton.TokenSingleton;
 import model.login.LoginClient;
 import utilities.PathsViews;
 import java.io.IOException;
-import java.net.http.HttpClient;
 
 /**
  * Controlador per a la gestió dels esdeveniments de la vista de la pàgina principal
@@ -19,10 +21,12 @@ import java.net.http.HttpClient;
  * botons per a esborrar, llistar, crear, modificar i visualitzar, tant d'esdeveniments com
  * de treballadors.
  *
+ * En tancar la finestra, per qualsevol camí, s'atura la vigilància de l'estat i s'allibera el panell.
+ *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class PrincipalController {
+public class PrincipalController implements Disposable {
 
     /** Contenidor de la vista. */
     @FXML
@@ -39,17 +43,63 @@ public class PrincipalController {
     /** Token JWT utilitzat per a l'autenticació de l'usuari. */
     String jwtToken;
 
-    private HttpClient httpClient;
     LoginClient loginClient;
 
+    /** Servei que avisa dels canvis d'estat dels esdeveniments de les properes 48 hores. */
+    EventStatusMonitor statusMonitor;
+
+    /** Panell que es mostra al contenidor de la vista. */
+    private PanelHost panels;
+
     /**
-     * Mètode que s'executa en crear el controlador i que inicialitza la variable HttpClient.
+     * Mètode que s'executa en crear el controlador, que inicialitza el client de login i posa en
+     * marxa la vigilància de l'estat dels esdeveniments.
      */
     @FXML
     protected void initialize() {
-        httpClient = HttpClient.newHttpClient();
         loginClient = new LoginClient();
         jwtToken = TokenSingleton.getInstance().getJwtToken();
+        panels = new PanelHost(anch_princ_main);
+
+        statusMonitor = new EventStatusMonitor();
+        statusMonitor.addListener(change -> Platform.runLater(() -> notifyStatusChange(change)));
+        statusMonitor.start(EventStatusMonitor.DEFAULT_PERIOD);
+    }
+
+    /**
+     * Mostra una notificació amb el canvi d'estat d'un esdeveniment. Si el nivell d'alerta puja,
+     * la notificació és d'avís.
+     *
+     * @param change El canvi detectat pel monitor.
+     */
+    private void notifyStatusChange(EventStatusMonitor.StatusChange change) {
+        StringBuilder text = new StringBuilder();
+        if (change.alertLevelChanged()) {
+            text.append("Nivell d'alerta: ").append(change.previous().alertLevel())
+                    .append(" -> ").append(change.current().alertLevel()).append('\n');
+        }
+        if (change.measuresChanged()) {
+            text.append("Mesures de prevenció:\n").append(String.join("\n", change.current().measures()));
+        }
+
+        Notifications notification = Notifications.create()
+                .title("Esdeveniment " + change.event().getId() + " - " + change.event().getNom())
+                .text(text.toString().trim());
+        if (change.current().alertLevel() > change.previous().alertLevel()) {
+            notification.showWarning();
+        } else {
+            notification.showInformation();
+        }
+    }
+
+    /**
+     * Atura la vigilància de l'estat dels esdeveniments i allibera el panell que es mostra.
+     * S'executa quan s'amaga la finestra.
+     */
+    @Override
+    public void dispose() {
+        statusMonitor.stop();
+        panels.dispose();
     }
 
     /**
@@ -238,25 +288,25 @@ public class PrincipalController {
     void onPrevisioButtonClick(ActionEvent event) {loadPanel((PathsViews.AEMET_FORECAST_VIEW));    }
 
     /**
-     * Carrega un nou panell.
+     * Gestiona l'esdeveniment del botó per veure el rendiment de les peticions al servidor i a l'Aemet.
+     *
+     * @param event L'esdeveniment del botó.
+     */
+    @FXML
+    void onDiagnosticButtonClick(ActionEvent event) {
+        loadPanel(PathsViews.DIAGNOSTICS_VIEW);
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-            Node content = fxmlLoader.load();
-
-            anch_princ_main.getChildren().clear();
-            anch_princ_main.getChildren().add(content);
-
-            AnchorPane.setTopAnchor(content, 0.0);
-            AnchorPane.setBottomAnchor(content, 0.0);
-            AnchorPane.setLeftAnchor(content, 0.0);
-            AnchorPane.setRightAnchor(content, 0.0);
-
+            panels.load(path);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,19 @@
 package controllers.principal;
 
+import controllers.Disposable;
+import controllers.PanelHost;
 import controllers.event.EventListController;
 import controllers.user.UserManagementController;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import model.tokenSingleton.TokenSingleton;
-import model.model.User;
-import model.crud.CrudUser;
 import model.login.LoginClient;
 import utilities.PathsViews;
 
 import java.io.IOException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 
@@ -25,10 +22,12 @@ import java.net.http.HttpResponse;
  * per als usuaris estàndard. En aquesta classe es gestionen les interaccions amb els
  * botons per a visualitzar la llista i l'estat dels esdeveniments.
  *
+ * En tancar la finestra, per qualsevol camí, s'allibera el panell que es mostra.
+ *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class PrincipalStandardController {
+public class PrincipalStandardController implements Disposable {
 
     /** Contenidor de la vista. */
     @FXML
@@ -40,19 +39,29 @@ public class PrincipalStandardController {
     /** Token JWT utilitzat per a l'autenticació de l'usuari. */
     String jwtToken;
 
-    private HttpClient httpClient;
     private HttpRequest httpRequest;
     private HttpResponse<String> response;
     private LoginClient loginClient;
 
+    /** Panell que es mostra al contenidor de la vista. */
+    private PanelHost panels;
+
     /**
-     * Mètode que s'executa en crear el controlador i que inicialitza la variable HttpClient.
+     * Mètode que s'executa en crear el controlador i que inicialitza el client de login.
      */
     @FXML
     protected void initialize() {
-        httpClient = HttpClient.newHttpClient();
         loginClient = new LoginClient();
         jwtToken = TokenSingleton.getInstance().getJwtToken();
+        panels = new PanelHost(anch_princStandard_main);
+    }
+
+    /**
+     * Allibera el panell que es mostra. S'executa quan s'amaga la finestra.
+     */
+    @Override
+    public void dispose() {
+        panels.dispose();
     }
 
     /**
@@ -103,37 +112,25 @@ public class PrincipalStandardController {
     }
 
     /**
-     * Carrega un nou panell.
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-            Node content = fxmlLoader.load();
-
             if(path.equals(PathsViews.USER_MANAGEMENT_VIEW)){
-                CrudUser crudUser = new CrudUser();
-                User user = crudUser.getUserById(TokenSingleton.getInstance().getId());
-                UserManagementController controller = fxmlLoader.getController();
-                controller.setUser(user);
+                UserManagementController controller = panels.load(path);
                 controller.getBtn_user_management_delete().setVisible(false);
                 controller.getBtn_user_management_save().setVisible(false);
+                controller.loadUser(TokenSingleton.getInstance().getId());
             }else if(path.equals(PathsViews.EVENT_LIST_VIEW)){
-                EventListController controller = fxmlLoader.getController();
+                EventListController controller = panels.load(path);
                 controller.getBtn_event_list_delete().setVisible(false);
+            }else{
+                panels.load(path);
             }
-
-            anch_princStandard_main.getChildren().clear();
-            anch_princStandard_main.getChildren().add(content);
-
-            AnchorPane.setTopAnchor(content, 0.0);
-            AnchorPane.setBottomAnchor(content, 0.0);
-            AnchorPane.setLeftAnchor(content, 0.0);
-            AnchorPane.setRightAnchor(content, 0.0);
-
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,22 @@
 package controllers.user;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.AnchorPane;
 import model.tokenSingleton.TokenSingleton;
 import model.model.User;
 import model.crud.CrudUser;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
 import java.io.IOException;
-import java.net.http.HttpClient;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la interfície d'usuari de la llista d'usuaris.
@@ -23,7 +26,7 @@ import java.util.List;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class UserListController {
+public class UserListController implements Disposable {
 
     /** Constant per gestionar que s'ha seleccionat un usuari. */
     private static final String RESPONSE_NULL = "Has de seleccionar un usuari.";
@@ -41,21 +44,26 @@ public class UserListController {
 
     private static final String PATH = PathsViews.USER_MANAGEMENT_VIEW;
 
-    private HttpClient httpClient;
     private String jwtToken;
     private List<User> list;
     private CrudUser crudUser;
 
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
-    protected void initialize() throws Exception {
+    protected void initialize() {
+        panels = new PanelHost(anch_user_list);
         jwtToken = TokenSingleton.getInstance().getJwtToken();
         lbl_response_list_user.setText("");
         crudUser = new CrudUser();
-        list = requestUsers();
-        loadList(list);
+        refreshList();
     }
 
     /**
@@ -64,22 +72,24 @@ public class UserListController {
      * @param event l'esdeveniment de clic associat al botó.
      */
     @FXML
-    protected void onDeleteButtonClick(ActionEvent event) throws Exception {
+    protected void onDeleteButtonClick(ActionEvent event) {
         lbl_response_list_user.setText("");
 
         User selectedUser = list_users.getSelectionModel().getSelectedItem();
 
         if(selectedUser != null){
             String id = selectedUser.getID();
-            String status = crudUser.deleteUser(id);
-
-            if(status.equals("Usuari esborrat correctament")){
-                list_users.getItems().clear();
-                list = requestUsers();
-                loadList(list);
-            }else{
-                lbl_response_list_user.setText(status);
-            }
+            io.track(crudUser.deleteUserAsync(id))
+                    .whenCompleteAsync((status, error) -> {
+                        if (error != null) {
+                            showError(error);
+                        } else if (status.equals("Usuari esborrat correctament")) {
+                            list.remove(selectedUser);
+                            list_users.getItems().remove(selectedUser);
+                        } else {
+                            lbl_response_list_user.setText(status);
+                        }
+                    }, fx);
         }else{
             lbl_response_list_user.setText(RESPONSE_NULL);
         }
@@ -106,37 +116,72 @@ public class UserListController {
         return crudUser.getAllUsers();
     }
 
+    /**
+     * Demana la llista d'usuaris sense bloquejar la interfície i la carrega al ListView
+     * quan arriba la resposta. Mentrestant es mostra la còpia del magatzem local. Si la petició
+     * falla, es manté aquesta còpia i es mostra l'error a l'etiqueta de resposta.
+     */
+    private void refreshList() {
+        CompletableFuture<List<User>> request = io.track(crudUser.getAllUsersAsync());
+        if (!request.isDone()) {
+            io.supply(crudUser::getStoredUsers)
+                    .thenAcceptAsync(stored -> {
+                        if (list == null && (!request.isDone() || request.isCompletedExceptionally())) {
+                            list = stored;
+                            loadList(list);
+                        }
+                    }, fx);
+        }
+        request
+                .whenCompleteAsync((items, error) -> {
+                    if (error != null) {
+                        showError(error);
+                    } else {
+                        list = items;
+                        list_users.getItems().clear();
+                        loadList(list);
+                    }
+                }, fx);
+    }
+
+    /**
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response_list_user.setText(IoScope.unwrap(error).getMessage());
+    }
+
     /**
      * Mètode encarregat de carregat el listview amb els usuaris retornats per
      * la base de dades.
      *
      * @param list llista d'objectes user retornada per la base de dades.
      */
-    private void loadList(List<User> list) throws Exception {
+    private void loadList(List<User> list) {
         list_users.getItems().addAll(list);
     }
 
     /**
-     * Carrega un nou panell.
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-        Node content = fxmlLoader.load();
-
         User selectedUser = list_users.getSelectionModel().getSelectedItem();
 
-        UserManagementController controller = fxmlLoader.getController();
+        UserManagementController controller = panels.load(path);
         controller.setUser(selectedUser);
-
-        anch_user_list.getChildren().clear();
-        anch_user_list.getChildren().add(content);
-
-        AnchorPane.setTopAnchor(content, 0.0);
-        AnchorPane.setBottomAnchor(content, 0.0);
-        AnchorPane.setLeftAnchor(content, 0.0);
-        AnchorPane.setRightAnchor(content, 0.0);
     }
 
     /**
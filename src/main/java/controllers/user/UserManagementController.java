@@ -1,5 +1,7 @@
 package controllers.user;
 
+import controllers.Disposable;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -7,8 +9,11 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import model.model.User;
 import model.crud.CrudUser;
+import model.httpClient.IoExecutor;
+import model.httpClient.IoScope;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la gestió dels esdeveniments de la vista de gestió dels treballadors
@@ -18,7 +23,7 @@ import java.util.Date;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class UserManagementController {
+public class UserManagementController implements Disposable {
 
     /**
      * Constant amb el missatge d'error quan es produeix un problema durant la petició.
@@ -112,6 +117,9 @@ public class UserManagementController {
     private User user;
     private CrudUser crudUser;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
@@ -131,9 +139,8 @@ public class UserManagementController {
         lbl_user_response.setText("");
 
         if(user != null){
-            String response = crudUser.deleteUser(user.getID());
-            lbl_user_response.setText(response);
-            cleanUser();
+            String id = user.getID();
+            send(() -> crudUser.deleteUser(id), this::cleanUser);
         }else{
             lbl_user_response.setText(ERROR);
         }
@@ -148,8 +155,8 @@ public class UserManagementController {
     void onSaveButtonClick(ActionEvent event) throws Exception {
         lbl_user_response.setText("");
         saveUser();
-        String response = crudUser.createUser(user);
-        lbl_user_response.setText(response);
+        User toSave = user;
+        send(() -> crudUser.createUser(toSave));
     }
 
     /**
@@ -162,13 +169,65 @@ public class UserManagementController {
         lbl_user_response.setText("");
         saveUser();
         if(user != null){
-            String response = crudUser.updateUser(user);
-            lbl_user_response.setText(response);
+            User toSave = user;
+            send(() -> crudUser.updateUser(toSave));
         }else{
             lbl_user_response.setText(ERROR);
         }
     }
 
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície i en mostra la resposta.
+     *
+     * @param request La petició.
+     */
+    private void send(IoExecutor.IoCall<String> request) {
+        send(request, () -> {});
+    }
+
+    /**
+     * Envia una petició al servidor sense bloquejar la interfície, en mostra la resposta i després
+     * executa una acció sobre la vista.
+     *
+     * @param request La petició.
+     * @param then Acció que s'executa al fil de la interfície després de mostrar la resposta.
+     */
+    private void send(IoExecutor.IoCall<String> request, Runnable then) {
+        io.supply(request)
+                .whenCompleteAsync((response, error) -> {
+                    if (error != null) {
+                        lbl_user_response.setText(IoScope.unwrap(error).getMessage());
+                    } else {
+                        lbl_user_response.setText(response);
+                        then.run();
+                    }
+                }, fx);
+    }
+
+    /**
+     * Demana un usuari al servidor sense bloquejar la interfície i el mostra quan arriba.
+     *
+     * @param id L'identificador de l'usuari.
+     */
+    public void loadUser(String id) {
+        io.supply(() -> crudUser.getUserById(id))
+                .whenCompleteAsync((found, error) -> {
+                    if (error != null) {
+                        lbl_user_response.setText(IoScope.unwrap(error).getMessage());
+                    } else {
+                        setUser(found);
+                    }
+                }, fx);
+    }
+
+    /**
+     * Cancel·la les peticions pendents del panell.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+    }
+
     /**
      * Estableix l'usuari actual i inicialitza els camps de la interfície d'usuari
      * amb les dades de l'usuari proporcionat.
@@ -1,17 +1,20 @@
 package controllers.user;
 
+import controllers.Disposable;
+import controllers.PanelHost;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import model.tokenSingleton.TokenSingleton;
 import model.model.User;
 import model.crud.CrudUser;
+import model.httpClient.IoScope;
 import utilities.PathsViews;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 
 /**
  * Controlador per a la funcionalitat de cerca d'usuaris.
@@ -21,7 +24,7 @@ import java.io.IOException;
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
-public class UserSearchController {
+public class UserSearchController implements Disposable {
 
     /** Cadena de text que representa el valor de cerca introduït per l'usuari. */
     private String search;
@@ -49,11 +52,18 @@ public class UserSearchController {
     private CrudUser crudUser;
     private User user;
 
+    private final IoScope io = new IoScope();
+    private final Executor fx = io.guard(Platform::runLater);
+
+    /** Subpanell que es mostra dins d'aquest panell. */
+    private PanelHost panels;
+
     /**
      * Mètode que s'executa en crear el controlador.
      */
     @FXML
     protected void initialize() throws Exception {
+        panels = new PanelHost(anch_user_search);
         jwtToken = TokenSingleton.getInstance().getJwtToken();
         crudUser = new CrudUser();
     }
@@ -108,36 +118,49 @@ public class UserSearchController {
         if (attribute.isEmpty() || search.isEmpty()) {
             lbl_response.setText("Has d'introduïr l'atribut i el valor a buscar");
         } else {
-            user = crudUser.getUserById(search);
-            if(user!=null){
-                loadPanel(PathsViews.USER_MANAGEMENT_VIEW);
-            }else{
-                lbl_response.setText("Usuari no trobat");
-            }
+            String id = search;
+            io.supply(() -> crudUser.getUserById(id))
+                    .whenCompleteAsync((found, error) -> {
+                        if (error != null) {
+                            showError(error);
+                        } else if (found != null) {
+                            user = found;
+                            loadPanel(PathsViews.USER_MANAGEMENT_VIEW);
+                        } else {
+                            lbl_response.setText("Usuari no trobat");
+                        }
+                    }, fx);
         }
     }
 
     /**
-     * Carrega un nou panell.
+     * Mostra a l'etiqueta de resposta el motiu d'un error d'una petició asíncrona.
+     *
+     * @param error L'error amb què s'ha completat la petició.
+     */
+    private void showError(Throwable error) {
+        lbl_response.setText(IoScope.unwrap(error).getMessage());
+    }
+
+    /**
+     * Cancel·la les peticions pendents del panell i allibera el subpanell que conté.
+     */
+    @Override
+    public void dispose() {
+        io.close();
+        panels.dispose();
+    }
+
+    /**
+     * Carrega un nou panell. El panell anterior s'allibera i les seves peticions pendents es cancel·len.
      *
      * @param path El camí de la vista a carregar.
      */
     private void loadPanel(String path) {
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(path));
-            Node content = fxmlLoader.load();
-
-            UserManagementController controller = fxmlLoader.getController();
+            UserManagementController controller = panels.load(path);
             controller.setUser(user);
 
-            anch_user_search.getChildren().clear();
-            anch_user_search.getChildren().add(content);
-
-            AnchorPane.setTopAnchor(content, 0.0);
-            AnchorPane.setBottomAnchor(content, 0.0);
-            AnchorPane.setLeftAnchor(content, 0.0);
-            AnchorPane.setRightAnchor(content, 0.0);
-
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -0,0 +1,74 @@
+package model.aemet;
+
+/**
+ * Error retornat per l'API de l'Aemet.
+ *
+ * Guarda el codi d'estat HTTP i, si la resposta el porta, el camp "estado" del JSON, que l'Aemet
+ * fa servir per indicar errors com el 404 (municipi sense dades) o el 429 (quota superada)
+ * encara que la resposta HTTP sigui correcta.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class AemetException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Codi que indica que el valor no es coneix. */
+    public static final int UNKNOWN = -1;
+
+    private final int statusCode;
+    private final int estado;
+
+    /**
+     * @param message Missatge de l'error.
+     * @param statusCode Codi d'estat HTTP de la resposta.
+     * @param estado Camp "estado" de la resposta, o UNKNOWN si no n'hi ha.
+     */
+    public AemetException(String message, int statusCode, int estado) {
+        super(message);
+        this.statusCode = statusCode;
+        this.estado = estado;
+    }
+
+    /**
+     * @return El codi d'estat HTTP de la resposta.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return El camp "estado" de la resposta, o UNKNOWN si no n'hi ha.
+     */
+    public int getEstado() {
+        return estado;
+    }
+
+    /**
+     * @return El codi que descriu millor l'error: el camp "estado" si n'hi ha i, si no, l'estat HTTP.
+     */
+    public int getEffectiveStatus() {
+        return estado != UNKNOWN ? estado : statusCode;
+    }
+
+    /**
+     * Indica si l'error és temporal i val la pena tornar a provar la petició: quota superada (429)
+     * o error del servidor (5xx).
+     *
+     * @return true si la petició es pot repetir.
+     */
+    public boolean isRetryable() {
+        int status = getEffectiveStatus();
+        return status == 429 || status >= 500;
+    }
+
+    /**
+     * Indica si l'Aemet no té dades del municipi demanat.
+     *
+     * @return true si l'error és un 404.
+     */
+    public boolean isNotFound() {
+        return getEffectiveStatus() == 404;
+    }
+}
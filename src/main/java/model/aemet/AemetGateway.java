@@ -0,0 +1,219 @@
+package model.aemet;
+
+import model.httpClient.CircuitBreaker;
+import model.httpClient.IoExecutor;
+import model.httpClient.TokenBucket;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Punt d'accés a l'API de l'Aemet que controla el ritme i els errors de les peticions.
+ *
+ * Abans de cada predicció es consulta la cache; si no hi és, la petició passa per:
+ * <ul>
+ *     <li>Un limitador "token bucket" perquè el conjunt de l'aplicació no superi la quota de l'Aemet.</li>
+ *     <li>Reintents amb espera exponencial i variació aleatòria quan l'Aemet retorna 429 o un error 5xx,
+ *     o quan falla la connexió.</li>
+ *     <li>Un interruptor de circuit que, després de diverses fallades seguides, rebutja les peticions
+ *     durant un temps en lloc de continuar insistint.</li>
+ * </ul>
+ * Els comptadors d'ús es poden consultar amb getMetrics().
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class AemetGateway {
+
+    /** Valors per defecte de la configuració. */
+    public static final int DEFAULT_BURST = 20;
+    public static final int DEFAULT_REQUESTS_PER_MINUTE = 120;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(500);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(8);
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    /** Cada predicció fa dues crides a l'API: la petició inicial i la descàrrega de les dades. */
+    private static final int CALLS_PER_FORECAST = 2;
+
+    /** Missatge quan el circuit està obert. */
+    public static final String CIRCUIT_OPEN = "El servei de l'Aemet no està disponible temporalment";
+
+    /** Instància compartida, perquè la quota és comuna a tota l'aplicació. */
+    private static final AemetGateway instance = new AemetGateway();
+
+    private final AemetRequest aemetRequest;
+    private final TokenBucket tokenBucket;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+
+    /**
+     * Constructor per defecte amb el client HTTP i la cache compartits de l'aplicació.
+     */
+    public AemetGateway() {
+        this(new AemetRequest(),
+                new TokenBucket(DEFAULT_BURST, DEFAULT_REQUESTS_PER_MINUTE, Duration.ofMinutes(1)),
+                new CircuitBreaker(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION),
+                DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Constructor que permet injectar les peticions i configurar el control de ritme i errors.
+     *
+     * @param aemetRequest Objecte que fa les peticions individuals.
+     * @param tokenBucket Limitador de peticions.
+     * @param circuitBreaker Interruptor de circuit.
+     * @param maxRetries Nombre màxim de reintents per predicció.
+     * @param baseDelay Espera abans del primer reintent; es dobla a cada reintent.
+     * @param maxDelay Espera màxima entre reintents.
+     */
+    public AemetGateway(AemetRequest aemetRequest, TokenBucket tokenBucket, CircuitBreaker circuitBreaker,
+                        int maxRetries, Duration baseDelay, Duration maxDelay) {
+        this.aemetRequest = aemetRequest;
+        this.tokenBucket = tokenBucket;
+        this.circuitBreaker = circuitBreaker;
+        this.maxRetries = maxRetries;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * Mètode estàtic per obtenir el punt d'accés compartit de l'aplicació.
+     *
+     * @return La instància compartida d'AemetGateway.
+     */
+    public static AemetGateway getInstance() {
+        return instance;
+    }
+
+    /**
+     * Obté la predicció horària d'un municipi.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @return El JSON de la predicció.
+     * @throws AemetException Si l'Aemet retorna un error que no es resol amb reintents o el circuit està obert.
+     * @throws IOException Si la connexió continua fallant després dels reintents.
+     * @throws InterruptedException Si el fil s'interromp durant una espera.
+     */
+    public String forecast(String codiMunicipi) throws AemetException, IOException, InterruptedException {
+        requests.increment();
+        String cached = aemetRequest.getForecastCache().get(codiMunicipi);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            if (!circuitBreaker.allowRequest()) {
+                rejected.increment();
+                throw new AemetException(CIRCUIT_OPEN, AemetException.UNKNOWN, AemetException.UNKNOWN);
+            }
+            boolean settled = false;
+            try {
+                throttledNanos.add(tokenBucket.acquire(CALLS_PER_FORECAST));
+                String json = aemetRequest.fetchForecast(codiMunicipi);
+                settled = true;
+                circuitBreaker.onSuccess();
+                successes.increment();
+                return json;
+            } catch (AemetException e) {
+                settled = true;
+                if (!e.isRetryable()) {
+                    // L'API ha respost correctament: l'error és de la petició, no del servei
+                    circuitBreaker.onSuccess();
+                    failures.increment();
+                    throw e;
+                }
+                circuitBreaker.onFailure();
+                if (attempt >= maxRetries) {
+                    failures.increment();
+                    throw e;
+                }
+            } catch (IOException e) {
+                settled = true;
+                circuitBreaker.onFailure();
+                if (attempt >= maxRetries) {
+                    failures.increment();
+                    throw e;
+                }
+            } finally {
+                if (!settled) {
+                    // Una interrupció o un error inesperat no diuen res de l'estat del servei
+                    circuitBreaker.release();
+                }
+            }
+            retries.increment();
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * Obté la predicció horària d'un municipi en un fil virtual, sense bloquejar el fil que la demana.
+     * Cancel·lar el futur interromp la petició i les esperes entre reintents.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @return Un CompletableFuture amb el JSON de la predicció, o completat amb l'error de forecast().
+     */
+    public CompletableFuture<String> forecastAsync(String codiMunicipi) {
+        return IoExecutor.supply(() -> forecast(codiMunicipi));
+    }
+
+    /**
+     * Espera abans d'un reintent. L'espera es dobla a cada intent fins al màxim i es tria a l'atzar
+     * entre la meitat i el total, perquè diversos fils no repeteixin la petició alhora.
+     *
+     * @param attempt El número d'intent que acaba de fallar, començant per 0.
+     * @throws InterruptedException Si el fil s'interromp durant l'espera.
+     */
+    private void backoff(int attempt) throws InterruptedException {
+        long delay = Math.min(maxDelayNanos, baseDelayNanos << Math.min(attempt, 30));
+        if (delay <= 0) {
+            return;
+        }
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        Thread.sleep(jittered / 1_000_000, (int) (jittered % 1_000_000));
+    }
+
+    /**
+     * @return Una còpia dels comptadors d'ús actuals.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(requests.sum(), cacheHits.sum(), successes.sum(), failures.sum(), retries.sum(),
+                rejected.sum(), Duration.ofNanos(throttledNanos.sum()), circuitBreaker.getState());
+    }
+
+    /**
+     * @return L'objecte que fa les peticions individuals.
+     */
+    public AemetRequest getAemetRequest() {
+        return aemetRequest;
+    }
+
+    /**
+     * Comptadors d'ús del punt d'accés.
+     *
+     * @param requests Prediccions demanades.
+     * @param cacheHits Prediccions servides des de la cache.
+     * @param successes Prediccions obtingudes de l'Aemet.
+     * @param failures Prediccions que han acabat amb error.
+     * @param retries Reintents fets.
+     * @param rejected Prediccions rebutjades perquè el circuit estava obert.
+     * @param throttled Temps total esperant el limitador.
+     * @param circuitState Estat actual de l'interruptor de circuit.
+     */
+    public record Metrics(long requests, long cacheHits, long successes, long failures, long retries,
+                          long rejected, Duration throttled, CircuitBreaker.State circuitState) {}
+}
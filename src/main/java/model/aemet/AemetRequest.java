@@ -1,8 +1,11 @@
 package model.aemet;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.net.URI;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.metrics.EndpointMetrics;
+import model.metrics.Metrics;
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -22,27 +25,45 @@ public class AemetRequest {
             "TUsInVzZXJJZCI6IjRiOTU5YzU5LTUyYTEtNDQxNS05OWRhLWY2NmUzYjRiNmQwMSIsInJvbGUiOiIifQ.2kzhhHwQVc2f0TNBOb7" +
             "CnjMx5z7tsNdxxAzI9SY75C4";
 
+    /** Camps i missatges de la primera resposta de l'Aemet. */
+    private static final String ESTADO = "estado";
+    private static final String DESCRIPCION = "descripcion";
+    private static final String DATOS = "datos";
+    private static final String NO_DATA = "Error al obtener los datos";
+    private static final String AEMET_ERROR = "Error en la resposta de la Aemet";
+
     private HttpClient httpClient;
-    private HttpResponse<String> response;
-    private HttpRequest request;
+    private ForecastCache forecastCache;
 
     /**
-     * Constructor per defecte que inicialitza el client HTTP.
+     * Constructor per defecte que fa servir el client HTTP i la cache de prediccions compartits de l'aplicació.
      */
     public AemetRequest() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(HttpClientSingleton.getInstance().getHttpClient(), ForecastCache.getInstance());
     }
 
     /**
-     * Constructor per fer les proves.
+     * Constructor per fer les proves. Fa servir una cache de prediccions pròpia.
      */
     public AemetRequest(HttpClient httpClient) {
+        this(httpClient, new ForecastCache());
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP i la cache de prediccions.
+     *
+     * @param httpClient Client http per fer les peticions a l'Aemet.
+     * @param forecastCache Cache on es guarden les prediccions vigents.
+     */
+    public AemetRequest(HttpClient httpClient, ForecastCache forecastCache) {
         this.httpClient = httpClient;
+        this.forecastCache = forecastCache;
     }
 
     /**
      * Realitza una sol·licitud a l'API d'AEMET per obtenir la predicció horària d'un municipi
-     * específic identificat pel seu codi.
+     * específic identificat pel seu codi. Si la cache té una predicció vigent del municipi,
+     * es retorna sense fer cap petició.
      *
      * @param codiMunicipi El codi del municipi per al qual es vol obtenir la predicció.
      * @return Una cadena amb les dades de la predicció en format JSON o retorna un missatge d'error.
@@ -53,38 +74,67 @@ public class AemetRequest {
             return "El codi del municipi no pot ser nul o buit";
         }
 
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URL + codiMunicipi + AEMET_TOKEN))
+        try {
+            return fetchForecast(codiMunicipi);
+        } catch (AemetException e) {
+            if (NO_DATA.equals(e.getMessage())) {
+                return "El codi del municipi és incorrecte";
+            }
+            return "Error en la resposta de la Aemet";
+        }
+    }
+
+    /**
+     * Obté la predicció horària d'un municipi. A diferència d'aemetForecastRequest, els errors de
+     * l'Aemet es llancen com a AemetException amb el codi d'estat, per poder decidir si cal repetir la petició.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @return El JSON de la predicció.
+     * @throws AemetException Si l'Aemet retorna un error.
+     * @throws IOException Si falla la connexió o la resposta no és JSON.
+     * @throws InterruptedException Si el fil s'interromp durant la petició.
+     */
+    public String fetchForecast(String codiMunicipi) throws AemetException, IOException, InterruptedException {
+        String cached = forecastCache.get(codiMunicipi);
+        if (cached != null) {
+            return cached;
+        }
+
+        HttpRequest request = HttpClientSingleton.getInstance().newRequest(URL + codiMunicipi + AEMET_TOKEN)
                 .GET()
                 .header("cache-control", "no-cache")
                 .build();
 
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if(response.statusCode()==200){
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(response.body());
-            if(jsonNode.get("descripcion").asText().equals("Error al obtener los datos")){
-                return "El codi del municipi és incorrecte";
-            }
-            String data = jsonNode.get("datos").asText();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new AemetException(AEMET_ERROR, response.statusCode(), AemetException.UNKNOWN);
+        }
 
-            request = HttpRequest.newBuilder()
-                    .uri(URI.create(data))
-                    .GET()
-                    .header("cache-control", "no-cache")
-                    .build();
+        long parseStart = System.nanoTime();
+        JsonNode jsonNode = JsonUtil.readTree(response.body());
+        Metrics.getInstance().endpoint(request).record(EndpointMetrics.Phase.PARSE, System.nanoTime() - parseStart);
+        int estado = jsonNode.path(ESTADO).asInt(AemetException.UNKNOWN);
+        String descripcion = jsonNode.path(DESCRIPCION).asText();
+        if (NO_DATA.equals(descripcion)) {
+            // L'Aemet respon així quan el municipi no té dades, sovint sense indicar l'estado
+            throw new AemetException(NO_DATA, response.statusCode(), estado != AemetException.UNKNOWN ? estado : 404);
+        }
+        if (!jsonNode.hasNonNull(DATOS) || (estado != AemetException.UNKNOWN && estado != 200)) {
+            throw new AemetException(descripcion.isEmpty() ? AEMET_ERROR : descripcion, response.statusCode(), estado);
+        }
 
-            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpRequest dataRequest = HttpClientSingleton.getInstance().newRequest(jsonNode.get(DATOS).asText())
+                .GET()
+                .header("cache-control", "no-cache")
+                .build();
 
-            if(response.statusCode()==200){
-                return response.body();
-            }else{
-                return "Error en la resposta de la Aemet";
-            }
-        }else{
-            return "Error en la resposta de la Aemet";
+        HttpResponse<String> dataResponse = httpClient.send(dataRequest, HttpResponse.BodyHandlers.ofString());
+        if (dataResponse.statusCode() != 200) {
+            throw new AemetException(AEMET_ERROR, dataResponse.statusCode(), AemetException.UNKNOWN);
         }
+
+        forecastCache.put(codiMunicipi, dataResponse.body());
+        return dataResponse.body();
     }
 
     /**
@@ -96,6 +146,15 @@ public class AemetRequest {
         return httpClient;
     }
 
+    /**
+     * Obté la cache de prediccions d'aquesta instància.
+     *
+     * @return La cache on es guarden les prediccions vigents.
+     */
+    public ForecastCache getForecastCache() {
+        return forecastCache;
+    }
+
     /**
      * Estableix un client HTTP personalitzat per a aquesta instància.
      *
@@ -0,0 +1,189 @@
+package model.aemet;
+
+/**
+ * Avaluació massiva dels nivells d'alerta sobre totes les hores d'una predicció.
+ *
+ * Aplica les taules de llindars d'un perfil d'AlertRuleEngine (per defecte, les mateixes que AlertLevel)
+ * sobre arrays de valors horaris i en una sola passada. Les taules es resolen una vegada abans del bucle
+ * i cada nivell es calcula amb AlertRule, sense assignar memòria ni salts condicionals per a les taules curtes.
+ *
+ * Els resultats es poden obtenir per separat (un byte per hora i tipus d'alerta) o empaquetats en un
+ * int per hora, amb 4 bits per a cada tipus d'alerta. Les hores sense dada (ForecastModel.MISSING o NaN)
+ * tenen nivell 0.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class AlertEvaluator {
+
+    /** Tipus d'alerta, en l'ordre en què s'empaqueten. */
+    public enum Alert { AVERAGE_WIND, MAX_WIND, RAIN, SNOW, HIGH_TEMPERATURE, LOW_TEMPERATURE }
+
+    /** Bits que ocupa cada nivell dins del valor empaquetat. */
+    private static final int BITS = 4;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int ALERTS = Alert.values().length;
+
+    private AlertEvaluator() {}
+
+    /**
+     * Calcula totes les alertes de cada hora d'una predicció amb el perfil per defecte.
+     *
+     * @param forecast La predicció.
+     * @return Un int per hora (índex dia * 24 + hora) amb els nivells empaquetats.
+     */
+    public static int[] evaluate(ForecastModel forecast) {
+        return evaluate(forecast, defaultProfile());
+    }
+
+    /**
+     * Calcula totes les alertes de cada hora d'una predicció amb les taules d'un perfil.
+     *
+     * @param forecast La predicció.
+     * @param profile Les taules de llindars.
+     * @return Un int per hora (índex dia * 24 + hora) amb els nivells empaquetats.
+     */
+    public static int[] evaluate(ForecastModel forecast, AlertRuleSet.Profile profile) {
+        return evaluate(forecast.windAverageSeries(), forecast.windMaxSeries(), forecast.rainSeries(),
+                forecast.snowSeries(), forecast.temperatureSeries(), profile);
+    }
+
+    /**
+     * Calcula totes les alertes de cada hora a partir de les sèries horàries. Totes les sèries han de
+     * tenir la mateixa longitud.
+     *
+     * @param windAverage Velocitat mitjana del vent.
+     * @param windMax Ratxa màxima de vent.
+     * @param rain Precipitació.
+     * @param snow Neu.
+     * @param temperature Temperatura.
+     * @param profile Les taules de llindars.
+     * @return Un int per hora amb els nivells empaquetats.
+     */
+    public static int[] evaluate(int[] windAverage, int[] windMax, float[] rain, float[] snow, int[] temperature,
+                                 AlertRuleSet.Profile profile) {
+        int length = windAverage.length;
+        if (windMax.length != length || rain.length != length || snow.length != length
+                || temperature.length != length) {
+            throw new IllegalArgumentException("Totes les sèries han de tenir la mateixa longitud");
+        }
+
+        AlertRule averageWindRule = profile.rule(Alert.AVERAGE_WIND);
+        AlertRule maxWindRule = profile.rule(Alert.MAX_WIND);
+        AlertRule rainRule = profile.rule(Alert.RAIN);
+        AlertRule snowRule = profile.rule(Alert.SNOW);
+        AlertRule highTemperatureRule = profile.rule(Alert.HIGH_TEMPERATURE);
+        AlertRule lowTemperatureRule = profile.rule(Alert.LOW_TEMPERATURE);
+
+        int[] packed = new int[length];
+        for (int i = 0; i < length; i++) {
+            int t = temperature[i];
+            packed[i] = level(averageWindRule, windAverage[i])
+                    | level(maxWindRule, windMax[i]) << shift(Alert.MAX_WIND)
+                    | level(rainRule, rain[i]) << shift(Alert.RAIN)
+                    | level(snowRule, snow[i]) << shift(Alert.SNOW)
+                    | level(highTemperatureRule, t) << shift(Alert.HIGH_TEMPERATURE)
+                    | level(lowTemperatureRule, t) << shift(Alert.LOW_TEMPERATURE);
+        }
+        return packed;
+    }
+
+    /**
+     * Calcula el nivell d'alerta d'un tipus per a totes les hores amb el perfil per defecte.
+     *
+     * @param values Els valors horaris.
+     * @param alert El tipus d'alerta.
+     * @return Un byte per hora amb el nivell.
+     */
+    public static byte[] levels(int[] values, Alert alert) {
+        return levels(values, defaultProfile().rule(alert));
+    }
+
+    /**
+     * Calcula el nivell d'alerta d'un tipus per a totes les hores amb el perfil per defecte.
+     *
+     * @param values Els valors horaris.
+     * @param alert El tipus d'alerta.
+     * @return Un byte per hora amb el nivell.
+     */
+    public static byte[] levels(float[] values, Alert alert) {
+        return levels(values, defaultProfile().rule(alert));
+    }
+
+    /**
+     * Calcula el nivell d'alerta de totes les hores amb una taula de llindars.
+     *
+     * @param values Els valors horaris.
+     * @param rule La taula de llindars.
+     * @return Un byte per hora amb el nivell.
+     */
+    public static byte[] levels(int[] values, AlertRule rule) {
+        byte[] levels = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            levels[i] = (byte) level(rule, values[i]);
+        }
+        return levels;
+    }
+
+    /**
+     * Calcula el nivell d'alerta de totes les hores amb una taula de llindars.
+     *
+     * @param values Els valors horaris.
+     * @param rule La taula de llindars.
+     * @return Un byte per hora amb el nivell.
+     */
+    public static byte[] levels(float[] values, AlertRule rule) {
+        byte[] levels = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            levels[i] = (byte) level(rule, values[i]);
+        }
+        return levels;
+    }
+
+    /**
+     * @param packed Els nivells empaquetats d'una hora.
+     * @param alert El tipus d'alerta.
+     * @return El nivell d'aquest tipus d'alerta.
+     */
+    public static int level(int packed, Alert alert) {
+        return packed >>> shift(alert) & MASK;
+    }
+
+    /**
+     * @param packed Els nivells empaquetats d'una hora.
+     * @return El nivell més alt de tots els tipus d'alerta.
+     */
+    public static int maxLevel(int packed) {
+        int max = 0;
+        for (int shift = 0; shift < ALERTS * BITS; shift += BITS) {
+            max = Math.max(max, packed >>> shift & MASK);
+        }
+        return max;
+    }
+
+    /**
+     * @param rule La taula de llindars.
+     * @param value Un valor enter de la predicció.
+     * @return El nivell del valor, o 0 si és ForecastModel.MISSING.
+     */
+    private static int level(AlertRule rule, int value) {
+        return rule.level(value) * (value != ForecastModel.MISSING ? 1 : 0);
+    }
+
+    /**
+     * @param rule La taula de llindars.
+     * @param value Un valor decimal de la predicció.
+     * @return El nivell del valor, o 0 si és NaN.
+     */
+    private static int level(AlertRule rule, float value) {
+        return rule.level(value) * (value == value ? 1 : 0);
+    }
+
+    private static AlertRuleSet.Profile defaultProfile() {
+        return AlertRuleEngine.getInstance().getRules().defaultProfile();
+    }
+
+    private static int shift(Alert alert) {
+        return alert.ordinal() * BITS;
+    }
+}
@@ -0,0 +1,146 @@
+package model.aemet;
+
+import java.util.Arrays;
+
+/**
+ * Taula de llindars compilada per calcular el nivell d'alerta d'una variable.
+ *
+ * El nivell és 1 més el nombre de llindars superats. Cada llindar porta el seu operador: ">" o ">="
+ * per a les variables on l'alerta augmenta amb el valor (vent, pluja, calor) i "<" o "<=" per a les
+ * que augmenta quan el valor baixa (fred). Totes les comparacions d'una taula han d'anar en el mateix
+ * sentit i els llindars han d'estar ordenats de menys a més sever.
+ *
+ * En compilar-la, cada comparació es converteix en "valor * signe > límit": els operadors inclusius
+ * s'ajusten al float anterior o següent i les taules descendents es giren canviant el signe. Així
+ * els límits queden en un únic array ordenat i el nivell es calcula sense cap assignació de memòria,
+ * comptant els límits superats (taules curtes) o amb una cerca binària (taules llargues).
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public final class AlertRule {
+
+    /** Fins a aquesta mida es compten els límits sense salts; a partir d'aquí es fa cerca binària. */
+    private static final int LINEAR_LIMIT = 8;
+
+    private final float[] bounds;
+    private final float sign;
+    private final String spec;
+
+    /**
+     * @param bounds Límits ascendents sobre el valor multiplicat pel signe.
+     * @param sign 1 per a taules ascendents, -1 per a les descendents.
+     * @param spec La definició original, per mostrar-la.
+     */
+    private AlertRule(float[] bounds, float sign, String spec) {
+        this.bounds = bounds;
+        this.sign = sign;
+        this.spec = spec;
+    }
+
+    /**
+     * Compila una taula a partir de la seva definició, per exemple "&gt;10, &gt;14, &gt;18, &gt;22" o
+     * "&lt;=5, &lt;2, &lt;0, &lt;-5".
+     *
+     * @param spec Els llindars separats per comes, cadascun amb el seu operador.
+     * @return La taula compilada.
+     * @throws IllegalArgumentException Si la definició no és vàlida.
+     */
+    public static AlertRule parse(String spec) {
+        String[] parts = spec.split(",");
+        float[] bounds = new float[parts.length];
+        int direction = 0;
+
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            boolean ascending = part.startsWith(">");
+            if (!ascending && !part.startsWith("<")) {
+                throw new IllegalArgumentException("Falta l'operador al llindar \"" + part + "\" de \"" + spec + "\"");
+            }
+            boolean inclusive = part.length() > 1 && part.charAt(1) == '=';
+            float value;
+            try {
+                value = Float.parseFloat(part.substring(inclusive ? 2 : 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("El llindar \"" + part + "\" de \"" + spec + "\" no és un número");
+            }
+
+            int partDirection = ascending ? 1 : -1;
+            if (direction != 0 && direction != partDirection) {
+                throw new IllegalArgumentException("Els llindars de \"" + spec + "\" barregen operadors > i <");
+            }
+            direction = partDirection;
+
+            // v >= t equival a v > nextDown(t), i v <= t a -v > -nextUp(t)
+            if (ascending) {
+                bounds[i] = inclusive ? Math.nextDown(value) : value;
+            } else {
+                bounds[i] = -(inclusive ? Math.nextUp(value) : value);
+            }
+            if (i > 0 && bounds[i] < bounds[i - 1]) {
+                throw new IllegalArgumentException("Els llindars de \"" + spec + "\" no estan ordenats");
+            }
+        }
+        return new AlertRule(bounds, direction, spec.trim());
+    }
+
+    /**
+     * Calcula el nivell d'alerta d'un valor.
+     *
+     * @param value El valor a avaluar.
+     * @return El nivell, d'1 al nombre de llindars més 1. Un NaN dóna nivell 1.
+     */
+    public int level(float value) {
+        float v = value * sign;
+        float[] bounds = this.bounds;
+        if (bounds.length <= LINEAR_LIMIT) {
+            int level = 1;
+            for (float bound : bounds) {
+                level += v > bound ? 1 : 0;
+            }
+            return level;
+        }
+        // Nombre de límits estrictament menors que v
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] < v) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return 1 + low;
+    }
+
+    /**
+     * @param value El valor a avaluar.
+     * @return El nivell d'alerta del valor.
+     */
+    public int level(int value) {
+        return level((float) value);
+    }
+
+    /**
+     * @return El nivell més alt que pot retornar la taula.
+     */
+    public int maxLevel() {
+        return bounds.length + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AlertRule other && sign == other.sign && Arrays.equals(bounds, other.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bounds) + Float.hashCode(sign);
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
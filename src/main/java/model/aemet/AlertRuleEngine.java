@@ -0,0 +1,179 @@
+package model.aemet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.function.LongSupplier;
+
+/**
+ * Motor de regles d'alerta: guarda les taules de llindars vigents i les recarrega quan canvien.
+ *
+ * Les taules per defecte es llegeixen del recurs alert-rules.properties. Si s'indica un fitxer de
+ * regles extern, les seves taules substitueixen les del recurs i el fitxer es torna a llegir quan
+ * canvia la data de modificació, sense reiniciar l'aplicació. La comprovació de la data es fa com a
+ * molt una vegada per interval, de manera que consultar les regles a cada hora avaluada no toca el disc.
+ *
+ * Si el fitxer extern té errors, es manté el darrer conjunt de regles vàlid.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class AlertRuleEngine {
+
+    /** Recurs amb les regles per defecte, al mateix paquet que aquesta classe. */
+    private static final String RESOURCE = "alert-rules.properties";
+
+    /** Interval mínim entre dues comprovacions de la data del fitxer extern. */
+    public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    /** Instància compartida per tota l'aplicació. */
+    private static final AlertRuleEngine instance = new AlertRuleEngine(loadDefaults(), System::nanoTime);
+
+    private final Properties defaults;
+    private final LongSupplier nanoClock;
+    private long checkIntervalNanos = DEFAULT_CHECK_INTERVAL.toNanos();
+
+    private volatile AlertRuleSet rules;
+    private volatile long nextCheck;
+    private volatile Path rulesFile;
+    private long rulesFileModified;
+
+    /**
+     * @param defaults Les regles per defecte.
+     * @param nanoClock Rellotge per limitar les comprovacions del fitxer extern.
+     */
+    AlertRuleEngine(Properties defaults, LongSupplier nanoClock) {
+        this.defaults = defaults;
+        this.nanoClock = nanoClock;
+        this.rules = AlertRuleSet.parse(defaults);
+    }
+
+    /**
+     * Mètode estàtic per obtenir el motor de regles compartit.
+     *
+     * @return La instància compartida d'AlertRuleEngine.
+     */
+    public static AlertRuleEngine getInstance() {
+        return instance;
+    }
+
+    /**
+     * Retorna les regles vigents. Si hi ha un fitxer extern i ha passat l'interval de comprovació,
+     * abans es mira si ha canviat.
+     *
+     * @return Les regles vigents.
+     */
+    public AlertRuleSet getRules() {
+        if (rulesFile != null && nanoClock.getAsLong() - nextCheck >= 0) {
+            reloadIfChanged();
+        }
+        return rules;
+    }
+
+    /**
+     * @param profile Nom del perfil (tipus d'esdeveniment o regió), o null per al perfil per defecte.
+     * @return Les taules vigents del perfil.
+     */
+    public AlertRuleSet.Profile profile(String profile) {
+        return getRules().profile(profile);
+    }
+
+    /**
+     * Indica un fitxer de regles extern i el llegeix. Si el fitxer encara no existeix, es continuen
+     * fent servir les regles per defecte fins que es creï.
+     *
+     * @param file El fitxer de regles, o null per tornar a les regles per defecte.
+     * @throws IllegalArgumentException Si el fitxer té errors.
+     * @throws UncheckedIOException Si no es pot llegir el fitxer.
+     */
+    public synchronized void setRulesFile(Path file) {
+        rulesFile = file;
+        rulesFileModified = 0;
+        if (file == null) {
+            rules = AlertRuleSet.parse(defaults);
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * @param interval Interval mínim entre dues comprovacions del fitxer extern.
+     */
+    public synchronized void setCheckInterval(Duration interval) {
+        checkIntervalNanos = interval.toNanos();
+        nextCheck = nanoClock.getAsLong();
+    }
+
+    /**
+     * Torna a llegir el fitxer extern si la seva data de modificació ha canviat.
+     *
+     * @return true si s'han carregat regles noves.
+     */
+    public synchronized boolean reloadIfChanged() {
+        nextCheck = nanoClock.getAsLong() + checkIntervalNanos;
+        if (rulesFile == null) {
+            return false;
+        }
+        long modified;
+        try {
+            modified = Files.isRegularFile(rulesFile) ? Files.getLastModifiedTime(rulesFile).toMillis() : 0;
+        } catch (IOException e) {
+            return false;
+        }
+        if (modified == rulesFileModified) {
+            return false;
+        }
+        try {
+            reload();
+            return true;
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            // No es torna a provar fins que el fitxer es torni a modificar
+            rulesFileModified = modified;
+            System.err.println("No s'han pogut recarregar les regles d'alerta: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Llegeix el fitxer extern sobre les regles per defecte i, si és vàlid, el fa vigent.
+     */
+    private void reload() {
+        nextCheck = nanoClock.getAsLong() + checkIntervalNanos;
+        Properties properties = new Properties();
+        properties.putAll(defaults);
+        long modified = 0;
+        if (Files.isRegularFile(rulesFile)) {
+            try (Reader reader = Files.newBufferedReader(rulesFile, StandardCharsets.UTF_8)) {
+                modified = Files.getLastModifiedTime(rulesFile).toMillis();
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No s'ha pogut llegir " + rulesFile, e);
+            }
+        }
+        rules = AlertRuleSet.parse(properties);
+        rulesFileModified = modified;
+    }
+
+    /**
+     * @return Les regles del recurs per defecte.
+     */
+    static Properties loadDefaults() {
+        Properties properties = new Properties();
+        try (InputStream in = AlertRuleEngine.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("No s'ha trobat el recurs " + RESOURCE);
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No s'ha pogut llegir el recurs " + RESOURCE, e);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,172 @@
+package model.aemet;
+
+import model.aemet.AlertEvaluator.Alert;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Conjunt immutable de taules de llindars d'alerta, agrupades per perfils.
+ *
+ * Cada perfil correspon a un tipus d'esdeveniment o a una regió i té una taula per a cada tipus
+ * d'alerta. El perfil "default" ha de definir-les totes; els altres perfils només han d'indicar
+ * les taules que canvien i la resta les hereten del perfil per defecte.
+ *
+ * Les taules es llegeixen d'un fitxer de propietats amb una línia per perfil i alerta:
+ * <pre>
+ * default.average_wind = &gt;10, &gt;14, &gt;18, &gt;22
+ * muntanya.low_temperature = &lt;=0, &lt;-3, &lt;-8, &lt;-12
+ * </pre>
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public final class AlertRuleSet {
+
+    /** Nom del perfil per defecte. */
+    public static final String DEFAULT_PROFILE = "default";
+
+    /** Nivell màxim que cap en els 4 bits que AlertEvaluator reserva per a cada alerta. */
+    private static final int MAX_LEVEL = 15;
+
+    private final Map<String, Profile> profiles;
+    private final Profile defaultProfile;
+
+    /**
+     * @param profiles Els perfils per nom; ha d'incloure el perfil per defecte.
+     */
+    private AlertRuleSet(Map<String, Profile> profiles) {
+        this.profiles = Collections.unmodifiableMap(profiles);
+        this.defaultProfile = profiles.get(DEFAULT_PROFILE);
+    }
+
+    /**
+     * Compila les taules d'un fitxer de propietats.
+     *
+     * @param properties Les propietats, amb claus "perfil.alerta".
+     * @return El conjunt de taules compilat.
+     * @throws IllegalArgumentException Si alguna clau o taula no és vàlida o falta alguna taula per defecte.
+     */
+    public static AlertRuleSet parse(Properties properties) {
+        Map<String, AlertRule[]> tables = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.lastIndexOf('.');
+            if (dot <= 0) {
+                throw new IllegalArgumentException("La clau \"" + key + "\" ha de tenir el format perfil.alerta");
+            }
+            String profile = key.substring(0, dot).trim();
+            Alert alert;
+            try {
+                alert = Alert.valueOf(key.substring(dot + 1).trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("L'alerta de la clau \"" + key + "\" no existeix");
+            }
+            AlertRule rule = AlertRule.parse(properties.getProperty(key));
+            if (rule.maxLevel() > MAX_LEVEL) {
+                throw new IllegalArgumentException("La taula \"" + key + "\" té massa llindars");
+            }
+            tables.computeIfAbsent(profile, name -> new AlertRule[Alert.values().length])[alert.ordinal()] = rule;
+        }
+
+        AlertRule[] defaults = tables.get(DEFAULT_PROFILE);
+        if (defaults == null) {
+            throw new IllegalArgumentException("Falta el perfil " + DEFAULT_PROFILE);
+        }
+        for (Alert alert : Alert.values()) {
+            if (defaults[alert.ordinal()] == null) {
+                throw new IllegalArgumentException("Falta la taula " + DEFAULT_PROFILE + "."
+                        + alert.name().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        Map<String, Profile> profiles = new HashMap<>();
+        for (Map.Entry<String, AlertRule[]> entry : tables.entrySet()) {
+            AlertRule[] rules = entry.getValue();
+            for (int i = 0; i < rules.length; i++) {
+                if (rules[i] == null) {
+                    rules[i] = defaults[i];
+                }
+            }
+            profiles.put(entry.getKey(), new Profile(entry.getKey(), rules));
+        }
+        return new AlertRuleSet(profiles);
+    }
+
+    /**
+     * Retorna un perfil. Els perfils desconeguts fan servir el perfil per defecte.
+     *
+     * @param name El nom del perfil, o null per al perfil per defecte.
+     * @return El perfil.
+     */
+    public Profile profile(String name) {
+        if (name == null) {
+            return defaultProfile;
+        }
+        Profile profile = profiles.get(name);
+        return profile != null ? profile : defaultProfile;
+    }
+
+    /**
+     * @return El perfil per defecte.
+     */
+    public Profile defaultProfile() {
+        return defaultProfile;
+    }
+
+    /**
+     * @return Els noms de tots els perfils.
+     */
+    public Set<String> profileNames() {
+        return profiles.keySet();
+    }
+
+    /**
+     * Taules d'alerta d'un perfil, indexades pel tipus d'alerta.
+     */
+    public static final class Profile {
+
+        private final String name;
+        private final AlertRule[] rules;
+
+        private Profile(String name, AlertRule[] rules) {
+            this.name = name;
+            this.rules = rules;
+        }
+
+        /**
+         * @return El nom del perfil.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @param alert El tipus d'alerta.
+         * @return La taula de llindars d'aquest tipus d'alerta.
+         */
+        public AlertRule rule(Alert alert) {
+            return rules[alert.ordinal()];
+        }
+
+        /**
+         * @param alert El tipus d'alerta.
+         * @param value El valor a avaluar.
+         * @return El nivell d'alerta del valor.
+         */
+        public int level(Alert alert, float value) {
+            return rules[alert.ordinal()].level(value);
+        }
+
+        /**
+         * @param alert El tipus d'alerta.
+         * @param value El valor a avaluar.
+         * @return El nivell d'alerta del valor.
+         */
+        public int level(Alert alert, int value) {
+            return rules[alert.ordinal()].level(value);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package model.aemet;
+
+import model.httpClient.HttpClientSingleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Obté en paral·lel les prediccions horàries de molts municipis.
+ *
+ * Les peticions es fan amb un nombre limitat de tasques concurrents, cadascuna de les quals agafa el
+ * següent municipi pendent quan acaba l'anterior. Totes passen per AemetGateway, que s'encarrega
+ * de no superar la quota de l'Aemet i de repetir les peticions que fallen temporalment.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class ForecastBatch {
+
+    /** Valors per defecte de la configuració. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 6;
+
+    private final AemetGateway gateway;
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    /**
+     * Constructor per defecte amb el client HTTP i la cache compartits de l'aplicació.
+     */
+    public ForecastBatch() {
+        this(AemetGateway.getInstance(), HttpClientSingleton.getInstance().getExecutor(), DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Constructor que permet injectar les peticions i configurar la concurrència.
+     *
+     * @param gateway Punt d'accés que fa les peticions individuals.
+     * @param executor Executor on s'executen les peticions.
+     * @param maxConcurrency Nombre màxim de peticions simultànies.
+     */
+    public ForecastBatch(AemetGateway gateway, Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("La concurrència ha de ser com a mínim 1");
+        }
+        this.gateway = gateway;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Obté les prediccions dels municipis indicats i espera que acabin totes.
+     *
+     * @param codisMunicipi Els codis INE dels municipis. Els repetits es demanen una sola vegada i els nuls s'ignoren.
+     * @return Les prediccions obtingudes i els errors de cada municipi que ha fallat.
+     */
+    public Result fetchAll(Collection<String> codisMunicipi) {
+        return fetchAllAsync(codisMunicipi).join();
+    }
+
+    /**
+     * Obté les prediccions dels municipis indicats de forma asíncrona. El futur no falla mai:
+     * l'error de cada municipi es retorna a Result.failures().
+     *
+     * @param codisMunicipi Els codis INE dels municipis. Els repetits es demanen una sola vegada i els nuls s'ignoren.
+     * @return Un CompletableFuture amb les prediccions i els errors.
+     */
+    public CompletableFuture<Result> fetchAllAsync(Collection<String> codisMunicipi) {
+        List<String> codes = new ArrayList<>(new LinkedHashSet<>(codisMunicipi));
+        codes.removeIf(Objects::isNull);
+        Map<String, ForecastModel> forecasts = new ConcurrentHashMap<>();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        int workers = Math.min(maxConcurrency, codes.size());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                for (int index = next.getAndIncrement(); index < codes.size(); index = next.getAndIncrement()) {
+                    fetch(codes.get(index), forecasts, failures);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> new Result(
+                ordered(codes, forecasts), ordered(codes, failures)));
+    }
+
+    /**
+     * Obté la predicció d'un municipi i la guarda al mapa corresponent.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @param forecasts Prediccions obtingudes.
+     * @param failures Errors per municipi.
+     */
+    private void fetch(String codiMunicipi, Map<String, ForecastModel> forecasts, Map<String, String> failures) {
+        try {
+            forecasts.put(codiMunicipi, ForecastModel.fromJson(gateway.forecast(codiMunicipi)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(codiMunicipi, "Petició interrompuda");
+        } catch (Exception e) {
+            failures.put(codiMunicipi, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Copia els valors d'un mapa en l'ordre en què es van demanar els municipis.
+     *
+     * @param codes Els codis en l'ordre original.
+     * @param values Els valors per codi.
+     * @param <V> Tipus dels valors.
+     * @return Un mapa no modificable amb l'ordre original.
+     */
+    private static <V> Map<String, V> ordered(List<String> codes, Map<String, V> values) {
+        Map<String, V> result = new LinkedHashMap<>();
+        for (String code : codes) {
+            V value = values.get(code);
+            if (value != null) {
+                result.put(code, value);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Resultat d'una consulta de diversos municipis.
+     *
+     * @param forecasts Les prediccions obtingudes, per codi de municipi.
+     * @param failures El missatge d'error de cada municipi que ha fallat.
+     */
+    public record Result(Map<String, ForecastModel> forecasts, Map<String, String> failures) {}
+}
@@ -0,0 +1,354 @@
+package model.aemet;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import model.json.JsonUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Memòria cau de les prediccions horàries de l'Aemet, indexada pel codi INE del municipi.
+ *
+ * L'Aemet només elabora la predicció horària unes quantes vegades al dia, de manera que cada
+ * resposta es considera vàlida fins a l'hora d'elaboració ("elaborado") més l'interval d'actualització.
+ * Una resposta que ja ha superat aquest termini en arribar, o que no indica l'hora d'elaboració
+ * (per exemple, un missatge d'error), no es guarda.
+ *
+ * La cache té una mida màxima (s'expulsen les prediccions menys consultades) i, opcionalment,
+ * es pot guardar a disc per reaprofitar les prediccions entre sessions. Les prediccions expulsades
+ * s'esborren també del disc, i les caducades s'esborren en activar la persistència, de manera que
+ * el directori no creix més enllà de la mida màxima.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class ForecastCache {
+
+    /** Valors per defecte de la configuració. */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(6);
+    public static final int DEFAULT_MAX_ENTRIES = 200;
+
+    /** Zona horària de les hores d'elaboració de l'Aemet. */
+    private static final ZoneId AEMET_ZONE = ZoneId.of("Europe/Madrid");
+    private static final String ELABORADO = "elaborado";
+    private static final String FILE_EXTENSION = ".json";
+    /** Només es guarden a disc els codis INE vàlids, que també fan de nom de fitxer. */
+    private static final Pattern TOWN_CODE = Pattern.compile("\\d{5}");
+
+    /** Instància compartida per les peticions de l'aplicació. */
+    private static final ForecastCache instance = new ForecastCache();
+
+    private final Clock clock;
+    private final Duration refreshInterval;
+    private final int maxEntries;
+    private Path directory;
+
+    /** Prediccions en ordre d'accés, de la menys a la més consultada recentment. */
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * Crea una cache en memòria amb la configuració per defecte.
+     */
+    public ForecastCache() {
+        this(DEFAULT_REFRESH_INTERVAL, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Crea una cache en memòria amb l'interval d'actualització i la mida indicats.
+     *
+     * @param refreshInterval Temps durant el qual una predicció es considera vigent des que es va elaborar.
+     * @param maxEntries Nombre màxim de municipis guardats.
+     */
+    public ForecastCache(Duration refreshInterval, int maxEntries) {
+        this(refreshInterval, maxEntries, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor amb un rellotge injectable, útil per a les proves.
+     *
+     * @param refreshInterval Temps durant el qual una predicció es considera vigent des que es va elaborar.
+     * @param maxEntries Nombre màxim de municipis guardats.
+     * @param clock Rellotge per calcular la caducitat.
+     */
+    ForecastCache(Duration refreshInterval, int maxEntries, Clock clock) {
+        this.refreshInterval = refreshInterval;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= ForecastCache.this.maxEntries) {
+                    return false;
+                }
+                deleteFile(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Mètode estàtic per obtenir la cache compartida de l'aplicació.
+     *
+     * @return La instància compartida de ForecastCache.
+     */
+    public static ForecastCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Activa la persistència a disc. Cada predicció es guarda en un fitxer del directori indicat
+     * i, si no és a memòria, es busca al directori abans de demanar-la a l'Aemet. S'esborren del
+     * directori les prediccions caducades o que no es poden llegir.
+     *
+     * @param directory Directori on es guarden les prediccions.
+     * @throws IOException Si no es pot crear o llegir el directori.
+     */
+    public synchronized void enablePersistence(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.directory = directory;
+        prune();
+    }
+
+    /**
+     * Retorna la predicció guardada d'un municipi si encara és vigent.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @return El JSON de la predicció, o null si no n'hi ha cap de vigent.
+     */
+    public synchronized String get(String codiMunicipi) {
+        long now = clock.millis();
+        Entry entry = entries.get(codiMunicipi);
+        if (entry == null) {
+            entry = load(codiMunicipi);
+            if (entry == null) {
+                return null;
+            }
+            entries.put(codiMunicipi, entry);
+        }
+        if (entry.expiresAt() <= now) {
+            remove(codiMunicipi);
+            return null;
+        }
+        return entry.json();
+    }
+
+    /**
+     * Guarda la predicció d'un municipi si encara és vigent.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @param json El JSON de la predicció tal com l'ha retornat l'Aemet.
+     * @return true si s'ha guardat, false si la predicció ja havia caducat o no indica l'hora d'elaboració.
+     */
+    public synchronized boolean put(String codiMunicipi, String json) {
+        long expiresAt = expiresAt(json);
+        if (expiresAt <= clock.millis()) {
+            return false;
+        }
+        Entry entry = new Entry(json, expiresAt);
+        entries.put(codiMunicipi, entry);
+        store(codiMunicipi, entry);
+        return true;
+    }
+
+    /**
+     * Esborra la predicció d'un municipi, també del disc.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     */
+    public synchronized void remove(String codiMunicipi) {
+        entries.remove(codiMunicipi);
+        deleteFile(codiMunicipi);
+    }
+
+    /**
+     * Esborra totes les prediccions de memòria. Les guardades a disc es conserven per a la propera
+     * sessió, que esborrarà les que hagin caducat en activar la persistència.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Calcula fins quan és vigent una predicció a partir de la seva hora d'elaboració.
+     *
+     * @param json El JSON de la predicció.
+     * @return L'instant de caducitat en mil·lisegons, o 0 si no se sap quan es va elaborar.
+     */
+    private long expiresAt(String json) {
+        LocalDateTime elaborado = readElaborado(json);
+        if (elaborado == null) {
+            return 0;
+        }
+        return elaborado.atZone(AEMET_ZONE).toInstant().plus(refreshInterval).toEpochMilli();
+    }
+
+    /**
+     * Llegeix el camp "elaborado" del primer element de la resposta sense interpretar la resta del JSON.
+     *
+     * @param json El JSON de la predicció.
+     * @return L'hora d'elaboració, o null si no hi és o no té el format esperat.
+     */
+    private static LocalDateTime readElaborado(String json) {
+        try (JsonParser parser = JsonUtil.MAPPER.createParser(json)) {
+            int depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                } else if (token == JsonToken.FIELD_NAME && depth <= 2 && ELABORADO.equals(parser.currentName())) {
+                    parser.nextToken();
+                    return LocalDateTime.parse(parser.getText());
+                }
+            }
+        } catch (IOException | DateTimeParseException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Llegeix del disc la predicció d'un municipi. La primera línia del fitxer conté l'instant de
+     * caducitat i la resta el JSON.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @return L'entrada llegida, o null si no hi és o no es pot llegir.
+     */
+    private Entry load(String codiMunicipi) {
+        if (!isPersistent(codiMunicipi)) {
+            return null;
+        }
+        Path file = file(codiMunicipi);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long expiresAt = Long.parseLong(reader.readLine());
+            StringBuilder json = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                json.append(buffer, 0, read);
+            }
+            return new Entry(json.toString(), expiresAt);
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Esborra del directori les prediccions caducades, les que no es poden llegir i els fitxers
+     * temporals que hagi deixat una sessió tancada a mitges.
+     *
+     * @throws IOException Si no es pot llegir el directori.
+     */
+    private void prune() throws IOException {
+        long now = clock.millis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(FILE_EXTENSION)) {
+                    String codiMunicipi = name.substring(0, name.length() - FILE_EXTENSION.length());
+                    if (isPersistent(codiMunicipi) && readExpiresAt(file) <= now) {
+                        deleteFile(codiMunicipi);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Llegeix l'instant de caducitat de la primera línia d'un fitxer de predicció.
+     *
+     * @param file El fitxer de la predicció.
+     * @return L'instant de caducitat en mil·lisegons, o 0 si no es pot llegir.
+     */
+    private static long readExpiresAt(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return Long.parseLong(reader.readLine());
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Esborra del disc la predicció d'un municipi, si la persistència està activada.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     */
+    private void deleteFile(String codiMunicipi) {
+        if (!isPersistent(codiMunicipi)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file(codiMunicipi));
+        } catch (IOException e) {
+            System.err.println("No s'ha pogut esborrar la predicció de " + codiMunicipi + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda a disc la predicció d'un municipi, si la persistència està activada. S'escriu primer
+     * en un fitxer temporal perquè una sessió tancada a mitges no deixi un fitxer incomplet.
+     *
+     * @param codiMunicipi El codi INE del municipi.
+     * @param entry L'entrada a guardar.
+     */
+    private void store(String codiMunicipi, Entry entry) {
+        if (!isPersistent(codiMunicipi)) {
+            return;
+        }
+        try {
+            Path temp = Files.createTempFile(directory, codiMunicipi, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(Long.toString(entry.expiresAt()));
+                writer.newLine();
+                writer.write(entry.json());
+            }
+            Files.move(temp, file(codiMunicipi), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("No s'ha pogut guardar la predicció de " + codiMunicipi + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param codiMunicipi El codi INE del municipi.
+     * @return true si la persistència està activada i el codi es pot fer servir com a nom de fitxer.
+     */
+    private boolean isPersistent(String codiMunicipi) {
+        return directory != null && TOWN_CODE.matcher(codiMunicipi).matches();
+    }
+
+    /**
+     * @param codiMunicipi El codi INE del municipi.
+     * @return El fitxer on es guarda la predicció del municipi.
+     */
+    private Path file(String codiMunicipi) {
+        return directory.resolve(codiMunicipi + FILE_EXTENSION);
+    }
+
+    /**
+     * Predicció guardada amb el seu instant de caducitat.
+     *
+     * @param json El JSON de la predicció.
+     * @param expiresAt L'instant de caducitat en mil·lisegons.
+     */
+    private record Entry(String json, long expiresAt) {}
+}
@@ -0,0 +1,381 @@
+package model.aemet;
+
+import model.json.JsonUtil;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Model compacte d'una predicció horària de l'Aemet.
+ *
+ * Es construeix una sola vegada a partir de la resposta i guarda cada variable en un array primitiu
+ * ja convertit a int o float. Les variables horàries s'indexen per dia * 24 + hora i les que
+ * l'Aemet dona per franges de sis hores s'indexen per dia * 4 + franja, de manera que qualsevol
+ * consulta per data i hora és una lectura directa d'un array.
+ *
+ * Els valors que la resposta no inclou es representen amb MISSING (per als enters) o amb NaN
+ * (per als decimals). El model és immutable i es pot compartir entre fils.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class ForecastModel {
+
+    /** Valor dels camps enters que la predicció no inclou. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    /** Nombre d'hores per dia i de franges per dia. */
+    public static final int HOURS = 24;
+    public static final int SLOTS = 4;
+
+    /** Codis de les franges de sis hores, en l'ordre dels índexs. */
+    private static final String[] SLOT_PERIODS = {"0107", "0713", "1319", "1901"};
+
+    /** Valor de precipitació inapreciable. */
+    private static final String INAPPRECIABLE = "Ip";
+
+    private final LocalDate[] days;
+
+    /** Variables horàries (dia * 24 + hora). */
+    private final int[] windAverage;
+    private final int[] windMax;
+    private final float[] rain;
+    private final float[] snow;
+    private final int[] temperature;
+    private final int[] thermalSensation;
+    private final int[] relativeHumidity;
+
+    /** Variables per franges (dia * 4 + franja). */
+    private final int[] rainProbability;
+    private final int[] stormProbability;
+    private final int[] snowProbability;
+
+    /**
+     * Construeix el model a partir de la resposta de l'Aemet.
+     *
+     * @param response La predicció d'un municipi.
+     */
+    public ForecastModel(AemetResponse response) {
+        List<AemetResponse.Prediccion.Dia> dies = response.getPrediccion() != null
+                && response.getPrediccion().getDia() != null ? response.getPrediccion().getDia() : List.of();
+
+        int dayCount = dies.size();
+        days = new LocalDate[dayCount];
+        windAverage = missingInts(dayCount * HOURS);
+        windMax = missingInts(dayCount * HOURS);
+        rain = missingFloats(dayCount * HOURS);
+        snow = missingFloats(dayCount * HOURS);
+        temperature = missingInts(dayCount * HOURS);
+        thermalSensation = missingInts(dayCount * HOURS);
+        relativeHumidity = missingInts(dayCount * HOURS);
+        rainProbability = missingInts(dayCount * SLOTS);
+        stormProbability = missingInts(dayCount * SLOTS);
+        snowProbability = missingInts(dayCount * SLOTS);
+
+        for (int day = 0; day < dayCount; day++) {
+            AemetResponse.Prediccion.Dia dia = dies.get(day);
+            days[day] = parseDate(dia.getFecha());
+            int hourBase = day * HOURS;
+            int slotBase = day * SLOTS;
+
+            if (dia.getVientoAndRachaMax() != null) {
+                for (AemetResponse.Prediccion.Dia.Viento vent : dia.getVientoAndRachaMax()) {
+                    int hour = hourIndex(vent.getPeriodo());
+                    if (hour < 0) {
+                        continue;
+                    }
+                    if (vent.getVelocidad() != null && !vent.getVelocidad().isEmpty()) {
+                        windAverage[hourBase + hour] = parseInt(vent.getVelocidad().get(0));
+                    }
+                    if (vent.getValue() != null) {
+                        windMax[hourBase + hour] = parseInt(vent.getValue());
+                    }
+                }
+            }
+            if (dia.getPrecipitacion() != null) {
+                for (AemetResponse.Prediccion.Dia.Precipitacion precipitacio : dia.getPrecipitacion()) {
+                    setHourly(rain, hourBase, precipitacio.getPeriodo(), parseFloat(precipitacio.getValue()));
+                }
+            }
+            if (dia.getNieve() != null) {
+                for (AemetResponse.Prediccion.Dia.Nieve neu : dia.getNieve()) {
+                    setHourly(snow, hourBase, neu.getPeriodo(), parseFloat(neu.getValue()));
+                }
+            }
+            if (dia.getTemperatura() != null) {
+                for (AemetResponse.Prediccion.Dia.Temperatura temperatura : dia.getTemperatura()) {
+                    setHourly(temperature, hourBase, temperatura.getPeriodo(), parseInt(temperatura.getValue()));
+                }
+            }
+            if (dia.getSensTermica() != null) {
+                for (AemetResponse.Prediccion.Dia.sensTermica sensTermica : dia.getSensTermica()) {
+                    setHourly(thermalSensation, hourBase, sensTermica.getPeriodo(), parseInt(sensTermica.getValue()));
+                }
+            }
+            if (dia.getHumedadRelativa() != null) {
+                for (AemetResponse.Prediccion.Dia.humedadRelativa humitat : dia.getHumedadRelativa()) {
+                    setHourly(relativeHumidity, hourBase, humitat.getPeriodo(), parseInt(humitat.getValue()));
+                }
+            }
+            if (dia.getProbPrecipitacion() != null) {
+                for (AemetResponse.Prediccion.Dia.Probabilidad probabilitat : dia.getProbPrecipitacion()) {
+                    setSlot(rainProbability, slotBase, probabilitat.getPeriodo(), parseInt(probabilitat.getValue()));
+                }
+            }
+            if (dia.getProbTormenta() != null) {
+                for (AemetResponse.Prediccion.Dia.ProbTormenta tempesta : dia.getProbTormenta()) {
+                    setSlot(stormProbability, slotBase, tempesta.getPeriodo(), tempesta.getValue());
+                }
+            }
+            if (dia.getProbNieve() != null) {
+                for (AemetResponse.Prediccion.Dia.probNieve probNeu : dia.getProbNieve()) {
+                    setSlot(snowProbability, slotBase, probNeu.getPeriodo(), parseInt(probNeu.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Construeix el model a partir del JSON retornat per AemetRequest.
+     *
+     * @param json La resposta de l'Aemet (un array amb la predicció del municipi).
+     * @return El model de la primera predicció de la resposta.
+     * @throws IOException Si el JSON no té el format esperat.
+     */
+    public static ForecastModel fromJson(String json) throws IOException {
+        List<AemetResponse> responses = JsonUtil.read(JsonUtil.AEMET_RESPONSE_LIST_READER, json);
+        if (responses.isEmpty()) {
+            throw new IOException("La resposta de l'Aemet no conté cap predicció");
+        }
+        return new ForecastModel(responses.get(0));
+    }
+
+    /**
+     * Retorna la franja de sis hores a la qual pertany una hora, amb el mateix criteri que l'Aemet:
+     * de 01 a 06 franja 0, de 07 a 12 franja 1, de 13 a 18 franja 2 i de 19 a 00 franja 3.
+     *
+     * @param hour L'hora, de 0 a 23.
+     * @return L'índex de la franja.
+     */
+    public static int slot(int hour) {
+        return hour == 0 ? SLOTS - 1 : (hour - 1) / 6;
+    }
+
+    /**
+     * @return El nombre de dies de la predicció.
+     */
+    public int getDayCount() {
+        return days.length;
+    }
+
+    /**
+     * @param day L'índex del dia.
+     * @return La data del dia.
+     */
+    public LocalDate getDate(int day) {
+        return days[day];
+    }
+
+    /**
+     * Busca l'índex del dia d'una data. La predicció horària només té uns pocs dies.
+     *
+     * @param date La data buscada.
+     * @return L'índex del dia, o -1 si la predicció no inclou aquesta data.
+     */
+    public int dayIndex(LocalDate date) {
+        for (int day = 0; day < days.length; day++) {
+            if (date.equals(days[day])) {
+                return day;
+            }
+        }
+        return -1;
+    }
+
+    /** @return La velocitat mitjana del vent, o MISSING. */
+    public int getWindAverage(int day, int hour) {
+        return windAverage[day * HOURS + hour];
+    }
+
+    /** @return La ratxa màxima de vent, o MISSING. */
+    public int getWindMax(int day, int hour) {
+        return windMax[day * HOURS + hour];
+    }
+
+    /** @return La precipitació en mm, o NaN. */
+    public float getRain(int day, int hour) {
+        return rain[day * HOURS + hour];
+    }
+
+    /** @return La neu en mm, o NaN. */
+    public float getSnow(int day, int hour) {
+        return snow[day * HOURS + hour];
+    }
+
+    /** @return La temperatura, o MISSING. */
+    public int getTemperature(int day, int hour) {
+        return temperature[day * HOURS + hour];
+    }
+
+    /** @return La sensació tèrmica, o MISSING. */
+    public int getThermalSensation(int day, int hour) {
+        return thermalSensation[day * HOURS + hour];
+    }
+
+    /** @return La humitat relativa, o MISSING. */
+    public int getRelativeHumidity(int day, int hour) {
+        return relativeHumidity[day * HOURS + hour];
+    }
+
+    /** @return La probabilitat de pluja de la franja de l'hora indicada, o MISSING. */
+    public int getRainProbability(int day, int hour) {
+        return rainProbability[day * SLOTS + slot(hour)];
+    }
+
+    /** @return La probabilitat de tempesta de la franja de l'hora indicada, o MISSING. */
+    public int getStormProbability(int day, int hour) {
+        return stormProbability[day * SLOTS + slot(hour)];
+    }
+
+    /** @return La probabilitat de nevada de la franja de l'hora indicada, o MISSING. */
+    public int getSnowProbability(int day, int hour) {
+        return snowProbability[day * SLOTS + slot(hour)];
+    }
+
+    /*
+     * Accés directe a les sèries horàries per a l'avaluació massiva d'alertes. Els arrays no s'han
+     * de modificar.
+     */
+
+    int[] windAverageSeries() {
+        return windAverage;
+    }
+
+    int[] windMaxSeries() {
+        return windMax;
+    }
+
+    float[] rainSeries() {
+        return rain;
+    }
+
+    float[] snowSeries() {
+        return snow;
+    }
+
+    int[] temperatureSeries() {
+        return temperature;
+    }
+
+    /**
+     * Converteix el codi d'una hora ("00" a "23") en l'índex de l'hora.
+     *
+     * @param periodo El període de la resposta.
+     * @return L'hora, o -1 si el període no és una hora.
+     */
+    private static int hourIndex(String periodo) {
+        if (periodo == null || periodo.length() != 2) {
+            return -1;
+        }
+        int hour = parseInt(periodo);
+        return hour >= 0 && hour < HOURS ? hour : -1;
+    }
+
+    /**
+     * Converteix el codi d'una franja ("0107", "0713", "1319" o "1901") en l'índex de la franja.
+     *
+     * @param periodo El període de la resposta.
+     * @return L'índex de la franja, o -1 si el període no és una franja.
+     */
+    private static int slotIndex(String periodo) {
+        for (int slot = 0; slot < SLOT_PERIODS.length; slot++) {
+            if (SLOT_PERIODS[slot].equals(periodo)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static void setHourly(int[] values, int base, String periodo, int value) {
+        int hour = hourIndex(periodo);
+        if (hour >= 0) {
+            values[base + hour] = value;
+        }
+    }
+
+    private static void setHourly(float[] values, int base, String periodo, float value) {
+        int hour = hourIndex(periodo);
+        if (hour >= 0) {
+            values[base + hour] = value;
+        }
+    }
+
+    private static void setSlot(int[] values, int base, String periodo, int value) {
+        int slot = slotIndex(periodo);
+        if (slot >= 0) {
+            values[base + slot] = value;
+        }
+    }
+
+    /**
+     * @param value El valor de la resposta.
+     * @return El valor com a enter, o MISSING si no és un número.
+     */
+    private static int parseInt(String value) {
+        if (value == null) {
+            return MISSING;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * @param value El valor de la resposta.
+     * @return El valor com a decimal, 0 si és inapreciable ("Ip"), o NaN si no és un número.
+     */
+    private static float parseFloat(String value) {
+        if (value == null) {
+            return Float.NaN;
+        }
+        if (INAPPRECIABLE.equals(value)) {
+            return 0;
+        }
+        try {
+            return Float.parseFloat(value.trim());
+        } catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+    }
+
+    /**
+     * @param fecha La data de la resposta ("2024-12-16T00:00:00").
+     * @return La data, o null si no té el format esperat.
+     */
+    private static LocalDate parseDate(String fecha) {
+        if (fecha == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(fecha).toLocalDate();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static int[] missingInts(int length) {
+        int[] values = new int[length];
+        Arrays.fill(values, MISSING);
+        return values;
+    }
+
+    private static float[] missingFloats(int length) {
+        float[] values = new float[length];
+        Arrays.fill(values, Float.NaN);
+        return values;
+    }
+}
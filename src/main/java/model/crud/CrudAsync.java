@@ -0,0 +1,315 @@
+package model.crud;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import model.encryption.CipherUtil;
+import model.httpClient.IoExecutor;
+import model.json.JsonUtil;
+import model.metrics.EndpointMetrics;
+import model.metrics.Metrics;
+import model.metrics.TimingInputStream;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utilitats compartides per les versions asíncrones dels mètodes CRUD.
+ * Permet fer servir dins de les etapes d'un CompletableFuture els mètodes que llancen
+ * excepcions comprovades (xifrat, lectura de JSON...).
+ *
+ * També desxifra i llegeix les respostes, enregistrant a Metrics el temps de cada fase per separat.
+ *
+ * Les peticions s'envien amb send(): cancel·lar qualsevol etapa que en depengui (thenApply,
+ * thenCompose...) cancel·la també la petició HTTP, i en el cas de thenCompose() també la petició
+ * que ha començat la continuació, de manera que un panell que es tanca no deixa peticions orfes
+ * en curs. Per encadenar peticions a partir d'un futur que no ve de send() es fa servir compose().
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+class CrudAsync {
+
+    private CrudAsync() {}
+
+    /**
+     * Funció que pot llançar qualsevol excepció.
+     *
+     * @param <T> Tipus de l'entrada.
+     * @param <R> Tipus del resultat.
+     */
+    @FunctionalInterface
+    interface ThrowingFunction<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    /**
+     * Acció que construeix un valor i pot llançar qualsevol excepció.
+     *
+     * @param <R> Tipus del resultat.
+     */
+    @FunctionalInterface
+    interface ThrowingSupplier<R> {
+        R get() throws Exception;
+    }
+
+    /**
+     * Converteix una funció amb excepcions comprovades en una Function, embolcallant
+     * l'excepció en una CompletionException perquè el futur es completi amb error.
+     *
+     * @param function La funció original.
+     * @param <T> Tipus de l'entrada.
+     * @param <R> Tipus del resultat.
+     * @return Una Function equivalent.
+     */
+    static <T, R> Function<T, R> unchecked(ThrowingFunction<T, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (CompletionException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    /**
+     * Executa la preparació d'una petició i, si falla, retorna un futur ja completat amb l'error.
+     *
+     * @param supplier La preparació de la petició.
+     * @param next La continuació asíncrona amb el valor preparat.
+     * @param <T> Tipus del valor preparat.
+     * @param <R> Tipus del resultat del futur.
+     * @return El futur de la continuació o un futur fallit.
+     */
+    static <T, R> CompletableFuture<R> prepare(ThrowingSupplier<T> supplier, Function<T, CompletableFuture<R>> next) {
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return next.apply(value);
+    }
+
+    /**
+     * Envia una petició de forma asíncrona. Cancel·lar el futur retornat, o qualsevol etapa creada
+     * a partir d'ell, avorta la petició.
+     *
+     * @param client El client HTTP.
+     * @param request La petició.
+     * @param handler El gestor del cos de la resposta.
+     * @param <T> Tipus del cos de la resposta.
+     * @return El futur de la resposta.
+     */
+    static <T> CompletableFuture<HttpResponse<T>> send(HttpClient client, HttpRequest request,
+                                                       HttpResponse.BodyHandler<T> handler) {
+        return CancellableFuture.of(client.sendAsync(request, handler));
+    }
+
+    /**
+     * Encadena una continuació asíncrona a un futur qualsevol. Cancel·lar el futur retornat, o qualsevol
+     * etapa que en depengui, cancel·la el primer futur i el que ha retornat la continuació.
+     *
+     * @param first El primer futur, per exemple un resultat de la cache ja completat.
+     * @param next La continuació, que normalment envia una altra petició.
+     * @param <T> Tipus del resultat del primer futur.
+     * @param <U> Tipus del resultat final.
+     * @return El futur del resultat de la continuació.
+     */
+    static <T, U> CompletableFuture<U> compose(CompletableFuture<T> first,
+                                               Function<? super T, ? extends CompletionStage<U>> next) {
+        return CancellableFuture.of(first).thenCompose(next);
+    }
+
+    /**
+     * Desxifra el cos d'una resposta i n'enregistra el temps.
+     *
+     * @param response La resposta amb el cos xifrat.
+     * @return El cos desxifrat.
+     * @throws Exception Si el cos no es pot desxifrar.
+     */
+    static String decrypt(HttpResponse<String> response) throws Exception {
+        return Metrics.getInstance().endpoint(response.request())
+                .time(EndpointMetrics.Phase.DECRYPT, () -> CipherUtil.decrypt(response.body()));
+    }
+
+    /**
+     * Llegeix el JSON d'una resposta i n'enregistra el temps.
+     *
+     * @param response La resposta.
+     * @param call La lectura del JSON.
+     * @param <T> Tipus del resultat.
+     * @return El valor llegit.
+     * @throws Exception Si el JSON no es pot llegir.
+     */
+    static <T> T parse(HttpResponse<?> response, IoExecutor.IoCall<T> call) throws Exception {
+        return Metrics.getInstance().endpoint(response.request()).time(EndpointMetrics.Phase.PARSE, call);
+    }
+
+    /**
+     * Llegeix l'entitat que retorna el servidor en confirmar una creació, si n'hi retorna cap.
+     *
+     * @param response La resposta de la creació.
+     * @param bodyReader El lector del camp "body" de la resposta.
+     * @param <T> Tipus de l'entitat.
+     * @return L'entitat creada, o null si la resposta només porta un missatge o no es pot llegir.
+     */
+    static <T> T readCreated(HttpResponse<String> response, ObjectReader bodyReader) {
+        String body = response.body();
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            String decrypted = decrypt(response);
+            return parse(response, () -> JsonUtil.readBody(bodyReader, decrypted));
+        } catch (Exception e) {
+            // La creació ja s'ha fet: sense l'entitat només cal tornar a demanar la llista
+            return null;
+        }
+    }
+
+    /**
+     * Desxifra i llegeix en streaming un array JSON. Com que la xarxa, el desxifrat i la lectura
+     * s'alternen, el temps de cada fase es mesura amb un TimingInputStream a cada capa.
+     *
+     * @param request La petició de la resposta, per identificar el punt d'accés.
+     * @param body El cos xifrat de la resposta.
+     * @param reader El lector de cada element.
+     * @param consumer El consumidor de cada element.
+     * @param <T> Tipus dels elements.
+     * @throws Exception Si el cos no es pot desxifrar o llegir.
+     */
+    static <T> void readEncryptedArray(HttpRequest request, InputStream body, ObjectReader reader,
+                                       Consumer<T> consumer) throws Exception {
+        EndpointMetrics metrics = Metrics.getInstance().endpoint(request);
+        long start = System.nanoTime();
+        // MeteredHttpClient ja lliura el cos com a TimingInputStream
+        TimingInputStream network = body instanceof TimingInputStream timing ? timing : new TimingInputStream(body);
+        try {
+            TimingInputStream decrypted = new TimingInputStream(CipherUtil.decryptingStream(network));
+            JsonUtil.readArray(decrypted, reader, consumer);
+            metrics.recordStream(network, decrypted, System.nanoTime() - start);
+        } catch (Exception e) {
+            metrics.recordError();
+            throw e;
+        }
+    }
+
+    /**
+     * Futur que, en cancel·lar-se, cancel·la també l'etapa de la qual depèn, i així successivament
+     * fins a l'operació original. Les etapes que en depenen són del mateix tipus. Les etapes creades
+     * amb thenCompose() recorden a més el futur que ha retornat la continuació i també el cancel·len.
+     *
+     * @param <T> Tipus del resultat.
+     */
+    static final class CancellableFuture<T> extends CompletableFuture<T> {
+
+        private final Future<?> source;
+
+        /** Futur retornat per la continuació de thenCompose() que completa aquesta etapa, si n'hi ha. */
+        private volatile Inner inner;
+
+        CancellableFuture(Future<?> source) {
+            this.source = source;
+        }
+
+        /**
+         * Embolcalla un futur perquè cancel·lar-lo, o qualsevol etapa que en depengui, el cancel·li.
+         *
+         * @param future El futur original.
+         * @param <T> Tipus del resultat.
+         * @return El mateix futur si ja era cancel·lable, o un de nou que es completa amb el seu resultat.
+         */
+        static <T> CancellableFuture<T> of(CompletableFuture<T> future) {
+            if (future instanceof CancellableFuture<T> cancellable) {
+                return cancellable;
+            }
+            CancellableFuture<T> result = new CancellableFuture<>(future);
+            future.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new CancellableFuture<>(this);
+        }
+
+        @Override
+        public <U> CompletableFuture<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+            Inner stage = new Inner();
+            return linked(super.thenCompose(value -> stage.set(fn.apply(value))), stage);
+        }
+
+        @Override
+        public <U> CompletableFuture<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+            Inner stage = new Inner();
+            return linked(super.thenComposeAsync(value -> stage.set(fn.apply(value))), stage);
+        }
+
+        @Override
+        public <U> CompletableFuture<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn,
+                                                         Executor executor) {
+            Inner stage = new Inner();
+            return linked(super.thenComposeAsync(value -> stage.set(fn.apply(value)), executor), stage);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            // Primer aquesta etapa, perquè quedi cancel·lada i no fallida per la cancel·lació de l'original
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            source.cancel(mayInterruptIfRunning);
+            Inner stage = inner;
+            if (stage != null) {
+                stage.cancel();
+            }
+            return cancelled;
+        }
+
+        /** Associa a l'etapa creada per thenCompose() el futur de la seva continuació. */
+        private static <U> CompletableFuture<U> linked(CompletableFuture<U> dependent, Inner stage) {
+            ((CancellableFuture<U>) dependent).inner = stage;
+            return dependent;
+        }
+    }
+
+    /**
+     * Futur que retorna la continuació d'un thenCompose(). Com que la continuació s'executa més tard,
+     * si l'etapa es cancel·la abans, el futur es cancel·la en el moment en què es rep.
+     */
+    private static final class Inner {
+
+        private Future<?> future;
+        private boolean cancelled;
+
+        synchronized <S extends CompletionStage<?>> S set(S stage) {
+            if (stage instanceof Future<?> received) {
+                future = received;
+                if (cancelled) {
+                    received.cancel(true);
+                }
+            }
+            return stage;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
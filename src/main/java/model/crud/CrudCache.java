@@ -0,0 +1,37 @@
+package model.crud;
+
+import model.model.Event;
+import model.model.Measure;
+import model.model.User;
+
+/**
+ * Caches compartides per totes les instàncies de CrudEvent, CrudUser i CrudMeasure creades amb
+ * el constructor per defecte. Com que cada panell crea el seu propi objecte CRUD, mantenir les
+ * caches aquí permet que passar d'un panell a un altre no torni a descarregar dades sense canvis.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class CrudCache {
+
+    /** Cache dels esdeveniments, amb l'índex de noms per detectar duplicats. */
+    public static final EntityCache<Event> EVENTS = new EntityCache<>(Event::getId, Event::getNom);
+
+    /** Cache dels usuaris, amb l'índex de noms d'usuari per detectar duplicats. */
+    public static final EntityCache<User> USERS = new EntityCache<>(User::getID, User::getNom_usuari);
+
+    /** Cache de les mesures de prevenció. */
+    public static final EntityCache<Measure> MEASURES = new EntityCache<>(Measure::getId);
+
+    private CrudCache() {}
+
+    /**
+     * Buida totes les caches. S'ha de cridar en tancar la sessió perquè un altre usuari
+     * no vegi dades carregades amb els permisos de l'anterior.
+     */
+    public static void clearAll() {
+        EVENTS.clear();
+        USERS.clear();
+        MEASURES.clear();
+    }
+}
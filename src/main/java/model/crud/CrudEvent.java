@@ -1,18 +1,22 @@
 package model.crud;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import model.encryption.CipherUtil;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.store.LocalStore;
+import model.store.LocalStores;
 import model.tokenSingleton.TokenSingleton;
 import model.model.Event;
 import utilities.URLRequests;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Classe CrudEvent que proporciona mètodes per realitzar operacions CRUD
@@ -20,6 +24,9 @@ import java.util.List;
  * Les peticions s'envien al servidor mitjançant la classe HttpClient i inclouen
  * autenticació amb token JWT.
  *
+ * Cada operació té una versió bloquejant i una versió asíncrona (acabada en Async) que
+ * retorna un CompletableFuture i no bloqueja el fil que la invoca.
+ *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
@@ -36,18 +43,59 @@ public class CrudEvent {
     private static final String CORRECT = "Operació correcta";
     private static final String EVENT_EXIST = "Aquest esdeveniment ja existeix.";
     private static final String ID_ERROR = "Identificador incorrecte";
+    private static final String EVENT_MODIFY = "Esdeveniment actualitzat correctament";
+    private static final String EVENT_DELETE = "Esdeveniment esborrat correctament";
+    private static final String STATUS_ERROR = "No s'ha pogut generar el JSON";
 
     private HttpClient httpClient;
-    private HttpResponse<String> response;
-    private HttpRequest request;
+    private Executor executor;
+    private EntityCache<Event> cache;
+    private LocalStore<Event> store;
+    private ListSync<Event> sync;
     private String jwtToken;
 
     /**
-     * Constructor per defecte que inicialitza l'HttpClient i recupera el token JWT
-     * per realitzar les peticions al servidor.
+     * Constructor per defecte que fa servir el client HTTP compartit de l'aplicació i recupera
+     * el token JWT per realitzar les peticions al servidor. Les dades rebudes es guarden també
+     * al magatzem local de la sessió.
      */
     public CrudEvent() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(HttpClientSingleton.getInstance().getHttpClient(), CrudCache.EVENTS, LocalStores.events());
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP amb el qual es faran les peticions.
+     * Fa servir una cache pròpia, no compartida amb la resta de l'aplicació.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     */
+    public CrudEvent(HttpClient httpClient) {
+        this(httpClient, new EntityCache<>(Event::getId, Event::getNom));
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP i la cache d'esdeveniments.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     */
+    public CrudEvent(HttpClient httpClient, EntityCache<Event> cache) {
+        this(httpClient, cache, null);
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP, la cache i el magatzem local d'esdeveniments.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     * @param store Magatzem local on es conserven les entitats entre sessions, o null per no guardar-les.
+     */
+    public CrudEvent(HttpClient httpClient, EntityCache<Event> cache, LocalStore<Event> store) {
+        this.httpClient = httpClient;
+        this.executor = HttpClientSingleton.getInstance().getExecutor();
+        this.cache = cache;
+        this.store = store;
+        this.sync = new ListSync<>(cache, store, JsonUtil.EVENT_READER);
         this.jwtToken = TokenSingleton.getInstance().getJwtToken();
     }
 
@@ -63,24 +111,25 @@ public class CrudEvent {
             return EVENT_EXIST;
         }
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonRequest = objectMapper.writeValueAsString(event);
-        String encryptedEvent = CipherUtil.encrypt(jsonRequest);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.EVENT_CREATE_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .POST(HttpRequest.BodyPublishers.ofString(encryptedEvent, StandardCharsets.UTF_8))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(createRequest(event), HttpResponse.BodyHandlers.ofString());
+        return createResult(response);
+    }
 
-        if (response.statusCode() == 200) {
-            return NEW_EVENT;
-        } else {
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de createEvent().
+     *
+     * @param event L'objecte Event que conté la informació del nou esdeveniment.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> createEventAsync(Event event) {
+        return CrudAsync.compose(checkEventAsync(event), exists -> {
+            if (exists) {
+                return CompletableFuture.completedFuture(EVENT_EXIST);
+            }
+            return CrudAsync.prepare(() -> createRequest(event), request ->
+                    CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                            .thenApply(this::createResult));
+        });
     }
 
     /**
@@ -90,22 +139,52 @@ public class CrudEvent {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public List<Event> getAllEvents() throws Exception {
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.EVENT_LIST_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
+        List<Event> list = new ArrayList<>();
+        streamAllEvents(list::add);
+        return list;
+    }
 
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Obté tots els esdeveniments del servidor i els lliura un a un a mesura que es llegeixen.
+     * La resposta es desxifra i s'interpreta en streaming, sense guardar el text sencer a memòria.
+     * Si la cache conté la llista completa i vigent, no es fa cap petició.
+     * Si no, la petició és condicional i només es transfereixen els canvis des de la versió guardada.
+     *
+     * @param consumer Destinatari de cada esdeveniment rebut.
+     * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
+     */
+    public void streamAllEvents(Consumer<Event> consumer) throws Exception {
+        List<Event> cached = cache.getAll();
+        if (cached != null) {
+            cached.forEach(consumer);
+            return;
+        }
 
-        if (response.statusCode() == 200) {
-            String decryptedEvent = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(decryptedEvent, new TypeReference<List<Event>>() {});
-        } else {
-            throw new RuntimeException("Error en la solicitud: " + response.statusCode());
+        sync.fetch(httpClient, listRequest(), consumer);
+    }
+
+    /**
+     * Versió asíncrona de getAllEvents(). La resposta es llegeix a l'executor del client HTTP.
+     *
+     * @return Un futur amb la llista d'objectes Event.
+     */
+    public CompletableFuture<List<Event>> getAllEventsAsync() {
+        List<Event> cached = cache.getAll();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+
+        return CrudAsync.prepare(this::listRequest, request -> sync.fetchAsync(httpClient, request, executor));
+    }
+
+    /**
+     * Retorna els esdeveniments del magatzem local tal com es van rebre l'última vegada, sense fer cap petició.
+     * Llegeix de disc, així que no s'ha de cridar des del fil de la interfície.
+     *
+     * @return La llista guardada, o una llista buida si no n'hi ha cap o no hi ha magatzem.
+     */
+    public List<Event> getStoredEvents() {
+        return store == null ? new ArrayList<>() : store.getAll();
     }
 
     /**
@@ -116,26 +195,27 @@ public class CrudEvent {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public Event getEventById(String id) throws Exception {
-        String url = URLRequests.EVENT_ID_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        Event cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readEvent(httpClient.send(idRequest(id), HttpResponse.BodyHandlers.ofString()));
+    }
 
-        if (response.statusCode() == 200) {
-            String decryptedEvent = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(decryptedEvent);
-            JsonNode bodyNode = rootNode.get("body");
-            return objectMapper.treeToValue(bodyNode, Event.class);
-        } else {
-            return null;
+    /**
+     * Versió asíncrona de getEventById().
+     *
+     * @param id L'identificador de l'esdeveniment.
+     * @return Un futur amb l'objecte Event, o amb null si no es troba.
+     */
+    public CompletableFuture<Event> getEventByIdAsync(String id) {
+        Event cached = cache.get(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        return CrudAsync.prepare(() -> idRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(CrudAsync.unchecked(this::readEvent)));
     }
 
     /**
@@ -146,26 +226,20 @@ public class CrudEvent {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public String updateEvent(Event event) throws Exception {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String requestBody = objectMapper.writeValueAsString(event);
-        String encryptedRequest = CipherUtil.encrypt(requestBody);
-
-        String url = URLRequests.EVENT_CREATE_URL + "/" + event.getId();
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .PUT(HttpRequest.BodyPublishers.ofString(encryptedRequest))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(updateRequest(event), HttpResponse.BodyHandlers.ofString());
+        return updateResult(response.statusCode(), event);
+    }
 
-        if (response.statusCode() == 200) {
-            return "Esdeveniment actualitzat correctament";
-        } else {
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de updateEvent().
+     *
+     * @param event L'objecte Event amb la informació actualitzada.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> updateEventAsync(Event event) {
+        return CrudAsync.prepare(() -> updateRequest(event), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> updateResult(response.statusCode(), event)));
     }
 
     /**
@@ -180,21 +254,24 @@ public class CrudEvent {
             return ID_ERROR;
         }
 
-        String url = URLRequests.EVENT_DELETE_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .DELETE()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(deleteRequest(id), HttpResponse.BodyHandlers.ofString());
+        return deleteResult(response.statusCode(), id);
+    }
 
-        if (response.statusCode() == 200) {
-            return "Esdeveniment esborrat correctament";
-        } else {
-            return returnMessage(response.statusCode());
+    /**
+     * Versió asíncrona de deleteEvent().
+     *
+     * @param id L'identificador de l'esdeveniment a esborrar.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> deleteEventAsync(String id) {
+        if(id==null || id.isEmpty()){
+            return CompletableFuture.completedFuture(ID_ERROR);
         }
+
+        return CrudAsync.prepare(() -> deleteRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> deleteResult(response.statusCode(), id)));
     }
 
     /**
@@ -210,24 +287,24 @@ public class CrudEvent {
             return UNKNOWN_EVENT;
         }
 
-        String url = URLRequests.EVENT_STATUS_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return readStatus(httpClient.send(statusRequest(id), HttpResponse.BodyHandlers.ofString()));
+    }
 
-        if (response.statusCode() == 200) {
-            return CipherUtil.decrypt(response.body());
-        }else if (response.statusCode() == 404){
-            return "No s'ha pogut generar el JSON";
-        }else{
-            return null;
-        }
+    /**
+     * Versió asíncrona de getStatusById().
+     *
+     * @param id L'identificador de l'esdeveniment.
+     * @return Un futur amb l'estat de l'esdeveniment o amb el missatge d'error corresponent.
+     */
+    public CompletableFuture<String> getStatusByIdAsync(String id) {
+        return CrudAsync.compose(getEventByIdAsync(id), event -> {
+            if (event == null) {
+                return CompletableFuture.completedFuture(UNKNOWN_EVENT);
+            }
+            return CrudAsync.prepare(() -> statusRequest(id), request ->
+                    CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                            .thenApply(CrudAsync.unchecked(this::readStatus)));
+        });
     }
 
     /**
@@ -252,6 +329,7 @@ public class CrudEvent {
     /**
      * Comprova si el nom de l'esdeveniment de l'esdeveniment passat per a paràmetre
      * coincideix amb el nom de l'esdeveniment d'algun dels esdeveniments de la base de dades.
+     * Si la cache conté la llista completa, es consulta l'índex de noms sense fer cap petició.
      *
      * @param event L'esdeveniment que volem comprovar.
      * @return si el nom de l'esdeveniment passat com a paràmetre
@@ -259,7 +337,36 @@ public class CrudEvent {
      * @throws Exception Si es produeix un error en obtenir la llista d'esdeveniments amb getAllEvents().
      */
     public boolean checkEvent(Event event) throws Exception {
-        List<Event> list = getAllEvents();
+        if (!cache.isComplete()) {
+            List<Event> list = getAllEvents();
+            if (!cache.isComplete()) {
+                return containsName(list, event);
+            }
+        }
+        return cache.containsName(event.getNom());
+    }
+
+    /**
+     * Versió asíncrona de checkEvent().
+     *
+     * @param event L'esdeveniment que volem comprovar.
+     * @return Un futur que indica si el nom ja existeix a la base de dades.
+     */
+    public CompletableFuture<Boolean> checkEventAsync(Event event) {
+        if (cache.isComplete()) {
+            return CompletableFuture.completedFuture(cache.containsName(event.getNom()));
+        }
+        return getAllEventsAsync().thenApply(list -> containsName(list, event));
+    }
+
+    /**
+     * Comprova si algun esdeveniment de la llista té el mateix nom que l'esdeveniment indicat.
+     *
+     * @param list La llista d'esdeveniments.
+     * @param event L'esdeveniment que volem comprovar.
+     * @return si el nom coincideix amb algun de la llista.
+     */
+    private boolean containsName(List<Event> list, Event event) {
         for (Event e : list) {
             if (e.getNom().equals(event.getNom())) {
                 return true;
@@ -267,4 +374,143 @@ public class CrudEvent {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /** Construeix la petició de creació amb l'esdeveniment xifrat. */
+    private HttpRequest createRequest(Event event) throws Exception {
+        String jsonRequest = JsonUtil.EVENT_WRITER.writeValueAsString(event);
+        String encryptedEvent = CipherUtil.encrypt(jsonRequest);
+
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.EVENT_CREATE_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .POST(HttpRequest.BodyPublishers.ofString(encryptedEvent, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /** Construeix la petició de la llista d'esdeveniments. */
+    private HttpRequest listRequest() throws Exception {
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.EVENT_LIST_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'un esdeveniment pel seu ID. */
+    private HttpRequest idRequest(String id) throws Exception {
+        String url = URLRequests.EVENT_ID_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'actualització amb l'esdeveniment xifrat. */
+    private HttpRequest updateRequest(Event event) throws Exception {
+        String requestBody = JsonUtil.EVENT_WRITER.writeValueAsString(event);
+        String encryptedRequest = CipherUtil.encrypt(requestBody);
+
+        String url = URLRequests.EVENT_CREATE_URL + "/" + event.getId();
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .PUT(HttpRequest.BodyPublishers.ofString(encryptedRequest))
+                .build();
+    }
+
+    /** Construeix la petició d'esborrat d'un esdeveniment pel seu ID. */
+    private HttpRequest deleteRequest(String id) throws Exception {
+        String url = URLRequests.EVENT_DELETE_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .DELETE()
+                .build();
+    }
+
+    /** Construeix la petició de l'estat d'un esdeveniment pel seu ID. */
+    private HttpRequest statusRequest(String id) throws Exception {
+        String url = URLRequests.EVENT_STATUS_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /**
+     * Missatge del resultat de la creació. Si el servidor retorna l'entitat creada, s'afegeix a la cache
+     * i la llista continua sent completa; si no, l'identificador nou no es coneix i la llista deixa de ser-ho.
+     */
+    private String createResult(HttpResponse<String> response) {
+        if (response.statusCode() == 200) {
+            Event created = CrudAsync.readCreated(response, JsonUtil.EVENT_BODY_READER);
+            if (created != null && created.getId() != null) {
+                cache.put(created);
+                if (store != null) {
+                    store.put(created);
+                }
+            } else {
+                cache.invalidateAll();
+            }
+            return NEW_EVENT;
+        }
+        return returnMessage(response.statusCode());
+    }
+
+    /** Missatge del resultat de l'actualització. Si s'ha fet, es guarda la nova versió a la cache. */
+    private String updateResult(int statusCode, Event event) {
+        if (statusCode == 200) {
+            cache.put(event);
+            if (store != null) {
+                store.put(event);
+            }
+            return EVENT_MODIFY;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Missatge del resultat de l'esborrat. Si s'ha fet, s'elimina l'entitat de la cache. */
+    private String deleteResult(int statusCode, String id) {
+        if (statusCode == 200) {
+            cache.remove(id);
+            if (store != null) {
+                store.remove(id);
+            }
+            return EVENT_DELETE;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Desxifra i llegeix l'esdeveniment de la resposta i el guarda a la cache, o retorna null si no s'ha trobat. */
+    private Event readEvent(HttpResponse<String> response) throws Exception {
+        if (response.statusCode() == 200) {
+            String decryptedEvent = CrudAsync.decrypt(response);
+            Event event = CrudAsync.parse(response, () -> JsonUtil.readBody(JsonUtil.EVENT_BODY_READER, decryptedEvent));
+            if (event != null) {
+                cache.put(event);
+                if (store != null) {
+                    store.put(event);
+                }
+            }
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    /** Desxifra l'estat de l'esdeveniment de la resposta. */
+    private String readStatus(HttpResponse<String> response) throws Exception {
+        if (response.statusCode() == 200) {
+            return CrudAsync.decrypt(response);
+        }else if (response.statusCode() == 404){
+            return STATUS_ERROR;
+        }else{
+            return null;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package model.crud;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import model.encryption.CipherUtil;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.store.LocalStore;
+import model.store.LocalStores;
 import model.model.Measure;
 import model.tokenSingleton.TokenSingleton;
 import utilities.URLRequests;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Classe CrudMeasure que proporciona mètodes per realitzar operacions CRUD
@@ -20,6 +24,9 @@ import java.util.List;
  * Les peticions s'envien al servidor mitjançant la classe HttpClient i inclouen
  * autenticació amb token JWT.
  *
+ * Cada operació té una versió bloquejant i una versió asíncrona (acabada en Async) que
+ * retorna un CompletableFuture i no bloqueja el fil que la invoca.
+ *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
@@ -35,14 +42,53 @@ public class CrudMeasure {
     private static final String NEW_MEASURE = "Mesura creada correctament";
     private static final String CORRECT = "Operació correcta";
     private static final String ID_ERROR = "Identificador incorrecte";
+    private static final String MEASURE_MODIFY = "Mesura actualitzada correctament";
+    private static final String MEASURE_DELETE = "Mesura esborrada correctament";
 
     private HttpClient httpClient;
-    private HttpResponse<String> response;
-    private HttpRequest request;
+    private Executor executor;
+    private EntityCache<Measure> cache;
+    private LocalStore<Measure> store;
+    private ListSync<Measure> sync;
     private String jwtToken;
 
     public CrudMeasure() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(HttpClientSingleton.getInstance().getHttpClient(), CrudCache.MEASURES, LocalStores.measures());
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP amb el qual es faran les peticions.
+     * Fa servir una cache pròpia, no compartida amb la resta de l'aplicació.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     */
+    public CrudMeasure(HttpClient httpClient) {
+        this(httpClient, new EntityCache<>(Measure::getId));
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP i la cache de mesures.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     */
+    public CrudMeasure(HttpClient httpClient, EntityCache<Measure> cache) {
+        this(httpClient, cache, null);
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP, la cache i el magatzem local de mesures.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     * @param store Magatzem local on es conserven les entitats entre sessions, o null per no guardar-les.
+     */
+    public CrudMeasure(HttpClient httpClient, EntityCache<Measure> cache, LocalStore<Measure> store) {
+        this.httpClient = httpClient;
+        this.executor = HttpClientSingleton.getInstance().getExecutor();
+        this.cache = cache;
+        this.store = store;
+        this.sync = new ListSync<>(cache, store, JsonUtil.MEASURE_READER);
         this.jwtToken = TokenSingleton.getInstance().getJwtToken();
     }
 
@@ -54,24 +100,20 @@ public class CrudMeasure {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public String createMeasure(Measure measure) throws Exception {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonRequest = objectMapper.writeValueAsString(measure);
-        String encryptedMeasure = CipherUtil.encrypt(jsonRequest);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.MEASURE_CREATE_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .POST(HttpRequest.BodyPublishers.ofString(encryptedMeasure, StandardCharsets.UTF_8))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(createRequest(measure), HttpResponse.BodyHandlers.ofString());
+        return createResult(response);
+    }
 
-        if (response.statusCode() == 200) {
-            return NEW_MEASURE;
-        } else {
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de createMeasure().
+     *
+     * @param measure L'objecte Measure que conté la informació de la nova mesura.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> createMeasureAsync(Measure measure) {
+        return CrudAsync.prepare(() -> createRequest(measure), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(this::createResult));
     }
 
     /**
@@ -81,22 +123,52 @@ public class CrudMeasure {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public List<Measure> getAllMeasures() throws Exception {
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.MEASURE_LIST_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
+        List<Measure> list = new ArrayList<>();
+        streamAllMeasures(list::add);
+        return list;
+    }
+
+    /**
+     * Obté tots els mesures del servidor i els lliura un a un a mesura que es llegeixen.
+     * La resposta es desxifra i s'interpreta en streaming, sense guardar el text sencer a memòria.
+     * Si la cache conté la llista completa i vigent, no es fa cap petició.
+     * Si no, la petició és condicional i només es transfereixen els canvis des de la versió guardada.
+     *
+     * @param consumer Destinatari de cada mesura rebut.
+     * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
+     */
+    public void streamAllMeasures(Consumer<Measure> consumer) throws Exception {
+        List<Measure> cached = cache.getAll();
+        if (cached != null) {
+            cached.forEach(consumer);
+            return;
+        }
 
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        sync.fetch(httpClient, listRequest(), consumer);
+    }
 
-        if (response.statusCode() == 200) {
-            String decryptedMeasure = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(decryptedMeasure, new TypeReference<List<Measure>>() {});
-        } else {
-            throw new RuntimeException("Error en la solicitud: " + response.statusCode());
+    /**
+     * Versió asíncrona de getAllMeasures(). La resposta es llegeix a l'executor del client HTTP.
+     *
+     * @return Un futur amb la llista d'objectes Measure.
+     */
+    public CompletableFuture<List<Measure>> getAllMeasuresAsync() {
+        List<Measure> cached = cache.getAll();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+
+        return CrudAsync.prepare(this::listRequest, request -> sync.fetchAsync(httpClient, request, executor));
+    }
+
+    /**
+     * Retorna les mesures del magatzem local tal com es van rebre l'última vegada, sense fer cap petició.
+     * Llegeix de disc, així que no s'ha de cridar des del fil de la interfície.
+     *
+     * @return La llista guardada, o una llista buida si no n'hi ha cap o no hi ha magatzem.
+     */
+    public List<Measure> getStoredMeasures() {
+        return store == null ? new ArrayList<>() : store.getAll();
     }
 
     /**
@@ -107,26 +179,27 @@ public class CrudMeasure {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public Measure getMeasureById(String id) throws Exception {
-        String url = URLRequests.MEASURE_ID_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        Measure cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readMeasure(httpClient.send(idRequest(id), HttpResponse.BodyHandlers.ofString()));
+    }
 
-        if (response.statusCode() == 200) {
-            String decryptedMeasure = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(decryptedMeasure);
-            JsonNode bodyNode = rootNode.get("body");
-            return objectMapper.treeToValue(bodyNode, Measure.class);
-        } else {
-            return null;
+    /**
+     * Versió asíncrona de getMeasureById().
+     *
+     * @param id L'identificador de la mesura.
+     * @return Un futur amb l'objecte Measure, o amb null si no es troba.
+     */
+    public CompletableFuture<Measure> getMeasureByIdAsync(String id) {
+        Measure cached = cache.get(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        return CrudAsync.prepare(() -> idRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(CrudAsync.unchecked(this::readMeasure)));
     }
 
     /**
@@ -137,26 +210,20 @@ public class CrudMeasure {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public String updateMeasure(Measure measure) throws Exception {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String requestBody = objectMapper.writeValueAsString(measure);
-        String encryptedRequest = CipherUtil.encrypt(requestBody);
-
-        String url = URLRequests.MEASURE_CREATE_URL + "/" + measure.getId();
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .PUT(HttpRequest.BodyPublishers.ofString(encryptedRequest))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(updateRequest(measure), HttpResponse.BodyHandlers.ofString());
+        return updateResult(response.statusCode(), measure);
+    }
 
-        if (response.statusCode() == 200) {
-            return "Mesura actualitzada correctament";
-        } else {
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de updateMeasure().
+     *
+     * @param measure L'objecte Measure amb la informació actualitzada.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> updateMeasureAsync(Measure measure) {
+        return CrudAsync.prepare(() -> updateRequest(measure), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> updateResult(response.statusCode(), measure)));
     }
 
     /**
@@ -171,21 +238,24 @@ public class CrudMeasure {
             return ID_ERROR;
         }
 
-        String url = URLRequests.MEASURE_ID_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .DELETE()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(deleteRequest(id), HttpResponse.BodyHandlers.ofString());
+        return deleteResult(response.statusCode(), id);
+    }
 
-        if (response.statusCode() == 200) {
-            return "Mesura esborrada correctament";
-        } else {
-            return returnMessage(response.statusCode());
+    /**
+     * Versió asíncrona de deleteMeasure().
+     *
+     * @param id L'identificador de la mesura a esborrar.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> deleteMeasureAsync(String id) {
+        if(id==null || id.isEmpty()){
+            return CompletableFuture.completedFuture(ID_ERROR);
         }
+
+        return CrudAsync.prepare(() -> deleteRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> deleteResult(response.statusCode(), id)));
     }
 
     /**
@@ -206,4 +276,121 @@ public class CrudMeasure {
             default -> UNKNOWN_ERROR + ". Code: " + statusCode;
         };
     }
-}
+
+    /** Construeix la petició de creació amb la mesura xifrada. */
+    private HttpRequest createRequest(Measure measure) throws Exception {
+        String jsonRequest = JsonUtil.MEASURE_WRITER.writeValueAsString(measure);
+        String encryptedMeasure = CipherUtil.encrypt(jsonRequest);
+
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.MEASURE_CREATE_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .POST(HttpRequest.BodyPublishers.ofString(encryptedMeasure, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /** Construeix la petició de la llista de mesures. */
+    private HttpRequest listRequest() throws Exception {
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.MEASURE_LIST_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'una mesura pel seu ID. */
+    private HttpRequest idRequest(String id) throws Exception {
+        String url = URLRequests.MEASURE_ID_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'actualització amb la mesura xifrada. */
+    private HttpRequest updateRequest(Measure measure) throws Exception {
+        String requestBody = JsonUtil.MEASURE_WRITER.writeValueAsString(measure);
+        String encryptedRequest = CipherUtil.encrypt(requestBody);
+
+        String url = URLRequests.MEASURE_CREATE_URL + "/" + measure.getId();
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .PUT(HttpRequest.BodyPublishers.ofString(encryptedRequest))
+                .build();
+    }
+
+    /** Construeix la petició d'esborrat d'una mesura pel seu ID. */
+    private HttpRequest deleteRequest(String id) throws Exception {
+        String url = URLRequests.MEASURE_ID_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .DELETE()
+                .build();
+    }
+
+    /**
+     * Missatge del resultat de la creació. Si el servidor retorna l'entitat creada, s'afegeix a la cache
+     * i la llista continua sent completa; si no, l'identificador nou no es coneix i la llista deixa de ser-ho.
+     */
+    private String createResult(HttpResponse<String> response) {
+        if (response.statusCode() == 200) {
+            Measure created = CrudAsync.readCreated(response, JsonUtil.MEASURE_BODY_READER);
+            if (created != null && created.getId() != null) {
+                cache.put(created);
+                if (store != null) {
+                    store.put(created);
+                }
+            } else {
+                cache.invalidateAll();
+            }
+            return NEW_MEASURE;
+        }
+        return returnMessage(response.statusCode());
+    }
+
+    /** Missatge del resultat de l'actualització. Si s'ha fet, es guarda la nova versió a la cache. */
+    private String updateResult(int statusCode, Measure measure) {
+        if (statusCode == 200) {
+            cache.put(measure);
+            if (store != null) {
+                store.put(measure);
+            }
+            return MEASURE_MODIFY;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Missatge del resultat de l'esborrat. Si s'ha fet, s'elimina l'entitat de la cache. */
+    private String deleteResult(int statusCode, String id) {
+        if (statusCode == 200) {
+            cache.remove(id);
+            if (store != null) {
+                store.remove(id);
+            }
+            return MEASURE_DELETE;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Desxifra i llegeix la mesura de la resposta i la guarda a la cache, o retorna null si no s'ha trobat. */
+    private Measure readMeasure(HttpResponse<String> response) throws Exception {
+        if (response.statusCode() == 200) {
+            String decryptedMeasure = CrudAsync.decrypt(response);
+            Measure measure = CrudAsync.parse(response, () -> JsonUtil.readBody(JsonUtil.MEASURE_BODY_READER, decryptedMeasure));
+            if (measure != null) {
+                cache.put(measure);
+                if (store != null) {
+                    store.put(measure);
+                }
+            }
+            return measure;
+        } else {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -1,20 +1,24 @@
 package model.crud;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import model.encryption.CipherUtil;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.store.LocalStore;
+import model.store.LocalStores;
 import model.tokenSingleton.TokenSingleton;
 import model.model.User;
 import utilities.URLRequests;
 
 import javax.crypto.SecretKey;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Classe CrudUser que proporciona mètodes per realitzar operacions CRUD
@@ -22,6 +26,9 @@ import java.util.List;
  * Les peticions s'envien al servidor mitjançant la classe HttpClient i inclouen
  * autenticació amb token JWT.
  *
+ * Cada operació té una versió bloquejant i una versió asíncrona (acabada en Async) que
+ * retorna un CompletableFuture i no bloqueja el fil que la invoca.
+ *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
@@ -42,17 +49,55 @@ public class CrudUser {
     private static final String ID_ERROR = "Identificador incorrecte";
 
     private HttpClient httpClient;
-    private HttpResponse<String> response;
-    private HttpRequest request;
+    private Executor executor;
+    private EntityCache<User> cache;
+    private LocalStore<User> store;
+    private ListSync<User> sync;
     private String jwtToken;
     private SecretKey secretKey;
 
     /**
-     * Constructor per defecte que inicialitza l'HttpClient i recupera el token JWT
-     * per realitzar les peticions al servidor.
+     * Constructor per defecte que fa servir el client HTTP compartit de l'aplicació i recupera
+     * el token JWT per realitzar les peticions al servidor. Les dades rebudes es guarden també
+     * al magatzem local de la sessió.
      */
     public CrudUser() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(HttpClientSingleton.getInstance().getHttpClient(), CrudCache.USERS, LocalStores.users());
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP amb el qual es faran les peticions.
+     * Fa servir una cache pròpia, no compartida amb la resta de l'aplicació.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     */
+    public CrudUser(HttpClient httpClient) {
+        this(httpClient, new EntityCache<>(User::getID, User::getNom_usuari));
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP i la cache d'usuaris.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     */
+    public CrudUser(HttpClient httpClient, EntityCache<User> cache) {
+        this(httpClient, cache, null);
+    }
+
+    /**
+     * Constructor que permet injectar el client HTTP, la cache i el magatzem local d'usuaris.
+     *
+     * @param httpClient Client http per gestionar les connexions amb el backend.
+     * @param cache Cache on es guarden les entitats rebudes del servidor.
+     * @param store Magatzem local on es conserven les entitats entre sessions, o null per no guardar-les.
+     */
+    public CrudUser(HttpClient httpClient, EntityCache<User> cache, LocalStore<User> store) {
+        this.httpClient = httpClient;
+        this.executor = HttpClientSingleton.getInstance().getExecutor();
+        this.cache = cache;
+        this.store = store;
+        this.sync = new ListSync<>(cache, store, JsonUtil.USER_READER);
         this.jwtToken = TokenSingleton.getInstance().getJwtToken();
     }
 
@@ -68,24 +113,25 @@ public class CrudUser {
             return USER_EXIST;
         }
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonRequest = objectMapper.writeValueAsString(user);
-        String encryptedUser = CipherUtil.encrypt(jsonRequest);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.USER_CREATE_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .POST(HttpRequest.BodyPublishers.ofString(encryptedUser, StandardCharsets.UTF_8))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(createRequest(user), HttpResponse.BodyHandlers.ofString());
+        return createResult(response);
+    }
 
-        if(response.statusCode()==200){
-            return NEW_USER;
-        }else{
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de createUser().
+     *
+     * @param user L'objecte User que conté la informació del nou usuari.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> createUserAsync(User user) {
+        return CrudAsync.compose(checkUserAsync(user), exists -> {
+            if (exists) {
+                return CompletableFuture.completedFuture(USER_EXIST);
+            }
+            return CrudAsync.prepare(() -> createRequest(user), request ->
+                    CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                            .thenApply(this::createResult));
+        });
     }
 
     /**
@@ -95,22 +141,52 @@ public class CrudUser {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public List<User> getAllUsers() throws Exception {
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.USER_LIST_URL))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
+        List<User> list = new ArrayList<>();
+        streamAllUsers(list::add);
+        return list;
+    }
+
+    /**
+     * Obté tots els usuaris del servidor i els lliura un a un a mesura que es llegeixen.
+     * La resposta es desxifra i s'interpreta en streaming, sense guardar el text sencer a memòria.
+     * Si la cache conté la llista completa i vigent, no es fa cap petició.
+     * Si no, la petició és condicional i només es transfereixen els canvis des de la versió guardada.
+     *
+     * @param consumer Destinatari de cada usuari rebut.
+     * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
+     */
+    public void streamAllUsers(Consumer<User> consumer) throws Exception {
+        List<User> cached = cache.getAll();
+        if (cached != null) {
+            cached.forEach(consumer);
+            return;
+        }
 
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        sync.fetch(httpClient, listRequest(), consumer);
+    }
 
-        if (response.statusCode() == 200) {
-            String decryptedUsers = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(decryptedUsers, new TypeReference<List<User>>() {});
-        } else {
-            throw new RuntimeException("Error en la solicitud: " + response.statusCode());
+    /**
+     * Versió asíncrona de getAllUsers(). La resposta es llegeix a l'executor del client HTTP.
+     *
+     * @return Un futur amb la llista d'objectes User.
+     */
+    public CompletableFuture<List<User>> getAllUsersAsync() {
+        List<User> cached = cache.getAll();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+
+        return CrudAsync.prepare(this::listRequest, request -> sync.fetchAsync(httpClient, request, executor));
+    }
+
+    /**
+     * Retorna els usuaris del magatzem local tal com es van rebre l'última vegada, sense fer cap petició.
+     * Llegeix de disc, així que no s'ha de cridar des del fil de la interfície.
+     *
+     * @return La llista guardada, o una llista buida si no n'hi ha cap o no hi ha magatzem.
+     */
+    public List<User> getStoredUsers() {
+        return store == null ? new ArrayList<>() : store.getAll();
     }
 
     /**
@@ -121,26 +197,27 @@ public class CrudUser {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public User getUserById(String id) throws Exception {
-        String url = URLRequests.USER_ID_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .GET()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        User cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readUser(httpClient.send(idRequest(id), HttpResponse.BodyHandlers.ofString()));
+    }
 
-        if (response.statusCode() == 200) {
-            String decryptedUser = CipherUtil.decrypt(response.body());
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(decryptedUser);
-            JsonNode bodyNode = rootNode.get("body");
-            return objectMapper.treeToValue(bodyNode, User.class);
-        } else {
-            return null;
+    /**
+     * Versió asíncrona de getUserById().
+     *
+     * @param id L'identificador de l'usuari.
+     * @return Un futur amb l'objecte User, o amb null si no es troba.
+     */
+    public CompletableFuture<User> getUserByIdAsync(String id) {
+        User cached = cache.get(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        return CrudAsync.prepare(() -> idRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(CrudAsync.unchecked(this::readUser)));
     }
 
     /**
@@ -151,26 +228,20 @@ public class CrudUser {
      * @throws Exception Si es produeix un error en l'enviament de la petició HTTP.
      */
     public String updateUser(User user) throws Exception {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonRequest = objectMapper.writeValueAsString(user);
-        String encryptedUser = CipherUtil.encrypt(jsonRequest);
-
-        String url = URLRequests.USER_CREATE_URL + "/" + user.getID();
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .PUT(HttpRequest.BodyPublishers.ofString(encryptedUser))
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(updateRequest(user), HttpResponse.BodyHandlers.ofString());
+        return updateResult(response.statusCode(), user);
+    }
 
-        if(response.statusCode()==200){
-            return USER_MODIFY;
-        }else{
-            return returnMessage(response.statusCode());
-        }
+    /**
+     * Versió asíncrona de updateUser().
+     *
+     * @param user L'objecte User amb la informació actualitzada.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> updateUserAsync(User user) {
+        return CrudAsync.prepare(() -> updateRequest(user), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> updateResult(response.statusCode(), user)));
     }
 
     /**
@@ -185,21 +256,24 @@ public class CrudUser {
             return ID_ERROR;
         }
 
-        String url = URLRequests.USER_ID_URL.replace("{id}", id);
-
-        request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Authorization", "Bearer " + CipherUtil.encrypt(jwtToken))
-                .DELETE()
-                .build();
-
-        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = httpClient.send(deleteRequest(id), HttpResponse.BodyHandlers.ofString());
+        return deleteResult(response.statusCode(), id);
+    }
 
-        if(response.statusCode()==200){
-            return USER_DELETE;
-        }else{
-            return returnMessage(response.statusCode());
+    /**
+     * Versió asíncrona de deleteUser().
+     *
+     * @param id L'identificador de l'usuari a esborrar.
+     * @return Un futur amb el missatge del resultat de l'operació.
+     */
+    public CompletableFuture<String> deleteUserAsync(String id) {
+        if(id==null || id.isEmpty()){
+            return CompletableFuture.completedFuture(ID_ERROR);
         }
+
+        return CrudAsync.prepare(() -> deleteRequest(id), request ->
+                CrudAsync.send(httpClient, request, HttpResponse.BodyHandlers.ofString())
+                        .thenApply(response -> deleteResult(response.statusCode(), id)));
     }
 
     /**
@@ -224,6 +298,7 @@ public class CrudUser {
     /**
      * Comprova si el nom d'usuari (username) del User passat per a paràmetre
      * coincideix amb el nom d'usuari d'algun dels usuaris de la base de dades.
+     * Si la cache conté la llista completa, es consulta l'índex de noms sense fer cap petició.
      *
      * @param user L'usuari que volem comprovar.
      * @return si el nom d'usuari de l'usuari passat com a paràmetre
@@ -231,7 +306,36 @@ public class CrudUser {
      * @throws Exception Si es produeix un error en obtenir la llista d'usuaris amb getAllUsers().
      */
     public boolean checkUser(User user) throws Exception {
-        List<User> list = getAllUsers();
+        if (!cache.isComplete()) {
+            List<User> list = getAllUsers();
+            if (!cache.isComplete()) {
+                return containsUsername(list, user);
+            }
+        }
+        return cache.containsName(user.getNom_usuari());
+    }
+
+    /**
+     * Versió asíncrona de checkUser().
+     *
+     * @param user L'usuari que volem comprovar.
+     * @return Un futur que indica si el nom d'usuari ja existeix a la base de dades.
+     */
+    public CompletableFuture<Boolean> checkUserAsync(User user) {
+        if (cache.isComplete()) {
+            return CompletableFuture.completedFuture(cache.containsName(user.getNom_usuari()));
+        }
+        return getAllUsersAsync().thenApply(list -> containsUsername(list, user));
+    }
+
+    /**
+     * Comprova si algun usuari de la llista té el mateix nom d'usuari que l'usuari indicat.
+     *
+     * @param list La llista d'usuaris.
+     * @param user L'usuari que volem comprovar.
+     * @return si el nom d'usuari coincideix amb algun de la llista.
+     */
+    private boolean containsUsername(List<User> list, User user) {
         for (User u : list) {
             if (u.getNom_usuari().equals(user.getNom_usuari())) {
                 return true;
@@ -239,4 +343,121 @@ public class CrudUser {
         }
         return false;
     }
+
+    /** Construeix la petició de creació amb l'usuari xifrat. */
+    private HttpRequest createRequest(User user) throws Exception {
+        String jsonRequest = JsonUtil.USER_WRITER.writeValueAsString(user);
+        String encryptedUser = CipherUtil.encrypt(jsonRequest);
+
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.USER_CREATE_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .POST(HttpRequest.BodyPublishers.ofString(encryptedUser, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /** Construeix la petició de la llista d'usuaris. */
+    private HttpRequest listRequest() throws Exception {
+        return HttpClientSingleton.getInstance().newRequest(URLRequests.USER_LIST_URL)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'un usuari pel seu ID. */
+    private HttpRequest idRequest(String id) throws Exception {
+        String url = URLRequests.USER_ID_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .GET()
+                .build();
+    }
+
+    /** Construeix la petició d'actualització amb l'usuari xifrat. */
+    private HttpRequest updateRequest(User user) throws Exception {
+        String jsonRequest = JsonUtil.USER_WRITER.writeValueAsString(user);
+        String encryptedUser = CipherUtil.encrypt(jsonRequest);
+
+        String url = URLRequests.USER_CREATE_URL + "/" + user.getID();
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Content-Type", "application/json")
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .PUT(HttpRequest.BodyPublishers.ofString(encryptedUser))
+                .build();
+    }
+
+    /** Construeix la petició d'esborrat d'un usuari pel seu ID. */
+    private HttpRequest deleteRequest(String id) throws Exception {
+        String url = URLRequests.USER_ID_URL.replace("{id}", id);
+
+        return HttpClientSingleton.getInstance().newRequest(url)
+                .header("Authorization", CipherUtil.bearerHeader(jwtToken))
+                .DELETE()
+                .build();
+    }
+
+    /**
+     * Missatge del resultat de la creació. Si el servidor retorna l'entitat creada, s'afegeix a la cache
+     * i la llista continua sent completa; si no, l'identificador nou no es coneix i la llista deixa de ser-ho.
+     */
+    private String createResult(HttpResponse<String> response) {
+        if (response.statusCode() == 200) {
+            User created = CrudAsync.readCreated(response, JsonUtil.USER_BODY_READER);
+            if (created != null && created.getID() != null) {
+                cache.put(created);
+                if (store != null) {
+                    store.put(created);
+                }
+            } else {
+                cache.invalidateAll();
+            }
+            return NEW_USER;
+        }
+        return returnMessage(response.statusCode());
+    }
+
+    /** Missatge del resultat de l'actualització. Si s'ha fet, es guarda la nova versió a la cache. */
+    private String updateResult(int statusCode, User user) {
+        if (statusCode == 200) {
+            cache.put(user);
+            if (store != null) {
+                store.put(user);
+            }
+            return USER_MODIFY;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Missatge del resultat de l'esborrat. Si s'ha fet, s'elimina l'entitat de la cache. */
+    private String deleteResult(int statusCode, String id) {
+        if (statusCode == 200) {
+            cache.remove(id);
+            if (store != null) {
+                store.remove(id);
+            }
+            return USER_DELETE;
+        }
+        return returnMessage(statusCode);
+    }
+
+    /** Desxifra i llegeix l'usuari de la resposta i el guarda a la cache, o retorna null si no s'ha trobat. */
+    private User readUser(HttpResponse<String> response) throws Exception {
+        if (response.statusCode() == 200) {
+            String decryptedUser = CrudAsync.decrypt(response);
+            User user = CrudAsync.parse(response, () -> JsonUtil.readBody(JsonUtil.USER_BODY_READER, decryptedUser));
+            if (user != null) {
+                cache.put(user);
+                if (store != null) {
+                    store.put(user);
+                }
+            }
+            return user;
+        } else {
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,477 @@
+package model.crud;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memòria cau en memòria d'una col·lecció d'entitats del servidor indexades pel seu identificador.
+ *
+ * Les entrades caduquen passat el temps de vida configurat i, si se supera la mida màxima,
+ * s'expulsen les menys utilitzades recentment. La cache recorda si conté la llista completa
+ * del servidor (i en quin ordre la va retornar) per poder servir getAll sense cap petició;
+ * qualsevol expulsió o invalidació fa que la llista deixi de ser completa.
+ *
+ * Opcionalment manté un índex de noms (nom → nombre d'entitats amb aquest nom) que permet
+ * comprovar si un nom ja existeix en temps constant mentre la llista sigui completa.
+ *
+ * Si el servidor indica la versió de la llista (ETag), la cache la recorda mentre les entrades
+ * continuïn sent aquella llista més els canvis fets des d'aquest client. Amb aquesta versió la
+ * llista caducada es pot revalidar o actualitzar amb només els canvis, en lloc de tornar-la a baixar.
+ *
+ * Cada modificació incrementa un comptador de generació. Qui descarrega la llista en captura la
+ * generació abans de fer la petició i la passa a putAll(), que descarta la llista si mentrestant
+ * s'ha modificat la cache: la resposta podria no incloure aquella modificació.
+ *
+ * Tots els mètodes són sincronitzats, de manera que es pot compartir entre fils.
+ *
+ * @param <T> El tipus de l'entitat.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class EntityCache<T> {
+
+    /** Valors per defecte de la configuració. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Function<T, String> idExtractor;
+    private final Function<T, String> nameExtractor;
+    private final LongSupplier clock;
+
+    private long ttlNanos;
+    private int maxSize;
+
+    /** Entrades en ordre d'accés, de la menys a la més utilitzada recentment. */
+    private final LinkedHashMap<String, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+            if (size() > maxSize) {
+                order.remove(eldest.getKey());
+                unindex(eldest.getValue().name());
+                complete = false;
+                version = null;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /** Ordre en què el servidor va retornar la llista. */
+    private final Set<String> order = new LinkedHashSet<>();
+
+    /** Nombre d'entitats guardades amb cada nom. */
+    private final Map<String, Integer> names = new HashMap<>();
+
+    /** Indica si la cache conté la llista completa del servidor i quan es va carregar. */
+    private boolean complete;
+    private long loadedAt;
+
+    /** Versió de la llista del servidor que contenen les entrades, o null si no se sap o ja no hi és sencera. */
+    private String version;
+
+    /** Nombre de modificacions fetes a la cache. */
+    private long generation;
+
+    /**
+     * Crea una cache amb la configuració per defecte.
+     *
+     * @param idExtractor Funció que retorna l'identificador d'una entitat.
+     */
+    public EntityCache(Function<T, String> idExtractor) {
+        this(idExtractor, null);
+    }
+
+    /**
+     * Crea una cache amb la configuració per defecte i un índex de noms.
+     *
+     * @param idExtractor Funció que retorna l'identificador d'una entitat.
+     * @param nameExtractor Funció que retorna el nom únic d'una entitat, o null per no indexar-los.
+     */
+    public EntityCache(Function<T, String> idExtractor, Function<T, String> nameExtractor) {
+        this(idExtractor, nameExtractor, DEFAULT_TTL, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Crea una cache amb el temps de vida i la mida màxima indicats.
+     *
+     * @param idExtractor Funció que retorna l'identificador d'una entitat.
+     * @param nameExtractor Funció que retorna el nom únic d'una entitat, o null per no indexar-los.
+     * @param ttl Temps que una entrada es considera vàlida.
+     * @param maxSize Nombre màxim d'entitats guardades.
+     */
+    public EntityCache(Function<T, String> idExtractor, Function<T, String> nameExtractor, Duration ttl, int maxSize) {
+        this(idExtractor, nameExtractor, ttl, maxSize, System::nanoTime);
+    }
+
+    /**
+     * Constructor amb un rellotge injectable, útil per a les proves.
+     *
+     * @param idExtractor Funció que retorna l'identificador d'una entitat.
+     * @param nameExtractor Funció que retorna el nom únic d'una entitat, o null per no indexar-los.
+     * @param ttl Temps que una entrada es considera vàlida.
+     * @param maxSize Nombre màxim d'entitats guardades.
+     * @param clock Font del temps en nanosegons.
+     */
+    EntityCache(Function<T, String> idExtractor, Function<T, String> nameExtractor, Duration ttl, int maxSize,
+                LongSupplier clock) {
+        checkMaxSize(maxSize);
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+        this.clock = clock;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Canvia el temps de vida i la mida màxima de la cache. Si la nova mida és menor que el
+     * contingut actual, s'expulsen les entrades menys utilitzades.
+     *
+     * @param ttl Temps que una entrada es considera vàlida.
+     * @param maxSize Nombre màxim d'entitats guardades.
+     */
+    public synchronized void configure(Duration ttl, int maxSize) {
+        checkMaxSize(maxSize);
+        generation++;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+
+        Iterator<Map.Entry<String, Entry<T>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize) {
+            Map.Entry<String, Entry<T>> entry = eldest.next();
+            order.remove(entry.getKey());
+            unindex(entry.getValue().name());
+            eldest.remove();
+            complete = false;
+            version = null;
+        }
+    }
+
+    /**
+     * Retorna la llista completa si es va carregar sencera i encara no ha caducat.
+     *
+     * @return Una còpia de la llista en l'ordre del servidor, o null si cal tornar-la a demanar.
+     */
+    public synchronized List<T> getAll() {
+        if (!isComplete()) {
+            return null;
+        }
+        List<T> list = new ArrayList<>(order.size());
+        for (String id : order) {
+            list.add(entries.get(id).value());
+        }
+        return list;
+    }
+
+    /**
+     * Substitueix tot el contingut per la llista rebuda del servidor i la marca com a completa.
+     *
+     * @param list La llista completa d'entitats.
+     */
+    public synchronized void putAll(List<T> list) {
+        putAll(list, null);
+    }
+
+    /**
+     * Substitueix tot el contingut per la llista rebuda del servidor i la marca com a completa.
+     *
+     * @param list La llista completa d'entitats.
+     * @param version La versió de la llista que ha indicat el servidor, o null si no n'ha indicat cap.
+     */
+    public synchronized void putAll(List<T> list, String version) {
+        generation++;
+        entries.clear();
+        order.clear();
+        names.clear();
+        complete = true;
+        loadedAt = clock.getAsLong();
+        for (T value : list) {
+            String id = idExtractor.apply(value);
+            if (id != null) {
+                replace(id, value, loadedAt);
+                order.add(id);
+            }
+        }
+        this.version = complete ? version : null;
+    }
+
+    /**
+     * Substitueix tot el contingut per la llista rebuda del servidor, només si la cache no s'ha
+     * modificat des que es va demanar.
+     *
+     * @param list La llista completa d'entitats.
+     * @param version La versió de la llista que ha indicat el servidor, o null si no n'ha indicat cap.
+     * @param generation La generació que tenia la cache abans de fer la petició.
+     * @return true si s'ha guardat la llista, false si s'ha descartat.
+     */
+    public synchronized boolean putAll(List<T> list, String version, long generation) {
+        if (this.generation != generation) {
+            return false;
+        }
+        putAll(list, version);
+        return true;
+    }
+
+    /**
+     * Retorna la generació actual, que canvia amb cada modificació de la cache.
+     *
+     * @return La generació.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Carrega una llista guardada localment. No es considera completa fins que es revalida amb el
+     * servidor, però la seva versió ja es pot fer servir per demanar només els canvis.
+     *
+     * @param list La llista guardada.
+     * @param version La versió de la llista guardada.
+     */
+    public synchronized void restore(List<T> list, String version) {
+        putAll(list, version);
+        complete = false;
+    }
+
+    /**
+     * Retorna la versió de la llista del servidor que conté la cache, encara que hagi caducat.
+     *
+     * @return La versió, o null si no n'hi ha cap.
+     */
+    public synchronized String getVersion() {
+        return version;
+    }
+
+    /**
+     * Marca com a vigent la llista guardada quan el servidor confirma que no ha canviat.
+     *
+     * @param version La versió que s'ha enviat al servidor.
+     * @return La llista en l'ordre del servidor, o null si la cache ja no conté aquella versió.
+     */
+    public synchronized List<T> revalidate(String version) {
+        if (this.version == null || !this.version.equals(version)) {
+            return null;
+        }
+        refresh(version);
+        return getAll();
+    }
+
+    /**
+     * Aplica els canvis que ha retornat el servidor des d'una versió de la llista.
+     *
+     * @param baseVersion La versió a partir de la qual el servidor ha calculat els canvis.
+     * @param changed Les entitats noves o modificades.
+     * @param removed Els identificadors de les entitats esborrades.
+     * @param version La nova versió de la llista.
+     * @return La llista actualitzada en l'ordre del servidor, o null si la cache ja no conté la
+     *         versió de partida i cal tornar a demanar la llista sencera.
+     */
+    public synchronized List<T> applyChanges(String baseVersion, List<T> changed, Collection<String> removed,
+                                             String version) {
+        if (this.version == null || !this.version.equals(baseVersion)) {
+            return null;
+        }
+        generation++;
+        for (String id : removed) {
+            remove(id);
+        }
+        long now = clock.getAsLong();
+        for (T value : changed) {
+            String id = idExtractor.apply(value);
+            if (id != null) {
+                replace(id, value, now);
+                order.add(id);
+            }
+        }
+        if (this.version == null) {
+            // Algun canvi ha expulsat entrades i la llista ja no hi cap sencera
+            return null;
+        }
+        refresh(version);
+        return getAll();
+    }
+
+    /**
+     * Retorna una entitat pel seu identificador.
+     *
+     * @param id L'identificador de l'entitat.
+     * @return L'entitat, o null si no hi és o ha caducat.
+     */
+    public synchronized T get(String id) {
+        Entry<T> entry = entries.get(id);
+        if (entry == null || isExpired(entry.loadedAt())) {
+            // L'entrada caducada es conserva perquè forma part de la versió que es pot revalidar
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Guarda o actualitza una entitat. Si la llista és completa, una entitat nova s'afegeix al final.
+     * Les entitats sense identificador no es guarden.
+     *
+     * @param value L'entitat a guardar.
+     */
+    public synchronized void put(T value) {
+        String id = idExtractor.apply(value);
+        if (id == null) {
+            return;
+        }
+        generation++;
+        replace(id, value, clock.getAsLong());
+        order.add(id);
+    }
+
+    /**
+     * Esborra una entitat de la cache. La llista continua sent completa.
+     *
+     * @param id L'identificador de l'entitat esborrada.
+     */
+    public synchronized void remove(String id) {
+        generation++;
+        Entry<T> removed = entries.remove(id);
+        if (removed != null) {
+            unindex(removed.name());
+        }
+        order.remove(id);
+    }
+
+    /**
+     * Indica si la cache conté la llista completa del servidor i encara no ha caducat.
+     *
+     * @return true si getAll() i containsName() es poden respondre sense cap petició.
+     */
+    public synchronized boolean isComplete() {
+        return complete && !isExpired(loadedAt);
+    }
+
+    /**
+     * Comprova en temps constant si alguna entitat guardada té el nom indicat. Només és una
+     * resposta fiable sobre el servidor si isComplete() retorna true.
+     *
+     * @param name El nom a comprovar.
+     * @return true si alguna entitat de la cache té aquest nom.
+     * @throws IllegalStateException si la cache no es va crear amb un índex de noms.
+     */
+    public synchronized boolean containsName(String name) {
+        if (nameExtractor == null) {
+            throw new IllegalStateException("Aquesta cache no indexa noms.");
+        }
+        return names.containsKey(name);
+    }
+
+    /**
+     * Indica que la llista del servidor ha canviat de manera desconeguda (per exemple, s'ha creat
+     * una entitat amb un identificador que encara no sabem). Les entrades individuals i la versió
+     * es conserven, de manera que els canvis des d'aquesta versió inclouran el que falta.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        complete = false;
+    }
+
+    /**
+     * Esborra tot el contingut de la cache.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        order.clear();
+        names.clear();
+        complete = false;
+        version = null;
+    }
+
+    /**
+     * @return El nombre d'entitats guardades.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Marca tota la llista com a completa i carregada ara, amb la versió indicada.
+     *
+     * @param version La versió de la llista.
+     */
+    private void refresh(String version) {
+        generation++;
+        long now = clock.getAsLong();
+        entries.replaceAll((id, entry) -> new Entry<>(entry.value(), now, entry.name()));
+        this.version = version;
+        complete = true;
+        loadedAt = now;
+    }
+
+    /**
+     * Guarda una entitat i actualitza l'índex de noms. El nom es calcula ara i es guarda a
+     * l'entrada, de manera que l'índex continua sent coherent encara que l'objecte es modifiqui després.
+     *
+     * @param id L'identificador de l'entitat.
+     * @param value L'entitat.
+     * @param timestamp L'instant de càrrega en nanosegons.
+     */
+    private void replace(String id, T value, long timestamp) {
+        String name = nameExtractor != null ? nameExtractor.apply(value) : null;
+        Entry<T> previous = entries.put(id, new Entry<>(value, timestamp, name));
+        if (previous != null) {
+            unindex(previous.name());
+        }
+        if (name != null) {
+            names.merge(name, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Treu un nom de l'índex.
+     *
+     * @param name El nom de l'entitat que surt de la cache, o null si no en té.
+     */
+    private void unindex(String name) {
+        if (name != null) {
+            names.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Comprova que la mida màxima sigui vàlida.
+     *
+     * @param maxSize La mida màxima.
+     * @throws IllegalArgumentException si no és positiva.
+     */
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("La mida màxima ha de ser positiva.");
+        }
+    }
+
+    /**
+     * Comprova si un instant de càrrega ja ha superat el temps de vida.
+     *
+     * @param timestamp L'instant de càrrega en nanosegons.
+     * @return true si ha caducat.
+     */
+    private boolean isExpired(long timestamp) {
+        return clock.getAsLong() - timestamp >= ttlNanos;
+    }
+
+    /**
+     * Entrada de la cache amb l'instant en què es va carregar.
+     *
+     * @param value L'entitat.
+     * @param loadedAt L'instant de càrrega en nanosegons.
+     * @param name El nom indexat de l'entitat, o null.
+     * @param <T> El tipus de l'entitat.
+     */
+    private record Entry<T>(T value, long loadedAt, String name) {}
+}
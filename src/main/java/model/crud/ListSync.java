@@ -0,0 +1,248 @@
+package model.crud;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import model.encryption.CipherUtil;
+import model.httpClient.IoExecutor;
+import model.json.JsonUtil;
+import model.metrics.EndpointMetrics;
+import model.metrics.Metrics;
+import model.store.LocalStore;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Descarrega la llista completa d'un tipus d'entitat fent servir peticions condicionals i
+ * sincronització incremental, i en deixa el resultat a la cache i al magatzem local.
+ *
+ * Protocol amb el servidor:
+ * <ul>
+ *     <li>Les respostes amb la llista sencera porten la versió de la llista a la capçalera ETag.</li>
+ *     <li>Si ja es té una versió, la petició l'envia a If-None-Match i al paràmetre "desde".</li>
+ *     <li>Si la llista no ha canviat, el servidor respon 304 sense cos i es reutilitza la llista guardada.</li>
+ *     <li>Si el servidor pot calcular els canvis des d'aquella versió, respon 200 amb la capçalera
+ *         "X-Sync: delta", la nova versió a ETag i el cos xifrat {"canvis": [...], "esborrats": [ids]}.</li>
+ *     <li>Altrament respon amb la llista sencera, com un servidor que no conegui el protocol.</li>
+ * </ul>
+ *
+ * Així, refrescar una llista que gairebé no canvia només transfereix els canvis. Si mentre arriba
+ * la resposta la cache ha deixat de tenir la versió enviada (per exemple, perquè s'ha buidat),
+ * el 304 o els canvis ja no s'hi poden aplicar i es torna a demanar la llista sencera sense condicions.
+ *
+ * @param <T> El tipus de l'entitat.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+class ListSync<T> {
+
+    /** Paràmetre de la petició amb la versió a partir de la qual es demanen els canvis. */
+    static final String SINCE_PARAM = "desde";
+
+    /** Capçalera i valor que identifiquen una resposta amb només els canvis. */
+    static final String SYNC_HEADER = "X-Sync";
+    static final String DELTA = "delta";
+
+    /** Camps del cos d'una resposta amb els canvis. */
+    static final String CHANGED_FIELD = "canvis";
+    static final String REMOVED_FIELD = "esborrats";
+
+    private final EntityCache<T> cache;
+    private final LocalStore<T> store;
+    private final ObjectReader reader;
+
+    /**
+     * @param cache La cache on es deixa la llista.
+     * @param store El magatzem local on es deixa la llista, o null si no se'n fa servir cap.
+     * @param reader El lector de cada entitat.
+     */
+    ListSync(EntityCache<T> cache, LocalStore<T> store, ObjectReader reader) {
+        this.cache = cache;
+        this.store = store;
+        this.reader = reader;
+    }
+
+    /**
+     * Descarrega o revalida la llista i lliura les entitats a mesura que es tenen.
+     *
+     * @param client El client HTTP.
+     * @param request La petició de la llista sencera.
+     * @param consumer El destinatari de cada entitat.
+     * @return La llista actualitzada.
+     * @throws Exception Si la petició falla o la resposta no es pot llegir.
+     */
+    List<T> fetch(HttpClient client, HttpRequest request, Consumer<T> consumer) throws Exception {
+        restore();
+        long generation = cache.getGeneration();
+        String version = cache.getVersion();
+        List<T> list = read(version, generation,
+                client.send(conditional(request, version), HttpResponse.BodyHandlers.ofInputStream()), consumer);
+        if (list == null) {
+            generation = cache.getGeneration();
+            list = read(null, generation, client.send(request, HttpResponse.BodyHandlers.ofInputStream()), consumer);
+        }
+        return list;
+    }
+
+    /**
+     * Versió asíncrona de fetch(). Si cal recuperar la versió del magatzem local, la lectura
+     * de disc es fa en un fil virtual abans d'enviar la petició.
+     *
+     * @param client El client HTTP.
+     * @param request La petició de la llista sencera.
+     * @param executor L'executor on es llegeix la resposta.
+     * @return Un futur amb la llista actualitzada.
+     */
+    CompletableFuture<List<T>> fetchAsync(HttpClient client, HttpRequest request, Executor executor) {
+        if (cache.getVersion() == null && store != null) {
+            return CrudAsync.compose(IoExecutor.supply(() -> {
+                restore();
+                return null;
+            }), ignored -> send(client, request, executor));
+        }
+        return send(client, request, executor);
+    }
+
+    /**
+     * Envia la petició condicional amb la versió actual i en llegeix la resposta a l'executor indicat.
+     * Si la resposta ja no es pot aplicar a la cache, torna a demanar la llista sencera.
+     */
+    private CompletableFuture<List<T>> send(HttpClient client, HttpRequest request, Executor executor) {
+        String version = cache.getVersion();
+        return send(client, conditional(request, version), version, executor)
+                .thenCompose(list -> list != null ? CompletableFuture.completedFuture(list)
+                        : send(client, request, null, executor));
+    }
+
+    /** Envia una petició i en llegeix la resposta a l'executor indicat. */
+    private CompletableFuture<List<T>> send(HttpClient client, HttpRequest request, String version,
+                                            Executor executor) {
+        long generation = cache.getGeneration();
+        return CrudAsync.send(client, request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApplyAsync(CrudAsync.unchecked(response -> read(version, generation, response, value -> {})),
+                        executor);
+    }
+
+    /** Si la cache no té cap versió, hi carrega la llista del magatzem local perquè es pugui revalidar. */
+    private void restore() {
+        if (cache.getVersion() == null && store != null) {
+            String version = store.getVersion();
+            if (version != null) {
+                cache.restore(store.getAll(), version);
+            }
+        }
+    }
+
+    /**
+     * Afegeix a la petició la versió que ja es té.
+     *
+     * @param request La petició de la llista sencera.
+     * @param version La versió guardada, o null.
+     * @return La petició condicional, o l'original si no hi ha cap versió.
+     */
+    static HttpRequest conditional(HttpRequest request, String version) {
+        if (version == null) {
+            return request;
+        }
+        URI uri = request.uri();
+        String separator = uri.getRawQuery() == null ? "?" : "&";
+        URI since = URI.create(uri + separator + SINCE_PARAM + "=" + URLEncoder.encode(version, StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .uri(since)
+                .header("If-None-Match", version)
+                .build();
+    }
+
+    /**
+     * Interpreta la resposta segons el protocol i actualitza la cache i el magatzem local.
+     *
+     * @param version La versió enviada amb la petició, o null.
+     * @param generation La generació de la cache quan es va enviar la petició.
+     * @param response La resposta del servidor.
+     * @param consumer El destinatari de cada entitat.
+     * @return La llista actualitzada, o null si la resposta depèn d'una versió que la cache ja no té
+     *         i cal demanar la llista sencera. Sense versió no retorna mai null.
+     * @throws Exception Si la resposta és un error o no es pot llegir.
+     */
+    private List<T> read(String version, long generation, HttpResponse<InputStream> response, Consumer<T> consumer)
+            throws Exception {
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status == 304 && version != null) {
+                List<T> list = cache.revalidate(version);
+                if (list != null) {
+                    list.forEach(consumer);
+                }
+                return list;
+            }
+            if (status != 200) {
+                throw new RuntimeException("Error en la solicitud: " + status);
+            }
+
+            String newVersion = header(response, "ETag");
+            if (version != null && DELTA.equals(header(response, SYNC_HEADER))) {
+                List<T> list = readChanges(version, newVersion, response, body);
+                if (list != null) {
+                    list.forEach(consumer);
+                }
+                return list;
+            }
+
+            List<T> list = new ArrayList<>();
+            CrudAsync.<T>readEncryptedArray(response.request(), body, reader, value -> {
+                list.add(value);
+                consumer.accept(value);
+            });
+            // Si la cache s'ha modificat durant la descàrrega, la llista podria no incloure el canvi
+            if (cache.putAll(list, newVersion, generation) && store != null) {
+                store.replaceAll(list, newVersion);
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Llegeix els canvis d'una resposta incremental i els aplica a la cache i al magatzem local.
+     * Retorna null, sense tocar el magatzem, si la cache ja no té la versió de partida.
+     */
+    private List<T> readChanges(String version, String newVersion, HttpResponse<InputStream> response,
+                                InputStream body) throws Exception {
+        EndpointMetrics metrics = Metrics.getInstance().endpoint(response.request());
+        byte[] decrypted = metrics.time(EndpointMetrics.Phase.DECRYPT, () -> CipherUtil.decrypt(body.readAllBytes()));
+        JsonNode delta = metrics.time(EndpointMetrics.Phase.PARSE, () -> JsonUtil.TREE_READER.readTree(decrypted));
+
+        List<T> changed = new ArrayList<>();
+        for (JsonNode node : delta.path(CHANGED_FIELD)) {
+            changed.add(reader.readValue(node));
+        }
+        List<String> removed = new ArrayList<>();
+        for (JsonNode node : delta.path(REMOVED_FIELD)) {
+            removed.add(node.asText());
+        }
+
+        List<T> list = cache.applyChanges(version, changed, removed, newVersion);
+        if (list != null && store != null) {
+            removed.forEach(store::remove);
+            changed.forEach(store::put);
+            store.setVersion(newVersion);
+        }
+        return list;
+    }
+
+    /** Retorna el valor d'una capçalera de la resposta, o null si no hi és. */
+    private static String header(HttpResponse<?> response, String name) {
+        HttpHeaders headers = response.headers();
+        return headers == null ? null : headers.firstValue(name).orElse(null);
+    }
+}
@@ -1,22 +1,56 @@
 package model.encryption;
 
+import model.metrics.CryptoEvent;
+import model.metrics.TimingInputStream;
 import javax.crypto.Cipher;
-import javax.crypto.SecretKey;
+import javax.crypto.CipherInputStream;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Classe auxiliar per gestionar la xifra i desxifra de dades.
  * Aquesta implementació utilitza l'algoritme AES per protegir les dades sensibles,
  * com les contrasenyes.
  *
+ * Les instàncies de Cipher ja inicialitzades es guarden en un conjunt compartit: cada operació
+ * n'agafa una, la fa servir i la retorna, ja que Cipher no és segur entre fils i obtenir-ne una de
+ * nova és costós. Després de cada doFinal() el Cipher torna a l'estat inicial i es pot reutilitzar.
+ * A diferència d'una instància per fil, els fils virtuals (un per petició) no en creen cap de nova.
+ *
+ * Cada operació genera un CryptoEvent de JDK Flight Recorder amb la mida de l'entrada i de la sortida.
+ *
  * @author Robert Hospital - Chat-GPT. Prompt: Construeix classe unitaria per xifrar i
  * desxifrar utilitzant Cipher
  */
 public class CipherUtil {
     private static final String ALGORITHM = "AES"; // Algoritme de xifrat
-    private static final byte[] SECRET_KEY = "MeteoEventsSecrt".getBytes(); // Clau de 16 bytes
+    private static final byte[] SECRET_KEY = "MeteoEventsSecrt".getBytes(StandardCharsets.UTF_8); // Clau de 16 bytes
     private static final String ENCRYPTION_PREFIX = "ENC_"; // Prefix per identificar dades xifrades
+    private static final byte[] ENCRYPTION_PREFIX_BYTES = ENCRYPTION_PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final SecretKeySpec SECRET_KEY_SPEC;
+
+    static {
+        if (SECRET_KEY.length != 16) {
+            throw new IllegalArgumentException("La clau secreta ha de tenir 16 bytes.");
+        }
+        SECRET_KEY_SPEC = new SecretKeySpec(SECRET_KEY, ALGORITHM);
+    }
+
+    /** Ciphers inicialitzats que no fa servir cap operació. */
+    private static final ConcurrentLinkedQueue<Cipher> ENCRYPT_CIPHERS = new ConcurrentLinkedQueue<>();
+    private static final ConcurrentLinkedQueue<Cipher> DECRYPT_CIPHERS = new ConcurrentLinkedQueue<>();
+
+    /** Última capçalera d'autorització calculada i el token que la va generar. */
+    private static volatile BearerHeader bearerHeader;
 
     private CipherUtil() {}
 
@@ -28,20 +62,45 @@ public class CipherUtil {
      * @throws Exception si hi ha algun error durant el xifrat.
      */
     public static String encrypt(String data) throws Exception {
-        SecretKey secretKey = new SecretKeySpec(SECRET_KEY, ALGORITHM);
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey); // Inicialitzar el Cipher en mode ENCRYPT
-        byte[] encryptedData = cipher.doFinal(data.getBytes()); // Xifrar les dades
-        return ENCRYPTION_PREFIX + Base64.getEncoder().encodeToString(encryptedData); // Afegir prefix i codificar a Base64
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+        byte[] plainData = data.getBytes(StandardCharsets.UTF_8);
+        Cipher cipher = borrow(ENCRYPT_CIPHERS, Cipher.ENCRYPT_MODE);
+        byte[] encryptedData = cipher.doFinal(plainData); // Xifrar les dades
+        ENCRYPT_CIPHERS.offer(cipher);
+        String result = ENCRYPTION_PREFIX + Base64.getEncoder().encodeToString(encryptedData); // Afegir prefix i codificar a Base64
+        event.commit("encrypt", plainData.length, result.length());
+        return result;
+    }
+
+    /**
+     * Xifra un bloc de bytes i retorna directament els bytes ASCII de "ENC_" + Base64,
+     * sense passar per cap String intermedi.
+     *
+     * @param data les dades en pla.
+     * @return les dades xifrades amb el mateix format que encrypt(String).
+     * @throws GeneralSecurityException si hi ha algun error durant el xifrat.
+     */
+    public static byte[] encryptToBytes(byte[] data) throws GeneralSecurityException {
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+        Cipher cipher = borrow(ENCRYPT_CIPHERS, Cipher.ENCRYPT_MODE);
+        byte[] encodedData = Base64.getEncoder().encode(cipher.doFinal(data));
+        ENCRYPT_CIPHERS.offer(cipher);
+        byte[] result = new byte[ENCRYPTION_PREFIX_BYTES.length + encodedData.length];
+        System.arraycopy(ENCRYPTION_PREFIX_BYTES, 0, result, 0, ENCRYPTION_PREFIX_BYTES.length);
+        System.arraycopy(encodedData, 0, result, ENCRYPTION_PREFIX_BYTES.length, encodedData.length);
+        event.commit("encryptToBytes", data.length, result.length);
+        return result;
     }
 
     /**
      * Desxifra una cadena de text xifrada utilitzant l'algoritme AES.
-     * NomÃ©s es desxifra si el text comenÃ§a amb el prefix "ENC_".
+     * Només es desxifra si el text comença amb el prefix "ENC_".
      *
      * @param encryptedData el text xifrat en format Base64 amb el prefix "ENC_".
      * @return el text desxifrat en text pla.
-     * @throws IllegalArgumentException si el text no contÃ© el prefix "ENC_".
+     * @throws IllegalArgumentException si el text no conté el prefix "ENC_".
      * @throws Exception si hi ha algun error durant el desxifrat.
      */
     public static String decrypt(String encryptedData) throws Exception {
@@ -49,19 +108,180 @@ public class CipherUtil {
             throw new IllegalArgumentException("Les dades no estan xifrades amb el format esperat.");
         }
 
-        String base64Data = encryptedData.substring(ENCRYPTION_PREFIX.length()); // Elimina el prefix
-        if (!base64Data.matches("^[A-Za-z0-9+/=]*$")) {
-            throw new IllegalArgumentException("Les dades contenen caràcters no vàlids per Base64.");
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+        byte[] decodedData = decodeBase64(encryptedData.substring(ENCRYPTION_PREFIX.length())); // Elimina el prefix
+        Cipher cipher = borrow(DECRYPT_CIPHERS, Cipher.DECRYPT_MODE);
+        byte[] plainData = cipher.doFinal(decodedData); // Desxifrar les dades
+        DECRYPT_CIPHERS.offer(cipher);
+        event.commit("decrypt", encryptedData.length(), plainData.length);
+        return new String(plainData, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Desxifra un bloc de bytes amb el format "ENC_" + Base64 sense convertir-lo a String.
+     *
+     * @param encryptedData els bytes ASCII de les dades xifrades.
+     * @return les dades desxifrades.
+     * @throws IllegalArgumentException si les dades no tenen el prefix "ENC_" o no són Base64 vàlid.
+     * @throws GeneralSecurityException si hi ha algun error durant el desxifrat.
+     */
+    public static byte[] decrypt(byte[] encryptedData) throws GeneralSecurityException {
+        ByteBuffer decoded = decrypt(ByteBuffer.wrap(encryptedData));
+        byte[] result = new byte[decoded.remaining()];
+        decoded.get(result);
+        return result;
+    }
+
+    /**
+     * Desxifra el contingut restant d'un ByteBuffer amb el format "ENC_" + Base64.
+     * El Base64 es decodifica directament des del buffer i el resultat es desxifra
+     * sobre el mateix array, de manera que no es fan còpies addicionals del contingut.
+     *
+     * @param encryptedData el buffer amb les dades xifrades.
+     * @return un buffer amb les dades desxifrades.
+     * @throws IllegalArgumentException si les dades no tenen el prefix "ENC_" o no són Base64 vàlid.
+     * @throws GeneralSecurityException si hi ha algun error durant el desxifrat.
+     */
+    public static ByteBuffer decrypt(ByteBuffer encryptedData) throws GeneralSecurityException {
+        if (!hasPrefix(encryptedData)) {
+            throw new IllegalArgumentException("Les dades no estan xifrades amb el format esperat.");
         }
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+        int inputLength = encryptedData.remaining();
+        ByteBuffer base64Data = encryptedData.duplicate();
+        base64Data.position(base64Data.position() + ENCRYPTION_PREFIX_BYTES.length);
 
-        SecretKey secretKey = new SecretKeySpec(SECRET_KEY, ALGORITHM);
-        if (SECRET_KEY.length != 16) {
-            throw new IllegalArgumentException("La clau secreta ha de tenir 16 bytes.");
+        ByteBuffer decodedData;
+        try {
+            decodedData = Base64.getDecoder().decode(base64Data);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Les dades contenen caràcters no vàlids per Base64.", e);
+        }
+        byte[] buffer = decodedData.array();
+        Cipher cipher = borrow(DECRYPT_CIPHERS, Cipher.DECRYPT_MODE);
+        int length = cipher.doFinal(buffer, 0, decodedData.remaining(), buffer, 0);
+        DECRYPT_CIPHERS.offer(cipher);
+        event.commit("decryptBytes", inputLength, length);
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+
+    /**
+     * Envolta un flux amb el format "ENC_" + Base64 perquè es llegeixi ja desxifrat.
+     * El contingut es decodifica i es desxifra a mesura que es llegeix, de manera que
+     * mai hi ha una còpia sencera de les dades a memòria.
+     *
+     * @param encryptedData el flux amb les dades xifrades.
+     * @return un flux amb les dades en pla.
+     * @throws IOException si no es pot llegir el prefix del flux.
+     * @throws IllegalArgumentException si el flux no comença amb el prefix "ENC_".
+     */
+    public static InputStream decryptingStream(InputStream encryptedData) throws IOException {
+        byte[] prefix = encryptedData.readNBytes(ENCRYPTION_PREFIX_BYTES.length);
+        if (!Arrays.equals(prefix, ENCRYPTION_PREFIX_BYTES)) {
+            throw new IllegalArgumentException("Les dades no estan xifrades amb el format esperat.");
         }
+        CryptoEvent event = new CryptoEvent();
+        if (!event.isEnabled()) {
+            // El flux pot quedar obert molt de temps, per això té un Cipher propi i no n'agafa cap del conjunt
+            return new CipherInputStream(Base64.getDecoder().wrap(encryptedData), newCipher(Cipher.DECRYPT_MODE));
+        }
+        // Només mentre JFR enregistra es compten els bytes, i l'esdeveniment s'envia en tancar el flux
+        event.begin();
+        TimingInputStream input = new TimingInputStream(encryptedData);
+        return new TimingInputStream(
+                new CipherInputStream(Base64.getDecoder().wrap(input), newCipher(Cipher.DECRYPT_MODE)),
+                output -> event.commit("decryptStream", prefix.length + input.getBytes(), output.getBytes()));
+    }
+
+    /**
+     * Retorna el valor de la capçalera "Authorization" per al token indicat.
+     * El token xifrat es guarda fins que el token canvia, evitant xifrar-lo a cada petició.
+     *
+     * @param jwtToken el token JWT de la sessió.
+     * @return el text "Bearer " seguit del token xifrat.
+     * @throws Exception si hi ha algun error durant el xifrat.
+     */
+    public static String bearerHeader(String jwtToken) throws Exception {
+        BearerHeader cached = bearerHeader;
+        if (cached != null && cached.token().equals(jwtToken)) {
+            return cached.header();
+        }
+        String header = BEARER_PREFIX + encrypt(jwtToken);
+        bearerHeader = new BearerHeader(jwtToken, header);
+        return header;
+    }
 
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey); // Inicialitzar el Cipher en mode DECRYPT
-        byte[] decodedData = Base64.getDecoder().decode(base64Data); // Decodificar de Base64
-        return new String(cipher.doFinal(decodedData)); // Desxifrar les dades
+    /**
+     * Decodifica un text Base64. El decodificador ja rebutja qualsevol caràcter fora de
+     * l'alfabet, de manera que no cal validar-lo abans amb una expressió regular.
+     *
+     * @param base64Data el text en Base64.
+     * @return els bytes decodificats.
+     * @throws IllegalArgumentException si el text conté caràcters no vàlids.
+     */
+    private static byte[] decodeBase64(String base64Data) {
+        try {
+            return Base64.getDecoder().decode(base64Data); // Decodificar de Base64
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Les dades contenen caràcters no vàlids per Base64.", e);
+        }
     }
-}
\ No newline at end of file
+
+    /**
+     * Comprova si el buffer comença amb el prefix "ENC_".
+     *
+     * @param data el buffer a comprovar.
+     * @return true si comença amb el prefix.
+     */
+    private static boolean hasPrefix(ByteBuffer data) {
+        if (data.remaining() < ENCRYPTION_PREFIX_BYTES.length) {
+            return false;
+        }
+        int start = data.position();
+        for (int i = 0; i < ENCRYPTION_PREFIX_BYTES.length; i++) {
+            if (data.get(start + i) != ENCRYPTION_PREFIX_BYTES[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Agafa un Cipher lliure del conjunt, o en crea un de nou si no n'hi ha cap. S'ha de retornar
+     * al conjunt quan l'operació acaba bé; si falla, es descarta perquè podria quedar a mitges.
+     *
+     * @param pool el conjunt de Ciphers del mode indicat.
+     * @param mode Cipher.ENCRYPT_MODE o Cipher.DECRYPT_MODE.
+     * @return un Cipher inicialitzat que només fa servir qui l'ha agafat.
+     */
+    private static Cipher borrow(ConcurrentLinkedQueue<Cipher> pool, int mode) {
+        Cipher cipher = pool.poll();
+        return cipher != null ? cipher : newCipher(mode);
+    }
+
+    /**
+     * Crea i inicialitza un Cipher en el mode indicat.
+     *
+     * @param mode Cipher.ENCRYPT_MODE o Cipher.DECRYPT_MODE.
+     * @return el Cipher inicialitzat.
+     */
+    private static Cipher newCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(mode, SECRET_KEY_SPEC);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No s'ha pogut inicialitzar el xifrat " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Capçalera d'autorització associada al token que la va generar.
+     *
+     * @param token el token JWT en pla.
+     * @param header la capçalera amb el token xifrat.
+     */
+    private record BearerHeader(String token, String header) {}
+}
@@ -0,0 +1,117 @@
+package model.httpClient;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Interruptor de circuit per deixar de cridar un servei que falla repetidament.
+ *
+ * Comença tancat (les peticions passen). Després d'un nombre de fallades seguides s'obre i rebutja
+ * les peticions durant un temps. Passat aquest temps deixa passar una sola petició de prova
+ * (mig obert): si va bé es torna a tancar i, si falla, es torna a obrir.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /** Estats possibles de l'interruptor. */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final LongSupplier nanoClock;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param failureThreshold Nombre de fallades seguides que obren el circuit.
+     * @param openDuration Temps que el circuit roman obert abans de provar una altra petició.
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    /**
+     * Constructor amb un rellotge injectable, útil per a les proves.
+     *
+     * @param failureThreshold Nombre de fallades seguides que obren el circuit.
+     * @param openDuration Temps que el circuit roman obert abans de provar una altra petició.
+     * @param nanoClock Rellotge en nanosegons.
+     */
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("El llindar de fallades ha de ser com a mínim 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Indica si es pot fer una petició. Quan el circuit està obert i ha passat el temps d'espera,
+     * la primera crida passa a mig obert i retorna true per fer la petició de prova.
+     *
+     * @return true si la petició pot continuar.
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Registra una petició correcta i tanca el circuit.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Registra una petició fallida. Obre el circuit si la petició era la de prova o si s'ha arribat
+     * al llindar de fallades seguides.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Allibera una petició que s'ha avortat sense resultat, per exemple perquè s'ha interromput el fil.
+     * L'estat no canvia: si era la petició de prova, el circuit continua mig obert i la següent
+     * petició farà de prova.
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    /**
+     * @return L'estat actual de l'interruptor.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+}
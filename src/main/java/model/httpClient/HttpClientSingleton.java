@@ -0,0 +1,123 @@
+package model.httpClient;
+
+import model.metrics.MeteredHttpClient;
+import model.metrics.Metrics;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Classe que implementa el patró Singleton per compartir un únic client HTTP a tota l'aplicació.
+ * Reutilitzar el mateix client permet aprofitar el pool de connexions i el fil selector intern,
+ * evitant obrir una connexió TCP nova cada vegada que es carrega un panell.
+ *
+ * El client es construeix la primera vegada que es demana i es pot reconfigurar abans d'usar-lo
+ * amb el mètode configure().
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class HttpClientSingleton {
+
+    /** Valors per defecte de la configuració del client. */
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Instància única de la classe. Es crea automàticament en inicialitzar la classe.
+     */
+    private static final HttpClientSingleton instance = new HttpClientSingleton();
+
+    /** Configuració del client. */
+    private Executor executor;
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+    /** Client HTTP compartit. Es crea de manera mandrosa. */
+    private HttpClient httpClient;
+
+    /**
+     * Constructor privat per impedir la creació de noves instàncies des de fora de la classe.
+     */
+    private HttpClientSingleton() {}
+
+    /**
+     * Mètode estàtic per obtenir la instància única de la classe.
+     *
+     * @return La instància única de HttpClientSingleton.
+     */
+    public static HttpClientSingleton getInstance() {
+        return instance;
+    }
+
+    /**
+     * Reconfigura el client compartit. El client anterior es descarta i el següent cop que es
+     * demani se'n construirà un de nou amb els paràmetres indicats.
+     *
+     * @param executor Executor per a les tasques asíncrones del client, o null per fer servir el per defecte.
+     * @param version Versió HTTP preferida (HTTP_2 fa fallback a HTTP/1.1 si el servidor no la suporta).
+     * @param connectTimeout Temps màxim per establir la connexió.
+     * @param requestTimeout Temps màxim d'espera de cada petició.
+     */
+    public synchronized void configure(Executor executor, HttpClient.Version version, Duration connectTimeout,
+                                       Duration requestTimeout) {
+        this.executor = executor;
+        this.version = version;
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = null;
+    }
+
+    /**
+     * Retorna el client HTTP compartit, construint-lo si encara no existeix. Totes les peticions
+     * del client s'enregistren a Metrics.
+     *
+     * @return El client HTTP de l'aplicació.
+     */
+    public synchronized HttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = new MeteredHttpClient(HttpClient.newBuilder()
+                    .version(version)
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .executor(getExecutor())
+                    .build(), Metrics.getInstance());
+        }
+        return httpClient;
+    }
+
+    /**
+     * Retorna l'executor on el client completa les peticions asíncrones. També s'utilitza per
+     * llegir i interpretar les respostes fora del fil de la interfície gràfica.
+     *
+     * @return L'executor configurat o, si no se n'ha indicat cap, el de fils virtuals d'IoExecutor.
+     */
+    public synchronized Executor getExecutor() {
+        if (executor == null) {
+            executor = IoExecutor.getExecutor();
+        }
+        return executor;
+    }
+
+    /**
+     * Crea un constructor de peticions per a la URL indicada amb el temps màxim d'espera configurat.
+     *
+     * @param url La URL de la petició.
+     * @return Un HttpRequest.Builder preparat per afegir capçaleres i mètode.
+     */
+    public HttpRequest.Builder newRequest(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(getRequestTimeout());
+    }
+
+    /**
+     * @return El temps màxim d'espera de cada petició.
+     */
+    public synchronized Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+}
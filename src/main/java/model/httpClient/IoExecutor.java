@@ -0,0 +1,67 @@
+package model.httpClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executor compartit per a totes les operacions bloquejants de l'aplicació (peticions HTTP, fitxers...).
+ *
+ * Cada tasca s'executa en un fil virtual propi, de manera que una crida bloquejant no ocupa cap fil de
+ * plataforma mentre espera i es poden llançar moltes peticions alhora sense mantenir cap pool. Els
+ * futurs que retorna supply() es poden cancel·lar: en cancel·lar-los s'interromp el fil virtual, i
+ * HttpClient.send() avorta la petició en curs.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public final class IoExecutor {
+
+    /** Executor amb un fil virtual per tasca. Els fils virtuals sempre són dimoni. */
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("meteoevents-io-", 0).factory());
+
+    private IoExecutor() {}
+
+    /**
+     * Acció bloquejant que retorna un valor i pot llançar qualsevol excepció.
+     *
+     * @param <T> Tipus del resultat.
+     */
+    @FunctionalInterface
+    public interface IoCall<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * @return L'executor de fils virtuals compartit.
+     */
+    public static ExecutorService getExecutor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Executa una crida bloquejant en un fil virtual.
+     *
+     * @param call La crida.
+     * @param <T> Tipus del resultat.
+     * @return Un futur amb el resultat o amb l'excepció de la crida. Cancel·lar-lo interromp la crida.
+     */
+    public static <T> CompletableFuture<T> supply(IoCall<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = EXECUTOR.submit(() -> {
+            try {
+                result.complete(call.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package model.httpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Conjunt de les operacions d'entrada i sortida que pertanyen a un mateix propietari, normalment
+ * un panell de la interfície.
+ *
+ * Les crides es llancen amb supply(), que les executa a IoExecutor, o es registren amb track() si ja
+ * són futurs (per exemple, els de HttpClient.sendAsync()). En tancar l'àmbit es cancel·len totes les
+ * que encara no han acabat i les noves es rebutgen. L'executor que retorna guard() descarta les
+ * continuacions d'un àmbit tancat, perquè el resultat d'una petició cancel·lada no actualitzi una
+ * vista que ja no es mostra.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public final class IoScope implements AutoCloseable {
+
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    /**
+     * Executa una crida bloquejant en un fil virtual i la registra en aquest àmbit.
+     *
+     * @param call La crida.
+     * @param <T> Tipus del resultat.
+     * @return El futur de la crida, o un futur cancel·lat si l'àmbit ja està tancat.
+     */
+    public <T> CompletableFuture<T> supply(IoExecutor.IoCall<T> call) {
+        if (closed) {
+            return cancelled();
+        }
+        return track(IoExecutor.supply(call));
+    }
+
+    /**
+     * Registra un futur perquè es cancel·li en tancar l'àmbit.
+     *
+     * @param future El futur.
+     * @param <T> Tipus del resultat.
+     * @return El mateix futur.
+     */
+    public <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        pending.add(future);
+        future.whenComplete((value, error) -> pending.remove(future));
+        if (closed) {
+            // L'àmbit s'ha tancat mentre es registrava
+            future.cancel(true);
+        }
+        return future;
+    }
+
+    /**
+     * Retorna un executor que només executa les tasques mentre l'àmbit està obert.
+     *
+     * @param executor L'executor real, per exemple Platform::runLater.
+     * @return L'executor protegit.
+     */
+    public Executor guard(Executor executor) {
+        return command -> {
+            if (!closed) {
+                executor.execute(() -> {
+                    if (!closed) {
+                        command.run();
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Cancel·la totes les operacions pendents. L'àmbit continua obert.
+     */
+    public void cancelAll() {
+        List<CompletableFuture<?>> futures = new ArrayList<>(pending);
+        pending.removeAll(futures);
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * @return El nombre d'operacions que encara no han acabat.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return true si l'àmbit s'ha tancat.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Tanca l'àmbit i cancel·la totes les operacions pendents.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cancelAll();
+    }
+
+    /**
+     * Retorna l'error real amb què s'ha completat un futur, sense la CompletionException que
+     * l'embolcalla quan es rep en una continuació.
+     *
+     * @param error L'error rebut per la continuació.
+     * @return La causa, o el mateix error si no està embolcallat.
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static <T> CompletableFuture<T> cancelled() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(new CancellationException("L'àmbit està tancat"));
+        return future;
+    }
+}
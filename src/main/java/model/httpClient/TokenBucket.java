@@ -0,0 +1,117 @@
+package model.httpClient;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de peticions de tipus "token bucket".
+ *
+ * El dipòsit té una capacitat màxima de fitxes i es va omplint a un ritme constant. Cada petició
+ * consumeix fitxes i, si no n'hi ha prou, espera el temps necessari perquè se'n generin. Així es
+ * permeten ràfegues curtes fins a la capacitat sense superar el ritme mitjà configurat.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class TokenBucket {
+
+    private final LongSupplier nanoClock;
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Crea un dipòsit ple.
+     *
+     * @param capacity Nombre màxim de fitxes acumulades (mida de la ràfega).
+     * @param permits Fitxes que es generen per cada període.
+     * @param period Període de generació de fitxes.
+     */
+    public TokenBucket(int capacity, int permits, Duration period) {
+        this(capacity, permits, period, System::nanoTime);
+    }
+
+    /**
+     * Constructor amb un rellotge injectable, útil per a les proves.
+     *
+     * @param capacity Nombre màxim de fitxes acumulades (mida de la ràfega).
+     * @param permits Fitxes que es generen per cada període.
+     * @param period Període de generació de fitxes.
+     * @param nanoClock Rellotge en nanosegons.
+     */
+    TokenBucket(int capacity, int permits, Duration period, LongSupplier nanoClock) {
+        if (capacity < 1 || permits < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("La capacitat, les fitxes i el període han de ser positius");
+        }
+        this.nanoClock = nanoClock;
+        this.capacity = capacity;
+        this.tokensPerNano = (double) permits / period.toNanos();
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Consumeix fitxes esperant, si cal, que se'n generin prou.
+     *
+     * @param permits Nombre de fitxes a consumir.
+     * @return El temps que s'ha esperat, en nanosegons.
+     * @throws InterruptedException Si el fil s'interromp durant l'espera.
+     */
+    public long acquire(int permits) throws InterruptedException {
+        long wait = reserve(permits);
+        if (wait > 0) {
+            Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+        }
+        return wait;
+    }
+
+    /**
+     * Consumeix fitxes només si n'hi ha prou ara mateix.
+     *
+     * @param permits Nombre de fitxes a consumir.
+     * @return true si s'han pogut consumir.
+     */
+    public synchronized boolean tryAcquire(int permits) {
+        refill();
+        if (tokens < permits) {
+            return false;
+        }
+        tokens -= permits;
+        return true;
+    }
+
+    /**
+     * @return Les fitxes disponibles en aquest moment.
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * Reserva fitxes encara que no n'hi hagi prou. El saldo queda negatiu i les peticions següents
+     * esperen el seu torn, de manera que l'ordre d'arribada es respecta.
+     *
+     * @param permits Nombre de fitxes a consumir.
+     * @return El temps que cal esperar abans de fer la petició, en nanosegons.
+     */
+    synchronized long reserve(int permits) {
+        if (permits > capacity) {
+            throw new IllegalArgumentException("No es poden demanar més fitxes que la capacitat");
+        }
+        refill();
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Afegeix les fitxes generades des de l'última vegada, sense superar la capacitat.
+     */
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,175 @@
+package model.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import model.aemet.AemetResponse;
+import model.model.Event;
+import model.model.Measure;
+import model.metrics.JsonBindEvent;
+import model.model.User;
+import model.statusEvent.StatusEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Classe auxiliar que centralitza la conversió entre JSON i objectes de l'aplicació.
+ * Manté un únic ObjectMapper i els lectors i escriptors ja construïts per a cada tipus,
+ * de manera que les caches de serialització de Jackson només s'escalfen una vegada.
+ * Els ObjectReader i ObjectWriter són immutables i es poden compartir entre fils.
+ *
+ * Cada lectura genera un JsonBindEvent de JDK Flight Recorder.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class JsonUtil {
+
+    /** Punter al node que embolcalla l'entitat a les respostes per identificador. */
+    private static final String BODY_POINTER = "/body";
+
+    /** ObjectMapper compartit per tota l'aplicació. No s'ha de reconfigurar després d'inicialitzar-se. */
+    public static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Lector genèric d'arbres JSON. */
+    public static final ObjectReader TREE_READER = MAPPER.reader();
+
+    /** Lectors i escriptors d'esdeveniments. */
+    public static final ObjectReader EVENT_LIST_READER = MAPPER.readerFor(new TypeReference<List<Event>>() {});
+    public static final ObjectReader EVENT_READER = MAPPER.readerFor(Event.class);
+    public static final ObjectReader EVENT_BODY_READER = EVENT_READER.at(BODY_POINTER);
+    public static final ObjectWriter EVENT_WRITER = MAPPER.writerFor(Event.class);
+
+    /** Lectors i escriptors d'usuaris. */
+    public static final ObjectReader USER_LIST_READER = MAPPER.readerFor(new TypeReference<List<User>>() {});
+    public static final ObjectReader USER_READER = MAPPER.readerFor(User.class);
+    public static final ObjectReader USER_BODY_READER = USER_READER.at(BODY_POINTER);
+    public static final ObjectWriter USER_WRITER = MAPPER.writerFor(User.class);
+
+    /**
+     * Escriptor d'usuaris per al magatzem local. No escriu la contrasenya, que no ha de quedar mai
+     * guardada a disc: la clau amb què es xifra el magatzem és dins de l'aplicació.
+     */
+    public static final ObjectWriter USER_STORE_WRITER = MAPPER.copy()
+            .addMixIn(User.class, StoredUserMixin.class)
+            .writerFor(User.class);
+
+    /** Lectors i escriptors de mesures de prevenció. */
+    public static final ObjectReader MEASURE_LIST_READER = MAPPER.readerFor(new TypeReference<List<Measure>>() {});
+    public static final ObjectReader MEASURE_READER = MAPPER.readerFor(Measure.class);
+    public static final ObjectReader MEASURE_BODY_READER = MEASURE_READER.at(BODY_POINTER);
+    public static final ObjectWriter MEASURE_WRITER = MAPPER.writerFor(Measure.class);
+
+    /** Lector de les prediccions de l'Aemet. */
+    public static final ObjectReader AEMET_RESPONSE_LIST_READER =
+            MAPPER.readerFor(new TypeReference<List<AemetResponse>>() {});
+
+    /** Lector de l'estat d'un esdeveniment. */
+    public static final ObjectReader STATUS_EVENT_READER = MAPPER.readerFor(StatusEvent.class);
+
+    private JsonUtil() {}
+
+    /** Anotacions que s'afegeixen a User en escriure'l al magatzem local. */
+    private abstract static class StoredUserMixin {
+        @JsonIgnore
+        private String contrasenya;
+    }
+
+    /**
+     * Llegeix un text JSON com a arbre de nodes.
+     *
+     * @param json El text JSON.
+     * @return El node arrel.
+     * @throws IOException Si el text no és un JSON vàlid.
+     */
+    public static JsonNode readTree(String json) throws IOException {
+        JsonBindEvent event = new JsonBindEvent();
+        event.begin();
+        JsonNode node = TREE_READER.readTree(json);
+        event.commit("JsonNode", json.length(), 1);
+        return node;
+    }
+
+    /**
+     * Llegeix un text JSON amb un dels lectors d'aquesta classe.
+     *
+     * @param reader El lector del tipus que es vol obtenir.
+     * @param json El text JSON.
+     * @param <T> El tipus llegit.
+     * @return El valor llegit.
+     * @throws IOException Si el text no és un JSON vàlid del tipus del lector.
+     */
+    public static <T> T read(ObjectReader reader, String json) throws IOException {
+        JsonBindEvent event = new JsonBindEvent();
+        event.begin();
+        T value = reader.readValue(json);
+        if (event.shouldCommit()) {
+            event.commit(typeName(reader), json.length(), 1);
+        }
+        return value;
+    }
+
+    /**
+     * Llegeix l'entitat continguda al camp "body" d'una resposta del servidor.
+     *
+     * @param bodyReader Un dels lectors *_BODY_READER d'aquesta classe.
+     * @param json La resposta desxifrada del servidor.
+     * @param <T> El tipus de l'entitat.
+     * @return L'entitat llegida, o null si la resposta és buida o el camp "body" és null.
+     * @throws IOException Si el text no és un JSON vàlid o no conté el camp "body".
+     */
+    public static <T> T readBody(ObjectReader bodyReader, String json) throws IOException {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        return read(bodyReader, json);
+    }
+
+    /**
+     * Llegeix un array JSON element a element des d'un flux i lliura cada element a mesura
+     * que es completa. Només es manté a memòria l'element que s'està llegint.
+     *
+     * @param json El flux amb l'array JSON.
+     * @param elementReader Lector del tipus dels elements de l'array.
+     * @param consumer Destinatari de cada element llegit.
+     * @param <T> El tipus dels elements.
+     * @throws IOException Si el flux no conté un array JSON vàlid.
+     */
+    public static <T> void readArray(InputStream json, ObjectReader elementReader, Consumer<T> consumer)
+            throws IOException {
+        JsonBindEvent event = new JsonBindEvent();
+        event.begin();
+        long elements = 0;
+        try (JsonParser parser = MAPPER.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(parser, List.class, "S'esperava un array JSON");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw MismatchedInputException.from(parser, List.class, "Array JSON incomplet");
+                }
+                if (token != JsonToken.VALUE_NULL) {
+                    consumer.accept(elementReader.readValue(parser));
+                    elements++;
+                }
+            }
+        }
+        if (event.shouldCommit()) {
+            event.commit(typeName(elementReader) + "[]", -1, elements);
+        }
+    }
+
+    /** Nom curt del tipus d'un lector, per als esdeveniments de JFR. */
+    private static String typeName(ObjectReader reader) {
+        return reader.getValueType() == null ? "?" : reader.getValueType().toCanonical();
+    }
+}
@@ -1,17 +1,21 @@
 package model.login;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import model.crud.CrudCache;
+import model.store.LocalStores;
 import model.encryption.CipherUtil;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.metrics.EndpointMetrics;
+import model.metrics.Metrics;
 import model.tokenSingleton.TokenSingleton;
 import org.meteoevents.meteoevents.App;
 import utilities.PathsViews;
 import utilities.URLRequests;
 import java.io.IOException;
-import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -51,10 +55,10 @@ public class LoginClient {
     private HttpResponse<String> response;
 
     /**
-     * Constructor. Crea una nova instància de LoginClient i inicialitza el client HTTP.
+     * Constructor. Crea una nova instància de LoginClient amb el client HTTP compartit de l'aplicació.
      */
     public LoginClient() {
-        this.httpClient = HttpClient.newHttpClient();
+        this(HttpClientSingleton.getInstance().getHttpClient());
     }
 
     /**
@@ -80,21 +84,20 @@ public class LoginClient {
      */
     public String loginUsuari(String nomUsuari, String contrasenya) throws Exception {
         //Encripta el nom d'usuarinomEncripta
-        String encriptedName = CipherUtil.encrypt(nomUsuari);
-        String Base64Name = Base64.getEncoder().encodeToString(encriptedName.getBytes());
+        String Base64Name = Base64.getEncoder().encodeToString(
+                CipherUtil.encryptToBytes(nomUsuari.getBytes(StandardCharsets.UTF_8)));
 
         // Encripta la contrasenya i la codifica amb Base64
         contrasenya = contrasenya + "|" + Instant.now();
-        String encryptedPassword = CipherUtil.encrypt(contrasenya);
-        String Base64Password = Base64.getEncoder().encodeToString(encryptedPassword.getBytes());
+        String Base64Password = Base64.getEncoder().encodeToString(
+                CipherUtil.encryptToBytes(contrasenya.getBytes(StandardCharsets.UTF_8)));
 
         // Codifica els paràmetre per obtindre una URL correcta en cas de trobar algun caràcter especial
         String params = "nomUsuari=" + URLEncoder.encode(Base64Name, StandardCharsets.UTF_8)
                 + "&contrasenya=" + Base64Password;
 
         // Crea la petició HTTP POST
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(URL_LOGIN))
+        HttpRequest request = HttpClientSingleton.getInstance().newRequest(URL_LOGIN)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .POST(HttpRequest.BodyPublishers.ofString(params))
                 .build();
@@ -106,17 +109,20 @@ public class LoginClient {
         // i retorna un missatge amb ladminaa confirmació de la connexió
         switch (response.statusCode()) {
             case 200:
+                EndpointMetrics metrics = Metrics.getInstance().endpoint(request);
                 //Desencriptar la resposta
-                String decryptedResponse = CipherUtil.decrypt(response.body());
+                String decryptedResponse = metrics.time(EndpointMetrics.Phase.DECRYPT,
+                        () -> CipherUtil.decrypt(response.body()));
                 //Jackson per extreure la informació del JSON retornat
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode jsonNode = objectMapper.readTree(decryptedResponse);
+                JsonNode jsonNode = metrics.time(EndpointMetrics.Phase.PARSE, () -> JsonUtil.readTree(decryptedResponse));
                 jwtToken = jsonNode.get("token").asText();
                 funcionalID = jsonNode.get("funcionalId").asText();
                 id = jsonNode.get("usuariId").asText();
                 //Assigna el token i l'id a la classe TokenSingleton per poder fer-lo servir a tota l'aplicació.
                 TokenSingleton.getInstance().setJwtToken(jwtToken);
                 TokenSingleton.getInstance().setId(id);
+                //Obre les dades guardades localment per aquest usuari
+                LocalStores.open(id);
                 return EXPECTED_LOGIN_MESSAGE;
             case 401:
                 return INCORRECT_CREDENTIAL_MESSAGE;
@@ -145,8 +151,7 @@ public class LoginClient {
     public String logoutUsuari(String token) throws IOException, InterruptedException {
 
         //Petició de logout al backend
-        HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(URI.create(URLRequests.LOGOUT_URL))
+        HttpRequest httpRequest = HttpClientSingleton.getInstance().newRequest(URLRequests.LOGOUT_URL)
                 .header("Authorization", "Bearer " + token)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .POST(HttpRequest.BodyPublishers.noBody())
@@ -154,8 +159,10 @@ public class LoginClient {
 
         response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
 
-        //Esborra el token
+        //Esborra el token i les dades carregades durant la sessió
         jwtToken = "";
+        CrudCache.clearAll();
+        LocalStores.close();
 
         loadLoginScreen();
 
@@ -0,0 +1,51 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Esdeveniment de JDK Flight Recorder per a cada operació de CipherUtil, amb la mida de l'entrada i
+ * de la sortida. En els fluxos desxifrats, l'esdeveniment dura des que es crea el flux fins que es tanca.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+@Name("meteoevents.Crypto")
+@Label("Crypto Operation")
+@Category({"MeteoEvents", "Crypto"})
+@Description("Xifrat o desxifrat AES de CipherUtil")
+@StackTrace(false)
+public final class CryptoEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Input Size")
+    @DataAmount
+    private long inputBytes;
+
+    @Label("Output Size")
+    @DataAmount
+    private long outputBytes;
+
+    /**
+     * Completa l'esdeveniment i l'envia si s'està enregistrant.
+     *
+     * @param operation El nom de l'operació.
+     * @param inputBytes La mida de l'entrada.
+     * @param outputBytes La mida de la sortida.
+     */
+    public void commit(String operation, long inputBytes, long outputBytes) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.inputBytes = inputBytes;
+            this.outputBytes = outputBytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package model.metrics;
+
+import model.httpClient.IoExecutor;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mesures d'un punt d'accés (endpoint): un histograma de latència per cada fase de la petició,
+ * la mida de les respostes i el nombre de peticions i d'errors.
+ *
+ * Les latències es desen en microsegons.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class EndpointMetrics {
+
+    /**
+     * Fases en què es divideix el temps d'una petició.
+     */
+    public enum Phase {
+        /** Des que s'envia la petició fins que s'ha rebut la resposta sencera. */
+        NETWORK,
+        /** Desxifrat del cos de la resposta. */
+        DECRYPT,
+        /** Lectura del JSON de la resposta. */
+        PARSE
+    }
+
+    private final String name;
+    private final Map<Phase, Histogram> latencies = new EnumMap<>(Phase.class);
+    private final Histogram sizes = new Histogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * @param name El nom del punt d'accés.
+     */
+    public EndpointMetrics(String name) {
+        this.name = name;
+        for (Phase phase : Phase.values()) {
+            latencies.put(phase, new Histogram());
+        }
+    }
+
+    /**
+     * @return El nom del punt d'accés.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Enregistra la durada d'una fase.
+     *
+     * @param phase La fase.
+     * @param nanos La durada en nanosegons.
+     */
+    public void record(Phase phase, long nanos) {
+        latencies.get(phase).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Enregistra una petició completada.
+     *
+     * @param nanos El temps de xarxa en nanosegons.
+     * @param bytes La mida de la resposta, o un valor negatiu si no es coneix.
+     * @param error true si la petició ha fallat.
+     */
+    public void recordRequest(long nanos, long bytes, boolean error) {
+        requests.increment();
+        record(Phase.NETWORK, nanos);
+        if (bytes >= 0) {
+            sizes.record(bytes);
+        }
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Enregistra un error fora de la petició (per exemple, en desxifrar o llegir la resposta).
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Executa una acció i n'enregistra la durada com a la fase indicada.
+     *
+     * @param phase La fase.
+     * @param call L'acció.
+     * @param <T> Tipus del resultat.
+     * @return El resultat de l'acció.
+     * @throws Exception L'excepció de l'acció, que també es compta com a error.
+     */
+    public <T> T time(Phase phase, IoExecutor.IoCall<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } catch (Exception e) {
+            errors.increment();
+            throw e;
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Enregistra el temps d'una resposta llegida en streaming, on la xarxa, el desxifrat i la lectura
+     * del JSON s'alternen. El temps de cada fase es calcula a partir del temps acumulat de cada flux.
+     *
+     * @param body El cos de la resposta tal com arriba de la xarxa.
+     * @param decrypted El flux desxifrat que s'ha llegit.
+     * @param totalNanos El temps total de la lectura.
+     */
+    public void recordStream(TimingInputStream body, TimingInputStream decrypted, long totalNanos) {
+        record(Phase.DECRYPT, decrypted.getNanos() - body.getNanos());
+        record(Phase.PARSE, totalNanos - decrypted.getNanos());
+    }
+
+    /**
+     * Esborra totes les mesures.
+     */
+    public void reset() {
+        latencies.values().forEach(Histogram::reset);
+        sizes.reset();
+        requests.reset();
+        errors.reset();
+    }
+
+    /**
+     * @return Una còpia de les mesures actuals.
+     */
+    public Snapshot snapshot() {
+        Map<Phase, Histogram.Snapshot> copy = new EnumMap<>(Phase.class);
+        latencies.forEach((phase, histogram) -> copy.put(phase, histogram.snapshot()));
+        return new Snapshot(name, requests.sum(), errors.sum(), sizes.snapshot(), copy);
+    }
+
+    /**
+     * Còpia de les mesures d'un punt d'accés.
+     *
+     * @param name El nom del punt d'accés.
+     * @param requests El nombre de peticions.
+     * @param errors El nombre d'errors.
+     * @param sizes Les mides de les respostes, en bytes.
+     * @param latencies Les latències de cada fase, en microsegons.
+     */
+    public record Snapshot(String name, long requests, long errors, Histogram.Snapshot sizes,
+                           Map<Phase, Histogram.Snapshot> latencies) {
+
+        /**
+         * @param phase La fase.
+         * @return Les latències de la fase, en microsegons.
+         */
+        public Histogram.Snapshot latency(Phase phase) {
+            return latencies.get(phase);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valors enters no negatius amb precisió relativa fixa, a l'estil de HdrHistogram.
+ *
+ * Els valors menors que 128 tenen cada un el seu comptador. A partir d'aquí cada potència de 2 es
+ * divideix en 64 intervals iguals, de manera que l'error de qualsevol percentil és inferior a l'1,6%
+ * i el histograma ocupa una mida fixa (uns 30 KB) sigui quin sigui el rang dels valors. L'enregistrament
+ * no fa servir cap bloqueig i es pot cridar des de molts fils alhora.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class Histogram {
+
+    /** Bits de precisió: cada potència de 2 es divideix en 2^(SUB_BITS - 1) intervals. */
+    private static final int SUB_BITS = 7;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_COUNT = SUB_COUNT / 2;
+    private static final int BUCKETS = SUB_COUNT + (Long.SIZE - SUB_BITS) * HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Enregistra un valor. Els valors negatius es compten com a 0.
+     *
+     * @param value El valor.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(index(v));
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Esborra tots els valors enregistrats. Els valors que s'enregistren mentre s'esborra poden perdre's.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * @return Una còpia dels valors enregistrats fins ara.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sum.sum(), max.get());
+    }
+
+    /**
+     * Retorna l'interval on es compta un valor.
+     *
+     * @param value El valor, no negatiu.
+     * @return L'índex de l'interval.
+     */
+    static int index(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BITS - 1);
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (int) (value >>> shift) - HALF_COUNT;
+    }
+
+    /**
+     * Retorna el valor més gran que es compta a l'interval indicat.
+     *
+     * @param index L'índex de l'interval.
+     * @return El límit superior de l'interval.
+     */
+    static long highestValue(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_COUNT) / HALF_COUNT + 1;
+        long sub = (index - SUB_COUNT) % HALF_COUNT + HALF_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Còpia immutable dels valors d'un histograma.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return El nombre de valors.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return La mitjana dels valors, o 0 si no n'hi ha cap.
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * @return El valor més gran, o 0 si no n'hi ha cap.
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * Retorna el valor per sota del qual hi ha el percentatge indicat dels valors.
+         *
+         * @param percentile El percentil, de 0 a 100.
+         * @return El valor del percentil, o 0 si no hi ha cap valor.
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(highestValue(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
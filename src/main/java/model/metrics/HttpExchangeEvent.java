@@ -0,0 +1,56 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Esdeveniment de JDK Flight Recorder per a cada petició HTTP, des que s'envia fins que s'ha rebut
+ * la resposta sencera. L'enregistra MeteredHttpClient.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+@Name("meteoevents.HttpExchange")
+@Label("HTTP Exchange")
+@Category({"MeteoEvents", "HTTP"})
+@Description("Petició HTTP al servidor o a l'Aemet")
+@StackTrace(false)
+public final class HttpExchangeEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("Mètode i camí de la petició, amb els identificadors substituïts per {id}")
+    private String endpoint;
+
+    @Label("Status Code")
+    private int statusCode;
+
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Completa l'esdeveniment i l'envia si s'està enregistrant.
+     *
+     * @param endpoint El punt d'accés.
+     * @param statusCode El codi de la resposta, o 0 si la petició ha fallat abans de rebre'n.
+     * @param responseBytes La mida de la resposta, o -1 si no es coneix.
+     * @param failed true si la petició compta com a error.
+     */
+    public void commit(String endpoint, int statusCode, long responseBytes, boolean failed) {
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.statusCode = statusCode;
+            this.responseBytes = responseBytes;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
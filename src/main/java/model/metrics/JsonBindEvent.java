@@ -0,0 +1,49 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Esdeveniment de JDK Flight Recorder per a cada lectura de JSON amb Jackson. Les lectures d'arrays en
+ * streaming generen un sol esdeveniment amb el nombre d'elements.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+@Name("meteoevents.JsonBind")
+@Label("JSON Bind")
+@Category({"MeteoEvents", "JSON"})
+@Description("Lectura d'un JSON a objectes amb Jackson")
+@StackTrace(false)
+public final class JsonBindEvent extends Event {
+
+    @Label("Type")
+    private String type;
+
+    @Label("Input Length")
+    @Description("Caràcters del text llegit, o -1 si es llegeix d'un flux")
+    private long inputLength;
+
+    @Label("Elements")
+    private long elements;
+
+    /**
+     * Completa l'esdeveniment i l'envia si s'està enregistrant.
+     *
+     * @param type El tipus llegit.
+     * @param inputLength La longitud del text, o -1 si es llegeix d'un flux.
+     * @param elements El nombre d'objectes llegits.
+     */
+    public void commit(String type, long inputLength, long elements) {
+        if (shouldCommit()) {
+            this.type = type;
+            this.inputLength = inputLength;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
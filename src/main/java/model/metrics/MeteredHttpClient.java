@@ -0,0 +1,253 @@
+package model.metrics;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Client HTTP que delega en un altre i enregistra a Metrics el temps de xarxa, la mida de la resposta
+ * i els errors de cada petició, agrupats per punt d'accés.
+ *
+ * Es compta com a error qualsevol excepció i les respostes amb codi 4xx o 5xx, excepte 404, que el
+ * servidor fa servir per indicar que una entitat no existeix. Quan el cos de la resposta és
+ * un InputStream, el temps de xarxa inclou el que es passa llegint-lo i s'enregistra en tancar-lo, de
+ * manera que les lectures en streaming es poden separar de la xarxa amb TimingInputStream.
+ *
+ * Cada petició genera també un HttpExchangeEvent de JDK Flight Recorder.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class MeteredHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final Metrics metrics;
+
+    /**
+     * @param delegate El client que fa les peticions.
+     * @param metrics El registre on s'enregistren les mesures.
+     */
+    public MeteredHttpClient(HttpClient delegate, Metrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        EndpointMetrics endpoint = metrics.endpoint(request);
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return completed(endpoint, event, start, delegate.send(request, handler));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            failed(endpoint, event, start);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> handler) {
+        return metered(request, delegate.sendAsync(request, handler));
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        return metered(request, delegate.sendAsync(request, handler, pushPromiseHandler));
+    }
+
+    /**
+     * Enregistra la petició quan el futur es completa. El futur retornat és el del client original,
+     * perquè cancel·lar-lo continuï avortant la petició.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> metered(HttpRequest request,
+                                                           CompletableFuture<HttpResponse<T>> future) {
+        EndpointMetrics endpoint = metrics.endpoint(request);
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                failed(endpoint, event, start);
+                result.completeExceptionally(error);
+            } else {
+                result.complete(completed(endpoint, event, start, response));
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Enregistra una resposta rebuda. Si el cos és un flux, l'enregistrament es fa en tancar-lo.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> HttpResponse<T> completed(EndpointMetrics endpoint, HttpExchangeEvent event, long start,
+                                                 HttpResponse<T> response) {
+        int status = response.statusCode();
+        boolean error = status >= 400 && status != 404;
+        T body = response.body();
+        if (body instanceof InputStream stream) {
+            long headers = System.nanoTime() - start;
+            TimingInputStream timed = new TimingInputStream(stream, timing -> {
+                endpoint.recordRequest(headers + timing.getNanos(), timing.getBytes(), error);
+                event.commit(endpoint.getName(), status, timing.getBytes(), error);
+            });
+            return new BodyResponse<>(response, (T) timed);
+        }
+        long bytes = size(response, body);
+        endpoint.recordRequest(System.nanoTime() - start, bytes, error);
+        event.commit(endpoint.getName(), status, bytes, error);
+        return response;
+    }
+
+    /**
+     * Enregistra una petició que ha fallat sense resposta.
+     */
+    private static void failed(EndpointMetrics endpoint, HttpExchangeEvent event, long start) {
+        endpoint.recordRequest(System.nanoTime() - start, -1, true);
+        event.commit(endpoint.getName(), 0, -1, true);
+    }
+
+    /**
+     * @return La mida del cos en bytes, la de la capçalera Content-Length o -1 si no es coneix.
+     */
+    private static long size(HttpResponse<?> response, Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        if (length < 0 && body instanceof String text) {
+            return text.length();
+        }
+        return length;
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return delegate.awaitTermination(duration);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    /**
+     * Resposta que delega en una altra però amb un cos diferent.
+     */
+    private record BodyResponse<T>(HttpResponse<T> response, T body) implements HttpResponse<T> {
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return response.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+    }
+}
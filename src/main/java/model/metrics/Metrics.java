@@ -0,0 +1,108 @@
+package model.metrics;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registre de les mesures de tots els punts d'accés (endpoints) de l'aplicació.
+ *
+ * Cada punt d'accés s'identifica pel mètode i pel camí de la URL, amb els identificadors substituïts
+ * per {id}, de manera que totes les peticions d'un mateix tipus comparteixen histogrames. La consulta
+ * dels paràmetres (on l'Aemet rep la clau) no forma part del nom.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class Metrics {
+
+    /** Nom del punt d'accés quan no es coneix la petició. */
+    public static final String UNKNOWN = "desconegut";
+
+    /** Segments del camí que són identificadors: contenen algun dígit o són molt llargs. */
+    private static final Pattern ID_SEGMENT = Pattern.compile(".*\\d.*|.{20,}");
+
+    private static final Metrics instance = new Metrics();
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor públic per poder fer servir registres propis a les proves.
+     */
+    public Metrics() {}
+
+    /**
+     * @return El registre compartit de l'aplicació.
+     */
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Retorna les mesures d'un punt d'accés, creant-les si encara no existeixen.
+     *
+     * @param name El nom del punt d'accés.
+     * @return Les seves mesures.
+     */
+    public EndpointMetrics endpoint(String name) {
+        return endpoints.computeIfAbsent(name, EndpointMetrics::new);
+    }
+
+    /**
+     * Retorna les mesures del punt d'accés d'una petició.
+     *
+     * @param request La petició, o null si no es coneix.
+     * @return Les mesures del seu punt d'accés.
+     */
+    public EndpointMetrics endpoint(HttpRequest request) {
+        return endpoint(request == null ? UNKNOWN : endpointName(request.method(), request.uri()));
+    }
+
+    /**
+     * Construeix el nom d'un punt d'accés.
+     *
+     * @param method El mètode HTTP.
+     * @param uri La URL de la petició.
+     * @return El mètode i el camí, amb els identificadors substituïts per {id}.
+     */
+    public static String endpointName(String method, URI uri) {
+        StringBuilder name = new StringBuilder(method).append(' ');
+        int length = name.length();
+        String path = uri.getRawPath();
+        if (path != null) {
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty()) {
+                    name.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+                }
+            }
+        }
+        if (name.length() == length) {
+            name.append('/');
+        }
+        return name.toString();
+    }
+
+    /**
+     * @return Les mesures de tots els punts d'accés, ordenades per nom.
+     */
+    public List<EndpointMetrics.Snapshot> snapshot() {
+        List<EndpointMetrics.Snapshot> snapshots = new ArrayList<>(endpoints.size());
+        for (EndpointMetrics metrics : endpoints.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(EndpointMetrics.Snapshot::name));
+        return snapshots;
+    }
+
+    /**
+     * Esborra les mesures de tots els punts d'accés.
+     */
+    public void reset() {
+        endpoints.values().forEach(EndpointMetrics::reset);
+    }
+}
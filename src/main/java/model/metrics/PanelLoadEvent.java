@@ -0,0 +1,43 @@
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Esdeveniment de JDK Flight Recorder per a cada càrrega d'un panell FXML, incloent-hi la creació del
+ * controlador i l'alliberament del panell anterior.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+@Name("meteoevents.PanelLoad")
+@Label("Panel Load")
+@Category({"MeteoEvents", "UI"})
+@Description("Càrrega d'una vista FXML en un contenidor")
+@StackTrace(false)
+public final class PanelLoadEvent extends Event {
+
+    @Label("View")
+    private String view;
+
+    @Label("Controller")
+    private String controller;
+
+    /**
+     * Completa l'esdeveniment i l'envia si s'està enregistrant.
+     *
+     * @param view El camí de la vista.
+     * @param controller El nom de la classe del controlador, o null si la vista no en té.
+     */
+    public void commit(String view, String controller) {
+        if (shouldCommit()) {
+            this.view = view;
+            this.controller = controller;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package model.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Flux que compta els bytes llegits i el temps que es passa dins de les lectures. Si es llegeix un
+ * flux que n'envolta un altre (per exemple, el desxifrat sobre el cos de la resposta), la diferència
+ * entre els temps dels dos fluxos és el temps propi del de fora.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class TimingInputStream extends FilterInputStream {
+
+    private final Consumer<TimingInputStream> onClose;
+    private long nanos;
+    private long bytes;
+    private boolean closed;
+
+    /**
+     * @param in El flux original.
+     */
+    public TimingInputStream(InputStream in) {
+        this(in, null);
+    }
+
+    /**
+     * @param in El flux original.
+     * @param onClose Acció que s'executa un cop, en tancar el flux, o null.
+     */
+    public TimingInputStream(InputStream in, Consumer<TimingInputStream> onClose) {
+        super(in);
+        this.onClose = onClose;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        try {
+            int value = super.read();
+            if (value >= 0) {
+                bytes++;
+            }
+            return value;
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                bytes += read;
+            }
+            return read;
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        try {
+            long skipped = super.skip(n);
+            bytes += skipped;
+            return skipped;
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                if (onClose != null) {
+                    onClose.accept(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return El temps total passat dins de les lectures, en nanosegons.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return El nombre de bytes llegits.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+}
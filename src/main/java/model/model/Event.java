@@ -279,7 +279,7 @@ public class Event {
      *
      * @return la data de l'esdeveniment
      */
-    public String getDataEsde(String text) {
+    public String getDataEsde() {
         return dataEsde;
     }
 
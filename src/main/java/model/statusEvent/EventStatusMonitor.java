@@ -0,0 +1,417 @@
+package model.statusEvent;
+
+import model.crud.CrudEvent;
+import model.httpClient.HttpClientSingleton;
+import model.json.JsonUtil;
+import model.model.Event;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servei que vigila en segon pla l'estat meteorològic dels esdeveniments propers.
+ *
+ * Periòdicament obté la llista d'esdeveniments, selecciona els que se celebren dins de la finestra
+ * de vigilància (per defecte, les properes 48 hores) i demana l'estat de cadascun amb un nombre
+ * limitat de peticions simultànies. Cada resultat es compara amb el de la consulta anterior i només
+ * s'avisa als oients quan canvia el nivell d'alerta màxim o les mesures de prevenció.
+ *
+ * La primera consulta d'un esdeveniment només en guarda l'estat. Si la petició d'un esdeveniment
+ * falla, es conserva l'estat anterior perquè un error puntual no es confongui amb un canvi.
+ *
+ * Les peticions es fan sense cap bloqueig: l'estat només es bloqueja per llegir la configuració i per
+ * guardar-hi el resultat, i la planificació té un bloqueig propi. Així stop() i getSnapshots() no
+ * esperen mai que acabi una consulta en curs. En aturar-se, les peticions en curs es cancel·len i
+ * el resultat de la consulta interrompuda es descarta sense avisar els oients.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class EventStatusMonitor {
+
+    /** Valors per defecte de la configuració. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofHours(48);
+    public static final Duration DEFAULT_PERIOD = Duration.ofMinutes(10);
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final CrudEvent crudEvent;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Clock clock;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private Duration window = DEFAULT_WINDOW;
+    private Map<String, Snapshot> snapshots = new HashMap<>();
+
+    /** Bloqueig de la planificació, separat del de l'estat que fan servir les consultes. */
+    private final Object schedulerLock = new Object();
+    private ScheduledExecutorService scheduler;
+
+    /** Nombre de vegades que s'ha aturat. Una consulta començada abans d'aturar-se no es desa. */
+    private volatile long stops;
+
+    /** Tasques de les peticions d'estat en curs. */
+    private final Set<CompletableFuture<?>> workers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor per defecte amb el client HTTP compartit de l'aplicació.
+     */
+    public EventStatusMonitor() {
+        this(new CrudEvent(), HttpClientSingleton.getInstance().getExecutor(), DEFAULT_MAX_CONCURRENCY,
+                Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructor que permet injectar les peticions, la concurrència i el rellotge.
+     *
+     * @param crudEvent Client per obtenir els esdeveniments i el seu estat.
+     * @param executor Executor on es fan les peticions d'estat.
+     * @param maxConcurrency Nombre màxim de peticions d'estat simultànies.
+     * @param clock Rellotge per calcular la finestra de vigilància.
+     */
+    public EventStatusMonitor(CrudEvent crudEvent, Executor executor, int maxConcurrency, Clock clock) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("La concurrència ha de ser com a mínim 1");
+        }
+        this.crudEvent = crudEvent;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.clock = clock;
+    }
+
+    /**
+     * @param listener Oient que rebrà els canvis d'estat.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener Oient que ja no ha de rebre els canvis d'estat.
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @param window Temps a partir d'ara dins del qual un esdeveniment es vigila.
+     */
+    public synchronized void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * Comença a vigilar els esdeveniments. La primera consulta es fa immediatament i les següents
+     * quan ha passat el període des del final de l'anterior. Si ja estava en marxa, no fa res.
+     *
+     * @param period Temps entre consultes.
+     */
+    public void start(Duration period) {
+        synchronized (schedulerLock) {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "meteoevents-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::pollQuietly, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Atura la vigilància sense esperar la consulta en curs: se'n cancel·len les peticions i el seu
+     * resultat es descarta sense avisar els oients. L'últim estat conegut es conserva per si es torna
+     * a iniciar.
+     */
+    public void stop() {
+        synchronized (schedulerLock) {
+            stops++;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        for (CompletableFuture<?> worker : workers) {
+            worker.cancel(true);
+        }
+    }
+
+    /**
+     * @return true si la vigilància està en marxa.
+     */
+    public boolean isRunning() {
+        synchronized (schedulerLock) {
+            return scheduler != null;
+        }
+    }
+
+    /**
+     * Fa una consulta de tots els esdeveniments de la finestra, avisa als oients dels canvis i
+     * els retorna.
+     *
+     * @return Els canvis respecte de la consulta anterior, en l'ordre de la llista d'esdeveniments,
+     *         o una llista buida si el monitor s'ha aturat durant la consulta.
+     * @throws Exception Si no s'ha pogut obtenir la llista d'esdeveniments.
+     */
+    public List<StatusChange> poll() throws Exception {
+        long session = stops;
+        Duration window;
+        synchronized (this) {
+            window = this.window;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime limit = now.plus(window);
+        List<Event> events = new ArrayList<>();
+        for (Event event : crudEvent.getAllEvents()) {
+            if (event.getId() != null && isWithin(event, now, limit)) {
+                events.add(event);
+            }
+        }
+        Map<String, Snapshot> current = fetchAll(events);
+
+        List<StatusChange> changes = new ArrayList<>();
+        synchronized (this) {
+            if (session != stops) {
+                return changes;
+            }
+            Map<String, Snapshot> next = new HashMap<>();
+            for (Event event : events) {
+                Snapshot previous = snapshots.get(event.getId());
+                Snapshot snapshot = current.getOrDefault(event.getId(), previous);
+                if (snapshot == null) {
+                    continue;
+                }
+                next.put(event.getId(), snapshot);
+                if (previous != null && !previous.sameStatus(snapshot)) {
+                    changes.add(new StatusChange(event, previous, snapshot));
+                }
+            }
+            snapshots = next;
+        }
+
+        for (StatusChange change : changes) {
+            if (session != stops) {
+                break;
+            }
+            for (Listener listener : listeners) {
+                listener.statusChanged(change);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @return L'últim estat conegut de cada esdeveniment vigilat, per identificador.
+     */
+    public synchronized Map<String, Snapshot> getSnapshots() {
+        return Collections.unmodifiableMap(new HashMap<>(snapshots));
+    }
+
+    /**
+     * Consulta periòdica: els errors s'escriuen i no aturen la planificació.
+     */
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (InterruptedException e) {
+            // S'ha aturat el monitor
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("No s'ha pogut consultar l'estat dels esdeveniments: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Demana l'estat de tots els esdeveniments amb un nombre limitat de tasques concurrents.
+     *
+     * @param events Els esdeveniments a consultar.
+     * @return L'estat de cada esdeveniment que s'ha pogut obtenir, per identificador.
+     * @throws InterruptedException Si el fil s'interromp mentre espera les peticions.
+     * @throws ExecutionException Si alguna tasca falla de manera inesperada.
+     */
+    private Map<String, Snapshot> fetchAll(List<Event> events) throws InterruptedException, ExecutionException {
+        Map<String, Snapshot> result = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        int count = Math.min(maxConcurrency, events.size());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            futures[i] = future;
+            workers.add(future);
+            future.whenComplete((value, error) -> workers.remove(future));
+            executor.execute(() -> {
+                try {
+                    for (int index = next.getAndIncrement(); index < events.size() && !future.isDone();
+                         index = next.getAndIncrement()) {
+                        Event event = events.get(index);
+                        Snapshot snapshot = fetch(event);
+                        if (snapshot != null) {
+                            result.put(event.getId(), snapshot);
+                        }
+                    }
+                    future.complete(null);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+        try {
+            CompletableFuture.allOf(futures).get();
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof CancellationException)) {
+                throw e;
+            }
+            // stop() ha cancel·lat les peticions i poll() descartarà el resultat
+        } finally {
+            for (CompletableFuture<?> future : futures) {
+                // Si l'espera s'ha interromput, els treballadors no comencen cap petició més
+                future.cancel(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param event L'esdeveniment.
+     * @return El seu estat, o null si el servidor no l'ha pogut donar.
+     */
+    private Snapshot fetch(Event event) {
+        try {
+            String response = crudEvent.getStatusById(event.getId());
+            if (response == null || !response.trim().startsWith("{")) {
+                return null;
+            }
+            return Snapshot.of(event.getId(), JsonUtil.read(JsonUtil.STATUS_EVENT_READER, response));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indica si un esdeveniment encara no ha acabat i comença abans del límit de la finestra.
+     * Si l'hora no es pot interpretar, es considera tot el dia.
+     *
+     * @param event L'esdeveniment.
+     * @param now El moment actual.
+     * @param limit El final de la finestra de vigilància.
+     * @return true si s'ha de vigilar.
+     */
+    static boolean isWithin(Event event, LocalDateTime now, LocalDateTime limit) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(event.getDataEsde().trim());
+        } catch (DateTimeParseException | NullPointerException e) {
+            return false;
+        }
+        LocalTime startTime = parseTime(event.getHoraInici(), LocalTime.MIN);
+        LocalTime endTime = parseTime(event.getHoraFi(), LocalTime.MAX);
+        LocalDateTime start = date.atTime(startTime);
+        LocalDateTime end = date.atTime(endTime);
+        if (end.isBefore(start)) {
+            // L'esdeveniment acaba l'endemà
+            end = end.plusDays(1);
+        }
+        return !start.isAfter(limit) && !end.isBefore(now);
+    }
+
+    private static LocalTime parseTime(String text, LocalTime fallback) {
+        try {
+            return LocalTime.parse(text.trim());
+        } catch (DateTimeParseException | NullPointerException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Oient dels canvis d'estat. Es crida des del fil del monitor, no des del de la interfície gràfica.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param change El canvi detectat.
+         */
+        void statusChanged(StatusChange change);
+    }
+
+    /**
+     * Estat resumit d'un esdeveniment: el nivell d'alerta màxim de totes les hores i les mesures
+     * de prevenció que s'hi han d'aplicar.
+     *
+     * @param eventId L'identificador de l'esdeveniment.
+     * @param alertLevel El nivell d'alerta màxim.
+     * @param measures Les mesures de prevenció, sense repetir.
+     */
+    public record Snapshot(String eventId, int alertLevel, Set<String> measures) {
+
+        /**
+         * Resumeix l'estat retornat pel servidor.
+         *
+         * @param eventId L'identificador de l'esdeveniment.
+         * @param statusEvent L'estat complet.
+         * @return L'estat resumit.
+         */
+        static Snapshot of(String eventId, StatusEvent statusEvent) {
+            StatusAggregator.Summary summary = StatusAggregator.of(statusEvent).summary();
+            return new Snapshot(eventId, Math.max(0, summary.maxInt(StatusAggregator.Metric.ALERT_MAX)),
+                    summary.measures());
+        }
+
+        /**
+         * @param other Un altre estat.
+         * @return true si tenen el mateix nivell d'alerta i les mateixes mesures.
+         */
+        boolean sameStatus(Snapshot other) {
+            return alertLevel == other.alertLevel && measures.equals(other.measures);
+        }
+    }
+
+    /**
+     * Canvi d'estat d'un esdeveniment entre dues consultes.
+     *
+     * @param event L'esdeveniment.
+     * @param previous L'estat de la consulta anterior.
+     * @param current L'estat actual.
+     */
+    public record StatusChange(Event event, Snapshot previous, Snapshot current) {
+
+        /**
+         * @return true si ha canviat el nivell d'alerta màxim.
+         */
+        public boolean alertLevelChanged() {
+            return previous.alertLevel() != current.alertLevel();
+        }
+
+        /**
+         * @return true si han canviat les mesures de prevenció.
+         */
+        public boolean measuresChanged() {
+            return !previous.measures().equals(current.measures());
+        }
+    }
+}
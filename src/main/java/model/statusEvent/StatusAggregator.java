@@ -0,0 +1,226 @@
+package model.statusEvent;
+
+import model.statusEvent.StatusEvent.HourlyData;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Resum de les dades horàries de l'estat d'un esdeveniment: el màxim, el mínim i la mitjana de cada
+ * variable, l'hora en què s'assoleixen el màxim i el mínim, i les mesures de prevenció sense repetir.
+ *
+ * Les hores s'afegeixen d'una en una i cada hora actualitza tots els valors de cop, de manera que el
+ * resum es calcula en una sola passada i es pot anar completant quan arriben hores noves. Les hores
+ * que no són posteriors a l'última afegida s'ignoren, i per això es pot tornar a afegir un estat
+ * actualitzat sencer sense comptar dues vegades les hores que ja hi eren.
+ *
+ * No és segur entre fils; summary() en dona una còpia immutable per compartir-la amb altres pantalles.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class StatusAggregator {
+
+    /** Variables que es resumeixen. */
+    public enum Metric {
+        WIND_AVERAGE(HourlyData::velocitatMitjaVent),
+        WIND_MAX(HourlyData::ratxaMaximaVent),
+        RAIN_PROBABILITY(HourlyData::probabilitatPluja),
+        RAIN(HourlyData::precipitacio),
+        STORM_PROBABILITY(HourlyData::probabilitatTempesta),
+        SNOW(HourlyData::neu),
+        SNOW_PROBABILITY(HourlyData::probabilitatNevada),
+        TEMPERATURE(HourlyData::temperatura),
+        HUMIDITY(HourlyData::humitatRelativa),
+        ALERT_WIND_AVERAGE(HourlyData::alertaVentMitja),
+        ALERT_WIND_MAX(HourlyData::alertaRatxaMaxima),
+        ALERT_RAIN(HourlyData::alertaPluja),
+        ALERT_SNOW(HourlyData::alertaNeu),
+        ALERT_HIGH_TEMPERATURE(HourlyData::alertaAltaTemperatura),
+        ALERT_LOW_TEMPERATURE(HourlyData::alertaBaixaTemperatura),
+        ALERT_MAX(HourlyData::alertaMaxima);
+
+        private final ToDoubleFunction<HourlyData> value;
+
+        Metric(ToDoubleFunction<HourlyData> value) {
+            this.value = value;
+        }
+    }
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final double[] max = new double[METRICS.length];
+    private final double[] min = new double[METRICS.length];
+    private final double[] sum = new double[METRICS.length];
+    private final LocalDateTime[] maxHour = new LocalDateTime[METRICS.length];
+    private final LocalDateTime[] minHour = new LocalDateTime[METRICS.length];
+    private final Set<String> measures = new LinkedHashSet<>();
+    private LocalDateTime lastHour;
+    private int count;
+
+    /**
+     * Crea un resum buit.
+     */
+    public StatusAggregator() {
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Crea el resum de totes les hores d'un estat.
+     *
+     * @param statusEvent L'estat de l'esdeveniment.
+     * @return El resum.
+     */
+    public static StatusAggregator of(StatusEvent statusEvent) {
+        StatusAggregator aggregator = new StatusAggregator();
+        aggregator.addAll(statusEvent);
+        return aggregator;
+    }
+
+    /**
+     * Afegeix les hores d'un estat que siguin posteriors a l'última hora afegida.
+     *
+     * @param statusEvent L'estat de l'esdeveniment.
+     * @return Aquest resum.
+     */
+    public StatusAggregator addAll(StatusEvent statusEvent) {
+        for (int i = 0; i < statusEvent.getHourCount(); i++) {
+            add(statusEvent.getHour(i));
+        }
+        return this;
+    }
+
+    /**
+     * Afegeix una hora al resum, si és posterior a l'última afegida.
+     *
+     * @param hour Les dades de l'hora.
+     * @return true si s'ha afegit.
+     */
+    public boolean add(HourlyData hour) {
+        if (lastHour != null && !hour.hora().isAfter(lastHour)) {
+            return false;
+        }
+        lastHour = hour.hora();
+        count++;
+        for (int i = 0; i < METRICS.length; i++) {
+            double value = METRICS[i].value.applyAsDouble(hour);
+            sum[i] += value;
+            if (value > max[i]) {
+                max[i] = value;
+                maxHour[i] = hour.hora();
+            }
+            if (value < min[i]) {
+                min[i] = value;
+                minHour[i] = hour.hora();
+            }
+        }
+        measures.addAll(hour.mesures());
+        return true;
+    }
+
+    /**
+     * @return El nombre d'hores afegides.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return Una còpia immutable del resum actual.
+     */
+    public Summary summary() {
+        return new Summary(count, max.clone(), min.clone(), sum.clone(), maxHour.clone(), minHour.clone(),
+                Collections.unmodifiableSet(new LinkedHashSet<>(measures)));
+    }
+
+    /**
+     * Resum immutable d'un conjunt d'hores. Si no hi ha cap hora, els valors són NaN i les hores null.
+     */
+    public static final class Summary {
+
+        private final int count;
+        private final double[] max;
+        private final double[] min;
+        private final double[] sum;
+        private final LocalDateTime[] maxHour;
+        private final LocalDateTime[] minHour;
+        private final Set<String> measures;
+
+        private Summary(int count, double[] max, double[] min, double[] sum, LocalDateTime[] maxHour,
+                        LocalDateTime[] minHour, Set<String> measures) {
+            this.count = count;
+            this.max = max;
+            this.min = min;
+            this.sum = sum;
+            this.maxHour = maxHour;
+            this.minHour = minHour;
+            this.measures = measures;
+        }
+
+        /**
+         * @return El nombre d'hores resumides.
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * @param metric La variable.
+         * @return El valor màxim.
+         */
+        public double max(Metric metric) {
+            return count > 0 ? max[metric.ordinal()] : Double.NaN;
+        }
+
+        /**
+         * @param metric La variable.
+         * @return El valor mínim.
+         */
+        public double min(Metric metric) {
+            return count > 0 ? min[metric.ordinal()] : Double.NaN;
+        }
+
+        /**
+         * @param metric La variable.
+         * @return La mitjana de totes les hores.
+         */
+        public double mean(Metric metric) {
+            return count > 0 ? sum[metric.ordinal()] / count : Double.NaN;
+        }
+
+        /**
+         * @param metric La variable.
+         * @return La primera hora en què s'assoleix el màxim, que és el pitjor valor per a tot excepte el fred.
+         */
+        public LocalDateTime maxHour(Metric metric) {
+            return maxHour[metric.ordinal()];
+        }
+
+        /**
+         * @param metric La variable.
+         * @return La primera hora en què s'assoleix el mínim.
+         */
+        public LocalDateTime minHour(Metric metric) {
+            return minHour[metric.ordinal()];
+        }
+
+        /**
+         * @param metric Una variable entera, com els nivells d'alerta.
+         * @return El valor màxim arrodonit a enter, o 0 si no hi ha cap hora.
+         */
+        public int maxInt(Metric metric) {
+            return count > 0 ? (int) Math.round(max[metric.ordinal()]) : 0;
+        }
+
+        /**
+         * @return Les mesures de prevenció sense repetir, en l'ordre en què han aparegut.
+         */
+        public Set<String> measures() {
+            return measures;
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package model.statusEvent;
 
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import java.util.HashMap;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Classe POJO que representa l'estat d'un esdeveniment.
+ * Estat d'un esdeveniment retornat pel servidor: els usuaris participants i les dades meteorològiques
+ * de cada hora de l'esdeveniment.
+ *
+ * La resposta té un camp per hora, amb la data i l'hora com a clau ("2024-12-09T08"). StatusEventDeserializer
+ * la llegeix en streaming i guarda cada hora directament com a HourlyData, ordenades cronològicament.
  *
  * @author Miguel Rodríguez Garriga
  * @version 1.0
  */
+@JsonDeserialize(using = StatusEventDeserializer.class)
 public class StatusEvent {
 
     /**
      * Llista d'usuaris participants en l'esdeveniment.
      */
-    @JsonProperty("Usuaris participants")
-    private List<String> usuarisParticipants;
+    private final List<String> usuarisParticipants;
+
+    /**
+     * Dades de cada hora, en ordre cronològic.
+     */
+    private final HourlyData[] hours;
 
     /**
-     * Mapa que conté dades horàries, identificades per una clau.
+     * @param usuarisParticipants Llista d'usuaris participants.
+     * @param hours Dades de cada hora, en ordre cronològic.
      */
-    private Map<String, Object> hourlyData = new HashMap<>();
+    public StatusEvent(List<String> usuarisParticipants, HourlyData[] hours) {
+        this.usuarisParticipants = usuarisParticipants;
+        this.hours = hours;
+    }
 
     /**
      * Retorna la llista d'usuaris participants en l'esdeveniment.
@@ -35,157 +48,67 @@ public class StatusEvent {
     }
 
     /**
-     * Estableix la llista d'usuaris participants en l'esdeveniment.
+     * Retorna les dades horàries en ordre cronològic.
      *
-     * @param usuarisParticipants Llista d'usuaris participants.
+     * @return Llista no modificable de dades horàries.
      */
-    public void setUsuarisParticipants(List<String> usuarisParticipants) {
-        this.usuarisParticipants = usuarisParticipants;
+    public List<HourlyData> getHours() {
+        return Collections.unmodifiableList(Arrays.asList(hours));
     }
 
     /**
-     * Retorna el mapa amb les dades horàries.
-     *
-     * @return Mapa de dades horàries.
+     * @return El nombre d'hores amb dades.
      */
-    public Map<String, Object> getHourlyData() {
-        return hourlyData;
+    public int getHourCount() {
+        return hours.length;
     }
 
     /**
-     * Afegeix una dada horària al mapa de dades.
-     *
-     * @param key  La clau que identifica la dada.
-     * @param data L'objecte que representa la dada.
+     * @param index La posició de l'hora, en ordre cronològic.
+     * @return Les dades d'aquesta hora.
      */
-    @JsonAnySetter
-    public void addHourlyData(String key, Object data) {
-        this.hourlyData.put(key, data);
+    public HourlyData getHour(int index) {
+        return hours[index];
     }
 
     /**
-     * Classe interna que representa les dades horàries específiques de la previsió meteorològica demanada.
+     * Dades meteorològiques i nivells d'alerta d'una hora de l'esdeveniment. Els camps que no
+     * apareixen a la resposta valen 0.
+     *
+     * @param hora Data i hora de les dades.
+     * @param velocitatMitjaVent Velocitat mitjana del vent (en km/h).
+     * @param alertaVentMitja Nivell d'alerta per vent mitjà.
+     * @param ratxaMaximaVent Ratxa màxima del vent (en km/h).
+     * @param alertaRatxaMaxima Nivell d'alerta per ratxa màxima.
+     * @param probabilitatPluja Probabilitat de pluja (percentatge).
+     * @param precipitacio Precipitació (en mm).
+     * @param alertaPluja Nivell d'alerta per pluja.
+     * @param probabilitatTempesta Probabilitat de tempesta (percentatge).
+     * @param neu Neu (en cm).
+     * @param alertaNeu Nivell d'alerta per neu.
+     * @param probabilitatNevada Probabilitat de nevada (percentatge).
+     * @param temperatura Temperatura (en graus Celsius).
+     * @param alertaAltaTemperatura Nivell d'alerta per temperatura alta.
+     * @param alertaBaixaTemperatura Nivell d'alerta per temperatura baixa.
+     * @param humitatRelativa Humitat relativa (percentatge).
+     * @param mesures Mesures de prevenció de l'hora, en l'ordre de la resposta.
      */
-    public static class HourlyData {
-
-        /**
-         * Velocitat mitjana del vent.
-         */
-        @JsonProperty("VelocitatMitjaVent")
-        private int velocitatMitjaVent;
-
-        /**
-         * Ratxa màxima del vent registrada (en km/h).
-         */
-        @JsonProperty("RatxaMaximaVent")
-        private int ratxaMaximaVent;
-
-        /**
-         * Temperatura registrada (en graus Celsius).
-         */
-        @JsonProperty("Temperatura")
-        private int temperatura;
-
-        /**
-         * Probabilitat de pluja (percentatge).
-         */
-        @JsonProperty("ProbabilitatPluja")
-        private int probabilitatPluja;
-
-        /**
-         * Humitat relativa (percentatge).
-         */
-        @JsonProperty("HumitatRelativa")
-        private int humitatRelativa;
-
-        /**
-         * Retorna la velocitat mitjana del vent (en km/h).
-         *
-         * @return Velocitat mitjana del vent.
-         */
-        public int getVelocitatMitjaVent() {
-            return velocitatMitjaVent;
-        }
-
-        /**
-         * Estableix la velocitat mitjana del vent (en km/h).
-         *
-         * @param velocitatMitjaVent Velocitat mitjana del vent.
-         */
-        public void setVelocitatMitjaVent(int velocitatMitjaVent) {
-            this.velocitatMitjaVent = velocitatMitjaVent;
-        }
-
-        /**
-         * Retorna la ratxa màxima del vent registrada (en km/h).
-         *
-         * @return Ratxa màxima del vent.
-         */
-        public int getRatxaMaximaVent() {
-            return ratxaMaximaVent;
-        }
-
-        /**
-         * Estableix la ratxa màxima del vent registrada (en km/h).
-         *
-         * @param ratxaMaximaVent Ratxa màxima del vent.
-         */
-        public void setRatxaMaximaVent(int ratxaMaximaVent) {
-            this.ratxaMaximaVent = ratxaMaximaVent;
-        }
-
-        /**
-         * Retorna la temperatura registrada (en graus Celsius).
-         *
-         * @return Temperatura.
-         */
-        public int getTemperatura() {
-            return temperatura;
-        }
-
-        /**
-         * Estableix la temperatura registrada (en graus Celsius).
-         *
-         * @param temperatura Temperatura.
-         */
-        public void setTemperatura(int temperatura) {
-            this.temperatura = temperatura;
-        }
-
-        /**
-         * Retorna la probabilitat de pluja (en percentatge).
-         *
-         * @return Probabilitat de pluja.
-         */
-        public int getProbabilitatPluja() {
-            return probabilitatPluja;
-        }
-
-        /**
-         * Estableix la probabilitat de pluja (en percentatge).
-         *
-         * @param probabilitatPluja Probabilitat de pluja.
-         */
-        public void setProbabilitatPluja(int probabilitatPluja) {
-            this.probabilitatPluja = probabilitatPluja;
-        }
-
-        /**
-         * Retorna la humitat relativa (en percentatge).
-         *
-         * @return Humitat relativa.
-         */
-        public int getHumitatRelativa() {
-            return humitatRelativa;
-        }
+    public record HourlyData(LocalDateTime hora,
+                             int velocitatMitjaVent, int alertaVentMitja,
+                             int ratxaMaximaVent, int alertaRatxaMaxima,
+                             int probabilitatPluja, double precipitacio, int alertaPluja,
+                             int probabilitatTempesta,
+                             double neu, int alertaNeu, int probabilitatNevada,
+                             int temperatura, int alertaAltaTemperatura, int alertaBaixaTemperatura,
+                             int humitatRelativa,
+                             List<String> mesures) {
 
         /**
-         * Estableix la humitat relativa (en percentatge).
-         *
-         * @param humitatRelativa Humitat relativa.
+         * @return El nivell d'alerta més alt de l'hora.
          */
-        public void setHumitatRelativa(int humitatRelativa) {
-            this.humitatRelativa = humitatRelativa;
+        public int alertaMaxima() {
+            return Math.max(Math.max(Math.max(alertaVentMitja, alertaRatxaMaxima), Math.max(alertaPluja, alertaNeu)),
+                    Math.max(alertaAltaTemperatura, alertaBaixaTemperatura));
         }
     }
-}
\ No newline at end of file
+}
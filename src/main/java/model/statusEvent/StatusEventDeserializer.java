@@ -0,0 +1,184 @@
+package model.statusEvent;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import model.statusEvent.StatusEvent.HourlyData;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Deserialitzador en streaming de l'estat d'un esdeveniment.
+ *
+ * Recorre els tokens de la resposta una sola vegada i llegeix els valors de cada hora com a tipus
+ * primitius, sense passar per mapes intermedis ni objectes Integer o Double. Les claus que no són
+ * una hora vàlida i els camps desconeguts s'ignoren. Si el servidor no envia les hores en ordre,
+ * s'ordenen al final.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+class StatusEventDeserializer extends StdDeserializer<StatusEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Camp amb els usuaris participants. */
+    private static final String PARTICIPANTS = "Usuaris participants";
+
+    /** Format de les claus de cada hora, per exemple "2024-12-09T08". */
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH");
+
+    /** Prefix dels camps amb mesures de prevenció. */
+    private static final String MEASURES_PREFIX = "Mesures";
+
+    StatusEventDeserializer() {
+        super(StatusEvent.class);
+    }
+
+    @Override
+    public StatusEvent deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return (StatusEvent) context.handleUnexpectedToken(StatusEvent.class, parser);
+        }
+
+        List<String> participants = List.of();
+        List<HourlyData> hours = new ArrayList<>(48);
+        boolean sorted = true;
+
+        for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            if (PARTICIPANTS.equals(name) && token == JsonToken.START_ARRAY) {
+                participants = readStrings(parser);
+                continue;
+            }
+            LocalDateTime hour = token == JsonToken.START_OBJECT ? parseHour(name) : null;
+            if (hour == null) {
+                parser.skipChildren();
+                continue;
+            }
+            HourlyData data = readHour(parser, hour);
+            if (!hours.isEmpty() && hours.get(hours.size() - 1).hora().isAfter(hour)) {
+                sorted = false;
+            }
+            hours.add(data);
+        }
+
+        HourlyData[] array = hours.toArray(new HourlyData[0]);
+        if (!sorted) {
+            Arrays.sort(array, Comparator.comparing(HourlyData::hora));
+        }
+        return new StatusEvent(participants, array);
+    }
+
+    /**
+     * Llegeix els camps d'una hora. El parser ha d'estar sobre el START_OBJECT de l'hora.
+     *
+     * @param parser El parser.
+     * @param hour La data i hora de la clau.
+     * @return Les dades de l'hora.
+     * @throws IOException Si el JSON no és vàlid.
+     */
+    private static HourlyData readHour(JsonParser parser, LocalDateTime hour) throws IOException {
+        int velocitatMitjaVent = 0, alertaVentMitja = 0, ratxaMaximaVent = 0, alertaRatxaMaxima = 0;
+        int probabilitatPluja = 0, alertaPluja = 0, probabilitatTempesta = 0;
+        int alertaNeu = 0, probabilitatNevada = 0;
+        int temperatura = 0, alertaAltaTemperatura = 0, alertaBaixaTemperatura = 0, humitatRelativa = 0;
+        double precipitacio = 0, neu = 0;
+        List<String> mesures = List.of();
+
+        for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                if (name.startsWith(MEASURES_PREFIX)) {
+                    mesures = addMeasures(parser, mesures);
+                } else {
+                    parser.skipChildren();
+                }
+                continue;
+            }
+            if (!token.isNumeric()) {
+                continue;
+            }
+            switch (name) {
+                case "VelocitatMitjaVent" -> velocitatMitjaVent = parser.getValueAsInt();
+                case "AlertaVentMitja" -> alertaVentMitja = parser.getValueAsInt();
+                case "RatxaMaximaVent" -> ratxaMaximaVent = parser.getValueAsInt();
+                case "AlertaRatxaMaxima" -> alertaRatxaMaxima = parser.getValueAsInt();
+                case "ProbabilitatPluja" -> probabilitatPluja = parser.getValueAsInt();
+                case "Precipitacio" -> precipitacio = parser.getValueAsDouble();
+                case "AlertaPluja" -> alertaPluja = parser.getValueAsInt();
+                case "ProbabilitatTempesta" -> probabilitatTempesta = parser.getValueAsInt();
+                case "Neu" -> neu = parser.getValueAsDouble();
+                case "AlertaNeu" -> alertaNeu = parser.getValueAsInt();
+                case "ProbabilitatNevada" -> probabilitatNevada = parser.getValueAsInt();
+                case "Temperatura" -> temperatura = parser.getValueAsInt();
+                case "AlertaAltaTemperatura" -> alertaAltaTemperatura = parser.getValueAsInt();
+                case "AlertaBaixaTemperatura" -> alertaBaixaTemperatura = parser.getValueAsInt();
+                case "HumitatRelativa" -> humitatRelativa = parser.getValueAsInt();
+                default -> { }
+            }
+        }
+
+        return new HourlyData(hour, velocitatMitjaVent, alertaVentMitja, ratxaMaximaVent, alertaRatxaMaxima,
+                probabilitatPluja, precipitacio, alertaPluja, probabilitatTempesta, neu, alertaNeu,
+                probabilitatNevada, temperatura, alertaAltaTemperatura, alertaBaixaTemperatura, humitatRelativa,
+                mesures);
+    }
+
+    /**
+     * Afegeix els textos d'un objecte o array de mesures als ja llegits de la mateixa hora.
+     *
+     * @param parser El parser, sobre el START_OBJECT o START_ARRAY de les mesures.
+     * @param mesures Les mesures ja llegides.
+     * @return Una llista no modificable amb totes les mesures.
+     * @throws IOException Si el JSON no és vàlid.
+     */
+    private static List<String> addMeasures(JsonParser parser, List<String> mesures) throws IOException {
+        List<String> result = new ArrayList<>(mesures);
+        JsonToken end = parser.currentToken() == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        for (JsonToken token = parser.nextToken(); token != end; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                result.add(parser.getText());
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * @param parser El parser, sobre el START_ARRAY.
+     * @return Els textos de l'array.
+     * @throws IOException Si el JSON no és vàlid.
+     */
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> result = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (token != JsonToken.VALUE_NULL) {
+                result.add(parser.getText());
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * @param key La clau d'una hora.
+     * @return La data i hora, o null si la clau no té el format esperat.
+     */
+    private static LocalDateTime parseHour(String key) {
+        try {
+            return LocalDateTime.parse(key, HOUR_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package model.store;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import model.encryption.CipherUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Còpia local i persistent d'una col·lecció d'entitats del servidor, perquè les vistes es puguin
+ * mostrar a l'instant en obrir-se (i també quan el servidor no respon) mentre la llista real es
+ * demana en segon pla.
+ *
+ * Les dades es guarden en un registre on només s'afegeixen línies: cada línia és una operació
+ * ("+" seguit del JSON de l'entitat per guardar-la, "-" seguit de l'identificador per esborrar-la,
+ * "@" seguit de la versió de la llista que ha indicat el servidor) xifrada amb CipherUtil.
+ * En obrir el magatzem es reprodueix el registre sobre un índex en memòria.
+ * Quan el registre té més del doble de línies que entitats vives, o quan es rep la llista completa
+ * del servidor, es reescriu compactat en un fitxer temporal que substitueix l'original de manera
+ * atòmica, així una interrupció a mitja escriptura no deixa el magatzem a mitges.
+ *
+ * El magatzem és una còpia de conveniència: els errors d'escriptura s'informen però no fan fallar
+ * l'operació que els ha provocat, i les línies que no es poden llegir (per exemple, una última línia
+ * tallada) es descarten.
+ *
+ * Tots els mètodes són sincronitzats i fan entrada/sortida a disc, així que no s'han de cridar
+ * des del fil de la interfície.
+ *
+ * @param <T> El tipus de l'entitat.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class LocalStore<T> {
+
+    /** Prefixos de les operacions del registre. */
+    private static final byte PUT = '+';
+    private static final byte REMOVE = '-';
+    private static final byte VERSION = '@';
+
+    /** Línies mínimes del registre abans de plantejar-se la compactació. */
+    private static final int MIN_COMPACT_LINES = 64;
+
+    private final Path file;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final Function<T, String> idExtractor;
+
+    /** Entitats vives en l'ordre en què es van guardar. Es carrega la primera vegada que es fa servir. */
+    private LinkedHashMap<String, T> entries;
+
+    /** Versió de la llista del servidor que conté el magatzem, o null si no se sap. */
+    private String version;
+
+    /** Nombre de línies del registre a disc. */
+    private int lines;
+
+    /**
+     * @param file El fitxer del registre. Els directoris que falten es creen en la primera escriptura.
+     * @param reader Lector JSON del tipus de l'entitat.
+     * @param writer Escriptor JSON del tipus de l'entitat. Ha d'ometre les dades que no es poden guardar
+     *               a disc, com les contrasenyes.
+     * @param idExtractor Funció que retorna l'identificador d'una entitat.
+     */
+    public LocalStore(Path file, ObjectReader reader, ObjectWriter writer, Function<T, String> idExtractor) {
+        this.file = file;
+        this.reader = reader;
+        this.writer = writer;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Retorna totes les entitats guardades.
+     *
+     * @return Una còpia de les entitats en l'ordre en què es van guardar, o una llista buida si
+     *         el magatzem no existeix o no es pot llegir.
+     */
+    public synchronized List<T> getAll() {
+        try {
+            load();
+            return new ArrayList<>(entries.values());
+        } catch (IOException e) {
+            report("llegir el magatzem local", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Retorna la versió de la llista del servidor que conté el magatzem.
+     *
+     * @return La versió, o null si no se sap.
+     */
+    public synchronized String getVersion() {
+        try {
+            load();
+            return version;
+        } catch (IOException e) {
+            report("llegir el magatzem local", e);
+            return null;
+        }
+    }
+
+    /**
+     * Substitueix tot el contingut per la llista completa rebuda del servidor i compacta el registre.
+     *
+     * @param list La llista completa d'entitats.
+     */
+    public synchronized void replaceAll(List<T> list) {
+        replaceAll(list, null);
+    }
+
+    /**
+     * Substitueix tot el contingut per la llista completa rebuda del servidor i compacta el registre.
+     *
+     * @param list La llista completa d'entitats.
+     * @param version La versió de la llista que ha indicat el servidor, o null si no n'ha indicat cap.
+     */
+    public synchronized void replaceAll(List<T> list, String version) {
+        this.version = version;
+        entries = new LinkedHashMap<>();
+        for (T value : list) {
+            String id = idExtractor.apply(value);
+            if (id != null) {
+                entries.put(id, value);
+            }
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            report("escriure el magatzem local", e);
+        }
+    }
+
+    /**
+     * Guarda o actualitza una entitat. Les entitats sense identificador no es guarden.
+     *
+     * @param value L'entitat a guardar.
+     */
+    public synchronized void put(T value) {
+        String id = idExtractor.apply(value);
+        if (id == null) {
+            return;
+        }
+        try {
+            load();
+            entries.put(id, value);
+            append(PUT, writer.writeValueAsBytes(value));
+        } catch (IOException e) {
+            report("escriure el magatzem local", e);
+        }
+    }
+
+    /**
+     * Esborra una entitat.
+     *
+     * @param id L'identificador de l'entitat esborrada.
+     */
+    public synchronized void remove(String id) {
+        try {
+            load();
+            if (entries.remove(id) != null) {
+                append(REMOVE, id.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            report("escriure el magatzem local", e);
+        }
+    }
+
+    /**
+     * Guarda la versió de la llista del servidor després d'aplicar-ne els canvis.
+     *
+     * @param version La nova versió.
+     */
+    public synchronized void setVersion(String version) {
+        try {
+            load();
+            this.version = version;
+            if (version != null) {
+                append(VERSION, version.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            report("escriure el magatzem local", e);
+        }
+    }
+
+    /**
+     * Esborra tot el contingut i el fitxer del registre.
+     */
+    public synchronized void clear() {
+        entries = new LinkedHashMap<>();
+        version = null;
+        lines = 0;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            report("esborrar el magatzem local", e);
+        }
+    }
+
+    /**
+     * @return El nombre d'entitats guardades.
+     */
+    public synchronized int size() {
+        try {
+            load();
+            return entries.size();
+        } catch (IOException e) {
+            report("llegir el magatzem local", e);
+            return 0;
+        }
+    }
+
+    /**
+     * @return El fitxer del registre.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return El nombre de línies del registre a disc, incloses les operacions ja superades.
+     */
+    synchronized int logLines() {
+        return lines;
+    }
+
+    /** Reprodueix el registre sobre l'índex en memòria si encara no s'ha fet. */
+    private void load() throws IOException {
+        if (entries != null) {
+            return;
+        }
+        LinkedHashMap<String, T> loaded = new LinkedHashMap<>();
+        String loadedVersion = null;
+        int count = 0;
+        boolean damaged = false;
+        if (Files.exists(file)) {
+            try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    count++;
+                    try {
+                        byte[] record = CipherUtil.decrypt(line.getBytes(StandardCharsets.US_ASCII));
+                        if (record.length > 0 && record[0] == VERSION) {
+                            loadedVersion = new String(record, 1, record.length - 1, StandardCharsets.UTF_8);
+                        } else {
+                            replay(loaded, record);
+                        }
+                    } catch (GeneralSecurityException | RuntimeException | IOException e) {
+                        report("llegir una línia del magatzem local", e);
+                        damaged = true;
+                    }
+                }
+            }
+        }
+        entries = loaded;
+        version = loadedVersion;
+        lines = count;
+        if (damaged) {
+            // Es reescriu sense les línies il·legibles perquè les noves no s'hi afegeixin a continuació
+            compact();
+        }
+    }
+
+    /** Aplica una operació del registre a l'índex. */
+    private void replay(LinkedHashMap<String, T> target, byte[] record) throws IOException {
+        if (record.length == 0) {
+            return;
+        }
+        if (record[0] == PUT) {
+            T value = reader.readValue(record, 1, record.length - 1);
+            String id = idExtractor.apply(value);
+            if (id != null) {
+                target.put(id, value);
+            }
+        } else if (record[0] == REMOVE) {
+            target.remove(new String(record, 1, record.length - 1, StandardCharsets.UTF_8));
+        }
+    }
+
+    /** Afegeix una operació al final del registre i el compacta si ja té massa operacions superades. */
+    private void append(byte op, byte[] payload) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeLine(out, op, payload);
+        }
+        lines++;
+        if (lines > MIN_COMPACT_LINES && lines > 2 * entries.size()) {
+            compact();
+        }
+    }
+
+    /** Reescriu el registre amb una sola línia per entitat viva i substitueix l'original de manera atòmica. */
+    private void compact() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Collection<T> values = entries.values();
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+                if (version != null) {
+                    writeLine(out, VERSION, version.getBytes(StandardCharsets.UTF_8));
+                }
+                for (T value : values) {
+                    writeLine(out, PUT, writer.writeValueAsBytes(value));
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            lines = values.size() + (version != null ? 1 : 0);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Escriu una operació xifrada com una línia de text. */
+    private static void writeLine(BufferedWriter out, byte op, byte[] payload) throws IOException {
+        byte[] record = new byte[payload.length + 1];
+        record[0] = op;
+        System.arraycopy(payload, 0, record, 1, payload.length);
+        try {
+            byte[] encrypted = CipherUtil.encryptToBytes(record);
+            out.write(new String(encrypted, StandardCharsets.US_ASCII));
+            out.newLine();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("No s'ha pogut xifrar el registre.", e);
+        }
+    }
+
+    /** Informa d'un error del magatzem sense interrompre l'operació que l'ha provocat. */
+    private void report(String action, Exception e) {
+        System.err.println("No s'ha pogut " + action + " " + file + ": " + e.getMessage());
+    }
+}
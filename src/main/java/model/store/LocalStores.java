@@ -0,0 +1,84 @@
+package model.store;
+
+import model.json.JsonUtil;
+import model.model.Event;
+import model.model.Measure;
+import model.model.User;
+import java.nio.file.Path;
+
+/**
+ * Magatzems locals de l'usuari que té la sessió oberta, compartits per totes les instàncies de
+ * CrudEvent, CrudUser i CrudMeasure creades amb el constructor per defecte.
+ *
+ * Cada usuari té el seu propi directori, de manera que en iniciar sessió només es mostren les dades
+ * que es van descarregar amb els seus permisos. Fora d'una sessió els magatzems són null.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class LocalStores {
+
+    /** Directori on es guarden els magatzems de tots els usuaris. */
+    public static final Path DEFAULT_DIRECTORY = Path.of(System.getProperty("user.home"), ".meteoevents", "store");
+
+    private static volatile LocalStore<Event> events;
+    private static volatile LocalStore<User> users;
+    private static volatile LocalStore<Measure> measures;
+
+    private LocalStores() {}
+
+    /**
+     * Obre els magatzems de l'usuari que acaba d'iniciar sessió. Els fitxers no es llegeixen fins
+     * que es fan servir per primera vegada.
+     *
+     * @param userId L'identificador de l'usuari.
+     */
+    public static void open(String userId) {
+        open(DEFAULT_DIRECTORY.resolve(userId.replaceAll("[^A-Za-z0-9_-]", "_")));
+    }
+
+    /**
+     * Obre els magatzems guardats al directori indicat.
+     *
+     * @param directory El directori dels magatzems.
+     */
+    public static void open(Path directory) {
+        events = new LocalStore<>(directory.resolve("events.log"),
+                JsonUtil.EVENT_READER, JsonUtil.EVENT_WRITER, Event::getId);
+        users = new LocalStore<>(directory.resolve("users.log"),
+                JsonUtil.USER_READER, JsonUtil.USER_STORE_WRITER, User::getID);
+        measures = new LocalStore<>(directory.resolve("measures.log"),
+                JsonUtil.MEASURE_READER, JsonUtil.MEASURE_WRITER, Measure::getId);
+    }
+
+    /**
+     * Tanca els magatzems en tancar la sessió. Els fitxers es conserven per a la propera sessió
+     * del mateix usuari.
+     */
+    public static void close() {
+        events = null;
+        users = null;
+        measures = null;
+    }
+
+    /**
+     * @return El magatzem d'esdeveniments de la sessió, o null si no n'hi ha cap d'oberta.
+     */
+    public static LocalStore<Event> events() {
+        return events;
+    }
+
+    /**
+     * @return El magatzem d'usuaris de la sessió, o null si no n'hi ha cap d'oberta.
+     */
+    public static LocalStore<User> users() {
+        return users;
+    }
+
+    /**
+     * @return El magatzem de mesures de la sessió, o null si no n'hi ha cap d'oberta.
+     */
+    public static LocalStore<Measure> measures() {
+        return measures;
+    }
+}
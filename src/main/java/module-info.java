@@ -6,6 +6,7 @@ module org.meteoevents.meteoevents {
     requires com.dlsc.formsfx;
     requires net.synedra.validatorfx;
     requires java.net.http;
+    requires jdk.jfr;
     requires com.fasterxml.jackson.databind;
 
     opens org.meteoevents.meteoevents to javafx.fxml;
@@ -21,6 +22,8 @@ module org.meteoevents.meteoevents {
     exports model.model to com.fasterxml.jackson.databind;
     exports controllers.aemet;
     opens controllers.aemet to javafx.fxml;
+    exports controllers.diagnostics;
+    opens controllers.diagnostics to javafx.fxml;
 
     opens model.statusEvent to com.fasterxml.jackson.databind;
     exports model.statusEvent;
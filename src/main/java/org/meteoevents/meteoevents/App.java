@@ -4,9 +4,12 @@ import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import model.aemet.AlertRuleEngine;
+import model.aemet.ForecastCache;
 import utilities.PathsViews;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Classe encarregada d'iniciar el programa i la interfície gràfica d'usuari per a l'inici de sessió.
@@ -18,6 +21,14 @@ import java.io.IOException;
  */
 public class App extends Application {
 
+    /** Directori on es guarden les prediccions de l'Aemet entre sessions. */
+    private static final Path FORECAST_DIRECTORY =
+            Path.of(System.getProperty("user.home"), ".meteoevents", "forecasts");
+
+    /** Fitxer opcional amb llindars d'alerta propis, que es recarrega quan es modifica. */
+    private static final Path ALERT_RULES_FILE =
+            Path.of(System.getProperty("user.home"), ".meteoevents", "alert-rules.properties");
+
     /**
      * Aquest mètode és el punt inicial per a una aplicació JavaFX. S'executa quan l'aplicació,
      * s'inicia i configura l'escena principal que es mostrarà a l'usuari.
@@ -27,6 +38,9 @@ public class App extends Application {
      */
     @Override
     public void start(Stage stage) throws IOException {
+        enableForecastPersistence();
+        loadAlertRules();
+
         FXMLLoader fxmlLoader = new FXMLLoader(App.class.getResource(PathsViews.LOGIN_VIEW));
         Scene scene = new Scene(fxmlLoader.load(), 600, 475);
         stage.setTitle("Meteo Events Login");
@@ -34,6 +48,30 @@ public class App extends Application {
         stage.show();
     }
     
+    /**
+     * Activa la persistència a disc de les prediccions de l'Aemet perquè es reaprofitin entre sessions.
+     * Si no es pot crear el directori, la cache continua funcionant només en memòria.
+     */
+    private void enableForecastPersistence() {
+        try {
+            ForecastCache.getInstance().enablePersistence(FORECAST_DIRECTORY);
+        } catch (IOException e) {
+            System.err.println("No s'ha pogut activar la cache de prediccions a disc: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fa servir el fitxer de llindars d'alerta de l'usuari, si n'hi ha. Si té errors, es mantenen
+     * els llindars per defecte.
+     */
+    private void loadAlertRules() {
+        try {
+            AlertRuleEngine.getInstance().setRulesFile(ALERT_RULES_FILE);
+        } catch (RuntimeException e) {
+            System.err.println("No s'han pogut carregar les regles d'alerta: " + e.getMessage());
+        }
+    }
+
     /**
      * Mètode main. Punt d'entrada de l'aplicació. Crida al mètode launch per iniciar l'aplicació
      * JavaFX.
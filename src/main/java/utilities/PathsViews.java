@@ -94,4 +94,10 @@ public class PathsViews {
      * Vista utilitzada per demanar la previsió meteorològica a l'Aemet.
      */
     public static final String AEMET_FORECAST_VIEW = "/org/meteoevents/meteoevents/aemet/aemet-forecast-view.fxml";
+
+    /**
+     * Ruta a la vista de diagnòstic (diagnostics-view.fxml).
+     * Vista utilitzada per mostrar la latència, la mida i els errors de les peticions de cada punt d'accés.
+     */
+    public static final String DIAGNOSTICS_VIEW = "/org/meteoevents/meteoevents/diagnostics/diagnostics-view.fxml";
 }
\ No newline at end of file
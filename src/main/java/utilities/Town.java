@@ -1,8143 +0,0 @@
-package utilities;
-
-/**
- * Classe que conté el codi de tots els municipis per a les peticions a l'API.
- *
- * @author Miguel Rodríguez Garriga
- * @version 1.0
- */
-public class Town {
-    /**  Constants on es guarda els codis dels municipis d'Espanya */
-    public static final String Agurain = "01051";
-    public static final String Alegría_Dulantzi = "01001";
-    public static final String Amurrio = "01002";
-    public static final String Añana = "01049";
-    public static final String Aramaio = "01003";
-    public static final String Armiñón = "01006";
-    public static final String Arraia_Maeztu = "01037";
-    public static final String Arratzua_Ubarrundia = "01008";
-    public static final String Artziniega = "01004";
-    public static final String Asparrena = "01009";
-    public static final String Ayala = "01010";
-    public static final String Baños_de_Ebro = "01011";
-    public static final String Barrundia = "01013";
-    public static final String Berantevilla = "01014";
-    public static final String Bernedo = "01016";
-    public static final String Campezo = "01017";
-    public static final String Elburgo = "01021";
-    public static final String Elciego = "01022";
-    public static final String Elvillar = "01023";
-    public static final String Erriberagoitia = "01046";
-    public static final String Harana = "01056";
-    public static final String Iruña_Oka = "01901";
-    public static final String Iruraiz_Gauna = "01027";
-    public static final String Kripan = "01019";
-    public static final String Kuartango = "01020";
-    public static final String Labastida = "01028";
-    public static final String Lagrán = "01030";
-    public static final String Laguardia = "01031";
-    public static final String Lanciego = "01032";
-    public static final String Lantarón = "01902";
-    public static final String Lapuebla_de_Labarca = "01033";
-    public static final String Laudio = "01036";
-    public static final String Legutio = "01058";
-    public static final String Leza = "01034";
-    public static final String Moreda_de_Álava = "01039";
-    public static final String Navaridas = "01041";
-    public static final String Okondo = "01042";
-    public static final String Oyón_Oion = "01043";
-    public static final String Peñacerrada_Urizaharra = "01044";
-    public static final String Ribera_Baja = "01047";
-    public static final String Samaniego = "01052";
-    public static final String San_Millán = "01053";
-    public static final String Urkabustaiz = "01054";
-    public static final String Valdegovía = "01055";
-    public static final String Villabuena_de_Álava = "01057";
-    public static final String Vitoria_Gasteiz = "01059";
-    public static final String Yécora = "01060";
-    public static final String Zalduondo = "01061";
-    public static final String Zambrana = "01062";
-    public static final String Zigoitia = "01018";
-    public static final String Zuia = "01063";
-    public static final String Abengibre = "02001";
-    public static final String Alatoz = "02002";
-    public static final String Albacete = "02003";
-    public static final String Albatana = "02004";
-    public static final String Alborea = "02005";
-    public static final String Alcadozo = "02006";
-    public static final String Alcalá_del_Júcar = "02007";
-    public static final String Alcaraz = "02008";
-    public static final String Almansa = "02009";
-    public static final String Alpera = "02010";
-    public static final String Ayna = "02011";
-    public static final String Balazote = "02012";
-    public static final String Ballestero_El = "02014";
-    public static final String Balsa_de_Ves = "02013";
-    public static final String Barrax = "02015";
-    public static final String Bienservida = "02016";
-    public static final String Bogarra = "02017";
-    public static final String Bonete = "02018";
-    public static final String Bonillo_El = "02019";
-    public static final String Carcelén = "02020";
-    public static final String Casas_de_Juan_Núñez = "02021";
-    public static final String Casas_de_Lázaro = "02022";
-    public static final String Casas_de_Ves = "02023";
-    public static final String Casas_Ibáñez = "02024";
-    public static final String Caudete = "02025";
-    public static final String Cenizate = "02026";
-    public static final String Chinchilla_de_Monte_Aragón = "02029";
-    public static final String Corral_Rubio = "02027";
-    public static final String Cotillas = "02028";
-    public static final String Elche_de_la_Sierra = "02030";
-    public static final String Férez = "02031";
-    public static final String Fuensanta = "02032";
-    public static final String Fuente_Álamo = "02033";
-    public static final String Fuentealbilla = "02034";
-    public static final String Gineta_La = "02035";
-    public static final String Golosalvo = "02036";
-    public static final String Hellín = "02037";
-    public static final String Herrera_La = "02038";
-    public static final String Higueruela = "02039";
-    public static final String Hoya_Gonzalo = "02040";
-    public static final String Jorquera = "02041";
-    public static final String Letur = "02042";
-    public static final String Lezuza = "02043";
-    public static final String Liétor = "02044";
-    public static final String Madrigueras = "02045";
-    public static final String Mahora = "02046";
-    public static final String Masegoso = "02047";
-    public static final String Minaya = "02048";
-    public static final String Molinicos = "02049";
-    public static final String Montalvos = "02050";
-    public static final String Montealegre_del_Castillo = "02051";
-    public static final String Motilleja = "02052";
-    public static final String Munera = "02053";
-    public static final String Navas_de_Jorquera = "02054";
-    public static final String Nerpio = "02055";
-    public static final String Ontur = "02056";
-    public static final String Ossa_de_Montiel = "02057";
-    public static final String Paterna_del_Madera = "02058";
-    public static final String Peñas_de_San_Pedro = "02060";
-    public static final String Peñascosa = "02059";
-    public static final String Pétrola = "02061";
-    public static final String Povedilla = "02062";
-    public static final String Pozo_Cañada = "02901";
-    public static final String Pozohondo = "02063";
-    public static final String Pozo_Lorente = "02064";
-    public static final String Pozuelo = "02065";
-    public static final String Recueja_La = "02066";
-    public static final String Riópar = "02067";
-    public static final String Robledo = "02068";
-    public static final String Roda_La = "02069";
-    public static final String Salobre = "02070";
-    public static final String San_Pedro = "02071";
-    public static final String Socovos = "02072";
-    public static final String Tarazona_de_la_Mancha = "02073";
-    public static final String Tobarra = "02074";
-    public static final String Valdeganga = "02075";
-    public static final String Vianos = "02076";
-    public static final String Villa_de_Ves = "02077";
-    public static final String Villalgordo_del_Júcar = "02078";
-    public static final String Villamalea = "02079";
-    public static final String Villapalacios = "02080";
-    public static final String Villarrobledo = "02081";
-    public static final String Villatoya = "02082";
-    public static final String Villavaliente = "02083";
-    public static final String Villaverde_de_Guadalimar = "02084";
-    public static final String Viveros = "02085";
-    public static final String Yeste = "02086";
-    public static final String Agost = "03002";
-    public static final String Agres = "03003";
-    public static final String Aigües = "03004";
-    public static final String Alacant = "03014";
-    public static final String Albatera = "03005";
-    public static final String Alcalalí = "03006";
-    public static final String Alcoi = "03009";
-    public static final String Alcoleja = "03008";
-    public static final String Alcosser = "03007";
-    public static final String Alfafara = "03010";
-    public static final String Alfàs_del_Pi = "03011";
-    public static final String Algorfa = "03012";
-    public static final String Algueña = "03013";
-    public static final String Almoradí = "03015";
-    public static final String Almudaina = "03016";
-    public static final String Alqueria_dAsnar = "03017";
-    public static final String Altea = "03018";
-    public static final String Aspe = "03019";
-    public static final String Atzúbia = "03001";
-    public static final String Balones = "03020";
-    public static final String Banyeres_de_Mariola = "03021";
-    public static final String Benasau = "03022";
-    public static final String Beneixama = "03023";
-    public static final String Benejúzar = "03024";
-    public static final String Benferri = "03025";
-    public static final String Beniarbeig = "03026";
-    public static final String Beniardà = "03027";
-    public static final String Beniarrés = "03028";
-    public static final String Benidoleig = "03030";
-    public static final String Benidorm = "03031";
-    public static final String Benifallim = "03032";
-    public static final String Benifato = "03033";
-    public static final String Benigembla = "03029";
-    public static final String Benijófar = "03034";
-    public static final String Benilloba = "03035";
-    public static final String Benillup = "03036";
-    public static final String Benimantell = "03037";
-    public static final String Benimarfull = "03038";
-    public static final String Benimassot = "03039";
-    public static final String Benimeli = "03040";
-    public static final String Benissa = "03041";
-    public static final String Biar = "03043";
-    public static final String Bigastro = "03044";
-    public static final String Bolulla = "03045";
-    public static final String Busot = "03046";
-    public static final String Callosa_de_Segura = "03049";
-    public static final String Callosa_den_Sarrià = "03048";
-    public static final String Calp = "03047";
-    public static final String Camp_de_Mirra_el = "03051";
-    public static final String Campello_el = "03050";
-    public static final String Cañada = "03052";
-    public static final String Castalla = "03053";
-    public static final String Castell_de_Castells = "03054";
-    public static final String Castell_de_Guadalest_el = "03075";
-    public static final String Catral = "03055";
-    public static final String Cocentaina = "03056";
-    public static final String Confrides = "03057";
-    public static final String Cox = "03058";
-    public static final String Crevillent = "03059";
-    public static final String Daya_Nueva = "03061";
-    public static final String Daya_Vieja = "03062";
-    public static final String Dénia = "03063";
-    public static final String Dolores = "03064";
-    public static final String Elda = "03066";
-    public static final String Elx = "03065";
-    public static final String Fageca = "03067";
-    public static final String Famorca = "03068";
-    public static final String Finestrat = "03069";
-    public static final String Fondó_de_les_Neus_el = "03077";
-    public static final String Formentera_del_Segura = "03070";
-    public static final String Gaianes = "03072";
-    public static final String Gata_de_Gorgos = "03071";
-    public static final String Gorga = "03073";
-    public static final String Granja_de_Rocamora = "03074";
-    public static final String Guardamar_del_Segura = "03076";
-    public static final String Hondón_de_los_Frailes = "03078";
-    public static final String Ibi = "03079";
-    public static final String Jacarilla = "03080";
-    public static final String Llíber = "03085";
-    public static final String Millena = "03086";
-    public static final String Monforte_del_Cid = "03088";
-    public static final String Monòver = "03089";
-    public static final String Montesinos_Los = "03903";
-    public static final String Murla = "03091";
-    public static final String Muro_de_Alcoy = "03092";
-    public static final String Mutxamel = "03090";
-    public static final String Novelda = "03093";
-    public static final String Nucia_la = "03094";
-    public static final String Ondara = "03095";
-    public static final String Onil = "03096";
-    public static final String Orba = "03097";
-    public static final String Orihuela = "03099";
-    public static final String Orxa = "03084";
-    public static final String Orxeta = "03098";
-    public static final String Parcent = "03100";
-    public static final String Pedreguer = "03101";
-    public static final String Pego = "03102";
-    public static final String Penàguila = "03103";
-    public static final String Petrer = "03104";
-    public static final String Pilar_de_la_Horadada = "03902";
-    public static final String Pinós_el = "03105";
-    public static final String Planes = "03106";
-    public static final String Poble_Nou_de_Benitatxell_el = "03042";
-    public static final String Poblets_els = "03901";
-    public static final String Polop = "03107";
-    public static final String Quatretondeta = "03060";
-    public static final String Rafal = "03109";
-    public static final String Ràfol_dAlmúnia_el = "03110";
-    public static final String Redován = "03111";
-    public static final String Relleu = "03112";
-    public static final String Rojales = "03113";
-    public static final String Romana_la = "03114";
-    public static final String Sagra = "03115";
-    public static final String Salinas = "03116";
-    public static final String San_Fulgencio = "03118";
-    public static final String San_Isidro = "03904";
-    public static final String San_Miguel_de_Salinas = "03120";
-    public static final String Sanet_y_Negrals = "03117";
-    public static final String Sant_Joan_dAlacant = "03119";
-    public static final String Sant_Vicent_del_Raspeig = "03122";
-    public static final String Santa_Pola = "03121";
-    public static final String Sax = "03123";
-    public static final String Sella = "03124";
-    public static final String Senija = "03125";
-    public static final String Tàrbena = "03127";
-    public static final String Teulada = "03128";
-    public static final String Tibi = "03129";
-    public static final String Tollos = "03130";
-    public static final String Tormos = "03131";
-    public static final String Torre_de_les_Maçanes_la = "03132";
-    public static final String Torrevieja = "03133";
-    public static final String Vall_dAlcalà_la = "03134";
-    public static final String Vall_de_Gallinera_la = "03136";
-    public static final String Vall_de_Laguar_la = "03137";
-    public static final String Vall_dEbo_la = "03135";
-    public static final String Verger_el = "03138";
-    public static final String Vila_Joiosa_la = "03139";
-    public static final String Villena = "03140";
-    public static final String Xàbia = "03082";
-    public static final String Xaló = "03081";
-    public static final String Xixona = "03083";
-    public static final String Abla = "04001";
-    public static final String Abrucena = "04002";
-    public static final String Adra = "04003";
-    public static final String Albanchez = "04004";
-    public static final String Alboloduy = "04005";
-    public static final String Albox = "04006";
-    public static final String Alcolea = "04007";
-    public static final String Alcóntar = "04008";
-    public static final String Alcudia_de_Monteagud = "04009";
-    public static final String Alhabia = "04010";
-    public static final String Alhama_de_Almería = "04011";
-    public static final String Alicún = "04012";
-    public static final String Almería = "04013";
-    public static final String Almócita = "04014";
-    public static final String Alsodux = "04015";
-    public static final String Antas = "04016";
-    public static final String Arboleas = "04017";
-    public static final String Armuña_de_Almanzora = "04018";
-    public static final String Bacares = "04019";
-    public static final String Balanegra = "04904";
-    public static final String Bayárcal = "04020";
-    public static final String Bayarque = "04021";
-    public static final String Bédar = "04022";
-    public static final String Beires = "04023";
-    public static final String Benahadux = "04024";
-    public static final String Benitagla = "04026";
-    public static final String Benizalón = "04027";
-    public static final String Bentarique = "04028";
-    public static final String Berja = "04029";
-    public static final String Canjáyar = "04030";
-    public static final String Cantoria = "04031";
-    public static final String Carboneras = "04032";
-    public static final String Castro_de_Filabres = "04033";
-    public static final String Chercos = "04036";
-    public static final String Chirivel = "04037";
-    public static final String Cóbdar = "04034";
-    public static final String Cuevas_del_Almanzora = "04035";
-    public static final String Dalías = "04038";
-    public static final String Ejido_El = "04902";
-    public static final String Enix = "04041";
-    public static final String Felix = "04043";
-    public static final String Fines = "04044";
-    public static final String Fiñana = "04045";
-    public static final String Fondón = "04046";
-    public static final String Gádor = "04047";
-    public static final String Gallardos_Los = "04048";
-    public static final String Garrucha = "04049";
-    public static final String Gérgal = "04050";
-    public static final String Huécija = "04051";
-    public static final String Huércal_de_Almería = "04052";
-    public static final String Huércal_Overa = "04053";
-    public static final String Íllar = "04054";
-    public static final String Instinción = "04055";
-    public static final String Laroya = "04056";
-    public static final String Láujar_de_Andarax = "04057";
-    public static final String Líjar = "04058";
-    public static final String Lubrín = "04059";
-    public static final String Lucainena_de_las_Torres = "04060";
-    public static final String Lúcar = "04061";
-    public static final String Macael = "04062";
-    public static final String María = "04063";
-    public static final String Mojácar = "04064";
-    public static final String Mojonera_La = "04903";
-    public static final String Nacimiento = "04065";
-    public static final String Níjar = "04066";
-    public static final String Ohanes = "04067";
-    public static final String Olula_de_Castro = "04068";
-    public static final String Olula_del_Río = "04069";
-    public static final String Oria = "04070";
-    public static final String Padules = "04071";
-    public static final String Partaloa = "04072";
-    public static final String Paterna_del_Río = "04073";
-    public static final String Pechina = "04074";
-    public static final String Pulpí = "04075";
-    public static final String Purchena = "04076";
-    public static final String Rágol = "04077";
-    public static final String Rioja = "04078";
-    public static final String Roquetas_de_Mar = "04079";
-    public static final String Santa_Cruz_de_Marchena = "04080";
-    public static final String Santa_Fe_de_Mondújar = "04081";
-    public static final String Senés = "04082";
-    public static final String Serón = "04083";
-    public static final String Sierro = "04084";
-    public static final String Somontín = "04085";
-    public static final String Sorbas = "04086";
-    public static final String Suflí = "04087";
-    public static final String Tabernas = "04088";
-    public static final String Taberno = "04089";
-    public static final String Tahal = "04090";
-    public static final String Terque = "04091";
-    public static final String Tíjola = "04092";
-    public static final String Tres_Villas_Las = "04901";
-    public static final String Turre = "04093";
-    public static final String Turrillas = "04094";
-    public static final String Uleila_del_Campo = "04095";
-    public static final String Urrácal = "04096";
-    public static final String Velefique = "04097";
-    public static final String Vélez_Blanco = "04098";
-    public static final String Vélez_Rubio = "04099";
-    public static final String Vera = "04100";
-    public static final String Viator = "04101";
-    public static final String Vícar = "04102";
-    public static final String Zurgena = "04103";
-    public static final String Adanero = "05001";
-    public static final String Adrada_La = "05002";
-    public static final String Albornos = "05005";
-    public static final String Aldeanueva_de_Santa_Cruz = "05007";
-    public static final String Aldeaseca = "05008";
-    public static final String Aldehuela_La = "05010";
-    public static final String Amavida = "05012";
-    public static final String Arenal_El = "05013";
-    public static final String Arenas_de_San_Pedro = "05014";
-    public static final String Arevalillo = "05015";
-    public static final String Arévalo = "05016";
-    public static final String Aveinte = "05017";
-    public static final String Avellaneda = "05018";
-    public static final String Ávila = "05019";
-    public static final String Barco_de_Ávila_El = "05021";
-    public static final String Barraco_El = "05022";
-    public static final String Barromán = "05023";
-    public static final String Becedas = "05024";
-    public static final String Becedillas = "05025";
-    public static final String Bercial_de_Zapardiel = "05026";
-    public static final String Berlanas_Las = "05027";
-    public static final String Bernuy_Zapardiel = "05029";
-    public static final String Berrocalejo_de_Aragona = "05030";
-    public static final String Blascomillán = "05033";
-    public static final String Blasconuño_de_Matacabras = "05034";
-    public static final String Blascosancho = "05035";
-    public static final String Bohodón_El = "05036";
-    public static final String Bohoyo = "05037";
-    public static final String Bonilla_de_la_Sierra = "05038";
-    public static final String Brabos = "05039";
-    public static final String Bularros = "05040";
-    public static final String Burgohondo = "05041";
-    public static final String Cabezas_de_Alambre = "05042";
-    public static final String Cabezas_del_Pozo = "05043";
-    public static final String Cabezas_del_Villar = "05044";
-    public static final String Cabizuela = "05045";
-    public static final String Canales = "05046";
-    public static final String Candeleda = "05047";
-    public static final String Cantiveros = "05048";
-    public static final String Cardeñosa = "05049";
-    public static final String Carrera_La = "05051";
-    public static final String Casas_del_Puerto = "05052";
-    public static final String Casasola = "05053";
-    public static final String Casavieja = "05054";
-    public static final String Casillas = "05055";
-    public static final String Castellanos_de_Zapardiel = "05056";
-    public static final String Cebreros = "05057";
-    public static final String Cepeda_la_Mora = "05058";
-    public static final String Chamartín = "05067";
-    public static final String Cillán = "05059";
-    public static final String Cisla = "05060";
-    public static final String Colilla_La = "05061";
-    public static final String Collado_de_Contreras = "05062";
-    public static final String Collado_del_Mirón = "05063";
-    public static final String Constanzana = "05064";
-    public static final String Crespos = "05065";
-    public static final String Cuevas_del_Valle = "05066";
-    public static final String Diego_del_Carpio = "05903";
-    public static final String Donjimeno = "05069";
-    public static final String Donvidas = "05070";
-    public static final String Espinosa_de_los_Caballeros = "05072";
-    public static final String Flores_de_Ávila = "05073";
-    public static final String Fontiveros = "05074";
-    public static final String Fresnedilla = "05075";
-    public static final String Fresno_El = "05076";
-    public static final String Fuente_el_Saúz = "05077";
-    public static final String Fuentes_de_Año = "05078";
-    public static final String Gallegos_de_Altamiros = "05079";
-    public static final String Gallegos_de_Sobrinos = "05080";
-    public static final String Garganta_del_Villar = "05081";
-    public static final String Gavilanes = "05082";
-    public static final String Gemuño = "05083";
-    public static final String Gil_García = "05085";
-    public static final String Gilbuena = "05084";
-    public static final String Gimialcón = "05086";
-    public static final String Gotarrendura = "05087";
-    public static final String Grandes_y_San_Martín = "05088";
-    public static final String Guisando = "05089";
-    public static final String Gutierre_Muñoz = "05090";
-    public static final String Hernansancho = "05092";
-    public static final String Herradón_de_Pinares = "05093";
-    public static final String Herreros_de_Suso = "05094";
-    public static final String Higuera_de_las_Dueñas = "05095";
-    public static final String Hija_de_Dios_La = "05096";
-    public static final String Horcajada_La = "05097";
-    public static final String Horcajo_de_las_Torres = "05099";
-    public static final String Hornillo_El = "05100";
-    public static final String Hoyo_de_Pinares_El = "05102";
-    public static final String Hoyocasero = "05101";
-    public static final String Hoyorredondo = "05103";
-    public static final String Hoyos_de_Miguel_Muñoz = "05106";
-    public static final String Hoyos_del_Collado = "05104";
-    public static final String Hoyos_del_Espino = "05105";
-    public static final String Hurtumpascual = "05107";
-    public static final String Junciana = "05108";
-    public static final String Langa = "05109";
-    public static final String Lanzahíta = "05110";
-    public static final String Llanos_de_Tormes_Los = "05113";
-    public static final String Losar_del_Barco_El = "05112";
-    public static final String Madrigal_de_las_Altas_Torres = "05114";
-    public static final String Maello = "05115";
-    public static final String Malpartida_de_Corneja = "05116";
-    public static final String Mamblas = "05117";
-    public static final String Mancera_de_Arriba = "05118";
-    public static final String Manjabálago_y_Ortigosa_de_Rioalmar = "05119";
-    public static final String Marlín = "05120";
-    public static final String Martiherrero = "05121";
-    public static final String Martínez = "05122";
-    public static final String Mediana_de_Voltoya = "05123";
-    public static final String Medinilla = "05124";
-    public static final String Mengamuñoz = "05125";
-    public static final String Mesegar_de_Corneja = "05126";
-    public static final String Mijares = "05127";
-    public static final String Mingorría = "05128";
-    public static final String Mirón_El = "05129";
-    public static final String Mironcillo = "05130";
-    public static final String Mirueña_de_los_Infanzones = "05131";
-    public static final String Mombeltrán = "05132";
-    public static final String Monsalupe = "05133";
-    public static final String Moraleja_de_Matacabras = "05134";
-    public static final String Muñana = "05135";
-    public static final String Muñico = "05136";
-    public static final String Muñogalindo = "05138";
-    public static final String Muñogrande = "05139";
-    public static final String Muñomer_del_Peco = "05140";
-    public static final String Muñopepe = "05141";
-    public static final String Muñosancho = "05142";
-    public static final String Muñotello = "05143";
-    public static final String Narrillos_del_Álamo = "05144";
-    public static final String Narrillos_del_Rebollar = "05145";
-    public static final String Narros_de_Saldueña = "05149";
-    public static final String Narros_del_Castillo = "05147";
-    public static final String Narros_del_Puerto = "05148";
-    public static final String Nava_de_Arévalo = "05152";
-    public static final String Nava_del_Barco = "05153";
-    public static final String Navacepedilla_de_Corneja = "05151";
-    public static final String Navadijos = "05154";
-    public static final String Navaescurial = "05155";
-    public static final String Navahondilla = "05156";
-    public static final String Navalacruz = "05157";
-    public static final String Navalmoral = "05158";
-    public static final String Navalonguilla = "05159";
-    public static final String Navalosa = "05160";
-    public static final String Navalperal_de_Pinares = "05161";
-    public static final String Navalperal_de_Tormes = "05162";
-    public static final String Navaluenga = "05163";
-    public static final String Navaquesera = "05164";
-    public static final String Navarredonda_de_Gredos = "05165";
-    public static final String Navarredondilla = "05166";
-    public static final String Navarrevisca = "05167";
-    public static final String Navas_del_Marqués_Las = "05168";
-    public static final String Navatalgordo = "05169";
-    public static final String Navatejares = "05170";
-    public static final String Neila_de_San_Miguel = "05171";
-    public static final String Niharra = "05172";
-    public static final String Ojos_Albos = "05173";
-    public static final String Orbita = "05174";
-    public static final String Oso_El = "05175";
-    public static final String Padiernos = "05176";
-    public static final String Pajares_de_Adaja = "05177";
-    public static final String Palacios_de_Goda = "05178";
-    public static final String Papatrigo = "05179";
-    public static final String Parral_El = "05180";
-    public static final String Pascualcobo = "05181";
-    public static final String Pedro_Bernardo = "05182";
-    public static final String Pedro_Rodríguez = "05183";
-    public static final String Peguerinos = "05184";
-    public static final String Peñalba_de_Ávila = "05185";
-    public static final String Piedrahíta = "05186";
-    public static final String Piedralaves = "05187";
-    public static final String Poveda = "05188";
-    public static final String Poyales_del_Hoyo = "05189";
-    public static final String Pozanco = "05190";
-    public static final String Pradosegar = "05191";
-    public static final String Puerto_Castilla = "05192";
-    public static final String Rasueros = "05193";
-    public static final String Riocabado = "05194";
-    public static final String Riofrío = "05195";
-    public static final String Rivilla_de_Barajas = "05196";
-    public static final String Salobral = "05197";
-    public static final String Salvadiós = "05198";
-    public static final String San_Bartolomé_de_Béjar = "05199";
-    public static final String San_Bartolomé_de_Corneja = "05200";
-    public static final String San_Bartolomé_de_Pinares = "05201";
-    public static final String San_Esteban_de_los_Patos = "05206";
-    public static final String San_Esteban_de_Zapardiel = "05208";
-    public static final String San_Esteban_del_Valle = "05207";
-    public static final String San_García_de_Ingelmos = "05209";
-    public static final String San_Juan_de_Gredos = "05901";
-    public static final String San_Juan_de_la_Encinilla = "05210";
-    public static final String San_Juan_de_la_Nava = "05211";
-    public static final String San_Juan_del_Molinillo = "05212";
-    public static final String San_Juan_del_Olmo = "05213";
-    public static final String San_Lorenzo_de_Tormes = "05214";
-    public static final String San_Martín_de_la_Vega_del_Alberche = "05215";
-    public static final String San_Martín_del_Pimpollar = "05216";
-    public static final String San_Miguel_de_Corneja = "05217";
-    public static final String San_Miguel_de_Serrezuela = "05218";
-    public static final String San_Pascual = "05219";
-    public static final String San_Pedro_del_Arroyo = "05220";
-    public static final String San_Vicente_de_Arévalo = "05231";
-    public static final String Sanchidrián = "05204";
-    public static final String Sanchorreja = "05205";
-    public static final String Santa_Cruz_de_Pinares = "05222";
-    public static final String Santa_Cruz_del_Valle = "05221";
-    public static final String Santa_María_de_los_Caballeros = "05226";
-    public static final String Santa_María_del_Arroyo = "05224";
-    public static final String Santa_María_del_Berrocal = "05225";
-    public static final String Santa_María_del_Cubillo = "05902";
-    public static final String Santa_María_del_Tiétar = "05227";
-    public static final String Santiago_del_Collado = "05228";
-    public static final String Santiago_del_Tormes = "05904";
-    public static final String Santo_Domingo_de_las_Posadas = "05229";
-    public static final String Santo_Tomé_de_Zabarcos = "05230";
-    public static final String Serrada_La = "05232";
-    public static final String Serranillos = "05233";
-    public static final String Sigeres = "05234";
-    public static final String Sinlabajos = "05235";
-    public static final String Solana_de_Ávila = "05236";
-    public static final String Solana_de_Rioalmar = "05237";
-    public static final String Solosancho = "05238";
-    public static final String Sotalbo = "05239";
-    public static final String Sotillo_de_la_Adrada = "05240";
-    public static final String Tiemblo_El = "05241";
-    public static final String Tiñosillos = "05242";
-    public static final String Tolbaños = "05243";
-    public static final String Tormellas = "05244";
-    public static final String Tornadizos_de_Ávila = "05245";
-    public static final String Torre_La = "05247";
-    public static final String Tórtoles = "05246";
-    public static final String Umbrías = "05249";
-    public static final String Vadillo_de_la_Sierra = "05251";
-    public static final String Valdecasa = "05252";
-    public static final String Vega_de_Santa_María = "05253";
-    public static final String Velayos = "05254";
-    public static final String Villaflor = "05256";
-    public static final String Villafranca_de_la_Sierra = "05257";
-    public static final String Villanueva_de_Ávila = "05905";
-    public static final String Villanueva_de_Gómez = "05258";
-    public static final String Villanueva_del_Aceral = "05259";
-    public static final String Villanueva_del_Campillo = "05260";
-    public static final String Villar_de_Corneja = "05261";
-    public static final String Villarejo_del_Valle = "05262";
-    public static final String Villatoro = "05263";
-    public static final String Viñegra_de_Moraña = "05264";
-    public static final String Vita = "05265";
-    public static final String Zapardiel_de_la_Cañada = "05266";
-    public static final String Zapardiel_de_la_Ribera = "05267";
-    public static final String Acedera = "06001";
-    public static final String Aceuchal = "06002";
-    public static final String Ahillones = "06003";
-    public static final String Alange = "06004";
-    public static final String Albuera_La = "06005";
-    public static final String Alburquerque = "06006";
-    public static final String Alconchel = "06007";
-    public static final String Alconera = "06008";
-    public static final String Aljucén = "06009";
-    public static final String Almendral = "06010";
-    public static final String Almendralejo = "06011";
-    public static final String Arroyo_de_San_Serván = "06012";
-    public static final String Atalaya = "06013";
-    public static final String Azuaga = "06014";
-    public static final String Badajoz = "06015";
-    public static final String Barcarrota = "06016";
-    public static final String Baterno = "06017";
-    public static final String Benquerencia_de_la_Serena = "06018";
-    public static final String Berlanga = "06019";
-    public static final String Bienvenida = "06020";
-    public static final String Bodonal_de_la_Sierra = "06021";
-    public static final String Burguillos_del_Cerro = "06022";
-    public static final String Cabeza_del_Buey = "06023";
-    public static final String Cabeza_la_Vaca = "06024";
-    public static final String Calamonte = "06025";
-    public static final String Calera_de_León = "06026";
-    public static final String Calzadilla_de_los_Barros = "06027";
-    public static final String Campanario = "06028";
-    public static final String Campillo_de_Llerena = "06029";
-    public static final String Capilla = "06030";
-    public static final String Carmonita = "06031";
-    public static final String Carrascalejo_El = "06032";
-    public static final String Casas_de_Don_Pedro = "06033";
-    public static final String Casas_de_Reina = "06034";
-    public static final String Castilblanco = "06035";
-    public static final String Castuera = "06036";
-    public static final String Cheles = "06042";
-    public static final String Codosera_La = "06037";
-    public static final String Cordobilla_de_Lácara = "06038";
-    public static final String Coronada_La = "06039";
-    public static final String Corte_de_Peleas = "06040";
-    public static final String Cristina = "06041";
-    public static final String Don_Álvaro = "06043";
-    public static final String Don_Benito = "06044";
-    public static final String Entrín_Bajo = "06045";
-    public static final String Esparragalejo = "06046";
-    public static final String Esparragosa_de_la_Serena = "06047";
-    public static final String Esparragosa_de_Lares = "06048";
-    public static final String Feria = "06049";
-    public static final String Fregenal_de_la_Sierra = "06050";
-    public static final String Fuenlabrada_de_los_Montes = "06051";
-    public static final String Fuente_de_Cantos = "06052";
-    public static final String Fuente_del_Arco = "06053";
-    public static final String Fuente_del_Maestre = "06054";
-    public static final String Fuentes_de_León = "06055";
-    public static final String Garbayuela = "06056";
-    public static final String Garlitos = "06057";
-    public static final String Garrovilla_La = "06058";
-    public static final String Granja_de_Torrehermosa = "06059";
-    public static final String Guadiana = "06903";
-    public static final String Guareña = "06060";
-    public static final String Haba_La = "06061";
-    public static final String Helechosa_de_los_Montes = "06062";
-    public static final String Herrera_del_Duque = "06063";
-    public static final String Higuera_de_la_Serena = "06064";
-    public static final String Higuera_de_Llerena = "06065";
-    public static final String Higuera_de_Vargas = "06066";
-    public static final String Higuera_la_Real = "06067";
-    public static final String Hinojosa_del_Valle = "06068";
-    public static final String Hornachos = "06069";
-    public static final String Jerez_de_los_Caballeros = "06070";
-    public static final String Lapa_La = "06071";
-    public static final String Llera = "06073";
-    public static final String Llerena = "06074";
-    public static final String Lobón = "06072";
-    public static final String Magacela = "06075";
-    public static final String Maguilla = "06076";
-    public static final String Malcocinado = "06077";
-    public static final String Malpartida_de_la_Serena = "06078";
-    public static final String Manchita = "06079";
-    public static final String Medellín = "06080";
-    public static final String Medina_de_las_Torres = "06081";
-    public static final String Mengabril = "06082";
-    public static final String Mérida = "06083";
-    public static final String Mirandilla = "06084";
-    public static final String Monesterio = "06085";
-    public static final String Montemolín = "06086";
-    public static final String Monterrubio_de_la_Serena = "06087";
-    public static final String Montijo = "06088";
-    public static final String Morera_La = "06089";
-    public static final String Nava_de_Santiago_La = "06090";
-    public static final String Navalvillar_de_Pela = "06091";
-    public static final String Nogales = "06092";
-    public static final String Oliva_de_la_Frontera = "06093";
-    public static final String Oliva_de_Mérida = "06094";
-    public static final String Olivenza = "06095";
-    public static final String Orellana_de_la_Sierra = "06096";
-    public static final String Orellana_la_Vieja = "06097";
-    public static final String Palomas = "06098";
-    public static final String Parra_La = "06099";
-    public static final String Peñalsordo = "06100";
-    public static final String Peraleda_del_Zaucejo = "06101";
-    public static final String Puebla_de_Alcocer = "06102";
-    public static final String Puebla_de_la_Calzada = "06103";
-    public static final String Puebla_de_la_Reina = "06104";
-    public static final String Puebla_de_Obando = "06107";
-    public static final String Puebla_de_Sancho_Pérez = "06108";
-    public static final String Puebla_del_Maestre = "06105";
-    public static final String Puebla_del_Prior = "06106";
-    public static final String Pueblonuevo_del_Guadiana = "06902";
-    public static final String Quintana_de_la_Serena = "06109";
-    public static final String Reina = "06110";
-    public static final String Rena = "06111";
-    public static final String Retamal_de_Llerena = "06112";
-    public static final String Ribera_del_Fresno = "06113";
-    public static final String Risco = "06114";
-    public static final String Roca_de_la_Sierra_La = "06115";
-    public static final String Salvaleón = "06116";
-    public static final String Salvatierra_de_los_Barros = "06117";
-    public static final String San_Pedro_de_Mérida = "06119";
-    public static final String San_Vicente_de_Alcántara = "06123";
-    public static final String Sancti_Spíritus = "06118";
-    public static final String Santa_Amalia = "06120";
-    public static final String Santa_Marta = "06121";
-    public static final String Santos_de_Maimona_Los = "06122";
-    public static final String Segura_de_León = "06124";
-    public static final String Siruela = "06125";
-    public static final String Solana_de_los_Barros = "06126";
-    public static final String Talarrubias = "06127";
-    public static final String Talavera_la_Real = "06128";
-    public static final String Táliga = "06129";
-    public static final String Tamurejo = "06130";
-    public static final String Torre_de_Miguel_Sesmero = "06131";
-    public static final String Torremayor = "06132";
-    public static final String Torremejía = "06133";
-    public static final String Trasierra = "06134";
-    public static final String Trujillanos = "06135";
-    public static final String Usagre = "06136";
-    public static final String Valdecaballeros = "06137";
-    public static final String Valdelacalzada = "06901";
-    public static final String Valdetorres = "06138";
-    public static final String Valencia_de_las_Torres = "06139";
-    public static final String Valencia_del_Mombuey = "06140";
-    public static final String Valencia_del_Ventoso = "06141";
-    public static final String Valle_de_la_Serena = "06146";
-    public static final String Valle_de_Matamoros = "06147";
-    public static final String Valle_de_Santa_Ana = "06148";
-    public static final String Valverde_de_Burguillos = "06142";
-    public static final String Valverde_de_Leganés = "06143";
-    public static final String Valverde_de_Llerena = "06144";
-    public static final String Valverde_de_Mérida = "06145";
-    public static final String Villafranca_de_los_Barros = "06149";
-    public static final String Villagarcía_de_la_Torre = "06150";
-    public static final String Villagonzalo = "06151";
-    public static final String Villalba_de_los_Barros = "06152";
-    public static final String Villanueva_de_la_Serena = "06153";
-    public static final String Villanueva_del_Fresno = "06154";
-    public static final String Villar_de_Rena = "06156";
-    public static final String Villar_del_Rey = "06155";
-    public static final String Villarta_de_los_Montes = "06157";
-    public static final String Zafra = "06158";
-    public static final String Zahínos = "06159";
-    public static final String Zalamea_de_la_Serena = "06160";
-    public static final String Zarza_La = "06162";
-    public static final String Zarza_Capilla = "06161";
-    public static final String Alaior = "07002";
-    public static final String Alaró = "07001";
-    public static final String Alcúdia = "07003";
-    public static final String Algaida = "07004";
-    public static final String Andratx = "07005";
-    public static final String Ariany = "07901";
-    public static final String Artà = "07006";
-    public static final String Banyalbufar = "07007";
-    public static final String Binissalem = "07008";
-    public static final String Búger = "07009";
-    public static final String Bunyola = "07010";
-    public static final String Calvià = "07011";
-    public static final String Campanet = "07012";
-    public static final String Campos = "07013";
-    public static final String Capdepera = "07014";
-    public static final String Castell_Es = "07064";
-    public static final String Ciutadella_de_Menorca = "07015";
-    public static final String Consell = "07016";
-    public static final String Costitx = "07017";
-    public static final String Deià = "07018";
-    public static final String Eivissa = "07026";
-    public static final String Escorca = "07019";
-    public static final String Esporles = "07020";
-    public static final String Estellencs = "07021";
-    public static final String Felanitx = "07022";
-    public static final String Ferreries = "07023";
-    public static final String Formentera = "07024";
-    public static final String Fornalutx = "07025";
-    public static final String Inca = "07027";
-    public static final String Lloret_de_Vistalegre = "07028";
-    public static final String Lloseta = "07029";
-    public static final String Llubí = "07030";
-    public static final String Llucmajor = "07031";
-    public static final String Manacor = "07033";
-    public static final String Mancor_de_la_Vall = "07034";
-    public static final String Maó = "07032";
-    public static final String Maria_de_la_Salut = "07035";
-    public static final String Marratxí = "07036";
-    public static final String Mercadal_Es = "07037";
-    public static final String Migjorn_Gran_Es = "07902";
-    public static final String Montuïri = "07038";
-    public static final String Muro = "07039";
-    public static final String Palma = "07040";
-    public static final String Petra = "07041";
-    public static final String Pobla_Sa = "07044";
-    public static final String Pollença = "07042";
-    public static final String Porreres = "07043";
-    public static final String Puigpunyent = "07045";
-    public static final String Salines_Ses = "07059";
-    public static final String Sant_Antoni_de_Portmany = "07046";
-    public static final String Sant_Joan = "07049";
-    public static final String Sant_Joan_de_Labritja = "07050";
-    public static final String Sant_Josep_de_sa_Talaia = "07048";
-    public static final String Sant_Llorenç_des_Cardassar = "07051";
-    public static final String Sant_Lluís = "07052";
-    public static final String Santa_Eugènia = "07053";
-    public static final String Santa_Eulària_des_Riu = "07054";
-    public static final String Santa_Margalida = "07055";
-    public static final String Santa_María_del_Camí = "07056";
-    public static final String Santanyí = "07057";
-    public static final String Selva = "07058";
-    public static final String Sencelles = "07047";
-    public static final String Sineu = "07060";
-    public static final String Sóller = "07061";
-    public static final String Son_Servera = "07062";
-    public static final String Valldemossa = "07063";
-    public static final String Vilafranca_de_Bonany = "07065";
-    public static final String Abrera = "08001";
-    public static final String Aguilar_de_Segarra = "08002";
-    public static final String Aiguafreda = "08014";
-    public static final String Alella = "08003";
-    public static final String Alpens = "08004";
-    public static final String Ametlla_del_Vallès = "08005";
-    public static final String Arenys_de_Mar = "08006";
-    public static final String Arenys_de_Munt = "08007";
-    public static final String Argençola = "08008";
-    public static final String Argentona = "08009";
-    public static final String Artés = "08010";
-    public static final String Avià = "08011";
-    public static final String Avinyó = "08012";
-    public static final String Avinyonet_del_Penedès = "08013";
-    public static final String Badalona = "08015";
-    public static final String Badia_del_Vallès = "08904";
-    public static final String Bagà = "08016";
-    public static final String Balenyà = "08017";
-    public static final String Balsareny = "08018";
-    public static final String Barberà_del_Vallès = "08252";
-    public static final String Barcelona = "08019";
-    public static final String Begues = "08020";
-    public static final String Bellprat = "08021";
-    public static final String Berga = "08022";
-    public static final String Bigues_i_Riells_del_Fai = "08023";
-    public static final String Borredà = "08024";
-    public static final String Bruc_El = "08025";
-    public static final String Brull_El = "08026";
-    public static final String Cabanyes_Les = "08027";
-    public static final String Cabrera_dAnoia = "08028";
-    public static final String Cabrera_de_Mar = "08029";
-    public static final String Cabrils = "08030";
-    public static final String Calaf = "08031";
-    public static final String Calders = "08034";
-    public static final String Caldes_de_Montbui = "08033";
-    public static final String Caldes_dEstrac = "08032";
-    public static final String Calella = "08035";
-    public static final String Calldetenes = "08037";
-    public static final String Callús = "08038";
-    public static final String Calonge_de_Segarra = "08036";
-    public static final String Campins = "08039";
-    public static final String Canet_de_Mar = "08040";
-    public static final String Canovelles = "08041";
-    public static final String Cànoves_i_Samalús = "08042";
-    public static final String Canyelles = "08043";
-    public static final String Capellades = "08044";
-    public static final String Capolat = "08045";
-    public static final String Cardedeu = "08046";
-    public static final String Cardona = "08047";
-    public static final String Carme = "08048";
-    public static final String Casserres = "08049";
-    public static final String Castell_de_lAreny = "08057";
-    public static final String Castellar_de_nHug = "08052";
-    public static final String Castellar_del_Riu = "08050";
-    public static final String Castellar_del_Vallès = "08051";
-    public static final String Castellbell_i_el_Vilar = "08053";
-    public static final String Castellbisbal = "08054";
-    public static final String Castellcir = "08055";
-    public static final String Castelldefels = "08056";
-    public static final String Castellet_i_la_Gornal = "08058";
-    public static final String Castellfollit_de_Riubregós = "08060";
-    public static final String Castellfollit_del_Boix = "08059";
-    public static final String Castellgalí = "08061";
-    public static final String Castellnou_de_Bages = "08062";
-    public static final String Castellolí = "08063";
-    public static final String Castellterçol = "08064";
-    public static final String Castellví_de_la_Marca = "08065";
-    public static final String Castellví_de_Rosanes = "08066";
-    public static final String Centelles = "08067";
-    public static final String Cercs = "08268";
-    public static final String Cerdanyola_del_Vallès = "08266";
-    public static final String Cervelló = "08068";
-    public static final String Collbató = "08069";
-    public static final String Collsuspina = "08070";
-    public static final String Copons = "08071";
-    public static final String Corbera_de_Llobregat = "08072";
-    public static final String Cornellà_de_Llobregat = "08073";
-    public static final String Cubelles = "08074";
-    public static final String Dosrius = "08075";
-    public static final String Esparreguera = "08076";
-    public static final String Esplugues_de_Llobregat = "08077";
-    public static final String Espunyola = "08078";
-    public static final String Esquirol = "08254";
-    public static final String Estany = "08079";
-    public static final String Figaró_Montmany = "08134";
-    public static final String Fígols = "08080";
-    public static final String Fogars_de_la_Selva = "08082";
-    public static final String Fogars_de_Montclús = "08081";
-    public static final String Folgueroles = "08083";
-    public static final String Fonollosa = "08084";
-    public static final String Font_rubí = "08085";
-    public static final String Franqueses_del_Vallès_Les = "08086";
-    public static final String Gaià = "08090";
-    public static final String Gallifa = "08087";
-    public static final String Garriga_La = "08088";
-    public static final String Gavà = "08089";
-    public static final String Gelida = "08091";
-    public static final String Gironella = "08092";
-    public static final String Gisclareny = "08093";
-    public static final String Granada_La = "08094";
-    public static final String Granera = "08095";
-    public static final String Granollers = "08096";
-    public static final String Gualba = "08097";
-    public static final String Guardiola_de_Berguedà = "08099";
-    public static final String Gurb = "08100";
-    public static final String Hospitalet_de_Llobregat = "08101";
-    public static final String Hostalets_de_Pierola_Els = "08162";
-    public static final String Igualada = "08102";
-    public static final String Jorba = "08103";
-    public static final String Llacuna_La = "08104";
-    public static final String Llagosta_La = "08105";
-    public static final String Lliçà_dAmunt = "08107";
-    public static final String Lliçà_de_Vall = "08108";
-    public static final String Llinars_del_Vallès = "08106";
-    public static final String Lluçà = "08109";
-    public static final String Malgrat_de_Mar = "08110";
-    public static final String Malla = "08111";
-    public static final String Manlleu = "08112";
-    public static final String Manresa = "08113";
-    public static final String Marganell = "08242";
-    public static final String Martorell = "08114";
-    public static final String Martorelles = "08115";
-    public static final String Masies_de_Roda_Les = "08116";
-    public static final String Masies_de_Voltregà_Les = "08117";
-    public static final String Masnou_El = "08118";
-    public static final String Masquefa = "08119";
-    public static final String Matadepera = "08120";
-    public static final String Mataró = "08121";
-    public static final String Mediona = "08122";
-    public static final String Moià = "08138";
-    public static final String Molins_de_Rei = "08123";
-    public static final String Mollet_del_Vallès = "08124";
-    public static final String Monistrol_de_Calders = "08128";
-    public static final String Monistrol_de_Montserrat = "08127";
-    public static final String Montcada_i_Reixac = "08125";
-    public static final String Montclar = "08130";
-    public static final String Montesquiu = "08131";
-    public static final String Montgat = "08126";
-    public static final String Montmajor = "08132";
-    public static final String Montmaneu = "08133";
-    public static final String Montmeló = "08135";
-    public static final String Montornès_del_Vallès = "08136";
-    public static final String Montseny = "08137";
-    public static final String Muntanyola = "08129";
-    public static final String Mura = "08139";
-    public static final String Navarcles = "08140";
-    public static final String Navàs = "08141";
-    public static final String Nou_de_Berguedà_La = "08142";
-    public static final String Òdena = "08143";
-    public static final String Olèrdola = "08145";
-    public static final String Olesa_de_Bonesvalls = "08146";
-    public static final String Olesa_de_Montserrat = "08147";
-    public static final String Olivella = "08148";
-    public static final String Olost = "08149";
-    public static final String Olvan = "08144";
-    public static final String Orís = "08150";
-    public static final String Oristà = "08151";
-    public static final String Orpí = "08152";
-    public static final String Òrrius = "08153";
-    public static final String Pacs_del_Penedès = "08154";
-    public static final String Palafolls = "08155";
-    public static final String Palau_solità_i_Plegamans = "08156";
-    public static final String Pallejà = "08157";
-    public static final String Palma_de_Cervelló_La = "08905";
-    public static final String Papiol_El = "08158";
-    public static final String Parets_del_Vallès = "08159";
-    public static final String Perafita = "08160";
-    public static final String Piera = "08161";
-    public static final String Pineda_de_Mar = "08163";
-    public static final String Pla_del_Penedès_El = "08164";
-    public static final String Pobla_de_Claramunt_La = "08165";
-    public static final String Pobla_de_Lillet_La = "08166";
-    public static final String Polinyà = "08167";
-    public static final String Pont_de_Vilomara_i_Rocafort_El = "08182";
-    public static final String Pontons = "08168";
-    public static final String Prat_de_Llobregat_El = "08169";
-    public static final String Prats_de_Lluçanès = "08171";
-    public static final String Prats_de_Rei_Els = "08170";
-    public static final String Premià_de_Dalt = "08230";
-    public static final String Premià_de_Mar = "08172";
-    public static final String Puigdàlber = "08174";
-    public static final String Puig_reig = "08175";
-    public static final String Pujalt = "08176";
-    public static final String Quar_La = "08177";
-    public static final String Rajadell = "08178";
-    public static final String Rellinars = "08179";
-    public static final String Ripollet = "08180";
-    public static final String Roca_del_Vallès_La = "08181";
-    public static final String Roda_de_Ter = "08183";
-    public static final String Rubí = "08184";
-    public static final String Rubió = "08185";
-    public static final String Rupit_i_Pruit = "08901";
-    public static final String Sabadell = "08187";
-    public static final String Sagàs = "08188";
-    public static final String Saldes = "08190";
-    public static final String Sallent = "08191";
-    public static final String Sant_Adrià_de_Besòs = "08194";
-    public static final String Sant_Agustí_de_Lluçanès = "08195";
-    public static final String Sant_Andreu_de_la_Barca = "08196";
-    public static final String Sant_Andreu_de_Llavaneres = "08197";
-    public static final String Sant_Antoni_de_Vilamajor = "08198";
-    public static final String Sant_Bartomeu_del_Grau = "08199";
-    public static final String Sant_Boi_de_Llobregat = "08200";
-    public static final String Sant_Boi_de_Lluçanès = "08201";
-    public static final String Sant_Cebrià_de_Vallalta = "08203";
-    public static final String Sant_Celoni = "08202";
-    public static final String Sant_Climent_de_Llobregat = "08204";
-    public static final String Sant_Cugat_del_Vallès = "08205";
-    public static final String Sant_Cugat_Sesgarrigues = "08206";
-    public static final String Sant_Esteve_de_Palautordera = "08207";
-    public static final String Sant_Esteve_Sesrovires = "08208";
-    public static final String Sant_Feliu_de_Codines = "08210";
-    public static final String Sant_Feliu_de_Llobregat = "08211";
-    public static final String Sant_Feliu_Sasserra = "08212";
-    public static final String Sant_Fost_de_Campsentelles = "08209";
-    public static final String Sant_Fruitós_de_Bages = "08213";
-    public static final String Sant_Hipòlit_de_Voltregà = "08215";
-    public static final String Sant_Iscle_de_Vallalta = "08193";
-    public static final String Sant_Jaume_de_Frontanyà = "08216";
-    public static final String Sant_Joan_de_Vilatorrada = "08218";
-    public static final String Sant_Joan_Despí = "08217";
-    public static final String Sant_Julià_de_Cerdanyola = "08903";
-    public static final String Sant_Julià_de_Vilatorta = "08220";
-    public static final String Sant_Just_Desvern = "08221";
-    public static final String Sant_Llorenç_dHortons = "08222";
-    public static final String Sant_Llorenç_Savall = "08223";
-    public static final String Sant_Martí_dAlbars = "08225";
-    public static final String Sant_Martí_de_Centelles = "08224";
-    public static final String Sant_Martí_de_Tous = "08226";
-    public static final String Sant_Martí_Sarroca = "08227";
-    public static final String Sant_Martí_Sesgueioles = "08228";
-    public static final String Sant_Mateu_de_Bages = "08229";
-    public static final String Sant_Pere_de_Ribes = "08231";
-    public static final String Sant_Pere_de_Riudebitlles = "08232";
-    public static final String Sant_Pere_de_Torelló = "08233";
-    public static final String Sant_Pere_de_Vilamajor = "08234";
-    public static final String Sant_Pere_Sallavinera = "08189";
-    public static final String Sant_Pol_de_Mar = "08235";
-    public static final String Sant_Quintí_de_Mediona = "08236";
-    public static final String Sant_Quirze_de_Besora = "08237";
-    public static final String Sant_Quirze_del_Vallès = "08238";
-    public static final String Sant_Quirze_Safaja = "08239";
-    public static final String Sant_Sadurní_dAnoia = "08240";
-    public static final String Sant_Sadurní_dOsormort = "08241";
-    public static final String Sant_Salvador_de_Guardiola = "08098";
-    public static final String Sant_Vicenç_de_Castellet = "08262";
-    public static final String Sant_Vicenç_de_Montalt = "08264";
-    public static final String Sant_Vicenç_de_Torelló = "08265";
-    public static final String Sant_Vicenç_dels_Horts = "08263";
-    public static final String Santa_Cecília_de_Voltregà = "08243";
-    public static final String Santa_Coloma_de_Cervelló = "08244";
-    public static final String Santa_Coloma_de_Gramenet = "08245";
-    public static final String Santa_Eugènia_de_Berga = "08246";
-    public static final String Santa_Eulàlia_de_Riuprimer = "08247";
-    public static final String Santa_Eulàlia_de_Ronçana = "08248";
-    public static final String Santa_Fe_del_Penedès = "08249";
-    public static final String Santa_Margarida_de_Montbui = "08250";
-    public static final String Santa_Margarida_i_els_Monjos = "08251";
-    public static final String Santa_Maria_de_Besora = "08253";
-    public static final String Santa_Maria_de_Martorelles = "08256";
-    public static final String Santa_Maria_de_Merlès = "08255";
-    public static final String Santa_Maria_de_Miralles = "08257";
-    public static final String Santa_Maria_de_Palautordera = "08259";
-    public static final String Santa_Maria_dOló = "08258";
-    public static final String Santa_Perpètua_de_Mogoda = "08260";
-    public static final String Santa_Susanna = "08261";
-    public static final String Santpedor = "08192";
-    public static final String Sentmenat = "08267";
-    public static final String Seva = "08269";
-    public static final String Sitges = "08270";
-    public static final String Sobremunt = "08271";
-    public static final String Sora = "08272";
-    public static final String Subirats = "08273";
-    public static final String Súria = "08274";
-    public static final String Tagamanent = "08276";
-    public static final String Talamanca = "08277";
-    public static final String Taradell = "08278";
-    public static final String Tavèrnoles = "08275";
-    public static final String Tavertet = "08280";
-    public static final String Teià = "08281";
-    public static final String Terrassa = "08279";
-    public static final String Tiana = "08282";
-    public static final String Tona = "08283";
-    public static final String Tordera = "08284";
-    public static final String Torelló = "08285";
-    public static final String Torre_de_Claramunt_La = "08286";
-    public static final String Torrelavit = "08287";
-    public static final String Torrelles_de_Foix = "08288";
-    public static final String Torrelles_de_Llobregat = "08289";
-    public static final String Ullastrell = "08290";
-    public static final String Vacarisses = "08291";
-    public static final String Vallbona_dAnoia = "08292";
-    public static final String Vallcebre = "08293";
-    public static final String Vallgorguina = "08294";
-    public static final String Vallirana = "08295";
-    public static final String Vallromanes = "08296";
-    public static final String Veciana = "08297";
-    public static final String Vic = "08298";
-    public static final String Vilada = "08299";
-    public static final String Viladecans = "08301";
-    public static final String Viladecavalls = "08300";
-    public static final String Vilafranca_del_Penedès = "08305";
-    public static final String Vilalba_Sasserra = "08306";
-    public static final String Vilanova_de_Sau = "08303";
-    public static final String Vilanova_del_Camí = "08302";
-    public static final String Vilanova_del_Vallès = "08902";
-    public static final String Vilanova_i_la_Geltrú = "08307";
-    public static final String Vilassar_de_Dalt = "08214";
-    public static final String Vilassar_de_Mar = "08219";
-    public static final String Vilobí_del_Penedès = "08304";
-    public static final String Viver_i_Serrateix = "08308";
-    public static final String Abajas = "09001";
-    public static final String Adrada_de_Haza = "09003";
-    public static final String Aguas_Cándidas = "09006";
-    public static final String Aguilar_de_Bureba = "09007";
-    public static final String Albillos = "09009";
-    public static final String Alcocero_de_Mola = "09010";
-    public static final String Alfoz_de_Bricia = "09011";
-    public static final String Alfoz_de_Quintanadueñas = "09907";
-    public static final String Alfoz_de_Santa_Gadea = "09012";
-    public static final String Altable = "09013";
-    public static final String Altos_Los = "09014";
-    public static final String Ameyugo = "09016";
-    public static final String Anguix = "09017";
-    public static final String Aranda_de_Duero = "09018";
-    public static final String Arandilla = "09019";
-    public static final String Arauzo_de_Miel = "09020";
-    public static final String Arauzo_de_Salce = "09021";
-    public static final String Arauzo_de_Torre = "09022";
-    public static final String Arcos = "09023";
-    public static final String Arenillas_de_Riopisuerga = "09024";
-    public static final String Arija = "09025";
-    public static final String Arlanzón = "09026";
-    public static final String Arraya_de_Oca = "09027";
-    public static final String Atapuerca = "09029";
-    public static final String Ausines_Los = "09030";
-    public static final String Avellanosa_de_Muñó = "09032";
-    public static final String Bahabón_de_Esgueva = "09033";
-    public static final String Balbases_Los = "09034";
-    public static final String Baños_de_Valdearados = "09035";
-    public static final String Bañuelos_de_Bureba = "09036";
-    public static final String Barbadillo_de_Herreros = "09037";
-    public static final String Barbadillo_del_Mercado = "09038";
-    public static final String Barbadillo_del_Pez = "09039";
-    public static final String Barrio_de_Muñó = "09041";
-    public static final String Barrios_de_Bureba_Los = "09043";
-    public static final String Barrios_de_Colina = "09044";
-    public static final String Basconcillos_del_Tozo = "09045";
-    public static final String Bascuñana = "09046";
-    public static final String Belbimbre = "09047";
-    public static final String Belorado = "09048";
-    public static final String Berberana = "09050";
-    public static final String Berlangas_de_Roa = "09051";
-    public static final String Berzosa_de_Bureba = "09052";
-    public static final String Bozoó = "09054";
-    public static final String Brazacorta = "09055";
-    public static final String Briviesca = "09056";
-    public static final String Bugedo = "09057";
-    public static final String Buniel = "09058";
-    public static final String Burgos = "09059";
-    public static final String Busto_de_Bureba = "09060";
-    public static final String Cabañes_de_Esgueva = "09061";
-    public static final String Cabezón_de_la_Sierra = "09062";
-    public static final String Caleruega = "09064";
-    public static final String Campillo_de_Aranda = "09065";
-    public static final String Campolara = "09066";
-    public static final String Canicosa_de_la_Sierra = "09067";
-    public static final String Cantabrana = "09068";
-    public static final String Carazo = "09070";
-    public static final String Carcedo_de_Bureba = "09071";
-    public static final String Carcedo_de_Burgos = "09072";
-    public static final String Cardeñadijo = "09073";
-    public static final String Cardeñajimeno = "09074";
-    public static final String Cardeñuela_Riopico = "09075";
-    public static final String Carrias = "09076";
-    public static final String Cascajares_de_Bureba = "09077";
-    public static final String Cascajares_de_la_Sierra = "09078";
-    public static final String Castellanos_de_Castro = "09079";
-    public static final String Castil_de_Peones = "09083";
-    public static final String Castildelgado = "09082";
-    public static final String Castrillo_de_la_Reina = "09084";
-    public static final String Castrillo_de_la_Vega = "09085";
-    public static final String Castrillo_de_Riopisuerga = "09088";
-    public static final String Castrillo_del_Val = "09086";
-    public static final String Castrillo_Mota_de_Judíos = "09090";
-    public static final String Castrojeriz = "09091";
-    public static final String Cavia = "09063";
-    public static final String Cayuela = "09093";
-    public static final String Cebrecos = "09094";
-    public static final String Celada_del_Camino = "09095";
-    public static final String Cerezo_de_Río_Tirón = "09098";
-    public static final String Cerratón_de_Juarros = "09100";
-    public static final String Ciadoncha = "09101";
-    public static final String Cillaperlata = "09102";
-    public static final String Cilleruelo_de_Abajo = "09103";
-    public static final String Cilleruelo_de_Arriba = "09104";
-    public static final String Ciruelos_de_Cervera = "09105";
-    public static final String Cogollos = "09108";
-    public static final String Condado_de_Treviño = "09109";
-    public static final String Contreras = "09110";
-    public static final String Coruña_del_Conde = "09112";
-    public static final String Covarrubias = "09113";
-    public static final String Cubillo_del_Campo = "09114";
-    public static final String Cubo_de_Bureba = "09115";
-    public static final String Cueva_de_Roa_La = "09117";
-    public static final String Cuevas_de_San_Clemente = "09119";
-    public static final String Encío = "09120";
-    public static final String Espinosa_de_Cervera = "09122";
-    public static final String Espinosa_de_los_Monteros = "09124";
-    public static final String Espinosa_del_Camino = "09123";
-    public static final String Estépar = "09125";
-    public static final String Fontioso = "09127";
-    public static final String Frandovínez = "09128";
-    public static final String Fresneda_de_la_Sierra_Tirón = "09129";
-    public static final String Fresneña = "09130";
-    public static final String Fresnillo_de_las_Dueñas = "09131";
-    public static final String Fresno_de_Río_Tirón = "09132";
-    public static final String Fresno_de_Rodilla = "09133";
-    public static final String Frías = "09134";
-    public static final String Fuentebureba = "09135";
-    public static final String Fuentecén = "09136";
-    public static final String Fuentelcésped = "09137";
-    public static final String Fuentelisendo = "09138";
-    public static final String Fuentemolinos = "09139";
-    public static final String Fuentenebro = "09140";
-    public static final String Fuentespina = "09141";
-    public static final String Galbarros = "09143";
-    public static final String Gallega_La = "09144";
-    public static final String Grijalba = "09148";
-    public static final String Grisaleña = "09149";
-    public static final String Gumiel_de_Izán = "09151";
-    public static final String Gumiel_de_Mercado = "09152";
-    public static final String Hacinas = "09154";
-    public static final String Haza = "09155";
-    public static final String Hontanas = "09159";
-    public static final String Hontangas = "09160";
-    public static final String Hontoria_de_la_Cantera = "09162";
-    public static final String Hontoria_de_Valdearados = "09164";
-    public static final String Hontoria_del_Pinar = "09163";
-    public static final String Hormazas_Las = "09166";
-    public static final String Hornillos_del_Camino = "09167";
-    public static final String Horra_La = "09168";
-    public static final String Hortigüela = "09169";
-    public static final String Hoyales_de_Roa = "09170";
-    public static final String Huérmeces = "09172";
-    public static final String Huerta_de_Arriba = "09173";
-    public static final String Huerta_de_Rey = "09174";
-    public static final String Humada = "09175";
-    public static final String Hurones = "09176";
-    public static final String Ibeas_de_Juarros = "09177";
-    public static final String Ibrillos = "09178";
-    public static final String Iglesiarrubia = "09179";
-    public static final String Iglesias = "09180";
-    public static final String Isar = "09181";
-    public static final String Itero_del_Castillo = "09182";
-    public static final String Jaramillo_de_la_Fuente = "09183";
-    public static final String Jaramillo_Quemado = "09184";
-    public static final String Junta_de_Traslaloma = "09189";
-    public static final String Junta_de_Villalba_de_Losa = "09190";
-    public static final String Jurisdicción_de_Lara = "09191";
-    public static final String Jurisdicción_de_San_Zadornil = "09192";
-    public static final String Lerma = "09194";
-    public static final String Llano_de_Bureba = "09195";
-    public static final String Madrigal_del_Monte = "09196";
-    public static final String Madrigalejo_del_Monte = "09197";
-    public static final String Mahamud = "09198";
-    public static final String Mambrilla_de_Castrejón = "09199";
-    public static final String Mambrillas_de_Lara = "09200";
-    public static final String Mamolar = "09201";
-    public static final String Manciles = "09202";
-    public static final String Mazuela = "09206";
-    public static final String Mecerreyes = "09208";
-    public static final String Medina_de_Pomar = "09209";
-    public static final String Melgar_de_Fernamental = "09211";
-    public static final String Merindad_de_Cuesta_Urria = "09213";
-    public static final String Merindad_de_Montija = "09214";
-    public static final String Merindad_de_Río_Ubierna = "09906";
-    public static final String Merindad_de_Sotoscueva = "09215";
-    public static final String Merindad_de_Valdeporres = "09216";
-    public static final String Merindad_de_Valdivielso = "09217";
-    public static final String Milagros = "09218";
-    public static final String Miranda_de_Ebro = "09219";
-    public static final String Miraveche = "09220";
-    public static final String Modúbar_de_la_Emparedada = "09221";
-    public static final String Monasterio_de_la_Sierra = "09223";
-    public static final String Monasterio_de_Rodilla = "09224";
-    public static final String Moncalvillo = "09225";
-    public static final String Monterrubio_de_la_Demanda = "09226";
-    public static final String Montorio = "09227";
-    public static final String Moradillo_de_Roa = "09228";
-    public static final String Nava_de_Roa = "09229";
-    public static final String Navas_de_Bureba = "09230";
-    public static final String Nebreda = "09231";
-    public static final String Neila = "09232";
-    public static final String Olmedillo_de_Roa = "09235";
-    public static final String Olmillos_de_Muñó = "09236";
-    public static final String Oña = "09238";
-    public static final String Oquillas = "09239";
-    public static final String Orbaneja_Riopico = "09241";
-    public static final String Padilla_de_Abajo = "09242";
-    public static final String Padilla_de_Arriba = "09243";
-    public static final String Padrones_de_Bureba = "09244";
-    public static final String Palacios_de_la_Sierra = "09246";
-    public static final String Palacios_de_Riopisuerga = "09247";
-    public static final String Palazuelos_de_la_Sierra = "09248";
-    public static final String Palazuelos_de_Muñó = "09249";
-    public static final String Pampliega = "09250";
-    public static final String Pancorbo = "09251";
-    public static final String Pardilla = "09253";
-    public static final String Partido_de_la_Sierra_en_Tobalina = "09255";
-    public static final String Pedrosa_de_Duero = "09256";
-    public static final String Pedrosa_de_Río_Úrbel = "09259";
-    public static final String Pedrosa_del_Páramo = "09257";
-    public static final String Pedrosa_del_Príncipe = "09258";
-    public static final String Peñaranda_de_Duero = "09261";
-    public static final String Peral_de_Arlanza = "09262";
-    public static final String Piérnigas = "09265";
-    public static final String Pineda_de_la_Sierra = "09266";
-    public static final String Pineda_Trasmonte = "09267";
-    public static final String Pinilla_de_los_Barruecos = "09268";
-    public static final String Pinilla_de_los_Moros = "09269";
-    public static final String Pinilla_Trasmonte = "09270";
-    public static final String Poza_de_la_Sal = "09272";
-    public static final String Prádanos_de_Bureba = "09273";
-    public static final String Pradoluengo = "09274";
-    public static final String Presencio = "09275";
-    public static final String Puebla_de_Arganzón_La = "09276";
-    public static final String Puentedura = "09277";
-    public static final String Quemada = "09279";
-    public static final String Quintana_del_Pidio = "09281";
-    public static final String Quintanabureba = "09280";
-    public static final String Quintanaélez = "09283";
-    public static final String Quintanaortuño = "09287";
-    public static final String Quintanapalla = "09288";
-    public static final String Quintanar_de_la_Sierra = "09289";
-    public static final String Quintanavides = "09292";
-    public static final String Quintanilla_de_la_Mata = "09294";
-    public static final String Quintanilla_del_Agua_y_Tordueles = "09901";
-    public static final String Quintanilla_del_Coco = "09295";
-    public static final String Quintanilla_San_García = "09298";
-    public static final String Quintanilla_Vivar = "09301";
-    public static final String Quintanillas_Las = "09297";
-    public static final String Rabanera_del_Pinar = "09302";
-    public static final String Rábanos = "09303";
-    public static final String Rabé_de_las_Calzadas = "09304";
-    public static final String Rebolledo_de_la_Torre = "09306";
-    public static final String Redecilla_del_Camino = "09307";
-    public static final String Redecilla_del_Campo = "09308";
-    public static final String Regumiel_de_la_Sierra = "09309";
-    public static final String Reinoso = "09310";
-    public static final String Retuerta = "09311";
-    public static final String Revilla_del_Campo = "09314";
-    public static final String Revilla_Vallejera = "09316";
-    public static final String Revilla_y_Ahedo_La = "09312";
-    public static final String Revillarruz = "09315";
-    public static final String Rezmondo = "09317";
-    public static final String Riocavado_de_la_Sierra = "09318";
-    public static final String Roa = "09321";
-    public static final String Rojas = "09323";
-    public static final String Royuela_de_Río_Franco = "09325";
-    public static final String Rubena = "09326";
-    public static final String Rublacedo_de_Abajo = "09327";
-    public static final String Rucandio = "09328";
-    public static final String Salas_de_Bureba = "09329";
-    public static final String Salas_de_los_Infantes = "09330";
-    public static final String Saldaña_de_Burgos = "09332";
-    public static final String Salinillas_de_Bureba = "09334";
-    public static final String San_Adrián_de_Juarros = "09335";
-    public static final String San_Juan_del_Monte = "09337";
-    public static final String San_Mamés_de_Burgos = "09338";
-    public static final String San_Martín_de_Rubiales = "09339";
-    public static final String San_Millán_de_Lara = "09340";
-    public static final String San_Vicente_del_Valle = "09360";
-    public static final String Santa_Cecilia = "09343";
-    public static final String Santa_Cruz_de_la_Salceda = "09345";
-    public static final String Santa_Cruz_del_Valle_Urbión = "09346";
-    public static final String Santa_Gadea_del_Cid = "09347";
-    public static final String Santa_Inés = "09348";
-    public static final String Santa_María_del_Campo = "09350";
-    public static final String Santa_María_del_Invierno = "09351";
-    public static final String Santa_María_del_Mercadillo = "09352";
-    public static final String Santa_María_Ribarredonda = "09353";
-    public static final String Santa_Olalla_de_Bureba = "09354";
-    public static final String Santibáñez_de_Esgueva = "09355";
-    public static final String Santibáñez_del_Val = "09356";
-    public static final String Santo_Domingo_de_Silos = "09358";
-    public static final String Sargentes_de_la_Lora = "09361";
-    public static final String Sarracín = "09362";
-    public static final String Sasamón = "09363";
-    public static final String Sequera_de_Haza_La = "09365";
-    public static final String Solarana = "09366";
-    public static final String Sordillos = "09368";
-    public static final String Sotillo_de_la_Ribera = "09369";
-    public static final String Sotragero = "09372";
-    public static final String Sotresgudo = "09373";
-    public static final String Susinos_del_Páramo = "09374";
-    public static final String Tamarón = "09375";
-    public static final String Tardajos = "09377";
-    public static final String Tejada = "09378";
-    public static final String Terradillos_de_Esgueva = "09380";
-    public static final String Tinieblas_de_la_Sierra = "09381";
-    public static final String Tobar = "09382";
-    public static final String Tordómar = "09384";
-    public static final String Torrecilla_del_Monte = "09386";
-    public static final String Torregalindo = "09387";
-    public static final String Torrelara = "09388";
-    public static final String Torrepadre = "09389";
-    public static final String Torresandino = "09390";
-    public static final String Tórtoles_de_Esgueva = "09391";
-    public static final String Tosantos = "09392";
-    public static final String Trespaderne = "09394";
-    public static final String Tubilla_del_Agua = "09395";
-    public static final String Tubilla_del_Lago = "09396";
-    public static final String Úrbel_del_Castillo = "09398";
-    public static final String Vadocondes = "09400";
-    public static final String Valdeande = "09403";
-    public static final String Valdezate = "09405";
-    public static final String Valdorros = "09406";
-    public static final String Vallarta_de_Bureba = "09408";
-    public static final String Valle_de_las_Navas = "09904";
-    public static final String Valle_de_Losa = "09908";
-    public static final String Valle_de_Manzanedo = "09409";
-    public static final String Valle_de_Mena = "09410";
-    public static final String Valle_de_Oca = "09411";
-    public static final String Valle_de_Santibáñez = "09902";
-    public static final String Valle_de_Sedano = "09905";
-    public static final String Valle_de_Tobalina = "09412";
-    public static final String Valle_de_Valdebezana = "09413";
-    public static final String Valle_de_Valdelaguna = "09414";
-    public static final String Valle_de_Valdelucio = "09415";
-    public static final String Valle_de_Zamanzas = "09416";
-    public static final String Vallejera = "09417";
-    public static final String Valles_de_Palenzuela = "09418";
-    public static final String Valluércanes = "09419";
-    public static final String Valmala = "09407";
-    public static final String Vid_de_Bureba_La = "09422";
-    public static final String Vid_y_Barrios_La = "09421";
-    public static final String Vileña = "09423";
-    public static final String Villadiego = "09427";
-    public static final String Villaescusa_de_Roa = "09428";
-    public static final String Villaescusa_la_Sombría = "09429";
-    public static final String Villaespasa = "09430";
-    public static final String Villafranca_Montes_de_Oca = "09431";
-    public static final String Villafruela = "09432";
-    public static final String Villagalijo = "09433";
-    public static final String Villagonzalo_Pedernales = "09434";
-    public static final String Villahoz = "09437";
-    public static final String Villalba_de_Duero = "09438";
-    public static final String Villalbilla_de_Burgos = "09439";
-    public static final String Villalbilla_de_Gumiel = "09440";
-    public static final String Villaldemiro = "09441";
-    public static final String Villalmanzo = "09442";
-    public static final String Villamayor_de_los_Montes = "09443";
-    public static final String Villamayor_de_Treviño = "09444";
-    public static final String Villambistia = "09445";
-    public static final String Villamedianilla = "09446";
-    public static final String Villamiel_de_la_Sierra = "09447";
-    public static final String Villangómez = "09448";
-    public static final String Villanueva_de_Argaño = "09449";
-    public static final String Villanueva_de_Carazo = "09450";
-    public static final String Villanueva_de_Gumiel = "09451";
-    public static final String Villanueva_de_Teba = "09454";
-    public static final String Villaquirán_de_la_Puebla = "09455";
-    public static final String Villaquirán_de_los_Infantes = "09456";
-    public static final String Villarcayo_de_Merindad_de_Castilla_la_Vieja = "09903";
-    public static final String Villariezo = "09458";
-    public static final String Villasandino = "09460";
-    public static final String Villasur_de_Herreros = "09463";
-    public static final String Villatuelda = "09464";
-    public static final String Villaverde_del_Monte = "09466";
-    public static final String Villaverde_Mogina = "09467";
-    public static final String Villayerno_Morquillas = "09471";
-    public static final String Villazopeque = "09472";
-    public static final String Villegas = "09473";
-    public static final String Villoruebo = "09476";
-    public static final String Viloria_de_Rioja = "09424";
-    public static final String Vilviestre_del_Pinar = "09425";
-    public static final String Vizcaínos = "09478";
-    public static final String Zael = "09480";
-    public static final String Zarzosa_de_Río_Pisuerga = "09482";
-    public static final String Zazuar = "09483";
-    public static final String Zuñeda = "09485";
-    public static final String Abadía = "10001";
-    public static final String Abertura = "10002";
-    public static final String Acebo = "10003";
-    public static final String Acehúche = "10004";
-    public static final String Aceituna = "10005";
-    public static final String Ahigal = "10006";
-    public static final String Alagón_del_Río = "10903";
-    public static final String Albalá = "10007";
-    public static final String Alcántara = "10008";
-    public static final String Alcollarín = "10009";
-    public static final String Alcuéscar = "10010";
-    public static final String Aldea_del_Cano = "10012";
-    public static final String Aldea_del_Obispo_La = "10013";
-    public static final String Aldeacentenera = "10011";
-    public static final String Aldeanueva_de_la_Vera = "10014";
-    public static final String Aldeanueva_del_Camino = "10015";
-    public static final String Aldehuela_de_Jerte = "10016";
-    public static final String Alía = "10017";
-    public static final String Aliseda = "10018";
-    public static final String Almaraz = "10019";
-    public static final String Almoharín = "10020";
-    public static final String Arroyo_de_la_Luz = "10021";
-    public static final String Arroyomolinos = "10023";
-    public static final String Arroyomolinos_de_la_Vera = "10022";
-    public static final String Baños_de_Montemayor = "10024";
-    public static final String Barrado = "10025";
-    public static final String Belvís_de_Monroy = "10026";
-    public static final String Benquerencia = "10027";
-    public static final String Berrocalejo = "10028";
-    public static final String Berzocana = "10029";
-    public static final String Bohonal_de_Ibor = "10030";
-    public static final String Botija = "10031";
-    public static final String Brozas = "10032";
-    public static final String Cabañas_del_Castillo = "10033";
-    public static final String Cabezabellosa = "10034";
-    public static final String Cabezuela_del_Valle = "10035";
-    public static final String Cabrero = "10036";
-    public static final String Cáceres = "10037";
-    public static final String Cachorrilla = "10038";
-    public static final String Cadalso = "10039";
-    public static final String Calzadilla = "10040";
-    public static final String Caminomorisco = "10041";
-    public static final String Campillo_de_Deleitosa = "10042";
-    public static final String Campo_Lugar = "10043";
-    public static final String Cañamero = "10044";
-    public static final String Cañaveral = "10045";
-    public static final String Carbajo = "10046";
-    public static final String Carcaboso = "10047";
-    public static final String Carrascalejo = "10048";
-    public static final String Casar_de_Cáceres = "10049";
-    public static final String Casar_de_Palomero = "10050";
-    public static final String Casares_de_las_Hurdes = "10051";
-    public static final String Casas_de_Don_Antonio = "10052";
-    public static final String Casas_de_Don_Gómez = "10053";
-    public static final String Casas_de_Millán = "10056";
-    public static final String Casas_de_Miravete = "10057";
-    public static final String Casas_del_Castañar = "10054";
-    public static final String Casas_del_Monte = "10055";
-    public static final String Casatejada = "10058";
-    public static final String Casillas_de_Coria = "10059";
-    public static final String Castañar_de_Ibor = "10060";
-    public static final String Ceclavín = "10061";
-    public static final String Cedillo = "10062";
-    public static final String Cerezo = "10063";
-    public static final String Cilleros = "10064";
-    public static final String Collado_de_la_Vera = "10065";
-    public static final String Conquista_de_la_Sierra = "10066";
-    public static final String Coria = "10067";
-    public static final String Cuacos_de_Yuste = "10068";
-    public static final String Cumbre_La = "10069";
-    public static final String Deleitosa = "10070";
-    public static final String Descargamaría = "10071";
-    public static final String Eljas = "10072";
-    public static final String Escurial = "10073";
-    public static final String Fresnedoso_de_Ibor = "10075";
-    public static final String Galisteo = "10076";
-    public static final String Garciaz = "10077";
-    public static final String Garganta_la_Olla = "10079";
-    public static final String Garganta_La = "10078";
-    public static final String Gargantilla = "10080";
-    public static final String Gargüera = "10081";
-    public static final String Garrovillas_de_Alconétar = "10082";
-    public static final String Garvín = "10083";
-    public static final String Gata = "10084";
-    public static final String Gordo_El = "10085";
-    public static final String Granja_La = "10086";
-    public static final String Guadalupe = "10087";
-    public static final String Guijo_de_Coria = "10088";
-    public static final String Guijo_de_Galisteo = "10089";
-    public static final String Guijo_de_Granadilla = "10090";
-    public static final String Guijo_de_Santa_Bárbara = "10091";
-    public static final String Herguijuela = "10092";
-    public static final String Hernán_Pérez = "10093";
-    public static final String Herrera_de_Alcántara = "10094";
-    public static final String Herreruela = "10095";
-    public static final String Hervás = "10096";
-    public static final String Higuera_de_Albalat = "10097";
-    public static final String Hinojal = "10098";
-    public static final String Holguera = "10099";
-    public static final String Hoyos = "10100";
-    public static final String Huélaga = "10101";
-    public static final String Ibahernando = "10102";
-    public static final String Jaraicejo = "10103";
-    public static final String Jaraíz_de_la_Vera = "10104";
-    public static final String Jarandilla_de_la_Vera = "10105";
-    public static final String Jarilla = "10106";
-    public static final String Jerte = "10107";
-    public static final String Ladrillar = "10108";
-    public static final String Logrosán = "10109";
-    public static final String Losar_de_la_Vera = "10110";
-    public static final String Madrigal_de_la_Vera = "10111";
-    public static final String Madrigalejo = "10112";
-    public static final String Madroñera = "10113";
-    public static final String Majadas = "10114";
-    public static final String Malpartida_de_Cáceres = "10115";
-    public static final String Malpartida_de_Plasencia = "10116";
-    public static final String Marchagaz = "10117";
-    public static final String Mata_de_Alcántara = "10118";
-    public static final String Membrío = "10119";
-    public static final String Mesas_de_Ibor = "10120";
-    public static final String Miajadas = "10121";
-    public static final String Millanes = "10122";
-    public static final String Mirabel = "10123";
-    public static final String Mohedas_de_Granadilla = "10124";
-    public static final String Monroy = "10125";
-    public static final String Montánchez = "10126";
-    public static final String Montehermoso = "10127";
-    public static final String Moraleja = "10128";
-    public static final String Morcillo = "10129";
-    public static final String Navaconcejo = "10130";
-    public static final String Navalmoral_de_la_Mata = "10131";
-    public static final String Navalvillar_de_Ibor = "10132";
-    public static final String Navas_del_Madroño = "10133";
-    public static final String Navezuelas = "10134";
-    public static final String Nuñomoral = "10135";
-    public static final String Oliva_de_Plasencia = "10136";
-    public static final String Palomero = "10137";
-    public static final String Pasarón_de_la_Vera = "10138";
-    public static final String Pedroso_de_Acim = "10139";
-    public static final String Peraleda_de_la_Mata = "10140";
-    public static final String Peraleda_de_San_Román = "10141";
-    public static final String Perales_del_Puerto = "10142";
-    public static final String Pescueza = "10143";
-    public static final String Pesga_La = "10144";
-    public static final String Piedras_Albas = "10145";
-    public static final String Pinofranqueado = "10146";
-    public static final String Piornal = "10147";
-    public static final String Plasencia = "10148";
-    public static final String Plasenzuela = "10149";
-    public static final String Portaje = "10150";
-    public static final String Portezuelo = "10151";
-    public static final String Pozuelo_de_Zarzón = "10152";
-    public static final String Pueblonuevo_de_Miramontes = "10905";
-    public static final String Puerto_de_Santa_Cruz = "10153";
-    public static final String Rebollar = "10154";
-    public static final String Riolobos = "10155";
-    public static final String Robledillo_de_Gata = "10156";
-    public static final String Robledillo_de_la_Vera = "10157";
-    public static final String Robledillo_de_Trujillo = "10158";
-    public static final String Robledollano = "10159";
-    public static final String Romangordo = "10160";
-    public static final String Rosalejo = "10901";
-    public static final String Ruanes = "10161";
-    public static final String Salorino = "10162";
-    public static final String Salvatierra_de_Santiago = "10163";
-    public static final String San_Martín_de_Trevejo = "10164";
-    public static final String Santa_Ana = "10165";
-    public static final String Santa_Cruz_de_la_Sierra = "10166";
-    public static final String Santa_Cruz_de_Paniagua = "10167";
-    public static final String Santa_Marta_de_Magasca = "10168";
-    public static final String Santiago_de_Alcántara = "10169";
-    public static final String Santiago_del_Campo = "10170";
-    public static final String Santibáñez_el_Alto = "10171";
-    public static final String Santibáñez_el_Bajo = "10172";
-    public static final String Saucedilla = "10173";
-    public static final String Segura_de_Toro = "10174";
-    public static final String Serradilla = "10175";
-    public static final String Serrejón = "10176";
-    public static final String Sierra_de_Fuentes = "10177";
-    public static final String Talaván = "10178";
-    public static final String Talaveruela_de_la_Vera = "10179";
-    public static final String Talayuela = "10180";
-    public static final String Tejeda_de_Tiétar = "10181";
-    public static final String Tiétar = "10904";
-    public static final String Toril = "10182";
-    public static final String Tornavacas = "10183";
-    public static final String Torno_El = "10184";
-    public static final String Torre_de_Don_Miguel = "10187";
-    public static final String Torre_de_Santa_María = "10188";
-    public static final String Torrecilla_de_los_Ángeles = "10185";
-    public static final String Torrecillas_de_la_Tiesa = "10186";
-    public static final String Torrejón_el_Rubio = "10190";
-    public static final String Torrejoncillo = "10189";
-    public static final String Torremenga = "10191";
-    public static final String Torremocha = "10192";
-    public static final String Torreorgaz = "10193";
-    public static final String Torrequemada = "10194";
-    public static final String Trujillo = "10195";
-    public static final String Valdastillas = "10196";
-    public static final String Valdecañas_de_Tajo = "10197";
-    public static final String Valdefuentes = "10198";
-    public static final String Valdehúncar = "10199";
-    public static final String Valdelacasa_de_Tajo = "10200";
-    public static final String Valdemorales = "10201";
-    public static final String Valdeobispo = "10202";
-    public static final String Valencia_de_Alcántara = "10203";
-    public static final String Valverde_de_la_Vera = "10204";
-    public static final String Valverde_del_Fresno = "10205";
-    public static final String Vegaviana = "10902";
-    public static final String Viandar_de_la_Vera = "10206";
-    public static final String Villa_del_Campo = "10207";
-    public static final String Villa_del_Rey = "10208";
-    public static final String Villamesías = "10209";
-    public static final String Villamiel = "10210";
-    public static final String Villanueva_de_la_Sierra = "10211";
-    public static final String Villanueva_de_la_Vera = "10212";
-    public static final String Villar_de_Plasencia = "10214";
-    public static final String Villar_del_Pedroso = "10213";
-    public static final String Villasbuenas_de_Gata = "10215";
-    public static final String Zarza_de_Granadilla = "10216";
-    public static final String Zarza_de_Montánchez = "10217";
-    public static final String Zarza_la_Mayor = "10218";
-    public static final String Zorita = "10219";
-    public static final String Alcalá_de_los_Gazules = "11001";
-    public static final String Alcalá_del_Valle = "11002";
-    public static final String Algar = "11003";
-    public static final String Algeciras = "11004";
-    public static final String Algodonales = "11005";
-    public static final String Arcos_de_la_Frontera = "11006";
-    public static final String Barbate = "11007";
-    public static final String Barrios_Los = "11008";
-    public static final String Benalup_Casas_Viejas = "11901";
-    public static final String Benaocaz = "11009";
-    public static final String Bornos = "11010";
-    public static final String Bosque_El = "11011";
-    public static final String Cádiz = "11012";
-    public static final String Castellar_de_la_Frontera = "11013";
-    public static final String Chiclana_de_la_Frontera = "11015";
-    public static final String Chipiona = "11016";
-    public static final String Conil_de_la_Frontera = "11014";
-    public static final String Espera = "11017";
-    public static final String Gastor_El = "11018";
-    public static final String Grazalema = "11019";
-    public static final String Jerez_de_la_Frontera = "11020";
-    public static final String Jimena_de_la_Frontera = "11021";
-    public static final String Línea_de_la_Concepción_La = "11022";
-    public static final String Medina_Sidonia = "11023";
-    public static final String Olvera = "11024";
-    public static final String Paterna_de_Rivera = "11025";
-    public static final String Prado_del_Rey = "11026";
-    public static final String Puerto_de_Santa_María_El = "11027";
-    public static final String Puerto_Real = "11028";
-    public static final String Puerto_Serrano = "11029";
-    public static final String Rota = "11030";
-    public static final String San_Fernando = "11031";
-    public static final String San_José_del_Valle = "11902";
-    public static final String San_Martín_del_Tesorillo = "11903";
-    public static final String San_Roque = "11033";
-    public static final String Sanlúcar_de_Barrameda = "11032";
-    public static final String Setenil_de_las_Bodegas = "11034";
-    public static final String Tarifa = "11035";
-    public static final String Torre_Alháquime = "11036";
-    public static final String Trebujena = "11037";
-    public static final String Ubrique = "11038";
-    public static final String Vejer_de_la_Frontera = "11039";
-    public static final String Villaluenga_del_Rosario = "11040";
-    public static final String Villamartín = "11041";
-    public static final String Zahara = "11042";
-    public static final String Aín = "12002";
-    public static final String Albocàsser = "12003";
-    public static final String Alcalà_de_Xivert = "12004";
-    public static final String Alcora = "12005";
-    public static final String Alcudia_de_Veo = "12006";
-    public static final String Alfondeguilla = "12007";
-    public static final String Algimia_de_Almonacid = "12008";
-    public static final String Almassora = "12009";
-    public static final String Almedíjar = "12010";
-    public static final String Almenara = "12011";
-    public static final String Alqueries_les = "12901";
-    public static final String Altura = "12012";
-    public static final String Arañuel = "12013";
-    public static final String Ares_del_Maestrat = "12014";
-    public static final String Argelita = "12015";
-    public static final String Artana = "12016";
-    public static final String Atzeneta_del_Maestrat = "12001";
-    public static final String Ayódar = "12017";
-    public static final String Azuébar = "12018";
-    public static final String Barracas = "12020";
-    public static final String Bejís = "12022";
-    public static final String Benafer = "12024";
-    public static final String Benafigos = "12025";
-    public static final String Benassal = "12026";
-    public static final String Benicarló = "12027";
-    public static final String Benicàssim = "12028";
-    public static final String Benlloc = "12029";
-    public static final String Betxí = "12021";
-    public static final String Borriana = "12032";
-    public static final String Borriol = "12031";
-    public static final String Cabanes = "12033";
-    public static final String Càlig = "12034";
-    public static final String Canet_lo_Roig = "12036";
-    public static final String Castell_de_Cabres = "12037";
-    public static final String Castellfort = "12038";
-    public static final String Castellnovo = "12039";
-    public static final String Castelló_de_la_Plana = "12040";
-    public static final String Castillo_de_Villamalefa = "12041";
-    public static final String Catí = "12042";
-    public static final String Caudiel = "12043";
-    public static final String Cervera_del_Maestre = "12044";
-    public static final String Chilches = "12053";
-    public static final String Chóvar = "12056";
-    public static final String Cinctorres = "12045";
-    public static final String Cirat = "12046";
-    public static final String Cortes_de_Arenoso = "12048";
-    public static final String Costur = "12049";
-    public static final String Coves_de_Vinromà_les = "12050";
-    public static final String Culla = "12051";
-    public static final String Eslida = "12057";
-    public static final String Espadilla = "12058";
-    public static final String Fanzara = "12059";
-    public static final String Figueroles = "12060";
-    public static final String Forcall = "12061";
-    public static final String Fuente_la_Reina = "12063";
-    public static final String Fuentes_de_Ayódar = "12064";
-    public static final String Gaibiel = "12065";
-    public static final String Geldo = "12067";
-    public static final String Herbers = "12068";
-    public static final String Higueras = "12069";
-    public static final String Jana_la = "12070";
-    public static final String Jérica = "12071";
-    public static final String Llosa_la = "12074";
-    public static final String Llucena = "12072";
-    public static final String Ludiente = "12073";
-    public static final String Mata_de_Morella_la = "12075";
-    public static final String Matet = "12076";
-    public static final String Moncofa = "12077";
-    public static final String Montán = "12078";
-    public static final String Montanejos = "12079";
-    public static final String Morella = "12080";
-    public static final String Navajas = "12081";
-    public static final String Nules = "12082";
-    public static final String Olocau_del_Rey = "12083";
-    public static final String Onda = "12084";
-    public static final String Orpesa = "12085";
-    public static final String Palanques = "12087";
-    public static final String Pavías = "12088";
-    public static final String Peníscola = "12089";
-    public static final String Pina_de_Montalgrao = "12090";
-    public static final String Pobla_de_Benifassà_la = "12093";
-    public static final String Pobla_Tornesa_la = "12094";
-    public static final String Portell_de_Morella = "12091";
-    public static final String Puebla_de_Arenoso = "12092";
-    public static final String Ribesalbes = "12095";
-    public static final String Rossell = "12096";
-    public static final String Sacañet = "12097";
-    public static final String Salzadella_la = "12098";
-    public static final String San_Rafael_del_Río = "12101";
-    public static final String Sant_Joan_de_Moró = "12902";
-    public static final String Sant_Jordi = "12099";
-    public static final String Sant_Mateu = "12100";
-    public static final String Santa_Magdalena_de_Pulpis = "12102";
-    public static final String Segorbe = "12104";
-    public static final String Serratella_la = "12103";
-    public static final String Sierra_Engarcerán = "12105";
-    public static final String Soneja = "12106";
-    public static final String Sot_de_Ferrer = "12107";
-    public static final String Suera = "12108";
-    public static final String Tales = "12109";
-    public static final String Teresa = "12110";
-    public static final String Tírig = "12111";
-    public static final String Todolella = "12112";
-    public static final String Toga = "12113";
-    public static final String Torás = "12114";
-    public static final String Toro_El = "12115";
-    public static final String Torralba_del_Pinar = "12116";
-    public static final String Torre_den_Besora_la = "12119";
-    public static final String Torre_den_Doménec_la = "12120";
-    public static final String Torreblanca = "12117";
-    public static final String Torrechiva = "12118";
-    public static final String Traiguera = "12121";
-    public static final String Useres_les = "12122";
-    public static final String Vall_dAlba = "12124";
-    public static final String Vall_de_Almonacid = "12125";
-    public static final String Vall_dUixó_la = "12126";
-    public static final String Vallat = "12123";
-    public static final String Vallibona = "12127";
-    public static final String Vilafamés = "12128";
-    public static final String Vilafranca = "12129";
-    public static final String Vilanova_dAlcolea = "12132";
-    public static final String Vilar_de_Canes = "12134";
-    public static final String Vila_real = "12135";
-    public static final String Vilavella_la = "12136";
-    public static final String Villahermosa_del_Río = "12130";
-    public static final String Villamalur = "12131";
-    public static final String Villanueva_de_Viver = "12133";
-    public static final String Villores = "12137";
-    public static final String Vinaròs = "12138";
-    public static final String Vistabella_del_Maestrat = "12139";
-    public static final String Viver = "12140";
-    public static final String Xert = "12052";
-    public static final String Xodos = "12055";
-    public static final String Zorita_del_Maestrazgo = "12141";
-    public static final String Zucaina = "12142";
-    public static final String Abenójar = "13001";
-    public static final String Agudo = "13002";
-    public static final String Alamillo = "13003";
-    public static final String Albaladejo = "13004";
-    public static final String Alcázar_de_San_Juan = "13005";
-    public static final String Alcoba = "13006";
-    public static final String Alcolea_de_Calatrava = "13007";
-    public static final String Alcubillas = "13008";
-    public static final String Aldea_del_Rey = "13009";
-    public static final String Alhambra = "13010";
-    public static final String Almadén = "13011";
-    public static final String Almadenejos = "13012";
-    public static final String Almagro = "13013";
-    public static final String Almedina = "13014";
-    public static final String Almodóvar_del_Campo = "13015";
-    public static final String Almuradiel = "13016";
-    public static final String Anchuras = "13017";
-    public static final String Arenales_de_San_Gregorio = "13903";
-    public static final String Arenas_de_San_Juan = "13018";
-    public static final String Argamasilla_de_Alba = "13019";
-    public static final String Argamasilla_de_Calatrava = "13020";
-    public static final String Arroba_de_los_Montes = "13021";
-    public static final String Ballesteros_de_Calatrava = "13022";
-    public static final String Bolaños_de_Calatrava = "13023";
-    public static final String Brazatortas = "13024";
-    public static final String Cabezarados = "13025";
-    public static final String Cabezarrubias_del_Puerto = "13026";
-    public static final String Calzada_de_Calatrava = "13027";
-    public static final String Campo_de_Criptana = "13028";
-    public static final String Cañada_de_Calatrava = "13029";
-    public static final String Caracuel_de_Calatrava = "13030";
-    public static final String Carrión_de_Calatrava = "13031";
-    public static final String Carrizosa = "13032";
-    public static final String Castellar_de_Santiago = "13033";
-    public static final String Chillón = "13038";
-    public static final String Ciudad_Real = "13034";
-    public static final String Corral_de_Calatrava = "13035";
-    public static final String Cortijos_Los = "13036";
-    public static final String Cózar = "13037";
-    public static final String Daimiel = "13039";
-    public static final String Fernán_Caballero = "13040";
-    public static final String Fontanarejo = "13041";
-    public static final String Fuencaliente = "13042";
-    public static final String Fuenllana = "13043";
-    public static final String Fuente_el_Fresno = "13044";
-    public static final String Granátula_de_Calatrava = "13045";
-    public static final String Guadalmez = "13046";
-    public static final String Herencia = "13047";
-    public static final String Hinojosas_de_Calatrava = "13048";
-    public static final String Horcajo_de_los_Montes = "13049";
-    public static final String Labores_Las = "13050";
-    public static final String Llanos_del_Caudillo = "13904";
-    public static final String Luciana = "13051";
-    public static final String Malagón = "13052";
-    public static final String Manzanares = "13053";
-    public static final String Membrilla = "13054";
-    public static final String Mestanza = "13055";
-    public static final String Miguelturra = "13056";
-    public static final String Montiel = "13057";
-    public static final String Moral_de_Calatrava = "13058";
-    public static final String Navalpino = "13059";
-    public static final String Navas_de_Estena = "13060";
-    public static final String Pedro_Muñoz = "13061";
-    public static final String Picón = "13062";
-    public static final String Piedrabuena = "13063";
-    public static final String Poblete = "13064";
-    public static final String Porzuna = "13065";
-    public static final String Pozuelo_de_Calatrava = "13066";
-    public static final String Pozuelos_de_Calatrava_Los = "13067";
-    public static final String Puebla_de_Don_Rodrigo = "13068";
-    public static final String Puebla_del_Príncipe = "13069";
-    public static final String Puerto_Lápice = "13070";
-    public static final String Puertollano = "13071";
-    public static final String Retuerta_del_Bullaque = "13072";
-    public static final String Robledo_El = "13901";
-    public static final String Ruidera = "13902";
-    public static final String Saceruela = "13073";
-    public static final String San_Carlos_del_Valle = "13074";
-    public static final String San_Lorenzo_de_Calatrava = "13075";
-    public static final String Santa_Cruz_de_los_Cáñamos = "13076";
-    public static final String Santa_Cruz_de_Mudela = "13077";
-    public static final String Socuéllamos = "13078";
-    public static final String Solana_del_Pino = "13080";
-    public static final String Solana_La = "13079";
-    public static final String Terrinches = "13081";
-    public static final String Tomelloso = "13082";
-    public static final String Torralba_de_Calatrava = "13083";
-    public static final String Torre_de_Juan_Abad = "13084";
-    public static final String Torrenueva = "13085";
-    public static final String Valdemanco_del_Esteras = "13086";
-    public static final String Valdepeñas = "13087";
-    public static final String Valenzuela_de_Calatrava = "13088";
-    public static final String Villahermosa = "13089";
-    public static final String Villamanrique = "13090";
-    public static final String Villamayor_de_Calatrava = "13091";
-    public static final String Villanueva_de_la_Fuente = "13092";
-    public static final String Villanueva_de_los_Infantes = "13093";
-    public static final String Villanueva_de_San_Carlos = "13094";
-    public static final String Villar_del_Pozo = "13095";
-    public static final String Villarrubia_de_los_Ojos = "13096";
-    public static final String Villarta_de_San_Juan = "13097";
-    public static final String Viso_del_Marqués = "13098";
-    public static final String Adamuz = "14001";
-    public static final String Aguilar_de_la_Frontera = "14002";
-    public static final String Alcaracejos = "14003";
-    public static final String Almedinilla = "14004";
-    public static final String Almodóvar_del_Río = "14005";
-    public static final String Añora = "14006";
-    public static final String Baena = "14007";
-    public static final String Belalcázar = "14008";
-    public static final String Belmez = "14009";
-    public static final String Benamejí = "14010";
-    public static final String Blázquez_Los = "14011";
-    public static final String Bujalance = "14012";
-    public static final String Cabra = "14013";
-    public static final String Cañete_de_las_Torres = "14014";
-    public static final String Carcabuey = "14015";
-    public static final String Cardeña = "14016";
-    public static final String Carlota_La = "14017";
-    public static final String Carpio_El = "14018";
-    public static final String Castro_del_Río = "14019";
-    public static final String Conquista = "14020";
-    public static final String Córdoba = "14021";
-    public static final String Doña_Mencía = "14022";
-    public static final String Dos_Torres = "14023";
-    public static final String Encinas_Reales = "14024";
-    public static final String Espejo = "14025";
-    public static final String Espiel = "14026";
-    public static final String Fernán_Núñez = "14027";
-    public static final String Fuente_Carreteros = "14901";
-    public static final String Fuente_la_Lancha = "14028";
-    public static final String Fuente_Obejuna = "14029";
-    public static final String Fuente_Palmera = "14030";
-    public static final String Fuente_Tójar = "14031";
-    public static final String Granjuela_La = "14032";
-    public static final String Guadalcázar = "14033";
-    public static final String Guijarrosa_La = "14902";
-    public static final String Guijo_El = "14034";
-    public static final String Hinojosa_del_Duque = "14035";
-    public static final String Hornachuelos = "14036";
-    public static final String Iznájar = "14037";
-    public static final String Lucena = "14038";
-    public static final String Luque = "14039";
-    public static final String Montalbán_de_Córdoba = "14040";
-    public static final String Montemayor = "14041";
-    public static final String Montilla = "14042";
-    public static final String Montoro = "14043";
-    public static final String Monturque = "14044";
-    public static final String Moriles = "14045";
-    public static final String Nueva_Carteya = "14046";
-    public static final String Obejo = "14047";
-    public static final String Palenciana = "14048";
-    public static final String Palma_del_Río = "14049";
-    public static final String Pedro_Abad = "14050";
-    public static final String Pedroche = "14051";
-    public static final String Peñarroya_Pueblonuevo = "14052";
-    public static final String Posadas = "14053";
-    public static final String Pozoblanco = "14054";
-    public static final String Priego_de_Córdoba = "14055";
-    public static final String Puente_Genil = "14056";
-    public static final String Rambla_La = "14057";
-    public static final String Rute = "14058";
-    public static final String San_Sebastián_de_los_Ballesteros = "14059";
-    public static final String Santa_Eufemia = "14061";
-    public static final String Santaella = "14060";
-    public static final String Torrecampo = "14062";
-    public static final String Valenzuela = "14063";
-    public static final String Valsequillo = "14064";
-    public static final String Victoria_La = "14065";
-    public static final String Villa_del_Río = "14066";
-    public static final String Villafranca_de_Córdoba = "14067";
-    public static final String Villaharta = "14068";
-    public static final String Villanueva_de_Córdoba = "14069";
-    public static final String Villanueva_del_Duque = "14070";
-    public static final String Villanueva_del_Rey = "14071";
-    public static final String Villaralto = "14072";
-    public static final String Villaviciosa_de_Córdoba = "14073";
-    public static final String Viso_El = "14074";
-    public static final String Zuheros = "14075";
-    public static final String Abegondo = "15001";
-    public static final String Ames = "15002";
-    public static final String Aranga = "15003";
-    public static final String Ares = "15004";
-    public static final String Arteixo = "15005";
-    public static final String Arzúa = "15006";
-    public static final String Baña_A = "15007";
-    public static final String Bergondo = "15008";
-    public static final String Betanzos = "15009";
-    public static final String Boimorto = "15010";
-    public static final String Boiro = "15011";
-    public static final String Boqueixón = "15012";
-    public static final String Brión = "15013";
-    public static final String Cabana_de_Bergantiños = "15014";
-    public static final String Cabanas = "15015";
-    public static final String Camariñas = "15016";
-    public static final String Cambre = "15017";
-    public static final String Capela_A = "15018";
-    public static final String Carballo = "15019";
-    public static final String Cariño = "15901";
-    public static final String Carnota = "15020";
-    public static final String Carral = "15021";
-    public static final String Cedeira = "15022";
-    public static final String Cee = "15023";
-    public static final String Cerceda = "15024";
-    public static final String Cerdido = "15025";
-    public static final String Coirós = "15027";
-    public static final String Corcubión = "15028";
-    public static final String Coristanco = "15029";
-    public static final String Coruña_A = "15030";
-    public static final String Culleredo = "15031";
-    public static final String Curtis = "15032";
-    public static final String Dodro = "15033";
-    public static final String Dumbría = "15034";
-    public static final String Fene = "15035";
-    public static final String Ferrol = "15036";
-    public static final String Fisterra = "15037";
-    public static final String Frades = "15038";
-    public static final String Irixoa = "15039";
-    public static final String Laracha_A = "15041";
-    public static final String Laxe = "15040";
-    public static final String Lousame = "15042";
-    public static final String Malpica_de_Bergantiños = "15043";
-    public static final String Mañón = "15044";
-    public static final String Mazaricos = "15045";
-    public static final String Melide = "15046";
-    public static final String Mesía = "15047";
-    public static final String Miño = "15048";
-    public static final String Moeche = "15049";
-    public static final String Monfero = "15050";
-    public static final String Mugardos = "15051";
-    public static final String Muros = "15053";
-    public static final String Muxía = "15052";
-    public static final String Narón = "15054";
-    public static final String Neda = "15055";
-    public static final String Negreira = "15056";
-    public static final String Noia = "15057";
-    public static final String Oleiros = "15058";
-    public static final String Ordes = "15059";
-    public static final String Oroso = "15060";
-    public static final String Ortigueira = "15061";
-    public static final String Outes = "15062";
-    public static final String Oza_Cesuras = "15902";
-    public static final String Paderne = "15064";
-    public static final String Padrón = "15065";
-    public static final String Pino_O = "15066";
-    public static final String Pobra_do_Caramiñal_A = "15067";
-    public static final String Ponteceso = "15068";
-    public static final String Pontedeume = "15069";
-    public static final String Pontes_de_García_Rodríguez_As = "15070";
-    public static final String Porto_do_Son = "15071";
-    public static final String Rianxo = "15072";
-    public static final String Ribeira = "15073";
-    public static final String Rois = "15074";
-    public static final String Sada = "15075";
-    public static final String San_Sadurniño = "15076";
-    public static final String Santa_Comba = "15077";
-    public static final String Santiago_de_Compostela = "15078";
-    public static final String Santiso = "15079";
-    public static final String Sobrado = "15080";
-    public static final String Somozas_As = "15081";
-    public static final String Teo = "15082";
-    public static final String Toques = "15083";
-    public static final String Tordoia = "15084";
-    public static final String Touro = "15085";
-    public static final String Trazo = "15086";
-    public static final String Val_do_Dubra = "15088";
-    public static final String Valdoviño = "15087";
-    public static final String Vedra = "15089";
-    public static final String Vilarmaior = "15091";
-    public static final String Vilasantar = "15090";
-    public static final String Vimianzo = "15092";
-    public static final String Zas = "15093";
-    public static final String Abia_de_la_Obispalía = "16001";
-    public static final String Acebrón_El = "16002";
-    public static final String Alarcón = "16003";
-    public static final String Albaladejo_del_Cuende = "16004";
-    public static final String Albalate_de_las_Nogueras = "16005";
-    public static final String Albendea = "16006";
-    public static final String Alberca_de_Záncara_La = "16007";
-    public static final String Alcalá_de_la_Vega = "16008";
-    public static final String Alcantud = "16009";
-    public static final String Alcázar_del_Rey = "16010";
-    public static final String Alcohujate = "16011";
-    public static final String Alconchel_de_la_Estrella = "16012";
-    public static final String Algarra = "16013";
-    public static final String Aliaguilla = "16014";
-    public static final String Almarcha_La = "16015";
-    public static final String Almendros = "16016";
-    public static final String Almodóvar_del_Pinar = "16017";
-    public static final String Almonacid_del_Marquesado = "16018";
-    public static final String Altarejos = "16019";
-    public static final String Arandilla_del_Arroyo = "16020";
-    public static final String Arcas = "16905";
-    public static final String Arcos_de_la_Sierra = "16022";
-    public static final String Arguisuelas = "16024";
-    public static final String Arrancacepas = "16025";
-    public static final String Atalaya_del_Cañavate = "16026";
-    public static final String Barajas_de_Melo = "16027";
-    public static final String Barchín_del_Hoyo = "16029";
-    public static final String Bascuñana_de_San_Pedro = "16030";
-    public static final String Beamud = "16031";
-    public static final String Belinchón = "16032";
-    public static final String Belmonte = "16033";
-    public static final String Belmontejo = "16034";
-    public static final String Beteta = "16035";
-    public static final String Boniches = "16036";
-    public static final String Buciegas = "16038";
-    public static final String Buenache_de_Alarcón = "16039";
-    public static final String Buenache_de_la_Sierra = "16040";
-    public static final String Buendía = "16041";
-    public static final String Campillo_de_Altobuey = "16042";
-    public static final String Campillos_Paravientos = "16043";
-    public static final String Campillos_Sierra = "16044";
-    public static final String Campos_del_Paraíso = "16901";
-    public static final String Canalejas_del_Arroyo = "16045";
-    public static final String Cañada_del_Hoyo = "16046";
-    public static final String Cañada_Juncosa = "16047";
-    public static final String Cañamares = "16048";
-    public static final String Cañavate_El = "16049";
-    public static final String Cañaveras = "16050";
-    public static final String Cañaveruelas = "16051";
-    public static final String Cañete = "16052";
-    public static final String Cañizares = "16053";
-    public static final String Carboneras_de_Guadazaón = "16055";
-    public static final String Cardenete = "16056";
-    public static final String Carrascosa = "16057";
-    public static final String Carrascosa_de_Haro = "16058";
-    public static final String Casas_de_Benítez = "16060";
-    public static final String Casas_de_Fernando_Alonso = "16061";
-    public static final String Casas_de_Garcimolina = "16062";
-    public static final String Casas_de_Guijarro = "16063";
-    public static final String Casas_de_Haro = "16064";
-    public static final String Casas_de_los_Pinos = "16065";
-    public static final String Casasimarro = "16066";
-    public static final String Castejón = "16067";
-    public static final String Castillejo_de_Iniesta = "16068";
-    public static final String Castillejo_Sierra = "16070";
-    public static final String Castillo_de_Garcimuñoz = "16072";
-    public static final String Castillo_Albaráñez = "16071";
-    public static final String Cervera_del_Llano = "16073";
-    public static final String Chillarón_de_Cuenca = "16023";
-    public static final String Chumillas = "16081";
-    public static final String Cierva_La = "16074";
-    public static final String Cuenca = "16078";
-    public static final String Cueva_del_Hierro = "16079";
-    public static final String Enguídanos = "16082";
-    public static final String Fresneda_de_Altarejos = "16083";
-    public static final String Fresneda_de_la_Sierra = "16084";
-    public static final String Frontera_La = "16085";
-    public static final String Fuente_de_Pedro_Naharro = "16086";
-    public static final String Fuentelespino_de_Haro = "16087";
-    public static final String Fuentelespino_de_Moya = "16088";
-    public static final String Fuentenava_de_Jábaga = "16904";
-    public static final String Fuentes = "16089";
-    public static final String Fuertescusa = "16091";
-    public static final String Gabaldón = "16092";
-    public static final String Garaballa = "16093";
-    public static final String Gascueña = "16094";
-    public static final String Graja_de_Campalbo = "16095";
-    public static final String Graja_de_Iniesta = "16096";
-    public static final String Henarejos = "16097";
-    public static final String Herrumblar_El = "16098";
-    public static final String Hinojosa_La = "16099";
-    public static final String Hinojosos_Los = "16100";
-    public static final String Hito_El = "16101";
-    public static final String Honrubia = "16102";
-    public static final String Hontanaya = "16103";
-    public static final String Hontecillas = "16104";
-    public static final String Horcajo_de_Santiago = "16106";
-    public static final String Huélamo = "16107";
-    public static final String Huelves = "16108";
-    public static final String Huérguina = "16109";
-    public static final String Huerta_de_la_Obispalía = "16110";
-    public static final String Huerta_del_Marquesado = "16111";
-    public static final String Huete = "16112";
-    public static final String Iniesta = "16113";
-    public static final String Laguna_del_Marquesado = "16115";
-    public static final String Lagunaseca = "16116";
-    public static final String Landete = "16117";
-    public static final String Ledaña = "16118";
-    public static final String Leganiel = "16119";
-    public static final String Majadas_Las = "16121";
-    public static final String Mariana = "16122";
-    public static final String Masegosa = "16123";
-    public static final String Mesas_Las = "16124";
-    public static final String Minglanilla = "16125";
-    public static final String Mira = "16126";
-    public static final String Monreal_del_Llano = "16128";
-    public static final String Montalbanejo = "16129";
-    public static final String Montalbo = "16130";
-    public static final String Monteagudo_de_las_Salinas = "16131";
-    public static final String Mota_de_Altarejos = "16132";
-    public static final String Mota_del_Cuervo = "16133";
-    public static final String Motilla_del_Palancar = "16134";
-    public static final String Moya = "16135";
-    public static final String Narboneta = "16137";
-    public static final String Olivares_de_Júcar = "16139";
-    public static final String Olmeda_de_la_Cuesta = "16140";
-    public static final String Olmeda_del_Rey = "16141";
-    public static final String Olmedilla_de_Alarcón = "16142";
-    public static final String Olmedilla_de_Eliz = "16143";
-    public static final String Osa_de_la_Vega = "16145";
-    public static final String Pajarón = "16146";
-    public static final String Pajaroncillo = "16147";
-    public static final String Palomares_del_Campo = "16148";
-    public static final String Palomera = "16149";
-    public static final String Paracuellos = "16150";
-    public static final String Paredes = "16151";
-    public static final String Parra_de_las_Vegas_La = "16152";
-    public static final String Pedernoso_El = "16153";
-    public static final String Pedroñeras_Las = "16154";
-    public static final String Peral_El = "16155";
-    public static final String Peraleja_La = "16156";
-    public static final String Pesquera_La = "16157";
-    public static final String Picazo_El = "16158";
-    public static final String Pinarejo = "16159";
-    public static final String Pineda_de_Gigüela = "16160";
-    public static final String Piqueras_del_Castillo = "16161";
-    public static final String Portalrubio_de_Guadamejud = "16162";
-    public static final String Portilla = "16163";
-    public static final String Poyatos = "16165";
-    public static final String Pozoamargo = "16166";
-    public static final String Pozorrubielos_de_la_Mancha = "16908";
-    public static final String Pozorrubio_de_Santiago = "16167";
-    public static final String Pozuelo_El = "16169";
-    public static final String Priego = "16170";
-    public static final String Provencio_El = "16171";
-    public static final String Puebla_de_Almenara = "16172";
-    public static final String Puebla_del_Salvador = "16174";
-    public static final String Quintanar_del_Rey = "16175";
-    public static final String Rada_de_Haro = "16176";
-    public static final String Reíllo = "16177";
-    public static final String Rozalén_del_Monte = "16181";
-    public static final String Saceda_Trasierra = "16185";
-    public static final String Saelices = "16186";
-    public static final String Salinas_del_Manzano = "16187";
-    public static final String Salmeroncillos = "16188";
-    public static final String Salvacañete = "16189";
-    public static final String San_Clemente = "16190";
-    public static final String San_Lorenzo_de_la_Parrilla = "16191";
-    public static final String San_Martín_de_Boniches = "16192";
-    public static final String San_Pedro_Palmiches = "16193";
-    public static final String Santa_Cruz_de_Moya = "16194";
-    public static final String Santa_María_de_los_Llanos = "16196";
-    public static final String Santa_María_del_Campo_Rus = "16195";
-    public static final String Santa_María_del_Val = "16197";
-    public static final String Sisante = "16198";
-    public static final String Solera_de_Gabaldón = "16199";
-    public static final String Sotorribas = "16909";
-    public static final String Talayuelas = "16202";
-    public static final String Tarancón = "16203";
-    public static final String Tébar = "16204";
-    public static final String Tejadillos = "16205";
-    public static final String Tinajas = "16206";
-    public static final String Torralba = "16209";
-    public static final String Torrejoncillo_del_Rey = "16211";
-    public static final String Torrubia_del_Campo = "16212";
-    public static final String Torrubia_del_Castillo = "16213";
-    public static final String Tragacete = "16215";
-    public static final String Tresjuncos = "16216";
-    public static final String Tribaldos = "16217";
-    public static final String Uclés = "16218";
-    public static final String Uña = "16219";
-    public static final String Valdecolmenas_Los = "16906";
-    public static final String Valdemeca = "16224";
-    public static final String Valdemorillo_de_la_Sierra = "16225";
-    public static final String Valdemoro_Sierra = "16227";
-    public static final String Valdeolivas = "16228";
-    public static final String Valdetórtola = "16902";
-    public static final String Valeras_Las = "16903";
-    public static final String Valhermoso_de_la_Fuente = "16231";
-    public static final String Valle_de_Altomira_El = "16173";
-    public static final String Valsalobre = "16234";
-    public static final String Valverde_de_Júcar = "16236";
-    public static final String Valverdejo = "16237";
-    public static final String Vara_de_Rey = "16238";
-    public static final String Vega_del_Codorno = "16239";
-    public static final String Vellisca = "16240";
-    public static final String Villaconejos_de_Trabaque = "16242";
-    public static final String Villaescusa_de_Haro = "16243";
-    public static final String Villagarcía_del_Llano = "16244";
-    public static final String Villalba_de_la_Sierra = "16245";
-    public static final String Villalba_del_Rey = "16246";
-    public static final String Villalgordo_del_Marquesado = "16247";
-    public static final String Villalpardo = "16248";
-    public static final String Villamayor_de_Santiago = "16249";
-    public static final String Villanueva_de_Guadamejud = "16250";
-    public static final String Villanueva_de_la_Jara = "16251";
-    public static final String Villar_de_Cañas = "16253";
-    public static final String Villar_de_Domingo_García = "16254";
-    public static final String Villar_de_la_Encina = "16255";
-    public static final String Villar_de_Olalla = "16263";
-    public static final String Villar_del_Humo = "16258";
-    public static final String Villar_del_Infantado = "16259";
-    public static final String Villar_y_Velasco = "16910";
-    public static final String Villarejo_de_Fuentes = "16264";
-    public static final String Villarejo_de_la_Peñuela = "16265";
-    public static final String Villarejo_Periesteban = "16266";
-    public static final String Villares_del_Saz = "16269";
-    public static final String Villarrubio = "16270";
-    public static final String Villarta = "16271";
-    public static final String Villas_de_la_Ventosa = "16272";
-    public static final String Villaverde_y_Pasaconsol = "16273";
-    public static final String Víllora = "16274";
-    public static final String Vindel = "16275";
-    public static final String Yémeda = "16276";
-    public static final String Zafra_de_Záncara = "16277";
-    public static final String Zafrilla = "16278";
-    public static final String Zarza_de_Tajo = "16279";
-    public static final String Zarzuela = "16280";
-    public static final String Agullana = "17001";
-    public static final String Aiguaviva = "17002";
-    public static final String Albanyà = "17003";
-    public static final String Albons = "17004";
-    public static final String Alp = "17006";
-    public static final String Amer = "17007";
-    public static final String Anglès = "17008";
-    public static final String Arbúcies = "17009";
-    public static final String Argelaguer = "17010";
-    public static final String Armentera = "17011";
-    public static final String Avinyonet_de_Puigventós = "17012";
-    public static final String Banyoles = "17015";
-    public static final String Bàscara = "17016";
-    public static final String Begur = "17013";
-    public static final String Bellcaire_dEmpordà = "17018";
-    public static final String Besalú = "17019";
-    public static final String Bescanó = "17020";
-    public static final String Beuda = "17021";
-    public static final String Bisbal_dEmpordà_La = "17022";
-    public static final String Biure = "17234";
-    public static final String Blanes = "17023";
-    public static final String Boadella_i_les_Escaules = "17029";
-    public static final String Bolvir = "17024";
-    public static final String Bordils = "17025";
-    public static final String Borrassà = "17026";
-    public static final String Breda = "17027";
-    public static final String Brunyola_i_Sant_Martí_Sapresa = "17028";
-    public static final String Cabanelles = "17031";
-    public static final String Cabannes = "17030";
-    public static final String Cadaqués = "17032";
-    public static final String Caldes_de_Malavella = "17033";
-    public static final String Calonge_i_Sant_Antoni = "17034";
-    public static final String Camós = "17035";
-    public static final String Campdevànol = "17036";
-    public static final String Campelles = "17037";
-    public static final String Campllong = "17038";
-    public static final String Camprodon = "17039";
-    public static final String Canet_dAdri = "17040";
-    public static final String Cantallops = "17041";
-    public static final String Capmany = "17042";
-    public static final String Cassà_de_la_Selva = "17044";
-    public static final String Castell_dAro_Platja_dAro_i_sAgaró = "17048";
-    public static final String Castellfollit_de_la_Roca = "17046";
-    public static final String Castelló_dEmpúries = "17047";
-    public static final String Cellera_de_Ter_La = "17189";
-    public static final String Celrà = "17049";
-    public static final String Cervià_de_Ter = "17050";
-    public static final String Cistella = "17051";
-    public static final String Colera = "17054";
-    public static final String Colomers = "17055";
-    public static final String Corçà = "17057";
-    public static final String Cornellà_del_Terri = "17056";
-    public static final String Crespià = "17058";
-    public static final String Cruïlles_Monells_i_Sant_Sadurní_de_lHeura = "17901";
-    public static final String Darnius = "17060";
-    public static final String Das = "17061";
-    public static final String Escala = "17062";
-    public static final String Espinelves = "17063";
-    public static final String Espolla = "17064";
-    public static final String Esponellà = "17065";
-    public static final String Far_dEmpordà_El = "17005";
-    public static final String Figueres = "17066";
-    public static final String Flaçà = "17067";
-    public static final String Foixà = "17068";
-    public static final String Fontanals_de_Cerdanya = "17069";
-    public static final String Fontanilles = "17070";
-    public static final String Fontcoberta = "17071";
-    public static final String Forallac = "17902";
-    public static final String Fornells_de_la_Selva = "17073";
-    public static final String Fortià = "17074";
-    public static final String Garrigàs = "17075";
-    public static final String Garrigoles = "17076";
-    public static final String Garriguella = "17077";
-    public static final String Ger = "17078";
-    public static final String Girona = "17079";
-    public static final String Gombrèn = "17080";
-    public static final String Gualta = "17081";
-    public static final String Guils_de_Cerdanya = "17082";
-    public static final String Hostalric = "17083";
-    public static final String Isòvol = "17084";
-    public static final String Jafre = "17085";
-    public static final String Jonquera_La = "17086";
-    public static final String Juià = "17087";
-    public static final String Lladó = "17088";
-    public static final String Llagostera = "17089";
-    public static final String Llambilles = "17090";
-    public static final String Llanars = "17091";
-    public static final String Llançà = "17092";
-    public static final String Llers = "17093";
-    public static final String Llívia = "17094";
-    public static final String Lloret_de_Mar = "17095";
-    public static final String Llosses_Les = "17096";
-    public static final String Maçanet_de_Cabrenys = "17102";
-    public static final String Maçanet_de_la_Selva = "17103";
-    public static final String Madremanya = "17097";
-    public static final String Maià_de_Montcal = "17098";
-    public static final String Masarac = "17100";
-    public static final String Massanes = "17101";
-    public static final String Meranges = "17099";
-    public static final String Mieres = "17105";
-    public static final String Mollet_de_Peralada = "17106";
-    public static final String Molló = "17107";
-    public static final String Montagut_i_Oix = "17109";
-    public static final String Mont_ras = "17110";
-    public static final String Navata = "17111";
-    public static final String Ogassa = "17112";
-    public static final String Olot = "17114";
-    public static final String Ordis = "17115";
-    public static final String Osor = "17116";
-    public static final String Palafrugell = "17117";
-    public static final String Palamós = "17118";
-    public static final String Palau_de_Santa_Eulàlia = "17119";
-    public static final String Palau_sator = "17121";
-    public static final String Palau_saverdera = "17120";
-    public static final String Palol_de_Revardit = "17123";
-    public static final String Pals = "17124";
-    public static final String Pardines = "17125";
-    public static final String Parlavà = "17126";
-    public static final String Pau = "17128";
-    public static final String Pedret_i_Marzà = "17129";
-    public static final String Pera_La = "17130";
-    public static final String Peralada = "17132";
-    public static final String Planes_dHostoles_Les = "17133";
-    public static final String Planoles = "17134";
-    public static final String Pont_de_Molins = "17135";
-    public static final String Pontós = "17136";
-    public static final String Porqueres = "17137";
-    public static final String Port_de_la_Selva_El = "17140";
-    public static final String Portbou = "17138";
-    public static final String Preses_Les = "17139";
-    public static final String Puigcerdà = "17141";
-    public static final String Quart = "17142";
-    public static final String Queralbs = "17043";
-    public static final String Rabós = "17143";
-    public static final String Regencós = "17144";
-    public static final String Ribes_de_Freser = "17145";
-    public static final String Riells_i_Viabrea = "17146";
-    public static final String Ripoll = "17147";
-    public static final String Riudarenes = "17148";
-    public static final String Riudaura = "17149";
-    public static final String Riudellots_de_la_Selva = "17150";
-    public static final String Riumors = "17151";
-    public static final String Roses = "17152";
-    public static final String Rupià = "17153";
-    public static final String Sales_de_Llierca = "17154";
-    public static final String Salt = "17155";
-    public static final String Sant_Andreu_Salou = "17157";
-    public static final String Sant_Aniol_de_Finestres = "17183";
-    public static final String Sant_Climent_Sescebes = "17158";
-    public static final String Sant_Feliu_de_Buixalleu = "17159";
-    public static final String Sant_Feliu_de_Guíxols = "17160";
-    public static final String Sant_Feliu_de_Pallerols = "17161";
-    public static final String Sant_Ferriol = "17162";
-    public static final String Sant_Gregori = "17163";
-    public static final String Sant_Hilari_Sacalm = "17164";
-    public static final String Sant_Jaume_de_Llierca = "17165";
-    public static final String Sant_Joan_de_les_Abadesses = "17167";
-    public static final String Sant_Joan_de_Mollet = "17168";
-    public static final String Sant_Joan_les_Fonts = "17185";
-    public static final String Sant_Jordi_Desvalls = "17166";
-    public static final String Sant_Julià_de_Ramis = "17169";
-    public static final String Sant_Julià_del_Llor_i_Bonmatí = "17903";
-    public static final String Sant_Llorenç_de_la_Muga = "17171";
-    public static final String Sant_Martí_de_Llémena = "17172";
-    public static final String Sant_Martí_Vell = "17173";
-    public static final String Sant_Miquel_de_Campmajor = "17174";
-    public static final String Sant_Miquel_de_Fluvià = "17175";
-    public static final String Sant_Mori = "17176";
-    public static final String Sant_Pau_de_Segúries = "17177";
-    public static final String Sant_Pere_Pescador = "17178";
-    public static final String Santa_Coloma_de_Farners = "17180";
-    public static final String Santa_Cristina_dAro = "17181";
-    public static final String Santa_Llogaia_dÀlguema = "17182";
-    public static final String Santa_Pau = "17184";
-    public static final String Sarrià_de_Ter = "17186";
-    public static final String Saus_Camallera_i_Llampaies = "17187";
-    public static final String Selva_de_Mar_La = "17188";
-    public static final String Serinyà = "17190";
-    public static final String Serra_de_Daró = "17191";
-    public static final String Setcases = "17192";
-    public static final String Sils = "17193";
-    public static final String Siurana = "17052";
-    public static final String Susqueda = "17194";
-    public static final String Tallada_dEmpordà_La = "17195";
-    public static final String Terrades = "17196";
-    public static final String Torrent = "17197";
-    public static final String Torroella_de_Fluvià = "17198";
-    public static final String Torroella_de_Montgrí = "17199";
-    public static final String Tortellà = "17200";
-    public static final String Toses = "17201";
-    public static final String Tossa_de_Mar = "17202";
-    public static final String Ullà = "17204";
-    public static final String Ullastret = "17205";
-    public static final String Ultramort = "17203";
-    public static final String Urús = "17206";
-    public static final String Vajol_La = "17014";
-    public static final String Vall_de_Bianya_La = "17208";
-    public static final String Vall_den_Bas_La = "17207";
-    public static final String Vallfogona_de_Ripollès = "17170";
-    public static final String Vall_llobrega = "17209";
-    public static final String Ventalló = "17210";
-    public static final String Verges = "17211";
-    public static final String Vidrà = "17212";
-    public static final String Vidreres = "17213";
-    public static final String Vilabertran = "17214";
-    public static final String Vilablareix = "17215";
-    public static final String Viladamat = "17217";
-    public static final String Viladasens = "17216";
-    public static final String Vilademuls = "17218";
-    public static final String Viladrau = "17220";
-    public static final String Vilafant = "17221";
-    public static final String Vilajuïga = "17223";
-    public static final String Vilallonga_de_Ter = "17224";
-    public static final String Vilamacolum = "17225";
-    public static final String Vilamalla = "17226";
-    public static final String Vilamaniscle = "17227";
-    public static final String Vilanant = "17228";
-    public static final String Vila_sacra = "17230";
-    public static final String Vilaür = "17222";
-    public static final String Vilobí_dOnyar = "17233";
-    public static final String Vilopriu = "17232";
-    public static final String Agrón = "18001";
-    public static final String Alamedilla = "18002";
-    public static final String Albolote = "18003";
-    public static final String Albondón = "18004";
-    public static final String Albuñán = "18005";
-    public static final String Albuñol = "18006";
-    public static final String Albuñuelas = "18007";
-    public static final String Aldeire = "18010";
-    public static final String Alfacar = "18011";
-    public static final String Algarinejo = "18012";
-    public static final String Alhama_de_Granada = "18013";
-    public static final String Alhendín = "18014";
-    public static final String Alicún_de_Ortega = "18015";
-    public static final String Almegíjar = "18016";
-    public static final String Almuñécar = "18017";
-    public static final String Alpujarra_de_la_Sierra = "18904";
-    public static final String Alquife = "18018";
-    public static final String Arenas_del_Rey = "18020";
-    public static final String Armilla = "18021";
-    public static final String Atarfe = "18022";
-    public static final String Baza = "18023";
-    public static final String Beas_de_Granada = "18024";
-    public static final String Beas_de_Guadix = "18025";
-    public static final String Benalúa = "18027";
-    public static final String Benalúa_de_las_Villas = "18028";
-    public static final String Benamaurel = "18029";
-    public static final String Bérchules = "18030";
-    public static final String Bubión = "18032";
-    public static final String Busquístar = "18033";
-    public static final String Cacín = "18034";
-    public static final String Cádiar = "18035";
-    public static final String Cájar = "18036";
-    public static final String Calahorra_La = "18114";
-    public static final String Calicasas = "18037";
-    public static final String Campotéjar = "18038";
-    public static final String Caniles = "18039";
-    public static final String Cáñar = "18040";
-    public static final String Capileira = "18042";
-    public static final String Carataunas = "18043";
-    public static final String Cástaras = "18044";
-    public static final String Castilléjar = "18045";
-    public static final String Castril = "18046";
-    public static final String Cenes_de_la_Vega = "18047";
-    public static final String Chauchina = "18059";
-    public static final String Chimeneas = "18061";
-    public static final String Churriana_de_la_Vega = "18062";
-    public static final String Cijuela = "18048";
-    public static final String Cogollos_de_Guadix = "18049";
-    public static final String Cogollos_de_la_Vega = "18050";
-    public static final String Colomera = "18051";
-    public static final String Cortes_de_Baza = "18053";
-    public static final String Cortes_y_Graena = "18054";
-    public static final String Cuevas_del_Campo = "18912";
-    public static final String Cúllar = "18056";
-    public static final String Cúllar_Vega = "18057";
-    public static final String Darro = "18063";
-    public static final String Dehesas_de_Guadix = "18064";
-    public static final String Dehesas_Viejas = "18065";
-    public static final String Deifontes = "18066";
-    public static final String Diezma = "18067";
-    public static final String Dílar = "18068";
-    public static final String Dólar = "18069";
-    public static final String Domingo_Pérez_de_Granada = "18915";
-    public static final String Dúdar = "18070";
-    public static final String Dúrcal = "18071";
-    public static final String Escúzar = "18072";
-    public static final String Ferreira = "18074";
-    public static final String Fonelas = "18076";
-    public static final String Fornes = "18077";
-    public static final String Freila = "18078";
-    public static final String Fuente_Vaqueros = "18079";
-    public static final String Gabias_Las = "18905";
-    public static final String Galera = "18082";
-    public static final String Gobernador = "18083";
-    public static final String Gójar = "18084";
-    public static final String Gor = "18085";
-    public static final String Gorafe = "18086";
-    public static final String Granada = "18087";
-    public static final String Guadahortuna = "18088";
-    public static final String Guadix = "18089";
-    public static final String Guájares_Los = "18906";
-    public static final String Gualchos = "18093";
-    public static final String Güéjar_Sierra = "18094";
-    public static final String Güevéjar = "18095";
-    public static final String Huélago = "18096";
-    public static final String Huéneja = "18097";
-    public static final String Huéscar = "18098";
-    public static final String Huétor_de_Santillán = "18099";
-    public static final String Huétor_Tájar = "18100";
-    public static final String Huétor_Vega = "18101";
-    public static final String Íllora = "18102";
-    public static final String Ítrabo = "18103";
-    public static final String Iznalloz = "18105";
-    public static final String Játar = "18106";
-    public static final String Jayena = "18107";
-    public static final String Jérez_del_Marquesado = "18108";
-    public static final String Jete = "18109";
-    public static final String Jun = "18111";
-    public static final String Juviles = "18112";
-    public static final String Láchar = "18115";
-    public static final String Lanjarón = "18116";
-    public static final String Lanteira = "18117";
-    public static final String Lecrín = "18119";
-    public static final String Lentegí = "18120";
-    public static final String Lobras = "18121";
-    public static final String Loja = "18122";
-    public static final String Lugros = "18123";
-    public static final String Lújar = "18124";
-    public static final String Malahá_La = "18126";
-    public static final String Maracena = "18127";
-    public static final String Marchal = "18128";
-    public static final String Moclín = "18132";
-    public static final String Molvízar = "18133";
-    public static final String Monachil = "18134";
-    public static final String Montefrío = "18135";
-    public static final String Montejícar = "18136";
-    public static final String Montillana = "18137";
-    public static final String Moraleda_de_Zafayona = "18138";
-    public static final String Morelábor = "18909";
-    public static final String Motril = "18140";
-    public static final String Murtas = "18141";
-    public static final String Nevada = "18903";
-    public static final String Nigüelas = "18143";
-    public static final String Nívar = "18144";
-    public static final String Ogíjares = "18145";
-    public static final String Orce = "18146";
-    public static final String Órgiva = "18147";
-    public static final String Otívar = "18148";
-    public static final String Padul = "18150";
-    public static final String Pampaneira = "18151";
-    public static final String Pedro_Martínez = "18152";
-    public static final String Peligros = "18153";
-    public static final String Peza_La = "18154";
-    public static final String Pinar_El = "18910";
-    public static final String Pinos_Genil = "18157";
-    public static final String Pinos_Puente = "18158";
-    public static final String Píñar = "18159";
-    public static final String Polícar = "18161";
-    public static final String Polopos = "18162";
-    public static final String Pórtugos = "18163";
-    public static final String Puebla_de_Don_Fadrique = "18164";
-    public static final String Pulianas = "18165";
-    public static final String Purullena = "18167";
-    public static final String Quéntar = "18168";
-    public static final String Rubite = "18170";
-    public static final String Salar = "18171";
-    public static final String Salobreña = "18173";
-    public static final String Santa_Cruz_del_Comercio = "18174";
-    public static final String Santa_Fe = "18175";
-    public static final String Soportújar = "18176";
-    public static final String Sorvilán = "18177";
-    public static final String Taha_La = "18901";
-    public static final String Torre_Cardela = "18178";
-    public static final String Torrenueva_Costa = "18916";
-    public static final String Torvizcón = "18179";
-    public static final String Trevélez = "18180";
-    public static final String Turón = "18181";
-    public static final String Ugíjar = "18182";
-    public static final String Valderrubio = "18914";
-    public static final String Valle_del_Zalabí = "18907";
-    public static final String Valle_El = "18902";
-    public static final String Válor = "18183";
-    public static final String Vegas_del_Genil = "18911";
-    public static final String Vélez_de_Benaudalla = "18184";
-    public static final String Ventas_de_Huelma = "18185";
-    public static final String Villa_de_Otura = "18149";
-    public static final String Villamena = "18908";
-    public static final String Villanueva_de_las_Torres = "18187";
-    public static final String Villanueva_Mesía = "18188";
-    public static final String Víznar = "18189";
-    public static final String Zafarraya = "18192";
-    public static final String Zagra = "18913";
-    public static final String Zubia_La = "18193";
-    public static final String Zújar = "18194";
-    public static final String Abánades = "19001";
-    public static final String Ablanque = "19002";
-    public static final String Adobes = "19003";
-    public static final String Alaminos = "19004";
-    public static final String Alarilla = "19005";
-    public static final String Albalate_de_Zorita = "19006";
-    public static final String Albares = "19007";
-    public static final String Albendiego = "19008";
-    public static final String Alcocer = "19009";
-    public static final String Alcolea_de_las_Peñas = "19010";
-    public static final String Alcolea_del_Pinar = "19011";
-    public static final String Alcoroches = "19013";
-    public static final String Aldeanueva_de_Guadalajara = "19015";
-    public static final String Algar_de_Mesa = "19016";
-    public static final String Algora = "19017";
-    public static final String Alhóndiga = "19018";
-    public static final String Alique = "19019";
-    public static final String Almadrones = "19020";
-    public static final String Almoguera = "19021";
-    public static final String Almonacid_de_Zorita = "19022";
-    public static final String Alocén = "19023";
-    public static final String Alovera = "19024";
-    public static final String Alustante = "19027";
-    public static final String Angón = "19031";
-    public static final String Anguita = "19032";
-    public static final String Anquela_del_Ducado = "19033";
-    public static final String Anquela_del_Pedregal = "19034";
-    public static final String Aranzueque = "19036";
-    public static final String Arbancón = "19037";
-    public static final String Arbeteta = "19038";
-    public static final String Argecilla = "19039";
-    public static final String Armallones = "19040";
-    public static final String Armuña_de_Tajuña = "19041";
-    public static final String Arroyo_de_las_Fraguas = "19042";
-    public static final String Atanzón = "19043";
-    public static final String Atienza = "19044";
-    public static final String Auñón = "19045";
-    public static final String Azuqueca_de_Henares = "19046";
-    public static final String Baides = "19047";
-    public static final String Baños_de_Tajo = "19048";
-    public static final String Bañuelos = "19049";
-    public static final String Barriopedro = "19050";
-    public static final String Berninches = "19051";
-    public static final String Bodera_La = "19052";
-    public static final String Brihuega = "19053";
-    public static final String Budia = "19054";
-    public static final String Bujalaro = "19055";
-    public static final String Bustares = "19057";
-    public static final String Cabanillas_del_Campo = "19058";
-    public static final String Campillo_de_Dueñas = "19059";
-    public static final String Campillo_de_Ranas = "19060";
-    public static final String Campisábalos = "19061";
-    public static final String Canredondo = "19064";
-    public static final String Cantalojas = "19065";
-    public static final String Cañizar = "19066";
-    public static final String Cardoso_de_la_Sierra_El = "19067";
-    public static final String Casa_de_Uceda = "19070";
-    public static final String Casar_El = "19071";
-    public static final String Casas_de_San_Galindo = "19073";
-    public static final String Caspueñas = "19074";
-    public static final String Castejón_de_Henares = "19075";
-    public static final String Castellar_de_la_Muela = "19076";
-    public static final String Castilforte = "19078";
-    public static final String Castilnuevo = "19079";
-    public static final String Cendejas_de_Enmedio = "19080";
-    public static final String Cendejas_de_la_Torre = "19081";
-    public static final String Centenera = "19082";
-    public static final String Checa = "19103";
-    public static final String Chequilla = "19104";
-    public static final String Chillarón_del_Rey = "19106";
-    public static final String Chiloeches = "19105";
-    public static final String Cifuentes = "19086";
-    public static final String Cincovillas = "19087";
-    public static final String Ciruelas = "19088";
-    public static final String Ciruelos_del_Pinar = "19089";
-    public static final String Cobeta = "19090";
-    public static final String Cogollor = "19091";
-    public static final String Cogolludo = "19092";
-    public static final String Condemios_de_Abajo = "19095";
-    public static final String Condemios_de_Arriba = "19096";
-    public static final String Congostrina = "19097";
-    public static final String Copernal = "19098";
-    public static final String Corduente = "19099";
-    public static final String Cubillo_de_Uceda_El = "19102";
-    public static final String Driebes = "19107";
-    public static final String Durón = "19108";
-    public static final String Embid = "19109";
-    public static final String Escamilla = "19110";
-    public static final String Escariche = "19111";
-    public static final String Escopete = "19112";
-    public static final String Espinosa_de_Henares = "19113";
-    public static final String Esplegares = "19114";
-    public static final String Establés = "19115";
-    public static final String Estriégana = "19116";
-    public static final String Fontanar = "19117";
-    public static final String Fuembellida = "19118";
-    public static final String Fuencemillán = "19119";
-    public static final String Fuentelahiguera_de_Albatages = "19120";
-    public static final String Fuentelencina = "19121";
-    public static final String Fuentelsaz = "19122";
-    public static final String Fuentelviejo = "19123";
-    public static final String Fuentenovilla = "19124";
-    public static final String Gajanejos = "19125";
-    public static final String Galápagos = "19126";
-    public static final String Galve_de_Sorbe = "19127";
-    public static final String Gascueña_de_Bornova = "19129";
-    public static final String Guadalajara = "19130";
-    public static final String Henche = "19132";
-    public static final String Heras_de_Ayuso = "19133";
-    public static final String Herrería = "19134";
-    public static final String Hiendelaencina = "19135";
-    public static final String Hijes = "19136";
-    public static final String Hita = "19138";
-    public static final String Hombrados = "19139";
-    public static final String Hontoba = "19142";
-    public static final String Horche = "19143";
-    public static final String Hortezuela_de_Océn = "19145";
-    public static final String Huerce_La = "19146";
-    public static final String Huérmeces_del_Cerro = "19147";
-    public static final String Huertahernando = "19148";
-    public static final String Hueva = "19150";
-    public static final String Humanes = "19151";
-    public static final String Illana = "19152";
-    public static final String Iniéstola = "19153";
-    public static final String Inviernas_Las = "19154";
-    public static final String Irueste = "19155";
-    public static final String Jadraque = "19156";
-    public static final String Jirueque = "19157";
-    public static final String Ledanca = "19159";
-    public static final String Loranca_de_Tajuña = "19160";
-    public static final String Lupiana = "19161";
-    public static final String Luzaga = "19162";
-    public static final String Luzón = "19163";
-    public static final String Majaelrayo = "19165";
-    public static final String Málaga_del_Fresno = "19166";
-    public static final String Malaguilla = "19167";
-    public static final String Mandayona = "19168";
-    public static final String Mantiel = "19169";
-    public static final String Maranchón = "19170";
-    public static final String Marchamalo = "19171";
-    public static final String Masegoso_de_Tajuña = "19172";
-    public static final String Matarrubia = "19173";
-    public static final String Matillas = "19174";
-    public static final String Mazarete = "19175";
-    public static final String Mazuecos = "19176";
-    public static final String Medranda = "19177";
-    public static final String Megina = "19178";
-    public static final String Membrillera = "19179";
-    public static final String Miedes_de_Atienza = "19181";
-    public static final String Mierla_La = "19182";
-    public static final String Millana = "19184";
-    public static final String Milmarcos = "19183";
-    public static final String Miñosa_La = "19185";
-    public static final String Mirabueno = "19186";
-    public static final String Miralrío = "19187";
-    public static final String Mochales = "19188";
-    public static final String Mohernando = "19189";
-    public static final String Molina_de_Aragón = "19190";
-    public static final String Monasterio = "19191";
-    public static final String Mondéjar = "19192";
-    public static final String Montarrón = "19193";
-    public static final String Moratilla_de_los_Meleros = "19194";
-    public static final String Morenilla = "19195";
-    public static final String Muduex = "19196";
-    public static final String Navas_de_Jadraque_Las = "19197";
-    public static final String Negredo = "19198";
-    public static final String Ocentejo = "19199";
-    public static final String Olivar_El = "19200";
-    public static final String Olmeda_de_Cobeta = "19201";
-    public static final String Olmeda_de_Jadraque_La = "19202";
-    public static final String Ordial_El = "19203";
-    public static final String Orea = "19204";
-    public static final String Pálmaces_de_Jadraque = "19208";
-    public static final String Pardos = "19209";
-    public static final String Paredes_de_Sigüenza = "19210";
-    public static final String Pareja = "19211";
-    public static final String Pastrana = "19212";
-    public static final String Pedregal_El = "19213";
-    public static final String Peñalén = "19214";
-    public static final String Peñalver = "19215";
-    public static final String Peralejos_de_las_Truchas = "19216";
-    public static final String Peralveche = "19217";
-    public static final String Pinilla_de_Jadraque = "19218";
-    public static final String Pinilla_de_Molina = "19219";
-    public static final String Pioz = "19220";
-    public static final String Piqueras = "19221";
-    public static final String Pobo_de_Dueñas_El = "19222";
-    public static final String Poveda_de_la_Sierra = "19223";
-    public static final String Pozo_de_Almoguera = "19224";
-    public static final String Pozo_de_Guadalajara = "19225";
-    public static final String Prádena_de_Atienza = "19226";
-    public static final String Prados_Redondos = "19227";
-    public static final String Puebla_de_Beleña = "19228";
-    public static final String Puebla_de_Valles = "19229";
-    public static final String Quer = "19230";
-    public static final String Rebollosa_de_Jadraque = "19231";
-    public static final String Recuenco_El = "19232";
-    public static final String Renera = "19233";
-    public static final String Retiendas = "19234";
-    public static final String Riba_de_Saelices = "19235";
-    public static final String Rillo_de_Gallo = "19237";
-    public static final String Riofrío_del_Llano = "19238";
-    public static final String Robledillo_de_Mohernando = "19239";
-    public static final String Robledo_de_Corpes = "19240";
-    public static final String Romanillos_de_Atienza = "19241";
-    public static final String Romanones = "19242";
-    public static final String Rueda_de_la_Sierra = "19243";
-    public static final String Sacecorbo = "19244";
-    public static final String Sacedón = "19245";
-    public static final String Saelices_de_la_Sal = "19246";
-    public static final String Salmerón = "19247";
-    public static final String San_Andrés_del_Congosto = "19248";
-    public static final String San_Andrés_del_Rey = "19249";
-    public static final String Santiuste = "19250";
-    public static final String Saúca = "19251";
-    public static final String Sayatón = "19252";
-    public static final String Selas = "19254";
-    public static final String Semillas = "19901";
-    public static final String Setiles = "19255";
-    public static final String Sienes = "19256";
-    public static final String Sigüenza = "19257";
-    public static final String Solanillos_del_Extremo = "19258";
-    public static final String Somolinos = "19259";
-    public static final String Sotillo_El = "19260";
-    public static final String Sotodosos = "19261";
-    public static final String Tamajón = "19262";
-    public static final String Taragudo = "19263";
-    public static final String Taravilla = "19264";
-    public static final String Tartanedo = "19265";
-    public static final String Tendilla = "19266";
-    public static final String Terzaga = "19267";
-    public static final String Tierzo = "19268";
-    public static final String Toba_La = "19269";
-    public static final String Tordellego = "19271";
-    public static final String Tordelrábano = "19270";
-    public static final String Tordesilos = "19272";
-    public static final String Torija = "19274";
-    public static final String Torre_del_Burgo = "19279";
-    public static final String Torrecuadrada_de_Molina = "19277";
-    public static final String Torrecuadradilla = "19278";
-    public static final String Torrejón_del_Rey = "19280";
-    public static final String Torremocha_de_Jadraque = "19281";
-    public static final String Torremocha_del_Campo = "19282";
-    public static final String Torremocha_del_Pinar = "19283";
-    public static final String Torremochuela = "19284";
-    public static final String Torrubia = "19285";
-    public static final String Tórtola_de_Henares = "19286";
-    public static final String Tortuera = "19287";
-    public static final String Tortuero = "19288";
-    public static final String Traíd = "19289";
-    public static final String Trijueque = "19290";
-    public static final String Trillo = "19291";
-    public static final String Uceda = "19293";
-    public static final String Ujados = "19294";
-    public static final String Utande = "19296";
-    public static final String Valdarachas = "19297";
-    public static final String Valdearenas = "19298";
-    public static final String Valdeavellano = "19299";
-    public static final String Valdeaveruelo = "19300";
-    public static final String Valdeconcha = "19301";
-    public static final String Valdegrudas = "19302";
-    public static final String Valdelcubo = "19303";
-    public static final String Valdenuño_Fernández = "19304";
-    public static final String Valdepeñas_de_la_Sierra = "19305";
-    public static final String Valderrebollo = "19306";
-    public static final String Valdesotos = "19307";
-    public static final String Valfermoso_de_Tajuña = "19308";
-    public static final String Valhermoso = "19309";
-    public static final String Valtablado_del_Río = "19310";
-    public static final String Valverde_de_los_Arroyos = "19311";
-    public static final String Viana_de_Jadraque = "19314";
-    public static final String Villanueva_de_Alcorón = "19317";
-    public static final String Villanueva_de_Argecilla = "19318";
-    public static final String Villanueva_de_la_Torre = "19319";
-    public static final String Villares_de_Jadraque = "19321";
-    public static final String Villaseca_de_Henares = "19322";
-    public static final String Villaseca_de_Uceda = "19323";
-    public static final String Villel_de_Mesa = "19324";
-    public static final String Viñuelas = "19325";
-    public static final String Yebes = "19326";
-    public static final String Yebra = "19327";
-    public static final String Yélamos_de_Abajo = "19329";
-    public static final String Yélamos_de_Arriba = "19330";
-    public static final String Yunquera_de_Henares = "19331";
-    public static final String Yunta_La = "19332";
-    public static final String Zaorejas = "19333";
-    public static final String Zarzuela_de_Jadraque = "19334";
-    public static final String Zorita_de_los_Canes = "19335";
-    public static final String Abaltzisketa = "20001";
-    public static final String Aduna = "20002";
-    public static final String Aia = "20016";
-    public static final String Aizarnazabal = "20003";
-    public static final String Albiztur = "20004";
-    public static final String Alegia = "20005";
-    public static final String Alkiza = "20006";
-    public static final String Altzaga = "20906";
-    public static final String Altzo = "20007";
-    public static final String Amezketa = "20008";
-    public static final String Andoain = "20009";
-    public static final String Anoeta = "20010";
-    public static final String Antzuola = "20011";
-    public static final String Arama = "20012";
-    public static final String Aretxabaleta = "20013";
-    public static final String Arrasate = "20055";
-    public static final String Asteasu = "20014";
-    public static final String Astigarraga = "20903";
-    public static final String Ataun = "20015";
-    public static final String Azkoitia = "20017";
-    public static final String Azpeitia = "20018";
-    public static final String Baliarrain = "20904";
-    public static final String Beasain = "20019";
-    public static final String Beizama = "20020";
-    public static final String Belauntza = "20021";
-    public static final String Berastegi = "20022";
-    public static final String Bergara = "20074";
-    public static final String Berrobi = "20023";
-    public static final String Bidania_Goiatz = "20024";
-    public static final String Deba = "20029";
-    public static final String Donostia = "20069";
-    public static final String Eibar = "20030";
-    public static final String Elduain = "20031";
-    public static final String Elgeta = "20033";
-    public static final String Elgoibar = "20032";
-    public static final String Errenteria = "20067";
-    public static final String Errezil = "20066";
-    public static final String Eskoriatza = "20034";
-    public static final String Ezkio_Itsaso = "20035";
-    public static final String Gabiria = "20038";
-    public static final String Gaintza = "20037";
-    public static final String Gaztelu = "20907";
-    public static final String Getaria = "20039";
-    public static final String Hernani = "20040";
-    public static final String Hernialde = "20041";
-    public static final String Hondarribia = "20036";
-    public static final String Ibarra = "20042";
-    public static final String Idiazabal = "20043";
-    public static final String Ikaztegieta = "20044";
-    public static final String Irun = "20045";
-    public static final String Irura = "20046";
-    public static final String Itsasondo = "20047";
-    public static final String Larraul = "20048";
-    public static final String Lasarte_Oria = "20902";
-    public static final String Lazkao = "20049";
-    public static final String Leaburu = "20050";
-    public static final String Legazpi = "20051";
-    public static final String Legorreta = "20052";
-    public static final String Leintz_Gatzaga = "20068";
-    public static final String Lezo = "20053";
-    public static final String Lizartza = "20054";
-    public static final String Mendaro = "20901";
-    public static final String Mutiloa = "20057";
-    public static final String Mutriku = "20056";
-    public static final String Oiartzun = "20063";
-    public static final String Olaberria = "20058";
-    public static final String Oñati = "20059";
-    public static final String Ordizia = "20076";
-    public static final String Orendain = "20905";
-    public static final String Orexa = "20060";
-    public static final String Orio = "20061";
-    public static final String Ormaiztegi = "20062";
-    public static final String Pasaia = "20064";
-    public static final String Segura = "20070";
-    public static final String Soraluze_Placencia_de_las_Armas = "20065";
-    public static final String Tolosa = "20071";
-    public static final String Urnieta = "20072";
-    public static final String Urretxu = "20077";
-    public static final String Usurbil = "20073";
-    public static final String Villabona = "20075";
-    public static final String Zaldibia = "20078";
-    public static final String Zarautz = "20079";
-    public static final String Zegama = "20025";
-    public static final String Zerain = "20026";
-    public static final String Zestoa = "20027";
-    public static final String Zizurkil = "20028";
-    public static final String Zumaia = "20081";
-    public static final String Zumarraga = "20080";
-    public static final String Alájar = "21001";
-    public static final String Aljaraque = "21002";
-    public static final String Almendro_El = "21003";
-    public static final String Almonaster_la_Real = "21004";
-    public static final String Almonte = "21005";
-    public static final String Alosno = "21006";
-    public static final String Aracena = "21007";
-    public static final String Aroche = "21008";
-    public static final String Arroyomolinos_de_León = "21009";
-    public static final String Ayamonte = "21010";
-    public static final String Beas = "21011";
-    public static final String Berrocal = "21012";
-    public static final String Bollullos_Par_del_Condado = "21013";
-    public static final String Bonares = "21014";
-    public static final String Cabezas_Rubias = "21015";
-    public static final String Cala = "21016";
-    public static final String Calañas = "21017";
-    public static final String Campillo_El = "21018";
-    public static final String Campofrío = "21019";
-    public static final String Cañaveral_de_León = "21020";
-    public static final String Cartaya = "21021";
-    public static final String Castaño_del_Robledo = "21022";
-    public static final String Cerro_de_Andévalo_El = "21023";
-    public static final String Chucena = "21030";
-    public static final String Corteconcepción = "21024";
-    public static final String Cortegana = "21025";
-    public static final String Cortelazor = "21026";
-    public static final String Cumbres_de_Enmedio = "21027";
-    public static final String Cumbres_de_San_Bartolomé = "21028";
-    public static final String Cumbres_Mayores = "21029";
-    public static final String Encinasola = "21031";
-    public static final String Escacena_del_Campo = "21032";
-    public static final String Fuenteheridos = "21033";
-    public static final String Galaroza = "21034";
-    public static final String Gibraleón = "21035";
-    public static final String Granada_de_Río_Tinto_La = "21036";
-    public static final String Granado_El = "21037";
-    public static final String Higuera_de_la_Sierra = "21038";
-    public static final String Hinojales = "21039";
-    public static final String Hinojos = "21040";
-    public static final String Huelva = "21041";
-    public static final String Isla_Cristina = "21042";
-    public static final String Jabugo = "21043";
-    public static final String Lepe = "21044";
-    public static final String Linares_de_la_Sierra = "21045";
-    public static final String Lucena_del_Puerto = "21046";
-    public static final String Manzanilla = "21047";
-    public static final String Marines_Los = "21048";
-    public static final String Minas_de_Riotinto = "21049";
-    public static final String Moguer = "21050";
-    public static final String Nava_La = "21051";
-    public static final String Nerva = "21052";
-    public static final String Niebla = "21053";
-    public static final String Palma_del_Condado_La = "21054";
-    public static final String Palos_de_la_Frontera = "21055";
-    public static final String Paterna_del_Campo = "21056";
-    public static final String Paymogo = "21057";
-    public static final String Puebla_de_Guzmán = "21058";
-    public static final String Puerto_Moral = "21059";
-    public static final String Punta_Umbría = "21060";
-    public static final String Rociana_del_Condado = "21061";
-    public static final String Rosal_de_la_Frontera = "21062";
-    public static final String San_Bartolomé_de_la_Torre = "21063";
-    public static final String San_Juan_del_Puerto = "21064";
-    public static final String San_Silvestre_de_Guzmán = "21066";
-    public static final String Sanlúcar_de_Guadiana = "21065";
-    public static final String Santa_Ana_la_Real = "21067";
-    public static final String Santa_Bárbara_de_Casa = "21068";
-    public static final String Santa_Olalla_del_Cala = "21069";
-    public static final String Trigueros = "21070";
-    public static final String Valdelarco = "21071";
-    public static final String Valverde_del_Camino = "21072";
-    public static final String Villablanca = "21073";
-    public static final String Villalba_del_Alcor = "21074";
-    public static final String Villanueva_de_las_Cruces = "21075";
-    public static final String Villanueva_de_los_Castillejos = "21076";
-    public static final String Villarrasa = "21077";
-    public static final String Zalamea_la_Real = "21078";
-    public static final String Zarza_Perrunal_La = "21902";
-    public static final String Zufre = "21079";
-    public static final String Abiego = "22001";
-    public static final String Abizanda = "22002";
-    public static final String Adahuesca = "22003";
-    public static final String Agüero = "22004";
-    public static final String Aínsa_Sobrarbe = "22907";
-    public static final String Aisa = "22006";
-    public static final String Albalate_de_Cinca = "22007";
-    public static final String Albalatillo = "22008";
-    public static final String Albelda = "22009";
-    public static final String Albero_Alto = "22011";
-    public static final String Albero_Bajo = "22012";
-    public static final String Alberuela_de_Tubo = "22013";
-    public static final String Alcalá_de_Gurrea = "22014";
-    public static final String Alcalá_del_Obispo = "22015";
-    public static final String Alcampell = "22016";
-    public static final String Alcolea_de_Cinca = "22017";
-    public static final String Alcubierre = "22018";
-    public static final String Alerre = "22019";
-    public static final String Alfántega = "22020";
-    public static final String Almudévar = "22021";
-    public static final String Almunia_de_San_Juan = "22022";
-    public static final String Almuniente = "22023";
-    public static final String Alquézar = "22024";
-    public static final String Altorricón = "22025";
-    public static final String Angüés = "22027";
-    public static final String Ansó = "22028";
-    public static final String Antillón = "22029";
-    public static final String Aragüés_del_Puerto = "22032";
-    public static final String Arén = "22035";
-    public static final String Argavieso = "22036";
-    public static final String Arguis = "22037";
-    public static final String Ayerbe = "22039";
-    public static final String Azanuy_Alins = "22040";
-    public static final String Azara = "22041";
-    public static final String Azlor = "22042";
-    public static final String Baélls = "22043";
-    public static final String Bailo = "22044";
-    public static final String Baldellou = "22045";
-    public static final String Ballobar = "22046";
-    public static final String Banastás = "22047";
-    public static final String Barbastro = "22048";
-    public static final String Barbués = "22049";
-    public static final String Barbuñales = "22050";
-    public static final String Bárcabo = "22051";
-    public static final String Belver_de_Cinca = "22052";
-    public static final String Benabarre = "22053";
-    public static final String Benasque = "22054";
-    public static final String Beranuy = "22246";
-    public static final String Berbegal = "22055";
-    public static final String Bielsa = "22057";
-    public static final String Bierge = "22058";
-    public static final String Biescas = "22059";
-    public static final String Binaced = "22060";
-    public static final String Binéfar = "22061";
-    public static final String Bisaurri = "22062";
-    public static final String Biscarrués = "22063";
-    public static final String Blecua_y_Torres = "22064";
-    public static final String Boltaña = "22066";
-    public static final String Bonansa = "22067";
-    public static final String Borau = "22068";
-    public static final String Broto = "22069";
-    public static final String Caldearenas = "22072";
-    public static final String Campo = "22074";
-    public static final String Camporrélls = "22075";
-    public static final String Canal_de_Berdún = "22076";
-    public static final String Candasnos = "22077";
-    public static final String Canfranc = "22078";
-    public static final String Capdesaso = "22079";
-    public static final String Capella = "22080";
-    public static final String Casbas_de_Huesca = "22081";
-    public static final String Castejón_de_Monegros = "22083";
-    public static final String Castejón_de_Sos = "22084";
-    public static final String Castejón_del_Puente = "22082";
-    public static final String Castelflorite = "22085";
-    public static final String Castiello_de_Jaca = "22086";
-    public static final String Castigaleu = "22087";
-    public static final String Castillazuelo = "22088";
-    public static final String Castillonroy = "22089";
-    public static final String Chalamera = "22094";
-    public static final String Chía = "22095";
-    public static final String Chimillas = "22096";
-    public static final String Colungo = "22090";
-    public static final String Esplús = "22099";
-    public static final String Estada = "22102";
-    public static final String Estadilla = "22103";
-    public static final String Estopiñán_del_Castillo = "22105";
-    public static final String Fago = "22106";
-    public static final String Fanlo = "22107";
-    public static final String Fiscal = "22109";
-    public static final String Fonz = "22110";
-    public static final String Foradada_del_Toscar = "22111";
-    public static final String Fraga = "22112";
-    public static final String Fueva_La = "22113";
-    public static final String Gistaín = "22114";
-    public static final String Grado_El = "22115";
-    public static final String Grañén = "22116";
-    public static final String Graus = "22117";
-    public static final String Gurrea_de_Gállego = "22119";
-    public static final String Hoz_de_Jaca = "22122";
-    public static final String Hoz_y_Costean = "22908";
-    public static final String Huerto = "22124";
-    public static final String Huesca = "22125";
-    public static final String Ibieca = "22126";
-    public static final String Igriés = "22127";
-    public static final String Ilche = "22128";
-    public static final String Isábena = "22129";
-    public static final String Jaca = "22130";
-    public static final String Jasa = "22131";
-    public static final String Labuerda = "22133";
-    public static final String Laluenga = "22135";
-    public static final String Lalueza = "22136";
-    public static final String Lanaja = "22137";
-    public static final String Laperdiguera = "22139";
-    public static final String Lascellas_Ponzano = "22141";
-    public static final String Lascuarre = "22142";
-    public static final String Laspaúles = "22143";
-    public static final String Laspuña = "22144";
-    public static final String Loarre = "22149";
-    public static final String Loporzano = "22150";
-    public static final String Loscorrales = "22151";
-    public static final String Lupiñén_Ortilla = "22905";
-    public static final String Monesma_y_Cajigar = "22155";
-    public static final String Monflorite_Lascasas = "22156";
-    public static final String Montanuy = "22157";
-    public static final String Monzón = "22158";
-    public static final String Naval = "22160";
-    public static final String Novales = "22162";
-    public static final String Nueno = "22163";
-    public static final String Olvena = "22164";
-    public static final String Ontiñena = "22165";
-    public static final String Osso_de_Cinca = "22167";
-    public static final String Palo = "22168";
-    public static final String Panticosa = "22170";
-    public static final String Peñalba = "22172";
-    public static final String Peñas_de_Riglos_Las = "22173";
-    public static final String Peralta_de_Alcofea = "22174";
-    public static final String Peralta_de_Calasanz = "22175";
-    public static final String Peraltilla = "22176";
-    public static final String Perarrúa = "22177";
-    public static final String Pertusa = "22178";
-    public static final String Piracés = "22181";
-    public static final String Plan = "22182";
-    public static final String Poleñino = "22184";
-    public static final String Pozán_de_Vero = "22186";
-    public static final String Puebla_de_Castro_La = "22187";
-    public static final String Puente_de_Montañana = "22188";
-    public static final String Puente_la_Reina_de_Jaca = "22902";
-    public static final String Puértolas = "22189";
-    public static final String Pueyo_de_Araguás_El = "22190";
-    public static final String Pueyo_de_Santa_Cruz = "22193";
-    public static final String Quicena = "22195";
-    public static final String Robres = "22197";
-    public static final String Sabiñánigo = "22199";
-    public static final String Sahún = "22200";
-    public static final String Salas_Altas = "22201";
-    public static final String Salas_Bajas = "22202";
-    public static final String Salillas = "22203";
-    public static final String Sallent_de_Gállego = "22204";
-    public static final String San_Esteban_de_Litera = "22205";
-    public static final String San_Juan_de_Plan = "22207";
-    public static final String San_Miguel_del_Cinca = "22903";
-    public static final String Sangarrén = "22206";
-    public static final String Santa_Cilia = "22208";
-    public static final String Santa_Cruz_de_la_Serós = "22209";
-    public static final String Santa_María_de_Dulcis = "22906";
-    public static final String Santaliestra_y_San_Quílez = "22212";
-    public static final String Sariñena = "22213";
-    public static final String Secastilla = "22214";
-    public static final String Seira = "22215";
-    public static final String Sena = "22217";
-    public static final String Senés_de_Alcubierre = "22218";
-    public static final String Sesa = "22220";
-    public static final String Sesué = "22221";
-    public static final String Siétamo = "22222";
-    public static final String Sopeira = "22223";
-    public static final String Sotonera_La = "22904";
-    public static final String Tamarite_de_Litera = "22225";
-    public static final String Tardienta = "22226";
-    public static final String Tella_Sin = "22227";
-    public static final String Tierz = "22228";
-    public static final String Tolva = "22229";
-    public static final String Torla_Ordesa = "22230";
-    public static final String Torralba_de_Aragón = "22232";
-    public static final String Torre_la_Ribera = "22233";
-    public static final String Torrente_de_Cinca = "22234";
-    public static final String Torres_de_Alcanadre = "22235";
-    public static final String Torres_de_Barbués = "22236";
-    public static final String Tramaced = "22239";
-    public static final String Valfarta = "22242";
-    public static final String Valle_de_Bardají = "22243";
-    public static final String Valle_de_Hecho = "22901";
-    public static final String Valle_de_Lierp = "22244";
-    public static final String Velilla_de_Cinca = "22245";
-    public static final String Vencillón = "22909";
-    public static final String Viacamp_y_Litera = "22247";
-    public static final String Vicién = "22248";
-    public static final String Villanova = "22249";
-    public static final String Villanúa = "22250";
-    public static final String Villanueva_de_Sigena = "22251";
-    public static final String Yebra_de_Basa = "22252";
-    public static final String Yésero = "22253";
-    public static final String Zaidín = "22254";
-    public static final String Albanchez_de_Mágina = "23001";
-    public static final String Alcalá_la_Real = "23002";
-    public static final String Alcaudete = "23003";
-    public static final String Aldeaquemada = "23004";
-    public static final String Andújar = "23005";
-    public static final String Arjona = "23006";
-    public static final String Arjonilla = "23007";
-    public static final String Arquillos = "23008";
-    public static final String Arroyo_del_Ojanco = "23905";
-    public static final String Baeza = "23009";
-    public static final String Bailén = "23010";
-    public static final String Baños_de_la_Encina = "23011";
-    public static final String Beas_de_Segura = "23012";
-    public static final String Bedmar_y_Garcíez = "23902";
-    public static final String Begíjar = "23014";
-    public static final String Bélmez_de_la_Moraleda = "23015";
-    public static final String Benatae = "23016";
-    public static final String Cabra_del_Santo_Cristo = "23017";
-    public static final String Cambil = "23018";
-    public static final String Campillo_de_Arenas = "23019";
-    public static final String Canena = "23020";
-    public static final String Carboneros = "23021";
-    public static final String Cárcheles = "23901";
-    public static final String Carolina_La = "23024";
-    public static final String Castellar = "23025";
-    public static final String Castillo_de_Locubín = "23026";
-    public static final String Cazalilla = "23027";
-    public static final String Cazorla = "23028";
-    public static final String Chiclana_de_Segura = "23029";
-    public static final String Chilluévar = "23030";
-    public static final String Escañuela = "23031";
-    public static final String Espeluy = "23032";
-    public static final String Frailes = "23033";
-    public static final String Fuensanta_de_Martos = "23034";
-    public static final String Fuerte_del_Rey = "23035";
-    public static final String Génave = "23037";
-    public static final String Guardia_de_Jaén_La = "23038";
-    public static final String Guarromán = "23039";
-    public static final String Higuera_de_Calatrava = "23041";
-    public static final String Hinojares = "23042";
-    public static final String Hornos = "23043";
-    public static final String Huelma = "23044";
-    public static final String Huesa = "23045";
-    public static final String Ibros = "23046";
-    public static final String Iruela_La = "23047";
-    public static final String Iznatoraf = "23048";
-    public static final String Jabalquinto = "23049";
-    public static final String Jaén = "23050";
-    public static final String Jamilena = "23051";
-    public static final String Jimena = "23052";
-    public static final String Jódar = "23053";
-    public static final String Lahiguera = "23040";
-    public static final String Larva = "23054";
-    public static final String Linares = "23055";
-    public static final String Lopera = "23056";
-    public static final String Lupión = "23057";
-    public static final String Mancha_Real = "23058";
-    public static final String Marmolejo = "23059";
-    public static final String Martos = "23060";
-    public static final String Mengíbar = "23061";
-    public static final String Montizón = "23062";
-    public static final String Navas_de_San_Juan = "23063";
-    public static final String Noalejo = "23064";
-    public static final String Orcera = "23065";
-    public static final String Peal_de_Becerro = "23066";
-    public static final String Pegalajar = "23067";
-    public static final String Porcuna = "23069";
-    public static final String Pozo_Alcón = "23070";
-    public static final String Puente_de_Génave = "23071";
-    public static final String Puerta_de_Segura_La = "23072";
-    public static final String Quesada = "23073";
-    public static final String Rus = "23074";
-    public static final String Sabiote = "23075";
-    public static final String Santa_Elena = "23076";
-    public static final String Santiago_de_Calatrava = "23077";
-    public static final String Santiago_Pontones = "23904";
-    public static final String Santisteban_del_Puerto = "23079";
-    public static final String Santo_Tomé = "23080";
-    public static final String Segura_de_la_Sierra = "23081";
-    public static final String Siles = "23082";
-    public static final String Sorihuela_del_Guadalimar = "23084";
-    public static final String Torreblascopedro = "23085";
-    public static final String Torredelcampo = "23086";
-    public static final String Torredonjimeno = "23087";
-    public static final String Torreperogil = "23088";
-    public static final String Torres = "23090";
-    public static final String Torres_de_Albánchez = "23091";
-    public static final String Úbeda = "23092";
-    public static final String Valdepeñas_de_Jaén = "23093";
-    public static final String Vilches = "23094";
-    public static final String Villacarrillo = "23095";
-    public static final String Villanueva_de_la_Reina = "23096";
-    public static final String Villanueva_del_Arzobispo = "23097";
-    public static final String Villardompardo = "23098";
-    public static final String Villares_Los = "23099";
-    public static final String Villarrodrigo = "23101";
-    public static final String Villatorres = "23903";
-    public static final String Acebedo = "24001";
-    public static final String Algadefe = "24002";
-    public static final String Alija_del_Infantado = "24003";
-    public static final String Almanza = "24004";
-    public static final String Antigua_La = "24005";
-    public static final String Ardón = "24006";
-    public static final String Arganza = "24007";
-    public static final String Astorga = "24008";
-    public static final String Balboa = "24009";
-    public static final String Bañeza_La = "24010";
-    public static final String Barjas = "24011";
-    public static final String Barrios_de_Luna_Los = "24012";
-    public static final String Bembibre = "24014";
-    public static final String Benavides = "24015";
-    public static final String Benuza = "24016";
-    public static final String Bercianos_del_Páramo = "24017";
-    public static final String Bercianos_del_Real_Camino = "24018";
-    public static final String Berlanga_del_Bierzo = "24019";
-    public static final String Boca_de_Huérgano = "24020";
-    public static final String Boñar = "24021";
-    public static final String Borrenes = "24022";
-    public static final String Brazuelo = "24023";
-    public static final String Burgo_Ranero_El = "24024";
-    public static final String Burón = "24025";
-    public static final String Bustillo_del_Páramo = "24026";
-    public static final String Cabañas_Raras = "24027";
-    public static final String Cabreros_del_Río = "24028";
-    public static final String Cabrillanes = "24029";
-    public static final String Cacabelos = "24030";
-    public static final String Calzada_del_Coto = "24031";
-    public static final String Campazas = "24032";
-    public static final String Campo_de_Villavidel = "24033";
-    public static final String Camponaraya = "24034";
-    public static final String Cármenes = "24037";
-    public static final String Carracedelo = "24038";
-    public static final String Carrizo = "24039";
-    public static final String Carrocera = "24040";
-    public static final String Carucedo = "24041";
-    public static final String Castilfalé = "24042";
-    public static final String Castrillo_de_Cabrera = "24043";
-    public static final String Castrillo_de_la_Valduerna = "24044";
-    public static final String Castrocalbón = "24046";
-    public static final String Castrocontrigo = "24047";
-    public static final String Castropodame = "24049";
-    public static final String Castrotierra_de_Valmadrigal = "24050";
-    public static final String Cea = "24051";
-    public static final String Cebanico = "24052";
-    public static final String Cebrones_del_Río = "24053";
-    public static final String Chozas_de_Abajo = "24065";
-    public static final String Cimanes_de_la_Vega = "24054";
-    public static final String Cimanes_del_Tejar = "24055";
-    public static final String Cistierna = "24056";
-    public static final String Congosto = "24057";
-    public static final String Corbillos_de_los_Oteros = "24058";
-    public static final String Corullón = "24059";
-    public static final String Crémenes = "24060";
-    public static final String Cuadros = "24061";
-    public static final String Cubillas_de_los_Oteros = "24062";
-    public static final String Cubillas_de_Rueda = "24063";
-    public static final String Cubillos_del_Sil = "24064";
-    public static final String Destriana = "24066";
-    public static final String Encinedo = "24067";
-    public static final String Ercina_La = "24068";
-    public static final String Escobar_de_Campos = "24069";
-    public static final String Fabero = "24070";
-    public static final String Folgoso_de_la_Ribera = "24071";
-    public static final String Fresno_de_la_Vega = "24073";
-    public static final String Fuentes_de_Carbajal = "24074";
-    public static final String Garrafe_de_Torío = "24076";
-    public static final String Gordaliza_del_Pino = "24077";
-    public static final String Gordoncillo = "24078";
-    public static final String Gradefes = "24079";
-    public static final String Grajal_de_Campos = "24080";
-    public static final String Gusendos_de_los_Oteros = "24081";
-    public static final String Hospital_de_Órbigo = "24082";
-    public static final String Igüeña = "24083";
-    public static final String Izagre = "24084";
-    public static final String Joarilla_de_las_Matas = "24086";
-    public static final String Laguna_Dalga = "24087";
-    public static final String Laguna_de_Negrillos = "24088";
-    public static final String León = "24089";
-    public static final String Llamas_de_la_Ribera = "24092";
-    public static final String Lucillo = "24090";
-    public static final String Luyego = "24091";
-    public static final String Magaz_de_Cepeda = "24093";
-    public static final String Mansilla_de_las_Mulas = "24094";
-    public static final String Mansilla_Mayor = "24095";
-    public static final String Maraña = "24096";
-    public static final String Matadeón_de_los_Oteros = "24097";
-    public static final String Matallana_de_Torío = "24098";
-    public static final String Matanza = "24099";
-    public static final String Molinaseca = "24100";
-    public static final String Murias_de_Paredes = "24101";
-    public static final String Noceda_del_Bierzo = "24102";
-    public static final String Oencia = "24103";
-    public static final String Omañas_Las = "24104";
-    public static final String Onzonilla = "24105";
-    public static final String Oseja_de_Sajambre = "24106";
-    public static final String Pajares_de_los_Oteros = "24107";
-    public static final String Palacios_de_la_Valduerna = "24108";
-    public static final String Palacios_del_Sil = "24109";
-    public static final String Páramo_del_Sil = "24110";
-    public static final String Peranzanes = "24112";
-    public static final String Pobladura_de_Pelayo_García = "24113";
-    public static final String Pola_de_Gordón_La = "24114";
-    public static final String Ponferrada = "24115";
-    public static final String Posada_de_Valdeón = "24116";
-    public static final String Pozuelo_del_Páramo = "24117";
-    public static final String Prado_de_la_Guzpeña = "24118";
-    public static final String Priaranza_del_Bierzo = "24119";
-    public static final String Prioro = "24120";
-    public static final String Puebla_de_Lillo = "24121";
-    public static final String Puente_de_Domingo_Flórez = "24122";
-    public static final String Quintana_del_Castillo = "24123";
-    public static final String Quintana_del_Marco = "24124";
-    public static final String Quintana_y_Congosto = "24125";
-    public static final String Regueras_de_Arriba = "24127";
-    public static final String Reyero = "24129";
-    public static final String Riaño = "24130";
-    public static final String Riego_de_la_Vega = "24131";
-    public static final String Riello = "24132";
-    public static final String Rioseco_de_Tapia = "24133";
-    public static final String Robla_La = "24134";
-    public static final String Roperuelos_del_Páramo = "24136";
-    public static final String Sabero = "24137";
-    public static final String Sahagún = "24139";
-    public static final String San_Adrián_del_Valle = "24141";
-    public static final String San_Andrés_del_Rabanedo = "24142";
-    public static final String San_Cristóbal_de_la_Polantera = "24144";
-    public static final String San_Emiliano = "24145";
-    public static final String San_Esteban_de_Nogales = "24146";
-    public static final String San_Justo_de_la_Vega = "24148";
-    public static final String San_Millán_de_los_Caballeros = "24149";
-    public static final String San_Pedro_Bercianos = "24150";
-    public static final String Sancedo = "24143";
-    public static final String Santa_Colomba_de_Curueño = "24151";
-    public static final String Santa_Colomba_de_Somoza = "24152";
-    public static final String Santa_Cristina_de_Valmadrigal = "24153";
-    public static final String Santa_Elena_de_Jamuz = "24154";
-    public static final String Santa_María_de_la_Isla = "24155";
-    public static final String Santa_María_de_Ordás = "24158";
-    public static final String Santa_María_del_Monte_de_Cea = "24156";
-    public static final String Santa_María_del_Páramo = "24157";
-    public static final String Santa_Marina_del_Rey = "24159";
-    public static final String Santas_Martas = "24160";
-    public static final String Santiago_Millas = "24161";
-    public static final String Santovenia_de_la_Valdoncina = "24162";
-    public static final String Sariegos = "24163";
-    public static final String Sena_de_Luna = "24164";
-    public static final String Sobraddo = "24165";
-    public static final String Soto_de_la_Vega = "24166";
-    public static final String Soto_y_Amío = "24167";
-    public static final String Toral_de_los_Guzmanes = "24168";
-    public static final String Toral_de_los_Vados = "24206";
-    public static final String Toreno = "24169";
-    public static final String Torre_del_Bierzo = "24170";
-    public static final String Trabadelo = "24171";
-    public static final String Truchas = "24172";
-    public static final String Turcia = "24173";
-    public static final String Urdiales_del_Páramo = "24174";
-    public static final String Val_de_San_Lorenzo = "24185";
-    public static final String Valdefresno = "24175";
-    public static final String Valdefuentes_del_Páramo = "24176";
-    public static final String Valdelugueros = "24177";
-    public static final String Valdemora = "24178";
-    public static final String Valdepiélago = "24179";
-    public static final String Valdepolo = "24180";
-    public static final String Valderas = "24181";
-    public static final String Valderrey = "24182";
-    public static final String Valderrueda = "24183";
-    public static final String Valdesamario = "24184";
-    public static final String Valdevimbre = "24187";
-    public static final String Valencia_de_Don_Juan = "24188";
-    public static final String Valle_de_Ancares = "24036";
-    public static final String Vallecillo = "24191";
-    public static final String Valverde_de_la_Virgen = "24189";
-    public static final String Valverde_Enrique = "24190";
-    public static final String Vecilla_La = "24193";
-    public static final String Vega_de_Espinareda = "24196";
-    public static final String Vega_de_Infanzones = "24197";
-    public static final String Vega_de_Valcarce = "24198";
-    public static final String Vegacervera = "24194";
-    public static final String Vegaquemada = "24199";
-    public static final String Vegas_del_Condado = "24201";
-    public static final String Villablino = "24202";
-    public static final String Villabraz = "24203";
-    public static final String Villadangos_del_Páramo = "24205";
-    public static final String Villademor_de_la_Vega = "24207";
-    public static final String Villafranca_del_Bierzo = "24209";
-    public static final String Villagatón = "24210";
-    public static final String Villamandos = "24211";
-    public static final String Villamanín = "24901";
-    public static final String Villamañán = "24212";
-    public static final String Villamartín_de_Don_Sancho = "24213";
-    public static final String Villamejil = "24214";
-    public static final String Villamol = "24215";
-    public static final String Villamontán_de_la_Valduerna = "24216";
-    public static final String Villamoratiel_de_las_Matas = "24217";
-    public static final String Villanueva_de_las_Manzanas = "24218";
-    public static final String Villaobispo_de_Otero = "24219";
-    public static final String Villaornate_y_Castro = "24902";
-    public static final String Villaquejida = "24221";
-    public static final String Villaquilambre = "24222";
-    public static final String Villarejo_de_Órbigo = "24223";
-    public static final String Villares_de_Órbigo = "24224";
-    public static final String Villasabariego = "24225";
-    public static final String Villaselán = "24226";
-    public static final String Villaturiel = "24227";
-    public static final String Villazala = "24228";
-    public static final String Villazanzo_de_Valderaduey = "24229";
-    public static final String Zotes_del_Páramo = "24230";
-    public static final String Abella_de_la_Conca = "25001";
-    public static final String Àger = "25002";
-    public static final String Agramunt = "25003";
-    public static final String Aitona = "25038";
-    public static final String Alamús_Els = "25004";
-    public static final String Alàs_i_Cerc = "25005";
-    public static final String Albagés = "25006";
-    public static final String Albatàrrec = "25007";
-    public static final String Albesa = "25008";
-    public static final String Albi = "25009";
-    public static final String Alcanó = "25010";
-    public static final String Alcarràs = "25011";
-    public static final String Alcoletge = "25012";
-    public static final String Alfarràs = "25013";
-    public static final String Alfés = "25014";
-    public static final String Algerri = "25015";
-    public static final String Alguaire = "25016";
-    public static final String Alins = "25017";
-    public static final String Almacelles = "25019";
-    public static final String Almatret = "25020";
-    public static final String Almenar = "25021";
-    public static final String Alòs_de_Balaguer = "25022";
-    public static final String Alpicat = "25023";
-    public static final String Alt_Àneu = "25024";
-    public static final String Anglesola = "25027";
-    public static final String Arbeca = "25029";
-    public static final String Arres = "25031";
-    public static final String Arsèguel = "25032";
-    public static final String Artesa_de_Lleida = "25033";
-    public static final String Artesa_de_Segre = "25034";
-    public static final String Aspa = "25036";
-    public static final String Avellanes_i_Santa_Linya_Les = "25037";
-    public static final String Baix_Pallars = "25039";
-    public static final String Balaguer = "25040";
-    public static final String Barbens = "25041";
-    public static final String Baronia_de_Rialb_La = "25042";
-    public static final String Bassella = "25044";
-    public static final String Bausen = "25045";
-    public static final String Belianes = "25046";
-    public static final String Bellaguarda = "25170";
-    public static final String Bellcaire_dUrgell = "25047";
-    public static final String Bell_lloc_dUrgell = "25048";
-    public static final String Bellmunt_dUrgell = "25049";
-    public static final String Bellpuig = "25050";
-    public static final String Bellver_de_Cerdanya = "25051";
-    public static final String Bellvís = "25052";
-    public static final String Benavent_de_Segrià = "25053";
-    public static final String Biosca = "25055";
-    public static final String Bòrdes_Es = "25057";
-    public static final String Borges_Blanques_Les = "25058";
-    public static final String Bossòst = "25059";
-    public static final String Bovera = "25056";
-    public static final String Cabanabona = "25060";
-    public static final String Cabó = "25061";
-    public static final String Camarasa = "25062";
-    public static final String Canejan = "25063";
-    public static final String Castell_de_Mur = "25904";
-    public static final String Castellar_de_la_Ribera = "25064";
-    public static final String Castelldans = "25067";
-    public static final String Castellnou_de_Seana = "25068";
-    public static final String Castelló_de_Farfanya = "25069";
-    public static final String Castellserà = "25070";
-    public static final String Cava = "25071";
-    public static final String Cervera = "25072";
-    public static final String Cervià_de_les_Garrigues = "25073";
-    public static final String Ciutadilla = "25074";
-    public static final String Clariana_de_Cardener = "25075";
-    public static final String Cogul_El = "25076";
-    public static final String Coll_de_Nargó = "25077";
-    public static final String Coma_i_la_Pedra_La = "25163";
-    public static final String Conca_de_Dalt = "25161";
-    public static final String Corbins = "25078";
-    public static final String Cubells = "25079";
-    public static final String Espluga_Calba = "25081";
-    public static final String Espot = "25082";
-    public static final String Estamariu = "25088";
-    public static final String Estaràs = "25085";
-    public static final String Esterri_dÀneu = "25086";
-    public static final String Esterri_de_Cardós = "25087";
-    public static final String Farrera = "25089";
-    public static final String Fígols_i_Alinyà = "25908";
-    public static final String Floresta_La = "25092";
-    public static final String Fondarella = "25093";
-    public static final String Foradada = "25094";
-    public static final String Fuliola_La = "25096";
-    public static final String Fulleda = "25097";
-    public static final String Gavet_de_la_Conca = "25098";
-    public static final String Gimenells_i_el_Pla_de_la_Font = "25912";
-    public static final String Golmés = "25099";
-    public static final String Gósol = "25100";
-    public static final String Granadella_La = "25101";
-    public static final String Granja_dEscarp_La = "25102";
-    public static final String Granyanella = "25103";
-    public static final String Granyena_de_les_Garrigues = "25105";
-    public static final String Granyena_de_Segarra = "25104";
-    public static final String Guimerà = "25109";
-    public static final String Guingueta_dÀneu_La = "25903";
-    public static final String Guissona = "25110";
-    public static final String Guixers = "25111";
-    public static final String Isona_i_Conca_Dellà = "25115";
-    public static final String Ivars_de_Noguera = "25112";
-    public static final String Ivars_dUrgell = "25113";
-    public static final String Ivorra = "25114";
-    public static final String Josa_i_Tuixén = "25910";
-    public static final String Juncosa = "25118";
-    public static final String Juneda = "25119";
-    public static final String Les = "25121";
-    public static final String Linyola = "25122";
-    public static final String Lladorre = "25123";
-    public static final String Lladurs = "25124";
-    public static final String Llardecans = "25125";
-    public static final String Llavorsí = "25126";
-    public static final String Lleida = "25120";
-    public static final String Lles_de_Cerdanya = "25127";
-    public static final String Llimiana = "25128";
-    public static final String Llobera = "25129";
-    public static final String Maials = "25133";
-    public static final String Maldà = "25130";
-    public static final String Massalcoreig = "25131";
-    public static final String Massoteres = "25132";
-    public static final String Menàrguens = "25134";
-    public static final String Miralcamp = "25135";
-    public static final String Mollerussa = "25137";
-    public static final String Molsosa_La = "25136";
-    public static final String Montellà_i_Martinet = "25139";
-    public static final String Montferrer_i_Castellbò = "25140";
-    public static final String Montgai = "25138";
-    public static final String Montoliu_de_Lleida = "25142";
-    public static final String Montoliu_de_Segarra = "25141";
-    public static final String Montornès_de_Segarra = "25143";
-    public static final String Nalec = "25145";
-    public static final String Naut_Aran = "25025";
-    public static final String Navès = "25146";
-    public static final String Odèn = "25148";
-    public static final String Oliana = "25149";
-    public static final String Oliola = "25150";
-    public static final String Olius = "25151";
-    public static final String Oluges_Les = "25152";
-    public static final String Omellons_Els = "25153";
-    public static final String Omells_de_na_Gaia_Els = "25154";
-    public static final String Organyà = "25155";
-    public static final String Os_de_Balaguer = "25156";
-    public static final String Ossó_de_Sió = "25157";
-    public static final String Palau_dAnglesola_El = "25158";
-    public static final String Penelles = "25164";
-    public static final String Peramola = "25165";
-    public static final String Pinell_de_Solsonès = "25166";
-    public static final String Pinós = "25167";
-    public static final String Plans_de_Sió_Els = "25911";
-    public static final String Poal_El = "25168";
-    public static final String Pobla_de_Cérvoles_La = "25169";
-    public static final String Pobla_de_Segur_La = "25171";
-    public static final String Pont_de_Bar_El = "25030";
-    public static final String Pont_de_Suert_El = "25173";
-    public static final String Ponts = "25172";
-    public static final String Portella_La = "25174";
-    public static final String Prats_i_Sansor = "25175";
-    public static final String Preixana = "25176";
-    public static final String Preixens = "25177";
-    public static final String Prullans = "25179";
-    public static final String Puiggròs = "25180";
-    public static final String Puigverd_dAgramunt = "25181";
-    public static final String Puigverd_de_Lleida = "25182";
-    public static final String Rialp = "25183";
-    public static final String Ribera_dOndara = "25905";
-    public static final String Ribera_dUrgellet = "25185";
-    public static final String Riner = "25186";
-    public static final String Riu_de_Cerdanya = "25913";
-    public static final String Rosselló = "25189";
-    public static final String Salàs_de_Pallars = "25190";
-    public static final String Sanaüja = "25191";
-    public static final String Sant_Esteve_de_la_Sarga = "25196";
-    public static final String Sant_Guim_de_Freixenet = "25192";
-    public static final String Sant_Guim_de_la_Plana = "25197";
-    public static final String Sant_Llorenç_de_Morunys = "25193";
-    public static final String Sant_Martí_de_Riucorb = "25902";
-    public static final String Sant_Ramon = "25194";
-    public static final String Sarroca_de_Bellera = "25201";
-    public static final String Sarroca_de_Lleida = "25200";
-    public static final String Senterada = "25202";
-    public static final String Sentiu_de_Sió_La = "25035";
-    public static final String Seròs = "25204";
-    public static final String Seu_dUrgell_La = "25203";
-    public static final String Sidamon = "25205";
-    public static final String Soleràs_El = "25206";
-    public static final String Solsona = "25207";
-    public static final String Soriguera = "25208";
-    public static final String Sort = "25209";
-    public static final String Soses = "25210";
-    public static final String Sudanell = "25211";
-    public static final String Sunyer = "25212";
-    public static final String Talarn = "25215";
-    public static final String Talavera = "25216";
-    public static final String Tàrrega = "25217";
-    public static final String Tarrés = "25218";
-    public static final String Tarroja_de_Segarra = "25219";
-    public static final String Térmens = "25220";
-    public static final String Tírvia = "25221";
-    public static final String Tiurana = "25222";
-    public static final String Torà = "25223";
-    public static final String Torms_Els = "25224";
-    public static final String Tornabous = "25225";
-    public static final String Torre_de_Cabdella_La = "25227";
-    public static final String Torrebesses = "25226";
-    public static final String Torrefarrera = "25228";
-    public static final String Torrefeta_i_Florejacs = "25907";
-    public static final String Torregrossa = "25230";
-    public static final String Torrelameu = "25231";
-    public static final String Torres_de_Segre = "25232";
-    public static final String Torre_serona = "25233";
-    public static final String Tremp = "25234";
-    public static final String Vall_de_Boí_La = "25043";
-    public static final String Vall_de_Cardós = "25901";
-    public static final String Vallbona_de_les_Monges = "25238";
-    public static final String Vallfogona_de_Balaguer = "25240";
-    public static final String Valls_dAguilar_Les = "25906";
-    public static final String Valls_de_Valira_Les = "25239";
-    public static final String Vansa_i_Fórnols_La = "25909";
-    public static final String Verdú = "25242";
-    public static final String Vielha_e_Mijaran = "25243";
-    public static final String Vilagrassa = "25244";
-    public static final String Vilaller = "25245";
-    public static final String Vilamòs = "25247";
-    public static final String Vilanova_de_Bellpuig = "25248";
-    public static final String Vilanova_de_la_Barca = "25254";
-    public static final String Vilanova_de_lAguda = "25249";
-    public static final String Vilanova_de_Meià = "25250";
-    public static final String Vilanova_de_Segrià = "25251";
-    public static final String Vila_sana = "25252";
-    public static final String Vilosell_El = "25253";
-    public static final String Vinaixa = "25255";
-    public static final String Ábalos = "26001";
-    public static final String Agoncillo = "26002";
-    public static final String Aguilar_del_Río_Alhama = "26003";
-    public static final String Ajamil_de_Cameros = "26004";
-    public static final String Albelda_de_Iregua = "26005";
-    public static final String Alberite = "26006";
-    public static final String Alcanadre = "26007";
-    public static final String Aldeanueva_de_Ebro = "26008";
-    public static final String Alesanco = "26009";
-    public static final String Alesón = "26010";
-    public static final String Alfaro = "26011";
-    public static final String Almarza_de_Cameros = "26012";
-    public static final String Anguciana = "26013";
-    public static final String Anguiano = "26014";
-    public static final String Arenzana_de_Abajo = "26015";
-    public static final String Arenzana_de_Arriba = "26016";
-    public static final String Arnedillo = "26017";
-    public static final String Arnedo = "26018";
-    public static final String Arrúbal = "26019";
-    public static final String Ausejo = "26020";
-    public static final String Autol = "26021";
-    public static final String Azofra = "26022";
-    public static final String Badarán = "26023";
-    public static final String Bañares = "26024";
-    public static final String Baños_de_Río_Tobía = "26026";
-    public static final String Baños_de_Rioja = "26025";
-    public static final String Berceo = "26027";
-    public static final String Bergasa = "26028";
-    public static final String Bergasillas_Bajera = "26029";
-    public static final String Bezares = "26030";
-    public static final String Bobadilla = "26031";
-    public static final String Brieva_de_Cameros = "26032";
-    public static final String Briñas = "26033";
-    public static final String Briones = "26034";
-    public static final String Cabezón_de_Cameros = "26035";
-    public static final String Calahorra = "26036";
-    public static final String Camprovín = "26037";
-    public static final String Canales_de_la_Sierra = "26038";
-    public static final String Canillas_de_Río_Tuerto = "26039";
-    public static final String Cañas = "26040";
-    public static final String Cárdenas = "26041";
-    public static final String Casalarreina = "26042";
-    public static final String Castañares_de_Rioja = "26043";
-    public static final String Castroviejo = "26044";
-    public static final String Cellorigo = "26045";
-    public static final String Cenicero = "26046";
-    public static final String Cervera_del_Río_Alhama = "26047";
-    public static final String Cidamón = "26048";
-    public static final String Cihuri = "26049";
-    public static final String Cirueña = "26050";
-    public static final String Clavijo = "26051";
-    public static final String Cordovín = "26052";
-    public static final String Corera = "26053";
-    public static final String Cornago = "26054";
-    public static final String Corporales = "26055";
-    public static final String Cuzcurrita_de_Río_Tirón = "26056";
-    public static final String Daroca_de_Rioja = "26057";
-    public static final String Enciso = "26058";
-    public static final String Entrena = "26059";
-    public static final String Estollo = "26060";
-    public static final String Ezcaray = "26061";
-    public static final String Foncea = "26062";
-    public static final String Fonzaleche = "26063";
-    public static final String Fuenmayor = "26064";
-    public static final String Galbárruli = "26065";
-    public static final String Galilea = "26066";
-    public static final String Gallinero_de_Cameros = "26067";
-    public static final String Gimileo = "26068";
-    public static final String Grañón = "26069";
-    public static final String Grávalos = "26070";
-    public static final String Haro = "26071";
-    public static final String Herce = "26072";
-    public static final String Herramélluri = "26073";
-    public static final String Hervías = "26074";
-    public static final String Hormilla = "26075";
-    public static final String Hormilleja = "26076";
-    public static final String Hornillos_de_Cameros = "26077";
-    public static final String Hornos_de_Moncalvillo = "26078";
-    public static final String Huércanos = "26079";
-    public static final String Igea = "26080";
-    public static final String Jalón_de_Cameros = "26081";
-    public static final String Laguna_de_Cameros = "26082";
-    public static final String Lagunilla_del_Jubera = "26083";
-    public static final String Lardero = "26084";
-    public static final String Ledesma_de_la_Cogolla = "26086";
-    public static final String Leiva = "26087";
-    public static final String Leza_de_Río_Leza = "26088";
-    public static final String Logroño = "26089";
-    public static final String Lumbreras_de_Cameros = "26091";
-    public static final String Manjarrés = "26092";
-    public static final String Mansilla_de_la_Sierra = "26093";
-    public static final String Manzanares_de_Rioja = "26094";
-    public static final String Matute = "26095";
-    public static final String Medrano = "26096";
-    public static final String Munilla = "26098";
-    public static final String Murillo_de_Río_Leza = "26099";
-    public static final String Muro_de_Aguas = "26100";
-    public static final String Muro_en_Cameros = "26101";
-    public static final String Nájera = "26102";
-    public static final String Nalda = "26103";
-    public static final String Navajún = "26104";
-    public static final String Navarrete = "26105";
-    public static final String Nestares = "26106";
-    public static final String Nieva_de_Cameros = "26107";
-    public static final String Ochánduri = "26109";
-    public static final String Ocón = "26108";
-    public static final String Ojacastro = "26110";
-    public static final String Ollauri = "26111";
-    public static final String Ortigosa_de_Cameros = "26112";
-    public static final String Pazuengos = "26113";
-    public static final String Pedroso = "26114";
-    public static final String Pinillos = "26115";
-    public static final String Pradejón = "26117";
-    public static final String Pradillo = "26118";
-    public static final String Préjano = "26119";
-    public static final String Quel = "26120";
-    public static final String Rabanera = "26121";
-    public static final String Rasillo_de_Cameros_El = "26122";
-    public static final String Redal_El = "26123";
-    public static final String Ribafrecha = "26124";
-    public static final String Rincón_de_Soto = "26125";
-    public static final String Robres_del_Castillo = "26126";
-    public static final String Rodezno = "26127";
-    public static final String Sajazarra = "26128";
-    public static final String San_Asensio = "26129";
-    public static final String San_Millán_de_la_Cogolla = "26130";
-    public static final String San_Millán_de_Yécora = "26131";
-    public static final String San_Román_de_Cameros = "26132";
-    public static final String San_Torcuato = "26139";
-    public static final String San_Vicente_de_la_Sonsierra = "26142";
-    public static final String Santa_Coloma = "26134";
-    public static final String Santa_Engracia_del_Jubera = "26135";
-    public static final String Santa_Eulalia_Bajera = "26136";
-    public static final String Santo_Domingo_de_la_Calzada = "26138";
-    public static final String Santurde_de_Rioja = "26140";
-    public static final String Santurdejo = "26141";
-    public static final String Sojuela = "26143";
-    public static final String Sorzano = "26144";
-    public static final String Sotés = "26145";
-    public static final String Soto_en_Cameros = "26146";
-    public static final String Terroba = "26147";
-    public static final String Tirgo = "26148";
-    public static final String Tobía = "26149";
-    public static final String Tormantos = "26150";
-    public static final String Torre_en_Cameros = "26153";
-    public static final String Torrecilla_en_Cameros = "26151";
-    public static final String Torrecilla_sobre_Alesanco = "26152";
-    public static final String Torremontalbo = "26154";
-    public static final String Treviana = "26155";
-    public static final String Tricio = "26157";
-    public static final String Tudelilla = "26158";
-    public static final String Uruñuela = "26160";
-    public static final String Valdemadera = "26161";
-    public static final String Valgañón = "26162";
-    public static final String Ventosa = "26163";
-    public static final String Ventrosa = "26164";
-    public static final String Viguera = "26165";
-    public static final String Villalba_de_Rioja = "26166";
-    public static final String Villalobar_de_Rioja = "26167";
-    public static final String Villamediana_de_Iregua = "26168";
-    public static final String Villanueva_de_Cameros = "26169";
-    public static final String Villar_de_Arnedo_El = "26170";
-    public static final String Villar_de_Torre = "26171";
-    public static final String Villarejo = "26172";
-    public static final String Villarroya = "26173";
-    public static final String Villarta_Quintana = "26174";
-    public static final String Villavelayo = "26175";
-    public static final String Villaverde_de_Rioja = "26176";
-    public static final String Villoslada_de_Cameros = "26177";
-    public static final String Viniegra_de_Abajo = "26178";
-    public static final String Viniegra_de_Arriba = "26179";
-    public static final String Zarratón = "26180";
-    public static final String Zarzosa = "26181";
-    public static final String Zorraquín = "26183";
-    public static final String Abadín = "27001";
-    public static final String Alfoz = "27002";
-    public static final String Antas_de_Ulla = "27003";
-    public static final String Baleira = "27004";
-    public static final String Baralla = "27901";
-    public static final String Barreiros = "27005";
-    public static final String Becerreá = "27006";
-    public static final String Begonte = "27007";
-    public static final String Bóveda = "27008";
-    public static final String Burela = "27902";
-    public static final String Carballedo = "27009";
-    public static final String Castro_de_Rei = "27010";
-    public static final String Castroverde = "27011";
-    public static final String Cervantes = "27012";
-    public static final String Cervo = "27013";
-    public static final String Chantada = "27016";
-    public static final String Corgo_O = "27014";
-    public static final String Cospeito = "27015";
-    public static final String Folgoso_do_Courel = "27017";
-    public static final String Fonsagrada_A = "27018";
-    public static final String Foz = "27019";
-    public static final String Friol = "27020";
-    public static final String Guitiriz = "27022";
-    public static final String Guntín = "27023";
-    public static final String Incio_O = "27024";
-    public static final String Láncara = "27026";
-    public static final String Lourenzá = "27027";
-    public static final String Lugo = "27028";
-    public static final String Meira = "27029";
-    public static final String Mondoñedo = "27030";
-    public static final String Monforte_de_Lemos = "27031";
-    public static final String Monterroso = "27032";
-    public static final String Muras = "27033";
-    public static final String Navia_de_Suarna = "27034";
-    public static final String Negueira_de_Muñiz = "27035";
-    public static final String Nogais_As = "27037";
-    public static final String Ourol = "27038";
-    public static final String Outeiro_de_Rei = "27039";
-    public static final String Palas_de_Rei = "27040";
-    public static final String Pantón = "27041";
-    public static final String Paradela = "27042";
-    public static final String Páramo_O = "27043";
-    public static final String Pastoriza_A = "27044";
-    public static final String Pedrafita_do_Cebreiro = "27045";
-    public static final String Pobra_do_Brollón_A = "27047";
-    public static final String Pol = "27046";
-    public static final String Pontenova_A = "27048";
-    public static final String Portomarín = "27049";
-    public static final String Quiroga = "27050";
-    public static final String Rábade = "27056";
-    public static final String Ribadeo = "27051";
-    public static final String Ribas_de_Sil = "27052";
-    public static final String Ribeira_de_Piquín = "27053";
-    public static final String Riotorto = "27054";
-    public static final String Samos = "27055";
-    public static final String Sarria = "27057";
-    public static final String Saviñao_O = "27058";
-    public static final String Sober = "27059";
-    public static final String Taboada = "27060";
-    public static final String Trabada = "27061";
-    public static final String Triacastela = "27062";
-    public static final String Valadouro_O = "27063";
-    public static final String Vicedo_O = "27064";
-    public static final String Vilalba = "27065";
-    public static final String Viveiro = "27066";
-    public static final String Xermade = "27021";
-    public static final String Xove = "27025";
-    public static final String Acebeda_La = "28001";
-    public static final String Ajalvir = "28002";
-    public static final String Alameda_del_Valle = "28003";
-    public static final String Álamo_El = "28004";
-    public static final String Alcalá_de_Henares = "28005";
-    public static final String Alcobendas = "28006";
-    public static final String Alcorcón = "28007";
-    public static final String Aldea_del_Fresno = "28008";
-    public static final String Algete = "28009";
-    public static final String Alpedrete = "28010";
-    public static final String Ambite = "28011";
-    public static final String Anchuelo = "28012";
-    public static final String Aranjuez = "28013";
-    public static final String Arganda_del_Rey = "28014";
-    public static final String Arroyommolinos = "28015";
-    public static final String Atazar_El = "28016";
-    public static final String Batres = "28017";
-    public static final String Becerril_de_la_Sierra = "28018";
-    public static final String Belmonte_de_Tajo = "28019";
-    public static final String Berrueco_El = "28021";
-    public static final String Berzosa_del_Lozoya = "28020";
-    public static final String Boadilla_del_Monte = "28022";
-    public static final String Boalo_El = "28023";
-    public static final String Braojos = "28024";
-    public static final String Brea_de_Tajo = "28025";
-    public static final String Brunete = "28026";
-    public static final String Buitrago_del_Lozoya = "28027";
-    public static final String Bustarviejo = "28028";
-    public static final String Cabanillas_de_la_Sierra = "28029";
-    public static final String Cabrera_La = "28030";
-    public static final String Cadalso_de_los_Vidrios = "28031";
-    public static final String Camarma_de_Esteruelas = "28032";
-    public static final String Campo_Real = "28033";
-    public static final String Canencia = "28034";
-    public static final String Carabaña = "28035";
-    public static final String Casarrubuelos = "28036";
-    public static final String Cenicientos = "28037";
-    public static final String Cercedilla = "28038";
-    public static final String Cervera_de_Buitrago = "28039";
-    public static final String Chapinería = "28051";
-    public static final String Chinchón = "28052";
-    public static final String Ciempozuelos = "28040";
-    public static final String Cobeña = "28041";
-    public static final String Collado_Mediano = "28046";
-    public static final String Collado_Villalba = "28047";
-    public static final String Colmenar_de_Oreja = "28043";
-    public static final String Colmenar_del_Arroyo = "28042";
-    public static final String Colmenar_Viejo = "28045";
-    public static final String Colmenarejo = "28044";
-    public static final String Corpa = "28048";
-    public static final String Coslada = "28049";
-    public static final String Cubas_de_la_Sagra = "28050";
-    public static final String Daganzo_de_Arriba = "28053";
-    public static final String Escorial_El = "28054";
-    public static final String Estremera = "28055";
-    public static final String Fresnedillas_de_la_Oliva = "28056";
-    public static final String Fresno_de_Torote = "28057";
-    public static final String Fuenlabrada = "28058";
-    public static final String Fuente_el_Saz_de_Jarama = "28059";
-    public static final String Fuentidueña_de_Tajo = "28060";
-    public static final String Galapagar = "28061";
-    public static final String Garganta_de_los_Montes = "28062";
-    public static final String Gargantilla_del_Lozoya_y_Pinilla_de_Buitrago = "28063";
-    public static final String Gascones = "28064";
-    public static final String Getafe = "28065";
-    public static final String Griñón = "28066";
-    public static final String Guadalix_de_la_Sierra = "28067";
-    public static final String Guadarrama = "28068";
-    public static final String Hiruela_La = "28069";
-    public static final String Horcajo_de_la_Sierra_Aoslos = "28070";
-    public static final String Horcajuelo_de_la_Sierra = "28071";
-    public static final String Hoyo_de_Manzanares = "28072";
-    public static final String Humanes_de_Madrid = "28073";
-    public static final String Leganés = "28074";
-    public static final String Loeches = "28075";
-    public static final String Lozoya = "28076";
-    public static final String Lozoyuela_Navas_Sieteiglesias = "28901";
-    public static final String Madarcos = "28078";
-    public static final String Madrid = "28079";
-    public static final String Majadahonda = "28080";
-    public static final String Manzanares_el_Real = "28082";
-    public static final String Meco = "28083";
-    public static final String Mejorada_del_Campo = "28084";
-    public static final String Miraflores_de_la_Sierra = "28085";
-    public static final String Molar_El = "28086";
-    public static final String Molinos_Los = "28087";
-    public static final String Montejo_de_la_Sierra = "28088";
-    public static final String Moraleja_de_Enmedio = "28089";
-    public static final String Moralzarzal = "28090";
-    public static final String Morata_de_Tajuña = "28091";
-    public static final String Móstoles = "28092";
-    public static final String Navacerrada = "28093";
-    public static final String Navalafuente = "28094";
-    public static final String Navalagamella = "28095";
-    public static final String Navalcarnero = "28096";
-    public static final String Navarredonda_y_San_Mamés = "28097";
-    public static final String Navas_del_Rey = "28099";
-    public static final String Nuevo_Baztán = "28100";
-    public static final String Olmeda_de_las_Fuentes = "28101";
-    public static final String Orusco_de_Tajuña = "28102";
-    public static final String Paracuellos_de_Jarama = "28104";
-    public static final String Parla = "28106";
-    public static final String Patones = "28107";
-    public static final String Pedrezuela = "28108";
-    public static final String Pelayos_de_la_Presa = "28109";
-    public static final String Perales_de_Tajuña = "28110";
-    public static final String Pezuela_de_las_Torres = "28111";
-    public static final String Pinilla_del_Valle = "28112";
-    public static final String Pinto = "28113";
-    public static final String Piñuécar_Gandullas = "28114";
-    public static final String Pozuelo_de_Alarcón = "28115";
-    public static final String Pozuelo_del_Rey = "28116";
-    public static final String Prádena_del_Rincón = "28117";
-    public static final String Puebla_de_la_Sierra = "28118";
-    public static final String Puentes_Viejas = "28902";
-    public static final String Quijorna = "28119";
-    public static final String Rascafría = "28120";
-    public static final String Redueña = "28121";
-    public static final String Ribatejada = "28122";
-    public static final String Rivas_Vaciamadrid = "28123";
-    public static final String Robledillo_de_la_Jara = "28124";
-    public static final String Robledo_de_Chavela = "28125";
-    public static final String Robregordo = "28126";
-    public static final String Rozas_de_Madrid_Las = "28127";
-    public static final String Rozas_de_Puerto_Real = "28128";
-    public static final String San_Agustín_del_Guadalix = "28129";
-    public static final String San_Fernando_de_Henares = "28130";
-    public static final String San_Lorenzo_de_El_Escorial = "28131";
-    public static final String San_Martín_de_la_Vega = "28132";
-    public static final String San_Martín_de_Valdeiglesias = "28133";
-    public static final String San_Sebastián_de_los_Reyes = "28134";
-    public static final String Santa_María_de_la_Alameda = "28135";
-    public static final String Santorcaz = "28136";
-    public static final String Santos_de_la_Humosa_Los = "28137";
-    public static final String Serna_del_Monte_La = "28138";
-    public static final String Serranillos_del_Valle = "28140";
-    public static final String Sevilla_la_Nueva = "28141";
-    public static final String Somosierra = "28143";
-    public static final String Soto_del_Real = "28144";
-    public static final String Talamanca_de_Jarama = "28145";
-    public static final String Tielmes = "28146";
-    public static final String Titulcia = "28147";
-    public static final String Torrejón_de_Ardoz = "28148";
-    public static final String Torrejón_de_la_Calzada = "28149";
-    public static final String Torrejón_de_Velasco = "28150";
-    public static final String Torrelaguna = "28151";
-    public static final String Torrelodones = "28152";
-    public static final String Torremocha_de_Jarama = "28153";
-    public static final String Torres_de_la_Alameda = "28154";
-    public static final String Tres_Cantos = "28903";
-    public static final String Valdaracete = "28155";
-    public static final String Valdeavero = "28156";
-    public static final String Valdelaguna = "28157";
-    public static final String Valdemanco = "28158";
-    public static final String Valdemaqueda = "28159";
-    public static final String Valdemorillo = "28160";
-    public static final String Valdemoro = "28161";
-    public static final String Valdeolmos_Alalpardo = "28162";
-    public static final String Valdepiélagos = "28163";
-    public static final String Valdetorres_de_Jarama = "28164";
-    public static final String Valdilecha = "28165";
-    public static final String Valverde_de_Alcalá = "28166";
-    public static final String Velilla_de_San_Antonio = "28167";
-    public static final String Vellón_El = "28168";
-    public static final String Venturada = "28169";
-    public static final String Villa_del_Prado = "28171";
-    public static final String Villaconejos = "28170";
-    public static final String Villalbilla = "28172";
-    public static final String Villamanrique_de_Tajo = "28173";
-    public static final String Villamanta = "28174";
-    public static final String Villamantilla = "28175";
-    public static final String Villanueva_de_la_Cañada = "28176";
-    public static final String Villanueva_de_Perales = "28178";
-    public static final String Villanueva_del_Pardillo = "28177";
-    public static final String Villar_del_Olmo = "28179";
-    public static final String Villarejo_de_Salvanés = "28180";
-    public static final String Villaviciosa_de_Odón = "28181";
-    public static final String Villavieja_del_Lozoya = "28182";
-    public static final String Zarzalejo = "28183";
-    public static final String Alameda = "29001";
-    public static final String Alcaucín = "29002";
-    public static final String Alfarnate = "29003";
-    public static final String Alfarnatejo = "29004";
-    public static final String Algarrobo = "29005";
-    public static final String Algatocín = "29006";
-    public static final String Alhaurín_de_la_Torre = "29007";
-    public static final String Alhaurín_el_Grande = "29008";
-    public static final String Almáchar = "29009";
-    public static final String Almargen = "29010";
-    public static final String Almogía = "29011";
-    public static final String Álora = "29012";
-    public static final String Alozaina = "29013";
-    public static final String Alpandeire = "29014";
-    public static final String Antequera = "29015";
-    public static final String Árchez = "29016";
-    public static final String Archidona = "29017";
-    public static final String Ardales = "29018";
-    public static final String Arenas = "29019";
-    public static final String Arriate = "29020";
-    public static final String Atajate = "29021";
-    public static final String Benadalid = "29022";
-    public static final String Benahavís = "29023";
-    public static final String Benalauría = "29024";
-    public static final String Benalmádena = "29025";
-    public static final String Benamargosa = "29026";
-    public static final String Benamocarra = "29027";
-    public static final String Benaoján = "29028";
-    public static final String Benarrabá = "29029";
-    public static final String Borge_El = "29030";
-    public static final String Burgo_El = "29031";
-    public static final String Campillos = "29032";
-    public static final String Canillas_de_Aceituno = "29033";
-    public static final String Canillas_de_Albaida = "29034";
-    public static final String Cañete_la_Real = "29035";
-    public static final String Carratraca = "29036";
-    public static final String Cartajima = "29037";
-    public static final String Cártama = "29038";
-    public static final String Casabermeja = "29039";
-    public static final String Casarabonela = "29040";
-    public static final String Casares = "29041";
-    public static final String Coín = "29042";
-    public static final String Colmenar = "29043";
-    public static final String Comares = "29044";
-    public static final String Cómpeta = "29045";
-    public static final String Cortes_de_la_Frontera = "29046";
-    public static final String Cuevas_Bajas = "29047";
-    public static final String Cuevas_de_San_Marcos = "29049";
-    public static final String Cuevas_del_Becerro = "29048";
-    public static final String Cútar = "29050";
-    public static final String Estepona = "29051";
-    public static final String Faraján = "29052";
-    public static final String Frigiliana = "29053";
-    public static final String Fuengirola = "29054";
-    public static final String Fuente_de_Piedra = "29055";
-    public static final String Gaucín = "29056";
-    public static final String Genalguacil = "29057";
-    public static final String Guaro = "29058";
-    public static final String Humilladero = "29059";
-    public static final String Igualeja = "29060";
-    public static final String Istán = "29061";
-    public static final String Iznate = "29062";
-    public static final String Jimera_de_Líbar = "29063";
-    public static final String Jubrique = "29064";
-    public static final String Júzcar = "29065";
-    public static final String Macharaviaya = "29066";
-    public static final String Málaga = "29067";
-    public static final String Manilva = "29068";
-    public static final String Marbella = "29069";
-    public static final String Mijas = "29070";
-    public static final String Moclinejo = "29071";
-    public static final String Mollina = "29072";
-    public static final String Monda = "29073";
-    public static final String Montecorto = "29903";
-    public static final String Montejaque = "29074";
-    public static final String Nerja = "29075";
-    public static final String Ojén = "29076";
-    public static final String Parauta = "29077";
-    public static final String Periana = "29079";
-    public static final String Pizarra = "29080";
-    public static final String Pujerra = "29081";
-    public static final String Rincón_de_la_Victoria = "29082";
-    public static final String Riogordo = "29083";
-    public static final String Ronda = "29084";
-    public static final String Salares = "29085";
-    public static final String Sayalonga = "29086";
-    public static final String Sedella = "29087";
-    public static final String Serrato = "29904";
-    public static final String Sierra_de_Yeguas = "29088";
-    public static final String Teba = "29089";
-    public static final String Tolox = "29090";
-    public static final String Torremolinos = "29901";
-    public static final String Torrox = "29091";
-    public static final String Totalán = "29092";
-    public static final String Valle_de_Abdalajís = "29093";
-    public static final String Vélez_Málaga = "29094";
-    public static final String Villanueva_de_Algaidas = "29095";
-    public static final String Villanueva_de_la_Concepción = "29902";
-    public static final String Villanueva_de_Tapia = "29098";
-    public static final String Villanueva_del_Rosario = "29096";
-    public static final String Villanueva_del_Trabuco = "29097";
-    public static final String Viñuela = "29099";
-    public static final String Yunquera = "29100";
-    public static final String Abanilla = "30001";
-    public static final String Abarán = "30002";
-    public static final String Águilas = "30003";
-    public static final String Albudeite = "30004";
-    public static final String Alcantarilla = "30005";
-    public static final String Alcázares_Los = "30902";
-    public static final String Aledo = "30006";
-    public static final String Alguazas = "30007";
-    public static final String Alhama_de_Murcia = "30008";
-    public static final String Archena = "30009";
-    public static final String Beniel = "30010";
-    public static final String Blanca = "30011";
-    public static final String Bullas = "30012";
-    public static final String Calasparra = "30013";
-    public static final String Campos_del_Río = "30014";
-    public static final String Caravaca_de_la_Cruz = "30015";
-    public static final String Cartagena = "30016";
-    public static final String Cehegín = "30017";
-    public static final String Ceutí = "30018";
-    public static final String Cieza = "30019";
-    public static final String Fortuna = "30020";
-    public static final String Fuente_Álamo_de_Murcia = "30021";
-    public static final String Jumilla = "30022";
-    public static final String Librilla = "30023";
-    public static final String Lorca = "30024";
-    public static final String Lorquí = "30025";
-    public static final String Mazarrón = "30026";
-    public static final String Molina_de_Segura = "30027";
-    public static final String Moratalla = "30028";
-    public static final String Mula = "30029";
-    public static final String Murcia = "30030";
-    public static final String Ojós = "30031";
-    public static final String Pliego = "30032";
-    public static final String Puerto_Lumbreras = "30033";
-    public static final String Ricote = "30034";
-    public static final String San_Javier = "30035";
-    public static final String San_Pedro_del_Pinatar = "30036";
-    public static final String Santomera = "30901";
-    public static final String Torre_Pacheco = "30037";
-    public static final String Torres_de_Cotillas_Las = "30038";
-    public static final String Totana = "30039";
-    public static final String Ulea = "30040";
-    public static final String Unión_La = "30041";
-    public static final String Villanueva_del_Río_Segura = "30042";
-    public static final String Yecla = "30043";
-    public static final String Abáigar = "31001";
-    public static final String Abárzuza = "31002";
-    public static final String Abaurregaina = "31003";
-    public static final String Abaurrepea = "31004";
-    public static final String Aberin = "31005";
-    public static final String Ablitas = "31006";
-    public static final String Adiós = "31007";
-    public static final String Aguilar_de_Codés = "31008";
-    public static final String Aibar = "31009";
-    public static final String Allín = "31011";
-    public static final String Allo = "31012";
-    public static final String Altsasu = "31010";
-    public static final String Améscoa_Baja = "31013";
-    public static final String Ancín = "31014";
-    public static final String Andosilla = "31015";
-    public static final String Ansoáin = "31016";
-    public static final String Anue = "31017";
-    public static final String Añorbe = "31018";
-    public static final String Aoiz = "31019";
-    public static final String Araitz = "31020";
-    public static final String Arakil = "31025";
-    public static final String Aranarache = "31021";
-    public static final String Aranguren = "31023";
-    public static final String Arano = "31024";
-    public static final String Arantza = "31022";
-    public static final String Aras = "31026";
-    public static final String Arbizu = "31027";
-    public static final String Arce = "31028";
-    public static final String Arcos_Los = "31029";
-    public static final String Arellano = "31030";
-    public static final String Areso = "31031";
-    public static final String Arguedas = "31032";
-    public static final String Aria = "31033";
-    public static final String Aribe = "31034";
-    public static final String Armañanzas = "31035";
-    public static final String Arróniz = "31036";
-    public static final String Arruazu = "31037";
-    public static final String Artajona = "31038";
-    public static final String Artazu = "31039";
-    public static final String Atetz = "31040";
-    public static final String Auritz = "31058";
-    public static final String Ayegui = "31041";
-    public static final String Azagra = "31042";
-    public static final String Azuelo = "31043";
-    public static final String Bakaiku = "31044";
-    public static final String Barañáin = "31901";
-    public static final String Barásoain = "31045";
-    public static final String Barbarin = "31046";
-    public static final String Bargota = "31047";
-    public static final String Barillas = "31048";
-    public static final String Basaburua = "31049";
-    public static final String Baztan = "31050";
-    public static final String Beintza_Labaien = "31137";
-    public static final String Beire = "31051";
-    public static final String Belascoáin = "31052";
-    public static final String Bera = "31250";
-    public static final String Berbinzana = "31053";
-    public static final String Beriáin = "31905";
-    public static final String Berrioplano = "31902";
-    public static final String Berriozar = "31903";
-    public static final String Bertizarana = "31054";
-    public static final String Betelu = "31055";
-    public static final String Bidaurreta = "31253";
-    public static final String Biurrun_Olcoz = "31056";
-    public static final String Buñuel = "31057";
-    public static final String Burgui = "31059";
-    public static final String Burlada = "31060";
-    public static final String Busto_El = "31061";
-    public static final String Cabanillas = "31062";
-    public static final String Cabredo = "31063";
-    public static final String Cadreita = "31064";
-    public static final String Caparroso = "31065";
-    public static final String Cárcar = "31066";
-    public static final String Carcastillo = "31067";
-    public static final String Cascante = "31068";
-    public static final String Cáseda = "31069";
-    public static final String Castejjón = "31070";
-    public static final String Castillonuevo = "31071";
-    public static final String Cendea_de_Olza = "31193";
-    public static final String Cintruénigo = "31072";
-    public static final String Cirauqui = "31074";
-    public static final String Ciriza = "31075";
-    public static final String Cizur = "31076";
-    public static final String Corella = "31077";
-    public static final String Cortes = "31078";
-    public static final String Desojo = "31079";
-    public static final String Dicastillo = "31080";
-    public static final String Donamaria = "31081";
-    public static final String Doneztebe = "31221";
-    public static final String Echarri = "31083";
-    public static final String Elgorriaga = "31087";
-    public static final String Enériz = "31089";
-    public static final String Eratsun = "31090";
-    public static final String Ergoiena = "31091";
-    public static final String Erro = "31092";
-    public static final String Eslava = "31094";
-    public static final String Esparza_de_Salazar = "31095";
-    public static final String Espronceda = "31096";
-    public static final String Estella_Lizarra = "31097";
-    public static final String Esteribar = "31098";
-    public static final String Etayo = "31099";
-    public static final String Etxalar = "31082";
-    public static final String Etxarri_Aranatz = "31084";
-    public static final String Etxauri = "31085";
-    public static final String Eulate = "31100";
-    public static final String Ezcabarte = "31101";
-    public static final String Ezcároz = "31093";
-    public static final String Ezkurra = "31102";
-    public static final String Ezprogui = "31103";
-    public static final String Falces = "31104";
-    public static final String Fitero = "31105";
-    public static final String Fontellas = "31106";
-    public static final String Funes = "31107";
-    public static final String Fustiñana = "31108";
-    public static final String Galar = "31109";
-    public static final String Gallipienzo = "31110";
-    public static final String Gallués = "31111";
-    public static final String Garaioa = "31112";
-    public static final String Garde = "31113";
-    public static final String Garínoain = "31114";
-    public static final String Garralda = "31115";
-    public static final String Genevilla = "31116";
-    public static final String Goizueta = "31117";
-    public static final String Goñi = "31118";
-    public static final String Güesa = "31119";
-    public static final String Guesálaz = "31120";
-    public static final String Guirguillano = "31121";
-    public static final String Hiriberri = "31256";
-    public static final String Huarte = "31122";
-    public static final String Ibargoiti = "31124";
-    public static final String Igantzi = "31259";
-    public static final String Igúzquiza = "31125";
-    public static final String Imotz = "31126";
-    public static final String Irañeta = "31127";
-    public static final String Irurtzun = "31904";
-    public static final String Isaba = "31128";
-    public static final String Ituren = "31129";
-    public static final String Iturmendi = "31130";
-    public static final String Iza = "31131";
-    public static final String Izagaondoa = "31132";
-    public static final String Izalzu = "31133";
-    public static final String Jaurrieta = "31134";
-    public static final String Javier = "31135";
-    public static final String Juslapeña = "31136";
-    public static final String Lakuntza = "31138";
-    public static final String Lana = "31139";
-    public static final String Lantz = "31140";
-    public static final String Lapoblación = "31141";
-    public static final String Larraga = "31142";
-    public static final String Larraona = "31143";
-    public static final String Larraun = "31144";
-    public static final String Lazagurría = "31145";
-    public static final String Leache = "31146";
-    public static final String Legarda = "31147";
-    public static final String Legaria = "31148";
-    public static final String Leitza = "31149";
-    public static final String Lekunberri = "31908";
-    public static final String Leoz = "31150";
-    public static final String Lerga = "31151";
-    public static final String Lerín = "31152";
-    public static final String Lesaka = "31153";
-    public static final String Lezaun = "31154";
-    public static final String Liédena = "31155";
-    public static final String Lizoain_Arriasgoiti = "31156";
-    public static final String Lodosa = "31157";
-    public static final String Lónguida = "31158";
-    public static final String Lumbier = "31159";
-    public static final String Luquin = "31160";
-    public static final String Luzaide = "31248";
-    public static final String Mañeru = "31161";
-    public static final String Marañón = "31162";
-    public static final String Marcilla = "31163";
-    public static final String Mélida = "31164";
-    public static final String Mendavia = "31165";
-    public static final String Mendaza = "31166";
-    public static final String Mendigorria = "31167";
-    public static final String Metauten = "31168";
-    public static final String Milagro = "31169";
-    public static final String Mirafuentes = "31170";
-    public static final String Miranda_de_Arga = "31171";
-    public static final String Monreal = "31172";
-    public static final String Monteagudo = "31173";
-    public static final String Morentin = "31174";
-    public static final String Mues = "31175";
-    public static final String Murchante = "31176";
-    public static final String Murieta = "31177";
-    public static final String Murillo_el_Cuende = "31178";
-    public static final String Murillo_el_Fruto = "31179";
-    public static final String Muruzábal = "31180";
-    public static final String Navascués = "31181";
-    public static final String Nazar = "31182";
-    public static final String Noáin = "31088";
-    public static final String Obanos = "31183";
-    public static final String Ochagavía = "31185";
-    public static final String Oco = "31184";
-    public static final String Odieta = "31186";
-    public static final String Oiz = "31187";
-    public static final String Olaibar = "31188";
-    public static final String Olazti = "31189";
-    public static final String Olejua = "31190";
-    public static final String Olite = "31191";
-    public static final String Olóriz = "31192";
-    public static final String Orbaizeta = "31195";
-    public static final String Orbara = "31196";
-    public static final String Orísoain = "31197";
-    public static final String Orkoien = "31906";
-    public static final String Oronz = "31198";
-    public static final String Oroz_Betelu = "31199";
-    public static final String Orreaga = "31211";
-    public static final String Oteiza = "31200";
-    public static final String Pamplona = "31201";
-    public static final String Peralta = "31202";
-    public static final String Petilla_de_Aragón = "31203";
-    public static final String Piedramillera = "31204";
-    public static final String Pitillas = "31205";
-    public static final String Puente_la_Reina = "31206";
-    public static final String Pueyo = "31207";
-    public static final String Ribaforada = "31208";
-    public static final String Romanzado = "31209";
-    public static final String Roncal = "31210";
-    public static final String Sadda = "31212";
-    public static final String Saldías = "31213";
-    public static final String Salinas_de_Oro = "31214";
-    public static final String San_Adrián = "31215";
-    public static final String San_Martín_de_Unx = "31217";
-    public static final String Sangüesa = "31216";
-    public static final String Sansol = "31219";
-    public static final String Santacara = "31220";
-    public static final String Sarriés = "31222";
-    public static final String Sartaguda = "31223";
-    public static final String Sesma = "31224";
-    public static final String Sorlada = "31225";
-    public static final String Sunbilla = "31226";
-    public static final String Tafalla = "31227";
-    public static final String Tiebas_Muruarte_de_Reta = "31228";
-    public static final String Tirapu = "31229";
-    public static final String Torralba_del_Río = "31230";
-    public static final String Torres_del_Río = "31231";
-    public static final String Tudela = "31232";
-    public static final String Tulebras = "31233";
-    public static final String Ucar = "31234";
-    public static final String Uharte_Arakil = "31123";
-    public static final String Ujué = "31235";
-    public static final String Ultzama = "31236";
-    public static final String Unciti = "31237";
-    public static final String Unzué = "31238";
-    public static final String Urdazubi = "31239";
-    public static final String Urdiain = "31240";
-    public static final String Urraul_Alto = "31241";
-    public static final String Urraul_Bajo = "31242";
-    public static final String Urroz = "31244";
-    public static final String Urroz_Villa = "31243";
-    public static final String Urzainqui = "31245";
-    public static final String Uterga = "31246";
-    public static final String Uztárroz = "31247";
-    public static final String Valle_de_Egüés = "31086";
-    public static final String Valle_de_Ollo = "31194";
-    public static final String Valle_de_Yerri = "31260";
-    public static final String Valtierra = "31249";
-    public static final String Viana = "31251";
-    public static final String Vidángoz = "31252";
-    public static final String Villafranca = "31254";
-    public static final String Villamayor_de_Monjardín = "31255";
-    public static final String Villatuerta = "31257";
-    public static final String Villava = "31258";
-    public static final String Yesa = "31261";
-    public static final String Zabalza = "31262";
-    public static final String Ziordia = "31073";
-    public static final String Zizur_Mayor = "31907";
-    public static final String Zubieta = "31263";
-    public static final String Zugarramurdi = "31264";
-    public static final String Zúñiga = "31265";
-    public static final String Allariz = "32001";
-    public static final String Amoeiro = "32002";
-    public static final String Arnoia_A = "32003";
-    public static final String Avión = "32004";
-    public static final String Baltar = "32005";
-    public static final String Bande = "32006";
-    public static final String Baños_de_Molgas = "32007";
-    public static final String Barbadás = "32008";
-    public static final String Barco_de_Valdeorras_O = "32009";
-    public static final String Beade = "32010";
-    public static final String Beariz = "32011";
-    public static final String Blancos_Os = "32012";
-    public static final String Boborás = "32013";
-    public static final String Bola_A = "32014";
-    public static final String Bolo_O = "32015";
-    public static final String Calvos_de_Randín = "32016";
-    public static final String Carballeda_de_Avia = "32018";
-    public static final String Carballeda_de_Valdeorras = "32017";
-    public static final String Carballiño_O = "32019";
-    public static final String Cartelle = "32020";
-    public static final String Castrelo_de_Miño = "32022";
-    public static final String Castrelo_do_Val = "32021";
-    public static final String Castro_Caldelas = "32023";
-    public static final String Celanova = "32024";
-    public static final String Cenlle = "32025";
-    public static final String Chandrexa_de_Queixa = "32029";
-    public static final String Coles = "32026";
-    public static final String Cortegada = "32027";
-    public static final String Cualedro = "32028";
-    public static final String Entrimo = "32030";
-    public static final String Esgos = "32031";
-    public static final String Gomesende = "32033";
-    public static final String Gudiña_A = "32034";
-    public static final String Irixo_O = "32035";
-    public static final String Larouco = "32038";
-    public static final String Laza = "32039";
-    public static final String Leiro = "32040";
-    public static final String Lobeira = "32041";
-    public static final String Lobios = "32042";
-    public static final String Maceda = "32043";
-    public static final String Manzaneda = "32044";
-    public static final String Maside = "32045";
-    public static final String Melón = "32046";
-    public static final String Merca_A = "32047";
-    public static final String Mezquita_A = "32048";
-    public static final String Montederramo = "32049";
-    public static final String Monterrei = "32050";
-    public static final String Muíños = "32051";
-    public static final String Nogueira_de_Ramuín = "32052";
-    public static final String Oímbra = "32053";
-    public static final String Ourense = "32054";
-    public static final String Paderne_de_Allariz = "32055";
-    public static final String Padrenda = "32056";
-    public static final String Parada_de_Sil = "32057";
-    public static final String Pereiro_de_Aguiar_O = "32058";
-    public static final String Peroxa_A = "32059";
-    public static final String Petín = "32060";
-    public static final String Piñor = "32061";
-    public static final String Pobra_de_Trives_A = "32063";
-    public static final String Pontedeva = "32064";
-    public static final String Porqueira = "32062";
-    public static final String Punxín = "32065";
-    public static final String Quintela_de_Leirado = "32066";
-    public static final String Rairiz_de_Veiga = "32067";
-    public static final String Ramirás = "32068";
-    public static final String Ribadavia = "32069";
-    public static final String Riós = "32071";
-    public static final String Rúa_A = "32072";
-    public static final String Rubiá = "32073";
-    public static final String San_Amaro = "32074";
-    public static final String San_Cibrao_das_Viñas = "32075";
-    public static final String San_Cristovo_de_Cea = "32076";
-    public static final String San_Xoán_de_Río = "32070";
-    public static final String Sandiás = "32077";
-    public static final String Sarreaus = "32078";
-    public static final String Taboadela = "32079";
-    public static final String Teixeira_A = "32080";
-    public static final String Toén = "32081";
-    public static final String Trasmiras = "32082";
-    public static final String Veiga_A = "32083";
-    public static final String Verea = "32084";
-    public static final String Verín = "32085";
-    public static final String Viana_do_Bolo = "32086";
-    public static final String Vilamarín = "32087";
-    public static final String Vilamartín_de_Valdeorras = "32088";
-    public static final String Vilar_de_Barrio = "32089";
-    public static final String Vilar_de_Santos = "32090";
-    public static final String Vilardevós = "32091";
-    public static final String Vilariño_de_Conso = "32092";
-    public static final String Xinzo_de_Limia = "32032";
-    public static final String Xunqueira_de_Ambía = "32036";
-    public static final String Xunqueira_de_Espadanedo = "32037";
-    public static final String Allande = "33001";
-    public static final String Aller = "33002";
-    public static final String Amieva = "33003";
-    public static final String Avilés = "33004";
-    public static final String Belmonte_de_Miranda = "33005";
-    public static final String Bimenes = "33006";
-    public static final String Boal = "33007";
-    public static final String Cabrales = "33008";
-    public static final String Cabranes = "33009";
-    public static final String Candamo = "33010";
-    public static final String Cangas_de_Onís = "33012";
-    public static final String Cangas_del_Narcea = "33011";
-    public static final String Caravia = "33013";
-    public static final String Carreño = "33014";
-    public static final String Caso = "33015";
-    public static final String Castrillón = "33016";
-    public static final String Castropol = "33017";
-    public static final String Coaña = "33018";
-    public static final String Colunga = "33019";
-    public static final String Corvera_de_Asturias = "33020";
-    public static final String Cudillero = "33021";
-    public static final String Degaña = "33022";
-    public static final String Franco_El = "33023";
-    public static final String Gijón = "33024";
-    public static final String Gozón = "33025";
-    public static final String Grado = "33026";
-    public static final String Grandas_de_Salime = "33027";
-    public static final String Ibias = "33028";
-    public static final String Illano = "33029";
-    public static final String Illas = "33030";
-    public static final String Langreo = "33031";
-    public static final String Laviana = "33032";
-    public static final String Lena = "33033";
-    public static final String Llanera = "33035";
-    public static final String Llanes = "33036";
-    public static final String Mierres = "33037";
-    public static final String Morcín = "33038";
-    public static final String Muros_de_Nalón = "33039";
-    public static final String Nava = "33040";
-    public static final String Navia = "33041";
-    public static final String Noreña = "33042";
-    public static final String Onís = "33043";
-    public static final String Oviedo = "33044";
-    public static final String Parres = "33045";
-    public static final String Peñamellera_Alta = "33046";
-    public static final String Peñamellera_Baja = "33047";
-    public static final String Pesoz = "33048";
-    public static final String Piloña = "33049";
-    public static final String Ponga = "33050";
-    public static final String Pravia = "33051";
-    public static final String Proaza = "33052";
-    public static final String Quirós = "33053";
-    public static final String Regueras_Las = "33054";
-    public static final String Ribadedeva = "33055";
-    public static final String Ribadesella = "33056";
-    public static final String Ribera_de_Arriba = "33057";
-    public static final String Riosa = "33058";
-    public static final String Salas = "33059";
-    public static final String San_Martín_de_Oscos = "33061";
-    public static final String San_Martín_del_Rey_Aurelio = "33060";
-    public static final String San_Tirso_de_Abres = "33063";
-    public static final String Santa_Eulalia_de_Oscos = "33062";
-    public static final String Santo_Adriano = "33064";
-    public static final String Sariego = "33065";
-    public static final String Siero = "33066";
-    public static final String Sobrescobio = "33067";
-    public static final String Somiedo = "33068";
-    public static final String Soto_del_Barco = "33069";
-    public static final String Tapia_de_Casariego = "33070";
-    public static final String Taramundi = "33071";
-    public static final String Teverga = "33072";
-    public static final String Tineo = "33073";
-    public static final String Valdés = "33034";
-    public static final String Vegadeo = "33074";
-    public static final String Villanueva_de_Oscos = "33075";
-    public static final String Villaviciosa = "33076";
-    public static final String Villayón = "33077";
-    public static final String Yernes_y_Tameza = "33078";
-    public static final String Abarca_de_Campos = "34001";
-    public static final String Abia_de_las_Torres = "34003";
-    public static final String Aguilar_de_Campoo = "34004";
-    public static final String Alar_del_Rey = "34005";
-    public static final String Alba_de_Cerrato = "34006";
-    public static final String Amayuelas_de_Arriba = "34009";
-    public static final String Ampudia = "34010";
-    public static final String Amusco = "34011";
-    public static final String Antigüedad = "34012";
-    public static final String Arconada = "34015";
-    public static final String Astudillo = "34017";
-    public static final String Autilla_del_Pino = "34018";
-    public static final String Autillo_de_Campos = "34019";
-    public static final String Ayuela = "34020";
-    public static final String Baltanás = "34022";
-    public static final String Baquerín_de_Campos = "34024";
-    public static final String Bárcena_de_Campos = "34025";
-    public static final String Barruelo_de_Santullán = "34027";
-    public static final String Báscones_de_Ojeda = "34028";
-    public static final String Becerril_de_Campos = "34029";
-    public static final String Belmonte_de_Campos = "34031";
-    public static final String Berzosilla = "34032";
-    public static final String Boada_de_Campos = "34033";
-    public static final String Boadilla_de_Rioseco = "34035";
-    public static final String Boadilla_del_Camino = "34034";
-    public static final String Brañosera = "34036";
-    public static final String Buenavista_de_Valdavia = "34037";
-    public static final String Bustillo_de_la_Vega = "34038";
-    public static final String Bustillo_del_Páramo_de_Carrión = "34039";
-    public static final String Calahorra_de_Boedo = "34041";
-    public static final String Calzada_de_los_Molinos = "34042";
-    public static final String Capillas = "34045";
-    public static final String Cardeñosa_de_Volpejera = "34046";
-    public static final String Carrión_de_los_Condes = "34047";
-    public static final String Castil_de_Vela = "34048";
-    public static final String Castrejón_de_la_Peña = "34049";
-    public static final String Castrillo_de_Don_Juan = "34050";
-    public static final String Castrillo_de_Onielo = "34051";
-    public static final String Castrillo_de_Villavega = "34052";
-    public static final String Castromocho = "34053";
-    public static final String Cervatos_de_la_Cueza = "34055";
-    public static final String Cervera_de_Pisuerga = "34056";
-    public static final String Cevico_de_la_Torre = "34057";
-    public static final String Cevico_Navero = "34058";
-    public static final String Cisneros = "34059";
-    public static final String Cobos_de_Cerrato = "34060";
-    public static final String Collazos_de_Boedo = "34061";
-    public static final String Congosto_de_Valdavia = "34062";
-    public static final String Cordovilla_la_Real = "34063";
-    public static final String Cubillas_de_Cerrato = "34066";
-    public static final String Dehesa_de_Montejo = "34067";
-    public static final String Dehesa_de_Romanos = "34068";
-    public static final String Dueñas = "34069";
-    public static final String Espinosa_de_Cerrato = "34070";
-    public static final String Espinosa_de_Villagonzalo = "34071";
-    public static final String Frechilla = "34072";
-    public static final String Fresno_del_Río = "34073";
-    public static final String Frómista = "34074";
-    public static final String Fuentes_de_Nava = "34076";
-    public static final String Fuentes_de_Valdepero = "34077";
-    public static final String Grijota = "34079";
-    public static final String Guardo = "34080";
-    public static final String Guaza_de_Campos = "34081";
-    public static final String Hérmedes_de_Cerrato = "34082";
-    public static final String Herrera_de_Pisuerga = "34083";
-    public static final String Herrera_de_Valdecañas = "34084";
-    public static final String Hontoria_de_Cerrato = "34086";
-    public static final String Hornillos_de_Cerrato = "34087";
-    public static final String Husillos = "34088";
-    public static final String Itero_de_la_Vega = "34089";
-    public static final String Lagartos = "34091";
-    public static final String Lantadilla = "34092";
-    public static final String Ledigos = "34094";
-    public static final String Loma_de_Ucieza = "34903";
-    public static final String Lomas = "34096";
-    public static final String Magaz_de_Pisuerga = "34098";
-    public static final String Manquillos = "34099";
-    public static final String Mantinos = "34100";
-    public static final String Marcilla_de_Campos = "34101";
-    public static final String Mazariegos = "34102";
-    public static final String Mazuecos_de_Valdeginate = "34103";
-    public static final String Melgar_de_Yuso = "34104";
-    public static final String Meneses_de_Campos = "34106";
-    public static final String Micieces_de_Ojeda = "34107";
-    public static final String Monzón_de_Campos = "34108";
-    public static final String Moratinos = "34109";
-    public static final String Mudá = "34110";
-    public static final String Nogal_de_las_Huertas = "34112";
-    public static final String Olea_de_Boedo = "34113";
-    public static final String Olmos_de_Ojeda = "34114";
-    public static final String Osornillo = "34116";
-    public static final String Osorno_la_Mayor = "34901";
-    public static final String Palencia = "34120";
-    public static final String Palenzuela = "34121";
-    public static final String Páramo_de_Boedo = "34122";
-    public static final String Paredes_de_Nava = "34123";
-    public static final String Payo_de_Ojeda = "34124";
-    public static final String Pedraza_de_Campos = "34125";
-    public static final String Pedrosa_de_la_Vega = "34126";
-    public static final String Perales = "34127";
-    public static final String Pernía_La = "34904";
-    public static final String Pino_del_Río = "34129";
-    public static final String Piña_de_Campos = "34130";
-    public static final String Población_de_Arroyo = "34131";
-    public static final String Población_de_Campos = "34132";
-    public static final String Población_de_Cerrato = "34133";
-    public static final String Polentinos = "34134";
-    public static final String Pomar_de_Valdivia = "34135";
-    public static final String Poza_de_la_Vega = "34136";
-    public static final String Pozo_de_Urama = "34137";
-    public static final String Prádanos_de_Ojeda = "34139";
-    public static final String Puebla_de_Valdavia_La = "34140";
-    public static final String Quintana_del_Puente = "34141";
-    public static final String Quintanilla_de_Onsoña = "34143";
-    public static final String Reinoso_de_Cerrato = "34146";
-    public static final String Renedo_de_la_Vega = "34147";
-    public static final String Requena_de_Campos = "34149";
-    public static final String Respenda_de_la_Peña = "34151";
-    public static final String Revenga_de_Campos = "34152";
-    public static final String Revilla_de_Collazos = "34154";
-    public static final String Ribas_de_Campos = "34155";
-    public static final String Riberos_de_la_Cueza = "34156";
-    public static final String Saldaña = "34157";
-    public static final String Salinas_de_Pisuerga = "34158";
-    public static final String San_Cebrián_de_Campos = "34159";
-    public static final String San_Cebrián_de_Mudá = "34160";
-    public static final String San_Cristóbal_de_Boedo = "34161";
-    public static final String San_Mamés_de_Campos = "34163";
-    public static final String San_Román_de_la_Cuba = "34165";
-    public static final String Santa_Cecilia_del_Alcor = "34167";
-    public static final String Santa_Cruz_de_Boedo = "34168";
-    public static final String Santervás_de_la_Vega = "34169";
-    public static final String Santibáñez_de_Ecla = "34170";
-    public static final String Santibáñez_de_la_Peña = "34171";
-    public static final String Santoyo = "34174";
-    public static final String Serna_La = "34175";
-    public static final String Soto_de_Cerrato = "34177";
-    public static final String Sotobañado_y_Priorato = "34176";
-    public static final String Tabanera_de_Cerrato = "34178";
-    public static final String Tabanera_de_Valdavia = "34179";
-    public static final String Támara_de_Campos = "34180";
-    public static final String Tariego_de_Cerrato = "34181";
-    public static final String Torquemada = "34182";
-    public static final String Torremormojón = "34184";
-    public static final String Triollo = "34185";
-    public static final String Valbuena_de_Pisuerga = "34186";
-    public static final String Valdeolmillos = "34189";
-    public static final String Valderrábano = "34190";
-    public static final String Valde_Ucieza = "34192";
-    public static final String Valle_de_Cerrato = "34196";
-    public static final String Valle_del_Retortillo = "34902";
-    public static final String Velilla_del_Río_Carrión = "34199";
-    public static final String Venta_de_Baños = "34023";
-    public static final String Vertavillo = "34201";
-    public static final String Vid_de_Ojeda_La = "34093";
-    public static final String Villabasta_de_Valdavia = "34202";
-    public static final String Villacidaler = "34204";
-    public static final String Villaconancio = "34205";
-    public static final String Villada = "34206";
-    public static final String Villaeles_de_Valdavia = "34208";
-    public static final String Villahán = "34210";
-    public static final String Villaherreros = "34211";
-    public static final String Villalaco = "34213";
-    public static final String Villalba_de_Guardo = "34214";
-    public static final String Villalcázar_de_Sirga = "34215";
-    public static final String Villalcón = "34216";
-    public static final String Villalobón = "34217";
-    public static final String Villaluenga_de_la_Vega = "34218";
-    public static final String Villamartín_de_Campos = "34220";
-    public static final String Villamediana = "34221";
-    public static final String Villameriel = "34222";
-    public static final String Villamoronta = "34223";
-    public static final String Villamuera_de_la_Cueza = "34224";
-    public static final String Villamuriel_de_Cerrato = "34225";
-    public static final String Villanueva_del_Rebollar = "34227";
-    public static final String Villanuño_de_Valdavia = "34228";
-    public static final String Villaprovedo = "34229";
-    public static final String Villarmentero_de_Campos = "34230";
-    public static final String Villarrabé = "34231";
-    public static final String Villarramiel = "34232";
-    public static final String Villasarracino = "34233";
-    public static final String Villasila_de_Valdavia = "34234";
-    public static final String Villaturde = "34236";
-    public static final String Villaumbrales = "34237";
-    public static final String Villaviudas = "34238";
-    public static final String Villerías_de_Campos = "34240";
-    public static final String Villodre = "34241";
-    public static final String Villodrigo = "34242";
-    public static final String Villoldo = "34243";
-    public static final String Villota_del_Páramo = "34245";
-    public static final String Villovieco = "34246";
-    public static final String Agaete = "35001";
-    public static final String Agüimes = "35002";
-    public static final String Aldea_de_San_Nicolás_La = "35020";
-    public static final String Antigua = "35003";
-    public static final String Arrecife = "35004";
-    public static final String Artenara = "35005";
-    public static final String Arucas = "35006";
-    public static final String Betancuria = "35007";
-    public static final String Firgas = "35008";
-    public static final String Gáldar = "35009";
-    public static final String Haría = "35010";
-    public static final String Ingenio = "35011";
-    public static final String Mogán = "35012";
-    public static final String Moyya = "35013";
-    public static final String Oliva_La = "35014";
-    public static final String Pájara = "35015";
-    public static final String Palmas_de_Gran_Canaria_Las = "35016";
-    public static final String Puerto_del_Rosario = "35017";
-    public static final String San_Bartolomé = "35018";
-    public static final String San_Bartolomé_de_Tirajana = "35019";
-    public static final String Santa_Brígida = "35021";
-    public static final String Santa_Lucía_de_Tirajana = "35022";
-    public static final String Santa_María_de_Guía_de_Gran_Canaria = "35023";
-    public static final String Teguise = "35024";
-    public static final String Tejeda = "35025";
-    public static final String Telde = "35026";
-    public static final String Teror = "35027";
-    public static final String Tías = "35028";
-    public static final String Tinajo = "35029";
-    public static final String Tuineje = "35030";
-    public static final String Valleseco = "35032";
-    public static final String Valsequillo_de_Gran_Canaria = "35031";
-    public static final String Vega_de_San_Mateo = "35033";
-    public static final String Yaiza = "35034";
-    public static final String Agolada = "36020";
-    public static final String Arbo = "36001";
-    public static final String Baiona = "36003";
-    public static final String Barro = "36002";
-    public static final String Bueu = "36004";
-    public static final String Caldas_de_Reis = "36005";
-    public static final String Cambados = "36006";
-    public static final String Campo_Lameiro = "36007";
-    public static final String Cangas = "36008";
-    public static final String Cañiza_A = "36009";
-    public static final String Catoira = "36010";
-    public static final String Cerdedo_Cotobade = "36902";
-    public static final String Covelo = "36013";
-    public static final String Crecente = "36014";
-    public static final String Cuntis = "36015";
-    public static final String Dozón = "36016";
-    public static final String Estrada_A = "36017";
-    public static final String Forcarei = "36018";
-    public static final String Fornelos_de_Montes = "36019";
-    public static final String Gondomar = "36021";
-    public static final String Grove_O = "36022";
-    public static final String Guarda_A = "36023";
-    public static final String Illa_de_Arousa_A = "36901";
-    public static final String Lalín = "36024";
-    public static final String Lama_A = "36025";
-    public static final String Marín = "36026";
-    public static final String Meaño = "36027";
-    public static final String Meis = "36028";
-    public static final String Moaña = "36029";
-    public static final String Mondariz = "36030";
-    public static final String Mondariz_Balneario = "36031";
-    public static final String Moraña = "36032";
-    public static final String Mos = "36033";
-    public static final String Neves_As = "36034";
-    public static final String Nigrán = "36035";
-    public static final String Oia = "36036";
-    public static final String Pazos_de_Borbén = "36037";
-    public static final String Poio = "36041";
-    public static final String Ponte_Caldelas = "36043";
-    public static final String Ponteareas = "36042";
-    public static final String Pontecesures = "36044";
-    public static final String Pontevedra = "36038";
-    public static final String Porriño_O = "36039";
-    public static final String Portas = "36040";
-    public static final String Redondela = "36045";
-    public static final String Ribadumia = "36046";
-    public static final String Rodeiro = "36047";
-    public static final String Rosal_O = "36048";
-    public static final String Salceda_de_Caselas = "36049";
-    public static final String Salvaterra_de_Miño = "36050";
-    public static final String Sanxenxo = "36051";
-    public static final String Silleda = "36052";
-    public static final String Soutomaior = "36053";
-    public static final String Tomiño = "36054";
-    public static final String Tui = "36055";
-    public static final String Valga = "36056";
-    public static final String Vigo = "36057";
-    public static final String Vila_de_Cruces = "36059";
-    public static final String Vilaboa = "36058";
-    public static final String Vilagarcía_de_Arousa = "36060";
-    public static final String Vilanova_de_Arousa = "36061";
-    public static final String Abusejo = "37001";
-    public static final String Agallas = "37002";
-    public static final String Ahigal_de_los_Aceiteros = "37003";
-    public static final String Ahigal_de_Villarino = "37004";
-    public static final String Alameda_de_Gardón_La = "37005";
-    public static final String Alamedilla_La = "37006";
-    public static final String Alaraz = "37007";
-    public static final String Alba_de_Tormes = "37008";
-    public static final String Alba_de_Yeltes = "37009";
-    public static final String Alberca_La = "37010";
-    public static final String Alberguería_de_Argañán_La = "37011";
-    public static final String Alconada = "37012";
-    public static final String Aldea_del_Obispo = "37015";
-    public static final String Aldeacipreste = "37013";
-    public static final String Aldeadávila_de_la_Ribera = "37014";
-    public static final String Aldealengua = "37016";
-    public static final String Aldeanueva_de_Figueroa = "37017";
-    public static final String Aldeanueva_de_la_Sierra = "37018";
-    public static final String Aldearrodrigo = "37019";
-    public static final String Aldearrubia = "37020";
-    public static final String Aldeaseca_de_Alba = "37021";
-    public static final String Aldeaseca_de_la_Frontera = "37022";
-    public static final String Aldeatejada = "37023";
-    public static final String Aldeavieja_de_Tormes = "37024";
-    public static final String Aldehuela_de_la_Bóveda = "37025";
-    public static final String Aldehuela_de_Yeltes = "37026";
-    public static final String Almenara_de_Tormes = "37027";
-    public static final String Almendra = "37028";
-    public static final String Anaya_de_Alba = "37029";
-    public static final String Añover_de_Tormes = "37030";
-    public static final String Arabayona_de_Mógica = "37031";
-    public static final String Arapiles = "37032";
-    public static final String Arcediano = "37033";
-    public static final String Arco_El = "37034";
-    public static final String Armenteros = "37035";
-    public static final String Atalaya_La = "37037";
-    public static final String Babilafuente = "37038";
-    public static final String Bañobárez = "37039";
-    public static final String Barbadillo = "37040";
-    public static final String Barbalos = "37041";
-    public static final String Barceo = "37042";
-    public static final String Barruecopardo = "37044";
-    public static final String Bastida_La = "37045";
-    public static final String Béjar = "37046";
-    public static final String Beleña = "37047";
-    public static final String Bermellar = "37049";
-    public static final String Berrocal_de_Huebra = "37050";
-    public static final String Berrocal_de_Salvatierra = "37051";
-    public static final String Boada = "37052";
-    public static final String Bodón_El = "37054";
-    public static final String Bogajo = "37055";
-    public static final String Bouza_La = "37056";
-    public static final String Bóveda_del_Río_Almar = "37057";
-    public static final String Brincones = "37058";
-    public static final String Buenamadre = "37059";
-    public static final String Buenavista = "37060";
-    public static final String Cabaco_El = "37061";
-    public static final String Cabeza_de_Béjar_La = "37063";
-    public static final String Cabeza_del_Caballo = "37065";
-    public static final String Cabezabellosa_de_la_Calzada = "37062";
-    public static final String Cabrerizos = "37067";
-    public static final String Cabrillas = "37068";
-    public static final String Calvarrasa_de_Abajo = "37069";
-    public static final String Calvarrasa_de_Arriba = "37070";
-    public static final String Calzada_de_Béjar_La = "37071";
-    public static final String Calzada_de_Don_Diego = "37072";
-    public static final String Calzada_de_Valdunciel = "37073";
-    public static final String Campillo_de_Azaba = "37074";
-    public static final String Campo_de_Peñaranda_El = "37077";
-    public static final String Candelario = "37078";
-    public static final String Canillas_de_Abajo = "37079";
-    public static final String Cantagallo = "37080";
-    public static final String Cantalapiedra = "37081";
-    public static final String Cantalpino = "37082";
-    public static final String Cantaracillo = "37083";
-    public static final String Carbajosa_de_la_Sagrada = "37085";
-    public static final String Carpio_de_Azaba = "37086";
-    public static final String Carrascal_de_Barregas = "37087";
-    public static final String Carrascal_del_Obispo = "37088";
-    public static final String Casafranca = "37089";
-    public static final String Casas_del_Conde_Las = "37090";
-    public static final String Casillas_de_Flores = "37091";
-    public static final String Castellanos_de_Moriscos = "37092";
-    public static final String Castellanos_de_Villiquera = "37185";
-    public static final String Castillejo_de_Martín_Viejo = "37096";
-    public static final String Castraz = "37097";
-    public static final String Cepeda = "37098";
-    public static final String Cereceda_de_la_Sierra = "37099";
-    public static final String Cerezal_de_Peñahorcada = "37100";
-    public static final String Cerralbo = "37101";
-    public static final String Cerro_El = "37102";
-    public static final String Cespedosa_de_Tormes = "37103";
-    public static final String Chagarcía_Medianero = "37114";
-    public static final String Cilleros_de_la_Bastida = "37104";
-    public static final String Cipérez = "37106";
-    public static final String Ciudad_Rodrigo = "37107";
-    public static final String Coca_de_Alba = "37108";
-    public static final String Colmenar_de_Montemayor = "37109";
-    public static final String Cordovilla = "37110";
-    public static final String Cristóbal = "37112";
-    public static final String Cubo_de_Don_Sancho_El = "37113";
-    public static final String Dios_le_Guarde = "37115";
-    public static final String Doñinos_de_Ledesma = "37116";
-    public static final String Doñinos_de_Salamanca = "37117";
-    public static final String Éjeme = "37118";
-    public static final String Encina_de_San_Silvestre = "37120";
-    public static final String Encina_La = "37119";
-    public static final String Encinas_de_Abajo = "37121";
-    public static final String Encinas_de_Arriba = "37122";
-    public static final String Encinasola_de_los_Comendadores = "37123";
-    public static final String Endrinal = "37124";
-    public static final String Escurial_de_la_Sierra = "37125";
-    public static final String Espadaña = "37126";
-    public static final String Espeja = "37127";
-    public static final String Espino_de_la_Orbada = "37128";
-    public static final String Florida_de_Liébana = "37129";
-    public static final String Forfoleda = "37130";
-    public static final String Frades_de_la_Sierra = "37131";
-    public static final String Fregeneda_La = "37132";
-    public static final String Fresnedoso = "37133";
-    public static final String Fresno_Alhándiga = "37134";
-    public static final String Fuente_de_San_Esteban_La = "37135";
-    public static final String Fuenteguinaldo = "37136";
-    public static final String Fuenteliante = "37137";
-    public static final String Fuenterroble_de_Salvatierra = "37138";
-    public static final String Fuentes_de_Béjar = "37139";
-    public static final String Fuentes_de_Oñoro = "37140";
-    public static final String Gajates = "37141";
-    public static final String Galindo_y_Perahuy = "37142";
-    public static final String Galinduste = "37143";
-    public static final String Galisancho = "37144";
-    public static final String Gallegos_de_Argañán = "37145";
-    public static final String Gallegos_de_Solmirón = "37146";
-    public static final String Garcibuey = "37147";
-    public static final String Garcihernández = "37148";
-    public static final String Garcirrey = "37149";
-    public static final String Gejuelo_del_Barro = "37150";
-    public static final String Golpejas = "37151";
-    public static final String Gomecello = "37152";
-    public static final String Guadramiro = "37154";
-    public static final String Guijo_de_Ávila = "37155";
-    public static final String Guijuelo = "37156";
-    public static final String Herguijuela_de_Ciudad_Rodrigo = "37157";
-    public static final String Herguijuela_de_la_Sierra = "37158";
-    public static final String Herguijuela_del_Campo = "37159";
-    public static final String Hinojosa_de_Duero = "37160";
-    public static final String Horcajo_de_Montemayor = "37161";
-    public static final String Horcajo_Medianero = "37162";
-    public static final String Hoya_La = "37163";
-    public static final String Huerta = "37164";
-    public static final String Iruelos = "37165";
-    public static final String Ituero_de_Azaba = "37166";
-    public static final String Juzbado = "37167";
-    public static final String Lagunilla = "37168";
-    public static final String Larrodrigo = "37169";
-    public static final String Ledesma = "37170";
-    public static final String Ledrada = "37171";
-    public static final String Linares_de_Riofrío = "37172";
-    public static final String Lumbrales = "37173";
-    public static final String Machacón = "37175";
-    public static final String Macotera = "37174";
-    public static final String Madroñal = "37176";
-    public static final String Maíllo_El = "37177";
-    public static final String Malpartida = "37178";
-    public static final String Mancera_de_Abajo = "37179";
-    public static final String Manzano_El = "37180";
-    public static final String Martiago = "37181";
-    public static final String Martín_de_Yeltes = "37183";
-    public static final String Martinamor = "37182";
-    public static final String Masueco = "37184";
-    public static final String Mata_de_Ledesma_La = "37186";
-    public static final String Matilla_de_los_Caños_del_Río = "37187";
-    public static final String Maya_La = "37188";
-    public static final String Membribe_de_la_Sierra = "37189";
-    public static final String Mieza = "37190";
-    public static final String Milano_El = "37191";
-    public static final String Miranda_de_Azán = "37192";
-    public static final String Miranda_del_Castañar = "37193";
-    public static final String Mogarraz = "37194";
-    public static final String Molinillo = "37195";
-    public static final String Monforte_de_la_Sierra = "37196";
-    public static final String Monleón = "37197";
-    public static final String Monleras = "37198";
-    public static final String Monsagro = "37199";
-    public static final String Montejo = "37200";
-    public static final String Montemayor_del_Río = "37201";
-    public static final String Monterrubio_de_Armuña = "37202";
-    public static final String Monterrubio_de_la_Sierra = "37203";
-    public static final String Morasverdes = "37204";
-    public static final String Morille = "37205";
-    public static final String Moríñigo = "37206";
-    public static final String Moriscos = "37207";
-    public static final String Moronta = "37208";
-    public static final String Mozárbez = "37209";
-    public static final String Narros_de_Matalayegua = "37211";
-    public static final String Nava_de_Béjar = "37213";
-    public static final String Nava_de_Francia = "37214";
-    public static final String Nava_de_Sotrobal = "37215";
-    public static final String Navacarros = "37212";
-    public static final String Navales = "37216";
-    public static final String Navalmoral_de_Béjar = "37217";
-    public static final String Navamorales = "37218";
-    public static final String Navarredonda_de_la_Rinconada = "37219";
-    public static final String Navasfrías = "37221";
-    public static final String Negrilla_de_Palencia = "37222";
-    public static final String Olmedo_de_Camaces = "37223";
-    public static final String Orbada_La = "37224";
-    public static final String Pajares_de_la_Laguna = "37225";
-    public static final String Palacios_del_Arzobispo = "37226";
-    public static final String Palaciosrubios = "37228";
-    public static final String Palencia_de_Negrilla = "37229";
-    public static final String Parada_de_Arriba = "37230";
-    public static final String Parada_de_Rubiales = "37231";
-    public static final String Paradinas_de_San_Juan = "37232";
-    public static final String Pastores = "37233";
-    public static final String Payo_El = "37234";
-    public static final String Pedraza_de_Alba = "37235";
-    public static final String Pedrosillo_de_Alba = "37236";
-    public static final String Pedrosillo_de_los_Aires = "37237";
-    public static final String Pedrosillo_el_Ralo = "37238";
-    public static final String Pedroso_de_la_Armuña_El = "37239";
-    public static final String Pelabravo = "37240";
-    public static final String Pelarrodríguez = "37241";
-    public static final String Pelayos = "37242";
-    public static final String Peña_La = "37243";
-    public static final String Peñacaballera = "37244";
-    public static final String Peñaparda = "37245";
-    public static final String Peñaranda_de_Bracamonte = "37246";
-    public static final String Peñarandilla = "37247";
-    public static final String Peralejos_de_Abajo = "37248";
-    public static final String Peralejos_de_Arriba = "37249";
-    public static final String Pereña_de_la_Ribera = "37250";
-    public static final String Peromingo = "37251";
-    public static final String Pinedas = "37252";
-    public static final String Pino_de_Tormes_El = "37253";
-    public static final String Pitiegua = "37254";
-    public static final String Pizarral = "37255";
-    public static final String Poveda_de_las_Cintas = "37256";
-    public static final String Pozos_de_Hinojo = "37257";
-    public static final String Puebla_de_Azaba = "37258";
-    public static final String Puebla_de_San_Medel = "37259";
-    public static final String Puebla_de_Yeltes = "37260";
-    public static final String Puente_del_Congosto = "37261";
-    public static final String Puertas = "37262";
-    public static final String Puerto_de_Béjar = "37263";
-    public static final String Puerto_Seguro = "37264";
-    public static final String Rágama = "37265";
-    public static final String Redonda_La = "37266";
-    public static final String Retortillo = "37267";
-    public static final String Rinconada_de_la_Sierra_La = "37268";
-    public static final String Robleda = "37269";
-    public static final String Robliza_de_Cojos = "37270";
-    public static final String Rollán = "37271";
-    public static final String Saelices_el_Chico = "37272";
-    public static final String Sagrada_La = "37273";
-    public static final String Sahugo_El = "37303";
-    public static final String Salamanca = "37274";
-    public static final String Saldeana = "37275";
-    public static final String Salmoral = "37276";
-    public static final String Salvatierra_de_Tormes = "37277";
-    public static final String San_Cristóbal_de_la_Cuesta = "37278";
-    public static final String San_Esteban_de_la_Sierra = "37284";
-    public static final String San_Felices_de_los_Gallegos = "37285";
-    public static final String San_Martín_del_Castañar = "37286";
-    public static final String San_Miguel_de_Valero = "37287";
-    public static final String San_Miguel_del_Robledo = "37036";
-    public static final String San_Morales = "37288";
-    public static final String San_Muñoz = "37289";
-    public static final String San_Pedro_de_Rozados = "37291";
-    public static final String San_Pedro_del_Valle = "37290";
-    public static final String San_Pelayo_de_Guareña = "37292";
-    public static final String Sanchón_de_la_Ribera = "37280";
-    public static final String Sanchón_de_la_Sagrada = "37281";
-    public static final String Sanchotello = "37282";
-    public static final String Sancti_Sppíritus = "37279";
-    public static final String Sando = "37283";
-    public static final String Santa_María_de_Sando = "37293";
-    public static final String Santa_Marta_de_Tormes = "37294";
-    public static final String Santiago_de_la_Puebla = "37296";
-    public static final String Santibáñez_de_Béjar = "37297";
-    public static final String Santibáñez_de_la_Sierra = "37298";
-    public static final String Santiz = "37299";
-    public static final String Santos_Los = "37300";
-    public static final String Sardón_de_los_Frailes = "37301";
-    public static final String Saucelle = "37302";
-    public static final String Sepulcro_Hilario = "37304";
-    public static final String Sequeros = "37305";
-    public static final String Serradilla_del_Arroyo = "37306";
-    public static final String Serradilla_del_Llano = "37307";
-    public static final String Sierpe_La = "37309";
-    public static final String Sieteiglesias_de_Tormes = "37310";
-    public static final String Sobradillo = "37311";
-    public static final String Sorihuela = "37312";
-    public static final String Sotoserrano = "37313";
-    public static final String Tabera_de_Abajo = "37314";
-    public static final String Tala_La = "37315";
-    public static final String Tamames = "37316";
-    public static final String Tarazona_de_Guareña = "37317";
-    public static final String Tardáguila = "37318";
-    public static final String Tejado_El = "37319";
-    public static final String Tejeda_y_Segoyuela = "37320";
-    public static final String Tenebrón = "37321";
-    public static final String Terradillos = "37322";
-    public static final String Topas = "37323";
-    public static final String Tordillos = "37324";
-    public static final String Tornadizo_El = "37325";
-    public static final String Torresmenudas = "37327";
-    public static final String Trabanca = "37328";
-    public static final String Tremedal_de_Tormes = "37329";
-    public static final String Valdecarros = "37330";
-    public static final String Valdefuentes_de_Sangusín = "37331";
-    public static final String Valdehijaderos = "37332";
-    public static final String Valdelacasa = "37333";
-    public static final String Valdelageve = "37334";
-    public static final String Valdelosa = "37335";
-    public static final String Valdemierque = "37336";
-    public static final String Valderrodrigo = "37337";
-    public static final String Valdunciel = "37338";
-    public static final String Valero = "37339";
-    public static final String Vallejera_de_Riofrío = "37343";
-    public static final String Valsalabroso = "37340";
-    public static final String Valverde_de_Valdelacasa = "37341";
-    public static final String Valverdón = "37342";
-    public static final String Vecinos = "37344";
-    public static final String Vega_de_Tirados = "37345";
-    public static final String Veguillas_Las = "37346";
-    public static final String Vellés_La = "37347";
-    public static final String Ventosa_del_Río_Almar = "37348";
-    public static final String Vídola_La = "37349";
-    public static final String Villaflores = "37351";
-    public static final String Villagonzalo_de_Tormes = "37352";
-    public static final String Villalba_de_los_Llanos = "37353";
-    public static final String Villamayor = "37354";
-    public static final String Villanueva_del_Conde = "37355";
-    public static final String Villar_de_Argañán = "37356";
-    public static final String Villar_de_Ciervo = "37357";
-    public static final String Villar_de_Gallimazo = "37358";
-    public static final String Villar_de_la_Yegua = "37359";
-    public static final String Villar_de_Peralonso = "37360";
-    public static final String Villar_de_Samaniego = "37361";
-    public static final String Villares_de_la_Reina = "37362";
-    public static final String Villares_de_Yeltes = "37363";
-    public static final String Villarino_de_los_Aires = "37364";
-    public static final String Villarmayor = "37365";
-    public static final String Villarmuerto = "37366";
-    public static final String Villasbuenas = "37367";
-    public static final String Villasdardo = "37368";
-    public static final String Villaseco_de_los_Gamitos = "37369";
-    public static final String Villaseco_de_los_Reyes = "37370";
-    public static final String Villasrubias = "37371";
-    public static final String Villaverde_de_Guareña = "37372";
-    public static final String Villavieja_de_Yeltes = "37373";
-    public static final String Villoria = "37374";
-    public static final String Villoruela = "37375";
-    public static final String Vilvestre = "37350";
-    public static final String Vitigudino = "37376";
-    public static final String Yecla_de_Yeltes = "37377";
-    public static final String Zamarra = "37378";
-    public static final String Zamayón = "37379";
-    public static final String Zarapicos = "37380";
-    public static final String Zarza_de_Pumareda_La = "37381";
-    public static final String Zorita_de_la_Frontera = "37382";
-    public static final String Adeje = "38001";
-    public static final String Agulo = "38002";
-    public static final String Alajeró = "38003";
-    public static final String Arafo = "38004";
-    public static final String Arico = "38005";
-    public static final String Arona = "38006";
-    public static final String Barlovento = "38007";
-    public static final String Breña_Alta = "38008";
-    public static final String Breña_Baja = "38009";
-    public static final String Buenavista_del_Norte = "38010";
-    public static final String Candelaria = "38011";
-    public static final String Fasnia = "38012";
-    public static final String Frontera = "38013";
-    public static final String Fuencaliente_de_la_Palma = "38014";
-    public static final String Garachico = "38015";
-    public static final String Garafía = "38016";
-    public static final String Granadilla_de_Abona = "38017";
-    public static final String Guancha_La = "38018";
-    public static final String Guía_de_Isora = "38019";
-    public static final String Güímar = "38020";
-    public static final String Hermigua = "38021";
-    public static final String Icod_de_los_Vinos = "38022";
-    public static final String Llanos_de_Aridane_Los = "38024";
-    public static final String Matanza_de_Acentejo_La = "38025";
-    public static final String Orotava_La = "38026";
-    public static final String Paso_El = "38027";
-    public static final String Pinar_de_El_Hierro_El = "38901";
-    public static final String Puerto_de_la_Cruz = "38028";
-    public static final String Puntagorda = "38029";
-    public static final String Puntallana = "38030";
-    public static final String Realejos_Los = "38031";
-    public static final String Rosario_El = "38032";
-    public static final String San_Andrés_y_Sauces = "38033";
-    public static final String San_Cristóbal_de_La_Laguna = "38023";
-    public static final String San_Juan_de_la_Rambla = "38034";
-    public static final String San_Miguel_de_Abona = "38035";
-    public static final String San_Sebastián_de_la_Gomera = "38036";
-    public static final String Santa_Cruz_de_la_Palma = "38037";
-    public static final String Santa_Cruz_de_Tenerife = "38038";
-    public static final String Santa_Úrsula = "38039";
-    public static final String Santiago_del_Teide = "38040";
-    public static final String Sauzal_El = "38041";
-    public static final String Silos_Los = "38042";
-    public static final String Tacoronte = "38043";
-    public static final String Tanque_El = "38044";
-    public static final String Tazacorte = "38045";
-    public static final String Tegueste = "38046";
-    public static final String Tijarafe = "38047";
-    public static final String Valle_Gran_Rey = "38049";
-    public static final String Vallehermoso = "38050";
-    public static final String Valverde = "38048";
-    public static final String Victoria_de_Acentejo_La = "38051";
-    public static final String Vilaflor_de_Chasna = "38052";
-    public static final String Villa_de_Mazo = "38053";
-    public static final String Alfoz_de_Lloredo = "39001";
-    public static final String Ampuero = "39002";
-    public static final String Anievas = "39003";
-    public static final String Arenas_de_Iguña = "39004";
-    public static final String Argoños = "39005";
-    public static final String Arnuero = "39006";
-    public static final String Arredondo = "39007";
-    public static final String Astillero_El = "39008";
-    public static final String Bárcena_de_Cicero = "39009";
-    public static final String Bárcena_de_Pie_de_Concha = "39010";
-    public static final String Bareyo = "39011";
-    public static final String Cabezón_de_la_Sal = "39012";
-    public static final String Cabezón_de_Liébana = "39013";
-    public static final String Cabuérniga = "39014";
-    public static final String Camaleño = "39015";
-    public static final String Camargo = "39016";
-    public static final String Campoo_de_Enmedio = "39027";
-    public static final String Campoo_de_Yuso = "39017";
-    public static final String Cartes = "39018";
-    public static final String Castañeda = "39019";
-    public static final String Castro_Urdiales = "39020";
-    public static final String Ciezza = "39021";
-    public static final String Cillorigo_de_Liébana = "39022";
-    public static final String Colindres = "39023";
-    public static final String Comillas = "39024";
-    public static final String Corrales_de_Buelna_Los = "39025";
-    public static final String Corvera_de_Toranzo = "39026";
-    public static final String Entrambasaguas = "39028";
-    public static final String Escalante = "39029";
-    public static final String Guriezo = "39030";
-    public static final String Hazas_de_Cesto = "39031";
-    public static final String Hermandad_de_Campoo_de_Suso = "39032";
-    public static final String Herrerías = "39033";
-    public static final String Lamasón = "39034";
-    public static final String Laredo = "39035";
-    public static final String Liendo = "39036";
-    public static final String Liérganes = "39037";
-    public static final String Limpias = "39038";
-    public static final String Luena = "39039";
-    public static final String Marina_de_Cudeyo = "39040";
-    public static final String Mazcuerras = "39041";
-    public static final String Medio_Cudeyo = "39042";
-    public static final String Meruelo = "39043";
-    public static final String Miengo = "39044";
-    public static final String Miera = "39045";
-    public static final String Molledo = "39046";
-    public static final String Noja = "39047";
-    public static final String Penagos = "39048";
-    public static final String Peñarrubia = "39049";
-    public static final String Pesaguero = "39050";
-    public static final String Pesquera = "39051";
-    public static final String Piélagos = "39052";
-    public static final String Polaciones = "39053";
-    public static final String Polanco = "39054";
-    public static final String Potes = "39055";
-    public static final String Puente_Viesgo = "39056";
-    public static final String Ramales_de_la_Victoria = "39057";
-    public static final String Rasines = "39058";
-    public static final String Reinosa = "39059";
-    public static final String Reocín = "39060";
-    public static final String Ribamontán_al_Mar = "39061";
-    public static final String Ribamontán_al_Monte = "39062";
-    public static final String Rionansa = "39063";
-    public static final String Riotuerto = "39064";
-    public static final String Rozas_de_Valdearroyo_Las = "39065";
-    public static final String Ruente = "39066";
-    public static final String Ruesga = "39067";
-    public static final String Ruiloba = "39068";
-    public static final String San_Felices_de_Buelna = "39069";
-    public static final String San_Miguel_de_Aguayo = "39070";
-    public static final String San_Pedro_del_Romeral = "39071";
-    public static final String San_Roque_de_Riomiera = "39072";
-    public static final String San_Vicente_de_la_Barquera = "39080";
-    public static final String Santa_Cruz_de_Bezana = "39073";
-    public static final String Santa_María_de_Cayón = "39074";
-    public static final String Santander = "39075";
-    public static final String Santillana_del_Mar = "39076";
-    public static final String Santiurde_de_Reinosa = "39077";
-    public static final String Santiurde_de_Toranzo = "39078";
-    public static final String Santoña = "39079";
-    public static final String Saro = "39081";
-    public static final String Selaya = "39082";
-    public static final String Soba = "39083";
-    public static final String Solórzano = "39084";
-    public static final String Suances = "39085";
-    public static final String Tojos_Los = "39086";
-    public static final String Torrelavega = "39087";
-    public static final String Tresviso = "39088";
-    public static final String Tudanca = "39089";
-    public static final String Udías = "39090";
-    public static final String Val_de_San_Vicente = "39095";
-    public static final String Valdáliga = "39091";
-    public static final String Valdeolea = "39092";
-    public static final String Valdeprado_del_Río = "39093";
-    public static final String Valderredible = "39094";
-    public static final String Valle_de_Villaverde = "39101";
-    public static final String Vega_de_Liébana = "39096";
-    public static final String Vega_de_Pas = "39097";
-    public static final String Villacarriedo = "39098";
-    public static final String Villaescusa = "39099";
-    public static final String Villafufre = "39100";
-    public static final String Voto = "39102";
-    public static final String Abades = "40001";
-    public static final String Adrada_de_Pirón = "40002";
-    public static final String Adrados = "40003";
-    public static final String Aguilafuente = "40004";
-    public static final String Alconada_de_Maderuelo = "40005";
-    public static final String Aldea_Real = "40012";
-    public static final String Aldealcorvo = "40006";
-    public static final String Aldealengua_de_Pedraza = "40007";
-    public static final String Aldealengua_de_Santa_María = "40008";
-    public static final String Aldeanueva_de_la_Serrezuela = "40009";
-    public static final String Aldeanueva_del_Codonal = "40010";
-    public static final String Aldeasoña = "40013";
-    public static final String Aldehorno = "40014";
-    public static final String Aldehuela_del_Codonal = "40015";
-    public static final String Aldeonte = "40016";
-    public static final String Anaya = "40017";
-    public static final String Añe = "40018";
-    public static final String Arahuetes = "40019";
-    public static final String Arcones = "40020";
-    public static final String Arevalillo_de_Cega = "40021";
-    public static final String Armuña = "40022";
-    public static final String Ayllón = "40024";
-    public static final String Barbolla = "40025";
-    public static final String Basardilla = "40026";
-    public static final String Bercial = "40028";
-    public static final String Bercimuel = "40029";
-    public static final String Bernardos = "40030";
-    public static final String Bernuy_de_Porreros = "40031";
-    public static final String Boceguillas = "40032";
-    public static final String Brieva = "40033";
-    public static final String Caballar = "40034";
-    public static final String Cabañas_de_Polendos = "40035";
-    public static final String Cabezuela = "40036";
-    public static final String Calabazas_de_Fuentidueña = "40037";
-    public static final String Campo_de_San_Pedro = "40039";
-    public static final String Cantalejo = "40040";
-    public static final String Cantimpalos = "40041";
-    public static final String Carabias = "40161";
-    public static final String Carbonero_el_Mayor = "40043";
-    public static final String Carrascal_del_Río = "40044";
-    public static final String Casla = "40045";
-    public static final String Castillejo_de_Mesleón = "40046";
-    public static final String Castro_de_Fuentidueña = "40047";
-    public static final String Castrojimeno = "40048";
-    public static final String Castroserna_de_Abajo = "40049";
-    public static final String Castroserracín = "40051";
-    public static final String Cedillo_de_la_Torre = "40052";
-    public static final String Cerezo_de_Abajo = "40053";
-    public static final String Cerezo_de_Arriba = "40054";
-    public static final String Chañe = "40065";
-    public static final String Cilleruelo_de_San_Mamés = "40055";
-    public static final String Cobos_de_Fuentidueña = "40056";
-    public static final String Coca = "40057";
-    public static final String Codorniz = "40058";
-    public static final String Collado_Hermoso = "40059";
-    public static final String Condado_de_Castilnovo = "40060";
-    public static final String Corral_de_Ayllón = "40061";
-    public static final String Cozuelos_de_Fuentidueña = "40902";
-    public static final String Cubillo = "40062";
-    public static final String Cuéllar = "40063";
-    public static final String Cuevas_de_Provanco = "40905";
-    public static final String Domingo_García = "40068";
-    public static final String Donhierro = "40069";
-    public static final String Duruelo = "40070";
-    public static final String Encinas = "40071";
-    public static final String Encinillas = "40072";
-    public static final String Escalona_del_Prado = "40073";
-    public static final String Escarabajosa_de_Cabezas = "40074";
-    public static final String Escobar_de_Polendos = "40075";
-    public static final String Espinar_El = "40076";
-    public static final String Espirdo = "40077";
-    public static final String Fresneda_de_Cuéllar = "40078";
-    public static final String Fresno_de_Cantespino = "40079";
-    public static final String Fresno_de_la_Fuente = "40080";
-    public static final String Frumales = "40081";
-    public static final String Fuente_de_Santa_Cruz = "40082";
-    public static final String Fuente_el_Olmo_de_Fuentidueña = "40083";
-    public static final String Fuente_el_Olmo_de_Íscar = "40084";
-    public static final String Fuentepelayo = "40086";
-    public static final String Fuentepiñel = "40087";
-    public static final String Fuenterrebollo = "40088";
-    public static final String Fuentesaúco_de_Fuentidueña = "40089";
-    public static final String Fuentesoto = "40091";
-    public static final String Fuentidueña = "40092";
-    public static final String Gallegos = "40093";
-    public static final String Garcillán = "40094";
-    public static final String Gomezserracín = "40095";
-    public static final String Grajera = "40097";
-    public static final String Honrubia_de_la_Cuesta = "40099";
-    public static final String Hontalbilla = "40100";
-    public static final String Hontanares_de_Eresma = "40101";
-    public static final String Huertos_Los = "40103";
-    public static final String Ituero_y_Lama = "40104";
-    public static final String Juarros_de_Riomoros = "40105";
-    public static final String Juarros_de_Voltoya = "40106";
-    public static final String Labajos = "40107";
-    public static final String Laguna_de_Contreras = "40108";
-    public static final String Languilla = "40109";
-    public static final String Lastras_de_Cuéllar = "40110";
-    public static final String Lastras_del_Pozo = "40111";
-    public static final String Lastrilla_La = "40112";
-    public static final String Losa_La = "40113";
-    public static final String Maderuelo = "40115";
-    public static final String Marazoleja = "40903";
-    public static final String Marazuela = "40118";
-    public static final String Martín_Miguel = "40119";
-    public static final String Martín_Muñoz_de_la_Dehesa = "40120";
-    public static final String Martín_Muñoz_de_las_Posadas = "40121";
-    public static final String Marugán = "40122";
-    public static final String Mata_de_Cuéllar = "40124";
-    public static final String Matabuena = "40123";
-    public static final String Matilla_La = "40125";
-    public static final String Melque_de_Cercos = "40126";
-    public static final String Membibre_de_la_Hoz = "40127";
-    public static final String Migueláñez = "40128";
-    public static final String Montejo_de_Arévalo = "40129";
-    public static final String Montejo_de_la_Vega_de_la_Serrezuela = "40130";
-    public static final String Monterrubio = "40131";
-    public static final String Moral_de_Hornuez = "40132";
-    public static final String Mozoncillo = "40134";
-    public static final String Muñopedro = "40135";
-    public static final String Muñoveros = "40136";
-    public static final String Nava_de_la_Asunción = "40138";
-    public static final String Navafría = "40139";
-    public static final String Navalilla = "40140";
-    public static final String Navalmanzano = "40141";
-    public static final String Navares_de_Ayuso = "40142";
-    public static final String Navares_de_Enmedio = "40143";
-    public static final String Navares_de_las_Cuevas = "40144";
-    public static final String Navas_de_Oro = "40145";
-    public static final String Navas_de_Riofrío = "40904";
-    public static final String Navas_de_San_Antonio = "40146";
-    public static final String Nieva = "40148";
-    public static final String Olombrada = "40149";
-    public static final String Orejana = "40150";
-    public static final String Ortigosa_de_Pestaño = "40151";
-    public static final String Ortigosa_del_Monte = "40901";
-    public static final String Otero_de_Herreros = "40152";
-    public static final String Pajarejos = "40154";
-    public static final String Palazuelos_de_Eresma = "40155";
-    public static final String Pedraza = "40156";
-    public static final String Pelayos_del_Arroyo = "40157";
-    public static final String Perosillo = "40158";
-    public static final String Pinarejos = "40159";
-    public static final String Pinarnegrillo = "40160";
-    public static final String Prádena = "40162";
-    public static final String Puebla_de_Pedraza = "40163";
-    public static final String Rapariegos = "40164";
-    public static final String Real_Sitio_de_San_Ildefonso = "40181";
-    public static final String Rebollo = "40165";
-    public static final String Remondo = "40166";
-    public static final String Riaguas_de_San_Bartolomé = "40168";
-    public static final String Riaza = "40170";
-    public static final String Ribota = "40171";
-    public static final String Riofrío_de_Riaza = "40172";
-    public static final String Roda_de_Eresma = "40173";
-    public static final String Sacramenia = "40174";
-    public static final String Samboal = "40176";
-    public static final String San_Cristóbal_de_Cuéllar = "40177";
-    public static final String San_Cristóbal_de_la_Vega = "40178";
-    public static final String San_Cristóbal_de_Segovia = "40906";
-    public static final String San_Martín_y_Mudrián = "40182";
-    public static final String San_Miguel_de_Bernuy = "40183";
-    public static final String San_Pedro_de_Gaíllos = "40184";
-    public static final String Sanchonuño = "40179";
-    public static final String Sangarcía = "40180";
-    public static final String Santa_María_la_Real_de_Nieva = "40185";
-    public static final String Santa_Marta_del_Cerro = "40186";
-    public static final String Santiuste_de_Pedraza = "40188";
-    public static final String Santiuste_de_San_Juan_Bautista = "40189";
-    public static final String Santo_Domingo_de_Pirón = "40190";
-    public static final String Santo_Tomé_del_Puerto = "40191";
-    public static final String Sauquillo_de_Cabezas = "40192";
-    public static final String Sebúlcor = "40193";
-    public static final String Segovia = "40194";
-    public static final String Sepúlveda = "40195";
-    public static final String Sequera_de_Fresno = "40196";
-    public static final String Sotillo = "40198";
-    public static final String Sotosalbos = "40199";
-    public static final String Tabanera_la_Luenga = "40200";
-    public static final String Tolocirio = "40201";
-    public static final String Torre_Val_de_San_Pedro = "40206";
-    public static final String Torreadrada = "40202";
-    public static final String Torrecaballeros = "40203";
-    public static final String Torrecilla_del_Pinar = "40204";
-    public static final String Torreiglesias = "40205";
-    public static final String Trescasas = "40207";
-    public static final String Turégano = "40208";
-    public static final String Urueñas = "40210";
-    public static final String Valdeprados = "40211";
-    public static final String Valdevacas_de_Montejo = "40212";
-    public static final String Valdevacas_y_Guijar = "40213";
-    public static final String Valle_de_Tabladillo = "40218";
-    public static final String Vallelado = "40219";
-    public static final String Valleruela_de_Pedraza = "40220";
-    public static final String Valleruela_de_Sepúlveda = "40221";
-    public static final String Valseca = "40214";
-    public static final String Valtiendas = "40215";
-    public static final String Valverde_del_Majano = "40216";
-    public static final String Veganzones = "40222";
-    public static final String Vegas_de_Matute = "40223";
-    public static final String Ventosilla_y_Tejadilla = "40224";
-    public static final String Villacastín = "40225";
-    public static final String Villaverde_de_Íscar = "40228";
-    public static final String Villaverde_de_Montejo = "40229";
-    public static final String Villeguillo = "40230";
-    public static final String Yanguas_de_Eresma = "40231";
-    public static final String Zarzuela_del_Monte = "40233";
-    public static final String Zarzuela_del_Pinar = "40234";
-    public static final String Aguadulce = "41001";
-    public static final String Alanís = "41002";
-    public static final String Albaida_del_Aljarafe = "41003";
-    public static final String Alcalá_de_Guadaíra = "41004";
-    public static final String Alcalá_del_Río = "41005";
-    public static final String Alcolea_del_Río = "41006";
-    public static final String Algaba_La = "41007";
-    public static final String Algámitas = "41008";
-    public static final String Almadén_de_la_Plata = "41009";
-    public static final String Almensilla = "41010";
-    public static final String Arahal = "41011";
-    public static final String Aznalcázar = "41012";
-    public static final String Aznalcóllar = "41013";
-    public static final String Badolatosa = "41014";
-    public static final String Benacazón = "41015";
-    public static final String Bollullos_de_la_Mitación = "41016";
-    public static final String Bormujos = "41017";
-    public static final String Brenes = "41018";
-    public static final String Burguillos = "41019";
-    public static final String Cabezas_de_San_Juan_Las = "41020";
-    public static final String Camas = "41021";
-    public static final String Campana_La = "41022";
-    public static final String Cantillana = "41023";
-    public static final String Cañada_Rosal = "41901";
-    public static final String Carmona = "41024";
-    public static final String Carrión_de_los_Céspedes = "41025";
-    public static final String Casariche = "41026";
-    public static final String Castilblanco_de_los_Arroyos = "41027";
-    public static final String Castilleja_de_Guzmán = "41028";
-    public static final String Castilleja_de_la_Cuesta = "41029";
-    public static final String Castilleja_del_Campo = "41030";
-    public static final String Castillo_de_las_Guardas_El = "41031";
-    public static final String Cazalla_de_la_Sierra = "41032";
-    public static final String Constantina = "41033";
-    public static final String Coria_del_Río = "41034";
-    public static final String Coripe = "41035";
-    public static final String Coronil_El = "41036";
-    public static final String Corrales_Los = "41037";
-    public static final String Cuervo_de_Sevilla_El = "41903";
-    public static final String Dos_Hermanas = "41038";
-    public static final String Écija = "41039";
-    public static final String Espartinas = "41040";
-    public static final String Estepa = "41041";
-    public static final String Fuentes_de_Andalucía = "41042";
-    public static final String Garrobo_El = "41043";
-    public static final String Gelves = "41044";
-    public static final String Gerena = "41045";
-    public static final String Gilena = "41046";
-    public static final String Gines = "41047";
-    public static final String Guadalcanal = "41048";
-    public static final String Guillena = "41049";
-    public static final String Herrera = "41050";
-    public static final String Huévar_del_Aljarafe = "41051";
-    public static final String Isla_Mayor = "41902";
-    public static final String Lantejuela = "41052";
-    public static final String Lebrija = "41053";
-    public static final String Lora_de_Estepa = "41054";
-    public static final String Lora_del_Río = "41055";
-    public static final String Luisiana_La = "41056";
-    public static final String Madroño_El = "41057";
-    public static final String Mairena_del_Alcor = "41058";
-    public static final String Mairena_del_Aljarafe = "41059";
-    public static final String Marchena = "41060";
-    public static final String Marinaleda = "41061";
-    public static final String Martín_de_la_Jara = "41062";
-    public static final String Molares_Los = "41063";
-    public static final String Montellano = "41064";
-    public static final String Morón_de_la_Frontera = "41065";
-    public static final String Navas_de_la_Concepción_Las = "41066";
-    public static final String Olivares = "41067";
-    public static final String Osuna = "41068";
-    public static final String Palacios_y_Villafranca_Los = "41069";
-    public static final String Palmar_de_Troya_El = "41904";
-    public static final String Palomares_del_Río = "41070";
-    public static final String Paradas = "41071";
-    public static final String Pedrera = "41072";
-    public static final String Pedroso_El = "41073";
-    public static final String Peñaflor = "41074";
-    public static final String Pilas = "41075";
-    public static final String Pruna = "41076";
-    public static final String Puebla_de_Cazalla_La = "41077";
-    public static final String Puebla_de_los_Infantes_La = "41078";
-    public static final String Puebla_del_Río_La = "41079";
-    public static final String Real_de_la_Jara_El = "41080";
-    public static final String Rinconada_La = "41081";
-    public static final String Roda_de_Andalucía_La = "41082";
-    public static final String Ronquillo_El = "41083";
-    public static final String Rubio_El = "41084";
-    public static final String Salteras = "41085";
-    public static final String San_Juan_de_Aznalfarache = "41086";
-    public static final String San_Nicolás_del_Puerto = "41088";
-    public static final String Sanlúcar_la_Mayor = "41087";
-    public static final String Santiponce = "41089";
-    public static final String Saucejo_El = "41090";
-    public static final String Sevilla = "41091";
-    public static final String Tocina = "41092";
-    public static final String Tomares = "41093";
-    public static final String Umbrete = "41094";
-    public static final String Utrera = "41095";
-    public static final String Valencina_de_la_Concepción = "41096";
-    public static final String Villamanrique_de_la_Condesa = "41097";
-    public static final String Villanueva_de_San_Juan = "41100";
-    public static final String Villanueva_del_Ariscal = "41098";
-    public static final String Villanueva_del_Río_y_Minas = "41099";
-    public static final String Villaverde_del_Río = "41101";
-    public static final String Viso_del_Alcor_El = "41102";
-    public static final String Abejar = "42001";
-    public static final String Adradas = "42003";
-    public static final String Ágreda = "42004";
-    public static final String Alconaba = "42006";
-    public static final String Alcubilla_de_Avellaneda = "42007";
-    public static final String Alcubilla_de_las_Peñas = "42008";
-    public static final String Aldealafuente = "42009";
-    public static final String Aldealices = "42010";
-    public static final String Aldealpozo = "42011";
-    public static final String Aldealseñor = "42012";
-    public static final String Aldehuela_de_Periáñez = "42013";
-    public static final String Aldehuelas_Las = "42014";
-    public static final String Alentisque = "42015";
-    public static final String Aliud = "42016";
-    public static final String Almajano = "42017";
-    public static final String Almaluez = "42018";
-    public static final String Almarza = "42019";
-    public static final String Almazán = "42020";
-    public static final String Almazul = "42021";
-    public static final String Almenar_de_Soria = "42022";
-    public static final String Alpanseque = "42023";
-    public static final String Arancón = "42024";
-    public static final String Arcos_de_Jalón = "42025";
-    public static final String Arenillas = "42026";
-    public static final String Arévalo_de_la_Sierra = "42027";
-    public static final String Ausejo_de_la_Sierra = "42028";
-    public static final String Baraona = "42029";
-    public static final String Barca = "42030";
-    public static final String Barcones = "42031";
-    public static final String Bayubas_de_Abajo = "42032";
-    public static final String Bayubas_de_Arriba = "42033";
-    public static final String Beratón = "42034";
-    public static final String Berlanga_de_Duero = "42035";
-    public static final String Blacos = "42036";
-    public static final String Bliecos = "42037";
-    public static final String Borjabad = "42038";
-    public static final String Borobia = "42039";
-    public static final String Buberos = "42041";
-    public static final String Buitrago = "42042";
-    public static final String Burgo_de_Osma_Ciudad_de_Osma = "42043";
-    public static final String Cabrejas_del_Campo = "42044";
-    public static final String Cabrejas_del_Pinar = "42045";
-    public static final String Calatañazor = "42046";
-    public static final String Caltojar = "42048";
-    public static final String Candilichera = "42049";
-    public static final String Cañamaque = "42050";
-    public static final String Carabantes = "42051";
-    public static final String Caracena = "42052";
-    public static final String Carrascosa_de_Abajo = "42053";
-    public static final String Carrascosa_de_la_Sierra = "42054";
-    public static final String Casarejos = "42055";
-    public static final String Castilfrío_de_la_Sierra = "42056";
-    public static final String Castillejo_de_Robledo = "42058";
-    public static final String Castilruiz = "42057";
-    public static final String Centenera_de_Andaluz = "42059";
-    public static final String Cerbón = "42060";
-    public static final String Cidones = "42061";
-    public static final String Cigudosa = "42062";
-    public static final String Cihuela = "42063";
-    public static final String Ciria = "42064";
-    public static final String Cirujales_del_Río = "42065";
-    public static final String Coscurita = "42068";
-    public static final String Covaleda = "42069";
-    public static final String Cubilla = "42070";
-    public static final String Cubo_de_la_Solana = "42071";
-    public static final String Cueva_de_Ágreda = "42073";
-    public static final String Dévanos = "42075";
-    public static final String Deza = "42076";
-    public static final String Duruelo_de_la_Sierra = "42078";
-    public static final String Escobosa_de_Almazán = "42079";
-    public static final String Espeja_de_San_Marcelino = "42080";
-    public static final String Espejón = "42081";
-    public static final String Estepa_de_San_Juan = "42082";
-    public static final String Frechilla_de_Almazán = "42083";
-    public static final String Fresno_de_Caracena = "42084";
-    public static final String Fuentearmegil = "42085";
-    public static final String Fuentecambrón = "42086";
-    public static final String Fuentecantos = "42087";
-    public static final String Fuentelmonge = "42088";
-    public static final String Fuentelsaz_de_Soria = "42089";
-    public static final String Fuentepinilla = "42090";
-    public static final String Fuentes_de_Magaña = "42092";
-    public static final String Fuentestrún = "42093";
-    public static final String Garray = "42094";
-    public static final String Golmayo = "42095";
-    public static final String Gómara = "42096";
-    public static final String Gormaz = "42097";
-    public static final String Herrera_de_Soria = "42098";
-    public static final String Hinojosa_del_Campo = "42100";
-    public static final String Langa_de_Duero = "42103";
-    public static final String Liceras = "42105";
-    public static final String Losilla_La = "42106";
-    public static final String Magaña = "42107";
-    public static final String Maján = "42108";
-    public static final String Matalebreras = "42110";
-    public static final String Matamala_de_Almazán = "42111";
-    public static final String Medinaceli = "42113";
-    public static final String Miño_de_Medinaceli = "42115";
-    public static final String Miño_de_San_Esteban = "42116";
-    public static final String Molinos_de_Duero = "42117";
-    public static final String Momblona = "42118";
-    public static final String Monteagudo_de_las_Vicarías = "42119";
-    public static final String Montejo_de_Tiermes = "42120";
-    public static final String Montenegro_de_Cameros = "42121";
-    public static final String Morón_de_Almazán = "42123";
-    public static final String Muriel_de_la_Fuente = "42124";
-    public static final String Muriel_Viejo = "42125";
-    public static final String Nafría_de_Ucero = "42127";
-    public static final String Narros = "42128";
-    public static final String Navaleno = "42129";
-    public static final String Nepas = "42130";
-    public static final String Nolay = "42131";
-    public static final String Noviercas = "42132";
-    public static final String Ólvega = "42134";
-    public static final String Oncala = "42135";
-    public static final String Pinilla_del_Campo = "42139";
-    public static final String Portillo_de_Soria = "42140";
-    public static final String Póveda_de_Soria_La = "42141";
-    public static final String Pozalmuro = "42142";
-    public static final String Quintana_Redonda = "42144";
-    public static final String Quintanas_de_Gormaz = "42145";
-    public static final String Quiñonería = "42148";
-    public static final String Rábanos_Los = "42149";
-    public static final String Rebbollar = "42151";
-    public static final String Recuerda = "42152";
-    public static final String Rello = "42153";
-    public static final String Renieblas = "42154";
-    public static final String Retortillo_de_Soria = "42155";
-    public static final String Reznos = "42156";
-    public static final String Riba_de_Escalote_La = "42157";
-    public static final String Rioseco_de_Soria = "42158";
-    public static final String Rollamienta = "42159";
-    public static final String Royo_El = "42160";
-    public static final String Salduero = "42161";
-    public static final String San_Esteban_de_Gormaz = "42162";
-    public static final String San_Felices = "42163";
-    public static final String San_Leonardo_de_Yagüe = "42164";
-    public static final String San_Pedro_Manrique = "42165";
-    public static final String Santa_Cruz_de_Yanguas = "42166";
-    public static final String Santa_María_de_Huerta = "42167";
-    public static final String Santa_María_de_las_Hoyas = "42168";
-    public static final String Serón_de_Nágima = "42171";
-    public static final String Soliedra = "42172";
-    public static final String Soria = "42173";
-    public static final String Sotillo_del_Rincón = "42174";
-    public static final String Suellacabras = "42175";
-    public static final String Tajahuerce = "42176";
-    public static final String Tajueco = "42177";
-    public static final String Talveila = "42178";
-    public static final String Tardelcuende = "42181";
-    public static final String Taroda = "42182";
-    public static final String Tejado = "42183";
-    public static final String Torlengua = "42184";
-    public static final String Torreblacos = "42185";
-    public static final String Torrubia_de_Soria = "42187";
-    public static final String Trévago = "42188";
-    public static final String Ucero = "42189";
-    public static final String Vadillo = "42190";
-    public static final String Valdeavellano_de_Tera = "42191";
-    public static final String Valdegeña = "42192";
-    public static final String Valdelagua_del_Cerro = "42193";
-    public static final String Valdemaluque = "42194";
-    public static final String Valdenebro = "42195";
-    public static final String Valdeprado = "42196";
-    public static final String Valderrodilla = "42197";
-    public static final String Valtajeros = "42198";
-    public static final String Velamazán = "42200";
-    public static final String Velilla_de_la_Sierra = "42201";
-    public static final String Velilla_de_los_Ajos = "42202";
-    public static final String Viana_de_Duero = "42204";
-    public static final String Villaciervos = "42205";
-    public static final String Villanueva_de_Gormaz = "42206";
-    public static final String Villar_del_Ala = "42207";
-    public static final String Villar_del_Campo = "42208";
-    public static final String Villar_del_Río = "42209";
-    public static final String Villares_de_Soria_Los = "42211";
-    public static final String Villasayas = "42212";
-    public static final String Villaseca_de_Arciel = "42213";
-    public static final String Vinuesa = "42215";
-    public static final String Vizmanos = "42216";
-    public static final String Vozmediano = "42217";
-    public static final String Yanguas = "42218";
-    public static final String Yelo = "42219";
-    public static final String Aiguamúrcia = "43001";
-    public static final String Albinyana = "43002";
-    public static final String Albiol = "43003";
-    public static final String Alcanar = "43004";
-    public static final String Alcover = "43005";
-    public static final String Aldea = "43904";
-    public static final String Aldover = "43006";
-    public static final String Aleixar = "43007";
-    public static final String Alfara_de_Carles = "43008";
-    public static final String Alforja = "43009";
-    public static final String Alió = "43010";
-    public static final String Almoster = "43011";
-    public static final String Altafulla = "43012";
-    public static final String Ametlla_de_Mar = "43013";
-    public static final String Ampolla = "43906";
-    public static final String Amposta = "43014";
-    public static final String Arboç = "43016";
-    public static final String Arbolí = "43015";
-    public static final String Argentera = "43017";
-    public static final String Arnes = "43018";
-    public static final String Ascó = "43019";
-    public static final String Banyeres_del_Penedès = "43020";
-    public static final String Barberà_de_la_Conca = "43021";
-    public static final String Batea = "43022";
-    public static final String Bellmunt_del_Priorat = "43023";
-    public static final String Bellvei = "43024";
-    public static final String Benifallet = "43025";
-    public static final String Benissanet = "43026";
-    public static final String Bisbal_de_Falset_La = "43027";
-    public static final String Bisbal_del_Penedès_La = "43028";
-    public static final String Blancafort = "43029";
-    public static final String Bonastre = "43030";
-    public static final String Borges_del_Camp_Les = "43031";
-    public static final String Bot = "43032";
-    public static final String Botarell = "43033";
-    public static final String Bràfim = "43034";
-    public static final String Cabacés = "43035";
-    public static final String Cabra_del_Camp = "43036";
-    public static final String Calafell = "43037";
-    public static final String Camarles = "43903";
-    public static final String Cambrils = "43038";
-    public static final String Canonja_La = "43907";
-    public static final String Capafonts = "43039";
-    public static final String Capçanes = "43040";
-    public static final String Caseres = "43041";
-    public static final String Castellvell_del_Camp = "43042";
-    public static final String Catllar_El = "43043";
-    public static final String Colldejou = "43045";
-    public static final String Conesa = "43046";
-    public static final String Constantí = "43047";
-    public static final String Corbera_dEbre = "43048";
-    public static final String Cornudella_de_Montsant = "43049";
-    public static final String Creixell = "43050";
-    public static final String Cunit = "43051";
-    public static final String Deltebre = "43901";
-    public static final String Duesaigües = "43053";
-    public static final String Espluga_de_Francolí = "43054";
-    public static final String Falset = "43055";
-    public static final String Fatarella_La = "43056";
-    public static final String Febró_La = "43057";
-    public static final String Figuera_La = "43058";
-    public static final String Figuerola_del_Camp = "43059";
-    public static final String Flix = "43060";
-    public static final String Forès = "43061";
-    public static final String Freginals = "43062";
-    public static final String Galera_La = "43063";
-    public static final String Gandesa = "43064";
-    public static final String Garcia = "43065";
-    public static final String Garidells_Els = "43066";
-    public static final String Ginestar = "43067";
-    public static final String Godall = "43068";
-    public static final String Gratallops = "43069";
-    public static final String Guiamets_Els = "43070";
-    public static final String Horta_de_Sant_Joan = "43071";
-    public static final String Lloar_El = "43072";
-    public static final String Llorac = "43073";
-    public static final String Llorenç_del_Penedès = "43074";
-    public static final String Marçà = "43076";
-    public static final String Margalef = "43075";
-    public static final String Mas_de_Barberans = "43077";
-    public static final String Masdenverge = "43078";
-    public static final String Masllorenç = "43079";
-    public static final String Masó_La = "43080";
-    public static final String Maspujols = "43081";
-    public static final String Masroig_El = "43082";
-    public static final String Milà_El = "43083";
-    public static final String Miravet = "43084";
-    public static final String Mollar_El = "43085";
-    public static final String Montblanc = "43086";
-    public static final String Montbrió_del_Camp = "43088";
-    public static final String Montferri = "43089";
-    public static final String Montmell_El = "43090";
-    public static final String Mont_ral = "43091";
-    public static final String Mont_roig_del_Camp = "43092";
-    public static final String Móra_dEbre = "43093";
-    public static final String Móra_la_Nova = "43094";
-    public static final String Morell_El = "43095";
-    public static final String Morera_de_Montsant_La = "43096";
-    public static final String Nou_de_Gaià_La = "43097";
-    public static final String Nulles = "43098";
-    public static final String Pallaresos_Els = "43100";
-    public static final String Palma_dEbre_La = "43099";
-    public static final String Passanant_i_Belltall = "43101";
-    public static final String Paüls = "43102";
-    public static final String Perafort = "43103";
-    public static final String Perelló_El = "43104";
-    public static final String Piles_Les = "43105";
-    public static final String Pinell_de_Brai_El = "43106";
-    public static final String Pira = "43107";
-    public static final String Pla_de_Santa_Maria_El = "43108";
-    public static final String Pobla_de_Mafumet_La = "43109";
-    public static final String Pobla_de_Massaluca_La = "43110";
-    public static final String Pobla_de_Montornès_La = "43111";
-    public static final String Poboleda = "43112";
-    public static final String Pont_dArmentera_El = "43113";
-    public static final String Pontils = "43141";
-    public static final String Porrera = "43114";
-    public static final String Pradell_de_la_Teixeta = "43115";
-    public static final String Prades = "43116";
-    public static final String Prat_de_Comte = "43117";
-    public static final String Pratdip = "43118";
-    public static final String Puigpelat = "43119";
-    public static final String Querol = "43120";
-    public static final String Ràpita_La = "43136";
-    public static final String Rasquera = "43121";
-    public static final String Renau = "43122";
-    public static final String Reus = "43123";
-    public static final String Riba_La = "43124";
-    public static final String Riba_roja_dEbre = "43125";
-    public static final String Riera_de_Gaià_La = "43126";
-    public static final String Riudecanyes = "43127";
-    public static final String Riudecols = "43128";
-    public static final String Riudoms = "43129";
-    public static final String Rocafort_de_Queralt = "43130";
-    public static final String Roda_de_Berà = "43131";
-    public static final String Rodonyà = "43132";
-    public static final String Roquetes = "43133";
-    public static final String Rourell_El = "43134";
-    public static final String Salomó = "43135";
-    public static final String Salou = "43905";
-    public static final String Sant_Jaume_dels_Domenys = "43137";
-    public static final String Sant_Jaume_dEnveja = "43902";
-    public static final String Santa_Bàrbara = "43138";
-    public static final String Santa_Coloma_de_Queralt = "43139";
-    public static final String Santa_Oliva = "43140";
-    public static final String Sarral = "43142";
-    public static final String Savallà_del_Comtat = "43143";
-    public static final String Secuita_La = "43144";
-    public static final String Selva_del_Camp_La = "43145";
-    public static final String Senan = "43146";
-    public static final String Sénia_La = "43044";
-    public static final String Solivella = "43147";
-    public static final String Tarragona = "43148";
-    public static final String Tivenys = "43149";
-    public static final String Tivissa = "43150";
-    public static final String Torre_de_Fontaubella_La = "43151";
-    public static final String Torre_de_lEspanyol_La = "43152";
-    public static final String Torredembarra = "43153";
-    public static final String Torroja_del_Priorat = "43154";
-    public static final String Tortosa = "43155";
-    public static final String Ulldecona = "43156";
-    public static final String Ulldemolins = "43157";
-    public static final String Vallclara = "43158";
-    public static final String Vallfogona_de_Riucorb = "43159";
-    public static final String Vallmoll = "43160";
-    public static final String Valls = "43161";
-    public static final String Vandellòs_i_lHospitalet_de_lInfant = "43162";
-    public static final String Vendrell_El = "43163";
-    public static final String Vespella_de_Gaià = "43164";
-    public static final String Vilabella = "43165";
-    public static final String Vilalba_dels_Arcs = "43175";
-    public static final String Vilallonga_del_Camp = "43166";
-    public static final String Vilanova_de_Prades = "43168";
-    public static final String Vilanova_dEscornalbou = "43167";
-    public static final String Vilaplana = "43169";
-    public static final String Vila_rodona = "43170";
-    public static final String Vila_seca = "43171";
-    public static final String Vilaverd = "43172";
-    public static final String Vilella_Alta_La = "43173";
-    public static final String Vilella_Baixa_La = "43174";
-    public static final String Vimbodí_i_Poblet = "43176";
-    public static final String Vinebre = "43177";
-    public static final String Vinyols_i_els_Arcs = "43178";
-    public static final String Xerta = "43052";
-    public static final String Ababuj = "44001";
-    public static final String Abejuela = "44002";
-    public static final String Aguatón = "44003";
-    public static final String Aguaviva = "44004";
-    public static final String Aguilar_del_Alfambra = "44005";
-    public static final String Alacón = "44006";
-    public static final String Alba = "44007";
-    public static final String Albalate_del_Arzobispo = "44008";
-    public static final String Albarracín = "44009";
-    public static final String Albentosa = "44010";
-    public static final String Alcaine = "44011";
-    public static final String Alcalá_de_la_Selva = "44012";
-    public static final String Alcañiz = "44013";
-    public static final String Alcorisa = "44014";
-    public static final String Alfambra = "44016";
-    public static final String Aliaga = "44017";
-    public static final String Allepuz = "44021";
-    public static final String Alloza = "44022";
-    public static final String Allueva = "44023";
-    public static final String Almohaja = "44018";
-    public static final String Alobras = "44019";
-    public static final String Alpeñés = "44020";
-    public static final String Anadón = "44024";
-    public static final String Andorra = "44025";
-    public static final String Arcos_de_las_Salinas = "44026";
-    public static final String Arens_de_Lledó = "44027";
-    public static final String Argente = "44028";
-    public static final String Ariño = "44029";
-    public static final String Azaila = "44031";
-    public static final String Bádenas = "44032";
-    public static final String Báguena = "44033";
-    public static final String Bañón = "44034";
-    public static final String Barrachina = "44035";
-    public static final String Bea = "44036";
-    public static final String Beceite = "44037";
-    public static final String Bello = "44039";
-    public static final String Belmonte_de_San_José = "44038";
-    public static final String Berge = "44040";
-    public static final String Bezas = "44041";
-    public static final String Blancas = "44042";
-    public static final String Blesa = "44043";
-    public static final String Bordón = "44044";
-    public static final String Bronchales = "44045";
-    public static final String Bueña = "44046";
-    public static final String Burbáguena = "44047";
-    public static final String Cabra_de_Mora = "44048";
-    public static final String Calaceite = "44049";
-    public static final String Calamocha = "44050";
-    public static final String Calanda = "44051";
-    public static final String Calomarde = "44052";
-    public static final String Camañas = "44053";
-    public static final String Camarena_de_la_Sierra = "44054";
-    public static final String Camarillas = "44055";
-    public static final String Caminreal = "44056";
-    public static final String Cantavieja = "44059";
-    public static final String Cañada_de_Benatanduz = "44060";
-    public static final String Cañada_de_Verich_La = "44061";
-    public static final String Cañada_Vellida = "44062";
-    public static final String Cañizar_del_Olivar = "44063";
-    public static final String Cascante_del_Río = "44064";
-    public static final String Castejón_de_Tornos = "44065";
-    public static final String Castel_de_Cabra = "44066";
-    public static final String Castellar_El = "44070";
-    public static final String Castellote = "44071";
-    public static final String Castelnou = "44067";
-    public static final String Castelserás = "44068";
-    public static final String Cedrillas = "44074";
-    public static final String Celadas = "44075";
-    public static final String Cella = "44076";
-    public static final String Cerollera_La = "44077";
-    public static final String Codoñera_La = "44080";
-    public static final String Corbalán = "44082";
-    public static final String Cortes_de_Aragón = "44084";
-    public static final String Cosa = "44085";
-    public static final String Cretas = "44086";
-    public static final String Crivillén = "44087";
-    public static final String Cuba_La = "44088";
-    public static final String Cubla = "44089";
-    public static final String Cucalón = "44090";
-    public static final String Cuervo_El = "44092";
-    public static final String Cuevas_de_Almudén = "44093";
-    public static final String Cuevas_Labradas = "44094";
-    public static final String Ejulve = "44096";
-    public static final String Escorihuela = "44097";
-    public static final String Escucha = "44099";
-    public static final String Estercuel = "44100";
-    public static final String Ferreruela_de_Huerva = "44101";
-    public static final String Fonfría = "44102";
-    public static final String Formiche_Alto = "44103";
-    public static final String Fórnoles = "44105";
-    public static final String Fortanete = "44106";
-    public static final String Foz_Calanda = "44107";
-    public static final String Fresneda_La = "44108";
-    public static final String Frías_de_Albarracín = "44109";
-    public static final String Fuenferrada = "44110";
-    public static final String Fuentes_Calientes = "44111";
-    public static final String Fuentes_Claras = "44112";
-    public static final String Fuentes_de_Rubielos = "44113";
-    public static final String Fuentespalda = "44114";
-    public static final String Galve = "44115";
-    public static final String Gargallo = "44116";
-    public static final String Gea_de_Albarracín = "44117";
-    public static final String Ginebrosa_La = "44118";
-    public static final String Griegos = "44119";
-    public static final String Guadalaviar = "44120";
-    public static final String Gúdar = "44121";
-    public static final String Híjar = "44122";
-    public static final String Hinojosa_de_Jarque = "44123";
-    public static final String Hoz_de_la_Vieja_La = "44124";
-    public static final String Huesa_del_Común = "44125";
-    public static final String Iglesuela_del_Cid_La = "44126";
-    public static final String Jabaloyas = "44127";
-    public static final String Jarque_de_la_Val = "44128";
-    public static final String Jatiel = "44129";
-    public static final String Jorcas = "44130";
-    public static final String Josa = "44131";
-    public static final String Lagueruela = "44132";
-    public static final String Lanzuela = "44133";
-    public static final String Libros = "44135";
-    public static final String Lidón = "44136";
-    public static final String Linares_de_Mora = "44137";
-    public static final String Lledó = "44141";
-    public static final String Loscos = "44138";
-    public static final String Maicas = "44142";
-    public static final String Manzanera = "44143";
-    public static final String Martín_del_Río = "44144";
-    public static final String Mas_de_las_Matas = "44145";
-    public static final String Mata_de_los_Olmos_La = "44146";
-    public static final String Mazaleón = "44147";
-    public static final String Mezquita_de_Jarque = "44148";
-    public static final String Mirambel = "44149";
-    public static final String Miravete_de_la_Sierra = "44150";
-    public static final String Molinos = "44151";
-    public static final String Monforte_de_Moyuela = "44152";
-    public static final String Monreal_del_Campo = "44153";
-    public static final String Monroyo = "44154";
-    public static final String Montalbán = "44155";
-    public static final String Monteagudo_del_Castillo = "44156";
-    public static final String Monterde_de_Albarracín = "44157";
-    public static final String Mora_de_Rubielos = "44158";
-    public static final String Moscardón = "44159";
-    public static final String Mosqueruela = "44160";
-    public static final String Muniesa = "44161";
-    public static final String Noguera_de_Albarracín = "44163";
-    public static final String Nogueras = "44164";
-    public static final String Nogueruelas = "44165";
-    public static final String Obón = "44167";
-    public static final String Odón = "44168";
-    public static final String Ojos_Negros = "44169";
-    public static final String Olba = "44171";
-    public static final String Oliete = "44172";
-    public static final String Olmos_Los = "44173";
-    public static final String Orihuela_del_Tremedal = "44174";
-    public static final String Orrios = "44175";
-    public static final String Palomar_de_Arroyos = "44176";
-    public static final String Pancrudo = "44177";
-    public static final String Parras_de_Castellote_Las = "44178";
-    public static final String Peñarroya_de_Tastavins = "44179";
-    public static final String Peracense = "44180";
-    public static final String Peralejos = "44181";
-    public static final String Perales_del_Alfambra = "44182";
-    public static final String Pitarque = "44183";
-    public static final String Plou = "44184";
-    public static final String Pobo_El = "44185";
-    public static final String Portellada_La = "44187";
-    public static final String Pozondón = "44189";
-    public static final String Pozuel_del_Campo = "44190";
-    public static final String Puebla_de_Híjar_La = "44191";
-    public static final String Puebla_de_Valverde_La = "44192";
-    public static final String Puertomingalvo = "44193";
-    public static final String Ráfales = "44194";
-    public static final String Rillo = "44195";
-    public static final String Riodeva = "44196";
-    public static final String Ródenas = "44197";
-    public static final String Royuela = "44198";
-    public static final String Rubiales = "44199";
-    public static final String Rubielos_de_la_Cérida = "44200";
-    public static final String Rubielos_de_Mora = "44201";
-    public static final String Salcedillo = "44203";
-    public static final String Saldón = "44204";
-    public static final String Samper_de_Calanda = "44205";
-    public static final String San_Agustín = "44206";
-    public static final String San_Martín_del_Río = "44207";
-    public static final String Santa_Cruz_de_Nogueras = "44208";
-    public static final String Santa_Eulalia = "44209";
-    public static final String Sarrión = "44210";
-    public static final String Segura_de_los_Baños = "44211";
-    public static final String Seno = "44212";
-    public static final String Singra = "44213";
-    public static final String Terriente = "44215";
-    public static final String Teruel = "44216";
-    public static final String Toril_y_Masegoso = "44217";
-    public static final String Tormón = "44218";
-    public static final String Tornos = "44219";
-    public static final String Torralba_de_los_Sisones = "44220";
-    public static final String Torre_de_Arcas = "44223";
-    public static final String Torre_de_las_Arcas = "44224";
-    public static final String Torre_del_Compte = "44225";
-    public static final String Torre_los_Negros = "44227";
-    public static final String Torrecilla_de_Alcañiz = "44221";
-    public static final String Torrecilla_del_Rebollar = "44222";
-    public static final String Torrelacárcel = "44226";
-    public static final String Torremocha_de_Jiloca = "44228";
-    public static final String Torres_de_Albarracín = "44229";
-    public static final String Torrevelilla = "44230";
-    public static final String Torrijas = "44231";
-    public static final String Torrijo_del_Campo = "44232";
-    public static final String Tramacastiel = "44234";
-    public static final String Tramacastilla = "44235";
-    public static final String Tronchón = "44236";
-    public static final String Urrea_de_Gaén = "44237";
-    public static final String Utrillas = "44238";
-    public static final String Valacloche = "44239";
-    public static final String Valbona = "44240";
-    public static final String Valdealgorfa = "44241";
-    public static final String Valdecuenca = "44243";
-    public static final String Valdelinares = "44244";
-    public static final String Valdeltormo = "44245";
-    public static final String Valderrobres = "44246";
-    public static final String Valjunquera = "44247";
-    public static final String Vallecillo_El = "44249";
-    public static final String Veguillas_de_la_Sierra = "44250";
-    public static final String Villafranca_del_Campo = "44251";
-    public static final String Villahermosa_del_Campo = "44252";
-    public static final String Villanueva_del_Rebollar_de_la_Sierra = "44256";
-    public static final String Villar_del_Cobo = "44257";
-    public static final String Villar_del_Salz = "44258";
-    public static final String Villarluengo = "44260";
-    public static final String Villarquemado = "44261";
-    public static final String Villarroya_de_los_Pinares = "44262";
-    public static final String Villastar = "44263";
-    public static final String Villel = "44264";
-    public static final String Vinaceite = "44265";
-    public static final String Visiedo = "44266";
-    public static final String Vivel_del_Río_Martín = "44267";
-    public static final String Zoma_La = "44268";
-    public static final String Ajofrín = "45001";
-    public static final String Alameda_de_la_Sagra = "45002";
-    public static final String Albarreal_de_Tajo = "45003";
-    public static final String Alcabón = "45004";
-    public static final String Alcañizo = "45005";
-    public static final String Alcaudete_de_la_Jara = "45006";
-    public static final String Alcolea_de_Tajo = "45007";
-    public static final String Aldea_en_Cabo = "45008";
-    public static final String Aldeanueva_de_Barbarroya = "45009";
-    public static final String Aldeanueva_de_San_Bartolomé = "45010";
-    public static final String Almendral_de_la_Cañada = "45011";
-    public static final String Almonacid_de_Toledo = "45012";
-    public static final String Almorox = "45013";
-    public static final String Añover_de_Tajo = "45014";
-    public static final String Arcicóllar = "45015";
-    public static final String Argés = "45016";
-    public static final String Azután = "45017";
-    public static final String Barcience = "45018";
-    public static final String Bargas = "45019";
-    public static final String Belvís_de_la_Jara = "45020";
-    public static final String Borox = "45021";
-    public static final String Buenaventura = "45022";
-    public static final String Burguillos_de_Toledo = "45023";
-    public static final String Burujón = "45024";
-    public static final String Cabañas_de_la_Sagra = "45025";
-    public static final String Cabañas_de_Yepes = "45026";
-    public static final String Cabezamesada = "45027";
-    public static final String Calera_y_Chozas = "45028";
-    public static final String Caleruela = "45029";
-    public static final String Calzada_de_Oropesa = "45030";
-    public static final String Camarena = "45031";
-    public static final String Camarenilla = "45032";
-    public static final String Campillo_de_la_Jara_El = "45033";
-    public static final String Camuñas = "45034";
-    public static final String Cardiel_de_los_Montes = "45035";
-    public static final String Carmena = "45036";
-    public static final String Carpio_de_Tajo_El = "45037";
-    public static final String Carranque = "45038";
-    public static final String Carriches = "45039";
-    public static final String Casar_de_Escalona_El = "45040";
-    public static final String Casarrubios_del_Monte = "45041";
-    public static final String Casasbuenas = "45042";
-    public static final String Castillo_de_Bayuela = "45043";
-    public static final String Cazalegas = "45045";
-    public static final String Cebolla = "45046";
-    public static final String Cedillo_del_Condado = "45047";
-    public static final String Cerralbos_Los = "45048";
-    public static final String Cervera_de_los_Montes = "45049";
-    public static final String Chozas_de_Canales = "45056";
-    public static final String Chueca = "45057";
-    public static final String Ciruelos = "45050";
-    public static final String Cobeja = "45051";
-    public static final String Cobisa = "45052";
-    public static final String Consuegra = "45053";
-    public static final String Corral_de_Almaguer = "45054";
-    public static final String Cuerva = "45055";
-    public static final String Domingo_Pérez = "45058";
-    public static final String Dosbarrios = "45059";
-    public static final String Erustes = "45060";
-    public static final String Escalona = "45061";
-    public static final String Escalonilla = "45062";
-    public static final String Espinoso_del_Rey = "45063";
-    public static final String Esquivias = "45064";
-    public static final String Estrella_La = "45065";
-    public static final String Fuensalida = "45066";
-    public static final String Gálvez = "45067";
-    public static final String Garciotum = "45068";
-    public static final String Gerindote = "45069";
-    public static final String Guadamur = "45070";
-    public static final String Guardia_La = "45071";
-    public static final String Herencias_Las = "45072";
-    public static final String Herreruela_de_Oropesa = "45073";
-    public static final String Hinojosa_de_San_Vicente = "45074";
-    public static final String Hontanar = "45075";
-    public static final String Hormigos = "45076";
-    public static final String Huecas = "45077";
-    public static final String Huerta_de_Valdecarábanos = "45078";
-    public static final String Iglesuela_del_Tiétar_La = "45079";
-    public static final String Illán_de_Vacas = "45080";
-    public static final String Illescas = "45081";
-    public static final String Lagartera = "45082";
-    public static final String Layos = "45083";
-    public static final String Lillo = "45084";
-    public static final String Lominchar = "45085";
-    public static final String Lucillos = "45086";
-    public static final String Madridejos = "45087";
-    public static final String Magán = "45088";
-    public static final String Malpica_de_Tajo = "45089";
-    public static final String Manzaneque = "45090";
-    public static final String Maqueda = "45091";
-    public static final String Marjaliza = "45092";
-    public static final String Marrupe = "45093";
-    public static final String Mascaraque = "45094";
-    public static final String Mata_La = "45095";
-    public static final String Mazarambroz = "45096";
-    public static final String Mejorada = "45097";
-    public static final String Menasalbas = "45098";
-    public static final String Méntrida = "45099";
-    public static final String Mesegar_de_Tajo = "45100";
-    public static final String Miguel_Esteban = "45101";
-    public static final String Mocejón = "45102";
-    public static final String Mohedas_de_la_Jara = "45103";
-    public static final String Montearagón = "45104";
-    public static final String Montesclaros = "45105";
-    public static final String Mora = "45106";
-    public static final String Nambroca = "45107";
-    public static final String Nava_de_Ricomalillo_La = "45108";
-    public static final String Navahermosa = "45109";
-    public static final String Navalcán = "45110";
-    public static final String Navalmoralejo = "45111";
-    public static final String Navalmorales_Los = "45112";
-    public static final String Navalucillos_Los = "45113";
-    public static final String Navamorcuende = "45114";
-    public static final String Noblejas = "45115";
-    public static final String Noez = "45116";
-    public static final String Nombela = "45117";
-    public static final String Novés = "45118";
-    public static final String Numancia_de_la_Sagra = "45119";
-    public static final String Nuño_Gómez = "45120";
-    public static final String Ocaña = "45121";
-    public static final String Olías_del_Rey = "45122";
-    public static final String Ontígola = "45123";
-    public static final String Orgaz = "45124";
-    public static final String Oropesa = "45125";
-    public static final String Otero = "45126";
-    public static final String Palomeque = "45127";
-    public static final String Pantoja = "45128";
-    public static final String Paredes_de_Escalona = "45129";
-    public static final String Parrillas = "45130";
-    public static final String Pelahustán = "45131";
-    public static final String Pepino = "45132";
-    public static final String Polán = "45133";
-    public static final String Portillo_de_Toledo = "45134";
-    public static final String Puebla_de_Almoradiel_La = "45135";
-    public static final String Puebla_de_Montalbán_La = "45136";
-    public static final String Pueblanueva_La = "45137";
-    public static final String Puente_del_Arzobispo_El = "45138";
-    public static final String Puerto_de_San_Vicente = "45139";
-    public static final String Pulgar = "45140";
-    public static final String Quero = "45141";
-    public static final String Quintanar_de_la_Orden = "45142";
-    public static final String Quismondo = "45143";
-    public static final String Real_de_San_Vicente_El = "45144";
-    public static final String Recas = "45145";
-    public static final String Retamoso_de_la_Jara = "45146";
-    public static final String Rielves = "45147";
-    public static final String Robledo_del_Mazo = "45148";
-    public static final String Romeral_El = "45149";
-    public static final String San_Bartolomé_de_las_Abiertas = "45150";
-    public static final String San_Martín_de_Montalbán = "45151";
-    public static final String San_Martín_de_Pusa = "45152";
-    public static final String San_Pablo_de_los_Montes = "45153";
-    public static final String San_Román_de_los_Montes = "45154";
-    public static final String Santa_Ana_de_Pusa = "45155";
-    public static final String Santa_Cruz_de_la_Zarza = "45156";
-    public static final String Santa_Cruz_del_Retamar = "45157";
-    public static final String Santa_Olalla = "45158";
-    public static final String Santo_Domingo_Caudilla = "45901";
-    public static final String Sartajada = "45159";
-    public static final String Segurilla = "45160";
-    public static final String Seseña = "45161";
-    public static final String Sevilleja_de_la_Jara = "45162";
-    public static final String Sonseca = "45163";
-    public static final String Sotillo_de_las_Palomas = "45164";
-    public static final String Talavera_de_la_Reina = "45165";
-    public static final String Tembleque = "45166";
-    public static final String Toboso_El = "45167";
-    public static final String Toledo = "45168";
-    public static final String Torralba_de_Oropesa = "45169";
-    public static final String Torre_de_Esteban_Hambrán_La = "45171";
-    public static final String Torrecilla_de_la_Jara = "45170";
-    public static final String Torrico = "45172";
-    public static final String Torrijos = "45173";
-    public static final String Totanés = "45174";
-    public static final String Turleque = "45175";
-    public static final String Ugena = "45176";
-    public static final String Urda = "45177";
-    public static final String Valdeverdeja = "45179";
-    public static final String Valmojado = "45180";
-    public static final String Velada = "45181";
-    public static final String Ventas_con_Peña_Aguilera_Las = "45182";
-    public static final String Ventas_de_Retamosa_Las = "45183";
-    public static final String Ventas_de_San_Julián_Las = "45184";
-    public static final String Villa_de_Don_Fadrique_La = "45186";
-    public static final String Villacañas = "45185";
-    public static final String Villafranca_de_los_Caballeros = "45187";
-    public static final String Villaluenga_de_la_Sagra = "45188";
-    public static final String Villamiel_de_Toledo = "45189";
-    public static final String Villaminaya = "45190";
-    public static final String Villamuelas = "45191";
-    public static final String Villanueva_de_Alcardete = "45192";
-    public static final String Villanueva_de_Bogas = "45193";
-    public static final String Villarejo_de_Montalbán = "45194";
-    public static final String Villarrubia_de_Santiago = "45195";
-    public static final String Villaseca_de_la_Sagra = "45196";
-    public static final String Villasequilla = "45197";
-    public static final String Villatobas = "45198";
-    public static final String Viso_de_San_Juan_El = "45199";
-    public static final String Yébenes_Los = "45200";
-    public static final String Yeles = "45201";
-    public static final String Yepes = "45202";
-    public static final String Yuncler = "45203";
-    public static final String Yunclillos = "45204";
-    public static final String Yuncos = "45205";
-    public static final String Ademuz = "46001";
-    public static final String Ador = "46002";
-    public static final String Agullent = "46004";
-    public static final String Aielo_de_Malferit = "46042";
-    public static final String Aielo_de_Rugat = "46043";
-    public static final String Alaquàs = "46005";
-    public static final String Albaida = "46006";
-    public static final String Albal = "46007";
-    public static final String Albalat_de_la_Ribera = "46008";
-    public static final String Albalat_dels_Sorells = "46009";
-    public static final String Albalat_dels_Tarongers = "46010";
-    public static final String Alberic = "46011";
-    public static final String Alborache = "46012";
-    public static final String Alboraia = "46013";
-    public static final String Albuixech = "46014";
-    public static final String Alcàntera_de_Xúquer = "46016";
-    public static final String Alcàsser = "46015";
-    public static final String Alcublas = "46018";
-    public static final String Alcúdia_de_Crespins = "46020";
-    public static final String Alcúddia = "46019";
-    public static final String Aldaia = "46021";
-    public static final String Alfafar = "46022";
-    public static final String Alfara_de_la_Baronia = "46024";
-    public static final String Alfara_del_Patriarca = "46025";
-    public static final String Alfarb = "46026";
-    public static final String Alfarrasí = "46027";
-    public static final String Alfauir = "46023";
-    public static final String Algar_de_Palància = "46028";
-    public static final String Algemesí = "46029";
-    public static final String Algímia_dAlfara = "46030";
-    public static final String Alginet = "46031";
-    public static final String Almàssera = "46032";
-    public static final String Almiserà = "46033";
-    public static final String Almoines = "46034";
-    public static final String Almussafes = "46035";
-    public static final String Alpuente = "46036";
-    public static final String Alqueria_de_la_Comtessa = "46037";
-    public static final String Alzira = "46017";
-    public static final String Andilla = "46038";
-    public static final String Anna = "46039";
-    public static final String Antella = "46040";
-    public static final String Aras_de_los_Olmos = "46041";
-    public static final String Atzeneta_dAlbaida = "46003";
-    public static final String Ayora = "46044";
-    public static final String Barx = "46046";
-    public static final String Barxeta = "46045";
-    public static final String Bèlgida = "46047";
-    public static final String Bellreguard = "46048";
-    public static final String Bellús = "46049";
-    public static final String Benagéber = "46050";
-    public static final String Benaguasil = "46051";
-    public static final String Benavites = "46052";
-    public static final String Beneixida = "46053";
-    public static final String Benetússer = "46054";
-    public static final String Beniarjó = "46055";
-    public static final String Beniatjar = "46056";
-    public static final String Benicolet = "46057";
-    public static final String Benicull_de_Xúquer = "46904";
-    public static final String Benifaió = "46060";
-    public static final String Benifairó_de_la_Valldigna = "46059";
-    public static final String Benifairó_de_les_Valls = "46058";
-    public static final String Beniflá = "46061";
-    public static final String Benigànim = "46062";
-    public static final String Benimodo = "46063";
-    public static final String Benimuslem = "46064";
-    public static final String Beniparrell = "46065";
-    public static final String Benirredrà = "46066";
-    public static final String Benissanó = "46067";
-    public static final String Benissoda = "46068";
-    public static final String Benissuera = "46069";
-    public static final String Bétera = "46070";
-    public static final String Bicorp = "46071";
-    public static final String Bocairent = "46072";
-    public static final String Bolbaite = "46073";
-    public static final String Bonrepòs_i_Mirambell = "46074";
-    public static final String Bufali = "46075";
-    public static final String Bugarra = "46076";
-    public static final String Buñol = "46077";
-    public static final String Burjassot = "46078";
-    public static final String Calles = "46079";
-    public static final String Camporrobles = "46080";
-    public static final String Canals = "46081";
-    public static final String Canet_dEn_Berenguer = "46082";
-    public static final String Carcaixent = "46083";
-    public static final String Càrcer = "46084";
-    public static final String Carlet = "46085";
-    public static final String Carrícola = "46086";
-    public static final String Casas_Altas = "46087";
-    public static final String Casas_Bajas = "46088";
-    public static final String Casinos = "46089";
-    public static final String Castelló = "46257";
-    public static final String Castelló_de_Rugat = "46090";
-    public static final String Castellonet_de_la_Conquesta = "46091";
-    public static final String Castielfabib = "46092";
-    public static final String Catadau = "46093";
-    public static final String Catarroja = "46094";
-    public static final String Caudete_de_las_Fuentes = "46095";
-    public static final String Cerdà = "46096";
-    public static final String Chella = "46107";
-    public static final String Chelva = "46106";
-    public static final String Chera = "46108";
-    public static final String Cheste = "46109";
-    public static final String Chiva = "46111";
-    public static final String Chulilla = "46112";
-    public static final String Cofrentes = "46097";
-    public static final String Corbera = "46098";
-    public static final String Cortes_de_Pallás = "46099";
-    public static final String Cotes = "46100";
-    public static final String Cullera = "46105";
-    public static final String Daimús = "46113";
-    public static final String Domeño = "46114";
-    public static final String Dos_Aguas = "46115";
-    public static final String Eliana = "46116";
-    public static final String Emperador = "46117";
-    public static final String Enguera = "46118";
-    public static final String Énova = "46119";
-    public static final String Estivella = "46120";
-    public static final String Estubeny = "46121";
-    public static final String Faura = "46122";
-    public static final String Favara = "46123";
-    public static final String Foios = "46126";
-    public static final String Font_de_la_Figuera_la = "46128";
-    public static final String Font_den_Carròs_la = "46127";
-    public static final String Fontanars_dels_Alforins = "46124";
-    public static final String Fortaleny = "46125";
-    public static final String Fuenterrobles = "46129";
-    public static final String Gandia = "46131";
-    public static final String Gátova = "46902";
-    public static final String Gavarda = "46130";
-    public static final String Genovés_el = "46132";
-    public static final String Gestalgar = "46133";
-    public static final String Gilet = "46134";
-    public static final String Godella = "46135";
-    public static final String Godelleta = "46136";
-    public static final String Granja_de_la_Costera_la = "46137";
-    public static final String Guadasséquies = "46138";
-    public static final String Guadassuar = "46139";
-    public static final String Guardamar_de_la_Safor = "46140";
-    public static final String Higueruelas = "46141";
-    public static final String Jalance = "46142";
-    public static final String Jarafuel = "46144";
-    public static final String Llanera_de_Ranes = "46154";
-    public static final String Llaurí = "46155";
-    public static final String Llíria = "46147";
-    public static final String Llocnou_de_la_Corona = "46152";
-    public static final String Llocnou_de_Sant_Jeroni = "46153";
-    public static final String Llocnou_dEn_Fenollet = "46151";
-    public static final String Llombai = "46156";
-    public static final String Llosa_de_Ranes_la = "46157";
-    public static final String Llutxent = "46150";
-    public static final String Loriguilla = "46148";
-    public static final String Losa_del_Obispo = "46149";
-    public static final String Macastre = "46158";
-    public static final String Manises = "46159";
-    public static final String Manuel = "46160";
-    public static final String Marines = "46161";
-    public static final String Massalavés = "46162";
-    public static final String Massalfassar = "46163";
-    public static final String Massamagrell = "46164";
-    public static final String Massanassa = "46165";
-    public static final String Meliana = "46166";
-    public static final String Millares = "46167";
-    public static final String Miramar = "46168";
-    public static final String Mislata = "46169";
-    public static final String Moixent = "46170";
-    public static final String Moncada = "46171";
-    public static final String Montaverner = "46173";
-    public static final String Montesa = "46174";
-    public static final String Montitxelvo = "46175";
-    public static final String Montroi = "46176";
-    public static final String Montserrat = "46172";
-    public static final String Museros = "46177";
-    public static final String Nàquera = "46178";
-    public static final String Navarrés = "46179";
-    public static final String Novetlè = "46180";
-    public static final String Oliva = "46181";
-    public static final String Olleria = "46183";
-    public static final String Olocau = "46182";
-    public static final String Ontinyent = "46184";
-    public static final String Otos = "46185";
-    public static final String Paiporta = "46186";
-    public static final String Palma_de_Gandía = "46187";
-    public static final String Palmera = "46188";
-    public static final String Palomar_el = "46189";
-    public static final String Paterna = "46190";
-    public static final String Pedralba = "46191";
-    public static final String Petrés = "46192";
-    public static final String Picanya = "46193";
-    public static final String Picassent = "46194";
-    public static final String Piles = "46195";
-    public static final String Pinet = "46196";
-    public static final String Pobla_de_Farnals_la = "46199";
-    public static final String Pobla_de_Vallbona_la = "46202";
-    public static final String Pobla_del_Duc_la = "46200";
-    public static final String Pobla_Llarga_la = "46203";
-    public static final String Polinyà_de_Xúquer = "46197";
-    public static final String Potries = "46198";
-    public static final String Puçol = "46205";
-    public static final String Puebla_de_San_Miguel = "46201";
-    public static final String Puig_de_Santa_Maria_el = "46204";
-    public static final String Quart_de_les_Valls = "46101";
-    public static final String Quart_de_Poblet = "46102";
-    public static final String Quartell = "46103";
-    public static final String Quatretonda = "46104";
-    public static final String Quesa = "46206";
-    public static final String Rafelbunyol = "46207";
-    public static final String Rafelcofer = "46208";
-    public static final String Rafelguaraf = "46209";
-    public static final String Ráfol_de_Salem = "46210";
-    public static final String Real = "46212";
-    public static final String Real_de_Gandia_el = "46211";
-    public static final String Requena = "46213";
-    public static final String Riba_roja_de_Túria = "46214";
-    public static final String Riola = "46215";
-    public static final String Rocafort = "46216";
-    public static final String Rotglà_i_Corberà = "46217";
-    public static final String Ròtova = "46218";
-    public static final String Rugat = "46219";
-    public static final String Sagunt = "46220";
-    public static final String Salem = "46221";
-    public static final String San_Antonio_de_Benagéber = "46903";
-    public static final String Sant_Joanet = "46222";
-    public static final String Sedaví = "46223";
-    public static final String Segart = "46224";
-    public static final String Sellent = "46225";
-    public static final String Sempere = "46226";
-    public static final String Senyera = "46227";
-    public static final String Serra = "46228";
-    public static final String Siete_Aguas = "46229";
-    public static final String Silla = "46230";
-    public static final String Simat_de_la_Valldigna = "46231";
-    public static final String Sinarcas = "46232";
-    public static final String Sollana = "46233";
-    public static final String Sot_de_Chera = "46234";
-    public static final String Sueca = "46235";
-    public static final String Sumacàrcer = "46236";
-    public static final String Tavernes_Blanques = "46237";
-    public static final String Tavernes_de_la_Valldigna = "46238";
-    public static final String Teresa_de_Cofrentes = "46239";
-    public static final String Terrateig = "46240";
-    public static final String Titaguas = "46241";
-    public static final String Torrebaja = "46242";
-    public static final String Torrella = "46243";
-    public static final String Torrennt = "46244";
-    public static final String Torres_Torres = "46245";
-    public static final String Tous = "46246";
-    public static final String Tuéjar = "46247";
-    public static final String Turís = "46248";
-    public static final String Utiel = "46249";
-    public static final String València = "46250";
-    public static final String Vallada = "46251";
-    public static final String Vallanca = "46252";
-    public static final String Vallés = "46253";
-    public static final String Venta_del_Moro = "46254";
-    public static final String Vilallonga = "46255";
-    public static final String Vilamarxant = "46256";
-    public static final String Villar_del_Arzobispo = "46258";
-    public static final String Villargordo_del_Cabriel = "46259";
-    public static final String Vinalesa = "46260";
-    public static final String Xàtiva = "46145";
-    public static final String Xeraco = "46143";
-    public static final String Xeresa = "46146";
-    public static final String Xirivella = "46110";
-    public static final String Yátova = "46261";
-    public static final String Yesa_La = "46262";
-    public static final String Zarra = "46263";
-    public static final String Adalia = "47001";
-    public static final String Aguasal = "47002";
-    public static final String Aguilar_de_Campos = "47003";
-    public static final String Alaejos = "47004";
-    public static final String Alcazarén = "47005";
-    public static final String Aldea_de_San_Miguel = "47006";
-    public static final String Aldeamayor_de_San_Martín = "47007";
-    public static final String Almenara_de_Adaja = "47008";
-    public static final String Amusquillo = "47009";
-    public static final String Arroyo_de_la_Encomienda = "47010";
-    public static final String Ataquines = "47011";
-    public static final String Bahabón = "47012";
-    public static final String Barcial_de_la_Loma = "47013";
-    public static final String Barruelo_del_Valle = "47014";
-    public static final String Becilla_de_Valderaduey = "47015";
-    public static final String Benafarces = "47016";
-    public static final String Bercero = "47017";
-    public static final String Berceruelo = "47018";
-    public static final String Berrueces = "47019";
-    public static final String Bobadilla_del_Campo = "47020";
-    public static final String Bocigas = "47021";
-    public static final String Bocos_de_Duero = "47022";
-    public static final String Boecillo = "47023";
-    public static final String Bolaños_de_Campos = "47024";
-    public static final String Brahojos_de_Medina = "47025";
-    public static final String Bustillo_de_Chaves = "47026";
-    public static final String Cabezón_de_Pisuerga = "47027";
-    public static final String Cabezón_de_Valderaduey = "47028";
-    public static final String Cabreros_del_Monte = "47029";
-    public static final String Campaspero = "47030";
-    public static final String Camppillo_El = "47031";
-    public static final String Camporredondo = "47032";
-    public static final String Canalejas_de_Peñafiel = "47033";
-    public static final String Canillas_de_Esgueva = "47034";
-    public static final String Carpio = "47035";
-    public static final String Casasola_de_Arión = "47036";
-    public static final String Castrejón_de_Trabancos = "47037";
-    public static final String Castrillo_de_Duero = "47038";
-    public static final String Castrillo_Tejeriego = "47039";
-    public static final String Castrobol = "47040";
-    public static final String Castrodeza = "47041";
-    public static final String Castromembibre = "47042";
-    public static final String Castromonte = "47043";
-    public static final String Castronuevo_de_Esgueva = "47044";
-    public static final String Castronuño = "47045";
-    public static final String Castroponce = "47046";
-    public static final String Castroverde_de_Cerrato = "47047";
-    public static final String Ceinos_de_Campos = "47048";
-    public static final String Cervillego_de_la_Cruz = "47049";
-    public static final String Cigales = "47050";
-    public static final String Ciguñuela = "47051";
-    public static final String Cistérniga = "47052";
-    public static final String Cogeces_de_Íscar = "47053";
-    public static final String Cogeces_del_Monte = "47054";
-    public static final String Corcos = "47055";
-    public static final String Corrales_de_Duero = "47056";
-    public static final String Cubillas_de_Santa_Marta = "47057";
-    public static final String Cuenca_de_Campos = "47058";
-    public static final String Curiel_de_Duero = "47059";
-    public static final String Encinas_de_Esgueva = "47060";
-    public static final String Esguevillas_de_Esgueva = "47061";
-    public static final String Fombellida = "47062";
-    public static final String Fompedraza = "47063";
-    public static final String Fontihoyuelo = "47064";
-    public static final String Fresno_el_Viejo = "47065";
-    public static final String Fuensaldaña = "47066";
-    public static final String Fuente_el_Sol = "47067";
-    public static final String Fuente_Olmedo = "47068";
-    public static final String Gallegos_de_Hornija = "47069";
-    public static final String Gatón_de_Campos = "47070";
-    public static final String Geria = "47071";
-    public static final String Herrín_de_Campos = "47073";
-    public static final String Hornillos_de_Eresma = "47074";
-    public static final String Íscar = "47075";
-    public static final String Laguna_de_Duero = "47076";
-    public static final String Langayo = "47077";
-    public static final String Llano_de_Olmedo = "47079";
-    public static final String Lomoviejo = "47078";
-    public static final String Manzanillo = "47080";
-    public static final String Marzales = "47081";
-    public static final String Matapozuelos = "47082";
-    public static final String Matilla_de_los_Caños = "47083";
-    public static final String Mayorga = "47084";
-    public static final String Medina_de_Rioseco = "47086";
-    public static final String Medina_del_Campo = "47085";
-    public static final String Megeces = "47087";
-    public static final String Melgar_de_Abajo = "47088";
-    public static final String Melgar_de_Arriba = "47089";
-    public static final String Mojados = "47090";
-    public static final String Monasterio_de_Vega = "47091";
-    public static final String Montealegre_de_Campos = "47092";
-    public static final String Montemayor_de_Pililla = "47093";
-    public static final String Moral_de_la_Reina = "47094";
-    public static final String Moraleja_de_las_Panaderas = "47095";
-    public static final String Morales_de_Campos = "47096";
-    public static final String Mota_del_Marqués = "47097";
-    public static final String Mucientes = "47098";
-    public static final String Mudarra_La = "47099";
-    public static final String Muriel = "47100";
-    public static final String Nava_del_Rey = "47101";
-    public static final String Nueva_Villa_de_las_Torres = "47102";
-    public static final String Olivares_de_Duero = "47103";
-    public static final String Olmedo = "47104";
-    public static final String Olmos_de_Esgueva = "47105";
-    public static final String Olmos_de_Peñafiel = "47106";
-    public static final String Palazuelo_de_Vedija = "47109";
-    public static final String Parrilla_La = "47110";
-    public static final String Pedraja_de_Portillo_La = "47111";
-    public static final String Pedrajas_de_San_Esteban = "47112";
-    public static final String Pedrosa_del_Rey = "47113";
-    public static final String Peñafiel = "47114";
-    public static final String Peñaflor_de_Hornija = "47115";
-    public static final String Pesquera_de_Duero = "47116";
-    public static final String Piña_de_Esgueva = "47117";
-    public static final String Piñel_de_Abajo = "47118";
-    public static final String Piñel_de_Arriba = "47119";
-    public static final String Pollos = "47121";
-    public static final String Portillo = "47122";
-    public static final String Pozal_de_Gallinas = "47123";
-    public static final String Pozaldez = "47124";
-    public static final String Pozuelo_de_la_Orden = "47125";
-    public static final String Puras = "47126";
-    public static final String Quintanilla_de_Arriba = "47127";
-    public static final String Quintanilla_de_Onésimo = "47129";
-    public static final String Quintanilla_de_Trigueros = "47130";
-    public static final String Quintanilla_del_Molar = "47128";
-    public static final String Rábano = "47131";
-    public static final String Ramiro = "47132";
-    public static final String Renedo_de_Esgueva = "47133";
-    public static final String Roales_de_Campos = "47134";
-    public static final String Robladillo = "47135";
-    public static final String Roturas = "47137";
-    public static final String Rubí_de_Bracamonte = "47138";
-    public static final String Rueda = "47139";
-    public static final String Saelices_de_Mayorga = "47140";
-    public static final String Salvador_de_Zapardiel = "47141";
-    public static final String San_Cebrián_de_Mazote = "47142";
-    public static final String San_Llorente = "47143";
-    public static final String San_Martín_de_Valvení = "47144";
-    public static final String San_Miguel_del_Arroyo = "47145";
-    public static final String San_Miguel_del_Pino = "47146";
-    public static final String San_Pablo_de_la_Moraleja = "47147";
-    public static final String San_Pedro_de_Latarce = "47148";
-    public static final String San_Pelayo = "47149";
-    public static final String San_Román_de_Hornija = "47150";
-    public static final String San_Salvador = "47151";
-    public static final String San_Vicente_del_Palacio = "47156";
-    public static final String Santa_Eufemia_del_Arroyo = "47152";
-    public static final String Santervás_de_Campos = "47153";
-    public static final String Santibáñez_de_Valcorba = "47154";
-    public static final String Santovenia_de_Pisuerga = "47155";
-    public static final String Sardón_de_Duero = "47157";
-    public static final String Seca_La = "47158";
-    public static final String Serrada = "47159";
-    public static final String Siete_Iglesias_de_Trabancos = "47160";
-    public static final String Simancas = "47161";
-    public static final String Tamariz_de_Campos = "47162";
-    public static final String Tiedra = "47163";
-    public static final String Tordehumos = "47164";
-    public static final String Tordesillas = "47165";
-    public static final String Torre_de_Esgueva = "47169";
-    public static final String Torre_de_Peñafiel = "47170";
-    public static final String Torrecilla_de_la_Abadesa = "47166";
-    public static final String Torrecilla_de_la_Orden = "47167";
-    public static final String Torrecilla_de_la_Torre = "47168";
-    public static final String Torrelobatón = "47171";
-    public static final String Torrescárcela = "47172";
-    public static final String Traspinedo = "47173";
-    public static final String Trigueros_del_Valle = "47174";
-    public static final String Tudela_de_Duero = "47175";
-    public static final String Unión_de_Campos_La = "47176";
-    public static final String Urones_de_Castroponce = "47177";
-    public static final String Urueña = "47178";
-    public static final String Valbuena_de_Duero = "47179";
-    public static final String Valdearcos_de_la_Vega = "47180";
-    public static final String Valdenebro_de_los_Valles = "47181";
-    public static final String Valdestillas = "47182";
-    public static final String Valdunquillo = "47183";
-    public static final String Valladolid = "47186";
-    public static final String Valoria_la_Buena = "47184";
-    public static final String Valverde_de_Campos = "47185";
-    public static final String Vega_de_Ruiponce = "47187";
-    public static final String Vega_de_Valdetronco = "47188";
-    public static final String Velascálvaro = "47189";
-    public static final String Velilla = "47190";
-    public static final String Velliza = "47191";
-    public static final String Ventosa_de_la_Cuesta = "47192";
-    public static final String Viana_de_Cega = "47193";
-    public static final String Villabáñez = "47195";
-    public static final String Villabaruz_de_Campos = "47196";
-    public static final String Villabrágima = "47197";
-    public static final String Villacarralón = "47198";
-    public static final String Villacid_de_Campos = "47199";
-    public static final String Villaco = "47200";
-    public static final String Villafrades_de_Campos = "47203";
-    public static final String Villafranca_de_Duero = "47204";
-    public static final String Villafrechós = "47205";
-    public static final String Villafuerte = "47206";
-    public static final String Villagarcía_de_Campos = "47207";
-    public static final String Villagómez_la_Nueva = "47208";
-    public static final String Villalán_de_Campos = "47209";
-    public static final String Villalar_de_los_Comuneros = "47210";
-    public static final String Villalba_de_la_Loma = "47211";
-    public static final String Villalba_de_los_Alcores = "47212";
-    public static final String Villalbarba = "47213";
-    public static final String Villalón_de_Campos = "47214";
-    public static final String Villamuriel_de_Campos = "47215";
-    public static final String Villán_de_Tordesillas = "47216";
-    public static final String Villanubla = "47217";
-    public static final String Villanueva_de_Duero = "47218";
-    public static final String Villanueva_de_la_Condesa = "47219";
-    public static final String Villanueva_de_los_Caballeros = "47220";
-    public static final String Villanueva_de_los_Inffantes = "47221";
-    public static final String Villanueva_de_San_Mancio = "47222";
-    public static final String Villardefrades = "47223";
-    public static final String Villarmentero_de_Esgueva = "47224";
-    public static final String Villasexmir = "47225";
-    public static final String Villavaquerín = "47226";
-    public static final String Villavellid = "47227";
-    public static final String Villaverde_de_Medina = "47228";
-    public static final String Villavicencio_de_los_Caballeros = "47229";
-    public static final String Viloria = "47194";
-    public static final String Wamba = "47230";
-    public static final String Zaratán = "47231";
-    public static final String Zarzza_La = "47232";
-    public static final String Abadiño = "48001";
-    public static final String Abanto_y_Ciérvana_Abanto_Zierbena = "48002";
-    public static final String Ajangiz = "48911";
-    public static final String Alonsotegi = "48912";
-    public static final String Amorebieta_Etxano = "48003";
-    public static final String Amoroto = "48004";
-    public static final String Arakaldo = "48005";
-    public static final String Arantzazu = "48006";
-    public static final String Areatza = "48093";
-    public static final String Arrankudiaga_Zollo = "48009";
-    public static final String Arratzu = "48914";
-    public static final String Arrieta = "48010";
-    public static final String Arrigorriaga = "48011";
-    public static final String Artea = "48023";
-    public static final String Artzentales = "48008";
-    public static final String Atxondo = "48091";
-    public static final String Aulesti = "48070";
-    public static final String Bakio = "48012";
-    public static final String Balmaseda = "48090";
-    public static final String Barakaldo = "48013";
-    public static final String Barrika = "48014";
-    public static final String Basauri = "48015";
-    public static final String Bedia = "48092";
-    public static final String Berango = "48016";
-    public static final String Bermeo = "48017";
-    public static final String Berriatua = "48018";
-    public static final String Berriz = "48019";
-    public static final String Bilbao = "48020";
-    public static final String Busturia = "48021";
-    public static final String Derio = "48901";
-    public static final String Dima = "48026";
-    public static final String Durango = "48027";
-    public static final String Ea = "48028";
-    public static final String Elantxobe = "48031";
-    public static final String Elorrio = "48032";
-    public static final String Erandio = "48902";
-    public static final String Ereño = "48033";
-    public static final String Ermua = "48034";
-    public static final String Errigoiti = "48079";
-    public static final String Etxebarri = "48029";
-    public static final String Etxebarria = "48030";
-    public static final String Forua = "48906";
-    public static final String Fruiz = "48035";
-    public static final String Galdakao = "48036";
-    public static final String Galdames = "48037";
-    public static final String Gamiz_Fika = "48038";
-    public static final String Garai = "48039";
-    public static final String Gatika = "48040";
-    public static final String Gautegiz_Arteaga = "48041";
-    public static final String Gernika_Lumo = "48046";
-    public static final String Getxo = "48044";
-    public static final String Gizaburuaga = "48047";
-    public static final String Gordexola = "48042";
-    public static final String Gorliz = "48043";
-    public static final String Güeñes = "48045";
-    public static final String Ibarrangelu = "48048";
-    public static final String Igorre = "48094";
-    public static final String Ispaster = "48049";
-    public static final String Iurreta = "48910";
-    public static final String Izurtza = "48050";
-    public static final String Karrantza_Harana = "48022";
-    public static final String Kortezubi = "48907";
-    public static final String Lanestosa = "48051";
-    public static final String Larrabetzu = "48052";
-    public static final String Laukiz = "48053";
-    public static final String Leioa = "48054";
-    public static final String Lekeitio = "48057";
-    public static final String Lemoa = "48055";
-    public static final String Lemoiz = "48056";
-    public static final String Lezama = "48081";
-    public static final String Loiu = "48903";
-    public static final String Mallabia = "48058";
-    public static final String Mañaria = "48059";
-    public static final String Markina_Xemein = "48060";
-    public static final String Maruri_Jatabe = "48061";
-    public static final String Mendata = "48062";
-    public static final String Mendexa = "48063";
-    public static final String Meñaka = "48064";
-    public static final String Morga = "48066";
-    public static final String Mundaka = "48068";
-    public static final String Mungia = "48069";
-    public static final String Munitibar_Arbatzegi_Gerrikaitz = "48007";
-    public static final String Murueta = "48908";
-    public static final String Muskiz = "48071";
-    public static final String Muxika = "48067";
-    public static final String Nabarniz = "48909";
-    public static final String Ondarroa = "48073";
-    public static final String Orozko = "48075";
-    public static final String Ortuella = "48083";
-    public static final String Otxandio = "48072";
-    public static final String Plentzia = "48077";
-    public static final String Portugalete = "48078";
-    public static final String Santurtzi = "48082";
-    public static final String Sestao = "48084";
-    public static final String Sondika = "48904";
-    public static final String Sopela = "48085";
-    public static final String Sopuerta = "48086";
-    public static final String Sukarrieta = "48076";
-    public static final String Trucios_Turtzioz = "48087";
-    public static final String Ubide = "48088";
-    public static final String Ugao_Miraballes = "48065";
-    public static final String Urduliz = "48089";
-    public static final String Urduña = "48074";
-    public static final String Usansolo = "48916";
-    public static final String Valle_de_Trápaga_Trapagaran = "48080";
-    public static final String Zaldibar = "48095";
-    public static final String Zalla = "48096";
-    public static final String Zamudio = "48905";
-    public static final String Zaratamo = "48097";
-    public static final String Zeanuri = "48024";
-    public static final String Zeberio = "48025";
-    public static final String Zierbena = "48913";
-    public static final String Ziortza_Bolibar = "48915";
-    public static final String Abezames = "49002";
-    public static final String Alcañices = "49003";
-    public static final String Alcubilla_de_Nogales = "49004";
-    public static final String Alfaraz_de_Sayago = "49005";
-    public static final String Algodre = "49006";
-    public static final String Almaraz_de_Duero = "49007";
-    public static final String Almeida_de_Sayago = "49008";
-    public static final String Andavías = "49009";
-    public static final String Arcenillas = "49010";
-    public static final String Arcos_de_la_Polvorosa = "49011";
-    public static final String Argañín = "49012";
-    public static final String Argujillo = "49013";
-    public static final String Arquillinos = "49014";
-    public static final String Arrabalde = "49015";
-    public static final String Aspariegos = "49016";
-    public static final String Asturianos = "49017";
-    public static final String Ayoó_de_Vidriales = "49018";
-    public static final String Barcial_del_Barco = "49019";
-    public static final String Belver_de_los_Montes = "49020";
-    public static final String Benavente = "49021";
-    public static final String Benegiles = "49022";
-    public static final String Bermillo_de_Sayago = "49023";
-    public static final String Bóveda_de_Toro_La = "49024";
-    public static final String Bretó = "49025";
-    public static final String Bretocino = "49026";
-    public static final String Brime_de_Sog = "49027";
-    public static final String Brime_de_Urz = "49028";
-    public static final String Burganes_de_Valverde = "49029";
-    public static final String Bustillo_del_Oro = "49030";
-    public static final String Cabañas_de_Sayago = "49031";
-    public static final String Calzadilla_de_Tera = "49032";
-    public static final String Camarzana_de_Tera = "49033";
-    public static final String Cañizal = "49034";
-    public static final String Cañizo = "49035";
-    public static final String Carbajales_de_Alba = "49036";
-    public static final String Carbellino = "49037";
-    public static final String Casaseca_de_Campeán = "49038";
-    public static final String Casaseca_de_las_Chanas = "49039";
-    public static final String Castrillo_de_la_Guareña = "49040";
-    public static final String Castrogonzalo = "49041";
-    public static final String Castronuevo = "49042";
-    public static final String Castroverde_de_Campos = "49043";
-    public static final String Cazurra = "49044";
-    public static final String Cerecinos_de_Campos = "49046";
-    public static final String Cerecinos_del_Carrizal = "49047";
-    public static final String Cernadilla = "49048";
-    public static final String Cobreros = "49050";
-    public static final String Coomonte = "49052";
-    public static final String Coreses = "49053";
-    public static final String Corrales_del_Vino = "49054";
-    public static final String Cotanes_del_Monte = "49055";
-    public static final String Cubillos = "49056";
-    public static final String Cubo_de_Benavente = "49057";
-    public static final String Cubo_de_Tierra_del_Vino_El = "49058";
-    public static final String Cuelgamures = "49059";
-    public static final String Entrala = "49061";
-    public static final String Espadañedo = "49062";
-    public static final String Faramontanos_de_Tábara = "49063";
-    public static final String Fariza = "49064";
-    public static final String Fermoselle = "49065";
-    public static final String Ferreras_de_Abajo = "49066";
-    public static final String Ferreras_de_Arriba = "49067";
-    public static final String Ferreruela = "49068";
-    public static final String Figueruela_de_Arriba = "49069";
-    public static final String Fonffría = "49071";
-    public static final String Fresno_de_la_Polvorosa = "49075";
-    public static final String Fresno_de_la_Ribera = "49076";
-    public static final String Fresno_de_Sayago = "49077";
-    public static final String Friera_de_Valverde = "49078";
-    public static final String Fuente_Encalada = "49079";
-    public static final String Fuentelapeña = "49080";
-    public static final String Fuentes_de_Ropel = "49082";
-    public static final String Fuentesaúco = "49081";
-    public static final String Fuentesecas = "49083";
-    public static final String Fuentespreadas = "49084";
-    public static final String Galende = "49085";
-    public static final String Gallegos_del_Pan = "49086";
-    public static final String Gallegos_del_Río = "49087";
-    public static final String Gamones = "49088";
-    public static final String Gema = "49090";
-    public static final String Granja_de_Moreruela = "49091";
-    public static final String Granucillo = "49092";
-    public static final String Guarrate = "49093";
-    public static final String Hermisende = "49094";
-    public static final String Hiniesta_La = "49095";
-    public static final String Jambrina = "49096";
-    public static final String Justel = "49097";
-    public static final String Losacino = "49098";
-    public static final String Losacio = "49099";
-    public static final String Lubián = "49100";
-    public static final String Luelmo = "49101";
-    public static final String Maderal_El = "49102";
-    public static final String Madridanos = "49103";
-    public static final String Mahide = "49104";
-    public static final String Maire_de_Castroponce = "49105";
-    public static final String Malva = "49107";
-    public static final String Manganeses_de_la_Lampreana = "49108";
-    public static final String Manganeses_de_la_Polvorosa = "49109";
-    public static final String Manzanal_de_Arriba = "49110";
-    public static final String Manzanal_de_los_Infantes = "49112";
-    public static final String Manzanal_del_Barco = "49111";
-    public static final String Matilla_de_Arzón = "49113";
-    public static final String Matilla_la_Seca = "49114";
-    public static final String Mayalde = "49115";
-    public static final String Melgar_de_Tera = "49116";
-    public static final String Micereces_de_Tera = "49117";
-    public static final String Milles_de_la_Polvorosa = "49118";
-    public static final String Molacillos = "49119";
-    public static final String Molezuelas_de_la_Carballeda = "49120";
-    public static final String Mombuey = "49121";
-    public static final String Monfarracinos = "49122";
-    public static final String Montamarta = "49123";
-    public static final String Moral_de_Sayago = "49124";
-    public static final String Moraleja_de_Sayago = "49126";
-    public static final String Moraleja_del_Vino = "49125";
-    public static final String Morales_de_Rey = "49128";
-    public static final String Morales_de_Toro = "49129";
-    public static final String Morales_de_Valverde = "49130";
-    public static final String Morales_del_Vino = "49127";
-    public static final String Moralina = "49131";
-    public static final String Moreruela_de_los_Infanzones = "49132";
-    public static final String Moreruela_de_Tábara = "49133";
-    public static final String Muelas_de_los_Caballeros = "49134";
-    public static final String Muelas_del_Pan = "49135";
-    public static final String Muga_de_Sayago = "49136";
-    public static final String Navianos_de_Valverde = "49137";
-    public static final String Olmillos_de_Castro = "49138";
-    public static final String Otero_de_Bodas = "49139";
-    public static final String Pajares_de_la_Lampreana = "49141";
-    public static final String Palacios_de_Sanabria = "49143";
-    public static final String Palacios_del_Pan = "49142";
-    public static final String Pedralba_de_la_Pradería = "49145";
-    public static final String Pego_El = "49146";
-    public static final String Peleagonzalo = "49147";
-    public static final String Peleas_de_Abajo = "49148";
-    public static final String Peñausende = "49149";
-    public static final String Peque = "49150";
-    public static final String Perdigón_El = "49151";
-    public static final String Pereruela = "49152";
-    public static final String Perilla_de_Castro = "49153";
-    public static final String Pías = "49154";
-    public static final String Piedrahita_de_Castro = "49155";
-    public static final String Pinilla_de_Toro = "49156";
-    public static final String Pino_del_Oro = "49157";
-    public static final String Piñero_El = "49158";
-    public static final String Pobladura_de_Valderaduey = "49160";
-    public static final String Pobladura_del_Valle = "49159";
-    public static final String Porto = "49162";
-    public static final String Pozoantiguo = "49163";
-    public static final String Pozuelo_de_Tábara = "49164";
-    public static final String Prado = "49165";
-    public static final String Puebla_de_Sanabria = "49166";
-    public static final String Pueblica_de_Valverde = "49167";
-    public static final String Quintanilla_de_Urz = "49170";
-    public static final String Quintanilla_del_Monte = "49168";
-    public static final String Quintanilla_del_Olmo = "49169";
-    public static final String Quiruelas_de_Vidriales = "49171";
-    public static final String Rabanales = "49172";
-    public static final String Rábano_de_Aliste = "49173";
-    public static final String Requejo = "49174";
-    public static final String Revellinos = "49175";
-    public static final String Riofrío_de_Aliste = "49176";
-    public static final String Rionegro_del_Puente = "49177";
-    public static final String Roales = "49178";
-    public static final String Robleda_Cervantes = "49179";
-    public static final String Roelos_de_Sayago = "49180";
-    public static final String Rosinos_de_la_Requejada = "49181";
-    public static final String Salce = "49183";
-    public static final String Samir_de_los_Caños = "49184";
-    public static final String San_Agustín_del_Pozo = "49185";
-    public static final String San_Cebrián_de_Castro = "49186";
-    public static final String San_Cristóbal_de_Entreviñas = "49187";
-    public static final String San_Esteban_del_Molar = "49188";
-    public static final String San_Justo = "49189";
-    public static final String San_Martín_de_Valderaduey = "49190";
-    public static final String San_Miguel_de_la_Ribera = "49191";
-    public static final String San_Miguel_del_Valle = "49192";
-    public static final String San_Pedro_de_Ceque = "49193";
-    public static final String San_Pedro_de_la_Nave_Almendra = "49194";
-    public static final String San_Vicente_de_la_Cabeza = "49208";
-    public static final String San_Vitero = "49209";
-    public static final String Santa_Clara_de_Avedillo = "49197";
-    public static final String Santa_Colomba_de_las_Monjas = "49199";
-    public static final String Santa_Cristina_de_la_Polvorosa = "49200";
-    public static final String Santa_Croya_de_Tera = "49201";
-    public static final String Santa_Eufemia_del_Barco = "49202";
-    public static final String Santa_María_de_la_Vega = "49203";
-    public static final String Santa_María_de_Valverde = "49204";
-    public static final String Santibáñez_de_Tera = "49205";
-    public static final String Santibáñez_de_Vidriales = "49206";
-    public static final String Santovenia = "49207";
-    public static final String Sanzoles = "49210";
-    public static final String Tábara = "49214";
-    public static final String Tapioles = "49216";
-    public static final String Toro = "49219";
-    public static final String Torre_del_Valle_La = "49220";
-    public static final String Torregamones = "49221";
-    public static final String Torres_del_Carrizal = "49222";
-    public static final String Trabazos = "49223";
-    public static final String Trefacio = "49224";
-    public static final String Uña_de_Quintana = "49225";
-    public static final String Vadillo_de_la_Guareña = "49226";
-    public static final String Valcabado = "49227";
-    public static final String Valdefinjas = "49228";
-    public static final String Valdescorriel = "49229";
-    public static final String Vallesa_de_la_Guareña = "49230";
-    public static final String Vega_de_Tera = "49231";
-    public static final String Vega_de_Villalobos = "49232";
-    public static final String Vegalatrave = "49233";
-    public static final String Venialbo = "49234";
-    public static final String Vezdemarbán = "49235";
-    public static final String Vidayanes = "49236";
-    public static final String Videmala = "49237";
-    public static final String Villabrázaro = "49238";
-    public static final String Villabuena_del_Puente = "49239";
-    public static final String Villadepera = "49240";
-    public static final String Villaesccusa = "49241";
-    public static final String Villafáfila = "49242";
-    public static final String Villaferrueña = "49243";
-    public static final String Villageriz = "49244";
-    public static final String Villalazán = "49245";
-    public static final String Villalba_de_la_Lampreana = "49246";
-    public static final String Villalcampo = "49247";
-    public static final String Villalobos = "49248";
-    public static final String Villalonso = "49249";
-    public static final String Villalpando = "49250";
-    public static final String Villalube = "49251";
-    public static final String Villamayor_de_Campos = "49252";
-    public static final String Villamor_de_los_Escuderos = "49255";
-    public static final String Villanázar = "49256";
-    public static final String Villanueva_de_Azoague = "49257";
-    public static final String Villanueva_de_Campeán = "49258";
-    public static final String Villanueva_de_las_Peras = "49259";
-    public static final String Villanueva_del_Campo = "49260";
-    public static final String Villar_de_Fallaves = "49263";
-    public static final String Villar_del_Buey = "49264";
-    public static final String Villaralbo = "49261";
-    public static final String Villardeciervos = "49262";
-    public static final String Villardiegua_de_la_Ribera = "49265";
-    public static final String Villárdiga = "49266";
-    public static final String Villardondiego = "49267";
-    public static final String Villarrín_de_Campos = "49268";
-    public static final String Villaseco_del_Pan = "49269";
-    public static final String Villavendimio = "49270";
-    public static final String Villaveza_de_Valverde = "49272";
-    public static final String Villaveza_del_Agua = "49271";
-    public static final String Viñas = "49273";
-    public static final String Zamora = "49275";
-    public static final String Abanto = "50001";
-    public static final String Acered = "50002";
-    public static final String Agón = "50003";
-    public static final String Aguarón = "50004";
-    public static final String Aguilón = "50005";
-    public static final String Ainzón = "50006";
-    public static final String Aladrén = "50007";
-    public static final String Alagón = "50008";
-    public static final String Alarba = "50009";
-    public static final String Alberite_de_San_Juan = "50010";
-    public static final String Albeta = "50011";
-    public static final String Alborge = "50012";
-    public static final String Alcalá_de_Ebro = "50013";
-    public static final String Alcalá_de_Moncayo = "50014";
-    public static final String Alconchel_de_Ariza = "50015";
-    public static final String Aldehuela_de_Liestos = "50016";
-    public static final String Alfajarín = "50017";
-    public static final String Alfamén = "50018";
-    public static final String Alforque = "50019";
-    public static final String Alhama_de_Aragón = "50020";
-    public static final String Almochuel = "50021";
-    public static final String Almolda_La = "50022";
-    public static final String Almonacid_de_la_Cuba = "50023";
-    public static final String Almonacid_de_la_Sierra = "50024";
-    public static final String Almunia_de_Doña_Godina_La = "50025";
-    public static final String Alpartir = "50026";
-    public static final String Ambel = "50027";
-    public static final String Anento = "50028";
-    public static final String Aniñón = "50029";
-    public static final String Añón_de_Moncayo = "50030";
-    public static final String Aranda_de_Moncayo = "50031";
-    public static final String Arándiga = "50032";
-    public static final String Ardisa = "50033";
-    public static final String Ariza = "50034";
-    public static final String Artieda = "50035";
-    public static final String Asín = "50036";
-    public static final String Atea = "50037";
-    public static final String Ateca = "50038";
-    public static final String Azuara = "50039";
-    public static final String Badules = "50040";
-    public static final String Bagüés = "50041";
-    public static final String Balconchán = "50042";
-    public static final String Bárboles = "50043";
-    public static final String Bardallur = "50044";
-    public static final String Belchite = "50045";
-    public static final String Belmonte_de_Gracián = "50046";
-    public static final String Berdejo = "50047";
-    public static final String Berrueco = "50048";
-    public static final String Biel = "50901";
-    public static final String Bijuesca = "50050";
-    public static final String Biota = "50051";
-    public static final String Bisimbre = "50052";
-    public static final String Boquiñeni = "50053";
-    public static final String Bordalba = "50054";
-    public static final String Borja = "50055";
-    public static final String Botorrita = "50056";
-    public static final String Brea_de_Aragón = "50057";
-    public static final String Bubierca = "50058";
-    public static final String Bujaraloz = "50059";
-    public static final String Bulbuente = "50060";
-    public static final String Bureta = "50061";
-    public static final String Burgo_de_Ebro_El = "50062";
-    public static final String Buste_El = "50063";
-    public static final String Cabañas_de_Ebro = "50064";
-    public static final String Cabolafuente = "50065";
-    public static final String Cadrete = "50066";
-    public static final String Calatayud = "50067";
-    public static final String Calatorao = "50068";
-    public static final String Calcena = "50069";
-    public static final String Calmarza = "50070";
-    public static final String Campillo_de_Aragón = "50071";
-    public static final String Carenas = "50072";
-    public static final String Cariñena = "50073";
-    public static final String Caspe = "50074";
-    public static final String Castejón_de_Alarba = "50075";
-    public static final String Castejón_de_las_Armas = "50076";
-    public static final String Castejón_de_Valdejasa = "50077";
-    public static final String Castiliscar = "50078";
-    public static final String Cervera_de_la_Cañada = "50079";
-    public static final String Cerveruela = "50080";
-    public static final String Cetina = "50081";
-    public static final String Chiprana = "50092";
-    public static final String Chodes = "50093";
-    public static final String Cimballa = "50082";
-    public static final String Cinco_Olivas = "50083";
-    public static final String Clarés_de_Ribota = "50084";
-    public static final String Codo = "50085";
-    public static final String Codos = "50086";
-    public static final String Contamina = "50087";
-    public static final String Cosuenda = "50088";
-    public static final String Cuarte_de_Huerva = "50089";
-    public static final String Cubel = "50090";
-    public static final String Cuerlas_Las = "50091";
-    public static final String Daroca = "50094";
-    public static final String Ejea_de_los_Caballeros = "50095";
-    public static final String Embid_de_Ariza = "50096";
-    public static final String Encinacorba = "50098";
-    public static final String Épila = "50099";
-    public static final String Erla = "50100";
-    public static final String Escatrón = "50101";
-    public static final String Fabara = "50102";
-    public static final String Farlete = "50104";
-    public static final String Fayón = "50105";
-    public static final String Fayos_Los = "50106";
-    public static final String Figueruelas = "50107";
-    public static final String Fombuena = "50108";
-    public static final String Frago_El = "50109";
-    public static final String Frasno_El = "50110";
-    public static final String Fréscano = "50111";
-    public static final String Fuendejalón = "50113";
-    public static final String Fuendetodos = "50114";
-    public static final String Fuentes_de_Ebro = "50115";
-    public static final String Fuentes_de_Jiloca = "50116";
-    public static final String Gallocanta = "50117";
-    public static final String Gallur = "50118";
-    public static final String Gelsa = "50119";
-    public static final String Godojos = "50120";
-    public static final String Gotor = "50121";
-    public static final String Grisel = "50122";
-    public static final String Grisén = "50123";
-    public static final String Herrera_de_los_Navarros = "50124";
-    public static final String Ibdes = "50125";
-    public static final String Illueca = "50126";
-    public static final String Isuerre = "50128";
-    public static final String Jaraba = "50129";
-    public static final String Jarque_de_Moncayo = "50130";
-    public static final String Jaulín = "50131";
-    public static final String Joyosa_La = "50132";
-    public static final String Lagata = "50133";
-    public static final String Langa_del_Castillo = "50134";
-    public static final String Layana = "50135";
-    public static final String Lécera = "50136";
-    public static final String Lechón = "50138";
-    public static final String Leciñena = "50137";
-    public static final String Letux = "50139";
-    public static final String Litago = "50140";
-    public static final String Lituénigo = "50141";
-    public static final String Lobera_de_Onsella = "50142";
-    public static final String Longares = "50143";
-    public static final String Longás = "50144";
-    public static final String Lucena_de_Jalón = "50146";
-    public static final String Luceni = "50147";
-    public static final String Luesia = "50148";
-    public static final String Luesma = "50149";
-    public static final String Lumpiaque = "50150";
-    public static final String Luna = "50151";
-    public static final String Maella = "50152";
-    public static final String Magallón = "50153";
-    public static final String Mainar = "50154";
-    public static final String Malanquilla = "50155";
-    public static final String Maleján = "50156";
-    public static final String Mallén = "50160";
-    public static final String Malón = "50157";
-    public static final String Maluenda = "50159";
-    public static final String Manchones = "50161";
-    public static final String Mara = "50162";
-    public static final String María_de_Huerva = "50163";
-    public static final String Marracos = "50902";
-    public static final String Mediana_de_Aragón = "50164";
-    public static final String Mequinenza = "50165";
-    public static final String Mesones_de_Isuela = "50166";
-    public static final String Mezalocha = "50167";
-    public static final String Mianos = "50168";
-    public static final String Miedes_de_Aragón = "50169";
-    public static final String Monegrillo = "50170";
-    public static final String Moneva = "50171";
-    public static final String Monreal_de_Ariza = "50172";
-    public static final String Monterde = "50173";
-    public static final String Montón = "50174";
-    public static final String Morata_de_Jalón = "50175";
-    public static final String Morata_de_Jiloca = "50176";
-    public static final String Morés = "50177";
-    public static final String Moros = "50178";
-    public static final String Moyuela = "50179";
-    public static final String Mozota = "50180";
-    public static final String Muel = "50181";
-    public static final String Muela_La = "50182";
-    public static final String Munébrega = "50183";
-    public static final String Murero = "50184";
-    public static final String Murillo_de_Gállego = "50185";
-    public static final String Navardún = "50186";
-    public static final String Nigüella = "50187";
-    public static final String Nombrevilla = "50188";
-    public static final String Nonaspe = "50189";
-    public static final String Novallas = "50190";
-    public static final String Novillas = "50191";
-    public static final String Nuévalos = "50192";
-    public static final String Nuez_de_Ebro = "50193";
-    public static final String Olvés = "50194";
-    public static final String Orcajo = "50195";
-    public static final String Orera = "50196";
-    public static final String Orés = "50197";
-    public static final String Oseja = "50198";
-    public static final String Osera_de_Ebro = "50199";
-    public static final String Paniza = "50200";
-    public static final String Paracuellos_de_Jiloca = "50201";
-    public static final String Paracuellos_de_la_Ribera = "50202";
-    public static final String Pastriz = "50203";
-    public static final String Pedrola = "50204";
-    public static final String Pedrosas_Las = "50205";
-    public static final String Perdiguera = "50206";
-    public static final String Piedratajada = "50207";
-    public static final String Pina_de_Ebro = "50208";
-    public static final String Pinseque = "50209";
-    public static final String Pintanos_Los = "50210";
-    public static final String Plasencia_de_Jalón = "50211";
-    public static final String Pleitas = "50212";
-    public static final String Plenas = "50213";
-    public static final String Pomer = "50214";
-    public static final String Pozuel_de_Ariza = "50215";
-    public static final String Pozuelo_de_Aragón = "50216";
-    public static final String Pradilla_de_Ebro = "50217";
-    public static final String Puebla_de_Albortón = "50218";
-    public static final String Puebla_de_Alfindén_La = "50219";
-    public static final String Puendeluna = "50220";
-    public static final String Purujosa = "50221";
-    public static final String Quinto = "50222";
-    public static final String Remolinos = "50223";
-    public static final String Retascón = "50224";
-    public static final String Ricla = "50225";
-    public static final String Romanos = "50227";
-    public static final String Rueda_de_Jalón = "50228";
-    public static final String Ruesca = "50229";
-    public static final String Sabiñán = "50241";
-    public static final String Sádaba = "50230";
-    public static final String Salillas_de_Jalón = "50231";
-    public static final String Salvatierra_de_Esca = "50232";
-    public static final String Samper_del_Salz = "50233";
-    public static final String San_Martín_de_la_Virgen_de_Moncayo = "50234";
-    public static final String San_Mateo_de_Gállego = "50235";
-    public static final String Santa_Cruz_de_Grío = "50236";
-    public static final String Santa_Cruz_de_Moncayo = "50237";
-    public static final String Santa_Eulalia_de_Gállego = "50238";
-    public static final String Santed = "50239";
-    public static final String Sástago = "50240";
-    public static final String Sediles = "50242";
-    public static final String Sestrica = "50243";
-    public static final String Sierra_de_Luna = "50244";
-    public static final String Sigüés = "50245";
-    public static final String Sisamón = "50246";
-    public static final String Sobradiel = "50247";
-    public static final String Sos_del_Rey_Católico = "50248";
-    public static final String Tabuenca = "50249";
-    public static final String Talamantes = "50250";
-    public static final String Tarazona = "50251";
-    public static final String Tauste = "50252";
-    public static final String Terrer = "50253";
-    public static final String Tierga = "50254";
-    public static final String Tobed = "50255";
-    public static final String Torralba_de_los_Frailes = "50256";
-    public static final String Torralba_de_Ribota = "50257";
-    public static final String Torralbilla = "50258";
-    public static final String Torrehermosa = "50259";
-    public static final String Torrelapaja = "50260";
-    public static final String Torrellas = "50261";
-    public static final String Torres_de_Berrellén = "50262";
-    public static final String Torrijo_de_la_Cañada = "50263";
-    public static final String Tosos = "50264";
-    public static final String Trasmoz = "50265";
-    public static final String Trasobares = "50266";
-    public static final String Uncastillo = "50267";
-    public static final String Undués_de_Lerda = "50268";
-    public static final String Urrea_de_Jalón = "50269";
-    public static final String Urriés = "50270";
-    public static final String Used = "50271";
-    public static final String Utebo = "50272";
-    public static final String Val_de_San_Martín = "50274";
-    public static final String Valdehorna = "50273";
-    public static final String Valmadrid = "50275";
-    public static final String Valpalmas = "50276";
-    public static final String Valtorres = "50277";
-    public static final String Velilla_de_Ebro = "50278";
-    public static final String Velilla_de_Jiloca = "50279";
-    public static final String Vera_de_Moncayo = "50280";
-    public static final String Vierlas = "50281";
-    public static final String Villadoz = "50283";
-    public static final String Villafeliche = "50284";
-    public static final String Villafranca_de_Ebro = "50285";
-    public static final String Villalba_de_Perejil = "50286";
-    public static final String Villalengua = "50287";
-    public static final String Villamayor_de_Gállego = "50903";
-    public static final String Villanueva_de_Gállego = "50288";
-    public static final String Villanueva_de_Huerva = "50290";
-    public static final String Villanueva_de_Jiloca = "50289";
-    public static final String Villar_de_los_Navarros = "50291";
-    public static final String Villarreal_de_Huerva = "50292";
-    public static final String Villarroya_de_la_Sierra = "50293";
-    public static final String Villarroya_del_Campo = "50294";
-    public static final String Vilueña_La = "50282";
-    public static final String Vistabella = "50295";
-    public static final String Zaida_La = "50296";
-    public static final String Zaragoza = "50297";
-    public static final String Zuera = "50298";
-    public static final String Ceuta = "51001";
-    public static final String Melilla = "52001";
-}
\ No newline at end of file
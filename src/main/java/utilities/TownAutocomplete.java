@@ -0,0 +1,289 @@
+package utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Índex d'autocompletat sobre els noms dels municipis de TownRegistry.
+ *
+ * Els noms normalitzats (sense majúscules, accents ni separadors) es guarden en un trie. També
+ * s'hi afegeix cada paraula interna del nom, de manera que "llobregat" troba "Hospitalet de Llobregat".
+ * Les consultes retornen primer els municipis el nom dels quals comença pel text escrit, després
+ * els que tenen una paraula que hi comença i, si no n'hi ha prou, els que hi coincideixen amb una
+ * distància d'edició limitada (errors de tecleig).
+ *
+ * L'índex és immutable un cop construït i es pot consultar des de qualsevol fil.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class TownAutocomplete {
+
+    /** Instància construïda amb tots els municipis de TownRegistry. */
+    private static final class Holder {
+        private static final TownAutocomplete INSTANCE = new TownAutocomplete(TownRegistry.getNames());
+    }
+
+    /** Longitud mínima de la consulta per tolerar un o dos errors. */
+    private static final int ONE_TYPO_MIN_LENGTH = 3;
+    private static final int TWO_TYPOS_MIN_LENGTH = 7;
+
+    private final List<String> names;
+    private final Node root = new Node();
+
+    /**
+     * Construeix l'índex per als noms indicats.
+     *
+     * @param names Els noms dels municipis, tal com es mostraran a l'usuari.
+     */
+    public TownAutocomplete(List<String> names) {
+        this.names = List.copyOf(names);
+
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < this.names.size(); i++) {
+            String normalized = TownRegistry.normalize(this.names.get(i));
+            keys.add(new Key(normalized, i, true));
+            for (int space = normalized.indexOf(' '); space >= 0; space = normalized.indexOf(' ', space + 1)) {
+                keys.add(new Key(normalized.substring(space + 1), i, false));
+            }
+        }
+        // Amb les claus ordenades, els fills de cada node s'afegeixen sempre en ordre alfabètic
+        keys.sort(Comparator.comparing(Key::text));
+        for (Key key : keys) {
+            root.insert(key.text(), key.town(), key.fullName());
+        }
+    }
+
+    /**
+     * @return L'índex de tots els municipis de l'aplicació.
+     */
+    public static TownAutocomplete getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Retorna els municipis que millor coincideixen amb el text escrit.
+     *
+     * @param query El text escrit per l'usuari.
+     * @param limit El nombre màxim de suggeriments.
+     * @return Els noms dels municipis suggerits, dels més rellevants als menys.
+     */
+    public List<String> suggest(String query, int limit) {
+        List<String> result = new ArrayList<>();
+        if (query == null || limit <= 0) {
+            return result;
+        }
+        String normalized = TownRegistry.normalize(query);
+        if (normalized.isEmpty()) {
+            return result;
+        }
+
+        BitSet seen = new BitSet(names.size());
+        Node node = root.find(normalized);
+        if (node != null && !node.collect(false, seen, result, names, limit)) {
+            node.collect(true, seen, result, names, limit);
+        }
+
+        int maxDistance = normalized.length() >= TWO_TYPOS_MIN_LENGTH ? 2
+                : normalized.length() >= ONE_TYPO_MIN_LENGTH ? 1 : 0;
+        if (result.size() < limit && maxDistance > 0) {
+            fuzzy(normalized, maxDistance, seen, result, limit);
+        }
+        return result;
+    }
+
+    /**
+     * Cerca els municipis amb algun prefix a una distància de Levenshtein no més gran que la indicada.
+     * Es recorre el trie calculant una fila de la matriu de distàncies per node i es descarten les
+     * branques on totes les distàncies ja superen el màxim.
+     *
+     * @param query La consulta normalitzada.
+     * @param maxDistance La distància màxima permesa.
+     * @param seen Municipis ja suggerits.
+     * @param result Llista on s'afegeixen els suggeriments.
+     * @param limit El nombre màxim de suggeriments.
+     */
+    private void fuzzy(String query, int maxDistance, BitSet seen, List<String> result, int limit) {
+        List<List<Node>> matches = new ArrayList<>(maxDistance + 1);
+        for (int d = 0; d <= maxDistance; d++) {
+            matches.add(new ArrayList<>());
+        }
+
+        int[] firstRow = new int[query.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        for (int c = 0; c < root.size; c++) {
+            search(root.children[c], root.labels[c], query, firstRow, maxDistance, matches);
+        }
+
+        for (List<Node> nodes : matches) {
+            for (Node node : nodes) {
+                if (node.collect(false, seen, result, names, limit)
+                        || node.collect(true, seen, result, names, limit)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pas recursiu de la cerca aproximada.
+     *
+     * @param node El node actual.
+     * @param label El caràcter que porta al node actual.
+     * @param query La consulta normalitzada.
+     * @param previousRow La fila de distàncies del node pare.
+     * @param maxDistance La distància màxima permesa.
+     * @param matches Nodes trobats, agrupats per distància.
+     */
+    private void search(Node node, char label, String query, int[] previousRow, int maxDistance,
+                        List<List<Node>> matches) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int min = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int cost = query.charAt(i - 1) == label ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + cost);
+            min = Math.min(min, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (distance <= maxDistance) {
+            // Tot el subarbre comença per un prefix prou proper a la consulta
+            matches.get(distance).add(node);
+            return;
+        }
+        if (min > maxDistance) {
+            return;
+        }
+        for (int c = 0; c < node.size; c++) {
+            search(node.children[c], node.labels[c], query, row, maxDistance, matches);
+        }
+    }
+
+    /**
+     * Clau inserida al trie.
+     *
+     * @param text El text normalitzat (nom complet o a partir d'una paraula interna).
+     * @param town La posició del municipi a la llista de noms.
+     * @param fullName Si la clau és el nom complet.
+     */
+    private record Key(String text, int town, boolean fullName) {}
+
+    /**
+     * Node del trie. Els fills es guarden en arrays ordenats per caràcter per ocupar poca memòria
+     * i trobar-los amb cerca binària.
+     */
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int size;
+        /** Municipis el nom complet dels quals acaba en aquest node. */
+        private int[] towns = new int[0];
+        /** Municipis amb una paraula interna que acaba en aquest node. */
+        private int[] wordTowns = new int[0];
+
+        /**
+         * Insereix una clau. Les claus s'han d'inserir en ordre alfabètic.
+         *
+         * @param key El text normalitzat.
+         * @param town La posició del municipi.
+         * @param fullName Si la clau és el nom complet o una paraula interna.
+         */
+        private void insert(String key, int town, boolean fullName) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                char label = key.charAt(i);
+                if (node.size > 0 && node.labels[node.size - 1] == label) {
+                    node = node.children[node.size - 1];
+                } else {
+                    node = node.append(label);
+                }
+            }
+            if (fullName) {
+                node.towns = add(node.towns, town);
+            } else {
+                node.wordTowns = add(node.wordTowns, town);
+            }
+        }
+
+        /**
+         * Retorna una còpia de l'array amb un element més al final.
+         *
+         * @param values L'array original.
+         * @param value L'element a afegir.
+         * @return El nou array.
+         */
+        private static int[] add(int[] values, int value) {
+            int[] copy = Arrays.copyOf(values, values.length + 1);
+            copy[values.length] = value;
+            return copy;
+        }
+
+        /**
+         * Afegeix un fill al final de la llista.
+         *
+         * @param label El caràcter del fill.
+         * @return El node fill creat.
+         */
+        private Node append(char label) {
+            if (size == labels.length) {
+                int capacity = Math.max(2, size * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            Node child = new Node();
+            labels[size] = label;
+            children[size] = child;
+            size++;
+            return child;
+        }
+
+        /**
+         * Segueix el camí d'un prefix.
+         *
+         * @param prefix El prefix normalitzat.
+         * @return El node on acaba el prefix, o null si cap clau hi comença.
+         */
+        private Node find(String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.labels, 0, node.size, prefix.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node;
+        }
+
+        /**
+         * Afegeix al resultat els municipis del subarbre en ordre alfabètic, sense repetir-los.
+         *
+         * @param words Si s'han de recollir les coincidències per paraula interna en lloc del nom complet.
+         * @param seen Municipis ja afegits.
+         * @param result Llista de suggeriments.
+         * @param names Els noms dels municipis.
+         * @param limit El nombre màxim de suggeriments.
+         * @return true si ja s'ha arribat al límit.
+         */
+        private boolean collect(boolean words, BitSet seen, List<String> result, List<String> names, int limit) {
+            for (int town : words ? wordTowns : towns) {
+                if (!seen.get(town)) {
+                    seen.set(town);
+                    result.add(names.get(town));
+                    if (result.size() >= limit) {
+                        return true;
+                    }
+                }
+            }
+            for (int c = 0; c < size; c++) {
+                if (children[c].collect(words, seen, result, names, limit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Registre dels municipis d'Espanya amb el seu codi INE per a les peticions a l'API de l'Aemet.
+ *
+ * Els municipis es llegeixen una sola vegada del recurs towns.csv (una línia "codi;nom" per municipi)
+ * i es guarden en dos mapes: nom normalitzat → codi i codi → nom. La cerca per nom no distingeix
+ * majúscules, accents ni separadors, de manera que "L'Hospitalet", "l hospitalet" i "L_Hospitalet"
+ * retornen el mateix codi.
+ *
+ * @author Miguel Rodríguez Garriga
+ * @version 1.0
+ */
+public class TownRegistry {
+
+    /** Recurs amb la llista de municipis, al mateix paquet que aquesta classe. */
+    private static final String RESOURCE = "towns.csv";
+    private static final char SEPARATOR = ';';
+    private static final int EXPECTED_TOWNS = 8132;
+
+    /** Marques diacrítiques que queden separades després de descompondre el text. */
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    /** Qualsevol seqüència de caràcters que no sigui lletra o número. */
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private static final Map<String, String> CODES_BY_NAME = new HashMap<>(EXPECTED_TOWNS * 4 / 3 + 1);
+    private static final Map<String, String> NAMES_BY_CODE = new HashMap<>(EXPECTED_TOWNS * 4 / 3 + 1);
+    private static final List<String> NAMES;
+
+    static {
+        List<String> names = new ArrayList<>(EXPECTED_TOWNS);
+        try (InputStream in = TownRegistry.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("No s'ha trobat el recurs " + RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int separator = line.indexOf(SEPARATOR);
+                String code = line.substring(0, separator);
+                String name = line.substring(separator + 1);
+
+                CODES_BY_NAME.put(normalize(name), code);
+                NAMES_BY_CODE.put(code, name);
+                names.add(name);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No s'ha pogut llegir el recurs " + RESOURCE, e);
+        }
+        NAMES = Collections.unmodifiableList(names);
+    }
+
+    private TownRegistry() {}
+
+    /**
+     * Retorna el codi INE d'un municipi a partir del seu nom.
+     *
+     * @param name El nom del municipi tal com l'ha escrit l'usuari.
+     * @return El codi del municipi, o null si no existeix.
+     */
+    public static String getCode(String name) {
+        if (name == null) {
+            return null;
+        }
+        return CODES_BY_NAME.get(normalize(name));
+    }
+
+    /**
+     * Retorna el nom d'un municipi a partir del seu codi INE.
+     *
+     * @param code El codi del municipi.
+     * @return El nom del municipi, o null si el codi no existeix.
+     */
+    public static String getName(String code) {
+        return NAMES_BY_CODE.get(code);
+    }
+
+    /**
+     * @return Els noms de tots els municipis, en l'ordre del recurs.
+     */
+    public static List<String> getNames() {
+        return NAMES;
+    }
+
+    /**
+     * Normalitza un nom per comparar-lo: minúscules, sense accents i amb qualsevol separador
+     * (espais, guions, apòstrofs, guions baixos...) reduït a un únic espai.
+     *
+     * @param name El nom a normalitzar.
+     * @return El nom normalitzat.
+     */
+    public static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(withoutDiacritics).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,53 @@
+package controllers;
+
+import javafx.scene.layout.AnchorPane;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe PanelHost.
+ * Comprova que carregar un panell allibera l'anterior i que alliberar el contenidor allibera
+ * el panell que es mostra una sola vegada.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class PanelHostTest {
+
+    private static final String PANEL = "/controllers/disposable-panel.fxml";
+
+    /**
+     * Prova que cada panell s'allibera quan el substitueix un altre o quan s'allibera el contenidor.
+     */
+    @Test
+    void testPanelsAreDisposed() throws Exception {
+        AnchorPane container = new AnchorPane();
+        PanelHost host = new PanelHost(container);
+
+        DisposablePanel first = host.load(PANEL);
+        DisposablePanel second = host.load(PANEL);
+
+        assertEquals(1, first.disposed);
+        assertEquals(0, second.disposed);
+        assertEquals(1, container.getChildren().size());
+
+        host.dispose();
+        host.dispose();
+
+        assertEquals(1, second.disposed);
+        assertEquals(1, first.disposed);
+    }
+
+    /**
+     * Controlador de la vista de prova, que compta quantes vegades s'ha alliberat.
+     */
+    public static class DisposablePanel implements Disposable {
+
+        int disposed;
+
+        @Override
+        public void dispose() {
+            disposed++;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package model.aemet;
+
+import model.httpClient.CircuitBreaker;
+import model.httpClient.TokenBucket;
+import org.junit.jupiter.api.Test;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per a la classe AemetGateway.
+ * Comprova els reintents davant d'errors temporals, que els errors de la petició no es repeteixen
+ * que el circuit s'obre després de fallades seguides i que una petició de prova avortada l'allibera.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class AemetGatewayTest {
+
+    private static final String FIRST_RESPONSE = "{ \"descripcion\": \"exito\", \"estado\": 200, \"datos\": \"http://example.com/data\" }";
+    private static final String QUOTA_RESPONSE = "{ \"descripcion\": \"Límite de peticiones o caudal por minuto excedido\", \"estado\": 429 }";
+    private static final String NOT_FOUND_RESPONSE = "{ \"descripcion\": \"Error al obtener los datos\", \"estado\": 404 }";
+    private static final String FORECAST = "[ { \"prediccion\": { \"dia\": [] } } ]";
+
+    /**
+     * Prova que una resposta de quota superada es torna a provar fins que va bé.
+     */
+    @Test
+    void testRetriesOnQuotaExceeded() throws Exception {
+        HttpClient httpClient = apiReturning(List.of(QUOTA_RESPONSE, QUOTA_RESPONSE, FIRST_RESPONSE));
+        AemetGateway gateway = gateway(httpClient, new CircuitBreaker(10, Duration.ofSeconds(30)));
+
+        assertEquals(FORECAST, gateway.forecast("43028"));
+
+        AemetGateway.Metrics metrics = gateway.getMetrics();
+        assertEquals(2, metrics.retries());
+        assertEquals(1, metrics.successes());
+        assertEquals(CircuitBreaker.State.CLOSED, metrics.circuitState());
+    }
+
+    /**
+     * Prova que un municipi sense dades no es torna a provar.
+     */
+    @Test
+    void testNotFoundIsNotRetried() throws Exception {
+        HttpClient httpClient = apiReturning(List.of(NOT_FOUND_RESPONSE));
+        AemetGateway gateway = gateway(httpClient, new CircuitBreaker(10, Duration.ofSeconds(30)));
+
+        try {
+            gateway.forecast("00000");
+            fail("S'esperava una AemetException");
+        } catch (AemetException e) {
+            assertTrue(e.isNotFound());
+            assertEquals(404, e.getEstado());
+        }
+        assertEquals(0, gateway.getMetrics().retries());
+        verify(httpClient, times(1)).send(any(HttpRequest.class), any());
+    }
+
+    /**
+     * Prova que el circuit s'obre després de les fallades i rebutja les peticions sense cridar l'API.
+     */
+    @Test
+    void testCircuitOpensAfterFailures() throws Exception {
+        HttpClient httpClient = apiReturning(List.of(QUOTA_RESPONSE));
+        AemetGateway gateway = gateway(httpClient, new CircuitBreaker(3, Duration.ofMinutes(1)));
+
+        // El tercer intent obre el circuit i el quart reintent ja es rebutja
+        AemetException first = assertThrows(AemetException.class, () -> gateway.forecast("43028"));
+        AemetException second = assertThrows(AemetException.class, () -> gateway.forecast("43028"));
+
+        assertEquals(AemetGateway.CIRCUIT_OPEN, first.getMessage());
+        assertEquals(AemetGateway.CIRCUIT_OPEN, second.getMessage());
+        assertEquals(2, gateway.getMetrics().rejected());
+        assertEquals(CircuitBreaker.State.OPEN, gateway.getMetrics().circuitState());
+        verify(httpClient, times(3)).send(any(HttpRequest.class), any());
+    }
+
+    /**
+     * Prova que una petició de prova avortada per un error inesperat o una interrupció no deixa
+     * el circuit bloquejat i la següent petició torna a fer de prova.
+     */
+    @Test
+    void testAbortedProbeIsReleased() throws Exception {
+        HttpClient api = apiReturning(List.of(FIRST_RESPONSE));
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.send(any(HttpRequest.class), any()))
+                .thenThrow(new IllegalStateException("Error inesperat"))
+                .thenThrow(new InterruptedException())
+                .thenAnswer(invocation -> api.send(invocation.getArgument(0), invocation.getArgument(1)));
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ZERO);
+        AemetGateway gateway = gateway(httpClient, circuitBreaker);
+        circuitBreaker.onFailure();
+
+        assertThrows(IllegalStateException.class, () -> gateway.forecast("43028"));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertThrows(InterruptedException.class, () -> gateway.forecast("43028"));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        assertEquals(FORECAST, gateway.forecast("43028"));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, gateway.getMetrics().rejected());
+    }
+
+    /**
+     * Crea un punt d'accés amb tres reintents i esperes curtes.
+     *
+     * @param httpClient Client HTTP simulat.
+     * @param circuitBreaker Interruptor de circuit.
+     * @return El punt d'accés.
+     */
+    private static AemetGateway gateway(HttpClient httpClient, CircuitBreaker circuitBreaker) {
+        return new AemetGateway(new AemetRequest(httpClient), new TokenBucket(100, 100, Duration.ofMillis(1)),
+                circuitBreaker, 3, Duration.ofMillis(1), Duration.ofMillis(4));
+    }
+
+    /**
+     * Crea un client HTTP que retorna, per a la petició inicial, les respostes indicades en ordre
+     * (repetint l'última) i la predicció per a la descàrrega de dades.
+     *
+     * @param firstResponses Cossos de la petició inicial.
+     * @return El client HTTP simulat.
+     */
+    @SuppressWarnings("unchecked")
+    private static HttpClient apiReturning(List<String> firstResponses) throws Exception {
+        Iterator<String> bodies = firstResponses.iterator();
+        String[] last = {null};
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.statusCode()).thenReturn(200);
+            if (invocation.getArgument(0, HttpRequest.class).uri().toString().equals("http://example.com/data")) {
+                when(response.body()).thenReturn(FORECAST);
+            } else {
+                if (bodies.hasNext()) {
+                    last[0] = bodies.next();
+                }
+                when(response.body()).thenReturn(last[0]);
+            }
+            return response;
+        });
+        return httpClient;
+    }
+}
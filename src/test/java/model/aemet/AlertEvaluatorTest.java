@@ -0,0 +1,135 @@
+package model.aemet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe AlertEvaluator.
+ * Compara els nivells calculats en bloc amb una còpia de l'escala de condicions que feia servir
+ * AlertLevel abans que els llindars es llegissin del fitxer de regles, amb les dues diferències
+ * conegudes: una temperatura de 5 graus o menys té nivell 1 de temperatura alta, i una quantitat
+ * negativa de pluja o neu té nivell 1.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class AlertEvaluatorTest {
+
+    /**
+     * Prova que els nivells de vent i temperatura coincideixen amb l'escala original en tot un rang
+     * de valors.
+     */
+    @Test
+    void testIntegerLevelsMatchOriginalLadder() {
+        int[] values = new int[121];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i - 40;
+        }
+
+        byte[] average = AlertEvaluator.levels(values, AlertEvaluator.Alert.AVERAGE_WIND);
+        byte[] max = AlertEvaluator.levels(values, AlertEvaluator.Alert.MAX_WIND);
+        byte[] high = AlertEvaluator.levels(values, AlertEvaluator.Alert.HIGH_TEMPERATURE);
+        byte[] low = AlertEvaluator.levels(values, AlertEvaluator.Alert.LOW_TEMPERATURE);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(ladder(values[i], 10, 14, 18, 22), average[i], "Vent mitjà " + values[i]);
+            assertEquals(ladder(values[i], 18, 21, 27, 33), max[i], "Ratxa màxima " + values[i]);
+            assertEquals(values[i] <= 5 ? 1 : ladder(values[i], 25, 28, 30, 35), high[i],
+                    "Temperatura alta " + values[i]);
+            assertEquals(lowTemperature(values[i]), low[i], "Temperatura baixa " + values[i]);
+        }
+    }
+
+    /**
+     * Prova que els nivells de pluja i neu coincideixen amb l'escala original, incloent-hi els
+     * valors límit.
+     */
+    @Test
+    void testDecimalLevelsMatchOriginalLadder() {
+        float[] values = {-1f, 0f, 0.1f, 0.49f, 0.5f, 0.9f, 1f, 4.9f, 5f, 30f};
+
+        byte[] rain = AlertEvaluator.levels(values, AlertEvaluator.Alert.RAIN);
+        byte[] snow = AlertEvaluator.levels(values, AlertEvaluator.Alert.SNOW);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(amount(values[i]), rain[i], "Pluja " + values[i]);
+            assertEquals(amount(values[i]), snow[i], "Neu " + values[i]);
+        }
+    }
+
+    /**
+     * Prova l'empaquetat dels nivells d'una hora i que les hores sense dades tenen nivell 0.
+     */
+    @Test
+    void testPackedLevels() {
+        int missing = ForecastModel.MISSING;
+        int[] packed = AlertEvaluator.evaluate(
+                new int[] {12, missing},
+                new int[] {40, missing},
+                new float[] {0f, Float.NaN},
+                new float[] {Float.NaN, Float.NaN},
+                new int[] {-7, missing},
+                AlertRuleEngine.getInstance().getRules().defaultProfile());
+
+        assertEquals(2, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.AVERAGE_WIND));
+        assertEquals(5, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.MAX_WIND));
+        assertEquals(1, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.RAIN));
+        assertEquals(0, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.SNOW));
+        assertEquals(1, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.HIGH_TEMPERATURE));
+        assertEquals(5, AlertEvaluator.level(packed[0], AlertEvaluator.Alert.LOW_TEMPERATURE));
+        assertEquals(5, AlertEvaluator.maxLevel(packed[0]));
+        assertEquals(0, packed[1]);
+    }
+
+    /**
+     * Escala original del vent i de la temperatura alta: nivell 1 fins al primer llindar inclòs, i un
+     * nivell més per cada llindar superat.
+     */
+    private static int ladder(int value, int first, int second, int third, int fourth) {
+        if (value <= first) {
+            return 1;
+        } else if (value <= second) {
+            return 2;
+        } else if (value <= third) {
+            return 3;
+        } else if (value <= fourth) {
+            return 4;
+        } else {
+            return 5;
+        }
+    }
+
+    /**
+     * Escala original de la temperatura baixa.
+     */
+    private static int lowTemperature(int temperature) {
+        if (temperature > 5) {
+            return 1;
+        } else if (temperature >= 2) {
+            return 2;
+        } else if (temperature >= 0) {
+            return 3;
+        } else if (temperature >= -5) {
+            return 4;
+        } else {
+            return 5;
+        }
+    }
+
+    /**
+     * Escala original de la pluja i la neu, amb les quantitats negatives a nivell 1.
+     */
+    private static int amount(float amount) {
+        if (amount <= 0) {
+            return 1;
+        } else if (amount < 0.5f) {
+            return 2;
+        } else if (amount < 1) {
+            return 3;
+        } else if (amount < 5) {
+            return 4;
+        } else {
+            return 5;
+        }
+    }
+}
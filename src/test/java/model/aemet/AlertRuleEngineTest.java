@@ -0,0 +1,128 @@
+package model.aemet;
+
+import model.aemet.AlertEvaluator.Alert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a les classes AlertRule, AlertRuleSet i AlertRuleEngine.
+ * Comprova els operadors dels llindars, l'herència de perfils i la recàrrega del fitxer de regles.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class AlertRuleEngineTest {
+
+    /**
+     * Prova els llindars per defecte amb els valors límit de cada taula.
+     */
+    @Test
+    void testDefaultThresholds() {
+        AlertRuleSet.Profile rules = AlertRuleSet.parse(AlertRuleEngine.loadDefaults()).defaultProfile();
+
+        assertEquals(1, rules.level(Alert.AVERAGE_WIND, 10));
+        assertEquals(2, rules.level(Alert.AVERAGE_WIND, 11));
+        assertEquals(5, rules.level(Alert.AVERAGE_WIND, 23));
+
+        assertEquals(1, rules.level(Alert.RAIN, 0f));
+        assertEquals(2, rules.level(Alert.RAIN, 0.1f));
+        assertEquals(3, rules.level(Alert.RAIN, 0.5f));
+        assertEquals(4, rules.level(Alert.RAIN, 1f));
+        assertEquals(5, rules.level(Alert.RAIN, 5f));
+
+        assertEquals(1, rules.level(Alert.HIGH_TEMPERATURE, 3));
+        assertEquals(1, rules.level(Alert.HIGH_TEMPERATURE, 25));
+        assertEquals(2, rules.level(Alert.HIGH_TEMPERATURE, 26));
+        assertEquals(5, rules.level(Alert.HIGH_TEMPERATURE, 36));
+
+        assertEquals(1, rules.level(Alert.LOW_TEMPERATURE, 6));
+        assertEquals(2, rules.level(Alert.LOW_TEMPERATURE, 5));
+        assertEquals(2, rules.level(Alert.LOW_TEMPERATURE, 2));
+        assertEquals(3, rules.level(Alert.LOW_TEMPERATURE, 0));
+        assertEquals(4, rules.level(Alert.LOW_TEMPERATURE, -5));
+        assertEquals(5, rules.level(Alert.LOW_TEMPERATURE, -6));
+    }
+
+    /**
+     * Prova que la cerca binària de les taules llargues dóna el mateix que comptar els llindars.
+     */
+    @Test
+    void testLongTableUsesSameSemantics() {
+        AlertRule rule = AlertRule.parse(">0, >=1, >2, >=3, >4, >=5, >6, >=7, >8, >=9, >10, >=11");
+
+        assertEquals(13, rule.maxLevel());
+        assertEquals(1, rule.level(0));
+        assertEquals(2, rule.level(0.5f));
+        assertEquals(3, rule.level(1));
+        assertEquals(3, rule.level(2));
+        assertEquals(4, rule.level(2.5f));
+        assertEquals(13, rule.level(11));
+        assertEquals(1, rule.level(Float.NaN));
+    }
+
+    /**
+     * Prova que les definicions incorrectes es rebutgen.
+     */
+    @Test
+    void testInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> AlertRule.parse("10, 14"));
+        assertThrows(IllegalArgumentException.class, () -> AlertRule.parse(">10, <14"));
+        assertThrows(IllegalArgumentException.class, () -> AlertRule.parse(">14, >10"));
+        assertThrows(IllegalArgumentException.class, () -> AlertRule.parse(">deu"));
+
+        Properties properties = new Properties();
+        properties.setProperty("muntanya.snow", ">0");
+        assertThrows(IllegalArgumentException.class, () -> AlertRuleSet.parse(properties));
+    }
+
+    /**
+     * Prova que un perfil hereta del perfil per defecte les taules que no defineix.
+     */
+    @Test
+    void testProfileInheritsDefaults() {
+        Properties properties = AlertRuleEngine.loadDefaults();
+        properties.setProperty("muntanya.low_temperature", "<=0, <-3, <-8, <-12");
+        AlertRuleSet rules = AlertRuleSet.parse(properties);
+
+        assertEquals(1, rules.profile("muntanya").level(Alert.LOW_TEMPERATURE, 2));
+        assertEquals(2, rules.profile("default").level(Alert.LOW_TEMPERATURE, 2));
+        assertEquals(rules.defaultProfile().rule(Alert.RAIN), rules.profile("muntanya").rule(Alert.RAIN));
+        assertSame(rules.defaultProfile(), rules.profile("desconegut"));
+    }
+
+    /**
+     * Prova que el fitxer extern es torna a llegir quan canvia, com a molt una vegada per interval,
+     * i que un fitxer amb errors no substitueix les regles vigents.
+     */
+    @Test
+    void testHotReload(@TempDir Path directory) throws Exception {
+        AtomicLong now = new AtomicLong();
+        AlertRuleEngine engine = new AlertRuleEngine(AlertRuleEngine.loadDefaults(), now::get);
+        engine.setCheckInterval(Duration.ofSeconds(5));
+        Path file = directory.resolve("alert-rules.properties");
+
+        Files.writeString(file, "default.average_wind = >20, >30, >40, >50\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+        engine.setRulesFile(file);
+        assertEquals(1, engine.profile(null).level(Alert.AVERAGE_WIND, 15));
+
+        Files.writeString(file, "default.average_wind = >5, >30, >40, >50\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000));
+        assertEquals(1, engine.profile(null).level(Alert.AVERAGE_WIND, 15));
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(2, engine.profile(null).level(Alert.AVERAGE_WIND, 15));
+
+        Files.writeString(file, "default.average_wind = molt\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(3_000));
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(2, engine.profile(null).level(Alert.AVERAGE_WIND, 15));
+    }
+}
@@ -0,0 +1,104 @@
+package model.aemet;
+
+import model.httpClient.CircuitBreaker;
+import model.httpClient.TokenBucket;
+import org.junit.jupiter.api.Test;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per a la classe ForecastBatch.
+ * Simula l'API de l'Aemet amb un client HTTP fals per comprovar els resultats per municipi
+ * i el límit de peticions simultànies.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class ForecastBatchTest {
+
+    /** Municipi per al qual l'API simulada retorna un error. */
+    private static final String FAILING_TOWN = "99999";
+
+    private static final String FORECAST = "[ { \"elaborado\": \"2024-12-16T08:00:00\", \"prediccion\": { \"dia\": [ "
+            + "{ \"fecha\": \"2024-12-16T00:00:00\", \"temperatura\": [ { \"value\": \"12\", \"periodo\": \"10\" } ] } "
+            + "] } } ]";
+
+    /**
+     * Prova que es retornen les prediccions correctes i els errors per separat, sense superar la
+     * concurrència màxima.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFetchAllReportsForecastsAndFailures() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                String url = invocation.getArgument(0, HttpRequest.class).uri().toString();
+                HttpResponse<String> response = mock(HttpResponse.class);
+                if (url.contains(FAILING_TOWN)) {
+                    when(response.statusCode()).thenReturn(500);
+                } else if (url.contains("/municipio/horaria/")) {
+                    when(response.statusCode()).thenReturn(200);
+                    when(response.body()).thenReturn("{ \"descripcion\": \"exito\", \"datos\": \"http://example.com/data\" }");
+                } else {
+                    when(response.statusCode()).thenReturn(200);
+                    when(response.body()).thenReturn(FORECAST);
+                }
+                return response;
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            ForecastBatch batch = new ForecastBatch(gateway(new AemetRequest(httpClient)), executor, 2);
+            ForecastBatch.Result result = batch.fetchAll(List.of("43028", "08019", FAILING_TOWN, "17079", "43028"));
+
+            assertEquals(List.of("43028", "08019", "17079"), List.copyOf(result.forecasts().keySet()));
+            assertEquals(12, result.forecasts().get("08019").getTemperature(0, 10));
+            assertEquals(1, result.failures().size());
+            assertEquals("Error en la resposta de la Aemet", result.failures().get(FAILING_TOWN));
+            assertTrue(maxRunning.get() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prova que una llista buida acaba de seguida sense cap resultat.
+     */
+    @Test
+    void testEmptyBatch() {
+        ForecastBatch batch = new ForecastBatch(gateway(new AemetRequest(mock(HttpClient.class))), Runnable::run, 4);
+        ForecastBatch.Result result = batch.fetchAll(List.of());
+
+        assertTrue(result.forecasts().isEmpty());
+        assertTrue(result.failures().isEmpty());
+    }
+
+    /**
+     * Crea un punt d'accés sense límit de ritme ni reintents.
+     *
+     * @param aemetRequest Objecte que fa les peticions.
+     * @return El punt d'accés.
+     */
+    private static AemetGateway gateway(AemetRequest aemetRequest) {
+        return new AemetGateway(aemetRequest, new TokenBucket(1000, 1000, Duration.ofMillis(1)),
+                new CircuitBreaker(100, Duration.ofSeconds(1)), 0, Duration.ZERO, Duration.ZERO);
+    }
+}
@@ -0,0 +1,165 @@
+package model.aemet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe ForecastCache.
+ * Comprova la caducitat segons l'hora d'elaboració, la mida màxima i la persistència a disc,
+ * incloent-hi que el directori no guarda prediccions expulsades ni caducades.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class ForecastCacheTest {
+
+    /** Instant fix de les proves: 16/12/2024 a les 10:00 hora de Madrid. */
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 16, 10, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.of("Europe/Madrid")).toInstant(), ZoneOffset.UTC);
+
+    /**
+     * Crea una resposta de l'Aemet amb l'hora d'elaboració indicada.
+     *
+     * @param elaborado L'hora d'elaboració.
+     * @return El JSON de la resposta.
+     */
+    private static String forecast(LocalDateTime elaborado) {
+        return "[ { \"origen\": { \"productor\": \"AEMET\" }, \"elaborado\": \"" + elaborado
+                + "\", \"nombre\": \"Bisbal del Penedès, La\", \"prediccion\": { \"dia\": [] } } ]";
+    }
+
+    /**
+     * Prova que una predicció recent es guarda i una d'antiga no.
+     */
+    @Test
+    void testExpiryFollowsElaborado() {
+        MutableClock clock = new MutableClock();
+        ForecastCache cache = new ForecastCache(Duration.ofHours(6), 10, clock);
+
+        String recent = forecast(NOW.minusHours(1));
+        assertTrue(cache.put("43028", recent));
+        assertEquals(recent, cache.get("43028"));
+
+        assertFalse(cache.put("08019", forecast(NOW.minusHours(7))));
+        assertNull(cache.get("08019"));
+
+        clock.advance(Duration.ofHours(4).plusMinutes(59));
+        assertEquals(recent, cache.get("43028"));
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(cache.get("43028"));
+    }
+
+    /**
+     * Prova que les respostes sense hora d'elaboració no es guarden.
+     */
+    @Test
+    void testResponseWithoutElaboradoIsNotCached() {
+        ForecastCache cache = new ForecastCache(Duration.ofHours(6), 10, CLOCK);
+
+        assertFalse(cache.put("43028", "{ \"descripcion\": \"Error al obtener los datos\" }"));
+        assertFalse(cache.put("43028", "no és JSON"));
+        assertNull(cache.get("43028"));
+    }
+
+    /**
+     * Prova que s'expulsa la predicció menys consultada en superar la mida màxima.
+     */
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        ForecastCache cache = new ForecastCache(Duration.ofHours(6), 2, CLOCK);
+        String json = forecast(NOW);
+
+        cache.put("00001", json);
+        cache.put("00002", json);
+        cache.get("00001");
+        cache.put("00003", json);
+
+        assertNotNull(cache.get("00001"));
+        assertNull(cache.get("00002"));
+        assertNotNull(cache.get("00003"));
+    }
+
+    /**
+     * Prova que una predicció guardada a disc es recupera des d'una altra instància.
+     */
+    @Test
+    void testPersistence(@TempDir Path directory) throws Exception {
+        String json = forecast(NOW);
+
+        ForecastCache first = new ForecastCache(Duration.ofHours(6), 10, CLOCK);
+        first.enablePersistence(directory);
+        first.put("43028", json);
+        assertTrue(Files.exists(directory.resolve("43028.json")));
+
+        ForecastCache second = new ForecastCache(Duration.ofHours(6), 10, CLOCK);
+        second.enablePersistence(directory);
+        assertEquals(json, second.get("43028"));
+
+        ForecastCache expired = new ForecastCache(Duration.ofHours(6), 10, Clock.offset(CLOCK, Duration.ofHours(6)));
+        expired.enablePersistence(directory);
+        assertNull(expired.get("43028"));
+        assertFalse(Files.exists(directory.resolve("43028.json")));
+    }
+
+    /**
+     * Prova que les prediccions expulsades s'esborren del disc i que en activar la persistència
+     * s'esborren els fitxers caducats.
+     */
+    @Test
+    void testEvictedAndExpiredFilesAreDeleted(@TempDir Path directory) throws Exception {
+        ForecastCache cache = new ForecastCache(Duration.ofHours(6), 2, CLOCK);
+        cache.enablePersistence(directory);
+        cache.put("00001", forecast(NOW.minusHours(5)));
+        cache.put("00002", forecast(NOW));
+        cache.put("00003", forecast(NOW));
+
+        assertFalse(Files.exists(directory.resolve("00001.json")));
+        assertTrue(Files.exists(directory.resolve("00002.json")));
+        assertTrue(Files.exists(directory.resolve("00003.json")));
+
+        Files.writeString(directory.resolve("00004.json"), "no és una predicció");
+        cache.put("00001", forecast(NOW.minusHours(5)));
+
+        ForecastCache later = new ForecastCache(Duration.ofHours(6), 2, Clock.offset(CLOCK, Duration.ofHours(1)));
+        later.enablePersistence(directory);
+
+        assertFalse(Files.exists(directory.resolve("00001.json")));
+        assertTrue(Files.exists(directory.resolve("00003.json")));
+        assertFalse(Files.exists(directory.resolve("00004.json")));
+    }
+
+    /**
+     * Rellotge que es pot avançar durant la prova.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant = CLOCK.instant();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
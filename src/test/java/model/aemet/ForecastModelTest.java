@@ -0,0 +1,97 @@
+package model.aemet;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe ForecastModel.
+ * Comprova la indexació per dia, hora i franja i el tractament dels valors especials o absents.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class ForecastModelTest {
+
+    /** Predicció de dos dies amb les dades d'unes quantes hores. */
+    private static final String FORECAST = "[ { \"elaborado\": \"2024-12-16T08:00:00\", \"prediccion\": { \"dia\": [ "
+            + "{ \"fecha\": \"2024-12-16T00:00:00\", "
+            + "\"vientoAndRachaMax\": [ { \"direccion\": [\"N\"], \"velocidad\": [\"12\"], \"periodo\": \"10\" }, "
+            + "{ \"value\": \"35\", \"periodo\": \"10\" } ], "
+            + "\"precipitacion\": [ { \"value\": \"Ip\", \"periodo\": \"10\" }, { \"value\": \"2.5\", \"periodo\": \"11\" } ], "
+            + "\"probPrecipitacion\": [ { \"value\": \"40\", \"periodo\": \"0713\" }, { \"value\": \"80\", \"periodo\": \"1901\" } ], "
+            + "\"probTormenta\": [ { \"value\": 15, \"periodo\": \"0713\" } ], "
+            + "\"temperatura\": [ { \"value\": \"-3\", \"periodo\": \"10\" } ] }, "
+            + "{ \"fecha\": \"2024-12-17T00:00:00\", "
+            + "\"temperatura\": [ { \"value\": \"7\", \"periodo\": \"00\" } ], "
+            + "\"humedadRelativa\": [ { \"value\": \"90\", \"periodo\": \"23\" } ] } "
+            + "] } } ]";
+
+    /**
+     * Prova que cada hora pertany a la mateixa franja que fa servir l'Aemet.
+     */
+    @Test
+    void testSlot() {
+        assertEquals(3, ForecastModel.slot(0));
+        assertEquals(0, ForecastModel.slot(1));
+        assertEquals(0, ForecastModel.slot(6));
+        assertEquals(1, ForecastModel.slot(7));
+        assertEquals(1, ForecastModel.slot(12));
+        assertEquals(2, ForecastModel.slot(13));
+        assertEquals(2, ForecastModel.slot(18));
+        assertEquals(3, ForecastModel.slot(19));
+        assertEquals(3, ForecastModel.slot(23));
+    }
+
+    /**
+     * Prova que els valors es llegeixen ja convertits a la posició del seu dia i hora.
+     */
+    @Test
+    void testValuesAreIndexedByDayAndHour() throws IOException {
+        ForecastModel model = ForecastModel.fromJson(FORECAST);
+
+        assertEquals(2, model.getDayCount());
+        assertEquals(0, model.dayIndex(LocalDate.of(2024, 12, 16)));
+        assertEquals(1, model.dayIndex(LocalDate.of(2024, 12, 17)));
+        assertEquals(-1, model.dayIndex(LocalDate.of(2024, 12, 18)));
+
+        assertEquals(12, model.getWindAverage(0, 10));
+        assertEquals(35, model.getWindMax(0, 10));
+        assertEquals(0f, model.getRain(0, 10));
+        assertEquals(2.5f, model.getRain(0, 11));
+        assertEquals(-3, model.getTemperature(0, 10));
+        assertEquals(7, model.getTemperature(1, 0));
+        assertEquals(90, model.getRelativeHumidity(1, 23));
+    }
+
+    /**
+     * Prova que les probabilitats es comparteixen entre totes les hores de la franja.
+     */
+    @Test
+    void testPeriodValuesCoverTheirHours() throws IOException {
+        ForecastModel model = ForecastModel.fromJson(FORECAST);
+
+        for (int hour = 7; hour <= 12; hour++) {
+            assertEquals(40, model.getRainProbability(0, hour));
+            assertEquals(15, model.getStormProbability(0, hour));
+        }
+        assertEquals(80, model.getRainProbability(0, 0));
+        assertEquals(80, model.getRainProbability(0, 21));
+        assertEquals(ForecastModel.MISSING, model.getRainProbability(0, 13));
+    }
+
+    /**
+     * Prova que les dades que la resposta no inclou es marquen com a absents.
+     */
+    @Test
+    void testMissingValues() throws IOException {
+        ForecastModel model = ForecastModel.fromJson(FORECAST);
+
+        assertEquals(ForecastModel.MISSING, model.getWindAverage(0, 11));
+        assertEquals(ForecastModel.MISSING, model.getTemperature(1, 1));
+        assertEquals(ForecastModel.MISSING, model.getSnowProbability(1, 10));
+        assertTrue(Float.isNaN(model.getSnow(0, 10)));
+        assertTrue(Float.isNaN(model.getRain(1, 10)));
+    }
+}
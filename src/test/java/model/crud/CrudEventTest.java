@@ -1,11 +1,23 @@
 package model.crud;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import model.encryption.CipherUtil;
+import model.json.JsonUtil;
 import model.model.Event;
+import model.tokenSingleton.TokenSingleton;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -177,4 +189,195 @@ public class CrudEventTest {
             fail("Excepció inesperada al obtenir esdeveniment per ID: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Prova que la llista d'esdeveniments es desxifra i s'interpreta en streaming a partir
+     * de la resposta xifrada del servidor.
+     */
+    @Test
+    public void testGetAllEventsStreamsEncryptedResponse() {
+        try {
+            TokenSingleton.getInstance().setJwtToken("testToken");
+            String json = JsonUtil.MAPPER.writeValueAsString(List.of(testEvent, testEvent));
+            byte[] encrypted = CipherUtil.encrypt(json).getBytes(StandardCharsets.US_ASCII);
+
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+            HttpResponse<InputStream> mockedResponse = mock(HttpResponse.class);
+            when(mockedResponse.statusCode()).thenReturn(200);
+            when(mockedResponse.body()).thenReturn(new ByteArrayInputStream(encrypted));
+            when(mockedHttpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> mockedResponse);
+
+            List<Event> events = new CrudEvent(mockedHttpClient).getAllEvents();
+
+            assertEquals(2, events.size());
+            assertEquals(testEvent.getNom(), events.get(0).getNom());
+            assertEquals(testEvent.getAforament(), events.get(1).getAforament());
+        } catch (Exception e) {
+            fail("Excepció inesperada al llegir la llista en streaming: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prova que la versió asíncrona de getAllEvents() fa servir sendAsync i retorna
+     * la llista llegida dins del futur.
+     */
+    @Test
+    public void testGetAllEventsAsync() {
+        try {
+            TokenSingleton.getInstance().setJwtToken("testToken");
+            String json = JsonUtil.MAPPER.writeValueAsString(List.of(testEvent));
+            byte[] encrypted = CipherUtil.encrypt(json).getBytes(StandardCharsets.US_ASCII);
+
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+            HttpResponse<InputStream> mockedResponse = mock(HttpResponse.class);
+            when(mockedResponse.statusCode()).thenReturn(200);
+            when(mockedResponse.body()).thenReturn(new ByteArrayInputStream(encrypted));
+            when(mockedHttpClient.sendAsync(any(HttpRequest.class), any()))
+                    .thenAnswer(invocation -> CompletableFuture.completedFuture(mockedResponse));
+
+            List<Event> events = new CrudEvent(mockedHttpClient).getAllEventsAsync().get(5, TimeUnit.SECONDS);
+
+            assertEquals(1, events.size());
+            assertEquals(testEvent.getNom(), events.get(0).getNom());
+            verify(mockedHttpClient, never()).send(any(HttpRequest.class), any());
+        } catch (Exception e) {
+            fail("Excepció inesperada al llegir la llista de manera asíncrona: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prova que cancel·lar el futur de getAllEventsAsync() cancel·la també la petició HTTP en curs.
+     */
+    @Test
+    public void testCancelGetAllEventsAsyncCancelsRequest() {
+        TokenSingleton.getInstance().setJwtToken("testToken");
+        CompletableFuture<HttpResponse<InputStream>> exchange = new CompletableFuture<>();
+        HttpClient mockedHttpClient = mock(HttpClient.class);
+        when(mockedHttpClient.sendAsync(any(HttpRequest.class), any()))
+                .thenAnswer(invocation -> exchange);
+
+        CompletableFuture<List<Event>> events = new CrudEvent(mockedHttpClient).getAllEventsAsync();
+        events.cancel(true);
+
+        assertTrue(events.isCancelled());
+        assertTrue(exchange.isCancelled());
+    }
+
+    /**
+     * Prova que cancel·lar el futur de getStatusByIdAsync() cancel·la la petició de l'estat, que
+     * comença la continuació després d'obtenir l'esdeveniment.
+     */
+    @Test
+    public void testCancelComposedFutureCancelsInnerRequest() {
+        try {
+            TokenSingleton.getInstance().setJwtToken("testToken");
+            String body = CipherUtil.encrypt("{\"body\":" + JsonUtil.MAPPER.writeValueAsString(testEvent) + "}");
+            HttpResponse<String> eventResponse = mock(HttpResponse.class);
+            when(eventResponse.statusCode()).thenReturn(200);
+            when(eventResponse.body()).thenReturn(body);
+
+            CompletableFuture<HttpResponse<String>> statusExchange = new CompletableFuture<>();
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+            when(mockedHttpClient.sendAsync(any(HttpRequest.class), any()))
+                    .thenAnswer(invocation -> CompletableFuture.completedFuture(eventResponse))
+                    .thenAnswer(invocation -> statusExchange);
+
+            CompletableFuture<String> status = new CrudEvent(mockedHttpClient,
+                    new EntityCache<>(Event::getId, Event::getNom)).getStatusByIdAsync(testEvent.getId());
+            verify(mockedHttpClient, times(2)).sendAsync(any(HttpRequest.class), any());
+            status.thenApply(String::trim).cancel(true);
+
+            assertTrue(status.isCancelled());
+            assertTrue(statusExchange.isCancelled());
+        } catch (Exception e) {
+            fail("Excepció inesperada: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prova que, un cop carregada la llista, checkEvent() consulta l'índex de noms sense
+     * tornar a fer cap petició al servidor.
+     */
+    @Test
+    public void testCheckEventUsesNameIndex() {
+        try {
+            TokenSingleton.getInstance().setJwtToken("testToken");
+            String json = JsonUtil.MAPPER.writeValueAsString(List.of(testEvent));
+            byte[] encrypted = CipherUtil.encrypt(json).getBytes(StandardCharsets.US_ASCII);
+
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+            HttpResponse<InputStream> mockedResponse = mock(HttpResponse.class);
+            when(mockedResponse.statusCode()).thenReturn(200);
+            when(mockedResponse.body()).thenReturn(new ByteArrayInputStream(encrypted));
+            when(mockedHttpClient.send(any(HttpRequest.class), any())).thenAnswer(invocation -> mockedResponse);
+
+            CrudEvent crud = new CrudEvent(mockedHttpClient);
+            Event other = new Event();
+            other.setNom(testEvent.getNom() + " 2");
+
+            assertTrue(crud.checkEvent(testEvent));
+            assertFalse(crud.checkEvent(other));
+            verify(mockedHttpClient, times(1)).send(any(HttpRequest.class), any());
+        } catch (Exception e) {
+            fail("Excepció inesperada: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prova que l'esdeveniment que retorna el servidor en crear-lo s'afegeix a la cache i a l'índex
+     * de noms sense invalidar la llista, i que sense entitat a la resposta la llista deixa de ser completa.
+     */
+    @Test
+    public void testCreateEventUpdatesCache() {
+        try {
+            TokenSingleton.getInstance().setJwtToken("testToken");
+            Event created = new Event("2", "Fira de Nadal", "", "", "", "43700", "El Vendrell", 300,
+                    "10:00", "20:00", "2024-12-21");
+            String body = CipherUtil.encrypt("{\"body\":" + JsonUtil.MAPPER.writeValueAsString(created) + "}");
+
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+            HttpResponse<String> withEntity = mock(HttpResponse.class);
+            when(withEntity.statusCode()).thenReturn(200);
+            when(withEntity.body()).thenReturn(body);
+            HttpResponse<String> withMessage = mock(HttpResponse.class);
+            when(withMessage.statusCode()).thenReturn(200);
+            when(withMessage.body()).thenReturn("Esdeveniment creat");
+            when(mockedHttpClient.send(any(HttpRequest.class), any()))
+                    .thenAnswer(invocation -> withEntity)
+                    .thenAnswer(invocation -> withMessage);
+
+            EntityCache<Event> cache = new EntityCache<>(Event::getId, Event::getNom);
+            cache.putAll(List.of(testEvent));
+            CrudEvent crud = new CrudEvent(mockedHttpClient, cache);
+
+            assertEquals("Esdeveniment creat correctament", crud.createEvent(created));
+            assertTrue(cache.isComplete());
+            assertEquals(2, cache.getAll().size());
+            assertTrue(crud.checkEvent(created));
+
+            Event other = new Event();
+            other.setNom("Cursa popular");
+            assertEquals("Esdeveniment creat correctament", crud.createEvent(other));
+            assertFalse(cache.isComplete());
+        } catch (Exception e) {
+            fail("Excepció inesperada: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prova que deleteEventAsync() retorna l'error d'identificador sense fer cap petició.
+     */
+    @Test
+    public void testDeleteEventAsyncWithEmptyId() {
+        try {
+            HttpClient mockedHttpClient = mock(HttpClient.class);
+
+            String result = new CrudEvent(mockedHttpClient).deleteEventAsync("").get(5, TimeUnit.SECONDS);
+
+            assertEquals("Identificador incorrecte", result);
+            verifyNoInteractions(mockedHttpClient);
+        } catch (Exception e) {
+            fail("Excepció inesperada: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package model.crud;
+
+import model.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe EntityCache.
+ * Comprova la caducitat de les entrades, l'expulsió per mida i la invalidació
+ * després de crear, actualitzar i esborrar entitats.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class EntityCacheTest {
+
+    private AtomicLong now;
+    private EntityCache<Event> cache;
+
+    /**
+     * Crea una cache de 3 entrades amb un temps de vida d'un minut i un rellotge controlat per la prova.
+     */
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new EntityCache<>(Event::getId, Event::getNom, Duration.ofMinutes(1), 3, now::get);
+    }
+
+    /**
+     * Prova que la llista completa es retorna en l'ordre original fins que caduca.
+     */
+    @Test
+    void testGetAllUntilExpired() {
+        cache.putAll(List.of(event("2", "B"), event("1", "A")));
+
+        List<Event> list = cache.getAll();
+        assertNotNull(list);
+        assertEquals("2", list.get(0).getId());
+        assertEquals("1", list.get(1).getId());
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertNull(cache.getAll());
+        assertNull(cache.get("1"));
+    }
+
+    /**
+     * Prova que si la llista no hi cap sencera, no es considera completa.
+     */
+    @Test
+    void testEvictionMarksListIncomplete() {
+        cache.putAll(List.of(event("1", "A"), event("2", "B"), event("3", "C"), event("4", "D")));
+
+        assertNull(cache.getAll());
+        assertEquals(3, cache.size());
+        assertNull(cache.get("1"));
+        assertNotNull(cache.get("4"));
+    }
+
+    /**
+     * Prova que s'expulsa l'entrada menys utilitzada recentment.
+     */
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        cache.put(event("1", "A"));
+        cache.put(event("2", "B"));
+        cache.put(event("3", "C"));
+
+        cache.get("1");
+        cache.put(event("4", "D"));
+
+        assertNotNull(cache.get("1"));
+        assertNull(cache.get("2"));
+    }
+
+    /**
+     * Prova que actualitzar i esborrar mantenen la llista completa i que crear la invalida.
+     */
+    @Test
+    void testWriteThrough() {
+        cache.putAll(List.of(event("1", "A"), event("2", "B")));
+
+        cache.put(event("1", "A2"));
+        cache.remove("2");
+
+        List<Event> list = cache.getAll();
+        assertNotNull(list);
+        assertEquals(1, list.size());
+        assertEquals("A2", list.get(0).getNom());
+
+        cache.invalidateAll();
+        assertNull(cache.getAll());
+        assertNotNull(cache.get("1"));
+    }
+
+    /**
+     * Prova que l'índex de noms segueix les altes, modificacions, baixes i expulsions.
+     */
+    @Test
+    void testNameIndex() {
+        cache.putAll(List.of(event("1", "A"), event("2", "B")));
+        assertTrue(cache.isComplete());
+        assertTrue(cache.containsName("A"));
+        assertFalse(cache.containsName("C"));
+
+        Event renamed = event("1", "C");
+        cache.put(renamed);
+        assertFalse(cache.containsName("A"));
+        assertTrue(cache.containsName("C"));
+
+        renamed.setNom("D");
+        cache.remove("1");
+        assertFalse(cache.containsName("C"));
+
+        cache.put(event("3", "E"));
+        cache.put(event("4", "F"));
+        cache.put(event("5", "G"));
+        assertFalse(cache.containsName("B"));
+        assertFalse(cache.isComplete());
+    }
+
+    /**
+     * Prova que la versió de la llista permet revalidar-la i aplicar-hi canvis després de caducar,
+     * i que es perd quan la llista ja no hi cap sencera.
+     */
+    @Test
+    void testVersionedRevalidation() {
+        cache.putAll(List.of(event("1", "A"), event("2", "B")), "v1");
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertNull(cache.getAll());
+        assertNull(cache.revalidate("v0"));
+
+        assertEquals(2, cache.revalidate("v1").size());
+        assertNotNull(cache.get("1"));
+
+        List<Event> list = cache.applyChanges("v1", List.of(event("3", "C"), event("1", "A2")), List.of("2"), "v2");
+        assertEquals(List.of("1", "3"), list.stream().map(Event::getId).toList());
+        assertEquals("A2", list.get(0).getNom());
+        assertEquals("v2", cache.getVersion());
+
+        cache.invalidateAll();
+        assertEquals("v2", cache.getVersion());
+
+        assertNull(cache.applyChanges("v2", List.of(event("4", "D"), event("5", "E")), List.of(), "v3"));
+        assertNull(cache.getVersion());
+    }
+
+    /**
+     * Prova que una llista demanada abans d'una modificació de la cache es descarta en arribar.
+     */
+    @Test
+    void testStaleListIsDiscarded() {
+        cache.putAll(List.of(event("1", "A")), "v1");
+        long generation = cache.getGeneration();
+        cache.put(event("2", "B"));
+
+        assertFalse(cache.putAll(List.of(event("1", "A")), "v1", generation));
+        assertNotNull(cache.get("2"));
+        assertEquals(2, cache.getAll().size());
+
+        assertTrue(cache.putAll(List.of(event("1", "A")), "v2", cache.getGeneration()));
+        assertNull(cache.get("2"));
+        assertEquals("v2", cache.getVersion());
+    }
+
+    /**
+     * Crea un esdeveniment de prova.
+     *
+     * @param id L'identificador de l'esdeveniment.
+     * @param nom El nom de l'esdeveniment.
+     * @return L'esdeveniment creat.
+     */
+    private Event event(String id, String nom) {
+        Event event = new Event();
+        event.setId(id);
+        event.setNom(nom);
+        return event;
+    }
+}
@@ -0,0 +1,194 @@
+package model.crud;
+
+import model.json.JsonUtil;
+import model.model.Event;
+import model.store.LocalStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per a la classe ListSync.
+ * Fa servir SyncServer com a backend local per comprovar que refrescar una llista de 10.000
+ * esdeveniments sense canvis no transfereix el cos, que els canvis arriben de manera incremental
+ * que la versió guardada al magatzem local permet revalidar la llista en una sessió nova i que,
+ * si la cache perd la versió durant la petició, es torna a demanar la llista sencera.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class ListSyncTest {
+
+    private static final int CATALOGUE_SIZE = 10_000;
+
+    @TempDir
+    Path directory;
+
+    private SyncServer server;
+    private HttpClient client;
+    private HttpRequest request;
+
+    /**
+     * Arrenca el servidor local amb el catàleg d'esdeveniments.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new SyncServer();
+        for (int i = 0; i < CATALOGUE_SIZE; i++) {
+            server.put(event(String.valueOf(i), "Esdeveniment " + i));
+        }
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(server.listUri()).GET().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Prova que, després de la primera descàrrega, refrescar una llista sense canvis només rep un 304
+     * i que els canvis posteriors arriben sense tornar a enviar la llista sencera.
+     */
+    @Test
+    void testRefreshTransfersOnlyChanges() throws Exception {
+        ListSync<Event> sync = new ListSync<>(newCache(), null, JsonUtil.EVENT_READER);
+
+        assertEquals(CATALOGUE_SIZE, sync.fetch(client, request, event -> {}).size());
+        long fullBytes = server.bytesSent();
+        server.resetCounters();
+
+        assertEquals(CATALOGUE_SIZE, sync.fetch(client, request, event -> {}).size());
+        assertEquals(1, server.requests());
+        assertEquals(0, server.bytesSent());
+
+        server.put(event("5", "Concert"));
+        server.remove("6");
+        server.put(event("nou", "Fira"));
+        List<Event> list = sync.fetch(client, request, event -> {});
+
+        assertEquals(ids(server.events()), ids(list));
+        assertEquals("Concert", list.get(5).getNom());
+        assertTrue(server.bytesSent() * 100 < fullBytes, "Bytes del refresc: " + server.bytesSent());
+    }
+
+    /**
+     * Prova la versió asíncrona contra un servidor que només coneix les peticions condicionals.
+     */
+    @Test
+    void testServerWithoutDeltaSendsFullList() throws Exception {
+        server.setDeltaEnabled(false);
+        ListSync<Event> sync = new ListSync<>(newCache(), null, JsonUtil.EVENT_READER);
+
+        sync.fetchAsync(client, request, Runnable::run).get(10, TimeUnit.SECONDS);
+        server.remove("1");
+        List<Event> list = sync.fetchAsync(client, request, Runnable::run).get(10, TimeUnit.SECONDS);
+
+        assertEquals(CATALOGUE_SIZE - 1, list.size());
+        assertEquals(ids(server.events()), ids(list));
+    }
+
+    /**
+     * Prova que una sessió nova revalida la llista del magatzem local sense descarregar-la,
+     * i que els canvis incrementals també es guarden al magatzem.
+     */
+    @Test
+    void testStoredVersionIsRevalidated() throws Exception {
+        Path file = directory.resolve("events.log");
+        new ListSync<>(newCache(), newStore(file), JsonUtil.EVENT_READER).fetch(client, request, event -> {});
+        server.put(event("3", "Mercat"));
+        server.resetCounters();
+
+        ListSync<Event> sync = new ListSync<>(newCache(), newStore(file), JsonUtil.EVENT_READER);
+        List<Event> list = sync.fetchAsync(client, request, Runnable::run).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, server.requests());
+        assertEquals("Mercat", list.get(3).getNom());
+        assertTrue(server.bytesSent() < 1_000, "Bytes de la revalidació: " + server.bytesSent());
+
+        server.resetCounters();
+        assertEquals(CATALOGUE_SIZE, new ListSync<>(newCache(), newStore(file), JsonUtil.EVENT_READER)
+                .fetch(client, request, event -> {}).size());
+        assertEquals(0, server.bytesSent());
+        assertEquals("Mercat", newStore(file).getAll().get(3).getNom());
+    }
+
+    /**
+     * Prova que, si la cache perd la versió mentre s'espera la resposta, el 304 o els canvis
+     * es descarten i es torna a demanar la llista sencera.
+     */
+    @Test
+    void testLostVersionFallsBackToFullList() throws Exception {
+        EntityCache<Event> cache = newCache();
+        ListSync<Event> sync = new ListSync<>(cache, null, JsonUtil.EVENT_READER);
+        HttpClient clearing = clearingOnConditional(cache);
+        sync.fetch(client, request, event -> {});
+        server.resetCounters();
+
+        List<Event> list = sync.fetch(clearing, request, event -> {});
+
+        assertEquals(CATALOGUE_SIZE, list.size());
+        assertEquals(2, server.requests());
+        assertTrue(cache.isComplete());
+
+        server.put(event("7", "Teatre"));
+        server.resetCounters();
+        list = sync.fetchAsync(clearing, request, Runnable::run).get(10, TimeUnit.SECONDS);
+
+        assertEquals("Teatre", list.get(7).getNom());
+        assertEquals(2, server.requests());
+        assertEquals("Teatre", cache.get("7").getNom());
+    }
+
+    /**
+     * Crea un client que fa les peticions amb el client real però, just abans d'enviar una petició
+     * condicional, buida la cache, com si s'hagués tancat la sessió mentre s'esperava la resposta.
+     */
+    private HttpClient clearingOnConditional(EntityCache<Event> cache) throws Exception {
+        HttpClient clearing = mock(HttpClient.class);
+        when(clearing.send(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+            clearIfConditional(cache, invocation.getArgument(0));
+            return client.send(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        when(clearing.sendAsync(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+            clearIfConditional(cache, invocation.getArgument(0));
+            return client.sendAsync(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        return clearing;
+    }
+
+    private static void clearIfConditional(EntityCache<Event> cache, HttpRequest sent) {
+        if (sent.headers().firstValue("If-None-Match").isPresent()) {
+            cache.clear();
+        }
+    }
+
+    private static EntityCache<Event> newCache() {
+        return new EntityCache<>(Event::getId, Event::getNom, Duration.ofMinutes(5), 2 * CATALOGUE_SIZE);
+    }
+
+    private static LocalStore<Event> newStore(Path file) {
+        return new LocalStore<>(file, JsonUtil.EVENT_READER, JsonUtil.EVENT_WRITER, Event::getId);
+    }
+
+    private static List<String> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+
+    private static Event event(String id, String nom) {
+        Event event = new Event();
+        event.setId(id);
+        event.setNom(nom);
+        return event;
+    }
+}
@@ -0,0 +1,176 @@
+package model.crud;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import model.encryption.CipherUtil;
+import model.json.JsonUtil;
+import model.model.Event;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor HTTP local que fa de backend per a les proves de ListSync. Serveix una llista
+ * d'esdeveniments xifrada amb el protocol de peticions condicionals i sincronització incremental
+ * i compta les peticions i els bytes enviats.
+ *
+ * Cada modificació incrementa la versió de la llista. El servidor recorda la versió en què va
+ * canviar cada esdeveniment i en quina es va esborrar, de manera que pot calcular els canvis des
+ * de qualsevol versió anterior. Si deltaEnabled és false, respon com un servidor que només
+ * coneix les peticions condicionals.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class SyncServer implements AutoCloseable {
+
+    static final String PATH = "/api/esdeveniments";
+
+    private final HttpServer server;
+    private final Map<String, Event> events = new LinkedHashMap<>();
+    private final Map<String, Long> changedAt = new LinkedHashMap<>();
+    private final Map<String, Long> removedAt = new LinkedHashMap<>();
+    private long version = 1;
+    private boolean deltaEnabled = true;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    SyncServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * @return L'adreça de la llista d'esdeveniments.
+     */
+    URI listUri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + PATH);
+    }
+
+    synchronized void put(Event event) {
+        version++;
+        events.put(event.getId(), event);
+        changedAt.put(event.getId(), version);
+        removedAt.remove(event.getId());
+    }
+
+    synchronized void remove(String id) {
+        version++;
+        events.remove(id);
+        changedAt.remove(id);
+        removedAt.put(id, version);
+    }
+
+    synchronized List<Event> events() {
+        return new ArrayList<>(events.values());
+    }
+
+    synchronized void setDeltaEnabled(boolean deltaEnabled) {
+        this.deltaEnabled = deltaEnabled;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    long bytesSent() {
+        return bytesSent.get();
+    }
+
+    void resetCounters() {
+        requests.set(0);
+        bytesSent.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            String etag;
+            String body;
+            boolean delta = false;
+            synchronized (this) {
+                etag = "\"v" + version + "\"";
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.getResponseHeaders().set("ETag", etag);
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                Long since = since(exchange.getRequestURI());
+                if (deltaEnabled && since != null) {
+                    body = changesSince(since);
+                    delta = true;
+                } else {
+                    body = JsonUtil.MAPPER.writeValueAsString(events.values());
+                }
+            }
+
+            byte[] encrypted = CipherUtil.encrypt(body).getBytes(StandardCharsets.US_ASCII);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (delta) {
+                exchange.getResponseHeaders().set(ListSync.SYNC_HEADER, ListSync.DELTA);
+            }
+            exchange.sendResponseHeaders(200, encrypted.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(encrypted);
+            }
+            bytesSent.addAndGet(encrypted.length);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            // Error del xifrat
+            throw new IOException(e);
+        }
+    }
+
+    /** Retorna la versió del paràmetre "desde", o null si no n'hi ha o no té el format esperat. */
+    private static Long since(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String param : query.split("&")) {
+            if (param.startsWith(ListSync.SINCE_PARAM + "=")) {
+                String value = URLDecoder.decode(param.substring(ListSync.SINCE_PARAM.length() + 1), StandardCharsets.UTF_8);
+                if (value.matches("\"v\\d+\"")) {
+                    return Long.parseLong(value.substring(2, value.length() - 1));
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Construeix el cos amb els esdeveniments canviats i esborrats després de la versió indicada. */
+    private String changesSince(long since) throws IOException {
+        ObjectNode delta = JsonUtil.MAPPER.createObjectNode();
+        ArrayNode changed = delta.putArray(ListSync.CHANGED_FIELD);
+        ArrayNode removed = delta.putArray(ListSync.REMOVED_FIELD);
+        changedAt.forEach((id, at) -> {
+            if (at > since) {
+                changed.add(JsonUtil.MAPPER.valueToTree(events.get(id)));
+            }
+        });
+        removedAt.forEach((id, at) -> {
+            if (at > since) {
+                removed.add(id);
+            }
+        });
+        return JsonUtil.MAPPER.writeValueAsString(delta);
+    }
+}
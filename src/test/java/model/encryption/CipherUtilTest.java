@@ -0,0 +1,98 @@
+package model.encryption;
+
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe CipherUtil.
+ * Comprova que les diferents entrades de xifrat i desxifrat són compatibles entre elles
+ * i que la capçalera d'autorització només es recalcula quan canvia el token.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class CipherUtilTest {
+
+    private static final String PLAIN_TEXT = "{\"nom\":\"Festa Major\",\"poblacio\":\"El Vendrell\"}";
+
+    /**
+     * Prova que el text xifrat es pot tornar a desxifrar.
+     */
+    @Test
+    void testEncryptDecryptString() throws Exception {
+        String encrypted = CipherUtil.encrypt(PLAIN_TEXT);
+
+        assertTrue(encrypted.startsWith("ENC_"));
+        assertEquals(PLAIN_TEXT, CipherUtil.decrypt(encrypted));
+    }
+
+    /**
+     * Prova que les entrades de bytes i ByteBuffer produeixen el mateix format que les de String.
+     */
+    @Test
+    void testByteEntryPointsAreCompatible() throws Exception {
+        byte[] encrypted = CipherUtil.encryptToBytes(PLAIN_TEXT.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(CipherUtil.encrypt(PLAIN_TEXT), new String(encrypted, StandardCharsets.US_ASCII));
+        assertArrayEquals(PLAIN_TEXT.getBytes(StandardCharsets.UTF_8), CipherUtil.decrypt(encrypted));
+
+        ByteBuffer decrypted = CipherUtil.decrypt(ByteBuffer.wrap(encrypted));
+        assertEquals(PLAIN_TEXT, StandardCharsets.UTF_8.decode(decrypted).toString());
+    }
+
+    /**
+     * Prova que es rebutgen les dades sense prefix o amb caràcters no vàlids per Base64.
+     */
+    @Test
+    void testDecryptInvalidData() {
+        IllegalArgumentException noPrefix = assertThrows(IllegalArgumentException.class,
+                () -> CipherUtil.decrypt("abc"));
+        assertEquals("Les dades no estan xifrades amb el format esperat.", noPrefix.getMessage());
+
+        IllegalArgumentException invalidBase64 = assertThrows(IllegalArgumentException.class,
+                () -> CipherUtil.decrypt("ENC_abc$"));
+        assertEquals("Les dades contenen caràcters no vàlids per Base64.", invalidBase64.getMessage());
+    }
+
+    /**
+     * Prova que la capçalera d'autorització es reutilitza mentre el token no canvia.
+     */
+    @Test
+    void testBearerHeaderIsCachedUntilTokenChanges() throws Exception {
+        String first = CipherUtil.bearerHeader("token1");
+
+        assertSame(first, CipherUtil.bearerHeader("token1"));
+        assertEquals("token1", CipherUtil.decrypt(first.substring("Bearer ".length())));
+
+        String second = CipherUtil.bearerHeader("token2");
+        assertNotEquals(first, second);
+        assertEquals("token2", CipherUtil.decrypt(second.substring("Bearer ".length())));
+    }
+
+    /**
+     * Prova que diversos fils poden xifrar i desxifrar alhora sense interferir-se.
+     */
+    @Test
+    void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String text = PLAIN_TEXT + i;
+                results.add(executor.submit(() -> CipherUtil.decrypt(CipherUtil.encrypt(text))));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(PLAIN_TEXT + i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package model.httpClient;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a les classes IoExecutor i IoScope.
+ * Comprova que les crides s'executen en fils virtuals i que tancar un àmbit interromp les crides
+ * pendents i descarta les continuacions.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class IoScopeTest {
+
+    /**
+     * Prova que les crides s'executen en fils virtuals i que els errors arriben al futur.
+     */
+    @Test
+    void testSupplyRunsOnVirtualThreads() throws Exception {
+        assertTrue(IoExecutor.supply(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Object> failed = IoExecutor.supply(() -> {
+            throw new IllegalStateException("error");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    /**
+     * Prova que es poden fer moltes crides bloquejants alhora.
+     */
+    @Test
+    void testManyBlockingCallsRunConcurrently() throws Exception {
+        int calls = 1000;
+        CountDownLatch started = new CountDownLatch(calls);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            futures.add(IoExecutor.supply(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        for (CompletableFuture<Boolean> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Prova que tancar l'àmbit cancel·la i interromp les crides pendents, i que després es rebutgen
+     * les noves.
+     */
+    @Test
+    void testCloseCancelsPendingCalls() throws Exception {
+        IoScope scope = new IoScope();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> call = scope.supply(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "acabat";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        });
+        CompletableFuture<String> external = scope.track(new CompletableFuture<>());
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(2, scope.pendingCount());
+        scope.close();
+
+        assertTrue(call.isCancelled());
+        assertTrue(external.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, scope.pendingCount());
+        assertTrue(scope.isClosed());
+
+        CompletableFuture<String> rejected = scope.supply(() -> "nou");
+        assertThrows(CancellationException.class, rejected::join);
+    }
+
+    /**
+     * Prova que l'executor protegit descarta les tasques d'un àmbit tancat.
+     */
+    @Test
+    void testGuardDropsTasksAfterClose() {
+        IoScope scope = new IoScope();
+        List<Runnable> queued = new ArrayList<>();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        scope.guard(queued::add).execute(() -> ran.set(true));
+        scope.close();
+        queued.forEach(Runnable::run);
+        scope.guard(queued::add).execute(() -> ran.set(true));
+
+        assertFalse(ran.get());
+        assertEquals(1, queued.size());
+    }
+
+    /**
+     * Prova que unwrap() retorna l'error original d'un futur rebut en una continuació.
+     */
+    @Test
+    void testUnwrapReturnsCause() {
+        IllegalStateException cause = new IllegalStateException("Error");
+        CompletableFuture<String> failed = CompletableFuture.failedFuture(cause);
+        Throwable[] received = {null};
+        failed.thenApply(String::trim).whenComplete((value, error) -> received[0] = error);
+
+        assertInstanceOf(CompletionException.class, received[0]);
+        assertSame(cause, IoScope.unwrap(received[0]));
+        assertSame(cause, IoScope.unwrap(cause));
+    }
+}
@@ -0,0 +1,60 @@
+package model.httpClient;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a les classes TokenBucket i CircuitBreaker.
+ * Fa servir un rellotge controlat per la prova per no dependre del temps real.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class TokenBucketTest {
+
+    /**
+     * Prova que es permet una ràfega fins a la capacitat i després cal esperar el ritme configurat.
+     */
+    @Test
+    void testBurstThenRate() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(4, 2, Duration.ofSeconds(1), now::get);
+
+        assertEquals(0, bucket.reserve(2));
+        assertEquals(0, bucket.reserve(2));
+        assertFalse(bucket.tryAcquire(1));
+        assertEquals(Duration.ofSeconds(1).toNanos(), bucket.reserve(2));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(4, bucket.available(), 0.001);
+    }
+
+    /**
+     * Prova que el circuit s'obre després de les fallades seguides i es tanca si la petició de prova va bé.
+     */
+    @Test
+    void testCircuitBreaker() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), now::get);
+
+        breaker.onFailure();
+        assertTrue(breaker.allowRequest());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+}
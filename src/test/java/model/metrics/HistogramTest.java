@@ -0,0 +1,52 @@
+package model.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe Histogram.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class HistogramTest {
+
+    /**
+     * Prova que els intervals cobreixen tots els valors, en ordre i amb un error relatiu petit.
+     */
+    @Test
+    void testBucketsAreOrderedAndPrecise() {
+        int previous = -1;
+        for (long value = 0; value < 1_000_000; value += 1 + value / 50) {
+            int index = Histogram.index(value);
+            assertTrue(index >= previous);
+            long highest = Histogram.highestValue(index);
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= Math.max(1, value / 60), "Error massa gran per " + value);
+            previous = index;
+        }
+        assertEquals(Histogram.index(Long.MAX_VALUE), Histogram.index(Long.MAX_VALUE - 1));
+    }
+
+    /**
+     * Prova els percentils, la mitjana i el màxim d'una distribució coneguda.
+     */
+    @Test
+    void testPercentiles() {
+        Histogram histogram = new Histogram();
+        IntStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500.5, snapshot.mean(), 1e-9);
+        assertEquals(1000, snapshot.max());
+        assertEquals(500, snapshot.percentile(50), 8);
+        assertEquals(990, snapshot.percentile(99), 16);
+        assertEquals(1000, snapshot.percentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().count());
+        assertEquals(0, histogram.snapshot().percentile(50));
+    }
+}
@@ -0,0 +1,117 @@
+package model.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import model.encryption.CipherUtil;
+import model.json.JsonUtil;
+import model.model.Event;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per als esdeveniments de JDK Flight Recorder de la capa de model.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class JfrEventsTest {
+
+    /**
+     * Prova que el xifrat, la lectura de JSON i les peticions generen els seus esdeveniments amb les mides.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testModelEmitsEvents() throws Exception {
+        HttpClient delegate = mock(HttpClient.class);
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn("{}");
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        when(delegate.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(response);
+        HttpClient client = new MeteredHttpClient(delegate, new Metrics());
+
+        String json = JsonUtil.MAPPER.writeValueAsString(List.of(new Event(), new Event()));
+        byte[] encryptedJson = CipherUtil.encryptToBytes(json.getBytes(StandardCharsets.UTF_8));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("meteoevents.Crypto", "meteoevents.JsonBind", "meteoevents.HttpExchange")) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+
+            String encrypted = CipherUtil.encrypt("0123456789");
+            CipherUtil.decrypt(encrypted);
+            try (InputStream in = CipherUtil.decryptingStream(new ByteArrayInputStream(encryptedJson))) {
+                JsonUtil.readArray(in, JsonUtil.EVENT_READER, event -> {});
+            }
+            client.send(HttpRequest.newBuilder(URI.create("http://localhost:8080/api/esdeveniments/3")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            recording.stop();
+            Path file = Files.createTempFile("meteoevents", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        List<RecordedEvent> crypto = byName(events, "meteoevents.Crypto");
+        RecordedEvent encrypt = crypto.stream().filter(e -> "encrypt".equals(e.getString("operation"))).findFirst()
+                .orElseThrow();
+        assertEquals(10, encrypt.getLong("inputBytes"));
+        RecordedEvent stream = crypto.stream().filter(e -> "decryptStream".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals(encryptedJson.length, stream.getLong("inputBytes"));
+        assertEquals(json.length(), stream.getLong("outputBytes"));
+
+        RecordedEvent array = byName(events, "meteoevents.JsonBind").stream()
+                .filter(e -> e.getString("type").endsWith("[]")).findFirst().orElseThrow();
+        assertEquals(2, array.getLong("elements"));
+
+        RecordedEvent exchange = byName(events, "meteoevents.HttpExchange").get(0);
+        assertEquals("GET /api/esdeveniments/{id}", exchange.getString("endpoint"));
+        assertEquals(200, exchange.getInt("statusCode"));
+        assertFalse(exchange.getBoolean("failed"));
+    }
+
+    /**
+     * Prova que, sense cap enregistrament actiu, el flux desxifrat no s'embolcalla per comptar bytes.
+     */
+    @Test
+    void testStreamIsNotWrappedWhenNotRecording() throws Exception {
+        byte[] encrypted = CipherUtil.encryptToBytes(new byte[16]);
+        try (InputStream in = CipherUtil.decryptingStream(new ByteArrayInputStream(encrypted))) {
+            assertFalse(in instanceof TimingInputStream);
+        }
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                result.add(event);
+            }
+        }
+        assertFalse(result.isEmpty(), "No s'ha enregistrat cap " + name);
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package model.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per a les classes Metrics i MeteredHttpClient.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class MetricsTest {
+
+    /**
+     * Prova que els identificadors del camí se substitueixen i que la consulta no forma part del nom.
+     */
+    @Test
+    void testEndpointName() {
+        assertEquals("GET /api/esdeveniments/{id}/meteo",
+                Metrics.endpointName("GET", URI.create("http://localhost:8080/api/esdeveniments/42/meteo")));
+        assertEquals("GET /opendata/api/prediccion/especifica/municipio/horaria/{id}",
+                Metrics.endpointName("GET", URI.create(
+                        "https://opendata.aemet.es/opendata/api/prediccion/especifica/municipio/horaria/43028?api_key=x")));
+        assertEquals("POST /api/usuaris/login",
+                Metrics.endpointName("POST", URI.create("http://localhost:8080/api/usuaris/login")));
+        assertEquals("GET /", Metrics.endpointName("GET", URI.create("http://localhost:8080")));
+    }
+
+    /**
+     * Prova que el client enregistra la petició, la mida de la resposta i els errors.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMeteredClientRecordsRequests() throws Exception {
+        Metrics metrics = new Metrics();
+        HttpClient delegate = mock(HttpClient.class);
+        HttpResponse<String> ok = mock(HttpResponse.class);
+        when(ok.statusCode()).thenReturn(200, 500);
+        when(ok.body()).thenReturn("0123456789");
+        when(ok.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        when(delegate.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(ok);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:8080/api/mesures/7")).build();
+
+        HttpClient client = new MeteredHttpClient(delegate, metrics);
+        client.send(request, HttpResponse.BodyHandlers.ofString());
+        client.send(request, HttpResponse.BodyHandlers.ofString());
+        when(delegate.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("connexió tancada"));
+        assertThrows(IOException.class, () -> client.send(request, HttpResponse.BodyHandlers.ofString()));
+
+        EndpointMetrics.Snapshot snapshot = metrics.endpoint("GET /api/mesures/{id}").snapshot();
+        assertEquals(3, snapshot.requests());
+        assertEquals(2, snapshot.errors());
+        assertEquals(3, snapshot.latency(EndpointMetrics.Phase.NETWORK).count());
+        assertEquals(2, snapshot.sizes().count());
+        assertEquals(10, snapshot.sizes().max());
+    }
+
+    /**
+     * Prova que un cos en streaming s'enregistra en tancar-lo, amb els bytes llegits.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMeteredClientRecordsStreamOnClose() throws Exception {
+        Metrics metrics = new Metrics();
+        HttpClient delegate = mock(HttpClient.class);
+        HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(new ByteArrayInputStream(new byte[4096]));
+        when(delegate.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(response);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:8080/api/usuaris")).build();
+
+        HttpResponse<InputStream> metered = new MeteredHttpClient(delegate, metrics)
+                .send(request, HttpResponse.BodyHandlers.ofInputStream());
+        EndpointMetrics endpoint = metrics.endpoint("GET /api/usuaris");
+        assertEquals(0, endpoint.snapshot().requests());
+
+        try (InputStream body = metered.body()) {
+            assertEquals(4096, body.readAllBytes().length);
+        }
+        metered.body().close();
+
+        EndpointMetrics.Snapshot snapshot = endpoint.snapshot();
+        assertEquals(1, snapshot.requests());
+        assertEquals(4096, snapshot.sizes().max());
+        assertEquals(200, metered.statusCode());
+    }
+}
@@ -0,0 +1,236 @@
+package model.statusEvent;
+
+import model.crud.CrudEvent;
+import model.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de proves unitàries per a la classe EventStatusMonitor.
+ * Simula el servidor amb un CrudEvent fals per comprovar la selecció d'esdeveniments, la detecció
+ * de canvis, el límit de peticions simultànies i que aturar-lo no espera la consulta en curs ni
+ * n'aplica el resultat.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class EventStatusMonitorTest {
+
+    /** Moment actual de les proves. */
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 9, 12, 0);
+
+    private CrudEvent crudEvent;
+    private EventStatusMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        crudEvent = mock(CrudEvent.class);
+        monitor = new EventStatusMonitor(crudEvent, Runnable::run, 2,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    /**
+     * Prova que només es vigilen els esdeveniments que no han acabat i que comencen dins de les
+     * properes 48 hores.
+     */
+    @Test
+    void testIsWithinWindow() {
+        LocalDateTime limit = NOW.plusHours(48);
+        assertTrue(EventStatusMonitor.isWithin(event("1", "2024-12-09", "10:00", "14:00"), NOW, limit));
+        assertTrue(EventStatusMonitor.isWithin(event("2", "2024-12-11", "11:00", "13:00"), NOW, limit));
+        assertTrue(EventStatusMonitor.isWithin(event("3", "2024-12-08", "22:00", "13:00"), NOW, limit));
+        assertFalse(EventStatusMonitor.isWithin(event("4", "2024-12-09", "08:00", "11:00"), NOW, limit));
+        assertFalse(EventStatusMonitor.isWithin(event("5", "2024-12-11", "13:00", "14:00"), NOW, limit));
+        assertFalse(EventStatusMonitor.isWithin(event("6", "data", "10:00", "14:00"), NOW, limit));
+        assertTrue(EventStatusMonitor.isWithin(event("7", "2024-12-10", null, null), NOW, limit));
+    }
+
+    /**
+     * Prova que la primera consulta només guarda l'estat i que després només s'avisa quan canvia
+     * el nivell d'alerta o les mesures de prevenció.
+     */
+    @Test
+    void testPollNotifiesOnlyChanges() throws Exception {
+        when(crudEvent.getAllEvents()).thenReturn(List.of(
+                event("1", "2024-12-10", "10:00", "12:00"),
+                event("2", "2024-12-20", "10:00", "12:00")));
+        when(crudEvent.getStatusById("1")).thenReturn(
+                status(1, "revisió desguassos"),
+                status(1, "revisió desguassos"),
+                status(3, "revisió desguassos"),
+                status(3, "tancament de l'accés"));
+
+        List<EventStatusMonitor.StatusChange> notified = new ArrayList<>();
+        monitor.addListener(notified::add);
+
+        assertTrue(monitor.poll().isEmpty());
+        assertEquals(1, monitor.getSnapshots().get("1").alertLevel());
+        assertFalse(monitor.getSnapshots().containsKey("2"));
+
+        assertTrue(monitor.poll().isEmpty());
+
+        List<EventStatusMonitor.StatusChange> changes = monitor.poll();
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).alertLevelChanged());
+        assertFalse(changes.get(0).measuresChanged());
+        assertEquals(3, changes.get(0).current().alertLevel());
+
+        changes = monitor.poll();
+        assertEquals(1, changes.size());
+        assertFalse(changes.get(0).alertLevelChanged());
+        assertEquals(Set.of("tancament de l'accés"), changes.get(0).current().measures());
+
+        assertEquals(2, notified.size());
+        verify(crudEvent, never()).getStatusById("2");
+    }
+
+    /**
+     * Prova que un error puntual del servidor no es considera un canvi d'estat.
+     */
+    @Test
+    void testFailedFetchKeepsPreviousStatus() throws Exception {
+        when(crudEvent.getAllEvents()).thenReturn(List.of(event("1", "2024-12-10", "10:00", "12:00")));
+        when(crudEvent.getStatusById("1")).thenReturn(status(2, "a"), null, status(2, "a"));
+
+        assertTrue(monitor.poll().isEmpty());
+        assertTrue(monitor.poll().isEmpty());
+        assertEquals(2, monitor.getSnapshots().get("1").alertLevel());
+        assertTrue(monitor.poll().isEmpty());
+    }
+
+    /**
+     * Prova que les peticions d'estat no superen la concurrència màxima.
+     */
+    @Test
+    void testPollRespectsMaxConcurrency() throws Exception {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            events.add(event(String.valueOf(i), "2024-12-10", "10:00", "12:00"));
+        }
+        when(crudEvent.getAllEvents()).thenReturn(events);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(crudEvent.getStatusById(anyString())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return status(1, "a");
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            EventStatusMonitor parallel = new EventStatusMonitor(crudEvent, executor, 3,
+                    Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+            parallel.poll();
+
+            assertEquals(8, parallel.getSnapshots().size());
+            assertTrue(maxRunning.get() <= 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prova que aturar la vigilància no espera que acabi la consulta en curs.
+     */
+    @Test
+    void testStopDoesNotWaitForPoll() throws Exception {
+        CountDownLatch polling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(crudEvent.getAllEvents()).thenAnswer(invocation -> {
+            polling.countDown();
+            release.await();
+            return List.of();
+        });
+
+        try {
+            monitor.start(Duration.ofMinutes(10));
+            assertTrue(polling.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+                assertTrue(monitor.getSnapshots().isEmpty());
+                monitor.stop();
+            });
+            assertFalse(monitor.isRunning());
+        } finally {
+            release.countDown();
+            monitor.stop();
+        }
+    }
+
+    /**
+     * Prova que aturar la vigilància durant una consulta lenta en descarta el resultat sense avisar
+     * els oients ni canviar l'últim estat conegut.
+     */
+    @Test
+    void testStopDiscardsPollInProgress() throws Exception {
+        when(crudEvent.getAllEvents()).thenReturn(List.of(event("1", "2024-12-10", "10:00", "12:00")));
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fetched = new CountDownLatch(1);
+        when(crudEvent.getStatusById("1")).thenReturn(status(1, "a")).thenAnswer(invocation -> {
+            fetching.countDown();
+            try {
+                release.await();
+                return status(3, "b");
+            } finally {
+                fetched.countDown();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            EventStatusMonitor slow = new EventStatusMonitor(crudEvent, executor, 2,
+                    Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+            List<EventStatusMonitor.StatusChange> notified = new CopyOnWriteArrayList<>();
+            slow.addListener(notified::add);
+            assertTrue(slow.poll().isEmpty());
+
+            Future<List<EventStatusMonitor.StatusChange>> polling = executor.submit(slow::poll);
+            assertTrue(fetching.await(5, TimeUnit.SECONDS));
+            slow.stop();
+
+            assertTrue(polling.get(1, TimeUnit.SECONDS).isEmpty());
+            release.countDown();
+            assertTrue(fetched.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+
+            assertTrue(notified.isEmpty());
+            assertEquals(1, slow.getSnapshots().get("1").alertLevel());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static Event event(String id, String date, String start, String end) {
+        return new Event(id, "Esdeveniment " + id, "", "", "", "08007", "Barcelona", 100, start, end, date);
+    }
+
+    private static String status(int alert, String measure) {
+        return "{ \"Usuaris participants\": [ \"admin\" ], "
+                + "\"2024-12-10T10\": { \"AlertaVentMitja\": 1, \"AlertaPluja\": " + alert + ", "
+                + "\"MesuresPrecipitacio\": { \"Accio1\": \"" + measure + "\" }, \"Temperatura\": 20 }, "
+                + "\"2024-12-10T11\": { \"AlertaVentMitja\": 1, \"AlertaPluja\": 1, \"Temperatura\": 22 } }";
+    }
+}
@@ -0,0 +1,96 @@
+package model.statusEvent;
+
+import model.statusEvent.StatusAggregator.Metric;
+import model.statusEvent.StatusEvent.HourlyData;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe StatusAggregator.
+ * Comprova els valors màxim, mínim i mitjà, l'hora del màxim, les mesures sense repetir i
+ * l'actualització incremental.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class StatusAggregatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 12, 9, 8, 0);
+
+    /**
+     * Prova que el resum d'un estat calcula correctament cada variable en una sola passada.
+     */
+    @Test
+    void testSummaryOfStatus() {
+        StatusEvent status = new StatusEvent(List.of("admin"), new HourlyData[] {
+                hour(0, 10, 2.0, 4, 1, List.of("a", "b")),
+                hour(1, 30, 0.5, -2, 3, List.of("b", "c")),
+                hour(2, 20, 0.0, 1, 2, List.of("a"))
+        });
+
+        StatusAggregator.Summary summary = StatusAggregator.of(status).summary();
+
+        assertEquals(3, summary.count());
+        assertEquals(30, summary.max(Metric.WIND_AVERAGE));
+        assertEquals(10, summary.min(Metric.WIND_AVERAGE));
+        assertEquals(20, summary.mean(Metric.WIND_AVERAGE), 1e-9);
+        assertEquals(START.plusHours(1), summary.maxHour(Metric.WIND_AVERAGE));
+        assertEquals(2.0, summary.max(Metric.RAIN));
+        assertEquals(-2, summary.min(Metric.TEMPERATURE));
+        assertEquals(START.plusHours(1), summary.minHour(Metric.TEMPERATURE));
+        assertEquals(3, summary.maxInt(Metric.ALERT_RAIN));
+        assertEquals(3, summary.maxInt(Metric.ALERT_MAX));
+        assertEquals(List.of("a", "b", "c"), List.copyOf(summary.measures()));
+    }
+
+    /**
+     * Prova que es poden afegir hores noves sense tornar a comptar les que ja hi eren i que els
+     * resums anteriors no canvien.
+     */
+    @Test
+    void testIncrementalUpdate() {
+        StatusAggregator aggregator = new StatusAggregator();
+        assertTrue(aggregator.add(hour(0, 10, 0, 5, 1, List.of("a"))));
+        StatusAggregator.Summary before = aggregator.summary();
+
+        StatusEvent refreshed = new StatusEvent(List.of(), new HourlyData[] {
+                hour(0, 99, 0, 5, 1, List.of("a")),
+                hour(1, 40, 0, 5, 4, List.of("d"))
+        });
+        aggregator.addAll(refreshed);
+        assertFalse(aggregator.add(hour(1, 50, 0, 5, 1, List.of())));
+
+        StatusAggregator.Summary after = aggregator.summary();
+        assertEquals(2, after.count());
+        assertEquals(40, after.max(Metric.WIND_AVERAGE));
+        assertEquals(25, after.mean(Metric.WIND_AVERAGE), 1e-9);
+        assertEquals(4, after.maxInt(Metric.ALERT_MAX));
+        assertEquals(List.of("a", "d"), List.copyOf(after.measures()));
+
+        assertEquals(1, before.count());
+        assertEquals(10, before.max(Metric.WIND_AVERAGE));
+    }
+
+    /**
+     * Prova que un resum sense hores no té valors.
+     */
+    @Test
+    void testEmptySummary() {
+        StatusAggregator.Summary summary = new StatusAggregator().summary();
+
+        assertEquals(0, summary.count());
+        assertTrue(Double.isNaN(summary.max(Metric.TEMPERATURE)));
+        assertTrue(Double.isNaN(summary.mean(Metric.TEMPERATURE)));
+        assertNull(summary.maxHour(Metric.TEMPERATURE));
+        assertEquals(0, summary.maxInt(Metric.ALERT_MAX));
+        assertTrue(summary.measures().isEmpty());
+    }
+
+    private static HourlyData hour(int offset, int wind, double rain, int temperature, int rainAlert,
+                                   List<String> measures) {
+        return new HourlyData(START.plusHours(offset), wind, 1, wind + 5, 1, 0, rain, rainAlert, 0, 0, 1, 0,
+                temperature, -1, 1, 70, measures);
+    }
+}
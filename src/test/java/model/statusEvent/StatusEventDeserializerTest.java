@@ -0,0 +1,76 @@
+package model.statusEvent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import model.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe StatusEventDeserializer.
+ * Comprova la lectura tipada de les dades horàries, l'ordre de les hores i el tractament dels
+ * camps desconeguts o incomplets.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class StatusEventDeserializerTest {
+
+    private static final String STATUS = "{ \"Usuaris participants\" : [ \"admin\", \"mvinyals\" ], "
+            + "\"2024-12-09T09\" : { \"VelocitatMitjaVent\" : 4, \"AlertaVentMitja\" : 1, \"RatxaMaximaVent\" : 3, "
+            + "\"AlertaRatxaMaxima\" : 1, \"ProbabilitatPluja\" : 40, \"Precipitacio\" : 0.6, \"AlertaPluja\" : 3, "
+            + "\"MesuresPrecipitacio\" : { \"Accio1\" : \"revisió desguassos\", \"Accio2\" : \"avisar usuaris\" }, "
+            + "\"ProbabilitatTempesta\" : 35, \"Neu\" : 0.0, \"AlertaNeu\" : 1, \"ProbabilitatNevada\" : 0, "
+            + "\"Temperatura\" : 3, \"AlertaAltaTemperatura\" : -1, \"AlertaBaixaTemperatura\" : 2, "
+            + "\"HumitatRelativa\" : 73, \"CampNou\" : { \"a\" : [ 1, 2 ] } }, "
+            + "\"2024-12-09T08\" : { \"VelocitatMitjaVent\" : 5, \"Temperatura\" : 2, \"AlertaBaixaTemperatura\" : 2 }, "
+            + "\"Comentari\" : \"no és una hora\" }";
+
+    /**
+     * Prova que els valors de cada hora es llegeixen amb el seu tipus i que les hores queden ordenades.
+     */
+    @Test
+    void testReadsTypedHoursInOrder() throws Exception {
+        StatusEvent status = JsonUtil.STATUS_EVENT_READER.readValue(STATUS);
+
+        assertEquals(List.of("admin", "mvinyals"), status.getUsuarisParticipants());
+        assertEquals(2, status.getHourCount());
+
+        StatusEvent.HourlyData first = status.getHour(0);
+        assertEquals(LocalDateTime.of(2024, 12, 9, 8, 0), first.hora());
+        assertEquals(5, first.velocitatMitjaVent());
+        assertEquals(0, first.ratxaMaximaVent());
+        assertEquals(List.of(), first.mesures());
+
+        StatusEvent.HourlyData second = status.getHours().get(1);
+        assertEquals(LocalDateTime.of(2024, 12, 9, 9, 0), second.hora());
+        assertEquals(40, second.probabilitatPluja());
+        assertEquals(0.6, second.precipitacio());
+        assertEquals(-1, second.alertaAltaTemperatura());
+        assertEquals(73, second.humitatRelativa());
+        assertEquals(3, second.alertaMaxima());
+        assertEquals(List.of("revisió desguassos", "avisar usuaris"), second.mesures());
+    }
+
+    /**
+     * Prova que una resposta sense hores dona un estat buit.
+     */
+    @Test
+    void testEmptyStatus() throws Exception {
+        StatusEvent status = JsonUtil.STATUS_EVENT_READER.readValue("{ \"Usuaris participants\" : [] }");
+
+        assertTrue(status.getUsuarisParticipants().isEmpty());
+        assertEquals(0, status.getHourCount());
+    }
+
+    /**
+     * Prova que una resposta tallada o que no és un objecte provoca un error.
+     */
+    @Test
+    void testInvalidStatusThrows() {
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.STATUS_EVENT_READER.readValue(
+                "{ \"2024-12-09T08\" : { \"MesuresPrecipitacio\" : { \"Accio1\" : \"a\""));
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.STATUS_EVENT_READER.readValue("[ 1, 2 ]"));
+    }
+}
@@ -0,0 +1,139 @@
+package model.store;
+
+import model.encryption.CipherUtil;
+import model.json.JsonUtil;
+import model.encryption.CipherUtil;
+import model.model.Event;
+import model.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe LocalStore.
+ * Comprova que el registre es reprodueix correctament en tornar-lo a obrir, que es compacta
+ * i que el contingut del fitxer està xifrat.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class LocalStoreTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Prova que les operacions guardades es recuperen amb una instància nova sobre el mateix fitxer.
+     */
+    @Test
+    void testOperationsAreReplayed() {
+        LocalStore<Event> store = newStore();
+        store.replaceAll(List.of(event("1", "Concert"), event("2", "Fira")));
+        store.put(event("3", "Mercat"));
+        store.put(event("1", "Concert de tarda"));
+        store.remove("2");
+
+        List<Event> loaded = newStore().getAll();
+
+        assertEquals(List.of("1", "3"), loaded.stream().map(Event::getId).toList());
+        assertEquals("Concert de tarda", loaded.get(0).getNom());
+    }
+
+    /**
+     * Prova que el registre es compacta quan acumula massa operacions superades.
+     */
+    @Test
+    void testLogIsCompacted() {
+        LocalStore<Event> store = newStore();
+        store.replaceAll(List.of(event("1", "Concert")));
+        for (int i = 0; i < 200; i++) {
+            store.put(event("1", "Concert " + i));
+        }
+
+        assertTrue(store.logLines() <= 65, "Línies del registre: " + store.logLines());
+        assertEquals("Concert 199", newStore().getAll().get(0).getNom());
+    }
+
+    /**
+     * Prova que el fitxer no conté les dades en clar i que una línia il·legible es descarta.
+     */
+    @Test
+    void testFileIsEncryptedAndToleratesDamagedLines() throws Exception {
+        LocalStore<Event> store = newStore();
+        store.replaceAll(List.of(event("1", "Concert secret")));
+        Files.writeString(store.getFile(), "ENC_tallat", StandardCharsets.US_ASCII,
+                StandardOpenOption.APPEND);
+
+        String content = Files.readString(store.getFile(), StandardCharsets.US_ASCII);
+        assertFalse(content.contains("Concert secret"));
+
+        LocalStore<Event> reopened = newStore();
+        assertEquals(1, reopened.size());
+        reopened.put(event("2", "Fira"));
+        assertEquals(2, newStore().size());
+    }
+
+    /**
+     * Prova que un magatzem sense fitxer és buit i que clear() esborra el fitxer.
+     */
+    @Test
+    void testClear() {
+        LocalStore<Event> store = newStore();
+        assertTrue(store.getAll().isEmpty());
+
+        store.put(event("1", "Concert"));
+        assertTrue(Files.exists(store.getFile()));
+        store.clear();
+
+        assertFalse(Files.exists(store.getFile()));
+        assertEquals(new ArrayList<>(), newStore().getAll());
+    }
+
+    /**
+     * Prova que el magatzem d'usuaris de la sessió no guarda mai la contrasenya a disc.
+     */
+    @Test
+    void testUserStoreOmitsPassword() throws Exception {
+        LocalStores.open(directory);
+        try {
+            LocalStore<User> users = LocalStores.users();
+            users.replaceAll(List.of(user("1", "contrasenyaSecreta1")));
+            users.put(user("2", "contrasenyaSecreta2"));
+
+            for (String line : Files.readAllLines(users.getFile(), StandardCharsets.US_ASCII)) {
+                String record = new String(CipherUtil.decrypt(line.getBytes(StandardCharsets.US_ASCII)),
+                        StandardCharsets.UTF_8);
+                assertFalse(record.contains("contrasenya"), record);
+            }
+            assertEquals(2, users.getAll().size());
+        } finally {
+            LocalStores.close();
+        }
+    }
+
+    private LocalStore<Event> newStore() {
+        return new LocalStore<>(directory.resolve("usuari").resolve("events.log"),
+                JsonUtil.EVENT_READER, JsonUtil.EVENT_WRITER, Event::getId);
+    }
+
+    private static Event event(String id, String nom) {
+        Event event = new Event();
+        event.setId(id);
+        event.setNom(nom);
+        return event;
+    }
+
+    private static User user(String id, String contrasenya) {
+        User user = new User();
+        user.setID(id);
+        user.setNom_usuari("usuari" + id);
+        user.setContrasenya(contrasenya);
+        return user;
+    }
+}
@@ -0,0 +1,64 @@
+package utilities;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe TownAutocomplete.
+ * Comprova els suggeriments per prefix, per paraula interna i amb errors de tecleig.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class TownAutocompleteTest {
+
+    private final TownAutocomplete autocomplete = new TownAutocomplete(
+            List.of("Barcelona", "Barberà del Vallès", "Badalona", "Hospitalet de Llobregat", "Vendrell El"));
+
+    /**
+     * Prova que els municipis que comencen pel text escrit es retornen primer, en ordre alfabètic.
+     */
+    @Test
+    void testPrefix() {
+        assertEquals(List.of("Barberà del Vallès", "Barcelona"), autocomplete.suggest("Bar", 2));
+        assertEquals(List.of("Barberà del Vallès"), autocomplete.suggest("barbera", 5));
+    }
+
+    /**
+     * Prova que es troben els municipis per una paraula interna del nom.
+     */
+    @Test
+    void testWordPrefix() {
+        assertEquals(List.of("Hospitalet de Llobregat"), autocomplete.suggest("llobre", 5));
+        assertEquals("Vendrell El", autocomplete.suggest("Vendrell", 5).get(0));
+    }
+
+    /**
+     * Prova que es toleren errors de tecleig i accents.
+     */
+    @Test
+    void testTypos() {
+        assertTrue(autocomplete.suggest("Barcleona", 5).contains("Barcelona"));
+        assertTrue(autocomplete.suggest("Badalna", 5).contains("Badalona"));
+        assertTrue(autocomplete.suggest("Báda", 5).contains("Badalona"));
+    }
+
+    /**
+     * Prova que una consulta buida o sense coincidències no retorna res.
+     */
+    @Test
+    void testNoSuggestions() {
+        assertTrue(autocomplete.suggest("", 5).isEmpty());
+        assertTrue(autocomplete.suggest(null, 5).isEmpty());
+        assertTrue(autocomplete.suggest("zzzzzz", 5).isEmpty());
+    }
+
+    /**
+     * Prova l'índex complet de l'aplicació.
+     */
+    @Test
+    void testSharedInstance() {
+        assertEquals("Tarragona", TownAutocomplete.getInstance().suggest("tarragona", 1).get(0));
+    }
+}
@@ -0,0 +1,52 @@
+package utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de proves unitàries per a la classe TownRegistry.
+ * Comprova la cerca de codis per nom i de noms per codi.
+ *
+ * @author Miguel Rodríguez Garriga
+ */
+class TownRegistryTest {
+
+    /**
+     * Prova que es carreguen tots els municipis del recurs.
+     */
+    @Test
+    void testAllTownsLoaded() {
+        assertEquals(8132, TownRegistry.getNames().size());
+    }
+
+    /**
+     * Prova que la cerca per nom no distingeix majúscules, accents ni separadors.
+     */
+    @Test
+    void testGetCodeIgnoresCaseAccentsAndSeparators() {
+        assertEquals("08019", TownRegistry.getCode("Barcelona"));
+        assertEquals("08019", TownRegistry.getCode("  BARCELONA "));
+        assertEquals("01001", TownRegistry.getCode("Alegría_Dulantzi"));
+        assertEquals("01001", TownRegistry.getCode("alegria-dulantzi"));
+        assertEquals("08101", TownRegistry.getCode("hospitalet de llobregat"));
+    }
+
+    /**
+     * Prova que un municipi inexistent retorna null.
+     */
+    @Test
+    void testUnknownTown() {
+        assertNull(TownRegistry.getCode("Springfield"));
+        assertNull(TownRegistry.getCode(null));
+        assertNull(TownRegistry.getName("99999"));
+    }
+
+    /**
+     * Prova la cerca inversa de codi a nom.
+     */
+    @Test
+    void testGetName() {
+        assertEquals("Tarragona", TownRegistry.getName("43148"));
+    }
+}